@@ -0,0 +1,359 @@
+/*
+ * Calibres2D.java
+ *
+ * Created on 18 de octubre de 2026, 3:10
+ */
+
+package JavaRG.Basica;
+
+import JavaRG.Mat;
+import JavaRG.Nucleo2D.*;
+
+/** Un objeto de la clase <code>Calibres2D</code> contiene las medidas de un
+ * polígono convexo que se obtienen con la técnica de los calibres giratorios:
+ * el diámetro (la mayor distancia entre dos de sus puntos), la anchura (la
+ * menor distancia entre dos rectas paralelas que lo encierran) y los
+ * rectángulos orientados de área y de perímetro mínimos que lo contienen.
+ * <br>
+ * Las rectas de apoyo se hacen girar a la vez alrededor del polígono,
+ * apoyando una de ellas en cada uno de sus lados. Los vértices en que se
+ * apoyan las demás solo avanzan en sentido antihorario, por lo que todas las
+ * medidas se obtienen en una sola vuelta, con coste O(n), en lugar del O(n^2)
+ * de comparar todos los pares de vértices. Tanto la anchura como los dos
+ * rectángulos mínimos tienen un lado sobre alguno de los lados del polígono,
+ * por lo que basta con comprobar esas n posiciones.
+ * <br>
+ * Si el polígono no es convexo, o si se parte de un conjunto de puntos, las
+ * medidas se calculan sobre su envolvente convexa. Los rectángulos se
+ * devuelven como polígonos en sentido antihorario, ya que
+ * <code>Rectangulo2D</code> solo representa rectángulos paralelos a los ejes,
+ * junto con el ángulo de su primer lado respecto al eje x
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see EnvolventeConvexa2D
+ */
+public class Calibres2D extends Object {
+
+  /**
+    * Vértices de la envolvente, en sentido antihorario y sin vértices
+    * alineados
+    */
+    private double xs[], ys[];
+    private int n;
+
+  /**
+    * Vértices del diámetro
+    */
+    private int diametroA, diametroB;
+  /**
+    * Lado sobre el que se apoya la anchura y vértice opuesto
+    */
+    private int ladoAnchura, verticeAnchura;
+    private double anchura;
+  /**
+    * Esquinas del rectángulo de área mínima, en sentido antihorario
+    */
+    private double areaX[] = new double[4], areaY[] = new double[4];
+    private double areaMinima;
+  /**
+    * Esquinas del rectángulo de perímetro mínimo, en sentido antihorario
+    */
+    private double perimetroX[] = new double[4], perimetroY[] = new double[4];
+    private double perimetroMinimo;
+
+  /** Constructor a partir de un polígono. Si es simple y convexo se utilizan
+    * sus vértices, descartando los que están alineados con sus vecinos, y si
+    * no lo es se calcula antes su envolvente convexa
+    * @param poligono polígono completo que se desea medir
+    * @return un nuevo objeto con las medidas del polígono
+    * @exception GeomException si el polígono no es completo o todos sus
+    * vértices están alineados
+    * @see EnvolventeConvexa2D#cadenaMonotona(double[], double[], int)
+    */
+    public Calibres2D(Poligono2D poligono) throws GeomException {
+        if (!poligono.esCompleto())
+            throw new GeomException("Calibres2D (Poligono2D): el polígono debe ser completo");
+        int m = poligono.posiciones();
+        double px[] = new double[m], py[] = new double[m];
+        for (int i=0; i<m; i++) {
+            Punto2D p = poligono.vertice(i);
+            px[i] = p.x();
+            py[i] = p.y();
+        }
+        if (poligono.esConvexoYSimple())
+            depurar(px, py, m, poligono.sentido() == Mat.ANTIHORARIO);
+        else
+            envolvente(px, py, m);
+        if (n < 3)
+            throw new GeomException("Calibres2D (Poligono2D): los vértices del polígono están alineados");
+        medir();
+    }
+
+  /** Constructor a partir de un conjunto de puntos, de los que se calcula
+    * antes la envolvente convexa
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos
+    * @return un nuevo objeto con las medidas de la envolvente de los puntos
+    * @exception GeomException si todos los puntos están alineados
+    * @see EnvolventeConvexa2D#cadenaMonotona(double[], double[], int)
+    */
+    public Calibres2D(double xs[], double ys[], int n) throws GeomException {
+        envolvente(xs, ys, n);
+        if (this.n < 3)
+            throw new GeomException("Calibres2D (double[], double[], int): los puntos están alineados");
+        medir();
+    }
+
+  /** Obtiene el diámetro: el segmento que une los dos vértices más alejados
+    * @return un nuevo segmento entre los dos vértices
+    * @exception GeomException si los dos vértices son iguales
+    */
+    public Segmento2D diametro() throws GeomException {
+        return new Segmento2D(xs[diametroA], ys[diametroA], xs[diametroB], ys[diametroB]);
+    }
+
+  /** Obtiene la longitud del diámetro
+    * @return la mayor distancia entre dos puntos del polígono
+    */
+    public double longitudDiametro() {
+        return Math.sqrt(distanciaCuadrado(diametroA, diametroB));
+    }
+
+  /** Obtiene la anchura: la menor distancia entre dos rectas paralelas que
+    * encierran al polígono
+    * @return la anchura del polígono
+    */
+    public double anchura() {
+        return anchura;
+    }
+
+  /** Obtiene un segmento perpendicular a las dos rectas de la anchura, que
+    * une el vértice en que se apoya una de ellas con su proyección sobre el
+    * lado en que se apoya la otra
+    * @return un nuevo segmento de longitud igual a la anchura
+    * @exception GeomException si la anchura es tan pequeña que los extremos
+    * del segmento son iguales
+    */
+    public Segmento2D segmentoAnchura() throws GeomException {
+        int a = ladoAnchura, b = (a + 1) % n, v = verticeAnchura;
+        double dx = xs[b] - xs[a], dy = ys[b] - ys[a];
+        double t = ((xs[v] - xs[a])*dx + (ys[v] - ys[a])*dy) / (dx*dx + dy*dy);
+        return new Segmento2D(xs[a] + t*dx, ys[a] + t*dy, xs[v], ys[v]);
+    }
+
+  /** Obtiene el ángulo de las rectas de la anchura respecto al eje x
+    * @return el ángulo en radianes, entre -PI y PI
+    */
+    public double anguloAnchura() {
+        int a = ladoAnchura, b = (a + 1) % n;
+        return Math.atan2(ys[b] - ys[a], xs[b] - xs[a]);
+    }
+
+  /** Obtiene el rectángulo de menor área que contiene al polígono
+    * @return un nuevo polígono con las cuatro esquinas del rectángulo en
+    * sentido antihorario. El primer lado está sobre un lado del polígono
+    * @exception GeomException si el rectángulo es degenerado
+    */
+    public Poligono2D rectanguloAreaMinima() throws GeomException {
+        return new Poligono2D(areaX, areaY);
+    }
+
+  /** Obtiene el ángulo del primer lado del rectángulo de área mínima
+    * respecto al eje x, es decir, el giro que hay que aplicar a un rectángulo
+    * paralelo a los ejes para obtenerlo
+    * @return el ángulo en radianes, entre -PI y PI
+    */
+    public double anguloAreaMinima() {
+        return Math.atan2(areaY[1] - areaY[0], areaX[1] - areaX[0]);
+    }
+
+  /** Obtiene el área del rectángulo de área mínima
+    * @return el área del rectángulo
+    */
+    public double areaMinima() {
+        return areaMinima;
+    }
+
+  /** Obtiene el rectángulo de menor perímetro que contiene al polígono
+    * @return un nuevo polígono con las cuatro esquinas del rectángulo en
+    * sentido antihorario. El primer lado está sobre un lado del polígono
+    * @exception GeomException si el rectángulo es degenerado
+    */
+    public Poligono2D rectanguloPerimetroMinimo() throws GeomException {
+        return new Poligono2D(perimetroX, perimetroY);
+    }
+
+  /** Obtiene el ángulo del primer lado del rectángulo de perímetro mínimo
+    * respecto al eje x
+    * @return el ángulo en radianes, entre -PI y PI
+    * @see Calibres2D#anguloAreaMinima()
+    */
+    public double anguloPerimetroMinimo() {
+        return Math.atan2(perimetroY[1] - perimetroY[0], perimetroX[1] - perimetroX[0]);
+    }
+
+  /** Obtiene el perímetro del rectángulo de perímetro mínimo
+    * @return el perímetro del rectángulo
+    */
+    public double perimetroMinimo() {
+        return perimetroMinimo;
+    }
+
+  /** Copia los vértices de un polígono convexo en sentido antihorario,
+    * descartando los repetidos y los alineados con sus vecinos. Como el
+    * polígono es convexo, basta con una pila: se retira el último vértice
+    * mientras no forme un giro a la izquierda con el anterior y el nuevo
+    */
+    private void depurar(double px[], double py[], int m, boolean antihorario) {
+        xs = new double[m];
+        ys = new double[m];
+        n = 0;
+        for (int k=0; k<m; k++) {
+            int i = antihorario ? k : m-1-k;
+            while (n >= 2 && PredicadosExactos2D.orientacion(xs[n-2], ys[n-2], xs[n-1], ys[n-1],
+                                                             px[i], py[i]) != Mat.ANTIHORARIO)
+                n--;
+            xs[n] = px[i];
+            ys[n] = py[i];
+            n++;
+        }
+        // Cierre: se comprueban los giros en el último y en el primer vértice
+        int inicio = 0;
+        boolean cambios = true;
+        while (cambios && n - inicio >= 3) {
+            cambios = false;
+            if (PredicadosExactos2D.orientacion(xs[n-2], ys[n-2], xs[n-1], ys[n-1],
+                                                xs[inicio], ys[inicio]) != Mat.ANTIHORARIO) {
+                n--;
+                cambios = true;
+            } else if (PredicadosExactos2D.orientacion(xs[n-1], ys[n-1], xs[inicio], ys[inicio],
+                                                       xs[inicio+1], ys[inicio+1]) != Mat.ANTIHORARIO) {
+                inicio++;
+                cambios = true;
+            }
+        }
+        if (inicio > 0) {
+            System.arraycopy(xs, inicio, xs, 0, n - inicio);
+            System.arraycopy(ys, inicio, ys, 0, n - inicio);
+            n -= inicio;
+        }
+    }
+
+  /** Toma como vértices los de la envolvente convexa de un conjunto de
+    * puntos
+    */
+    private void envolvente(double px[], double py[], int m) {
+        int indices[] = EnvolventeConvexa2D.cadenaMonotona(px, py, m);
+        n = indices.length;
+        xs = new double[n];
+        ys = new double[n];
+        for (int i=0; i<n; i++) {
+            xs[i] = px[indices[i]];
+            ys[i] = py[indices[i]];
+        }
+    }
+
+  /** Calcula todas las medidas en una vuelta de los calibres. Para cada lado
+    * i se mantienen los vértices extremos en la dirección del lado (derecho),
+    * en la perpendicular hacia el interior (opuesto) y en la dirección
+    * contraria al lado (izquierdo). Al girar de un lado al siguiente, cada uno
+    * de ellos avanza mientras el siguiente vértice esté más lejos
+    */
+    private void medir() {
+        int derecho = 1, opuesto = 1, izquierdo = 1;
+        anchura = Double.MAX_VALUE;
+        areaMinima = perimetroMinimo = Double.MAX_VALUE;
+        diametroA = 0;
+        diametroB = 1;
+        for (int i=0; i<n; i++) {
+            int j = (i + 1) % n;
+            double dx = xs[j] - xs[i], dy = ys[j] - ys[i];
+            double longitud = Math.sqrt(dx*dx + dy*dy);
+            double ux = dx / longitud, uy = dy / longitud;
+
+            if (i == 0)
+                derecho = opuesto = j;
+            while (proyeccion(derecho + 1, i, ux, uy) > proyeccion(derecho, i, ux, uy))
+                derecho = (derecho + 1) % n;
+            while (proyeccion(opuesto + 1, i, -uy, ux) > proyeccion(opuesto, i, -uy, ux))
+                opuesto = (opuesto + 1) % n;
+            if (i == 0)
+                izquierdo = opuesto;
+            while (proyeccion(izquierdo + 1, i, ux, uy) < proyeccion(izquierdo, i, ux, uy))
+                izquierdo = (izquierdo + 1) % n;
+
+            // Los pares de vértices opuestos, candidatos al diámetro, son los
+            // extremos del lado con el vértice opuesto y, si el siguiente
+            // está a la misma distancia, también con él
+            int ultimo = opuesto;
+            if (proyeccion(opuesto + 1, i, -uy, ux) == proyeccion(opuesto, i, -uy, ux))
+                ultimo = (opuesto + 1) % n;
+            for (int v=opuesto; ; v=(v + 1) % n) {
+                candidatoDiametro(i, v);
+                candidatoDiametro(j, v);
+                if (v == ultimo)
+                    break;
+            }
+
+            double alto = proyeccion(opuesto, i, -uy, ux);
+            if (alto < anchura) {
+                anchura = alto;
+                ladoAnchura = i;
+                verticeAnchura = opuesto;
+            }
+
+            double desde = proyeccion(izquierdo, i, ux, uy);
+            double ancho = proyeccion(derecho, i, ux, uy) - desde;
+            if (ancho * alto < areaMinima) {
+                areaMinima = ancho * alto;
+                esquinas(i, ux, uy, desde, ancho, alto, areaX, areaY);
+            }
+            if (2 * (ancho + alto) < perimetroMinimo) {
+                perimetroMinimo = 2 * (ancho + alto);
+                esquinas(i, ux, uy, desde, ancho, alto, perimetroX, perimetroY);
+            }
+        }
+    }
+
+  /** Calcula la proyección de un vértice (con el índice módulo n) sobre una
+    * dirección unitaria, tomando como origen el vértice i
+    */
+    private double proyeccion(int v, int i, double ux, double uy) {
+        v %= n;
+        return (xs[v] - xs[i])*ux + (ys[v] - ys[i])*uy;
+    }
+
+  /** Sustituye el diámetro por el par de vértices indicado si están más
+    * alejados
+    */
+    private void candidatoDiametro(int a, int b) {
+        if (distanciaCuadrado(a, b) > distanciaCuadrado(diametroA, diametroB)) {
+            diametroA = a;
+            diametroB = b;
+        }
+    }
+
+  /** Calcula el cuadrado de la distancia entre dos vértices
+    */
+    private double distanciaCuadrado(int a, int b) {
+        return Mat.cuadrado(xs[b] - xs[a]) + Mat.cuadrado(ys[b] - ys[a]);
+    }
+
+  /** Calcula las esquinas de un rectángulo con un lado sobre la recta del
+    * lado i del polígono, a partir de la dirección unitaria del lado, la
+    * proyección de su primera esquina sobre ella y sus dimensiones
+    */
+    private void esquinas(int i, double ux, double uy, double desde, double ancho, double alto,
+                          double ex[], double ey[]) {
+        ex[0] = xs[i] + desde*ux;
+        ey[0] = ys[i] + desde*uy;
+        ex[1] = ex[0] + ancho*ux;
+        ey[1] = ey[0] + ancho*uy;
+        ex[2] = ex[1] - alto*uy;
+        ey[2] = ey[1] + alto*ux;
+        ex[3] = ex[0] - alto*uy;
+        ey[3] = ey[0] + alto*ux;
+    }
+}
@@ -0,0 +1,531 @@
+/*
+ * Desplazamiento2D.java
+ *
+ * Created on 18 de octubre de 2026, 2:10
+ */
+
+package JavaRG.Basica;
+
+import JavaRG.Mat;
+import JavaRG.Nucleo2D.*;
+
+/** La clase <code>Desplazamiento2D</code> calcula el desplazamiento de un
+ * polígono hacia fuera o hacia dentro una distancia dada, y la zona de
+ * influencia de una línea poligonal abierta, es decir, la región formada por
+ * los puntos que están a una distancia de la línea no mayor que la indicada.
+ * <br>
+ * La región se construye a partir de piezas sencillas: un rectángulo por cada
+ * lado, del lado hacia el que se desplaza, y una pieza en cada vértice que
+ * rellena el hueco que queda entre los rectángulos de sus dos lados. La forma
+ * de esta pieza depende del tipo de unión: en inglete se prolongan ambos
+ * lados hasta que se cortan (si el corte está demasiado lejos se recorta como
+ * en la unión cuadrada), en la unión redonda se sigue un arco de
+ * circunferencia con centro en el vértice y en la cuadrada se corta la
+ * esquina perpendicularmente a la bisectriz, a la distancia indicada del
+ * vértice. Las piezas se unen con <code>UnionCascada2D</code>, y el resultado
+ * se une con el polígono (o se resta de él si se desplaza hacia dentro)
+ * mediante las operaciones booleanas. Como estas se basan en un barrido, los
+ * cortes entre piezas de partes alejadas del polígono y los cambios de
+ * topología (partes que se funden o desaparecen al desplazar) se resuelven
+ * en el propio barrido, y el resultado está formado por contornos que no se
+ * cortan. El coste es O(n log n) salvo por los factores logarítmicos de la
+ * unión en cascada y por el número de cortes entre piezas.
+ * <br>
+ * Los arcos de la unión redonda se aproximan con un número fijo de lados por
+ * vuelta completa, con los vértices sobre la circunferencia
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see UnionCascada2D
+ * @see OperacionesBooleanas2D
+ */
+public class Desplazamiento2D extends Object {
+
+  /**
+    * Unión en inglete: los lados desplazados se prolongan hasta cortarse
+    */
+    public static final int INGLETE = 0;
+  /**
+    * Unión redonda: los lados desplazados se unen con un arco de
+    * circunferencia con centro en el vértice
+    */
+    public static final int REDONDA = 1;
+  /**
+    * Unión cuadrada: la esquina se corta perpendicularmente a la bisectriz,
+    * a la distancia de desplazamiento del vértice
+    */
+    public static final int CUADRADA = 2;
+
+  /**
+    * Distancia máxima del vértice al corte de una unión en inglete, en
+    * múltiplos de la distancia de desplazamiento. Más allá se recorta
+    */
+    private static final double limiteInglete = 4;
+  /**
+    * Número de lados con que se aproxima una circunferencia completa
+    */
+    private static final int ladosCircunferencia = 64;
+  /**
+    * Área mínima de un contorno del resultado, relativa al cuadrado de la
+    * diagonal de su caja. Los contornos con menos área son restos del
+    * redondeo de los puntos de corte
+    */
+    private static final double toleranciaArea = 1e-9;
+
+  /**
+    * Vértices de la línea, sin vértices consecutivos repetidos
+    */
+    private double xs[], ys[];
+  /**
+    * Número de vértices de la línea
+    */
+    private int n;
+  /**
+    * Indica si la línea es cerrada
+    */
+    private boolean cerrada;
+  /**
+    * Vectores unitarios normales a cada lado, hacia su derecha
+    */
+    private double nx[], ny[];
+  /**
+    * Distancia de desplazamiento (positiva)
+    */
+    private double distancia;
+  /**
+    * Tipo de unión
+    */
+    private int union;
+  /**
+    * Piezas que forman la región desplazada
+    */
+    private Poligono2D piezas[];
+  /**
+    * Número de piezas
+    */
+    private int numPiezas;
+
+  /** Desplaza un polígono una distancia
+    * @param poligono polígono a desplazar, que debe ser completo
+    * @param distancia distancia de desplazamiento: hacia fuera si es positiva
+    * y hacia dentro si es negativa
+    * @param union tipo de unión en los vértices (INGLETE, REDONDA o CUADRADA)
+    * @return la región desplazada, con los contornos exteriores en sentido
+    * antihorario y los de los huecos en sentido horario. Puede estar vacía si
+    * se desplaza hacia dentro más de lo que permite el polígono
+    * @exception GeomException si el polígono no es completo, el tipo de unión
+    * no es válido o el redondeo de los puntos de corte impide obtener un
+    * resultado formado por contornos simples
+    */
+    public static MultiPoligono2D desplazar(Poligono2D poligono, double distancia, int union)
+        throws GeomException {
+        if (!poligono.esCompleto())
+            throw new GeomException("desplazar (Poligono2D, double, int): el polígono debe ser completo");
+        comprobarUnion(union, "desplazar (Poligono2D, double, int)");
+        Poligono2D operando[] = { poligono };
+        if (distancia == 0)
+            return limpiar(OperacionesBooleanas2D.operacion(operando, new Poligono2D[0],
+                                                            OperacionesBooleanas2D.UNION),
+                           "desplazar (Poligono2D, double, int)");
+
+        Desplazamiento2D desplazamiento = new Desplazamiento2D(poligono, true, Math.abs(distancia), union);
+        // Recorriendo el polígono en sentido antihorario el exterior queda a
+        // la derecha de cada lado y el interior a la izquierda
+        int lado = (distancia > 0) ? 1 : -1;
+        for (int i=0; i<desplazamiento.n; i++)
+            desplazamiento.rectangulo(i, lado);
+        for (int i=0; i<desplazamiento.n; i++)
+            desplazamiento.esquina(i, lado);
+        MultiPoligono2D piezas = desplazamiento.unirPiezas();
+        return limpiar(OperacionesBooleanas2D.operacion(operando, piezas.contornos(),
+            (distancia > 0) ? OperacionesBooleanas2D.UNION : OperacionesBooleanas2D.DIFERENCIA),
+                       "desplazar (Poligono2D, double, int)");
+    }
+
+  /** Calcula la zona de influencia de una línea poligonal: los puntos que
+    * están a una distancia de la línea no mayor que la indicada. Si la línea
+    * es abierta, sus extremos se rematan con la misma forma que las uniones,
+    * salvo con la unión en inglete, en que se cortan perpendicularmente a la
+    * línea en sus extremos. Si es cerrada se obtiene una banda alrededor de
+    * ella
+    * @param linea línea poligonal, abierta si el polígono no es completo
+    * @param distancia distancia máxima a la línea, que debe ser positiva
+    * @param union tipo de unión en los vértices (INGLETE, REDONDA o CUADRADA)
+    * @return la zona de influencia, con los contornos exteriores en sentido
+    * antihorario y los de los huecos en sentido horario
+    * @exception GeomException si la línea no tiene al menos dos vértices
+    * distintos, la distancia no es positiva, el tipo de unión no es válido o
+    * el redondeo de los puntos de corte impide obtener un resultado formado
+    * por contornos simples
+    */
+    public static MultiPoligono2D zona(Poligono2D linea, double distancia, int union)
+        throws GeomException {
+        comprobarUnion(union, "zona (Poligono2D, double, int)");
+        if (!(distancia > 0))
+            throw new GeomException("zona (Poligono2D, double, int): la distancia debe ser positiva");
+        Desplazamiento2D desplazamiento = new Desplazamiento2D(linea, linea.esCompleto(), distancia, union);
+        if (desplazamiento.n < 2)
+            throw new GeomException("zona (Poligono2D, double, int): la línea debe tener al menos dos vértices distintos");
+
+        int lados = desplazamiento.cerrada ? desplazamiento.n : desplazamiento.n - 1;
+        for (int i=0; i<lados; i++)
+            desplazamiento.banda(i);
+        for (int i=0; i<desplazamiento.n; i++)
+            if (desplazamiento.cerrada || (i > 0 && i < desplazamiento.n - 1))
+                desplazamiento.esquina(i, 0);
+        if (!desplazamiento.cerrada && union != INGLETE) {
+            desplazamiento.extremo(0, desplazamiento.nx[0], desplazamiento.ny[0]);
+            int ultimo = desplazamiento.n - 1;
+            desplazamiento.extremo(ultimo, -desplazamiento.nx[ultimo-1], -desplazamiento.ny[ultimo-1]);
+        }
+        return limpiar(desplazamiento.unirPiezas().contornos(), "zona (Poligono2D, double, int)");
+    }
+
+  /** Prepara el cálculo a partir de los vértices de una línea. Las líneas
+    * cerradas se recorren en sentido antihorario
+    */
+    private Desplazamiento2D(Poligono2D linea, boolean cerrada, double distancia, int union)
+        throws GeomException {
+        int posiciones = linea.posiciones();
+        xs = new double[posiciones];
+        ys = new double[posiciones];
+        boolean invertir = cerrada && linea.sentido() == Mat.HORARIO;
+        for (int i=0; i<posiciones; i++) {
+            Punto2D p = linea.vertice(invertir ? posiciones-1-i : i);
+            if (n > 0 && p.x() == xs[n-1] && p.y() == ys[n-1])
+                continue;
+            xs[n] = p.x();
+            ys[n] = p.y();
+            n++;
+        }
+        if (cerrada)
+            while (n > 1 && xs[n-1] == xs[0] && ys[n-1] == ys[0])
+                n--;
+        this.cerrada = cerrada;
+        this.distancia = distancia;
+        this.union = union;
+
+        nx = new double[n];
+        ny = new double[n];
+        for (int i=0; i<n; i++) {
+            int siguiente = (i + 1) % n;
+            double dx = xs[siguiente] - xs[i], dy = ys[siguiente] - ys[i];
+            double longitud = Math.sqrt(dx*dx + dy*dy);
+            if (longitud > 0) {
+                nx[i] = dy / longitud;
+                ny[i] = -dx / longitud;
+            }
+        }
+        piezas = new Poligono2D[2*n + 2];
+    }
+
+  /** Comprueba que un tipo de unión es válido
+    */
+    private static void comprobarUnion(int union, String metodo) throws GeomException {
+        if (union != INGLETE && union != REDONDA && union != CUADRADA)
+            throw new GeomException(metodo + ": tipo de unión no válido");
+    }
+
+  /** Elimina del resultado los restos del redondeo de los puntos de corte.
+    * Los vértices consecutivos a una distancia no mayor que epsilon se
+    * juntan; si los vértices iguales no son consecutivos, el contorno se
+    * separa en dos por ellos. Después se descartan los contornos sin área
+    * @param contornos contornos obtenidos por las operaciones booleanas
+    * @param metodo método que pide la limpieza, para el mensaje de error
+    * @return la región formada por los contornos que quedan
+    * @exception GeomException si alguno de los contornos que quedan no es
+    * simple
+    */
+    private static MultiPoligono2D limpiar(Poligono2D contornos[], String metodo)
+        throws GeomException {
+        // Contornos pendientes de limpiar
+        double pendientesX[][] = new double[contornos.length + 2][];
+        double pendientesY[][] = new double[contornos.length + 2][];
+        int numPendientes = 0;
+        for (int c=0; c<contornos.length; c++) {
+            int posiciones = contornos[c].posiciones();
+            pendientesX[numPendientes] = new double[posiciones];
+            pendientesY[numPendientes] = new double[posiciones];
+            for (int i=0; i<posiciones; i++) {
+                Punto2D p = contornos[c].vertice(i);
+                pendientesX[numPendientes][i] = p.x();
+                pendientesY[numPendientes][i] = p.y();
+            }
+            numPendientes++;
+        }
+
+        Poligono2D resultado[] = new Poligono2D[contornos.length];
+        int numResultado = 0;
+        while (numPendientes > 0) {
+            numPendientes--;
+            double cx[] = pendientesX[numPendientes], cy[] = pendientesY[numPendientes];
+            int n = juntarConsecutivos(cx, cy, cx.length);
+            if (n < 3)
+                continue;
+            int par[] = Simplicidad2D.verticesRepetidos(cx, cy, n);
+            if (par != null) {
+                // El contorno se toca a sí mismo: un lazo va del primer
+                // vértice al segundo y el otro del segundo al primero
+                int i = par[0], j = par[1];
+                if (numPendientes + 2 > pendientesX.length) {
+                    double nuevosX[][] = new double[2*pendientesX.length][];
+                    double nuevosY[][] = new double[2*pendientesY.length][];
+                    System.arraycopy(pendientesX, 0, nuevosX, 0, numPendientes);
+                    System.arraycopy(pendientesY, 0, nuevosY, 0, numPendientes);
+                    pendientesX = nuevosX;
+                    pendientesY = nuevosY;
+                }
+                pendientesX[numPendientes] = new double[j - i];
+                pendientesY[numPendientes] = new double[j - i];
+                System.arraycopy(cx, i, pendientesX[numPendientes], 0, j - i);
+                System.arraycopy(cy, i, pendientesY[numPendientes], 0, j - i);
+                numPendientes++;
+                pendientesX[numPendientes] = new double[n - j + i];
+                pendientesY[numPendientes] = new double[n - j + i];
+                System.arraycopy(cx, j, pendientesX[numPendientes], 0, n - j);
+                System.arraycopy(cy, j, pendientesY[numPendientes], 0, n - j);
+                System.arraycopy(cx, 0, pendientesX[numPendientes], n - j, i);
+                System.arraycopy(cy, 0, pendientesY[numPendientes], n - j, i);
+                numPendientes++;
+                continue;
+            }
+
+            // Área y caja, relativas al primer vértice para no perder precisión
+            double dobleArea = 0, minX = 0, maxX = 0, minY = 0, maxY = 0;
+            for (int i=0, j=n-1; i<n; j=i++) {
+                double xi = cx[i] - cx[0], yi = cy[i] - cy[0];
+                dobleArea += (cx[j] - cx[0]) * yi - (cy[j] - cy[0]) * xi;
+                minX = Math.min(minX, xi);
+                maxX = Math.max(maxX, xi);
+                minY = Math.min(minY, yi);
+                maxY = Math.max(maxY, yi);
+            }
+            double diagonal2 = Mat.cuadrado(maxX - minX) + Mat.cuadrado(maxY - minY);
+            if (Math.abs(dobleArea) / 2 <= toleranciaArea * diagonal2)
+                continue;
+            Poligono2D contorno = OperacionesBooleanas2D.crearPoligono(cx, cy, n);
+            if (contorno == null)
+                continue;
+            if (!contorno.esSimple())
+                throw new GeomException(metodo + ": el redondeo de los puntos de corte ha dado un contorno no simple");
+            if (numResultado == resultado.length) {
+                Poligono2D nuevo[] = new Poligono2D[2*numResultado + 1];
+                System.arraycopy(resultado, 0, nuevo, 0, numResultado);
+                resultado = nuevo;
+            }
+            resultado[numResultado++] = contorno;
+        }
+        Poligono2D limpios[] = new Poligono2D[numResultado];
+        System.arraycopy(resultado, 0, limpios, 0, numResultado);
+        return new MultiPoligono2D(limpios);
+    }
+
+  /** Junta los vértices consecutivos de un contorno a una distancia no mayor
+    * que epsilon, conservando el primero de cada grupo
+    * @return el nuevo número de vértices
+    */
+    private static int juntarConsecutivos(double xs[], double ys[], int n) {
+        int m = 0;
+        for (int i=0; i<n; i++)
+            if (m == 0 || !Predicados2D.iguales(xs[m-1], ys[m-1], xs[i], ys[i])) {
+                xs[m] = xs[i];
+                ys[m] = ys[i];
+                m++;
+            }
+        while (m > 1 && Predicados2D.iguales(xs[m-1], ys[m-1], xs[0], ys[0]))
+            m--;
+        return m;
+    }
+
+  /** Añade el rectángulo formado por un lado y su desplazamiento hacia uno de
+    * sus lados
+    * @param i índice del lado, que va del vértice i al siguiente
+    * @param lado 1 para desplazarlo a la derecha y -1 a la izquierda
+    */
+    private void rectangulo(int i, int lado) throws GeomException {
+        int j = (i + 1) % n;
+        double px[] = { xs[i], xs[j], desplazadaX(j, i, lado), desplazadaX(i, i, lado) };
+        double py[] = { ys[i], ys[j], desplazadaY(j, i, lado), desplazadaY(i, i, lado) };
+        anadir(px, py, 4);
+    }
+
+  /** Añade el rectángulo formado por los desplazamientos de un lado hacia
+    * ambos lados
+    * @param i índice del lado, que va del vértice i al siguiente
+    */
+    private void banda(int i) throws GeomException {
+        int j = (i + 1) % n;
+        double px[] = { desplazadaX(i, i, -1), desplazadaX(j, i, -1),
+                        desplazadaX(j, i, 1), desplazadaX(i, i, 1) };
+        double py[] = { desplazadaY(i, i, -1), desplazadaY(j, i, -1),
+                        desplazadaY(j, i, 1), desplazadaY(i, i, 1) };
+        anadir(px, py, 4);
+    }
+
+  /** Añade la pieza que rellena el hueco entre los rectángulos de los dos
+    * lados de un vértice, si lo hay
+    * @param v índice del vértice
+    * @param lado lado hacia el que se desplaza (1 a la derecha y -1 a la
+    * izquierda), o 0 si se desplaza hacia ambos. Solo hay hueco en el
+    * exterior del giro, así que con 0 se toma el lado exterior
+    */
+    private void esquina(int v, int lado) throws GeomException {
+        int anterior = (v + n - 1) % n;
+        // Los lados a ambos lados del vértice son perpendiculares a sus normales
+        double giro = nx[anterior]*ny[v] - ny[anterior]*nx[v];
+        double producto = nx[anterior]*nx[v] + ny[anterior]*ny[v];
+        if (giro == 0 && producto > 0)
+            return;
+        // Con un giro a la izquierda el hueco queda a la derecha. Si la línea
+        // vuelve sobre sí misma hay hueco a ambos lados, pero basta con uno
+        // para las bandas
+        int exterior = (giro > 0 || (giro == 0 && lado != -1)) ? 1 : -1;
+        if (lado != 0 && lado != exterior && giro != 0)
+            return;
+        if (lado == 0)
+            lado = exterior;
+        unir(xs[v], ys[v], desplazadaX(v, anterior, lado), desplazadaY(v, anterior, lado),
+             desplazadaX(v, v, lado), desplazadaY(v, v, lado),
+             lado*nx[anterior], lado*ny[anterior], lado*nx[v], lado*ny[v],
+             -ny[anterior], nx[anterior], -ny[v], nx[v], lado);
+    }
+
+  /** Añade el remate de un extremo de una línea abierta, como la unión de un
+    * vértice en el que la línea volviera sobre sí misma
+    * @param v índice del vértice del extremo
+    * @param mx componente x de la normal a la derecha del lado que sale del
+    * extremo hacia el resto de la línea
+    * @param my componente y de la misma normal
+    */
+    private void extremo(int v, double mx, double my) throws GeomException {
+        // El lado "entrante" se toma en sentido contrario al saliente, con lo
+        // que su normal a la derecha es la opuesta
+        unir(xs[v], ys[v], xs[v] - mx*distancia, ys[v] - my*distancia,
+             xs[v] + mx*distancia, ys[v] + my*distancia,
+             -mx, -my, mx, my, my, -mx, -my, mx, 1);
+    }
+
+  /** Añade la pieza de unión en un vértice, entre los puntos desplazados de
+    * sus dos lados
+    * @param vx coordenada x del vértice
+    * @param vy coordenada y del vértice
+    * @param p1x coordenada x del desplazamiento del vértice según el lado
+    * entrante
+    * @param p1y coordenada y del mismo punto
+    * @param p2x coordenada x del desplazamiento del vértice según el lado
+    * saliente
+    * @param p2y coordenada y del mismo punto
+    * @param n1x normal unitaria del lado entrante hacia el lado del
+    * desplazamiento (componente x)
+    * @param n1y componente y de la misma normal
+    * @param n2x normal unitaria del lado saliente hacia el lado del
+    * desplazamiento (componente x)
+    * @param n2y componente y de la misma normal
+    * @param e1x dirección unitaria del lado entrante (componente x)
+    * @param e1y componente y de la misma dirección
+    * @param e2x dirección unitaria del lado saliente (componente x)
+    * @param e2y componente y de la misma dirección
+    * @param lado 1 si el desplazamiento es a la derecha y -1 a la izquierda
+    */
+    private void unir(double vx, double vy, double p1x, double p1y, double p2x, double p2y,
+                      double n1x, double n1y, double n2x, double n2y,
+                      double e1x, double e1y, double e2x, double e2y, int lado)
+        throws GeomException {
+        if (union == REDONDA) {
+            // Las normales giran en sentido antihorario si el desplazamiento
+            // es a la derecha, y en sentido horario si es a la izquierda
+            double angulo = lado * Math.abs(Math.atan2(n1x*n2y - n1y*n2x, n1x*n2x + n1y*n2y));
+            int k = Math.max(1, (int) Math.ceil(Math.abs(angulo) * ladosCircunferencia / (2*Math.PI)));
+            double px[] = new double[k+2], py[] = new double[k+2];
+            double inicial = Math.atan2(n1y, n1x);
+            px[0] = vx; py[0] = vy;
+            px[1] = p1x; py[1] = p1y;
+            for (int j=1; j<k; j++) {
+                double a = inicial + angulo * j / k;
+                px[j+1] = vx + distancia * Math.cos(a);
+                py[j+1] = vy + distancia * Math.sin(a);
+            }
+            px[k+1] = p2x; py[k+1] = p2y;
+            anadir(px, py, k+2);
+            return;
+        }
+
+        // Bisectriz de las normales. Si son opuestas, la línea vuelve sobre sí
+        // misma y la esquina se prolonga en la dirección del lado entrante
+        double mx = n1x + n2x, my = n1y + n2y;
+        double modulo = Math.sqrt(mx*mx + my*my);
+        if (modulo < 1e-12) {
+            mx = e1x;
+            my = e1y;
+        } else {
+            mx /= modulo;
+            my /= modulo;
+        }
+        double coseno = n1x*mx + n1y*my;
+        double seno = e1x*mx + e1y*my;
+        if (union == INGLETE && coseno * limiteInglete >= 1) {
+            double px[] = { vx, p1x, vx + mx * distancia / coseno, p2x };
+            double py[] = { vy, p1y, vy + my * distancia / coseno, p2y };
+            anadir(px, py, 4);
+            return;
+        }
+        double corte = (union == INGLETE ? limiteInglete : 1) * distancia;
+        double t = (corte - distancia * coseno) / seno;
+        double px[] = { vx, p1x, p1x + e1x * t, p2x - e2x * t, p2x };
+        double py[] = { vy, p1y, p1y + e1y * t, p2y - e2y * t, p2y };
+        anadir(px, py, 5);
+    }
+
+  /** Coordenada x del desplazamiento de un vértice según la normal de un lado
+    */
+    private double desplazadaX(int v, int lado, int sentido) {
+        return xs[v] + sentido * distancia * nx[lado];
+    }
+
+  /** Coordenada y del desplazamiento de un vértice según la normal de un lado
+    */
+    private double desplazadaY(int v, int lado, int sentido) {
+        return ys[v] + sentido * distancia * ny[lado];
+    }
+
+  /** Añade una pieza a partir de sus vértices, descartando los consecutivos
+    * repetidos. Las piezas que se quedan sin área se ignoran. El polígono se
+    * crea como los contornos de las operaciones booleanas, de forma que las
+    * piezas más estrechas que Mat.EPSILON no pierden ningún vértice
+    */
+    private void anadir(double px[], double py[], int k) throws GeomException {
+        int m = 0;
+        for (int i=0; i<k; i++)
+            if (m == 0 || px[i] != px[m-1] || py[i] != py[m-1]) {
+                px[m] = px[i];
+                py[m] = py[i];
+                m++;
+            }
+        while (m > 1 && px[m-1] == px[0] && py[m-1] == py[0])
+            m--;
+        if (m < 3)
+            return;
+        double dobleArea = 0;
+        for (int i=0, j=m-1; i<m; j=i++)
+            dobleArea += px[j]*py[i] - py[j]*px[i];
+        if (dobleArea == 0)
+            return;
+        Poligono2D pieza = OperacionesBooleanas2D.crearPoligono(px, py, m);
+        if (pieza == null)
+            return;
+        if (numPiezas == piezas.length) {
+            Poligono2D nuevas[] = new Poligono2D[2*piezas.length];
+            System.arraycopy(piezas, 0, nuevas, 0, numPiezas);
+            piezas = nuevas;
+        }
+        piezas[numPiezas++] = pieza;
+    }
+
+  /** Une todas las piezas
+    */
+    private MultiPoligono2D unirPiezas() throws GeomException {
+        Poligono2D todas[] = new Poligono2D[numPiezas];
+        System.arraycopy(piezas, 0, todas, 0, numPiezas);
+        return UnionCascada2D.union(todas);
+    }
+}
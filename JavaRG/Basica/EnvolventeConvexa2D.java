@@ -0,0 +1,517 @@
+/*
+ * EnvolventeConvexa2D.java
+ *
+ * Created on 17 de octubre de 2026, 21:50
+ */
+
+package JavaRG.Basica;
+
+import JavaRG.Mat;
+import JavaRG.Nucleo2D.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/** La clase <code>EnvolventeConvexa2D</code> calcula la envolvente convexa de
+ * un conjunto de puntos: el menor polígono convexo que los contiene. Los
+ * puntos se dan mediante arrays paralelos de coordenadas cartesianas, un
+ * BufferPuntos2D o un array de objetos Punto2D. Se ofrecen tres algoritmos:
+ * <ul>
+ * <li>La cadena monótona de Andrew, que ordena los puntos lexicográficamente
+ * y construye las cadenas inferior y superior de la envolvente con una pila.
+ * Su coste es O(n log n)</li>
+ * <li>El algoritmo de Chan, cuyo coste O(n log h) depende también del número
+ * h de vértices de la envolvente. Divide los puntos en grupos de m puntos,
+ * calcula la envolvente de cada grupo y recorre la envolvente total como en
+ * el algoritmo de Jarvis, obteniendo el siguiente vértice a partir de la
+ * tangente a la envolvente de cada grupo mediante una búsqueda binaria. Si
+ * tras m pasos no se ha cerrado la envolvente se repite con m al cuadrado</li>
+ * <li>Una versión paralela de la cadena monótona para grandes conjuntos de
+ * puntos, que los divide por la mitad de forma recursiva en el ForkJoinPool
+ * común, calcula la envolvente de cada bloque y las mezcla de dos en dos. Al
+ * mezclar solo intervienen los vértices de las dos envolventes</li>
+ * </ul>
+ * Todos los algoritmos utilizan el predicado exacto de orientación, por lo
+ * que el resultado no depende de errores de redondeo. Los puntos alineados
+ * en un lado de la envolvente no se consideran vértices, y de varios puntos
+ * iguales solo se toma uno. Las envolventes se devuelven como arrays de
+ * índices de los puntos en sentido antihorario, comenzando por el punto
+ * lexicográficamente menor (el de menor coordenada x y, en caso de empate,
+ * menor coordenada y)
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see PredicadosExactos2D#orientacion(double, double, double, double, double, double)
+ */
+public class EnvolventeConvexa2D extends Object {
+
+  /**
+    * Número de puntos a partir del cual <code>envolvente</code> utiliza la
+    * versión paralela
+    */
+    private static final int umbralParalelo = 1 << 18;
+  /**
+    * Tamaño mínimo de los bloques en que se dividen los puntos en la versión
+    * paralela
+    */
+    private static final int tamanoMinimoBloque = 1 << 15;
+  /**
+    * Número de bloques por hilo en que se dividen los puntos en la versión
+    * paralela
+    */
+    private static final int bloquesPorHilo = 4;
+
+  /** Calcula la envolvente convexa de un conjunto de puntos como un polígono.
+    * Para conjuntos grandes se utiliza la versión paralela
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos
+    * @return un polígono convexo en sentido antihorario con los vértices de la
+    * envolvente
+    * @exception GeomException si la envolvente tiene menos de tres vértices,
+    * es decir, si todos los puntos están alineados
+    * @see EnvolventeConvexa2D#cadenaMonotona(double[], double[], int)
+    * @see EnvolventeConvexa2D#paralela(double[], double[], int)
+    */
+    public static Poligono2D envolvente(double xs[], double ys[], int n) throws GeomException {
+        int indices[] = n >= umbralParalelo ? paralela(xs, ys, n) : cadenaMonotona(xs, ys, n);
+        return poligono(xs, ys, indices);
+    }
+
+  /** Calcula la envolvente convexa de un conjunto de puntos como un polígono
+    * @param buffer buffer con los puntos
+    * @return un polígono convexo en sentido antihorario con los vértices de la
+    * envolvente
+    * @exception GeomException si todos los puntos están alineados
+    * @see EnvolventeConvexa2D#envolvente(double[], double[], int)
+    */
+    public static Poligono2D envolvente(BufferPuntos2D buffer) throws GeomException {
+        return envolvente(buffer.coordenadasX(null), buffer.coordenadasY(null), buffer.numPuntos());
+    }
+
+  /** Calcula la envolvente convexa de un conjunto de puntos como un polígono
+    * @param puntos puntos de los que se calcula la envolvente
+    * @return un polígono convexo en sentido antihorario con los vértices de la
+    * envolvente
+    * @exception GeomException si todos los puntos están alineados
+    * @see EnvolventeConvexa2D#envolvente(double[], double[], int)
+    */
+    public static Poligono2D envolvente(Punto2D puntos[]) throws GeomException {
+        double xs[] = new double[puntos.length];
+        double ys[] = new double[puntos.length];
+        for (int i=0; i<puntos.length; i++) {
+            xs[i] = puntos[i].x();
+            ys[i] = puntos[i].y();
+        }
+        return envolvente(xs, ys, puntos.length);
+    }
+
+  /** Calcula la envolvente convexa de un conjunto de puntos con el algoritmo
+    * de la cadena monótona de Andrew, con coste O(n log n)
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos
+    * @return los índices de los vértices de la envolvente en sentido
+    * antihorario, comenzando por el punto lexicográficamente menor
+    */
+    public static int[] cadenaMonotona(double xs[], double ys[], int n) {
+        return andrew(xs, ys, Simplicidad2D.ordenLexicografico(xs, ys, n), n);
+    }
+
+  /** Calcula la envolvente convexa de un conjunto de puntos con el algoritmo
+    * de Chan, con coste O(n log h), siendo h el número de vértices de la
+    * envolvente. Su coste asintótico es menor que el de la cadena monótona
+    * cuando la envolvente tiene pocos vértices, aunque cada intento recalcula
+    * las envolventes de todos los grupos
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos
+    * @return los índices de los vértices de la envolvente en sentido
+    * antihorario, comenzando por el punto lexicográficamente menor
+    */
+    public static int[] chan(double xs[], double ys[], int n) {
+        if (n < 3)
+            return cadenaMonotona(xs, ys, n);
+        for (int t=1; ; t++) {
+            // m = 2^(2^t), sin superar n
+            int m = t >= 5 ? n : (int) Math.min(n, 1L << (1 << t));
+            int resultado[] = intentoChan(xs, ys, n, m);
+            if (resultado != null)
+                return resultado;
+        }
+    }
+
+  /** Calcula la envolvente convexa de un conjunto de puntos dividiendo el
+    * trabajo entre los hilos del ForkJoinPool común
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos
+    * @return los índices de los vértices de la envolvente en sentido
+    * antihorario, comenzando por el punto lexicográficamente menor
+    */
+    public static int[] paralela(double xs[], double ys[], int n) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int bloque = Math.max(tamanoMinimoBloque, n / (bloquesPorHilo * pool.getParallelism()));
+        Tarea tarea = new Tarea(xs, ys, 0, n, bloque);
+        if (n <= bloque)
+            tarea.compute();
+        else
+            pool.invoke(tarea);
+        return andrew(xs, ys, tarea.vertices, tarea.vertices.length);
+    }
+
+  /** Construye el polígono con los vértices de una envolvente
+    */
+    private static Poligono2D poligono(double xs[], double ys[], int indices[])
+        throws GeomException {
+        if (indices.length < 3)
+            throw new GeomException("envolvente: todos los puntos están alineados");
+        double vx[] = new double[indices.length];
+        double vy[] = new double[indices.length];
+        for (int i=0; i<indices.length; i++) {
+            vx[i] = xs[indices[i]];
+            vy[i] = ys[indices[i]];
+        }
+        return new Poligono2D(vx, vy);
+    }
+
+  /** Obtiene la envolvente de unos puntos ya ordenados lexicográficamente
+    * mediante la cadena monótona. Se recorren los puntos hacia delante para
+    * obtener la cadena inferior y hacia atrás para la superior, eliminando de
+    * la pila los puntos en los que no se gira a la izquierda
+    * @param orden índices de los puntos ordenados lexicográficamente
+    * @param m número de puntos
+    * @return los índices de los vértices de la envolvente en sentido
+    * antihorario
+    */
+    private static int[] andrew(double xs[], double ys[], int orden[], int m) {
+        if (m == 0)
+            return new int[0];
+        int pila[] = new int[2*m];
+        int k = 0;
+        for (int i=0; i<m; i++) {
+            int p = orden[i];
+            while (k >= 2 && orientacion(xs, ys, pila[k-2], pila[k-1], p) != Mat.ANTIHORARIO)
+                k--;
+            pila[k++] = p;
+        }
+        for (int i=m-2, inferior=k+1; i>=0; i--) {
+            int p = orden[i];
+            while (k >= inferior && orientacion(xs, ys, pila[k-2], pila[k-1], p) != Mat.ANTIHORARIO)
+                k--;
+            pila[k++] = p;
+        }
+        // El último punto es el primero, salvo si solo hay un punto. Si todos
+        // los puntos son iguales quedan dos copias del mismo
+        if (k > 1) k--;
+        if (k == 2 && iguales(xs, ys, pila[0], pila[1])) k = 1;
+
+        int resultado[] = new int[k];
+        System.arraycopy(pila, 0, resultado, 0, k);
+        return resultado;
+    }
+
+  /** Reordena lexicográficamente los vértices de una envolvente en sentido
+    * antihorario, mezclando su cadena inferior con la superior invertida
+    */
+    private static int[] verticesOrdenados(double xs[], double ys[], int envolvente[]) {
+        int h = envolvente.length;
+        if (h == 0)
+            return envolvente;
+        int mayor = 0;
+        for (int i=1; i<h; i++)
+            if (menor(xs, ys, envolvente[mayor], envolvente[i])) mayor = i;
+
+        int resultado[] = new int[h];
+        int i = 1, j = h-1, k = 0;
+        resultado[k++] = envolvente[0];
+        while (i <= mayor || j > mayor) {
+            if (j <= mayor || (i <= mayor && menor(xs, ys, envolvente[i], envolvente[j])))
+                resultado[k++] = envolvente[i++];
+            else
+                resultado[k++] = envolvente[j--];
+        }
+        return resultado;
+    }
+
+  /** Realiza un intento del algoritmo de Chan con grupos de m puntos
+    * @return la envolvente, o null si tiene más de m vértices
+    */
+    private static int[] intentoChan(double xs[], double ys[], int n, int m) {
+        int numGrupos = (n + m - 1) / m;
+        int inicio[] = new int[numGrupos+1];
+        int envolventes[] = new int[n];
+        int orden[] = new int[m], auxiliar[] = new int[m];
+        int menorGrupo = 0;
+        for (int g=0; g<numGrupos; g++) {
+            int primero = g*m, tamano = Math.min(n, primero + m) - primero;
+            for (int i=0; i<tamano; i++)
+                orden[i] = primero + i;
+            ordenar(xs, ys, orden, auxiliar, 0, tamano);
+            int envolvente[] = andrew(xs, ys, orden, tamano);
+            System.arraycopy(envolvente, 0, envolventes, inicio[g], envolvente.length);
+            inicio[g+1] = inicio[g] + envolvente.length;
+            // Cada envolvente comienza por su punto lexicográficamente menor
+            if (menor(xs, ys, envolventes[inicio[g]], envolventes[inicio[menorGrupo]]))
+                menorGrupo = g;
+        }
+
+        int resultado[] = new int[m];
+        int grupo = menorGrupo, posicion = 0;
+        int primero = envolventes[inicio[menorGrupo]];
+        for (int k=0; k<m; k++) {
+            int p = envolventes[inicio[grupo] + posicion];
+            resultado[k] = p;
+
+            // El candidato inicial es el siguiente vértice de su propio grupo
+            int tamano = inicio[grupo+1] - inicio[grupo];
+            int siguienteGrupo = grupo, siguientePosicion = (posicion + 1) % tamano;
+            int q = envolventes[inicio[grupo] + siguientePosicion];
+            for (int g=0; g<numGrupos; g++) {
+                if (g == grupo) continue;
+                int s = tangente(xs, ys, envolventes, inicio[g], inicio[g+1], p);
+                int r = envolventes[inicio[g] + s];
+                if (mejor(xs, ys, p, r, q)) {
+                    siguienteGrupo = g;
+                    siguientePosicion = s;
+                    q = r;
+                }
+            }
+            if (iguales(xs, ys, q, primero)) {
+                int envolvente[] = new int[k+1];
+                System.arraycopy(resultado, 0, envolvente, 0, k+1);
+                return envolvente;
+            }
+            grupo = siguienteGrupo;
+            posicion = siguientePosicion;
+        }
+        return null;
+    }
+
+  /** Obtiene mediante una búsqueda binaria la tangente desde un punto a una
+    * envolvente en sentido antihorario, es decir, el vértice v tal que todos
+    * los vértices de la envolvente quedan a la izquierda de la recta que va del
+    * punto a v o sobre ella (el más lejano si hay dos sobre ella)
+    * @param envolventes array con los vértices de la envolvente en las
+    * posiciones [desde, hasta)
+    * @param p índice del punto, que es un vértice de la envolvente total
+    * @return la posición del vértice de tangencia dentro de la envolvente
+    * @see EnvolventeConvexa2D#mejor(double[], double[], int, int, int)
+    */
+    private static int tangente(double xs[], double ys[], int envolventes[], int desde, int hasta, int p) {
+        int h = hasta - desde;
+        if (h <= 3) {
+            // Con pocos vértices se comprueban todos
+            int mejor = 0;
+            for (int i=1; i<h; i++)
+                if (mejor(xs, ys, p, envolventes[desde + i], envolventes[desde + mejor]))
+                    mejor = i;
+            return mejor;
+        }
+
+        // Si el punto coincide con un vértice, la tangente es el siguiente. En
+        // caso contrario el punto está fuera de la envolvente, y visto desde él
+        // los vértices se alejan en sentido horario hasta la tangente y vuelven
+        // después en sentido antihorario, por lo que la tangente es el único
+        // mínimo local de esa secuencia
+        int igual = buscarIgual(xs, ys, envolventes, desde, h, p);
+        if (igual >= 0)
+            return (igual + 1) % h;
+
+        if (mejorVertice(xs, ys, envolventes, desde, h, p, 0, 1) &&
+            !mejorVertice(xs, ys, envolventes, desde, h, p, h-1, 0))
+            return 0;
+        int a = 0, b = h;
+        while (true) {
+            int c = (a + b) >>> 1;
+            boolean bajaC = mejorVertice(xs, ys, envolventes, desde, h, p, c, c+1);
+            if (bajaC && !mejorVertice(xs, ys, envolventes, desde, h, p, c-1, c))
+                return c;
+            boolean subeA = mejorVertice(xs, ys, envolventes, desde, h, p, a+1, a);
+            if (subeA) {
+                if (bajaC || mejorVertice(xs, ys, envolventes, desde, h, p, a, c))
+                    b = c;
+                else
+                    a = c;
+            } else {
+                if (!bajaC || !mejorVertice(xs, ys, envolventes, desde, h, p, c, a))
+                    a = c;
+                else
+                    b = c;
+            }
+        }
+    }
+
+  /** Determina si el vértice i de una envolvente es mejor candidato a
+    * tangente que el vértice j, siendo h el número de vértices
+    */
+    private static boolean mejorVertice(double xs[], double ys[], int envolventes[], int desde,
+                                        int h, int p, int i, int j) {
+        return mejor(xs, ys, p, envolventes[desde + i % h], envolventes[desde + j % h]);
+    }
+
+  /** Determina si, visto desde el punto p, el punto r queda en sentido
+    * horario respecto al punto q. Si los tres puntos están alineados se
+    * considera mejor el más lejano, lo que equivale a desplazar p de forma
+    * infinitesimal y evita los casos degenerados
+    */
+    private static boolean mejor(double xs[], double ys[], int p, int r, int q) {
+        int o = orientacion(xs, ys, p, q, r);
+        return o == Mat.HORARIO ||
+               (o == Mat.COLINEAL && distanciaCuadrado(xs, ys, p, r) > distanciaCuadrado(xs, ys, p, q));
+    }
+
+  /** Busca un vértice de una envolvente igual a un punto. Los vértices de la
+    * cadena inferior están en orden lexicográfico creciente y los de la
+    * superior en orden decreciente, por lo que basta una búsqueda binaria en
+    * cada una
+    * @return la posición del vértice igual al punto, o -1 si no hay ninguno
+    */
+    private static int buscarIgual(double xs[], double ys[], int envolventes[], int desde,
+                                   int h, int p) {
+        int izquierda = 0, derecha = h-1;
+        while (izquierda < derecha) {
+            int medio = (izquierda + derecha) >>> 1;
+            if (menor(xs, ys, envolventes[desde + medio], envolventes[desde + medio + 1]))
+                izquierda = medio + 1;
+            else
+                derecha = medio;
+        }
+        int mayor = izquierda;
+
+        // Cadena inferior: posiciones [0, mayor]
+        izquierda = 0;
+        derecha = mayor;
+        while (izquierda < derecha) {
+            int medio = (izquierda + derecha) >>> 1;
+            if (menor(xs, ys, envolventes[desde + medio], p))
+                izquierda = medio + 1;
+            else
+                derecha = medio;
+        }
+        if (iguales(xs, ys, envolventes[desde + izquierda], p))
+            return izquierda;
+
+        // Cadena superior: posiciones [mayor, h-1]
+        izquierda = mayor;
+        derecha = h-1;
+        while (izquierda < derecha) {
+            int medio = (izquierda + derecha) >>> 1;
+            if (menor(xs, ys, p, envolventes[desde + medio]))
+                izquierda = medio + 1;
+            else
+                derecha = medio;
+        }
+        if (iguales(xs, ys, envolventes[desde + izquierda], p))
+            return izquierda;
+        return -1;
+    }
+
+  /** Ordena por mezcla las posiciones [desde, hasta) de un array de índices
+    * de puntos en orden lexicográfico
+    */
+    private static void ordenar(double xs[], double ys[], int orden[], int auxiliar[],
+                                int desde, int hasta) {
+        if (hasta - desde < 2) return;
+        int medio = (desde + hasta) >>> 1;
+        ordenar(xs, ys, orden, auxiliar, desde, medio);
+        ordenar(xs, ys, orden, auxiliar, medio, hasta);
+        if (!menor(xs, ys, orden[medio], orden[medio-1])) return;
+
+        System.arraycopy(orden, desde, auxiliar, desde, hasta - desde);
+        int i = desde, j = medio;
+        for (int k=desde; k<hasta; k++) {
+            if (j >= hasta || (i < medio && !menor(xs, ys, auxiliar[j], auxiliar[i])))
+                orden[k] = auxiliar[i++];
+            else
+                orden[k] = auxiliar[j++];
+        }
+    }
+
+  /** Determina si el punto i es lexicográficamente menor que el punto j
+    */
+    private static boolean menor(double xs[], double ys[], int i, int j) {
+        return xs[i] < xs[j] || (xs[i] == xs[j] && ys[i] < ys[j]);
+    }
+
+  /** Determina si los puntos i y j son iguales
+    */
+    private static boolean iguales(double xs[], double ys[], int i, int j) {
+        return xs[i] == xs[j] && ys[i] == ys[j];
+    }
+
+  /** Obtiene la orientación de tres puntos con el predicado exacto
+    */
+    private static int orientacion(double xs[], double ys[], int a, int b, int c) {
+        return PredicadosExactos2D.orientacion(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c]);
+    }
+
+  /** Obtiene la distancia al cuadrado entre dos puntos
+    */
+    private static double distanciaCuadrado(double xs[], double ys[], int a, int b) {
+        return Mat.cuadrado(xs[a] - xs[b]) + Mat.cuadrado(ys[a] - ys[b]);
+    }
+
+  /** Tarea del ForkJoinPool que calcula la envolvente de un rango de puntos
+    * para la versión paralela
+    */
+    private static class Tarea extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+      /**
+        * Coordenadas de los puntos
+        */
+        private double xs[], ys[];
+      /**
+        * Rango de puntos del que se encarga la tarea
+        */
+        private int desde, hasta;
+      /**
+        * Tamaño por debajo del cual el rango no se divide
+        */
+        private int bloque;
+      /**
+        * Vértices de la envolvente del rango, ordenados lexicográficamente
+        */
+        private int vertices[];
+
+      /** Crea una tarea que calcula la envolvente de un rango de puntos
+        */
+        Tarea(double xs[], double ys[], int desde, int hasta, int bloque) {
+            this.xs = xs;
+            this.ys = ys;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.bloque = bloque;
+        }
+
+      /** Calcula la envolvente del rango de la tarea si es suficientemente
+        * pequeño, o la obtiene mezclando las de sus dos mitades en caso contrario
+        */
+        protected void compute() {
+            if (hasta - desde <= bloque) {
+                int orden[] = new int[hasta - desde];
+                for (int i=0; i<orden.length; i++)
+                    orden[i] = desde + i;
+                ordenar(xs, ys, orden, new int[orden.length], 0, orden.length);
+                vertices = verticesOrdenados(xs, ys, andrew(xs, ys, orden, orden.length));
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            Tarea izquierda = new Tarea(xs, ys, desde, medio, bloque);
+            Tarea derecha = new Tarea(xs, ys, medio, hasta, bloque);
+            invokeAll(izquierda, derecha);
+
+            int a[] = izquierda.vertices, b[] = derecha.vertices;
+            int union[] = new int[a.length + b.length];
+            int i = 0, j = 0;
+            for (int k=0; k<union.length; k++) {
+                if (j >= b.length || (i < a.length && !menor(xs, ys, b[j], a[i])))
+                    union[k] = a[i++];
+                else
+                    union[k] = b[j++];
+            }
+            vertices = verticesOrdenados(xs, ys, andrew(xs, ys, union, union.length));
+        }
+    }
+}
@@ -0,0 +1,596 @@
+/*
+ * EnvolventeDinamica2D.java
+ *
+ * Created on 17 de octubre de 2026, 22:55
+ */
+
+package JavaRG.Basica;
+
+import JavaRG.Mat;
+import JavaRG.Nucleo2D.*;
+
+/** Una envolvente dinámica mantiene la envolvente convexa de un conjunto de
+ * puntos que cambia con el tiempo: se pueden insertar y eliminar puntos sin
+ * recalcular la envolvente desde el principio.
+ * <br>
+ * Los puntos se guardan en las hojas de un árbol binario de búsqueda
+ * aleatorizado (treap), ordenados lexicográficamente. Cada nodo interno
+ * guarda los dos puentes entre sus hijos: los segmentos que unen la cadena
+ * superior (y la inferior) de la envolvente de los puntos de su hijo
+ * izquierdo con la de su hijo derecho. La envolvente de un nodo queda así
+ * representada de forma implícita, como en la estructura de Overmars y van
+ * Leeuwen: su cadena superior es la de su hijo izquierdo hasta el extremo
+ * izquierdo del puente, seguida de la de su hijo derecho desde el extremo
+ * derecho. El puente de un nodo se obtiene bajando por ambos hijos y
+ * utilizando sus puentes, sin recorrer sus puntos.
+ * <br>
+ * Insertar o eliminar un punto solo cambia los puentes de los nodos del
+ * camino entre su hoja y la raíz, que tiene una longitud esperada O(log n), y
+ * cada puente se calcula con coste O(log n), por lo que el coste de cada
+ * operación es O(log^2 n). La envolvente se obtiene como un polígono de solo
+ * lectura recorriendo los puentes, con coste O(h log n), y se guarda hasta la
+ * siguiente modificación.
+ * <br>
+ * Los puntos se identifican por el entero que devuelve su inserción. Varios
+ * puntos pueden tener las mismas coordenadas. Todas las comparaciones se
+ * realizan con predicados exactos, y los puntos alineados en un lado de la
+ * envolvente no se consideran vértices
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see EnvolventeConvexa2D
+ * @see PoligonoInmutable2D
+ */
+public class EnvolventeDinamica2D extends Object {
+
+  /**
+    * Valor que indica la ausencia de nodo o de punto
+    */
+    public static final int NINGUNO = -1;
+
+  /**
+    * Capacidad inicial de los arrays de nodos y de puntos
+    */
+    private static final int capacidadInicial = 16;
+  /**
+    * Cadena superior de la envolvente
+    */
+    private static final int SUPERIOR = 1;
+  /**
+    * Cadena inferior de la envolvente
+    */
+    private static final int INFERIOR = -1;
+
+  /**
+    * Hijos y padre de cada nodo
+    */
+    private int izquierdo[], derecho[], padre[];
+  /**
+    * Prioridad de cada nodo interno. La raíz de cada subárbol es el nodo con
+    * menor prioridad
+    */
+    private int prioridad[];
+  /**
+    * Coordenadas del punto de cada hoja
+    */
+    private double nx[], ny[];
+  /**
+    * Número de puntos insertados con las coordenadas de cada hoja, o 0 si el
+    * nodo es interno
+    */
+    private int repeticiones[];
+  /**
+    * Hoja con el menor punto del subárbol de cada nodo
+    */
+    private int minimo[];
+  /**
+    * Extremos izquierdo y derecho del puente superior y del inferior de cada
+    * nodo interno (hojas de sus hijos izquierdo y derecho respectivamente)
+    */
+    private int superiorIzquierdo[], superiorDerecho[], inferiorIzquierdo[], inferiorDerecho[];
+  /**
+    * Nodos libres, enlazados a través del array padre
+    */
+    private int primerNodoLibre;
+  /**
+    * Número de nodos utilizados alguna vez
+    */
+    private int numNodos;
+  /**
+    * Raíz del árbol
+    */
+    private int raiz;
+  /**
+    * Hoja de cada identificador de punto, o NINGUNO si está libre
+    */
+    private int hojaPunto[];
+  /**
+    * Identificadores libres, enlazados a través del array hojaPunto
+    * (codificados como -2-siguiente)
+    */
+    private int primerPuntoLibre;
+  /**
+    * Número de identificadores utilizados alguna vez
+    */
+    private int numIdentificadores;
+  /**
+    * Número de puntos del conjunto
+    */
+    private int numPuntos;
+  /**
+    * Estado del generador de prioridades
+    */
+    private int semilla;
+  /**
+    * Envolvente calculada desde la última modificación, o null
+    */
+    private Poligono2D envolvente;
+  /**
+    * Vértices de la envolvente calculados desde la última modificación, o
+    * null
+    */
+    private int vertices[];
+
+  /** Constructor por defecto. Crea una envolvente dinámica sin puntos
+    * @return una envolvente dinámica vacía
+    */
+    public EnvolventeDinamica2D() {
+        int c = capacidadInicial;
+        izquierdo = new int[c]; derecho = new int[c]; padre = new int[c];
+        prioridad = new int[c]; repeticiones = new int[c]; minimo = new int[c];
+        nx = new double[c]; ny = new double[c];
+        superiorIzquierdo = new int[c]; superiorDerecho = new int[c];
+        inferiorIzquierdo = new int[c]; inferiorDerecho = new int[c];
+        hojaPunto = new int[c];
+        raiz = NINGUNO;
+        primerNodoLibre = NINGUNO;
+        primerPuntoLibre = NINGUNO;
+        semilla = 0x2545F491;
+    }
+
+  /** Inserta un punto en el conjunto
+    * @param x coordenada cartesiana x del punto
+    * @param y coordenada cartesiana y del punto
+    * @return el identificador del punto, que permite eliminarlo después
+    */
+    public int insertar(double x, double y) {
+        int hoja = buscarHoja(x, y);
+        if (hoja != NINGUNO && nx[hoja] == x && ny[hoja] == y)
+            repeticiones[hoja]++;
+        else
+            hoja = insertarHoja(hoja, x, y);
+
+        int identificador = nuevoIdentificador();
+        hojaPunto[identificador] = hoja;
+        numPuntos++;
+        return identificador;
+    }
+
+  /** Inserta un punto en el conjunto
+    * @param punto punto a insertar
+    * @return el identificador del punto, que permite eliminarlo después
+    * @see EnvolventeDinamica2D#insertar(double, double)
+    */
+    public int insertar(Punto2D punto) {
+        return insertar(punto.x(), punto.y());
+    }
+
+  /** Elimina un punto del conjunto
+    * @param identificador identificador que devolvió la inserción del punto
+    * @exception GeomException si el identificador no corresponde a ningún
+    * punto del conjunto
+    */
+    public void eliminar(int identificador) throws GeomException {
+        if (identificador < 0 || identificador >= numIdentificadores || hojaPunto[identificador] < 0)
+            throw new GeomException("eliminar (int): el identificador no corresponde a ningún punto");
+
+        int hoja = hojaPunto[identificador];
+        hojaPunto[identificador] = -2 - primerPuntoLibre;
+        primerPuntoLibre = identificador;
+        numPuntos--;
+        if (--repeticiones[hoja] == 0)
+            eliminarHoja(hoja);
+    }
+
+  /** Obtiene el número de puntos del conjunto, incluyendo los repetidos
+    * @return el número de puntos
+    */
+    public int numPuntos() {
+        return numPuntos;
+    }
+
+  /** Obtiene el número de vértices de la envolvente actual
+    * @return el número de vértices de la envolvente
+    */
+    public int numVertices() {
+        return vertices().length;
+    }
+
+  /** Obtiene la envolvente actual como un polígono de solo lectura, en sentido
+    * antihorario y comenzando por el punto lexicográficamente menor. El
+    * polígono corresponde al estado del conjunto en el momento de obtenerlo, y
+    * se reutiliza mientras el conjunto no cambie
+    * @return un polígono convexo de solo lectura con los vértices de la
+    * envolvente
+    * @exception GeomException si la envolvente tiene menos de tres vértices
+    * @see PoligonoInmutable2D
+    */
+    public Poligono2D envolvente() throws GeomException {
+        if (envolvente == null) {
+            int hojas[] = vertices();
+            if (hojas.length < 3)
+                throw new GeomException("envolvente (): la envolvente tiene menos de tres vértices");
+            double xs[] = new double[hojas.length];
+            double ys[] = new double[hojas.length];
+            for (int i=0; i<hojas.length; i++) {
+                xs[i] = nx[hojas[i]];
+                ys[i] = ny[hojas[i]];
+            }
+            envolvente = new PoligonoInmutable2D(xs, ys);
+        }
+        return envolvente;
+    }
+
+  /** Obtiene las hojas de los vértices de la envolvente en sentido
+    * antihorario: la cadena inferior de izquierda a derecha y después la
+    * superior de derecha a izquierda
+    */
+    private int[] vertices() {
+        if (vertices != null)
+            return vertices;
+        if (raiz == NINGUNO)
+            return vertices = new int[0];
+
+        int primera = minimo[raiz], ultima = maximo(raiz);
+        int numInferior[] = { 0 }, numSuperior[] = { 0 };
+        int inferior[] = cadena(raiz, INFERIOR, primera, ultima, new int[8], numInferior);
+        int superior[] = cadena(raiz, SUPERIOR, primera, ultima, new int[8], numSuperior);
+
+        // La cadena superior se recorre al revés y sin sus extremos, que ya
+        // están en la inferior
+        int h = numInferior[0] + Math.max(0, numSuperior[0] - 2);
+        vertices = new int[h];
+        System.arraycopy(inferior, 0, vertices, 0, numInferior[0]);
+        for (int i=numSuperior[0]-2, k=numInferior[0]; i>=1; i--)
+            vertices[k++] = superior[i];
+        return vertices;
+    }
+
+  /** Añade a un array los vértices de una cadena de la envolvente de un nodo
+    * comprendidos entre dos de ellos, de izquierda a derecha
+    * @param contador número de elementos del array, que se actualiza
+    * @return el array, que se amplía si es necesario
+    */
+    private int[] cadena(int nodo, int cadena, int desde, int hasta, int salida[], int contador[]) {
+        if (repeticiones[nodo] > 0) {
+            if (contador[0] == salida.length)
+                salida = ampliar(salida, 2 * salida.length);
+            salida[contador[0]++] = nodo;
+            return salida;
+        }
+        // Del hijo izquierdo se toma la cadena hasta el extremo izquierdo del
+        // puente, y del derecho desde el extremo derecho
+        int a = cadena == SUPERIOR ? superiorIzquierdo[nodo] : inferiorIzquierdo[nodo];
+        int b = cadena == SUPERIOR ? superiorDerecho[nodo] : inferiorDerecho[nodo];
+        int hastaIzquierdo = menor(a, hasta) ? a : hasta;
+        if (!menor(hastaIzquierdo, desde))
+            salida = cadena(izquierdo[nodo], cadena, desde, hastaIzquierdo, salida, contador);
+        int desdeDerecho = menor(desde, b) ? b : desde;
+        if (!menor(hasta, desdeDerecho))
+            salida = cadena(derecho[nodo], cadena, desdeDerecho, hasta, salida, contador);
+        return salida;
+    }
+
+  /** Busca la hoja junto a la que debería colocarse un punto: la hoja con
+    * sus mismas coordenadas si existe
+    */
+    private int buscarHoja(double x, double y) {
+        int nodo = raiz;
+        if (nodo == NINGUNO) return NINGUNO;
+        while (repeticiones[nodo] == 0) {
+            int separador = minimo[derecho[nodo]];
+            if (x < nx[separador] || (x == nx[separador] && y < ny[separador]))
+                nodo = izquierdo[nodo];
+            else
+                nodo = derecho[nodo];
+        }
+        return nodo;
+    }
+
+  /** Crea una hoja para un punto nuevo junto a una hoja existente, y
+    * actualiza los puentes de sus antecesores
+    * @return la nueva hoja
+    */
+    private int insertarHoja(int vecina, double x, double y) {
+        int hoja = nuevoNodo();
+        nx[hoja] = x;
+        ny[hoja] = y;
+        repeticiones[hoja] = 1;
+        minimo[hoja] = hoja;
+        padre[hoja] = NINGUNO;
+        if (vecina == NINGUNO) {
+            raiz = hoja;
+            modificado();
+            return hoja;
+        }
+
+        // La vecina se sustituye por un nodo interno con ambas hojas
+        int nodo = nuevoNodo();
+        repeticiones[nodo] = 0;
+        prioridad[nodo] = siguientePrioridad();
+        reemplazar(vecina, nodo);
+        if (menor(hoja, vecina)) {
+            izquierdo[nodo] = hoja;
+            derecho[nodo] = vecina;
+        } else {
+            izquierdo[nodo] = vecina;
+            derecho[nodo] = hoja;
+        }
+        padre[hoja] = nodo;
+        padre[vecina] = nodo;
+
+        while (padre[nodo] != NINGUNO && prioridad[nodo] < prioridad[padre[nodo]])
+            subir(nodo);
+        actualizarHastaRaiz(nodo);
+        return hoja;
+    }
+
+  /** Elimina una hoja, sustituyendo a su padre por su hermana, y actualiza
+    * los puentes de sus antecesores
+    */
+    private void eliminarHoja(int hoja) {
+        int nodo = padre[hoja];
+        liberarNodo(hoja);
+        if (nodo == NINGUNO) {
+            raiz = NINGUNO;
+            modificado();
+            return;
+        }
+        int hermana = izquierdo[nodo] == hoja ? derecho[nodo] : izquierdo[nodo];
+        int abuelo = padre[nodo];
+        reemplazar(nodo, hermana);
+        liberarNodo(nodo);
+        actualizarHastaRaiz(abuelo);
+    }
+
+  /** Sube un nodo interno un nivel mediante una rotación con su padre, que
+    * pasa a ser su hijo y se actualiza
+    */
+    private void subir(int nodo) {
+        int p = padre[nodo];
+        reemplazar(p, nodo);
+        if (izquierdo[p] == nodo) {
+            int medio = derecho[nodo];
+            izquierdo[p] = medio;
+            padre[medio] = p;
+            derecho[nodo] = p;
+        } else {
+            int medio = izquierdo[nodo];
+            derecho[p] = medio;
+            padre[medio] = p;
+            izquierdo[nodo] = p;
+        }
+        padre[p] = nodo;
+        actualizar(p);
+    }
+
+  /** Coloca un nodo en el lugar que ocupaba otro en el árbol
+    */
+    private void reemplazar(int anterior, int nuevo) {
+        int p = padre[anterior];
+        padre[nuevo] = p;
+        if (p == NINGUNO)
+            raiz = nuevo;
+        else if (izquierdo[p] == anterior)
+            izquierdo[p] = nuevo;
+        else
+            derecho[p] = nuevo;
+    }
+
+  /** Actualiza los puentes de un nodo y de todos sus antecesores
+    */
+    private void actualizarHastaRaiz(int nodo) {
+        for (; nodo != NINGUNO; nodo = padre[nodo])
+            actualizar(nodo);
+        modificado();
+    }
+
+  /** Recalcula el menor punto y los puentes de un nodo interno a partir de
+    * sus hijos
+    */
+    private void actualizar(int nodo) {
+        minimo[nodo] = minimo[izquierdo[nodo]];
+        int puente[] = { 0, 0 };
+        calcularPuente(nodo, SUPERIOR, puente);
+        superiorIzquierdo[nodo] = puente[0];
+        superiorDerecho[nodo] = puente[1];
+        calcularPuente(nodo, INFERIOR, puente);
+        inferiorIzquierdo[nodo] = puente[0];
+        inferiorDerecho[nodo] = puente[1];
+    }
+
+  /** Calcula el puente de una cadena entre los hijos de un nodo, bajando a
+    * la vez por ambos hijos como en el algoritmo de Overmars y van Leeuwen.
+    * En cada paso se compara el puente del nodo actual de la izquierda (a, b)
+    * con el del nodo actual de la derecha (c, d). Si c o d no quedan por
+    * debajo de la recta ab, el extremo izquierdo del puente buscado está en
+    * el hijo izquierdo del nodo actual de la izquierda; si a o b no quedan
+    * por debajo de la recta cd, el extremo derecho está en el hijo derecho
+    * del nodo actual de la derecha. En el caso restante se decide según la
+    * posición del corte de ambas rectas respecto a la vertical que separa los
+    * hijos del nodo
+    * @param puente array en el que se guardan las hojas de los extremos
+    */
+    private void calcularPuente(int nodo, int cadena, int puente[]) {
+        int x = izquierdo[nodo], y = derecho[nodo];
+        int separador = minimo[y], ultimoIzquierdo = maximo(x);
+        while (repeticiones[x] == 0 || repeticiones[y] == 0) {
+            boolean hojaX = repeticiones[x] > 0, hojaY = repeticiones[y] > 0;
+            int a = x, b = x, c = y, d = y;
+            if (!hojaX) {
+                a = cadena == SUPERIOR ? superiorIzquierdo[x] : inferiorIzquierdo[x];
+                b = cadena == SUPERIOR ? superiorDerecho[x] : inferiorDerecho[x];
+            }
+            if (!hojaY) {
+                c = cadena == SUPERIOR ? superiorIzquierdo[y] : inferiorIzquierdo[y];
+                d = cadena == SUPERIOR ? superiorDerecho[y] : inferiorDerecho[y];
+            }
+            if (!hojaX && (cadena * orientacion(a, b, c) != Mat.HORARIO ||
+                           cadena * orientacion(a, b, d) != Mat.HORARIO))
+                x = izquierdo[x];
+            else if (!hojaY && (cadena * orientacion(c, d, a) != Mat.HORARIO ||
+                                cadena * orientacion(c, d, b) != Mat.HORARIO))
+                y = derecho[y];
+            else if (hojaX)
+                y = izquierdo[y];
+            else if (hojaY)
+                x = derecho[x];
+            else {
+                // Las rectas ab y cd se cortan entre b y c. Si el corte queda a
+                // la izquierda de la vertical que separa ambos hijos, el
+                // extremo izquierdo del puente no puede estar antes de b, y si
+                // queda a la derecha, el derecho no puede estar después de c.
+                // Los lados verticales solo aparecen en los extremos de las
+                // cadenas, y su extremo superior pertenece al puente salvo que
+                // el otro hijo tenga puntos en la misma vertical
+                if (nx[a] == nx[b]) {
+                    if (nx[separador] == nx[a])
+                        x = izquierdo[x];
+                    else
+                        x = derecho[x];
+                }
+                else if (nx[c] == nx[d]) {
+                    if (nx[ultimoIzquierdo] == nx[c])
+                        y = derecho[y];
+                    else
+                        y = izquierdo[y];
+                }
+                else {
+                    int comparacion = cadena * PredicadosExactos2D.comparaRectas(nx[a], ny[a], nx[b], ny[b],
+                                                                                 nx[c], ny[c], nx[d], ny[d],
+                                                                                 nx[separador]);
+                    if (comparacion > 0)
+                        x = derecho[x];
+                    else if (comparacion < 0)
+                        y = izquierdo[y];
+                    else if (cadena * orientacion(b, tangente(b, y, cadena), a) != Mat.HORARIO)
+                        x = izquierdo[x];
+                    else
+                        x = derecho[x];
+                }
+            }
+        }
+        puente[0] = x;
+        puente[1] = y;
+    }
+
+  /** Obtiene el punto de tangencia desde una hoja a una cadena de la
+    * envolvente de un subárbol cuyos puntos son todos mayores que ella: el
+    * punto de la cadena tal que el resto de puntos del subárbol quedan por
+    * debajo (o por encima, en la cadena inferior) de la recta que lo une con
+    * la hoja. Si hay varios alineados se toma el más lejano
+    */
+    private int tangente(int p, int nodo, int cadena) {
+        while (repeticiones[nodo] == 0) {
+            int c = cadena == SUPERIOR ? superiorIzquierdo[nodo] : inferiorIzquierdo[nodo];
+            int d = cadena == SUPERIOR ? superiorDerecho[nodo] : inferiorDerecho[nodo];
+            if (cadena * orientacion(p, c, d) != Mat.HORARIO)
+                nodo = derecho[nodo];
+            else
+                nodo = izquierdo[nodo];
+        }
+        return nodo;
+    }
+
+  /** Obtiene la hoja con el mayor punto del subárbol de un nodo
+    */
+    private int maximo(int nodo) {
+        while (repeticiones[nodo] == 0)
+            nodo = derecho[nodo];
+        return nodo;
+    }
+
+  /** Descarta la envolvente calculada tras una modificación
+    */
+    private void modificado() {
+        envolvente = null;
+        vertices = null;
+    }
+
+  /** Obtiene un nodo libre, ampliando los arrays si es necesario
+    */
+    private int nuevoNodo() {
+        if (primerNodoLibre != NINGUNO) {
+            int nodo = primerNodoLibre;
+            primerNodoLibre = padre[nodo];
+            return nodo;
+        }
+        if (numNodos == izquierdo.length) {
+            int c = 2 * numNodos;
+            izquierdo = ampliar(izquierdo, c); derecho = ampliar(derecho, c);
+            padre = ampliar(padre, c); prioridad = ampliar(prioridad, c);
+            repeticiones = ampliar(repeticiones, c); minimo = ampliar(minimo, c);
+            superiorIzquierdo = ampliar(superiorIzquierdo, c);
+            superiorDerecho = ampliar(superiorDerecho, c);
+            inferiorIzquierdo = ampliar(inferiorIzquierdo, c);
+            inferiorDerecho = ampliar(inferiorDerecho, c);
+            double x[] = new double[c], y[] = new double[c];
+            System.arraycopy(nx, 0, x, 0, numNodos);
+            System.arraycopy(ny, 0, y, 0, numNodos);
+            nx = x;
+            ny = y;
+        }
+        return numNodos++;
+    }
+
+  /** Añade un nodo a la lista de nodos libres
+    */
+    private void liberarNodo(int nodo) {
+        repeticiones[nodo] = 0;
+        padre[nodo] = primerNodoLibre;
+        primerNodoLibre = nodo;
+    }
+
+  /** Obtiene un identificador de punto libre
+    */
+    private int nuevoIdentificador() {
+        if (primerPuntoLibre != NINGUNO) {
+            int identificador = primerPuntoLibre;
+            primerPuntoLibre = -2 - hojaPunto[identificador];
+            return identificador;
+        }
+        if (numIdentificadores == hojaPunto.length)
+            hojaPunto = ampliar(hojaPunto, 2 * numIdentificadores);
+        return numIdentificadores++;
+    }
+
+  /** Copia un array de enteros en otro de mayor capacidad
+    */
+    private static int[] ampliar(int array[], int capacidad) {
+        int nuevo[] = new int[capacidad];
+        System.arraycopy(array, 0, nuevo, 0, array.length);
+        return nuevo;
+    }
+
+  /** Determina si el punto de la hoja i es lexicográficamente menor que el de
+    * la hoja j
+    */
+    private boolean menor(int i, int j) {
+        return nx[i] < nx[j] || (nx[i] == nx[j] && ny[i] < ny[j]);
+    }
+
+  /** Obtiene la orientación de los puntos de tres hojas con el predicado exacto
+    */
+    private int orientacion(int a, int b, int c) {
+        return PredicadosExactos2D.orientacion(nx[a], ny[a], nx[b], ny[b], nx[c], ny[c]);
+    }
+
+  /** Genera la prioridad de un nuevo nodo (xorshift de 32 bits)
+    */
+    private int siguientePrioridad() {
+        semilla ^= semilla << 13;
+        semilla ^= semilla >>> 17;
+        semilla ^= semilla << 5;
+        return semilla;
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * InterseccionConvexa2D.java
+ *
+ * Created on 18 de octubre de 2026, 4:05
+ */
+
+package JavaRG.Basica;
+
+import JavaRG.Mat;
+import JavaRG.Nucleo2D.*;
+
+/** La clase <code>InterseccionConvexa2D</code> reúne dos operaciones entre
+ * polígonos convexos con coste lineal, O(n + m), mucho más ligeras que las
+ * operaciones booleanas generales:
+ * <ul>
+ * <li>La intersección de los dos polígonos, con el algoritmo de O'Rourke,
+ * Chien, Olson y Naddor. Se recorren a la vez los lados de ambos polígonos,
+ * avanzando en cada paso el lado que "persigue" al otro, y se guardan los
+ * puntos de corte y los vértices de la cadena que queda dentro del otro
+ * polígono. En menos de dos vueltas a cada polígono se obtiene la
+ * intersección completa. Si los bordes no se cortan, uno de los polígonos
+ * contiene al otro o ambos son disjuntos</li>
+ * <li>La comprobación de solape mediante ejes separadores: dos polígonos
+ * convexos no tienen puntos interiores en común si, y solo si, uno de ellos
+ * queda a un lado de la recta de algún lado del otro. Para cada lado basta
+ * con el vértice del otro polígono más adentrado, que avanza en el mismo
+ * sentido que los lados, como en los calibres giratorios, por lo que no se
+ * proyectan todos los vértices sobre cada eje</li>
+ * </ul>
+ * Ambas operaciones trabajan directamente sobre los arrays de coordenadas, en
+ * cualquier sentido, y no crean ningún objeto, de forma que pueden repetirse
+ * muchas veces sin coste de memoria. Las posiciones de los vértices respecto
+ * a los lados se deciden con el predicado exacto de orientación. Los
+ * polígonos deben ser convexos y no tener vértices repetidos, pero no se
+ * comprueba
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see Poligono2D#interseccionConvexa(Poligono2D)
+ * @see Poligono2D#solapaConvexo(Poligono2D)
+ * @see OperacionesBooleanas2D
+ */
+public class InterseccionConvexa2D extends Object {
+
+  /**
+    * Estado del recorrido: no se sabe qué cadena está dentro, o está dentro
+    * la del primer o la del segundo polígono
+    */
+    private static final int desconocido = 0;
+    private static final int dentroPrimero = 1;
+    private static final int dentroSegundo = 2;
+
+  /** Determina si dos polígonos convexos tienen puntos interiores en común.
+    * Los polígonos que solo se tocan en su borde no se solapan
+    * @param ax coordenadas cartesianas x de los vértices del primer polígono
+    * @param ay coordenadas cartesianas y de los vértices del primer polígono
+    * @param n número de vértices del primer polígono
+    * @param sentidoA sentido del primer polígono (Mat.ANTIHORARIO o
+    * Mat.HORARIO)
+    * @param bx coordenadas cartesianas x de los vértices del segundo polígono
+    * @param by coordenadas cartesianas y de los vértices del segundo polígono
+    * @param m número de vértices del segundo polígono
+    * @param sentidoB sentido del segundo polígono
+    * @return un valor booleano indicando si los polígonos se solapan
+    */
+    public static boolean seSolapan(double ax[], double ay[], int n, int sentidoA,
+                                    double bx[], double by[], int m, int sentidoB) {
+        return !separa(ax, ay, n, sentidoA == Mat.ANTIHORARIO, bx, by, m, sentidoB == Mat.ANTIHORARIO) &&
+               !separa(bx, by, m, sentidoB == Mat.ANTIHORARIO, ax, ay, n, sentidoA == Mat.ANTIHORARIO);
+    }
+
+  /** Calcula la intersección de dos polígonos convexos
+    * @param ax coordenadas cartesianas x de los vértices del primer polígono
+    * @param ay coordenadas cartesianas y de los vértices del primer polígono
+    * @param n número de vértices del primer polígono
+    * @param sentidoA sentido del primer polígono (Mat.ANTIHORARIO o
+    * Mat.HORARIO)
+    * @param bx coordenadas cartesianas x de los vértices del segundo polígono
+    * @param by coordenadas cartesianas y de los vértices del segundo polígono
+    * @param m número de vértices del segundo polígono
+    * @param sentidoB sentido del segundo polígono
+    * @param rx array en el que se guardan las coordenadas x de los vértices de
+    * la intersección, de longitud 2(n + m) como mínimo
+    * @param ry array en el que se guardan las coordenadas y de los vértices de
+    * la intersección, de la misma longitud
+    * @return el número de vértices de la intersección, en sentido antihorario
+    * y sin vértices alineados, o 0 si los polígonos no tienen puntos
+    * interiores en común
+    */
+    public static int interseccion(double ax[], double ay[], int n, int sentidoA,
+                                   double bx[], double by[], int m, int sentidoB,
+                                   double rx[], double ry[]) {
+        boolean antihorarioA = sentidoA == Mat.ANTIHORARIO;
+        boolean antihorarioB = sentidoB == Mat.ANTIHORARIO;
+        int a = 0, b = 0, avancesA = 0, avancesB = 0, k = 0;
+        int dentro = desconocido;
+        boolean primero = true;
+        do {
+            int ia1 = indice((a + n - 1) % n, n, antihorarioA), ia = indice(a, n, antihorarioA);
+            int ib1 = indice((b + m - 1) % m, m, antihorarioB), ib = indice(b, m, antihorarioB);
+            double ux = ax[ia] - ax[ia1], uy = ay[ia] - ay[ia1];
+            double vx = bx[ib] - bx[ib1], vy = by[ib] - by[ib1];
+            double producto = ux*vy - uy*vx;
+            int cruce = (producto > 0) ? 1 : ((producto < 0) ? -1 : 0);
+            // Posición del vértice a respecto al lado de b y viceversa
+            int aLadoB = PredicadosExactos2D.orientacion(bx[ib1], by[ib1], bx[ib], by[ib], ax[ia], ay[ia]);
+            int bLadoA = PredicadosExactos2D.orientacion(ax[ia1], ay[ia1], ax[ia], ay[ia], bx[ib], by[ib]);
+            int a1LadoB = PredicadosExactos2D.orientacion(bx[ib1], by[ib1], bx[ib], by[ib], ax[ia1], ay[ia1]);
+            int b1LadoA = PredicadosExactos2D.orientacion(ax[ia1], ay[ia1], ax[ia], ay[ia], bx[ib1], by[ib1]);
+
+            if (b1LadoA == Mat.COLINEAL && bLadoA == Mat.COLINEAL) {
+                // Lados colineales: si se solapan en sentidos opuestos la
+                // intersección se reduce a un segmento
+                if (ux*vx + uy*vy < 0 && solapanColineales(ax[ia1], ay[ia1], ax[ia], ay[ia],
+                                                           bx[ib1], by[ib1], bx[ib], by[ib]))
+                    return 0;
+            } else if (b1LadoA * bLadoA <= 0 && a1LadoB * aLadoB <= 0) {
+                // Los lados se cortan en un punto
+                double px, py;
+                if (b1LadoA == Mat.COLINEAL) {
+                    px = bx[ib1]; py = by[ib1];
+                } else if (bLadoA == Mat.COLINEAL) {
+                    px = bx[ib]; py = by[ib];
+                } else if (a1LadoB == Mat.COLINEAL) {
+                    px = ax[ia1]; py = ay[ia1];
+                } else if (aLadoB == Mat.COLINEAL) {
+                    px = ax[ia]; py = ay[ia];
+                } else {
+                    double t = ((bx[ib1] - ax[ia1])*vy - (by[ib1] - ay[ia1])*vx) / producto;
+                    px = ax[ia1] + t*ux;
+                    py = ay[ia1] + t*uy;
+                }
+                if (dentro == desconocido && primero) {
+                    // A partir del primer corte se dan dos vueltas completas
+                    avancesA = avancesB = 0;
+                    primero = false;
+                }
+                k = anadir(rx, ry, k, px, py);
+                if (aLadoB == Mat.ANTIHORARIO)
+                    dentro = dentroPrimero;
+                else if (bLadoA == Mat.ANTIHORARIO)
+                    dentro = dentroSegundo;
+            }
+
+            if (cruce == 0 && aLadoB == Mat.HORARIO && bLadoA == Mat.HORARIO)
+                // Lados paralelos, cada uno fuera del otro: son disjuntos
+                return 0;
+            boolean avanzarA;
+            if (cruce == 0 && aLadoB == Mat.COLINEAL && bLadoA == Mat.COLINEAL)
+                avanzarA = dentro != dentroPrimero;
+            else if (cruce >= 0)
+                avanzarA = bLadoA == Mat.ANTIHORARIO;
+            else
+                avanzarA = aLadoB != Mat.ANTIHORARIO;
+            if (avanzarA) {
+                if (dentro == dentroPrimero)
+                    k = anadir(rx, ry, k, ax[ia], ay[ia]);
+                a = (a + 1) % n;
+                avancesA++;
+            } else {
+                if (dentro == dentroSegundo)
+                    k = anadir(rx, ry, k, bx[ib], by[ib]);
+                b = (b + 1) % m;
+                avancesB++;
+            }
+        } while ((avancesA < n || avancesB < m) && avancesA < 2*n && avancesB < 2*m);
+
+        if (dentro == desconocido) {
+            // Los bordes no se cruzan: o un polígono contiene al otro, o son
+            // disjuntos o solo se tocan
+            k = 0;
+            if (contiene(bx, by, m, antihorarioB, ax, ay, n, antihorarioA)) {
+                for (int i=0; i<n; i++)
+                    k = anadir(rx, ry, k, ax[indice(i, n, antihorarioA)], ay[indice(i, n, antihorarioA)]);
+            } else if (contiene(ax, ay, n, antihorarioA, bx, by, m, antihorarioB)) {
+                for (int i=0; i<m; i++)
+                    k = anadir(rx, ry, k, bx[indice(i, m, antihorarioB)], by[indice(i, m, antihorarioB)]);
+            } else
+                return 0;
+        }
+        return cerrar(rx, ry, k);
+    }
+
+  /** Obtiene la posición en los arrays del vértice k-ésimo de un polígono en
+    * sentido antihorario
+    */
+    private static int indice(int k, int n, boolean antihorario) {
+        return antihorario ? k : n-1-k;
+    }
+
+  /** Determina si todo el segundo polígono queda fuera del primero (o sobre
+    * su borde) respecto a la recta de alguno de los lados del primero
+    */
+    private static boolean separa(double ax[], double ay[], int n, boolean antihorarioA,
+                                  double bx[], double by[], int m, boolean antihorarioB) {
+        int j = 0;
+        for (int i=0; i<n; i++) {
+            int ia = indice(i, n, antihorarioA), ib = indice((i + 1) % n, n, antihorarioA);
+            j = extremo(ax[ib] - ax[ia], ay[ib] - ay[ia], bx, by, m, antihorarioB, j, i == 0, 1);
+            if (!alcanza(ax[ia], ay[ia], ax[ib], ay[ib], bx, by, m, antihorarioB, j, Mat.ANTIHORARIO))
+                return true;
+        }
+        return false;
+    }
+
+  /** Determina si el primer polígono contiene al segundo, es decir, si
+    * ningún vértice del segundo queda a la derecha de los lados del primero
+    */
+    private static boolean contiene(double ax[], double ay[], int n, boolean antihorarioA,
+                                    double bx[], double by[], int m, boolean antihorarioB) {
+        int j = 0;
+        for (int i=0; i<n; i++) {
+            int ia = indice(i, n, antihorarioA), ib = indice((i + 1) % n, n, antihorarioA);
+            j = extremo(ax[ib] - ax[ia], ay[ib] - ay[ia], bx, by, m, antihorarioB, j, i == 0, -1);
+            if (alcanza(ax[ia], ay[ia], ax[ib], ay[ib], bx, by, m, antihorarioB, j, Mat.HORARIO))
+                return false;
+        }
+        return true;
+    }
+
+  /** Busca el vértice de un polígono más adentrado en el semiplano a la
+    * izquierda de una dirección (signo 1) o más alejado de él (signo -1).
+    * La primera vez se recorren todos los vértices; después, como las
+    * direcciones giran en sentido antihorario, basta con avanzar desde el
+    * vértice anterior mientras el siguiente sea mejor
+    * @return la posición del vértice, en sentido antihorario
+    */
+    private static int extremo(double ux, double uy, double xs[], double ys[], int m,
+                               boolean antihorario, int j, boolean todos, int signo) {
+        if (todos) {
+            for (int k=1; k<m; k++)
+                if (signo * adentrado(xs, ys, m, antihorario, k, ux, uy) >
+                    signo * adentrado(xs, ys, m, antihorario, j, ux, uy))
+                    j = k;
+        } else {
+            while (signo * adentrado(xs, ys, m, antihorario, (j + 1) % m, ux, uy) >
+                   signo * adentrado(xs, ys, m, antihorario, j, ux, uy))
+                j = (j + 1) % m;
+        }
+        return j;
+    }
+
+  /** Determina si el vértice encontrado por <code>extremo</code>, o alguno de
+    * sus vecinos, tiene la orientación indicada respecto a un lado. Se
+    * comprueban de forma exacta también los vecinos, por si el redondeo ha
+    * detenido antes la búsqueda
+    */
+    private static boolean alcanza(double ax, double ay, double bx, double by,
+                                   double xs[], double ys[], int m, boolean antihorario, int j,
+                                   int orientacion) {
+        for (int d=m-1; d<=m+1; d++) {
+            int v = indice((j + d) % m, m, antihorario);
+            if (PredicadosExactos2D.orientacion(ax, ay, bx, by, xs[v], ys[v]) == orientacion)
+                return true;
+        }
+        return false;
+    }
+
+  /** Calcula cuánto se adentra un vértice (el k-ésimo en sentido antihorario)
+    * en el semiplano a la izquierda de una dirección
+    */
+    private static double adentrado(double xs[], double ys[], int n, boolean antihorario, int k,
+                                    double ux, double uy) {
+        int v = indice(k, n, antihorario);
+        return ux*ys[v] - uy*xs[v];
+    }
+
+  /** Determina si dos segmentos colineales comparten más de un punto
+    */
+    private static boolean solapanColineales(double ax, double ay, double bx, double by,
+                                             double cx, double cy, double dx, double dy) {
+        double ux = bx - ax, uy = by - ay;
+        double tc = (cx - ax)*ux + (cy - ay)*uy, td = (dx - ax)*ux + (dy - ay)*uy;
+        double longitud = ux*ux + uy*uy;
+        return Math.max(tc, td) > 0 && Math.min(tc, td) < longitud;
+    }
+
+  /** Añade un vértice al resultado, descartando los repetidos y retirando
+    * los anteriores que quedan alineados o no forman un giro a la izquierda
+    * @return el nuevo número de vértices
+    */
+    private static int anadir(double rx[], double ry[], int k, double x, double y) {
+        if (k > 0 && rx[k-1] == x && ry[k-1] == y)
+            return k;
+        while (k >= 2 && PredicadosExactos2D.orientacion(rx[k-2], ry[k-2], rx[k-1], ry[k-1], x, y) != Mat.ANTIHORARIO)
+            k--;
+        rx[k] = x;
+        ry[k] = y;
+        return k+1;
+    }
+
+  /** Cierra el resultado, eliminando los vértices finales iguales al primero
+    * y los alineados en torno al primer vértice
+    * @return el número final de vértices, o 0 si quedan menos de tres
+    */
+    private static int cerrar(double rx[], double ry[], int k) {
+        while (k > 1 && rx[k-1] == rx[0] && ry[k-1] == ry[0])
+            k--;
+        int inicio = 0;
+        boolean cambios = true;
+        while (cambios && k - inicio >= 3) {
+            cambios = false;
+            if (PredicadosExactos2D.orientacion(rx[k-2], ry[k-2], rx[k-1], ry[k-1],
+                                                rx[inicio], ry[inicio]) != Mat.ANTIHORARIO) {
+                k--;
+                cambios = true;
+            } else if (PredicadosExactos2D.orientacion(rx[k-1], ry[k-1], rx[inicio], ry[inicio],
+                                                       rx[inicio+1], ry[inicio+1]) != Mat.ANTIHORARIO) {
+                inicio++;
+                cambios = true;
+            }
+        }
+        if (k - inicio < 3)
+            return 0;
+        if (inicio > 0) {
+            System.arraycopy(rx, inicio, rx, 0, k - inicio);
+            System.arraycopy(ry, inicio, ry, 0, k - inicio);
+        }
+        return k - inicio;
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * JerarquiaAristas2D.java
+ *
+ * Created on 17 de octubre de 2026, 20:30
+ */
+
+package JavaRG.Basica;
+
+import JavaRG.Mat;
+import JavaRG.Nucleo2D.*;
+
+/** Una jerarquía de aristas es una estructura construida a partir de un
+ * polígono que permite obtener el punto del polígono más cercano a un punto
+ * dado sin recorrer todas sus aristas. Es útil cuando se realizan muchas
+ * consultas sobre un mismo polígono, ya que <code>Poligono2D.puntoMasCercano</code>
+ * recorre todas las aristas y crea varios objetos por cada una de ellas.
+ * <br>
+ * Se trata de una jerarquía de cajas envolventes: cada nodo guarda la caja
+ * que contiene a un grupo de aristas, y se divide en dos por la mediana de
+ * los centros de las aristas en el eje en que estos están más dispersos,
+ * hasta llegar a hojas de pocas aristas. Una consulta recorre la jerarquía
+ * visitando primero el hijo cuya caja está más cerca del punto, y descarta
+ * los nodos cuya caja está más lejos que la arista más cercana encontrada
+ * hasta el momento, por lo que en la práctica solo se visitan O(log n)
+ * nodos. Las consultas no crean ningún objeto y pueden realizarse desde varios
+ * hilos a la vez.
+ * <br>
+ * Como en <code>Poligono2D.puntoMasCercano</code>, si el polígono no es
+ * completo no se tiene en cuenta la arista entre el último vértice y el
+ * primero, y si solo tiene un vértice el punto más cercano es dicho vértice.
+ * La jerarquía es una copia: modificar después el polígono original no le
+ * afecta
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see Poligono2D#puntoMasCercano(Punto2D, Punto2D)
+ */
+public class JerarquiaAristas2D extends Object {
+
+  /**
+    * Número máximo de aristas en una hoja
+    */
+    private static final int aristasPorHoja = 4;
+
+  /**
+    * Extremos de cada arista
+    */
+    private double inicioX[], inicioY[], finX[], finY[];
+  /**
+    * Número de aristas
+    */
+    private int numAristas;
+  /**
+    * Índices de las aristas, ordenados de forma que las de cada nodo quedan
+    * consecutivas
+    */
+    private int orden[];
+  /**
+    * Caja envolvente de cada nodo
+    */
+    private double cajaXmin[], cajaYmin[], cajaXmax[], cajaYmax[];
+  /**
+    * Rango de posiciones de orden que abarca cada nodo
+    */
+    private int primeraArista[], ultimaArista[];
+  /**
+    * Hijo derecho de cada nodo interno, o -1 si el nodo es una hoja. El hijo
+    * izquierdo es siempre el nodo siguiente
+    */
+    private int hijoDerecho[];
+  /**
+    * Número de nodos
+    */
+    private int numNodos;
+
+  /** Constructor de la jerarquía de aristas de un polígono. La construcción
+    * tiene un coste O(n log n)
+    * @param poligono polígono a partir del cual se construye la jerarquía
+    * @return una nueva jerarquía con las aristas del polígono
+    * @exception GeomException si el polígono no tiene vértices
+    */
+    public JerarquiaAristas2D(Poligono2D poligono) throws GeomException {
+        int n = poligono.posiciones();
+        if (n == 0)
+            throw new GeomException("JerarquiaAristas2D (Poligono2D): el polígono debe tener al menos un vértice");
+
+        // Si solo hay un vértice se guarda como una arista degenerada
+        numAristas = (n == 1) ? 1 : (poligono.esCompleto() ? n : n-1);
+        inicioX = new double[numAristas]; inicioY = new double[numAristas];
+        finX = new double[numAristas]; finY = new double[numAristas];
+        for (int i=0; i<numAristas; i++) {
+            Punto2D inicio = poligono.vertice(i);
+            Punto2D fin = poligono.vertice(poligono.posicionSiguiente(i));
+            inicioX[i] = inicio.x(); inicioY[i] = inicio.y();
+            finX[i] = fin.x(); finY[i] = fin.y();
+        }
+
+        orden = new int[numAristas];
+        for (int i=0; i<numAristas; i++)
+            orden[i] = i;
+        // Al dividir por la mitad, cada hoja tiene al menos una arista
+        int capacidad = 2 * numAristas;
+        cajaXmin = new double[capacidad]; cajaYmin = new double[capacidad];
+        cajaXmax = new double[capacidad]; cajaYmax = new double[capacidad];
+        primeraArista = new int[capacidad];
+        ultimaArista = new int[capacidad];
+        hijoDerecho = new int[capacidad];
+        numNodos = 0;
+        construir(0, numAristas);
+    }
+
+  /** Obtiene la distancia del polígono a un punto, así como el punto del
+    * polígono más cercano a dicho punto
+    * @param px coordenada cartesiana x del punto
+    * @param py coordenada cartesiana y del punto
+    * @param cercano array en el que se guardan las coordenadas x e y del punto
+    * del polígono más cercano, o null si no se necesitan
+    * @return la distancia del polígono al punto
+    */
+    public double puntoMasCercano(double px, double py, double cercano[]) {
+        int arista = aristaMasCercana(px, py);
+        double t = parametroMasCercano(arista, px, py);
+        double x = inicioX[arista] + t * (finX[arista] - inicioX[arista]);
+        double y = inicioY[arista] + t * (finY[arista] - inicioY[arista]);
+        if (cercano != null) {
+            cercano[0] = x;
+            cercano[1] = y;
+        }
+        return Math.sqrt(Mat.cuadrado(px - x) + Mat.cuadrado(py - y));
+    }
+
+  /** Obtiene la distancia del polígono a un punto, así como el punto del
+    * polígono más cercano a dicho punto
+    * @param punto punto al que se desea obtener la distancia
+    * @param cercano punto del polígono más cercano al punto pasado como primer
+    * parámetro. Es un parámetro de SALIDA, y debe ser un punto ya creado
+    * @return la distancia del polígono al punto pasado como parámetro
+    * @exception GeomException si el punto pasado como segundo parámetro no es
+    * un punto ya creado
+    * @see JerarquiaAristas2D#puntoMasCercano(double, double, double[])
+    */
+    public double puntoMasCercano(Punto2D punto, Punto2D cercano) throws GeomException {
+        if (cercano == null)
+            throw new GeomException("puntoMasCercano (Punto2D, Punto2D): el segundo parámetro debe estar inicializado");
+
+        double px = punto.x(), py = punto.y();
+        int arista = aristaMasCercana(px, py);
+        double t = parametroMasCercano(arista, px, py);
+        double x = inicioX[arista] + t * (finX[arista] - inicioX[arista]);
+        double y = inicioY[arista] + t * (finY[arista] - inicioY[arista]);
+        cercano.trasladar(x - cercano.x(), y - cercano.y());
+        return Math.sqrt(Mat.cuadrado(px - x) + Mat.cuadrado(py - y));
+    }
+
+  /** Obtiene la distancia del polígono a un punto
+    * @param punto punto para el cual se desea obtener la distancia
+    * @return la distancia del polígono al punto
+    * @see JerarquiaAristas2D#puntoMasCercano(double, double, double[])
+    */
+    public double distancia(Punto2D punto) {
+        return puntoMasCercano(punto.x(), punto.y(), null);
+    }
+
+  /** Obtiene la arista del polígono más cercana a un punto
+    * @param px coordenada cartesiana x del punto
+    * @param py coordenada cartesiana y del punto
+    * @return el índice del vértice en el que comienza la arista más cercana
+    */
+    public int aristaMasCercana(double px, double py) {
+        return buscar(0, px, py, orden[0], distanciaCuadrado(orden[0], px, py));
+    }
+
+  /** Construye el nodo que abarca un rango de posiciones de orden y, si tiene
+    * demasiadas aristas, sus dos hijos
+    * @return el índice del nodo
+    */
+    private int construir(int desde, int hasta) {
+        int nodo = numNodos++;
+        primeraArista[nodo] = desde;
+        ultimaArista[nodo] = hasta;
+
+        // Caja de las aristas y de sus centros
+        double xmin = Double.POSITIVE_INFINITY, ymin = Double.POSITIVE_INFINITY;
+        double xmax = Double.NEGATIVE_INFINITY, ymax = Double.NEGATIVE_INFINITY;
+        double cxmin = Double.POSITIVE_INFINITY, cymin = Double.POSITIVE_INFINITY;
+        double cxmax = Double.NEGATIVE_INFINITY, cymax = Double.NEGATIVE_INFINITY;
+        for (int k=desde; k<hasta; k++) {
+            int a = orden[k];
+            xmin = Math.min(xmin, Math.min(inicioX[a], finX[a]));
+            ymin = Math.min(ymin, Math.min(inicioY[a], finY[a]));
+            xmax = Math.max(xmax, Math.max(inicioX[a], finX[a]));
+            ymax = Math.max(ymax, Math.max(inicioY[a], finY[a]));
+            double cx = centroX(a), cy = centroY(a);
+            cxmin = Math.min(cxmin, cx); cymin = Math.min(cymin, cy);
+            cxmax = Math.max(cxmax, cx); cymax = Math.max(cymax, cy);
+        }
+        cajaXmin[nodo] = xmin; cajaYmin[nodo] = ymin;
+        cajaXmax[nodo] = xmax; cajaYmax[nodo] = ymax;
+
+        if (hasta - desde <= aristasPorHoja) {
+            hijoDerecho[nodo] = -1;
+            return nodo;
+        }
+
+        int medio = (desde + hasta) >>> 1;
+        seleccionar(desde, hasta, medio, cxmax - cxmin >= cymax - cymin);
+        construir(desde, medio);
+        hijoDerecho[nodo] = construir(medio, hasta);
+        return nodo;
+    }
+
+  /** Reordena un rango de posiciones de orden de forma que la arista en la
+    * posición k es la que le corresponde por su centro en el eje indicado,
+    * las anteriores no tienen un centro mayor y las posteriores no lo tienen
+    * menor (selección rápida, con coste lineal esperado)
+    * @param ejeX indica si se ordena por la coordenada x de los centros o por
+    * la coordenada y
+    */
+    private void seleccionar(int desde, int hasta, int k, boolean ejeX) {
+        int izquierda = desde, derecha = hasta - 1;
+        while (izquierda < derecha) {
+            double pivote = clave(orden[(izquierda + derecha) >>> 1], ejeX);
+            int i = izquierda, j = derecha;
+            while (i <= j) {
+                while (clave(orden[i], ejeX) < pivote) i++;
+                while (clave(orden[j], ejeX) > pivote) j--;
+                if (i <= j) {
+                    int aux = orden[i]; orden[i] = orden[j]; orden[j] = aux;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j)
+                derecha = j;
+            else if (k >= i)
+                izquierda = i;
+            else
+                return;
+        }
+    }
+
+  /** Busca la arista más cercana a un punto en un nodo y sus descendientes,
+    * partiendo de la mejor arista encontrada hasta el momento
+    * @return la mejor arista encontrada
+    */
+    private int buscar(int nodo, double px, double py, int mejor, double mejorDistancia) {
+        int derecho = hijoDerecho[nodo];
+        if (derecho < 0) {
+            for (int k=primeraArista[nodo]; k<ultimaArista[nodo]; k++) {
+                int a = orden[k];
+                double distancia = distanciaCuadrado(a, px, py);
+                if (distancia < mejorDistancia) {
+                    mejor = a;
+                    mejorDistancia = distancia;
+                }
+            }
+            return mejor;
+        }
+
+        // Se visita primero el hijo más cercano, y el otro solo si su caja
+        // puede contener una arista más cercana que la mejor encontrada
+        int izquierdo = nodo + 1;
+        double distanciaIzquierdo = distanciaCaja(izquierdo, px, py);
+        double distanciaDerecho = distanciaCaja(derecho, px, py);
+        int primero = izquierdo, segundo = derecho;
+        double distanciaSegundo = distanciaDerecho;
+        if (distanciaDerecho < distanciaIzquierdo) {
+            primero = derecho;
+            segundo = izquierdo;
+            distanciaSegundo = distanciaIzquierdo;
+            distanciaIzquierdo = distanciaDerecho;
+        }
+
+        if (distanciaIzquierdo < mejorDistancia) {
+            mejor = buscar(primero, px, py, mejor, mejorDistancia);
+            mejorDistancia = distanciaCuadrado(mejor, px, py);
+        }
+        if (distanciaSegundo < mejorDistancia)
+            mejor = buscar(segundo, px, py, mejor, mejorDistancia);
+        return mejor;
+    }
+
+  /** Obtiene la distancia al cuadrado de un punto a la caja de un nodo, que
+    * es cero si el punto está dentro de la caja
+    */
+    private double distanciaCaja(int nodo, double px, double py) {
+        double dx = Math.max(0, Math.max(cajaXmin[nodo] - px, px - cajaXmax[nodo]));
+        double dy = Math.max(0, Math.max(cajaYmin[nodo] - py, py - cajaYmax[nodo]));
+        return dx*dx + dy*dy;
+    }
+
+  /** Obtiene la distancia al cuadrado de un punto a una arista
+    */
+    private double distanciaCuadrado(int arista, double px, double py) {
+        double t = parametroMasCercano(arista, px, py);
+        double x = inicioX[arista] + t * (finX[arista] - inicioX[arista]);
+        double y = inicioY[arista] + t * (finY[arista] - inicioY[arista]);
+        return Mat.cuadrado(px - x) + Mat.cuadrado(py - y);
+    }
+
+  /** Obtiene la posición, entre 0 (inicio) y 1 (fin), del punto de una arista
+    * más cercano a un punto dado: la proyección del punto sobre la recta de la
+    * arista, limitada a sus extremos
+    */
+    private double parametroMasCercano(int arista, double px, double py) {
+        double dx = finX[arista] - inicioX[arista];
+        double dy = finY[arista] - inicioY[arista];
+        double longitud = dx*dx + dy*dy;
+        if (longitud == 0)
+            return 0;
+        double t = ((px - inicioX[arista]) * dx + (py - inicioY[arista]) * dy) / longitud;
+        return Math.max(0, Math.min(1, t));
+    }
+
+  /** Obtiene la coordenada del centro de una arista en uno de los ejes
+    */
+    private double clave(int arista, boolean ejeX) {
+        return ejeX ? centroX(arista) : centroY(arista);
+    }
+
+  /** Obtiene la coordenada x del centro de una arista
+    */
+    private double centroX(int arista) {
+        return (inicioX[arista] + finX[arista]) / 2;
+    }
+
+  /** Obtiene la coordenada y del centro de una arista
+    */
+    private double centroY(int arista) {
+        return (inicioY[arista] + finY[arista]) / 2;
+    }
+}
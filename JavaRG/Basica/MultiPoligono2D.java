@@ -0,0 +1,251 @@
+/*
+ * MultiPoligono2D.java
+ *
+ * Created on 18 de octubre de 2026, 0:35
+ */
+
+package JavaRG.Basica;
+
+import JavaRG.Mat;
+import JavaRG.Nucleo2D.*;
+
+/** Un multipolígono es una región del plano formada por varios contornos
+ * cerrados, que puede tener varias partes separadas y huecos. Un punto
+ * pertenece a la región si está dentro de un número impar de contornos, o
+ * sobre alguno de ellos. Los multipolígonos que devuelven las operaciones
+ * booleanas tienen los contornos exteriores en sentido antihorario y los de
+ * los huecos en sentido horario, y sus contornos no se cortan.
+ * <br>
+ * Los contornos no se copian: el multipolígono guarda los propios polígonos,
+ * que no deben modificarse después
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see OperacionesBooleanas2D
+ * @see UnionCascada2D
+ */
+public class MultiPoligono2D extends ObjetoGeometrico {
+
+  /**
+    * Contornos de la región
+    */
+    private Poligono2D contornos[];
+
+  /** Constructor por defecto. Crea una región vacía
+    * @return un nuevo multipolígono sin contornos
+    */
+    public MultiPoligono2D() {
+        contornos = new Poligono2D[0];
+    }
+
+  /** Constructor a partir de los contornos de la región
+    * @param contornos contornos de la región. Se copia el array, pero no los
+    * polígonos
+    * @return un nuevo multipolígono con los contornos indicados
+    * @exception GeomException si alguno de los contornos no es completo
+    */
+    public MultiPoligono2D(Poligono2D contornos[]) throws GeomException {
+        for (int i=0; i<contornos.length; i++)
+            if (!contornos[i].esCompleto())
+                throw new GeomException("MultiPoligono2D (Poligono2D[]): los contornos deben ser completos");
+        this.contornos = new Poligono2D[contornos.length];
+        System.arraycopy(contornos, 0, this.contornos, 0, contornos.length);
+    }
+
+  /** Comprueba si el multipolígono es igual a otro objeto geométrico, es
+    * decir, si este es también un multipolígono y sus contornos son iguales y
+    * están en el mismo orden
+    * @param objeto objeto geométrico con el que se desea comparar
+    * @return un valor booleano indicando si ambos objetos son iguales
+    * @see Poligono2D#equals(ObjetoGeometrico)
+    */
+    public boolean equals(ObjetoGeometrico objeto) {
+        if (objeto == this)
+            return true;
+        if (!(objeto instanceof MultiPoligono2D))
+            return false;
+        MultiPoligono2D otro = (MultiPoligono2D) objeto;
+        if (contornos.length != otro.contornos.length)
+            return false;
+        for (int i=0; i<contornos.length; i++)
+            if (!contornos[i].equals(otro.contornos[i]))
+                return false;
+        return true;
+    }
+
+  /** Obtiene la distancia del borde del multipolígono a un punto
+    * @param punto punto para el cual se desea obtener la distancia
+    * @return la menor distancia de los contornos al punto, o Double.MAX_VALUE
+    * si no hay contornos
+    * @see Poligono2D#distancia(Punto2D)
+    */
+    public double distancia(Punto2D punto) {
+        double distancia = Double.MAX_VALUE;
+        for (int i=0; i<contornos.length; i++)
+            distancia = Math.min(distancia, contornos[i].distancia(punto));
+        return distancia;
+    }
+
+  /** Obtiene el número de contornos de la región
+    * @return el número de contornos
+    */
+    public int numContornos() {
+        return contornos.length;
+    }
+
+  /** Obtiene uno de los contornos de la región
+    * @param i índice del contorno
+    * @return el polígono del contorno
+    * @exception GeomException si el índice no se corresponde con ningún
+    * contorno
+    */
+    public Poligono2D contorno(int i) throws GeomException {
+        if (i < 0 || i >= contornos.length)
+            throw new GeomException("contorno (int): el índice no se corresponde con ningún contorno");
+        return contornos[i];
+    }
+
+  /** Obtiene una copia del array de contornos de la región
+    * @return un nuevo array con los contornos
+    */
+    public Poligono2D[] contornos() {
+        Poligono2D copia[] = new Poligono2D[contornos.length];
+        System.arraycopy(contornos, 0, copia, 0, contornos.length);
+        return copia;
+    }
+
+  /** Determina si la región no tiene ningún contorno
+    * @return un valor booleano indicando si la región está vacía
+    */
+    public boolean esVacio() {
+        return contornos.length == 0;
+    }
+
+  /** Calcula el área de la región, sumando las áreas con signo de sus
+    * contornos. Solo es correcta si los contornos exteriores están en
+    * sentido antihorario y los de los huecos en sentido horario, como en el
+    * resultado de las operaciones booleanas. El área de cada contorno se
+    * calcula aunque no sea simple (a diferencia de Poligono2D.area), ya que
+    * el redondeo puede dejar dos de sus vértices a una distancia mínima
+    * @return el área de la región
+    * @see Poligono2D#area()
+    */
+    public double area() {
+        double dobleArea = 0;
+        try {
+            for (int i=0; i<contornos.length; i++) {
+                int n = contornos[i].posiciones();
+                Punto2D p = contornos[i].vertice(n-1);
+                for (int j=0; j<n; j++) {
+                    Punto2D q = contornos[i].vertice(j);
+                    dobleArea += p.x()*q.y() - p.y()*q.x();
+                    p = q;
+                }
+            }
+        } catch (GeomException e) {
+            // No puede producirse: los índices son siempre válidos
+        }
+        return dobleArea / 2;
+    }
+
+  /** Obtiene la caja contenedora de todos los contornos
+    * @return la menor caja que contiene a la región
+    * @exception GeomException si la región está vacía
+    */
+    public Caja2D cajaContenedora() throws GeomException {
+        if (contornos.length == 0)
+            throw new GeomException("cajaContenedora () : la región no tiene ningún contorno");
+        return OperacionesBooleanas2D.caja(contornos);
+    }
+
+  /** Determina si un punto pertenece a la región: si está sobre alguno de sus
+    * contornos o dentro de un número impar de ellos. La paridad se obtiene
+    * contando los lados que cruza una semirrecta horizontal que parte del
+    * punto hacia la derecha, ya que los contornos no tienen por qué ser
+    * convexos
+    * @param punto punto que se desea comprobar
+    * @return un valor booleano indicando si el punto está en la región
+    * @see Poligono2D#ladosContienenPunto(Punto2D)
+    */
+    public boolean contienePunto(Punto2D punto) {
+        double px = punto.x(), py = punto.y();
+        boolean dentro = false;
+        try {
+            for (int i=0; i<contornos.length; i++) {
+                if (contornos[i].ladosContienenPunto(punto))
+                    return true;
+                int n = contornos[i].posiciones();
+                Punto2D p = contornos[i].vertice(n-1);
+                for (int j=0; j<n; j++) {
+                    Punto2D q = contornos[i].vertice(j);
+                    if ((p.y() > py) != (q.y() > py) &&
+                        px < p.x() + (py - p.y()) * (q.x() - p.x()) / (q.y() - p.y()))
+                        dentro = !dentro;
+                    p = q;
+                }
+            }
+        } catch (GeomException e) {
+            // No puede producirse: los índices son siempre válidos
+        }
+        return dentro;
+    }
+
+  /** Calcula la intersección de la región con otra
+    * @param otro región con la que se intersecta
+    * @return una nueva región con la intersección
+    * @exception GeomException si no se puede realizar la operación
+    * @see OperacionesBooleanas2D#operacion(Poligono2D[], Poligono2D[], int)
+    */
+    public MultiPoligono2D interseccion(MultiPoligono2D otro) throws GeomException {
+        return operacion(otro, OperacionesBooleanas2D.INTERSECCION);
+    }
+
+  /** Calcula la unión de la región con otra
+    * @param otro región con la que se une
+    * @return una nueva región con la unión
+    * @exception GeomException si no se puede realizar la operación
+    * @see OperacionesBooleanas2D#operacion(Poligono2D[], Poligono2D[], int)
+    */
+    public MultiPoligono2D union(MultiPoligono2D otro) throws GeomException {
+        return operacion(otro, OperacionesBooleanas2D.UNION);
+    }
+
+  /** Calcula la diferencia entre la región y otra
+    * @param otro región que se resta
+    * @return una nueva región con la diferencia
+    * @exception GeomException si no se puede realizar la operación
+    * @see OperacionesBooleanas2D#operacion(Poligono2D[], Poligono2D[], int)
+    */
+    public MultiPoligono2D diferencia(MultiPoligono2D otro) throws GeomException {
+        return operacion(otro, OperacionesBooleanas2D.DIFERENCIA);
+    }
+
+  /** Calcula la diferencia simétrica de la región con otra
+    * @param otro región con la que se opera
+    * @return una nueva región con la diferencia simétrica
+    * @exception GeomException si no se puede realizar la operación
+    * @see OperacionesBooleanas2D#operacion(Poligono2D[], Poligono2D[], int)
+    */
+    public MultiPoligono2D diferenciaSimetrica(MultiPoligono2D otro) throws GeomException {
+        return operacion(otro, OperacionesBooleanas2D.DIFERENCIA_SIMETRICA);
+    }
+
+  /** Realiza la conversión del objeto a una cadena de caracteres
+    * @return una cadena con los contornos de la región
+    */
+    public String toString() {
+        StringBuffer cadena = new StringBuffer(nombre + " - MultiPoligono2D: (\n");
+        for (int i=0; i<contornos.length; i++)
+            cadena.append(contornos[i].sentido() == Mat.ANTIHORARIO ? "\t exterior " : "\t hueco ")
+                  .append(contornos[i].toString()).append("\n");
+        return cadena.append(")").toString();
+    }
+
+  /** Realiza una operación booleana con otra región
+    */
+    private MultiPoligono2D operacion(MultiPoligono2D otro, int operacion) throws GeomException {
+        MultiPoligono2D resultado = new MultiPoligono2D();
+        resultado.contornos = OperacionesBooleanas2D.operacion(contornos, otro.contornos, operacion);
+        return resultado;
+    }
+}
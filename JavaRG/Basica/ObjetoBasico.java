@@ -15,18 +15,18 @@ import JavaRG.Nucleo2D.ObjetoGeometrico;
  */
 public abstract class ObjetoBasico extends ObjetoGeometrico implements InterfazCirculador {
 
-    /** Constructor vaco */
+    /** Constructor vacío */
     public ObjetoBasico() {
         super();
     }
 
-    /** Rl objeto geomtrico debe indicar cul es la posicin siguiente a una dada
+    /** Rl objeto geométrico debe indicar cuál es la posición siguiente a una dada
      */
     public abstract int posicionSiguiente(int posicion);
-    /** El objeto geomtrico debe indicar cul es la posicin anterior a una dada
+    /** El objeto geométrico debe indicar cuál es la posición anterior a una dada
      */
     public abstract int posicionAnterior(int posicion);
-    /** El objeto geomtrico debe indicar el nmero de posiciones en las que
+    /** El objeto geométrico debe indicar el número de posiciones en las que
      * se puede situar un circulador
      */
     public abstract int posiciones();
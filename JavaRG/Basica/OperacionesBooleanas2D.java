@@ -0,0 +1,942 @@
+/*
+ * OperacionesBooleanas2D.java
+ *
+ * Created on 17 de octubre de 2026, 23:40
+ */
+
+package JavaRG.Basica;
+
+import JavaRG.Mat;
+import JavaRG.Nucleo2D.*;
+import JavaRG.Soporte.ArbolBarrido;
+import JavaRG.Soporte.ComparadorBarrido;
+import java.util.Arrays;
+
+/** La clase <code>OperacionesBooleanas2D</code> calcula la intersección, la
+ * unión, la diferencia y la diferencia simétrica de dos polígonos.
+ * <br>
+ * El caso general se resuelve con un barrido, como en el algoritmo de
+ * Martínez, Rueda y Feito. Primero se obtienen todas las intersecciones entre
+ * las aristas de ambos polígonos con <code>Intersecciones2D</code>, y cada
+ * arista se divide en sus puntos de corte, de forma que las aristas
+ * resultantes solo se tocan en sus extremos (las partes comunes a ambos
+ * polígonos se guardan una sola vez). Después una línea vertical recorre sus
+ * extremos en orden lexicográfico, manteniendo ordenadas de abajo a arriba
+ * las aristas que corta: la arista que queda justo debajo de cada arista al
+ * insertarla indica si la región situada bajo ella está dentro de cada
+ * polígono, y al cruzarla se cambia de lado respecto a los polígonos a los
+ * que pertenece. Una arista forma parte del resultado cuando la operación da
+ * valores distintos a un lado y a otro de ella. Por último, las aristas del
+ * resultado se enlazan en contornos. El coste total es O((n + k) log n),
+ * siendo n el número de vértices y k el número de intersecciones.
+ * <br>
+ * El interior de cada polígono se determina según la regla par-impar, por lo
+ * que no es necesario que sean simples ni que tengan un sentido determinado.
+ * El resultado es un array de polígonos: los contornos exteriores en sentido
+ * antihorario y los de los huecos en sentido horario. Si dos contornos se
+ * tocan en un vértice, se devuelven por separado. Con la misma regla, cada
+ * operando puede ser también una región formada por varios contornos, como
+ * el resultado de una operación anterior o un <code>MultiPoligono2D</code>.
+ * <br>
+ * Cuando se calcula la intersección de dos polígonos convexos se utiliza en
+ * su lugar el algoritmo de Sutherland y Hodgman, que recorta el primero con
+ * cada uno de los lados del segundo. El mismo algoritmo está disponible para
+ * recortar cualquier polígono con uno convexo
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see Intersecciones2D
+ * @see ArbolBarrido
+ */
+public class OperacionesBooleanas2D extends Object implements ComparadorBarrido {
+
+  /**
+    * Intersección: puntos que están en ambos polígonos
+    */
+    public static final int INTERSECCION = 0;
+  /**
+    * Unión: puntos que están en alguno de los polígonos
+    */
+    public static final int UNION = 1;
+  /**
+    * Diferencia: puntos del primer polígono que no están en el segundo
+    */
+    public static final int DIFERENCIA = 2;
+  /**
+    * Diferencia simétrica: puntos que están en uno solo de los polígonos
+    */
+    public static final int DIFERENCIA_SIMETRICA = 3;
+
+  /**
+    * Número máximo de veces que se redondean las aristas a la rejilla
+    */
+    private static final int pasadasMaximas = 4;
+  /**
+    * Bits de precisión de la rejilla de redondeo: el lado de una celda es
+    * una potencia de dos cercana a la mayor coordenada dividida por 2^40
+    */
+    private static final int bitsRejilla = 40;
+
+  /**
+    * Coordenadas de los vértices de la subdivisión, en orden lexicográfico
+    */
+    private double vx[], vy[];
+  /**
+    * Número de vértices de la subdivisión
+    */
+    private int numVertices;
+  /**
+    * Extremos izquierdo y derecho de cada arista de la subdivisión
+    */
+    private int izquierdo[], derecho[];
+  /**
+    * Polígonos a los que pertenece cada arista (1 el primero, 2 el segundo,
+    * 3 ambos)
+    */
+    private int poligonos[];
+  /**
+    * Polígonos que contienen la región situada justo debajo de cada arista,
+    * con el mismo formato
+    */
+    private int debajo[];
+  /**
+    * Número de aristas de la subdivisión
+    */
+    private int numAristas;
+  /**
+    * Vértice que está procesando la línea de barrido
+    */
+    private int actual;
+  /**
+    * Contornos del resultado, mientras se enlazan
+    */
+    private Poligono2D resultado[];
+  /**
+    * Número de contornos del resultado
+    */
+    private int numContornos;
+
+  /** Calcula la intersección de dos polígonos
+    * @param a primer polígono
+    * @param b segundo polígono
+    * @return los contornos de la intersección, o un array vacío si no tienen
+    * ningún punto interior en común
+    * @exception GeomException si alguno de los polígonos no es completo
+    * @see OperacionesBooleanas2D#operacion(Poligono2D, Poligono2D, int)
+    */
+    public static Poligono2D[] interseccion(Poligono2D a, Poligono2D b) throws GeomException {
+        return operacion(a, b, INTERSECCION);
+    }
+
+  /** Calcula la unión de dos polígonos
+    * @param a primer polígono
+    * @param b segundo polígono
+    * @return los contornos de la unión
+    * @exception GeomException si alguno de los polígonos no es completo
+    * @see OperacionesBooleanas2D#operacion(Poligono2D, Poligono2D, int)
+    */
+    public static Poligono2D[] union(Poligono2D a, Poligono2D b) throws GeomException {
+        return operacion(a, b, UNION);
+    }
+
+  /** Calcula la diferencia de dos polígonos
+    * @param a polígono del que se resta
+    * @param b polígono que se resta
+    * @return los contornos de la diferencia
+    * @exception GeomException si alguno de los polígonos no es completo
+    * @see OperacionesBooleanas2D#operacion(Poligono2D, Poligono2D, int)
+    */
+    public static Poligono2D[] diferencia(Poligono2D a, Poligono2D b) throws GeomException {
+        return operacion(a, b, DIFERENCIA);
+    }
+
+  /** Calcula la diferencia simétrica (o exclusiva) de dos polígonos
+    * @param a primer polígono
+    * @param b segundo polígono
+    * @return los contornos de la diferencia simétrica
+    * @exception GeomException si alguno de los polígonos no es completo
+    * @see OperacionesBooleanas2D#operacion(Poligono2D, Poligono2D, int)
+    */
+    public static Poligono2D[] diferenciaSimetrica(Poligono2D a, Poligono2D b) throws GeomException {
+        return operacion(a, b, DIFERENCIA_SIMETRICA);
+    }
+
+  /** Realiza una operación booleana entre dos polígonos. La intersección de
+    * dos polígonos convexos se calcula recortando uno con el otro, y el resto
+    * de casos mediante el barrido
+    * @param a primer polígono
+    * @param b segundo polígono
+    * @param operacion operación a realizar (INTERSECCION, UNION, DIFERENCIA o
+    * DIFERENCIA_SIMETRICA)
+    * @return los contornos del resultado: los exteriores en sentido
+    * antihorario y los de los huecos en sentido horario
+    * @exception GeomException si alguno de los polígonos no es completo, si
+    * la operación no es válida o si el redondeo de los puntos de corte
+    * impide separar las aristas de forma que solo se toquen en sus extremos
+    */
+    public static Poligono2D[] operacion(Poligono2D a, Poligono2D b, int operacion)
+        throws GeomException {
+        Poligono2D contornosA[] = { a }, contornosB[] = { b };
+        return operacion(contornosA, contornosB, operacion);
+    }
+
+  /** Realiza una operación booleana entre dos regiones formadas cada una por
+    * varios contornos, como las que devuelven estas operaciones: un punto
+    * está en una región si está dentro de un número impar de sus contornos.
+    * Si las cajas contenedoras de ambas regiones no se solapan, el resultado
+    * se obtiene sin barrido
+    * @param a contornos de la primera región
+    * @param b contornos de la segunda región
+    * @param operacion operación a realizar (INTERSECCION, UNION, DIFERENCIA o
+    * DIFERENCIA_SIMETRICA)
+    * @return los contornos del resultado: los exteriores en sentido
+    * antihorario y los de los huecos en sentido horario
+    * @exception GeomException si alguno de los contornos no es completo, si
+    * la operación no es válida o si el redondeo de los puntos de corte
+    * impide separar las aristas de forma que solo se toquen en sus extremos
+    * @see MultiPoligono2D
+    */
+    public static Poligono2D[] operacion(Poligono2D a[], Poligono2D b[], int operacion)
+        throws GeomException {
+        if (operacion < INTERSECCION || operacion > DIFERENCIA_SIMETRICA)
+            throw new GeomException("operacion (Poligono2D[], Poligono2D[], int): la operación no es válida");
+        for (int i=0; i<a.length + b.length; i++)
+            if (!(i < a.length ? a[i] : b[i - a.length]).esCompleto())
+                throw new GeomException("operacion (Poligono2D[], Poligono2D[], int): los polígonos deben ser completos");
+
+        if (a.length + b.length == 0)
+            return new Poligono2D[0];
+        if (operacion == INTERSECCION && a.length == 1 && b.length == 1 &&
+            a[0].esConvexoYSimple() && b[0].esConvexoYSimple()) {
+            Poligono2D recorte = recortar(a[0], b[0]);
+            if (recorte == null)
+                return new Poligono2D[0];
+            Poligono2D resultado[] = { recorte };
+            return resultado;
+        }
+        if (a.length > 0 && b.length > 0 && separadas(a, b)) {
+            // Ninguna arista de una región corta a la otra: la unión y la
+            // diferencia simétrica son ambas regiones, y la diferencia la
+            // primera
+            if (operacion == INTERSECCION)
+                return new Poligono2D[0];
+            if (operacion == DIFERENCIA)
+                b = new Poligono2D[0];
+        }
+        return new OperacionesBooleanas2D(a, b).contornos(operacion);
+    }
+
+  /** Recorta un polígono con otro convexo mediante el algoritmo de
+    * Sutherland y Hodgman: se recorre el polígono una vez por cada lado del
+    * recortador, quedándose con la parte que está en el lado interior. El
+    * coste es O(n m). Si el polígono recortado no es convexo y el resultado
+    * tiene varias partes, estas quedan unidas por lados que recorren el
+    * borde del recortador en ambos sentidos
+    * @param sujeto polígono a recortar
+    * @param recortador polígono convexo con el que se recorta
+    * @return la parte del sujeto contenida en el recortador, en sentido
+    * antihorario, o null si no tienen ningún punto interior en común
+    * @exception GeomException si alguno de los polígonos no es completo o si
+    * el recortador no es simple y convexo
+    */
+    public static Poligono2D recortar(Poligono2D sujeto, Poligono2D recortador)
+        throws GeomException {
+        if (!sujeto.esCompleto() || !recortador.esCompleto())
+            throw new GeomException("recortar (Poligono2D, Poligono2D): los polígonos deben ser completos");
+        if (!recortador.esConvexoYSimple())
+            throw new GeomException("recortar (Poligono2D, Poligono2D): el recortador debe ser simple y convexo");
+
+        int n = sujeto.posiciones();
+        double xs[] = new double[2*n], ys[] = new double[2*n];
+        for (int i=0; i<n; i++) {
+            Punto2D p = sujeto.vertice(i);
+            xs[i] = p.x();
+            ys[i] = p.y();
+        }
+        int m = recortador.posiciones();
+        double cx[] = new double[m], cy[] = new double[m];
+        for (int i=0; i<m; i++) {
+            Punto2D p = recortador.vertice(i);
+            cx[i] = p.x();
+            cy[i] = p.y();
+        }
+        int sentido = recortador.sentido();
+
+        double nuevasX[] = new double[2*n], nuevasY[] = new double[2*n];
+        for (int lado=0; lado<m && n>0; lado++) {
+            double ax = cx[lado], ay = cy[lado];
+            double bx = cx[(lado+1) % m], by = cy[(lado+1) % m];
+            // Cada lado puede añadir como mucho un vértice por cada vértice
+            if (nuevasX.length < 2*n) {
+                nuevasX = new double[2*n];
+                nuevasY = new double[2*n];
+            }
+            int k = 0;
+            double anterior = sentido * PredicadosExactos2D.determinanteOrientacion(ax, ay, bx, by,
+                                                                                   xs[n-1], ys[n-1]);
+            for (int i=0, j=n-1; i<n; j=i++) {
+                double det = sentido * PredicadosExactos2D.determinanteOrientacion(ax, ay, bx, by,
+                                                                                  xs[i], ys[i]);
+                if ((det >= 0) != (anterior >= 0) && det != 0 && anterior != 0) {
+                    // La arista cruza la recta del lado: se añade el corte
+                    double t = anterior / (anterior - det);
+                    nuevasX[k] = xs[j] + t * (xs[i] - xs[j]);
+                    nuevasY[k] = ys[j] + t * (ys[i] - ys[j]);
+                    k++;
+                }
+                if (det >= 0) {
+                    nuevasX[k] = xs[i];
+                    nuevasY[k] = ys[i];
+                    k++;
+                }
+                anterior = det;
+            }
+            double t[] = xs; xs = nuevasX; nuevasX = t;
+            t = ys; ys = nuevasY; nuevasY = t;
+            n = k;
+        }
+
+        // El recorte conserva el sentido del sujeto, y se devuelve en sentido
+        // antihorario. El sentido se obtiene del área con signo, ya que si el
+        // sujeto no es convexo el recorte puede no ser simple
+        double dobleArea = 0;
+        for (int i=0, j=n-1; i<n; j=i++)
+            dobleArea += xs[j]*ys[i] - ys[j]*xs[i];
+        if (dobleArea < 0)
+            for (int i=0, j=n-1; i<j; i++, j--) {
+                double aux = xs[i]; xs[i] = xs[j]; xs[j] = aux;
+                aux = ys[i]; ys[i] = ys[j]; ys[j] = aux;
+            }
+        return crearPoligono(xs, ys, n);
+    }
+
+  /** Compara dos aristas en el vértice por el que pasa la línea de barrido.
+    * Se usa durante el barrido y no debe llamarse directamente
+    * @param arista arista que se desea insertar, que comienza en el vértice
+    * @param otra arista de la línea de barrido con la que se compara
+    * @return un valor negativo si la arista queda por debajo de la otra, y
+    * positivo en caso contrario
+    * @see ComparadorBarrido#compara(int, int)
+    */
+    public int compara(int arista, int otra) {
+        int orientacion = orientacion(izquierdo[otra], derecho[otra], actual);
+        // Si la otra arista también pasa por el vértice, se comparan sus
+        // direcciones a la derecha de él
+        if (orientacion == Mat.COLINEAL)
+            orientacion = orientacion(izquierdo[otra], derecho[otra], derecho[arista]);
+        return orientacion == Mat.HORARIO ? -1 : 1;
+    }
+
+  /** Construye la subdivisión formada por las aristas de dos regiones y
+    * clasifica sus aristas mediante el barrido
+    * @param a contornos de la primera región
+    * @param b contornos de la segunda región
+    * @return un nuevo objeto con las aristas clasificadas
+    */
+    private OperacionesBooleanas2D(Poligono2D a[], Poligono2D b[]) throws GeomException {
+        int na = 0, n = 0;
+        for (int c=0; c<a.length + b.length; c++) {
+            n += (c < a.length ? a[c] : b[c - a.length]).posiciones();
+            if (c == a.length - 1)
+                na = n;
+        }
+        double x1[] = new double[n], y1[] = new double[n];
+        double x2[] = new double[n], y2[] = new double[n];
+        for (int c=0, i=0; c<a.length + b.length; c++) {
+            Poligono2D poligono = c < a.length ? a[c] : b[c - a.length];
+            for (int vertice=0; vertice<poligono.posiciones(); vertice++, i++) {
+                Punto2D inicio = poligono.vertice(vertice);
+                Punto2D fin = poligono.vertice(poligono.posicionSiguiente(vertice));
+                x1[i] = inicio.x(); y1[i] = inicio.y();
+                x2[i] = fin.x(); y2[i] = fin.y();
+            }
+        }
+        int etiquetas[] = new int[n];
+        for (int i=0; i<n; i++)
+            etiquetas[i] = i < na ? 1 : 2;
+
+        // Los puntos de corte redondeados desplazan ligeramente las aristas
+        // que se dividen en ellos, y una parte puede llegar a cortar a otra
+        // arista de la que antes solo estaba muy cerca. En ese caso las
+        // aristas se redondean a una rejilla (snap rounding), lo que las
+        // separa salvo en casos degenerados, que se resuelven redondeando de
+        // nuevo las partes. Si aun así siguen cortándose, el barrido no
+        // clasificaría bien las regiones
+        subdividir(x1, y1, x2, y2, etiquetas, n);
+        for (int pasada=1; seCortan(); pasada++) {
+            if (pasada > pasadasMaximas)
+                throw new GeomException("operacion (Poligono2D[], Poligono2D[], int): no se ha podido separar las aristas en sus puntos de corte");
+            if (pasada > 1) {
+                n = numAristas;
+                x1 = new double[n]; y1 = new double[n];
+                x2 = new double[n]; y2 = new double[n];
+                etiquetas = new int[n];
+                for (int i=0; i<n; i++) {
+                    x1[i] = vx[izquierdo[i]]; y1[i] = vy[izquierdo[i]];
+                    x2[i] = vx[derecho[i]]; y2[i] = vy[derecho[i]];
+                    etiquetas[i] = poligonos[i];
+                }
+            }
+            redondear(x1, y1, x2, y2, etiquetas, n);
+        }
+
+        barrer();
+    }
+
+  /** Divide un conjunto de aristas en sus puntos de corte, de forma que las
+    * partes solo se tocan en sus extremos (salvo por el redondeo de los
+    * puntos de corte), y guarda las partes como aristas de la subdivisión
+    * @param etiquetas polígonos a los que pertenece cada arista, con el mismo
+    * formato que las aristas de la subdivisión
+    */
+    private void subdividir(double x1[], double y1[], double x2[], double y2[],
+                            int etiquetas[], int n) throws GeomException {
+        Intersecciones2D intersecciones = new Intersecciones2D(x1, y1, x2, y2, n);
+
+        // Puntos de cada arista: sus extremos y sus puntos de corte con otras
+        // aristas (los dos extremos de cada solape)
+        int k = intersecciones.numIntersecciones();
+        int inicioPuntos[] = new int[n+1];
+        for (int i=0; i<k; i++) {
+            int cortes = intersecciones.esSolape(i) ? 2 : 1;
+            inicioPuntos[intersecciones.primero(i)+1] += cortes;
+            inicioPuntos[intersecciones.segundo(i)+1] += cortes;
+        }
+        for (int i=0; i<n; i++)
+            inicioPuntos[i+1] += inicioPuntos[i] + 2;
+        int total = inicioPuntos[n];
+        double px[] = new double[total], py[] = new double[total];
+        int llenos[] = new int[n];
+        for (int i=0; i<n; i++) {
+            int p = inicioPuntos[i];
+            px[p] = x1[i]; py[p] = y1[i];
+            px[p+1] = x2[i]; py[p+1] = y2[i];
+            llenos[i] = 2;
+        }
+        for (int i=0; i<k; i++) {
+            int s1 = intersecciones.primero(i), s2 = intersecciones.segundo(i);
+            double cx = intersecciones.x(i), cy = intersecciones.y(i);
+            anadirPunto(px, py, inicioPuntos, llenos, s1, cx, cy);
+            anadirPunto(px, py, inicioPuntos, llenos, s2, cx, cy);
+            if (intersecciones.esSolape(i)) {
+                cx = intersecciones.xFin(i);
+                cy = intersecciones.yFin(i);
+                anadirPunto(px, py, inicioPuntos, llenos, s1, cx, cy);
+                anadirPunto(px, py, inicioPuntos, llenos, s2, cx, cy);
+            }
+        }
+        dividir(px, py, inicioPuntos, llenos, x1, y1, x2, y2, etiquetas, n);
+    }
+
+  /** Redondea un conjunto de aristas a una rejilla mediante snap rounding.
+    * Las celdas calientes son las que contienen algún extremo o algún punto
+    * de corte de las aristas, y cada arista se sustituye por la línea que
+    * pasa por los centros de las celdas calientes que toca, en el orden en
+    * que las recorre. Las partes resultantes solo se tocan en sus extremos,
+    * y cada vértice se desplaza como mucho media diagonal de una celda
+    * @param etiquetas polígonos a los que pertenece cada arista, con el mismo
+    * formato que las aristas de la subdivisión
+    */
+    private void redondear(double x1[], double y1[], double x2[], double y2[],
+                           int etiquetas[], int n) throws GeomException {
+        double maximo = Double.MIN_NORMAL;
+        for (int i=0; i<n; i++)
+            maximo = Math.max(maximo, Math.max(Math.max(Math.abs(x1[i]), Math.abs(y1[i])),
+                                               Math.max(Math.abs(x2[i]), Math.abs(y2[i]))));
+        // Con un lado potencia de dos los centros y las esquinas de las
+        // celdas son representables exactamente
+        double lado = Math.scalb(1.0, Math.getExponent(maximo) + 1 - bitsRejilla);
+
+        // Centros de las celdas calientes
+        Intersecciones2D intersecciones = new Intersecciones2D(x1, y1, x2, y2, n);
+        int k = intersecciones.numIntersecciones();
+        double hx[] = new double[2*n + 2*k], hy[] = new double[2*n + 2*k];
+        int m = 0;
+        for (int i=0; i<n; i++) {
+            hx[m] = centro(x1[i], lado); hy[m++] = centro(y1[i], lado);
+            hx[m] = centro(x2[i], lado); hy[m++] = centro(y2[i], lado);
+        }
+        for (int i=0; i<k; i++) {
+            hx[m] = centro(intersecciones.x(i), lado); hy[m++] = centro(intersecciones.y(i), lado);
+            if (intersecciones.esSolape(i)) {
+                hx[m] = centro(intersecciones.xFin(i), lado); hy[m++] = centro(intersecciones.yFin(i), lado);
+            }
+        }
+        int orden[] = Simplicidad2D.ordenLexicografico(hx, hy, m);
+        double cx[] = new double[m], cy[] = new double[m];
+        int numCeldas = 0;
+        for (int i=0; i<m; i++) {
+            int h = orden[i];
+            if (numCeldas == 0 || hx[h] != cx[numCeldas-1] || hy[h] != cy[numCeldas-1]) {
+                cx[numCeldas] = hx[h];
+                cy[numCeldas] = hy[h];
+                numCeldas++;
+            }
+        }
+
+        // Las celdas que toca cada arista se obtienen de sus intersecciones
+        // con los cuatro lados de cada celda, que son exactas. Una arista que
+        // no corta ningún lado de una celda solo puede estar dentro de ella si
+        // sus dos extremos están en la celda
+        int total = n + 4*numCeldas;
+        double sx1[] = new double[total], sy1[] = new double[total];
+        double sx2[] = new double[total], sy2[] = new double[total];
+        System.arraycopy(x1, 0, sx1, 0, n);
+        System.arraycopy(y1, 0, sy1, 0, n);
+        System.arraycopy(x2, 0, sx2, 0, n);
+        System.arraycopy(y2, 0, sy2, 0, n);
+        double mitad = lado / 2;
+        for (int c=0, s=n; c<numCeldas; c++)
+            for (int esquina=0; esquina<4; esquina++, s++) {
+                // Esquinas en sentido antihorario desde la inferior izquierda
+                sx1[s] = cx[c] + ((esquina == 1 || esquina == 2) ? mitad : -mitad);
+                sy1[s] = cy[c] + ((esquina >= 2) ? mitad : -mitad);
+                sx2[s] = cx[c] + ((esquina == 0 || esquina == 1) ? mitad : -mitad);
+                sy2[s] = cy[c] + ((esquina == 0 || esquina == 3) ? -mitad : mitad);
+            }
+        intersecciones = new Intersecciones2D(sx1, sy1, sx2, sy2, total);
+        k = intersecciones.numIntersecciones();
+        long incidencias[] = new long[k];
+        int numIncidencias = 0;
+        for (int i=0; i<k; i++) {
+            int arista = intersecciones.primero(i), otro = intersecciones.segundo(i);
+            if (arista < n && otro >= n)
+                incidencias[numIncidencias++] = (long) arista * numCeldas + (otro - n) / 4;
+        }
+        Arrays.sort(incidencias, 0, numIncidencias);
+
+        // Puntos de cada arista: sus extremos redondeados y los centros de
+        // las demás celdas que toca
+        int inicioPuntos[] = new int[n+1];
+        for (int i=0; i<numIncidencias; i++)
+            if (i == 0 || incidencias[i] != incidencias[i-1])
+                inicioPuntos[(int) (incidencias[i] / numCeldas) + 1]++;
+        for (int i=0; i<n; i++)
+            inicioPuntos[i+1] += inicioPuntos[i] + 2;
+        double px[] = new double[inicioPuntos[n]], py[] = new double[inicioPuntos[n]];
+        int llenos[] = new int[n];
+        double rx1[] = new double[n], ry1[] = new double[n];
+        double rx2[] = new double[n], ry2[] = new double[n];
+        for (int i=0; i<n; i++) {
+            rx1[i] = centro(x1[i], lado); ry1[i] = centro(y1[i], lado);
+            rx2[i] = centro(x2[i], lado); ry2[i] = centro(y2[i], lado);
+            anadirPunto(px, py, inicioPuntos, llenos, i, rx1[i], ry1[i]);
+            anadirPunto(px, py, inicioPuntos, llenos, i, rx2[i], ry2[i]);
+        }
+        for (int i=0; i<numIncidencias; i++)
+            if (i == 0 || incidencias[i] != incidencias[i-1]) {
+                int arista = (int) (incidencias[i] / numCeldas), c = (int) (incidencias[i] % numCeldas);
+                // Las celdas de los extremos ya están como primer y último punto
+                if ((cx[c] != rx1[arista] || cy[c] != ry1[arista]) &&
+                    (cx[c] != rx2[arista] || cy[c] != ry2[arista]))
+                    anadirPunto(px, py, inicioPuntos, llenos, arista, cx[c], cy[c]);
+            }
+        dividir(px, py, inicioPuntos, llenos, x1, y1, x2, y2, etiquetas, n);
+    }
+
+  /** Obtiene el centro de la celda de la rejilla que contiene una coordenada
+    */
+    private static double centro(double coordenada, double lado) {
+        return Math.rint(coordenada / lado) * lado;
+    }
+
+  /** Divide cada arista entre sus puntos, ordenados a lo largo de ella, y
+    * guarda las partes como aristas de la subdivisión. Los dos primeros
+    * puntos de cada arista son sus extremos
+    * @param px coordenadas cartesianas x de los puntos de todas las aristas
+    * @param py coordenadas cartesianas y de los puntos de todas las aristas
+    * @param inicioPuntos posición del primer punto de cada arista
+    * @param llenos número de puntos de cada arista
+    * @param etiquetas polígonos a los que pertenece cada arista
+    */
+    private void dividir(double px[], double py[], int inicioPuntos[], int llenos[],
+                         double x1[], double y1[], double x2[], double y2[],
+                         int etiquetas[], int n) {
+        int total = inicioPuntos[n];
+
+        // Los vértices de la subdivisión son los puntos distintos, numerados
+        // en orden lexicográfico
+        int orden[] = Simplicidad2D.ordenLexicografico(px, py, total);
+        int verticePunto[] = new int[total];
+        vx = new double[total];
+        vy = new double[total];
+        numVertices = 0;
+        for (int i=0; i<total; i++) {
+            int p = orden[i];
+            if (numVertices == 0 || px[p] != vx[numVertices-1] || py[p] != vy[numVertices-1]) {
+                vx[numVertices] = px[p];
+                vy[numVertices] = py[p];
+                numVertices++;
+            }
+            verticePunto[p] = numVertices - 1;
+        }
+
+        // Cada arista se divide entre sus puntos consecutivos. Las partes se
+        // codifican con sus extremos y sus polígonos para ordenarlas y juntar
+        // las repetidas
+        long partes[] = new long[total];
+        int numPartes = 0;
+        int vertices[] = new int[total];
+        double posiciones[] = new double[total];
+        for (int i=0; i<n; i++) {
+            int desde = inicioPuntos[i], hasta = inicioPuntos[i] + llenos[i];
+            // Los puntos se ordenan según su posición a lo largo de la arista:
+            // un punto de corte redondeado puede quedar ligeramente fuera de
+            // ella, y entonces su orden lexicográfico no coincide con el de la
+            // arista. Los extremos de la arista quedan siempre el primero y el
+            // último
+            double dx = x2[i] - x1[i], dy = y2[i] - y1[i];
+            for (int p=desde; p<hasta; p++) {
+                double posicion = (p == desde) ? -Double.MAX_VALUE :
+                                  (p == desde + 1) ? Double.MAX_VALUE :
+                                  (px[p] - x1[i]) * dx + (py[p] - y1[i]) * dy;
+                int vertice = verticePunto[p];
+                int q = p;
+                for (; q > desde && posiciones[q-1] > posicion; q--) {
+                    posiciones[q] = posiciones[q-1];
+                    vertices[q] = vertices[q-1];
+                }
+                posiciones[q] = posicion;
+                vertices[q] = vertice;
+            }
+            for (int p=desde+1; p<hasta; p++)
+                if (vertices[p] != vertices[p-1]) {
+                    int u = Math.min(vertices[p-1], vertices[p]), v = Math.max(vertices[p-1], vertices[p]);
+                    partes[numPartes++] = (((long) u * numVertices + v) << 2) | etiquetas[i];
+                }
+        }
+        Arrays.sort(partes, 0, numPartes);
+
+        izquierdo = new int[numPartes];
+        derecho = new int[numPartes];
+        poligonos = new int[numPartes];
+        numAristas = 0;
+        for (int i=0; i<numPartes; ) {
+            long clave = partes[i] >>> 2;
+            int mascara = 0;
+            // Una parte que aparece dos veces en un mismo polígono no cambia el
+            // interior de ese polígono
+            for (; i<numPartes && (partes[i] >>> 2) == clave; i++)
+                mascara ^= (int) (partes[i] & 3);
+            if (mascara != 0) {
+                izquierdo[numAristas] = (int) (clave / numVertices);
+                derecho[numAristas] = (int) (clave % numVertices);
+                poligonos[numAristas] = mascara;
+                numAristas++;
+            }
+        }
+    }
+
+  /** Determina si dos aristas de la subdivisión se cortan o se tocan en un
+    * punto que no es un extremo común a ambas
+    */
+    private boolean seCortan() throws GeomException {
+        double x1[] = new double[numAristas], y1[] = new double[numAristas];
+        double x2[] = new double[numAristas], y2[] = new double[numAristas];
+        for (int i=0; i<numAristas; i++) {
+            x1[i] = vx[izquierdo[i]]; y1[i] = vy[izquierdo[i]];
+            x2[i] = vx[derecho[i]]; y2[i] = vy[derecho[i]];
+        }
+        Intersecciones2D intersecciones = new Intersecciones2D(x1, y1, x2, y2, numAristas);
+        for (int i=0; i<intersecciones.numIntersecciones(); i++) {
+            if (intersecciones.esSolape(i))
+                return true;
+            double x = intersecciones.x(i), y = intersecciones.y(i);
+            int s1 = intersecciones.primero(i), s2 = intersecciones.segundo(i);
+            if (!((x == x1[s1] && y == y1[s1]) || (x == x2[s1] && y == y2[s1])) ||
+                !((x == x1[s2] && y == y1[s2]) || (x == x2[s2] && y == y2[s2])))
+                return true;
+        }
+        return false;
+    }
+
+  /** Determina si las cajas contenedoras de dos regiones están separadas
+    */
+    private static boolean separadas(Poligono2D a[], Poligono2D b[]) throws GeomException {
+        Caja2D cajaA = caja(a), cajaB = caja(b);
+        return cajaA.xmax() < cajaB.xmin() || cajaB.xmax() < cajaA.xmin() ||
+               cajaA.ymax() < cajaB.ymin() || cajaB.ymax() < cajaA.ymin();
+    }
+
+  /** Obtiene la caja contenedora de un conjunto de contornos no vacío
+    */
+    static Caja2D caja(Poligono2D contornos[]) throws GeomException {
+        Caja2D caja = contornos[0].cajaContenedora();
+        double xmin = caja.xmin(), ymin = caja.ymin(), xmax = caja.xmax(), ymax = caja.ymax();
+        for (int c=1; c<contornos.length; c++) {
+            caja = contornos[c].cajaContenedora();
+            xmin = Math.min(xmin, caja.xmin()); ymin = Math.min(ymin, caja.ymin());
+            xmax = Math.max(xmax, caja.xmax()); ymax = Math.max(ymax, caja.ymax());
+        }
+        return new Caja2D(xmin, ymin, xmax, ymax);
+    }
+
+  /** Añade un punto de corte a los puntos de una arista
+    */
+    private static void anadirPunto(double px[], double py[], int inicioPuntos[], int llenos[],
+                                    int arista, double x, double y) {
+        int p = inicioPuntos[arista] + llenos[arista]++;
+        px[p] = x;
+        py[p] = y;
+    }
+
+  /** Recorre los vértices de la subdivisión en orden lexicográfico. En cada
+    * vértice se eliminan de la línea de barrido las aristas que terminan en
+    * él y se insertan las que comienzan, y para cada una de estas se obtiene
+    * qué polígonos contienen la región situada debajo a partir de la arista
+    * que queda justo por debajo
+    */
+    private void barrer() {
+        // Aristas que terminan en cada vértice (las que comienzan son
+        // consecutivas, ya que están ordenadas por su extremo izquierdo)
+        int inicioFinales[] = new int[numVertices+1];
+        for (int i=0; i<numAristas; i++)
+            inicioFinales[derecho[i]+1]++;
+        for (int v=0; v<numVertices; v++)
+            inicioFinales[v+1] += inicioFinales[v];
+        int finales[] = new int[numAristas];
+        int llenos[] = new int[numVertices];
+        for (int i=0; i<numAristas; i++)
+            finales[inicioFinales[derecho[i]] + llenos[derecho[i]]++] = i;
+
+        debajo = new int[numAristas];
+        ArbolBarrido arbol = new ArbolBarrido(numAristas);
+        int arista = 0;
+        for (actual=0; actual<numVertices; actual++) {
+            for (int i=inicioFinales[actual]; i<inicioFinales[actual+1]; i++)
+                arbol.eliminar(finales[i]);
+            if (arista == numAristas || izquierdo[arista] != actual)
+                continue;
+
+            int primera = arista;
+            for (; arista<numAristas && izquierdo[arista] == actual; arista++)
+                arbol.insertar(arista, this);
+            // Las aristas que comienzan en el vértice quedan juntas en la
+            // línea de barrido: se recorren de abajo a arriba
+            int e = primera;
+            while (arbol.anterior(e) != ArbolBarrido.NINGUNO && izquierdo[arbol.anterior(e)] == actual)
+                e = arbol.anterior(e);
+            for (; e != ArbolBarrido.NINGUNO && izquierdo[e] == actual; e = arbol.siguiente(e)) {
+                int inferior = arbol.anterior(e);
+                debajo[e] = inferior == ArbolBarrido.NINGUNO ? 0 : debajo[inferior] ^ poligonos[inferior];
+            }
+        }
+    }
+
+  /** Selecciona las aristas del resultado de una operación y las enlaza en
+    * contornos
+    * @return los contornos del resultado
+    */
+    private Poligono2D[] contornos(int operacion) throws GeomException {
+        // Aristas del resultado, orientadas de forma que el resultado quede a
+        // su izquierda
+        int origen[] = new int[numAristas], destino[] = new int[numAristas];
+        int numResultado = 0;
+        for (int i=0; i<numAristas; i++) {
+            boolean abajo = dentro(debajo[i], operacion);
+            boolean arriba = dentro(debajo[i] ^ poligonos[i], operacion);
+            if (abajo != arriba) {
+                origen[numResultado] = arriba ? izquierdo[i] : derecho[i];
+                destino[numResultado] = arriba ? derecho[i] : izquierdo[i];
+                numResultado++;
+            }
+        }
+
+        // Aristas que salen de cada vértice
+        int inicioSalidas[] = new int[numVertices+1];
+        for (int i=0; i<numResultado; i++)
+            inicioSalidas[origen[i]+1]++;
+        for (int v=0; v<numVertices; v++)
+            inicioSalidas[v+1] += inicioSalidas[v];
+        int salidas[] = new int[numResultado];
+        int llenos[] = new int[numVertices];
+        for (int i=0; i<numResultado; i++)
+            salidas[inicioSalidas[origen[i]] + llenos[origen[i]]++] = i;
+
+        // Se recorre cada contorno. Al llegar a un vértice del que salen
+        // varias aristas se toma la primera en sentido horario a partir de la
+        // arista por la que se llega, de forma que los contornos que se tocan
+        // en un vértice quedan separados. Si aun así el recorrido vuelve a un
+        // vértice por el que ya ha pasado (por ejemplo, en una región que se
+        // toca a sí misma), el lazo cerrado desde entonces se separa como otro
+        // contorno
+        boolean usada[] = new boolean[numResultado];
+        int posicion[] = new int[numVertices];
+        Arrays.fill(posicion, -1);
+        resultado = new Poligono2D[4];
+        numContornos = 0;
+        double xs[] = new double[8], ys[] = new double[8];
+        int recorridos[] = new int[8];
+        for (int inicial=0; inicial<numResultado; inicial++) {
+            if (usada[inicial])
+                continue;
+            int n = 0;
+            int e = inicial;
+            while (!usada[e]) {
+                usada[e] = true;
+                int o = origen[e];
+                if (posicion[o] >= 0) {
+                    int p = posicion[o];
+                    anadirContorno(xs, ys, p, n);
+                    for (int i=p; i<n; i++)
+                        posicion[recorridos[i]] = -1;
+                    n = p;
+                }
+                if (n == xs.length) {
+                    double nuevasX[] = new double[2*n], nuevasY[] = new double[2*n];
+                    int nuevos[] = new int[2*n];
+                    System.arraycopy(xs, 0, nuevasX, 0, n);
+                    System.arraycopy(ys, 0, nuevasY, 0, n);
+                    System.arraycopy(recorridos, 0, nuevos, 0, n);
+                    xs = nuevasX;
+                    ys = nuevasY;
+                    recorridos = nuevos;
+                }
+                xs[n] = vx[o];
+                ys[n] = vy[o];
+                recorridos[n] = o;
+                posicion[o] = n;
+                n++;
+
+                int v = destino[e], siguiente = ArbolBarrido.NINGUNO;
+                for (int i=inicioSalidas[v]; i<inicioSalidas[v+1]; i++) {
+                    int candidata = salidas[i];
+                    if (!usada[candidata] &&
+                        (siguiente == ArbolBarrido.NINGUNO ||
+                         antesHorario(v, origen[e], destino[candidata], destino[siguiente])))
+                        siguiente = candidata;
+                }
+                if (siguiente == ArbolBarrido.NINGUNO)
+                    break;
+                e = siguiente;
+            }
+
+            anadirContorno(xs, ys, 0, n);
+            for (int i=0; i<n; i++)
+                posicion[recorridos[i]] = -1;
+        }
+
+        Poligono2D contornos[] = new Poligono2D[numContornos];
+        System.arraycopy(resultado, 0, contornos, 0, numContornos);
+        return contornos;
+    }
+
+  /** Añade al resultado el contorno formado por una parte de los vértices
+    * recorridos, si tiene área
+    */
+    private void anadirContorno(double xs[], double ys[], int desde, int hasta) throws GeomException {
+        int n = hasta - desde;
+        double contornoX[] = new double[n], contornoY[] = new double[n];
+        System.arraycopy(xs, desde, contornoX, 0, n);
+        System.arraycopy(ys, desde, contornoY, 0, n);
+        Poligono2D contorno = crearPoligono(contornoX, contornoY, n);
+        if (contorno == null)
+            return;
+        if (numContornos == resultado.length) {
+            Poligono2D nuevo[] = new Poligono2D[2*numContornos];
+            System.arraycopy(resultado, 0, nuevo, 0, numContornos);
+            resultado = nuevo;
+        }
+        resultado[numContornos++] = contorno;
+    }
+
+  /** Determina si una región pertenece al resultado de una operación a
+    * partir de los polígonos que la contienen
+    */
+    private static boolean dentro(int poligonos, int operacion) {
+        boolean a = (poligonos & 1) != 0, b = (poligonos & 2) != 0;
+        switch (operacion) {
+            case INTERSECCION: return a && b;
+            case UNION: return a || b;
+            case DIFERENCIA: return a && !b;
+            default: return a != b;
+        }
+    }
+
+  /** Determina si, girando en sentido horario alrededor del vértice v a partir
+    * de la dirección hacia el vértice r, se encuentra antes la dirección hacia
+    * el vértice a que la dirección hacia el vértice b. La propia dirección
+    * hacia r es la última
+    */
+    private boolean antesHorario(int v, int r, int a, int b) {
+        int sectorA = sector(v, r, a), sectorB = sector(v, r, b);
+        if (sectorA != sectorB)
+            return sectorA < sectorB;
+        return orientacion(v, a, b) == Mat.HORARIO;
+    }
+
+  /** Obtiene el orden del semiplano en que está la dirección hacia el vértice
+    * a al girar en sentido horario a partir de la dirección hacia r: 0 a la
+    * derecha, 1 en la dirección opuesta, 2 a la izquierda y 3 en la misma
+    * dirección
+    */
+    private int sector(int v, int r, int a) {
+        int orientacion = orientacion(v, r, a);
+        if (orientacion == Mat.HORARIO)
+            return 0;
+        if (orientacion == Mat.ANTIHORARIO)
+            return 2;
+        boolean opuesta = (vx[a] - vx[v]) * (vx[r] - vx[v]) + (vy[a] - vy[v]) * (vy[r] - vy[v]) < 0;
+        return opuesta ? 1 : 3;
+    }
+
+  /** Crea un polígono con los vértices de un contorno, eliminando antes los
+    * repetidos y los alineados con sus vecinos
+    * @return el polígono, o null si el contorno no tiene área
+    */
+    static Poligono2D crearPoligono(double xs[], double ys[], int n) throws GeomException {
+        n = simplificar(xs, ys, n);
+        if (n < 3)
+            return null;
+        // El constructor descarta el último vértice si está muy cerca del
+        // primero, por lo que el contorno comienza tras su lado más largo
+        int inicio = 0;
+        double maximo = -1;
+        for (int i=0, j=n-1; i<n; j=i++) {
+            double dx = xs[i] - xs[j], dy = ys[i] - ys[j];
+            if (dx*dx + dy*dy > maximo) {
+                maximo = dx*dx + dy*dy;
+                inicio = i;
+            }
+        }
+        if (Predicados2D.iguales(xs[inicio], ys[inicio], xs[(inicio+n-1) % n], ys[(inicio+n-1) % n]))
+            return null;
+        double contornoX[] = new double[n], contornoY[] = new double[n];
+        for (int i=0; i<n; i++) {
+            contornoX[i] = xs[(inicio + i) % n];
+            contornoY[i] = ys[(inicio + i) % n];
+        }
+        return new Poligono2D(contornoX, contornoY);
+    }
+
+  /** Elimina de un contorno los vértices repetidos y los que están alineados
+    * con sus vecinos
+    * @return el nuevo número de vértices
+    */
+    private static int simplificar(double xs[], double ys[], int n) {
+        boolean cambios = true;
+        while (cambios && n >= 3) {
+            cambios = false;
+            int k = 0;
+            for (int i=0; i<n; i++) {
+                double ax = k > 0 ? xs[k-1] : xs[n-1], ay = k > 0 ? ys[k-1] : ys[n-1];
+                int j = (i+1) % n;
+                if (PredicadosExactos2D.orientacion(ax, ay, xs[i], ys[i], xs[j], ys[j]) == Mat.COLINEAL) {
+                    cambios = true;
+                    continue;
+                }
+                xs[k] = xs[i];
+                ys[k] = ys[i];
+                k++;
+            }
+            n = k;
+        }
+        return n;
+    }
+
+  /** Obtiene la orientación exacta de tres vértices de la subdivisión
+    */
+    private int orientacion(int a, int b, int c) {
+        return PredicadosExactos2D.orientacion(vx[a], vy[a], vx[b], vy[b], vx[c], vy[c]);
+    }
+}
@@ -8,76 +8,135 @@ package JavaRG.Basica;
 
 import JavaRG.Nucleo2D.*;
 import JavaRG.Mat;
+import JavaRG.Soporte.ContencionParalela;
 import JavaRG.Soporte.InterfazCirculador;
+import JavaRG.Soporte.InterfazContencion;
+import JavaRG.Soporte.InterfazSoporte;
 import java.awt.*;
 
-/** Un polgono 2D es una cadena cerrada de vrtices (objetos de la clase
- * Punto2D), que est definido en un sentido horario u antihorario
+/** Un polígono 2D es una cadena cerrada de vértices (objetos de la clase
+ * Punto2D), que está definido en un sentido horario u antihorario
  *
  * @author  Pablo Suau
  * @version 1.0
  */
-public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
+public class Poligono2D extends ObjetoBasico implements InterfazCirculador, InterfazContencion, InterfazSoporte {
     
     /**
-      * Constante indicando el mximo nmero de puntos del polgono
+      * Capacidad inicial de los arrays de vértices. Los arrays crecen al
+      * insertar vértices, por lo que no hay un número máximo de vértices
       */
-    private static final int maxPuntos = 1000;
+    private static final int capacidadInicial = 8;
+    /**
+      * Lado de las celdas de la rejilla en la que se cuantizan los vértices
+      * para obtener la huella. Es menor que epsilon, de forma que dos
+      * vértices en la misma celda son siempre iguales
+      */
+    private static final double pasoHuella = Mat.EPSILON / 2;
+    /** 
+      * Coordenadas cartesianas x de los vértices que definen al polígono
+      */
+    private double xs[] = new double[capacidadInicial];
     /** 
-      * Vector conteniendo a los vrtices que definen al polgono
+      * Coordenadas cartesianas y de los vértices que definen al polígono
       */
-     private Punto2D vertices[] = new Punto2D[maxPuntos];
+    private double ys[] = new double[capacidadInicial];
   /**
-    * Nmero de puntos de los que se compone el polgono
+    * Número de puntos de los que se compone el polígono
     */
     private int numPuntos;
   /**
-    * Indica si el polgono es completo, es decir, si existe una arista entre el 
-    * primer y el ltim ovrtice
+    * Indica si el polígono es completo, es decir, si existe una arista entre el 
+    * primer y el últim ovértice
     */
     private boolean poligonoCompleto;
   /**
-    * Indica si el polgono es simple. El polgono ser simple cuando no exista 
-    * interseccin entre ninguna de sus aristas
+    * Indica si el polígono es simple. El polígono será simple cuando no exista 
+    * intersección entre ninguna de sus aristas. Solo es válido si
+    * simplicidadCalculada es cierto
     */
     private boolean poligonoSimple;
+  /**
+    * Indica si poligonoSimple se corresponde con los vértices actuales. La
+    * simplicidad no se comprueba al modificar el polígono, sino la primera
+    * vez que se consulta después
+    */
+    private boolean simplicidadCalculada;
+  /**
+    * Indica si las propiedades derivadas de los vértices (área, vértices
+    * extremos y giros de la cadena) se corresponden con los vértices actuales.
+    * Se calculan todas juntas, en una sola pasada, la primera vez que se
+    * consulta alguna de ellas después de modificar el polígono
+    */
+    private boolean propiedadesCalculadas;
+  /**
+    * Doble del área con signo de la cadena cerrada de vértices
+    */
+    private double dobleArea;
+  /**
+    * Índices de los vértices con menor y mayor coordenada x e y (el primero
+    * en caso de empate), y del menor vértice en orden lexicográfico
+    */
+    private int indiceMenorX, indiceMayorX, indiceMenorY, indiceMayorY, indiceMenor;
+  /**
+    * Número de vértices en los que la cadena gira a la izquierda y a la
+    * derecha
+    */
+    private int girosIzquierda, girosDerecha;
+  /**
+    * Indica si algún vértice coincide con alguno de sus adyacentes
+    */
+    private boolean verticesRepetidos;
+  /**
+    * Indica si la huella y las sumas de coordenadas se corresponden con los
+    * vértices actuales. Mientras lo están, se actualizan al insertar,
+    * eliminar o modificar un vértice, sin recorrer el polígono
+    */
+    private boolean huellaCalculada;
+  /**
+    * Huella de la cadena cerrada de vértices: suma de las huellas de sus
+    * lados, con los vértices cuantizados
+    */
+    private long huella;
+  /**
+    * Sumas de las coordenadas cartesianas de los vértices
+    */
+    private double sumaX, sumaY;
     
   /** 
-    * Constructor para crear un nuevo polgono vaco (sin ningn vrtice 
-    * @return un polgono vaco
+    * Constructor para crear un nuevo polígono vacío (sin ningún vértice 
+    * @return un polígono vacío
     * @see Poligono2D#borrar()
     */
     public Poligono2D() {
         this.borrar();
-        poligonoSimple = true;
     }
     
-  /** Constructor para crear un nuevo polgono al azar con el nmero de lados 
-    * especificado. La primera mitad de los vrtices del polgono ser dibujada
-    * en la parte superior del rea de dibujo, y la segunda en el rea inferior.
-    * Se aaden vrtices con un incremento de x constante, resultado de dividir la 
-    * anchura entre el nmero de puntos/2, y con un valor de y al azar, dependiendo
-    * de si dicho vrtice pertenece a la parte superior o a la inferior.
-    * @param lados nmero de lados del polgono a dibujar
-    * @param altura altura del rea de dibujo
-    * @param anchura anchura del rea de dibujo
-    * @return un nuevo polgono cerrado y simple con el nmero de lados indicado
-    * @exception GeomException si el nmero de lados pasados como parmetro es menor
-    * de tres, ya que en ese caso es imposible crear un polgono simple cerrado
+  /** Constructor para crear un nuevo polígono al azar con el número de lados 
+    * especificado. La primera mitad de los vértices del polígono será dibujada
+    * en la parte superior del área de dibujo, y la segunda en el área inferior.
+    * Se añaden vértices con un incremento de x constante, resultado de dividir la 
+    * anchura entre el número de puntos/2, y con un valor de y al azar, dependiendo
+    * de si dicho vértice pertenece a la parte superior o a la inferior.
+    * @param lados número de lados del polígono a dibujar
+    * @param altura altura del área de dibujo
+    * @param anchura anchura del área de dibujo
+    * @return un nuevo polígono cerrado y simple con el número de lados indicado
+    * @exception GeomException si el número de lados pasados como parámetro es menor
+    * de tres, ya que en ese caso es imposible crear un polígono simple cerrado
     * @see Poligono2D#borrar()
     * @see Poligono2D#insertar(Punto2D)
     * @see Punto2D#Punto2D(double, double)
     */
     public Poligono2D(int lados, int altura, int anchura) throws GeomException {
         if (lados<=2)
-            throw new GeomException("Poligono (int): El nmero de lados debe ser mayor de 2");
+            throw new GeomException("Poligono (int): El número de lados debe ser mayor de 2");
         else
         {
            do {
               this.borrar();
-              poligonoSimple = true;
-              // Insertamos todos los vrtices , incrementalmente,
-              // comprobando cada vez que se introduce alguno que el polgono contina
+              // Insertamos todos los vértices , incrementalmente,
+              // comprobando cada vez que se introduce alguno que el polígono continúa
               // siendo simple
               int incremento = 2*anchura/lados; 
               double x, y;
@@ -85,8 +144,13 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
               for (int pos=0;pos<lados;pos++)
                 do {
                     if (!poligonoSimple) {
+                        // Descartamos el último vértice, con lo que el
+                        // polígono vuelve a ser simple
                         numPuntos--;
                         poligonoSimple = true;
+                        simplicidadCalculada = true;
+                        propiedadesCalculadas = false;
+                        huellaCalculada = false;
                     }
                     y = -(altura/3)*java.lang.Math.random();
                     if (pos<lados/2)
@@ -100,48 +164,111 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
                        y = y - (altura-(altura/3));
                     }
                     this.insertar(new Punto2D(x,y));
-                } while (!poligonoSimple);
+                } while (!this.esSimple());
             
-              // Introducimos el ltimo lado, para formar un polgono cerrado
-              this.insertar(vertices[numPuntos-1]);
-           } while (!poligonoSimple);
+              // Introducimos el último lado, para formar un polígono cerrado
+              this.insertar(xs[numPuntos-1], ys[numPuntos-1]);
+           } while (!this.esSimple());
         }
     }
    
-  /** Constructor de copia del polgono. Genera un nuevo polgono a partir de 
+  /** Constructor de copia del polígono. Genera un nuevo polígono a partir de 
     * uno anterior
-    * @param otro polgono a partir del cual se desea obtener el nuevo Poligono2D
-    * @return un nuevo Poligono2D con los mismos vrtices y atributos que el 
-    * polgono pasado como parmetro
+    * @param otro polígono a partir del cual se desea obtener el nuevo Poligono2D
+    * @return un nuevo Poligono2D con los mismos vértices y atributos que el 
+    * polígono pasado como parámetro
     */
     public Poligono2D(Poligono2D otro)
     {
         this.numPuntos = otro.numPuntos;
         this.poligonoCompleto = otro.poligonoCompleto;
         this.poligonoSimple = otro.poligonoSimple;
-        for (int i=0; i<numPuntos; i++)
-            this.vertices[i] = new Punto2D(otro.vertices[i]);
+        this.simplicidadCalculada = otro.simplicidadCalculada;
+        this.propiedadesCalculadas = otro.propiedadesCalculadas;
+        this.dobleArea = otro.dobleArea;
+        this.indiceMenorX = otro.indiceMenorX;
+        this.indiceMayorX = otro.indiceMayorX;
+        this.indiceMenorY = otro.indiceMenorY;
+        this.indiceMayorY = otro.indiceMayorY;
+        this.indiceMenor = otro.indiceMenor;
+        this.girosIzquierda = otro.girosIzquierda;
+        this.girosDerecha = otro.girosDerecha;
+        this.verticesRepetidos = otro.verticesRepetidos;
+        this.huellaCalculada = otro.huellaCalculada;
+        this.huella = otro.huella;
+        this.sumaX = otro.sumaX;
+        this.sumaY = otro.sumaY;
+        this.xs = new double[Math.max(numPuntos, capacidadInicial)];
+        this.ys = new double[Math.max(numPuntos, capacidadInicial)];
+        System.arraycopy(otro.xs, 0, this.xs, 0, numPuntos);
+        System.arraycopy(otro.ys, 0, this.ys, 0, numPuntos);
+    }
+    
+  /** Constructor para crear un polígono completo a partir de sus vértices.
+    * No se comprueba si el polígono es simple al añadir cada vértice, sino una
+    * sola vez, mediante un barrido, la primera vez que se consulta, por lo que
+    * es la forma adecuada de crear polígonos con muchos vértices. Si el último
+    * vértice es igual al primero se descarta, ya que la arista que los une
+    * existe siempre en un polígono completo
+    * @param vertices vértices del polígono, en el orden en que se recorren
+    * @return un nuevo polígono completo con los vértices indicados
+    * @exception GeomException si el polígono tiene menos de tres vértices
+    * @see Poligono2D#esSimple()
+    */
+    public Poligono2D(Punto2D vertices[]) throws GeomException {
+        double nuevasX[] = new double[vertices.length];
+        double nuevasY[] = new double[vertices.length];
+        for (int i=0; i<vertices.length; i++) {
+            nuevasX[i] = vertices[i].x();
+            nuevasY[i] = vertices[i].y();
+        }
+        iniciar(nuevasX, nuevasY, vertices.length, "Poligono2D (Punto2D[])");
+    }
+
+  /** Constructor para crear un polígono completo a partir de las coordenadas
+    * cartesianas de sus vértices, con el mismo comportamiento que
+    * <code>Poligono2D(Punto2D[])</code>. Las coordenadas se copian
+    * @param xs coordenadas cartesianas x de los vértices
+    * @param ys coordenadas cartesianas y de los vértices
+    * @return un nuevo polígono completo con los vértices indicados
+    * @exception GeomException si los arrays tienen distinta longitud o si el
+    * polígono tiene menos de tres vértices
+    * @see Poligono2D#Poligono2D(Punto2D[])
+    */
+    public Poligono2D(double xs[], double ys[]) throws GeomException {
+        if (xs.length != ys.length)
+            throw new GeomException("Poligono2D (double[], double[]): los arrays de coordenadas deben tener la misma longitud");
+        double nuevasX[] = new double[xs.length];
+        double nuevasY[] = new double[ys.length];
+        System.arraycopy(xs, 0, nuevasX, 0, xs.length);
+        System.arraycopy(ys, 0, nuevasY, 0, ys.length);
+        iniciar(nuevasX, nuevasY, xs.length, "Poligono2D (double[], double[])");
     }
     
   /** 
-    * Elimina todos los vrtices del polgono, dejando un polgono vaco
+    * Elimina todos los vértices del polígono, dejando un polígono vacío
     */
     public void borrar() {
         numPuntos = 0;
         poligonoCompleto = false;
         poligonoSimple = true;
+        simplicidadCalculada = true;
+        propiedadesCalculadas = false;
+        huellaCalculada = true;
+        huella = 0;
+        sumaX = sumaY = 0;
     }
     
   /**
-    * Comprueba si el polgono es igual a otro objeto geomtrico. Un Poligono2D
-    * ser igual a otro objeto geomtrico si dicho objeto es a su vez un Poligono2D
-    * y ambos polgonos tienen los mismos vrtices (aunque no tienen por qu estar definidos
+    * Comprueba si el polígono es igual a otro objeto geométrico. Un Poligono2D
+    * será igual a otro objeto geométrico si dicho objeto es a su vez un Poligono2D
+    * y ambos polígonos tienen los mismos vértices (aunque no tienen por qué estar definidos
     * en el mismo orden, si en el mismo sentido)
-    * @param objeto Objeto geomtrico con el que se desea comparar el polgono 
-    * @return un valor booleano indicando si el polgono es igual al objeto geomtrico 
-    * pasado como parmetro
+    * @param objeto Objeto geométrico con el que se desea comparar el polígono 
+    * @return un valor booleano indicando si el polígono es igual al objeto geométrico 
+    * pasado como parámetro
     * @see Poligono2D#sentido()
-    * @see Punto2D#equals(ObjetoGeometrico)
+    * @see Predicados2D#iguales(double, double, double, double)
     */
    public boolean equals (ObjetoGeometrico objeto) {
         if (objeto == this)
@@ -149,14 +276,15 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
         if (objeto instanceof Poligono2D)
         {
             Poligono2D poligono = (Poligono2D) objeto;
-            if (this.numPuntos == poligono.numPuntos &&
-                this.sentido() == poligono.sentido())
+            if (this.numPuntos != poligono.numPuntos || !this.sumasCompatibles(poligono))
+                return false;
+            if (this.sentido() == poligono.sentido())
             {
-                // Buscamos un vrtice del polgono pasado como parmetro igual al
+                // Buscamos un vértice del polígono pasado como parámetro igual al
                 // primero de this, para que nos sirva de referencia
                 int pos = 0;
                 while (pos<numPuntos && 
-                       !(this.vertices[0]).equals(poligono.vertices[pos]))
+                       !Predicados2D.iguales(xs[0], ys[0], poligono.xs[pos], poligono.ys[pos]))
                             pos++;
                 if (pos >= numPuntos)
                     return false;
@@ -164,7 +292,7 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
                 for (int i=1; i<numPuntos; i++)
                 {
                     pos++; if (pos>=numPuntos) pos = 0;
-                    if (!(this.vertices[i]).equals(poligono.vertices[pos]))
+                    if (!Predicados2D.iguales(xs[i], ys[i], poligono.xs[pos], poligono.ys[pos]))
                         return false;
                 }
                 return true;
@@ -175,254 +303,299 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
     }
   
   /**
-    * Comprueba si el polgono es distinto a otro objeto geomtrico. Un Poligono2D
-    * ser  distinto a otro objeto geomtrico si dicho objeto no es un Poligono2D
-    * o si ambos polgonos tienen distintos vrtices, o en distinto sentido
-    * @param objeto Objeto geomtrico con el que se desea comparar el polgono 
-    * @return un valor booleano indicando si el polgono es distinto al objeto geomtrico 
-    * pasado como parmetro
+    * Comprueba si el polígono es distinto a otro objeto geométrico. Un Poligono2D
+    * será  distinto a otro objeto geométrico si dicho objeto no es un Poligono2D
+    * o si ambos polígonos tienen distintos vértices, o en distinto sentido
+    * @param objeto Objeto geométrico con el que se desea comparar el polígono 
+    * @return un valor booleano indicando si el polígono es distinto al objeto geométrico 
+    * pasado como parámetro
     * @see Poligono2D#equals(ObjetoGeometrico)
     */
    public boolean not_equals(ObjetoGeometrico objeto) {
     return !this.equals(objeto);
    }
-    
-  /** 
-    * Inserta un nuevo vrtice en el polgono. Si las coordenadas de ese vrtice 
-    * se corresponden con las del ltimo del polgono, el polgono pasar a ser 
-    * un polgono cerrado (y el vrtice no ser introducido). En caso contrario, 
-    * el nuevo vrtice es introducido al final del array de vrtices que definen 
-    * al polgono. Nunca se introducira un nuevo vrtice en el caso de que el polgono
-    * ya fuera un polgono cerrado. Al mismo tiempo que se inserta un vrtice, se 
-    * determinar si el polgono sigue o no siendo simple (cada vrtice es compartido
-    * solo por dos lados y no hay ninguna interseccin entre aristas)
-    * @param p punto a insertar como vrtice del polgono
-    * @see Punto2D#equals(ObjetoGeometrico)
-    * @see Segmento2D#Segmento2D(Punto2D, Punto2D)
-    * @see Segmento2D#intersectaSegmento(Segmento2D)
-    * @see Segmento2D#intersectaPropSegmento(Segmento2D)
+
+  /**
+    * Devuelve la huella del polígono: un valor que no depende del vértice
+    * por el que se empieza a recorrer, y que se obtiene cuantizando los
+    * vértices en una rejilla de lado Mat.EPSILON / 2, de forma que el ruido
+    * por debajo de ese nivel apenas la altera. Es la suma de una función de
+    * dispersión de cada lado orientado, por lo que dos polígonos con distinta
+    * huella son distintos según equals(Object). La primera vez se calcula en
+    * tiempo O(n); después se actualiza en O(1) al insertar, eliminar o
+    * modificar un vértice, y sólo se recalcula si se traslada, escala o
+    * transforma el polígono completo
+    * @return la huella del polígono
+    * @see Poligono2D#equals(Object)
     */
-    public void insertar (Punto2D p) {
-        if (poligonoCompleto) return;
-        if (numPuntos>0)
-        if (vertices[numPuntos-1].equals(p)) { 
-            poligonoCompleto=true;
-        // Comprobamos que el ltimo lado del polgono no intersecta con ningn otro
-        int i = 2;
-        try {
-            Segmento2D seg = new Segmento2D(vertices[numPuntos-1] ,vertices[0]);
-        
-            while (poligonoSimple && i<=numPuntos-2)
-            {
-                if (seg.intersectaSegmento(new Segmento2D(vertices[i-1], vertices[i])))
-                    poligonoSimple = false;
-                else
-                    i++;
+    public long huella()
+    {
+        if (!huellaCalculada)
+        {
+            huella = 0;
+            sumaX = sumaY = 0;
+            for (int i=0; i<numPuntos; i++) {
+                huella += huellaLado(i, posicionSiguiente(i));
+                sumaX += xs[i];
+                sumaY += ys[i];
             }
-            if (seg.intersectaPropSegmento(new Segmento2D(vertices[0], vertices[1])))
-                 poligonoSimple = false;
-         } catch(GeomException e) {}
-            
-        return;
+            huellaCalculada = true;
+        }
+        return huella;
     }
-    
-    // Comprobacin de que cada vrtice solo es compartido por dos lados
-    int i=0;
-    while (poligonoSimple && i<numPuntos)
+
+  /**
+    * Devuelve un código de dispersión del polígono, obtenido de su huella.
+    * Permite guardar polígonos en tablas de dispersión para eliminar
+    * duplicados. El polígono no debe modificarse mientras esté en una de
+    * ellas
+    * @return el código de dispersión del polígono
+    * @see Poligono2D#huella()
+    */
+    public int hashCode()
     {
-        if (vertices[i].equals(p))
-            poligonoSimple = false;
-        else
-            i++;
+        long h = huella();
+        return (int) (h ^ (h >>> 32));
     }
-    vertices[numPuntos] = p;
-    numPuntos++;
-    // Comprobacin de que no hay otras intersecciones entre lados aparte
-    // de los vrtices
-    if (numPuntos>1)
+
+  /**
+    * Comprueba si el polígono es igual a otro objeto. Dos polígonos son
+    * iguales si tienen los mismos vértices cuantizados, en el mismo orden
+    * cíclico aunque empiecen por vértices distintos. Al contrario que
+    * equals(ObjetoGeometrico), la igualdad es exacta sobre la rejilla, de
+    * forma que es transitiva y coherente con hashCode(). Antes de comparar
+    * los vértices se comparan las huellas, por lo que en la mayoría de los
+    * casos dos polígonos distintos se descartan en tiempo O(1)
+    * @param objeto objeto con el que se desea comparar el polígono
+    * @return un valor booleano indicando si ambos polígonos son iguales
+    * @see Poligono2D#huella()
+    * @see Poligono2D#equals(ObjetoGeometrico)
+    */
+    public boolean equals(Object objeto)
     {
-           i = 1;
-           try {
-                Segmento2D seg = new Segmento2D(vertices[numPuntos-2], vertices[numPuntos-1]);
-                while (poligonoSimple && i<numPuntos-2)
-                {
-                   if (seg.intersectaSegmento(new Segmento2D(vertices[i-1], vertices[i])))
-                       poligonoSimple = false;
-                   else
-                       i++;
-                }
-           } catch (GeomException e) {}
+        if (objeto == this)
+            return true;
+        if (!(objeto instanceof Poligono2D))
+            return false;
+        Poligono2D poligono = (Poligono2D) objeto;
+        if (numPuntos != poligono.numPuntos || huella() != poligono.huella())
+            return false;
+        if (numPuntos == 0)
+            return true;
+        // Probamos como referencia cada vértice del otro polígono que caiga en
+        // la misma celda que el primero de this
+        long x0 = celda(xs[0]), y0 = celda(ys[0]);
+        for (int pos=0; pos<numPuntos; pos++)
+        {
+            if (celda(poligono.xs[pos]) != x0 || celda(poligono.ys[pos]) != y0)
+                continue;
+            int i = 1, j = poligono.posicionSiguiente(pos);
+            while (i < numPuntos &&
+                   celda(xs[i]) == celda(poligono.xs[j]) &&
+                   celda(ys[i]) == celda(poligono.ys[j]))
+            {
+                i++;
+                j = poligono.posicionSiguiente(j);
+            }
+            if (i == numPuntos)
+                return true;
         }
+        return false;
     }
     
-  /** Elimina el vrtice del polgono cuyo ndice se pasa como parmetro. Si se
-    * trataba de un polgono completo, dejar de serlo. Si no era un polgono 
-    * completo y se elimina un vrtice intermedio, se comprobar si el polgono
-    * sigue siendo simple. Para ello el segmento que une los dos vrtices que eran
-    * adyacentes con el vrtice recin borrado no deber intersectar con ningn
-    * otro vrtice del polgono
-    * @param vertice indice del vrtice que se desea eliminar
-    * @exception GeomException si el ndice queda fuera del rango de vrtices del 
-    * polgono
-    * @see Punto2D#Punto2D(Punto2D)
-    * @see Segmento2D#Segmento2D(Punto2D, Punto2D)
-    * @see Segmento2D#intersectaSegmento(Segmento2D)
+  /** 
+    * Inserta un nuevo vértice en el polígono. Si las coordenadas de ese vértice 
+    * se corresponden con las del último del polígono, el polígono pasará a ser 
+    * un polígono cerrado (y el vértice no será introducido). En caso contrario, 
+    * el nuevo vértice es introducido al final del array de vértices que definen 
+    * al polígono. Nunca se introducira un nuevo vértice en el caso de que el polígono
+    * ya fuera un polígono cerrado. Si el polígono era simple, se volverá a
+    * comprobar si lo sigue siendo la próxima vez que se consulte
+    * @param p punto a insertar como vértice del polígono. Se copian sus
+    * coordenadas, por lo que modificar el punto después no afecta al polígono
+    * @see Poligono2D#insertar(double, double)
+    * @see Poligono2D#esSimple()
+    */
+    public void insertar (Punto2D p) {
+        insertar(p.x(), p.y());
+    }
+
+  /** 
+    * Inserta un nuevo vértice en el polígono a partir de sus coordenadas
+    * cartesianas, con el mismo comportamiento que
+    * <code>insertar(Punto2D)</code>. Si no queda espacio en los arrays de
+    * vértices se duplica su capacidad, por lo que el coste amortizado de
+    * añadir un vértice es constante
+    * @param x coordenada cartesiana x del vértice a insertar
+    * @param y coordenada cartesiana y del vértice a insertar
+    * @see Poligono2D#insertar(Punto2D)
+    * @see Predicados2D#iguales(double, double, double, double)
+    */
+    public void insertar (double x, double y) {
+        if (poligonoCompleto) return;
+        // Añadir un vértice o cerrar el polígono no elimina los cruces que ya
+        // hubiera, así que solo hay que volver a comprobarlo si era simple
+        simplicidadCalculada = simplicidadCalculada && !poligonoSimple;
+        if (numPuntos>0 && Predicados2D.iguales(xs[numPuntos-1], ys[numPuntos-1], x, y)) {
+            poligonoCompleto = true;
+            return;
+        }
+        if (numPuntos == xs.length)
+            reservar(2*xs.length);
+        if (huellaCalculada) {
+            // El lado que cerraba la cadena se sustituye por los dos del
+            // nuevo vértice
+            if (numPuntos == 0)
+                huella = huellaLado(x, y, x, y);
+            else
+                huella += huellaLado(xs[numPuntos-1], ys[numPuntos-1], x, y) +
+                          huellaLado(x, y, xs[0], ys[0]) - huellaLado(numPuntos-1, 0);
+            sumaX += x;
+            sumaY += y;
+        }
+        xs[numPuntos] = x;
+        ys[numPuntos] = y;
+        numPuntos++;
+        propiedadesCalculadas = false;
+    }
+
+  /** Asegura que los arrays de vértices tienen espacio para un número de
+    * vértices sin necesidad de crecer. Es útil antes de insertar un número
+    * conocido de vértices
+    * @param capacidad número de vértices para los que debe haber espacio
+    */
+    public void reservar(int capacidad) {
+        if (capacidad > xs.length) {
+            double nuevasX[] = new double[capacidad];
+            double nuevasY[] = new double[capacidad];
+            System.arraycopy(xs, 0, nuevasX, 0, numPuntos);
+            System.arraycopy(ys, 0, nuevasY, 0, numPuntos);
+            xs = nuevasX;
+            ys = nuevasY;
+        }
+    }
+    
+  /** Elimina el vértice del polígono cuyo índice se pasa como parámetro. Si se
+    * trataba de un polígono completo, dejará de serlo, y los vértices se
+    * reordenan para que la cadena comience en el siguiente al eliminado. Se
+    * volverá a comprobar si el polígono es simple la próxima vez que se
+    * consulte
+    * @param vertice indice del vértice que se desea eliminar
+    * @exception GeomException si el índice queda fuera del rango de vértices del 
+    * polígono
+    * @see Poligono2D#esSimple()
     */
     public void eliminar(int vertice) throws GeomException {
         if (vertice < 0 || vertice >= numPuntos)
-            throw new GeomException("eliminar (int) : El ndice indicado no se corresponde con ningn vrtice del polgono");
+            throw new GeomException("eliminar (int) : El índice indicado no se corresponde con ningún vértice del polígono");
         else
         {
+            if (huellaCalculada) {
+                // Los dos lados del vértice se sustituyen por el que une sus
+                // adyacentes
+                int anterior = posicionAnterior(vertice), siguiente = posicionSiguiente(vertice);
+                if (numPuntos == 1)
+                    huella = 0;
+                else
+                    huella += huellaLado(anterior, siguiente) -
+                              huellaLado(anterior, vertice) - huellaLado(vertice, siguiente);
+                sumaX -= xs[vertice];
+                sumaY -= ys[vertice];
+            }
+            // Desplazamos todos los vértices siguientes al vértice eliminado a
+            // la posición inmediatamente anterior, sin crear nuevos arrays
+            System.arraycopy(xs, vertice+1, xs, vertice, numPuntos-vertice-1);
+            System.arraycopy(ys, vertice+1, ys, vertice, numPuntos-vertice-1);
+            numPuntos--;
             if (poligonoCompleto)
             {
-                if (vertice == numPuntos - 1)
-                    numPuntos--;
-                else {
-                    // Los vrtices adyacentes al recien eliminiado sern los nuevos
-                    // extremos de la lista de vrtices del polgono
-                    Punto2D[] nuevosVertices = new Punto2D[maxPuntos];
-                    
-                    int pos=  vertice + 1;
-                    int nuevaPos = 0;
-                    while (pos != vertice)
-                    {
-                        nuevosVertices[nuevaPos] = new Punto2D(vertices[pos]);
-                        pos++; if (pos>=numPuntos) pos = 0;
-                        nuevaPos++;
-		    }
-                        numPuntos--;
-                        vertices = nuevosVertices;
-                }
+                // Los vértices adyacentes al recien eliminado serán los nuevos
+                // extremos de la lista de vértices del polígono, por lo que
+                // rotamos los arrays para que el siguiente al eliminado pase a
+                // ser el primero
+                if (vertice < numPuntos)
+                    rotar(vertice);
 		poligonoCompleto = false;
             }
-            else
-            {
-                // Si el vrtice a eliminar es el ltimo de la lista simplemente
-                // disminuimos el nmero de puntos
-                if (vertice == numPuntos - 1)
-                    numPuntos--;
-                else
-                {
-                    // En caso contrario desplazamos todos los vrtices siguientes
-                    // al vrtice eliminado a la posicin inmediatamente anterior
-                    for (int i=vertice; i<numPuntos-1; i++)
-                        vertices[i] = new Punto2D(vertices[i+1]);
-                    numPuntos--;
-		 }
-             }
-	     // Comprobamos tras eliminar el vrtice si el polgono es simple
-             if (numPuntos > 1)
-             {
-                 int i = 1;
-                 try {
-                     poligonoSimple = true;
-                     while (poligonoSimple && i<numPuntos-1)
-                     {
-			 Segmento2D seg = new Segmento2D(vertices[i-1], vertices[i]);
-			 int j = i+1;
-			 while (poligonoSimple && j<numPuntos)
-			 {
-                         	if(seg.intersectaPropSegmento(new Segmento2D(vertices[i-1], vertices[i])))
-                                	 poligonoSimple = false;
-	                         else
-        	                     j++;
-			  }
-			  i++;
-                      }
-                 } catch (GeomException e) {}
-             }
+            simplicidadCalculada = false;
+            propiedadesCalculadas = false;
          }
     }
     
- /** Sustituye un vrtice del polgono por otro especificado, comprobando al mismo tiempo
-    * que el polgono siga siendo simple en caso de que lo fuera
-    * @param vertice ndice del vrtice que se desea modificar
-    * @param nuevo vrtice que sustituir al anterior
-    * @exception GeomException si el ndice queda fuera del rango de vrtices del 
-    * polgono
-    * @see Punto2D#Punto2D(Punto2D)
-    * @see Segmento2D#Segmento2D(Punto2D, Punto2D)
-    * @see Segmento2D#intersectaSegmento(Segmento2D)
+ /** Sustituye un vértice del polígono por otro especificado. Se volverá a
+    * comprobar si el polígono es simple la próxima vez que se consulte
+    * @param vertice índice del vértice que se desea modificar
+    * @param nuevo vértice que sustituirá al anterior
+    * @exception GeomException si el índice queda fuera del rango de vértices del 
+    * polígono
+    * @see Punto2D#x()
+    * @see Punto2D#y()
+    * @see Poligono2D#esSimple()
     */
     public void modificar(int vertice, Punto2D nuevo) throws GeomException {
         if (vertice < 0 || vertice >= numPuntos)
-            throw new GeomException("modificar (int, Punto2D) : El ndice indicado no se corresponde con ningn vrtice del polgono");
+            throw new GeomException("modificar (int, Punto2D) : El índice indicado no se corresponde con ningún vértice del polígono");
         else
         {
-            // Sustituimos el vrtice indicado
-            vertices[vertice] = new Punto2D(nuevo);
-            // Comprobamos si el polgono contnua siendo simple en caso de que
-            // ya lo fuera
-            if (numPuntos>1)
-            {
-                int i = 1;
-                boolean uneExtremos1 = false, uneExtremos2 = false;
-                
-                int verticeAnterior = vertice - 1;
-                int verticePosterior = vertice + 1;
-                if (verticeAnterior < 0 ) 
-                {
-                     verticeAnterior = numPuntos - 1;
-                     uneExtremos1 = true;
-                }
-                if (verticePosterior >= numPuntos) 
-                {
-                    verticePosterior = 0;
-                    uneExtremos2 = true;
-                }
-                try {
-                    // Creamos los dos vrtices que estn conectados al que acabamos de modificar
-                    Segmento2D seg1 = new Segmento2D(vertices[verticeAnterior], vertices[vertice]);
-                    Segmento2D seg2 = new Segmento2D(vertices[vertice], vertices[verticePosterior]);
-                    while (poligonoSimple && i<numPuntos)
-                    {
-                        Segmento2D segmento = new Segmento2D(vertices[i-1], vertices[i]);
-                        if (poligonoCompleto || !uneExtremos1)
-                            if (i != vertice &&
-                                seg1.intersectaPropSegmento(segmento))
-                                    poligonoSimple = false;
-                        if (poligonoCompleto || !uneExtremos2)
-                            if (i != verticePosterior &&
-                                seg2.intersectaPropSegmento(segmento))
-                                    poligonoSimple = false;
-                        i++;
-                    }
-                    
-                    if (poligonoSimple && poligonoCompleto)
-                    {
-                        Segmento2D segmento = new Segmento2D(vertices[0], vertices[numPuntos-1]);
-                        
-                        if ((!uneExtremos1 && seg1.intersectaPropSegmento(segmento)) ||
-                            (!uneExtremos2 && seg2.intersectaPropSegmento(segmento)))
-                                poligonoSimple = false;
-                    }
-                } catch (GeomException e) {}
+            int anterior = posicionAnterior(vertice), siguiente = posicionSiguiente(vertice);
+            if (huellaCalculada) {
+                huella -= huellaLado(anterior, vertice);
+                if (numPuntos > 1)
+                    huella -= huellaLado(vertice, siguiente);
+                sumaX += nuevo.x() - xs[vertice];
+                sumaY += nuevo.y() - ys[vertice];
+            }
+            // Sustituimos el vértice indicado
+            xs[vertice] = nuevo.x();
+            ys[vertice] = nuevo.y();
+            if (huellaCalculada) {
+                huella += huellaLado(anterior, vertice);
+                if (numPuntos > 1)
+                    huella += huellaLado(vertice, siguiente);
             }
+            simplicidadCalculada = false;
+            propiedadesCalculadas = false;
         }
     }
     
-    /** Determina si un punto est contenido en el polgono de forma estricta.
-      * Para que esto suceda, si el polgono es horario el punto deber estar a 
+    /** Determina si un punto está contenido en el polígono de forma estricta.
+      * Para que esto suceda, si el polígono es horario el punto deberá estar a 
       * la derecha de todos sus lados, y a la izquierda en caso contrario, pero
       * nunca contenido por ninguno de sus lados.
-      * Si el polgono no es completo el punto no se considerar nunca contenido
-      * estrictamente
-      * @param punto el punto que se desea comprobar si est contenido estrictamente
-      * en el interior del polgono
-      * @return un valor booleano indicando si el punto pasado como parmetro 
-      * est contenido estrictamente en el polgono
+      * Si el polígono no es completo el punto no se considerará nunca contenido
+      * estrictamente. Si el polígono es convexo y no tiene vértices alineados
+      * con sus vecinos la comprobación se realiza en tiempo O(log n) con
+      * localizarConvexo
+      * @param punto el punto que se desea comprobar si está contenido estrictamente
+      * en el interior del polígono
+      * @return un valor booleano indicando si el punto pasado como parámetro 
+      * está contenido estrictamente en el polígono
       * @see Poligono2D#sentido()
       * @see Mat#ANTIHORARIO
       * @see Mat#HORARIO
       * @see Mat#IZQUIERDA
       * @see Mat#DERECHA
-      * @see Punto2D#posicionRelativa(Punto2D, Punto2D)
-      * @see Punto2D#equals(ObjetoGeometrico)
+      * @see Predicados2D#iguales(double, double, double, double)
+      * @see Predicados2D#posicionRelativa(double, double, double, double, double, double)
+      * @see Poligono2D#localizarConvexo(Punto2D)
       */
     public boolean contienePuntoEstrictamente(Punto2D punto) {
+        return contieneEstrictamente(punto.x(), punto.y());
+    }
+
+  /** Determina si un punto está contenido en el polígono de forma estricta
+    * @param px coordenada cartesiana x del punto
+    * @param py coordenada cartesiana y del punto
+    * @return un valor booleano indicando si el punto está contenido
+    * estrictamente en el polígono
+    * @see Poligono2D#contienePuntoEstrictamente(Punto2D)
+    */
+    private boolean contieneEstrictamente(double px, double py) {
         boolean contenido = true;
         int i=1;
         
+        if (poligonoCompleto && esEstrictamenteConvexo())
+            return localizacionConvexa(px, py) == Mat.INTERIOR;
         if (poligonoCompleto)
         {
             int lado;
@@ -431,95 +604,281 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
             else
                 lado = Mat.DERECHA;
             
-            try {
-                if (punto.equals(vertices[0])) contenido = false;
-                while (i<numPuntos && contenido)
-                {
-                      if (punto.equals(vertices[i])) contenido = false;
-                      else contenido = (punto.posicionRelativa(vertices[i-1], vertices[i]) == lado);
-                      i++;
-                }
-                if (contenido)
-                    contenido = (punto.posicionRelativa(vertices[numPuntos-1], vertices[0]) == lado);
-                return contenido;
-            } catch (GeomException e) { return false;} // La excepcin de posicinRelativa nunca
-                                         // se va a producir
+            if (Predicados2D.iguales(px, py, xs[0], ys[0])) contenido = false;
+            while (i<numPuntos && contenido)
+            {
+                  if (Predicados2D.iguales(px, py, xs[i], ys[i])) contenido = false;
+                  else contenido = (posicionRelativa(px, py, i-1, i) == lado);
+                  i++;
+            }
+            if (contenido)
+                contenido = (posicionRelativa(px, py, numPuntos-1, 0) == lado);
+            return contenido;
         }
         else return false;
     }
     
-    /** Determina si un punto est contenido en alguno de los lados del polgono
-      * (no hace falta que el polgono sea completo para que el punto est contenido
+    /** Determina si un punto está contenido en alguno de los lados del polígono
+      * (no hace falta que el polígono sea completo para que el punto esté contenido
       * por alguno de los lados)
-      * @param punto el punto que se desea conocer si est contenido por alguno 
+      * @param punto el punto que se desea conocer si está contenido por alguno 
       * de los lados
-      * @return un valor booleano indicando si el punto pasado como parmetro se
-      * encuentra contenido por alguno de los lados del polgono
-      * @see Punto2D#equals(ObjetoGeometrico)
-      * @see Punto2D#posicionRelativa(Punto2D, Punto2D)
-      * @see Mat#COLINEAL
+      * @return un valor booleano indicando si el punto pasado como parámetro se
+      * encuentra contenido por alguno de los lados del polígono
+      * @see Predicados2D#contenidoEnSegmento(double, double, double, double, double, double)
     */
     public boolean ladosContienenPunto(Punto2D punto) {
+        return ladosContienen(punto.x(), punto.y());
+    }
+
+  /** Determina si un punto está contenido en alguno de los lados del polígono
+    * @param px coordenada cartesiana x del punto
+    * @param py coordenada cartesiana y del punto
+    * @return un valor booleano indicando si el punto se encuentra contenido
+    * por alguno de los lados
+    * @see Poligono2D#ladosContienenPunto(Punto2D)
+    */
+    private boolean ladosContienen(double px, double py) {
         boolean contiene = false;
         int i = 1;
         
         if (numPuntos > 1)
         {
-            try {
-                if (punto.equals(vertices[0])) contiene = true;
-                while (i<numPuntos && !contiene)
-                {
-                    if (punto.equals(vertices[i]))
-                        contiene = true;
-                    else
-                        contiene = (punto.posicionRelativa(vertices[i-1], vertices[i]) == Mat.COLINEAL);
-                    i++;
-                }
-                if (!contiene && poligonoCompleto)
-                    contiene = (punto.posicionRelativa(vertices[numPuntos-1], vertices[0]) == Mat.COLINEAL);
-            } catch (GeomException e) {
-                return false; // Esta excepcin nunca se va a producir
+            while (i<numPuntos && !contiene)
+            {
+                contiene = contenidoEnArista(px, py, i-1, i);
+                i++;
             }
+            if (!contiene && poligonoCompleto)
+                contiene = contenidoEnArista(px, py, numPuntos-1, 0);
         }
         
         return contiene;
     }
     
-    /** Determina si un punto est contenido por el polgono. Para que esto suceda,
-      * el punto deber estar contenido por alguno de los lados o deber encontrarse
-      * a la izquierda de todos ellos en caso de tratarse de un polgono antihorario
-      * o a la derecha si es horario. Si el polgono no es completo se considera que
-      * nunca podr contener un punto
-      * @param punto punto que se desea conocer si est contenido por el polgono
-      * @return un valor booleano indicando si el punto est contenido por el 
-      * polgono o alguno de sus lados
+    /** Determina si un punto está contenido por el polígono. Para que esto suceda,
+      * el punto deberá estar contenido por alguno de los lados o deberá encontrarse
+      * a la izquierda de todos ellos en caso de tratarse de un polígono antihorario
+      * o a la derecha si es horario. Si el polígono no es completo se considera que
+      * nunca podrá contener un punto. Si el polígono es convexo y no tiene
+      * vértices alineados con sus vecinos la comprobación se realiza en tiempo
+      * O(log n) con localizarConvexo
+      * @param punto punto que se desea conocer si está contenido por el polígono
+      * @return un valor booleano indicando si el punto está contenido por el 
+      * polígono o alguno de sus lados
       * @see Poligono2D#contienePuntoEstrictamente(Punto2D)
       * @see Poligono2D#ladosContienenPunto(Punto2D)
+      * @see Poligono2D#localizarConvexo(Punto2D)
       */
     public boolean contienePunto(Punto2D punto) {
-        return contienePuntoEstrictamente(punto) || ladosContienenPunto(punto);
+        return contiene(punto.x(), punto.y());
+    }
+
+  /** Determina si un punto está contenido por el polígono o alguno de sus
+    * lados
+    * @param px coordenada cartesiana x del punto
+    * @param py coordenada cartesiana y del punto
+    * @return un valor booleano indicando si el punto está contenido
+    * @see Poligono2D#contienePunto(Punto2D)
+    */
+    private boolean contiene(double px, double py) {
+        if (poligonoCompleto && esEstrictamenteConvexo())
+            return localizacionConvexa(px, py) != Mat.EXTERIOR;
+        return contieneEstrictamente(px, py) || ladosContienen(px, py);
+    }
+
+  /** Comprueba si cada uno de los puntos de un lote está contenido en el
+    * polígono, con el mismo criterio que contienePunto. Los puntos se
+    * reparten entre varios hilos, y el polígono no debe modificarse mientras
+    * tanto. Para polígonos grandes que no son convexos puede ser preferible
+    * construir un PoligonoPreparado2D
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos a procesar
+    * @param resultado array en el que guardar el resultado. Si es null o no
+    * tiene espacio suficiente se crea uno nuevo
+    * @return un array indicando si cada punto está contenido en el polígono
+    * @see Poligono2D#contienePunto(Punto2D)
+    * @see ContencionParalela#contienePuntos(InterfazContencion, double[], double[], int, boolean[])
+    * @see PoligonoPreparado2D
+    */
+    public boolean[] contienePuntos(double xs[], double ys[], int n, boolean resultado[]) {
+        return ContencionParalela.contienePuntos(this, xs, ys, n, resultado);
+    }
+
+  /** Calcula la simplicidad y el resto de propiedades del polígono que se
+    * guardan tras calcularse, de forma que las comprobaciones de contención
+    * posteriores solo lean el polígono
+    * @see InterfazContencion#prepararConsultas()
+    */
+    public void prepararConsultas() {
+        esSimple();
+        calcularPropiedades();
+    }
+
+  /** Comprueba si cada uno de los puntos de un rango está contenido en el
+    * polígono, con el mismo criterio que contienePunto
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param desde posición del primer punto del rango
+    * @param hasta posición siguiente al último punto del rango
+    * @param resultado array en el que se guarda si cada punto está contenido
+    * @see Poligono2D#contienePunto(Punto2D)
+    */
+    public void contienePuntos(double xs[], double ys[], int desde, int hasta, boolean resultado[]) {
+        for (int i=desde; i<hasta; i++)
+            resultado[i] = contiene(xs[i], ys[i]);
+    }
+
+  /** Obtiene el punto de soporte del polígono en una dirección: el vértice
+    * más alejado en ella. Si el polígono no es convexo, es el punto de
+    * soporte de su envolvente convexa
+    * @param dx componente x de la dirección
+    * @param dy componente y de la dirección
+    * @param punto array en el que se guardan las coordenadas del vértice
+    * @see InterfazSoporte#soporte(double, double, double[])
+    * @see Proximidad2D
+    */
+    public void soporte(double dx, double dy, double punto[]) {
+        int mayor = 0;
+        double maximo = xs[0]*dx + ys[0]*dy;
+        for (int i=1; i<numPuntos; i++) {
+            double producto = xs[i]*dx + ys[i]*dy;
+            if (producto > maximo) {
+                maximo = producto;
+                mayor = i;
+            }
+        }
+        punto[0] = xs[mayor];
+        punto[1] = ys[mayor];
+    }
+
+    /** Localiza un punto respecto a un polígono convexo en tiempo O(log n).
+      * Los vértices forman un abanico de triángulos desde el primero de ellos,
+      * ordenados angularmente, por lo que el triángulo que contiene al punto
+      * se obtiene mediante una búsqueda binaria con el predicado exacto de
+      * orientación. Después basta con comprobar el punto, como en
+      * contienePunto, frente a las aristas cercanas: las del primer vértice y
+      * la del triángulo encontrado junto con sus dos adyacentes. Por ello la
+      * tolerancia de los predicados se aplica solo a esas aristas, y el
+      * resultado puede diferir del de la comprobación lineal en puntos a
+      * menos de epsilon de alguna otra arista. Si algún vértice está alineado
+      * con sus vecinos, algunos triángulos del abanico son degenerados y la
+      * búsqueda no sirve, por lo que se comprueban todas las aristas en tiempo
+      * O(n)
+      * @param punto punto a localizar
+      * @return una constante indicando la localización del punto (Mat.INTERIOR,
+      * Mat.FRONTERA o Mat.EXTERIOR)
+      * @exception GeomException si el polígono no es completo, simple y convexo
+      * @see Poligono2D#esConvexo()
+      * @see Mat#INTERIOR
+      * @see Mat#FRONTERA
+      * @see Mat#EXTERIOR
+      */
+    public int localizarConvexo(Punto2D punto) throws GeomException {
+        if (!poligonoCompleto || !esConvexoYSimple())
+            throw new GeomException("localizarConvexo (Punto2D): el polígono debe ser completo, simple y convexo");
+        return localizacionConvexa(punto.x(), punto.y());
+    }
+
+    /** Obtiene los vértices de tangencia de un polígono convexo desde un punto
+      * exterior, es decir, los vértices por los que pasan las dos rectas que
+      * parten del punto y dejan el polígono a un solo lado. Las aristas que se
+      * ven desde el punto (aquellas respecto a las que el punto queda en el
+      * lado exterior) forman una cadena consecutiva, cuyos extremos son los
+      * vértices de tangencia. Una arista visible y otra que no lo es se obtienen
+      * con la búsqueda en el abanico de localizarConvexo, y los extremos de la
+      * cadena mediante búsquedas binarias entre ambas, por lo que el coste es
+      * O(log n). Como en localizarConvexo, si algún vértice está alineado con
+      * sus vecinos se recorren todas las aristas en tiempo O(n)
+      * @param punto punto exterior al polígono
+      * @return un array con los índices de los dos vértices de tangencia: el
+      * vértice en el que comienza la cadena de aristas visibles, en el orden de
+      * los vértices del polígono, y el vértice en el que termina
+      * @exception GeomException si el polígono no es completo, simple y convexo,
+      * o si el punto no es exterior al polígono
+      * @see Poligono2D#localizarConvexo(Punto2D)
+      * @see PredicadosExactos2D#orientacion(double, double, double, double, double, double)
+      */
+    public int[] tangentes(Punto2D punto) throws GeomException {
+        if (!poligonoCompleto || !esConvexoYSimple())
+            throw new GeomException("tangentes (Punto2D): el polígono debe ser completo, simple y convexo");
+
+        double px = punto.x(), py = punto.y();
+        int sentido = sentido();
+        int ultima = numPuntos - 1;
+        boolean primeraVisible = visible(px, py, 0, sentido);
+        boolean ultimaVisible = visible(px, py, ultima, sentido);
+        int comienzo, fin;
+
+        if (!esEstrictamenteConvexo()) {
+            // La cadena de aristas visibles comienza en la arista visible
+            // cuya anterior no lo es, y termina en la anterior a la primera
+            // arista no visible tras ella
+            comienzo = fin = -1;
+            boolean anterior = ultimaVisible;
+            for (int i=0; i<numPuntos; i++) {
+                boolean actual = visible(px, py, i, sentido);
+                if (actual && !anterior)
+                    comienzo = i;
+                else if (!actual && anterior)
+                    fin = posicionAnterior(i);
+                anterior = actual;
+            }
+            if (comienzo < 0 || fin < 0)
+                throw new GeomException("tangentes (Punto2D): el punto debe ser exterior al polígono");
+        } else if (!primeraVisible && !ultimaVisible) {
+            // El punto está en el ángulo del primer vértice, así que la arista
+            // del triángulo del abanico que lo contiene es visible si el punto
+            // es exterior
+            int i = abanico(px, py, sentido);
+            if (!visible(px, py, i, sentido))
+                throw new GeomException("tangentes (Punto2D): el punto debe ser exterior al polígono");
+            comienzo = cambioVisibilidad(px, py, 0, i, sentido);
+            fin = cambioVisibilidad(px, py, i, ultima, sentido) - 1;
+        } else if (primeraVisible && !ultimaVisible) {
+            comienzo = 0;
+            fin = cambioVisibilidad(px, py, 0, ultima, sentido) - 1;
+        } else if (!primeraVisible && ultimaVisible) {
+            comienzo = cambioVisibilidad(px, py, 0, ultima, sentido);
+            fin = ultima;
+        } else {
+            // El punto está detrás del primer vértice. La semirrecta que parte
+            // del punto y pasa por el primer vértice sale del polígono por una
+            // arista que no es visible, y que es la del abanico en la dirección
+            // opuesta al punto
+            int i = abanico(px, py, -sentido);
+            comienzo = cambioVisibilidad(px, py, i, ultima, sentido);
+            fin = cambioVisibilidad(px, py, 0, i, sentido) - 1;
+        }
+
+        int resultado[] = { comienzo, posicionSiguiente(fin) };
+        return resultado;
     }
     
-    /** Obtiene la distancia del polgono a un punto, as como el punto del 
-      * polgono ms cercano a dicho punto. Si el polgono solo tiene
-      * un vrtice se calcular la distancia del punto a dicho vrtice, y en caso
-      * contrario, la distancia ser la distancia ms corta a alguno de sus lados
+    /** Obtiene la distancia del polígono a un punto, así como el punto del 
+      * polígono más cercano a dicho punto. Si el polígono solo tiene
+      * un vértice se calculará la distancia del punto a dicho vértice, y en caso
+      * contrario, la distancia será la distancia más corta a alguno de sus lados.
+      * Recorre todas las aristas; para muchas consultas sobre el mismo polígono
+      * es preferible construir una JerarquiaAristas2D
       * @param punto punto al que se desea obtener la distancia
-      * @param cercano punto del segmento ms cercano al punto pasado como primer
-      * parmetro. Es un parmetro de SALIDA, y debe ser un punto ya creado
-      * @return la distancia del polgono al punto pasado como parmetro
-      * @exception GeomException si el punto pasado como segundo parmetro no es un punto
+      * @param cercano punto del segmento más cercano al punto pasado como primer
+      * parámetro. Es un parámetro de SALIDA, y debe ser un punto ya creado
+      * @return la distancia del polígono al punto pasado como parámetro
+      * @exception GeomException si el punto pasado como segundo parámetro no es un punto
       * ya creado
       * @see Punto2D#distancia(Punto2D)
       * @see Segmento2D#Segmento2D(Punto2D, Punto2D)
       * @see Segmento2D#puntoMasCercano(Punto2D, Punto2D)
       * @see Punto2D#vectorDiferencia(Punto2D)    
+      * @see JerarquiaAristas2D
       */
     public double puntoMasCercano(Punto2D punto, Punto2D cercano) throws GeomException {
         double distancia = java.lang.Double.POSITIVE_INFINITY;
       
         if (cercano == null) 
-            throw new GeomException("puntoMasCercano (Punto2D, Punto2D): el segundo parmetro debe estar inicializado");
+            throw new GeomException("puntoMasCercano (Punto2D, Punto2D): el segundo parámetro debe estar inicializado");
         
         Punto2D cercanoTemporal = new Punto2D();
         Vector2D diferencia = null;
@@ -527,15 +886,15 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
         if (numPuntos >= 1)
         {
             if (numPuntos == 1) {
-                distancia = punto.distancia(vertices[0]);
-                diferencia = vertices[0].vectorDiferencia(cercano);
+                distancia = punto.distancia(punto(0));
+                diferencia = punto(0).vectorDiferencia(cercano);
                 cercano.trasladar(diferencia);
             }    
             else
             {
                 for (int i=1; i<numPuntos; i++)
                     try {
-                        Segmento2D seg = new Segmento2D(vertices[i-1], vertices[i]);
+                        Segmento2D seg = new Segmento2D(punto(i-1), punto(i));
                         double dist = seg.puntoMasCercano(punto, cercanoTemporal);
                         if (dist < distancia) {
                             distancia = dist;
@@ -543,16 +902,16 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
                             cercano.trasladar(diferencia);
                         }
                     } catch (GeomException e) {
-                        double dist = vertices[i-1].distancia(punto);
+                        double dist = punto(i-1).distancia(punto);
                         if (dist < distancia) {
                             distancia = dist;
-                            diferencia = vertices[i-1].vectorDiferencia(cercano);
+                            diferencia = punto(i-1).vectorDiferencia(cercano);
                             cercano.trasladar(diferencia);
                         }
                     }
                 if (poligonoCompleto)
                     try {
-                        Segmento2D seg = new Segmento2D(vertices[0], vertices[numPuntos -1]);
+                        Segmento2D seg = new Segmento2D(punto(0), punto(numPuntos -1));
                         double dist = seg.puntoMasCercano(punto, cercanoTemporal);
                         if (dist < distancia) {
                             distancia = dist;
@@ -560,10 +919,10 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
                             cercano.trasladar(diferencia);
                         }
                     } catch (GeomException e) {
-                        double dist = vertices[0].distancia(punto);
+                        double dist = punto(0).distancia(punto);
                         if (dist < distancia) {
                             distancia = dist;
-                            diferencia = vertices[0].vectorDiferencia(cercano);
+                            diferencia = punto(0).vectorDiferencia(cercano);
                             cercano.trasladar(diferencia);
                         }
                     }
@@ -573,9 +932,9 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
         return distancia;
     }
     
-   /** Obtiene la distancia del polgono a un punto
+   /** Obtiene la distancia del polígono a un punto
      * @param punto punto para el cual se desea obtener la distancia
-     * @return la distancia del polgono al punto
+     * @return la distancia del polígono al punto
      * @see Poligono2D#puntoMasCercano(Punto2D, Punto2D)
      */
     public double distancia(Punto2D punto) {
@@ -587,25 +946,28 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
     }
     
     
-    /** Determina si el polgono es convexo
-      * @return un valor booleano indicando si el polgono es convexo
+    /** Determina si el polígono es convexo, es decir, si lo son todos sus
+      * vértices. No se comprueba cada vértice por separado, sino que basta con
+      * saber si la cadena gira en algún vértice en sentido contrario al del
+      * polígono, lo que se obtiene al calcular sus propiedades
+      * @return un valor booleano indicando si el polígono es convexo
       * @see Poligono2D#esConvexo(int)
+      * @see Poligono2D#sentido()
       */
     public boolean esConvexo() {
-        int i=0;
-        boolean convexo = true;
-        
-        while (i<numPuntos && convexo)
-        {
-            convexo = esConvexo(i);
-            i++;
-        }
-        
-        return convexo;
+        if (numPuntos == 0)
+            return true;
+        calcularPropiedades();
+        if (verticesRepetidos)
+            return false;
+        if (sentido() == Mat.ANTIHORARIO)
+            return girosDerecha == 0;
+        else
+            return girosIzquierda == 0;
     }
     
-   /** Determina si el polgono es cncavo
-    * @return un valor booleano indicando si el polgono es cncavo
+   /** Determina si el polígono es cóncavo
+    * @return un valor booleano indicando si el polígono es cóncavo
     * @see Poligono2D#esConvexo()
     */
     public boolean esConcavo() {
@@ -616,18 +978,18 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
         int v;
         
         if (numPuntos == 1)
-            vertices[0].dibujar(g, coordenadas);
+            punto(0).dibujar(g, coordenadas);
         else
         {
             for (v=0; v<=numPuntos-1; v++) {
-                vertices[v].dibujar(g, coordenadas);
+                punto(v).dibujar(g, coordenadas);
                 g.setColor(color);
                 if (v<(numPuntos-1))
-                g.drawLine ((int) vertices[v].x(), -(int) vertices[v].y(),
-                            (int) vertices[v+1].x(), -(int) vertices[v+1].y());
+                g.drawLine ((int) xs[v], -(int) ys[v],
+                            (int) xs[v+1], -(int) ys[v+1]);
                 if (v == (numPuntos-1) && poligonoCompleto)
-                g.drawLine ((int) vertices[v].x(), -(int) vertices[v].y(),
-                            (int) vertices[0].x(), -(int) vertices[0].y());
+                g.drawLine ((int) xs[v], -(int) ys[v],
+                            (int) xs[0], -(int) ys[0]);
             }
                    
         }
@@ -646,15 +1008,16 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
         if (numPuntos > 1)
         {
             try {
-                Segmento2D segmento = new Segmento2D(vertices[0].x(), vertices[0].y(), vertices[1].x(), vertices[1].y());
+                Segmento2D segmento = new Segmento2D(xs[0], ys[0], xs[1], ys[1]);
                 segmento.cambiarNombre(nombre);
                 segmento.dibujarNombre(g);
             } catch (GeomException ge) {return; } // Nunca se va a producir
         }
         else
         {
-            vertices[0].cambiarNombre(nombre);
-            vertices[0].dibujarNombre(g);
+            Punto2D primero = punto(0);
+            primero.cambiarNombre(nombre);
+            primero.dibujarNombre(g);
         }
     }
     
@@ -662,38 +1025,47 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
         int v;
         
         if (numPuntos == 1)
-            vertices[0].dibujarXor(g);
+            punto(0).dibujarXor(g);
         else
         {
             for (v=0; v<=numPuntos-1; v++) {
-                vertices[v].dibujarXor(g);
+                punto(v).dibujarXor(g);
                 g.setColor(Color.white);
                 if (v<(numPuntos-1))
-                g.drawLine ((int) vertices[v].x(), -(int) vertices[v].y(),
-                            (int) vertices[v+1].x(), -(int) vertices[v+1].y());
+                g.drawLine ((int) xs[v], -(int) ys[v],
+                            (int) xs[v+1], -(int) ys[v+1]);
                 if (v == (numPuntos-1) && poligonoCompleto)
-                g.drawLine ((int) vertices[v].x(), -(int) vertices[v].y(),
-                            (int) vertices[0].x(), -(int) vertices[0].y());
+                g.drawLine ((int) xs[v], -(int) ys[v],
+                            (int) xs[0], -(int) ys[0]);
             }
                    
         }
     }
     
  /** 
-    * Determina si un polgono es simple. Un polgono ser simple si cada vrtice es
+    * Determina si un polígono es simple. Un polígono será simple si cada vértice es
     * compartido tan solo por dos aristas y si no hay cruce entre ninguna de las 
-    * aristas
-    * @return un valor booleano indicando si el polgono es simple
+    * aristas: no hay vértices repetidos, dos aristas consecutivas solo
+    * comparten su vértice común y dos aristas no consecutivas no tienen
+    * ningún punto en común. La comprobación se realiza mediante un barrido,
+    * con coste O(n log n), solo cuando el polígono ha cambiado desde la
+    * última consulta
+    * @return un valor booleano indicando si el polígono es simple
+    * @see Simplicidad2D#esSimple(double[], double[], int, boolean)
     */
     public boolean esSimple()
     {
+         if (!simplicidadCalculada) {
+             poligonoSimple = Simplicidad2D.esSimple(xs, ys, numPuntos, poligonoCompleto);
+             simplicidadCalculada = true;
+         }
          return poligonoSimple;
     }
     
   /** 
-    * Determina si el polgono es completo. un polgono es completo o cerrado si 
-    * existe una arista entre el primer y el ltimo vrtice del mismo
-    * @return un valor booleano indicando si el polgono es completo
+    * Determina si el polígono es completo. un polígono es completo o cerrado si 
+    * existe una arista entre el primer y el último vértice del mismo
+    * @return un valor booleano indicando si el polígono es completo
     **/
     public boolean esCompleto()
     {
@@ -701,58 +1073,67 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
     }
         
   /** 
-    * Obtiene el rea del polgono, calculada como la suma de las reas de los
-    * tringulos formados por el origen de coordenadas y cada par de vrtices
-    * adyacentes del polgono. Devuelve 0 si el polgono no est cerrado o
-    * no es simple 
-    * @return 0 si el polgono no es simple o cerrado, y su rea en caso contrario
-    * @see Punto2D#Punto2D()
-    * @see Punto2D#x()
-    * @see Punto2D#y()
+    * Obtiene el área del polígono, calculada como la suma de las áreas de los
+    * triángulos formados por el origen de coordenadas y cada par de vértices
+    * adyacentes del polígono. Devuelve 0 si el polígono no está cerrado o
+    * no es simple. La suma se calcula junto con el resto de propiedades del
+    * polígono, y no se repite hasta que este se modifica
+    * @return 0 si el polígono no es simple o cerrado, y su área en caso contrario
     */
     public double area()
     {
-        double parcial = 0;
-        Punto2D origen = new Punto2D();
-        
-        if (poligonoCompleto && poligonoSimple)
+        if (poligonoCompleto && esSimple())
         {
-            for (int i=0; i<numPuntos-1; i++)
-                 parcial += (vertices[i].x()*vertices[i+1].y() -
-                        vertices[i].y()*vertices[i+1].x());
-            parcial += (vertices[numPuntos-1].x()*vertices[0].y() -
-                        vertices[numPuntos-1].y()*vertices[0].x());
+            calcularPropiedades();
+            return dobleArea/2;
         }
-        
-        return parcial/2;
+        return 0;
     }
     
   /** 
-    * Determina el sentido en que fueron insertados los vrtices en el polgono, 
-    * segn el signo de su rea
-    * @return el rea del polgono con signo
+    * Determina el sentido en que fueron insertados los vértices en el polígono.
+    * En un polígono simple el vértice con menor coordenada x (y menor y en caso
+    * de empate) es siempre convexo, por lo que el sentido del polígono es el
+    * de dicho vértice con sus dos adyacentes, que se obtiene con el predicado
+    * exacto de orientación. Solo si este resulta colineal se recurre al signo
+    * del área. Si el polígono no está cerrado o no es simple se devuelve
+    * Mat.HORARIO, como cuando su área es 0
+    * @return el sentido del polígono
     * @see Mat#ANTIHORARIO
     * @see Mat#HORARIO
     * @see Poligono2D#area()
+    * @see PredicadosExactos2D#orientacion(double, double, double, double, double, double)
     */
     public int sentido()
     {
-        if (area()>0)
+        if (!poligonoCompleto || !esSimple())
+            return Mat.HORARIO;
+
+        calcularPropiedades();
+        int menor = indiceMenor;
+        int anterior = posicionAnterior(menor);
+        int siguiente = posicionSiguiente(menor);
+        int orientacion = PredicadosExactos2D.orientacion(xs[anterior], ys[anterior],
+                                                          xs[menor], ys[menor],
+                                                          xs[siguiente], ys[siguiente]);
+        if (orientacion != Mat.COLINEAL)
+            return orientacion;
+        else if (area()>0)
             return Mat.ANTIHORARIO;
         else
             return Mat.HORARIO;
     }
     
   /**
-    * Determina si el vrtice en la posicin indicada del vector de vrtices del
-    * polgono es convexo. Para que esto sea as, si el polgono es antihorario, 
-    * el punto Pi+1 deber estar a la izquierda del segmento orientado (Pi-1, Pi).
+    * Determina si el vértice en la posición indicada del vector de vértices del
+    * polígono es convexo. Para que esto sea así, si el polígono es antihorario, 
+    * el punto Pi+1 deberá estar a la izquierda del segmento orientado (Pi-1, Pi).
     * En el caso de sentido horario, debe estar a la derecha
-    * @param vertice la posicin del vrtice a comprobar dentro del array de 
-    * vrtices del polgono
-    * @return un valor booleano indicando si el vrtice es convexo
+    * @param vertice la posición del vértice a comprobar dentro del array de 
+    * vértices del polígono
+    * @return un valor booleano indicando si el vértice es convexo
     * @see Poligono2D#sentido()
-    * @see Punto2D#posicionRelativa(Punto2D, Punto2D)
+    * @see Predicados2D#posicionRelativa(double, double, double, double, double, double)
     * @see Mat#ANTIHORARIO
     * @see Mat#HORARIO
     * @see Mat#IZQUIERDA
@@ -765,23 +1146,26 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
         if (vertice == 0) anterior=numPuntos-1; else anterior=vertice-1;
         if (vertice == numPuntos-1) posterior=0; else posterior = vertice+1;
         
-        try {
-            if (sentido() == Mat.ANTIHORARIO)
-               return vertices[posterior].posicionRelativa(vertices[anterior], vertices[vertice]) 
-                       != Mat.DERECHA;
-            else
-               return vertices[posterior].posicionRelativa(vertices[anterior], vertices[vertice]) 
-                       != Mat.IZQUIERDA;
-        } catch (GeomException e) // Nunca se va a producir
-        { return false; }
+        double px = xs[posterior], py = ys[posterior];
+        // Si el vértice coincide con alguno de sus adyacentes el sentido no
+        // está definido
+        if (Predicados2D.iguales(xs[anterior], ys[anterior], xs[vertice], ys[vertice]) ||
+            Predicados2D.iguales(px, py, xs[anterior], ys[anterior]) ||
+            Predicados2D.iguales(px, py, xs[vertice], ys[vertice]))
+            return false;
+        
+        if (sentido() == Mat.ANTIHORARIO)
+           return posicionRelativa(px, py, anterior, vertice) != Mat.DERECHA;
+        else
+           return posicionRelativa(px, py, anterior, vertice) != Mat.IZQUIERDA;
     }
     
    /**
-    * Determina si el vrtice en la posicin indicada del vector de vrtices del
-    * polgono es concavo. Para ello simplemente se comprueba que no es convexo
-    * @param vertice la posicin del vrtice a comprobar dentro del array de 
-    * vrtices del polgono
-    * @return un valor booleano indicando si el vrtice es cncavo
+    * Determina si el vértice en la posición indicada del vector de vértices del
+    * polígono es concavo. Para ello simplemente se comprueba que no es convexo
+    * @param vertice la posición del vértice a comprobar dentro del array de 
+    * vértices del polígono
+    * @return un valor booleano indicando si el vértice es cóncavo
     * @see Poligono2D#esConvexo(int)
     */
     public boolean esConcavo(int vertice)
@@ -789,16 +1173,16 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
         return !esConvexo(vertice);
     }
     
-  /** Determina si el segmento definido entre los dos vrtices  indicados es una
+  /** Determina si el segmento definido entre los dos vértices  indicados es una
     * diagonal. Para ello:
     * <ul>
-    * <li>No debe intesectar con ningn lado</li>
-    * <li>Debe encontrarse dentro de los conos definidos por los vrtices de 
+    * <li>No debe intesectar con ningún lado</li>
+    * <li>Debe encontrarse dentro de los conos definidos por los vértices de 
     * origen y destino</li>
     * </ul>
-    * @param v1 ndice dentro del array de vrtices del polgono del origen del 
+    * @param v1 índice dentro del array de vértices del polígono del origen del 
     * segmento a comprobar
-    * @param v2 ndice dentro del array de vrtices del polgono del destino del
+    * @param v2 índice dentro del array de vértices del polígono del destino del
     * segmento a comprobar
     * @return un valor booleano indicando si el segmento es una diagonal
     * @exception GeomException si el origen y el destino son el mismo punto
@@ -813,45 +1197,45 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
     */
     public boolean esDiagonal(int v1, int v2) throws GeomException
     {
-        Segmento2D seg = new Segmento2D(vertices[v1], vertices[v2]);
+        Segmento2D seg = new Segmento2D(punto(v1), punto(v2));
         boolean intersecta = false;
         int vertice = 1;
         
         // Comprobamos si intersecta con algun lado
         while (!intersecta  && vertice<numPuntos)
         {
-            if (seg.intersectaPropSegmento(new Segmento2D(vertices[vertice-1], vertices[vertice])))
+            if (seg.intersectaPropSegmento(new Segmento2D(punto(vertice-1), punto(vertice))))
                 intersecta = true;
             else
                 vertice++;
         }
-        // Si no intersecta con ningn lado, comprobamos que se enceuntre 
+        // Si no intersecta con ningún lado, comprobamos que se enceuntre 
         // en el interior de los conos definidos por los dos extremos. 
         if (!intersecta)
         {
             Punto2D anterior1, posterior1, anterior2, posterior2;
             
             if (v1 == 0)
-                anterior1 = vertices[numPuntos-1];
+                anterior1 = punto(numPuntos-1);
             else
-                anterior1 = vertices[v1-1];
+                anterior1 = punto(v1-1);
             if (v1 == numPuntos-1)
-                posterior1 = vertices[0];
+                posterior1 = punto(0);
             else
-                posterior1 = vertices[v1+1];
+                posterior1 = punto(v1+1);
             if (v2 == 0)
-                anterior2 = vertices[numPuntos-1];
+                anterior2 = punto(numPuntos-1);
             else
-                anterior2 = vertices[v2-1];
+                anterior2 = punto(v2-1);
             if (v2 == numPuntos-1)
-                posterior2 = vertices[0];
+                posterior2 = punto(0);
             else
-                posterior2 = vertices[v2+1];
+                posterior2 = punto(v2+1);
             
-            Direccion2D dant1 = new Direccion2D(vertices[v1], anterior1);
-            Direccion2D dpost1 = new Direccion2D(vertices[v1], posterior1);
-            Direccion2D dant2 = new Direccion2D(vertices[v2], anterior2);
-            Direccion2D dpost2 = new Direccion2D(vertices[v2], posterior2);
+            Direccion2D dant1 = new Direccion2D(punto(v1), anterior1);
+            Direccion2D dpost1 = new Direccion2D(punto(v1), posterior1);
+            Direccion2D dant2 = new Direccion2D(punto(v2), anterior2);
+            Direccion2D dpost2 = new Direccion2D(punto(v2), posterior2);
             Direccion2D dir1 = new Direccion2D(seg);
             Direccion2D dir2 = new Direccion2D(seg.opuesto());
             
@@ -864,164 +1248,405 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
         }
         return false;
     }
- 
-    /** Determina cual es el vertice cuya coordenada x est situada ms a la
+
+  /** Triangula el polígono, dividiéndolo en n-2 triángulos cuyos vértices son
+    * vértices del polígono. Primero se divide el polígono en partes monótonas
+    * mediante un barrido y después se triangula cada parte en tiempo lineal,
+    * por lo que el coste es O(n log n)
+    * @return un array de 3(n-2) posiciones con los índices de los vértices de
+    * cada triángulo, de tres en tres y en sentido antihorario
+    * @exception GeomException si el polígono no está cerrado o no es simple
+    * @see Triangulacion2D#triangular(double[], double[], int, int)
+    * @see Poligono2D#triangulos()
+    */
+    public int[] triangular() throws GeomException
+    {
+        if (!poligonoCompleto || numPuntos < 3 || !esSimple())
+            throw new GeomException("triangular (): el polígono debe ser cerrado y simple");
+        return Triangulacion2D.triangular(xs, ys, numPuntos, sentido());
+    }
+
+  /** Triangula el polígono y devuelve los triángulos obtenidos
+    * @return un array con los n-2 triángulos en que se divide el polígono,
+    * con sus vértices en sentido antihorario
+    * @exception GeomException si el polígono no está cerrado o no es simple
+    * @see Poligono2D#triangular()
+    */
+    public Triangulo2D[] triangulos() throws GeomException
+    {
+        int indices[] = triangular();
+        Triangulo2D resultado[] = new Triangulo2D[indices.length/3];
+        for (int t=0; t<resultado.length; t++) {
+            int a = indices[3*t], b = indices[3*t+1], c = indices[3*t+2];
+            resultado[t] = new Triangulo2D(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c]);
+        }
+        return resultado;
+    }
+
+  /** Calcula la intersección del polígono con otro
+    * @param otro polígono con el que se intersecta
+    * @return los contornos de la intersección (los de los huecos en sentido
+    * horario), o un array vacío si no tienen ningún punto interior en común
+    * @exception GeomException si alguno de los polígonos no es completo
+    * @see OperacionesBooleanas2D#interseccion(Poligono2D, Poligono2D)
+    */
+    public Poligono2D[] interseccion(Poligono2D otro) throws GeomException
+    {
+        return OperacionesBooleanas2D.interseccion(this, otro);
+    }
+
+  /** Calcula la intersección del polígono con otro cuando ambos son
+    * convexos, con coste O(n + m)
+    * @param otro polígono convexo con el que se intersecta
+    * @return un nuevo polígono convexo en sentido antihorario con la
+    * intersección, o null si no tienen ningún punto interior en común
+    * @exception GeomException si alguno de los polígonos no es completo, simple
+    * y convexo
+    * @see InterseccionConvexa2D#interseccion(double[], double[], int, int, double[], double[], int, int, double[], double[])
+    */
+    public Poligono2D interseccionConvexa(Poligono2D otro) throws GeomException
+    {
+        comprobarConvexos(otro, "interseccionConvexa (Poligono2D)");
+        double nuevasX[] = new double[2 * (numPuntos + otro.numPuntos)];
+        double nuevasY[] = new double[nuevasX.length];
+        int k = InterseccionConvexa2D.interseccion(xs, ys, numPuntos, sentido(),
+                                                   otro.xs, otro.ys, otro.numPuntos, otro.sentido(),
+                                                   nuevasX, nuevasY);
+        // Un triángulo cuyo último vértice es casi igual al primero no llega a
+        // ser un polígono
+        if (k < 3 || (k == 3 && Predicados2D.iguales(nuevasX[0], nuevasY[0], nuevasX[2], nuevasY[2])))
+            return null;
+        Poligono2D interseccion = new Poligono2D();
+        interseccion.iniciar(nuevasX, nuevasY, k, "interseccionConvexa (Poligono2D)");
+        return interseccion;
+    }
+
+  /** Determina si el polígono tiene puntos interiores en común con otro
+    * cuando ambos son convexos, mediante ejes separadores, con coste
+    * O(n + m) y sin crear ningún objeto. Los polígonos que solo se tocan en
+    * su borde no se solapan
+    * @param otro polígono convexo que se comprueba
+    * @return un valor booleano indicando si los polígonos se solapan
+    * @exception GeomException si alguno de los polígonos no es completo, simple
+    * y convexo
+    * @see InterseccionConvexa2D#seSolapan(double[], double[], int, int, double[], double[], int, int)
+    */
+    public boolean solapaConvexo(Poligono2D otro) throws GeomException
+    {
+        comprobarConvexos(otro, "solapaConvexo (Poligono2D)");
+        return InterseccionConvexa2D.seSolapan(xs, ys, numPuntos, sentido(),
+                                               otro.xs, otro.ys, otro.numPuntos, otro.sentido());
+    }
+
+  /** Calcula la unión del polígono con otro
+    * @param otro polígono con el que se une
+    * @return los contornos de la unión (los de los huecos en sentido horario)
+    * @exception GeomException si alguno de los polígonos no es completo
+    * @see OperacionesBooleanas2D#union(Poligono2D, Poligono2D)
+    */
+    public Poligono2D[] union(Poligono2D otro) throws GeomException
+    {
+        return OperacionesBooleanas2D.union(this, otro);
+    }
+
+  /** Calcula la diferencia entre el polígono y otro
+    * @param otro polígono que se resta
+    * @return los contornos de la diferencia (los de los huecos en sentido
+    * horario)
+    * @exception GeomException si alguno de los polígonos no es completo
+    * @see OperacionesBooleanas2D#diferencia(Poligono2D, Poligono2D)
+    */
+    public Poligono2D[] diferencia(Poligono2D otro) throws GeomException
+    {
+        return OperacionesBooleanas2D.diferencia(this, otro);
+    }
+
+  /** Calcula la diferencia simétrica del polígono con otro
+    * @param otro polígono con el que se opera
+    * @return los contornos de la diferencia simétrica (los de los huecos en
+    * sentido horario)
+    * @exception GeomException si alguno de los polígonos no es completo
+    * @see OperacionesBooleanas2D#diferenciaSimetrica(Poligono2D, Poligono2D)
+    */
+    public Poligono2D[] diferenciaSimetrica(Poligono2D otro) throws GeomException
+    {
+        return OperacionesBooleanas2D.diferenciaSimetrica(this, otro);
+    }
+
+  /** Calcula la suma de Minkowski del polígono con otro, es decir, el
+    * polígono formado por las sumas de cada punto de uno con cada punto del
+    * otro. Ambos polígonos deben ser convexos, y entonces la suma también lo
+    * es: sus lados son los lados de los dos polígonos ordenados por su ángulo
+    * respecto al eje x. Se recorren ambos polígonos en sentido antihorario
+    * desde su menor vértice en orden lexicográfico, tomando en cada paso el
+    * lado de menor ángulo, de forma que el coste es O(n + m) y no es
+    * necesario calcular la envolvente de las n·m sumas de vértices. Los lados
+    * con la misma dirección se unen en uno solo
+    * @param otro polígono convexo que se suma
+    * @return un nuevo polígono convexo con la suma, en sentido antihorario
+    * @exception GeomException si alguno de los polígonos no es completo, simple
+    * y convexo
+    * @see Direccion2D#mayorQue(Direccion2D)
+    */
+    public Poligono2D sumaMinkowski(Poligono2D otro) throws GeomException
+    {
+        comprobarConvexos(otro, "sumaMinkowski (Poligono2D)");
+
+        int n = numPuntos, m = otro.numPuntos;
+        int pasoA = (sentido() == Mat.ANTIHORARIO) ? 1 : n-1;
+        int pasoB = (otro.sentido() == Mat.ANTIHORARIO) ? 1 : m-1;
+        int a = indiceMenor, b = otro.indiceMenor;
+        double nuevasX[] = new double[n+m], nuevasY[] = new double[n+m];
+        int k = 0, i = 0, j = 0;
+        while (i < n || j < m) {
+            nuevasX[k] = xs[a] + otro.xs[b];
+            nuevasY[k] = ys[a] + otro.ys[b];
+            k++;
+            int siguienteA = (a + pasoA) % n, siguienteB = (b + pasoB) % m;
+            int orden;
+            if (i == n)
+                orden = 1;
+            else if (j == m)
+                orden = -1;
+            else
+                orden = compararAngulos(xs[siguienteA] - xs[a], ys[siguienteA] - ys[a],
+                                        otro.xs[siguienteB] - otro.xs[b], otro.ys[siguienteB] - otro.ys[b]);
+            if (orden <= 0) {
+                a = siguienteA;
+                i++;
+            }
+            if (orden >= 0) {
+                b = siguienteB;
+                j++;
+            }
+        }
+
+        Poligono2D suma = new Poligono2D();
+        suma.iniciar(nuevasX, nuevasY, k, "sumaMinkowski (Poligono2D)");
+        return suma;
+    }
+
+  /** Desplaza el polígono una distancia hacia fuera o hacia dentro
+    * @param distancia distancia de desplazamiento: hacia fuera si es positiva
+    * y hacia dentro si es negativa
+    * @param union tipo de unión en los vértices (Desplazamiento2D.INGLETE,
+    * Desplazamiento2D.REDONDA o Desplazamiento2D.CUADRADA)
+    * @return la región desplazada
+    * @exception GeomException si el polígono no es completo o el tipo de unión
+    * no es válido
+    * @see Desplazamiento2D#desplazar(Poligono2D, double, int)
+    */
+    public MultiPoligono2D desplazar(double distancia, int union) throws GeomException
+    {
+        return Desplazamiento2D.desplazar(this, distancia, union);
+    }
+
+  /** Calcula la zona de influencia de la cadena de vértices del polígono,
+    * formada por los puntos que están a una distancia de ella no mayor que la
+    * indicada. Si el polígono no es completo la cadena es una línea abierta
+    * @param distancia distancia máxima a la cadena, que debe ser positiva
+    * @param union tipo de unión en los vértices (Desplazamiento2D.INGLETE,
+    * Desplazamiento2D.REDONDA o Desplazamiento2D.CUADRADA)
+    * @return la zona de influencia
+    * @exception GeomException si la cadena no tiene al menos dos vértices
+    * distintos, la distancia no es positiva o el tipo de unión no es válido
+    * @see Desplazamiento2D#zona(Poligono2D, double, int)
+    */
+    public MultiPoligono2D zona(double distancia, int union) throws GeomException
+    {
+        return Desplazamiento2D.zona(this, distancia, union);
+    }
+
+  /** Simplifica el polígono con el algoritmo de Douglas y Peucker. Si no es
+    * completo se simplifica como línea abierta
+    * @param tolerancia distancia máxima entre el resultado y el polígono
+    * @return un nuevo polígono con un subconjunto de los vértices
+    * @exception GeomException si la tolerancia es negativa o el polígono no
+    * tiene al menos dos vértices
+    * @see Simplificacion2D#douglasPeucker(Poligono2D, double)
+    */
+    public Poligono2D simplificar(double tolerancia) throws GeomException
+    {
+        return Simplificacion2D.douglasPeucker(this, tolerancia);
+    }
+
+  /** Reduce el polígono a un número de vértices con el algoritmo de
+    * Visvalingam y Whyatt. Si no es completo se reduce como línea abierta
+    * @param numVertices número de vértices del resultado
+    * @return un nuevo polígono con un subconjunto de los vértices
+    * @exception GeomException si el número de vértices no es suficiente
+    * @see Simplificacion2D#reducir(Poligono2D, int)
+    */
+    public Poligono2D reducir(int numVertices) throws GeomException
+    {
+        return Simplificacion2D.reducir(this, numVertices);
+    }
+
+  /** Mide el polígono con calibres giratorios: diámetro, anchura y
+    * rectángulos de área y perímetro mínimos. Si no es convexo se mide su
+    * envolvente convexa
+    * @return un nuevo objeto con las medidas del polígono
+    * @exception GeomException si el polígono no es completo o sus vértices
+    * están alineados
+    * @see Calibres2D#Calibres2D(Poligono2D)
+    */
+    public Calibres2D calibres() throws GeomException
+    {
+        return new Calibres2D(this);
+    }
+
+    /** Determina cual es el vertice cuya coordenada x está situada más a la
       * izquierda
-      * @return el vrtice del polgono cuya coordenada x est situada ms
+      * @return el vértice del polígono cuya coordenada x está situada más
       * a la izquierda
-      * @exception GeomException si el polgono no contiene ningun vrtice
+      * @exception GeomException si el polígono no contiene ningun vértice
       * @see Punto2D#x()
       * 
       */
     public Punto2D menorX() throws GeomException{
         if (numPuntos == 0)
-            throw new GeomException("menorX () : El polgono no tienen ningn vrtice");
+            throw new GeomException("menorX () : El polígono no tienen ningún vértice");
         else
         {        
-            Punto2D menor = vertices[0];
-        
-            for (int i=1; i<numPuntos; i++)
-                if (vertices[i].x() < menor.x())
-                    menor = vertices[i];
-            
-            return menor;
+            calcularPropiedades();
+            return punto(indiceMenorX);
         }
     }
 
-    /** Determina cual es el vertice cuya coordenada x est situada ms a la
+    /** Determina cual es el vertice cuya coordenada x está situada más a la
       * derecha
-      * @return el vrtice del polgono cuya coordenada x est situada ms
+      * @return el vértice del polígono cuya coordenada x está situada más
       * a la derecha
-      * @exception GeomException si el polgono no contiene ningun vrtice
+      * @exception GeomException si el polígono no contiene ningun vértice
       * @see Punto2D#x()
       */
     public Punto2D mayorX() throws GeomException{
         if (numPuntos == 0)
-            throw new GeomException("mayorX () : El polgono no tienen ningn vrtice");
+            throw new GeomException("mayorX () : El polígono no tienen ningún vértice");
         else
         {        
-            Punto2D mayor = vertices[0];
-        
-            for (int i=1; i<numPuntos; i++)
-                if (vertices[i].x() > mayor.x())
-                    mayor = vertices[i];
-            
-            return mayor;
+            calcularPropiedades();
+            return punto(indiceMayorX);
         }
     }
 
-    /** Determina cual es el vertice cuya coordenada y est situada ms abajo
-      * @return el vrtice del polgono cuya coordenada y est situada ms
+    /** Determina cual es el vertice cuya coordenada y está situada más abajo
+      * @return el vértice del polígono cuya coordenada y está situada más
       * abajo
-      * @exception GeomException si el polgono no contiene ningun vrtice
+      * @exception GeomException si el polígono no contiene ningun vértice
       * @see Punto2D#y()
       * 
       */
     public Punto2D menorY() throws GeomException{
         if (numPuntos == 0)
-            throw new GeomException("menorY () : El polgono no tienen ningn vrtice");
+            throw new GeomException("menorY () : El polígono no tienen ningún vértice");
         else
         {        
-            Punto2D menor = vertices[0];
-        
-            for (int i=1; i<numPuntos; i++)
-                if (vertices[i].y() < menor.y())
-                    menor = vertices[i];
-            
-            return menor;
+            calcularPropiedades();
+            return punto(indiceMenorY);
         }
     }
 
-    /** Determina cual es el vertice cuya coordenada y est situada ms arriba
-      * @return el vrtice del polgono cuya coordenada y est situada ms
+    /** Determina cual es el vertice cuya coordenada y está situada más arriba
+      * @return el vértice del polígono cuya coordenada y está situada más
       * arriba
-      * @exception GeomException si el polgono no contiene ningun vrtice
+      * @exception GeomException si el polígono no contiene ningun vértice
       * @see Punto2D#y()
       */
     public Punto2D mayorY() throws GeomException{
         if (numPuntos == 0)
-            throw new GeomException("mayorY () : El polgono no tienen ningn vrtice");
+            throw new GeomException("mayorY () : El polígono no tienen ningún vértice");
         else
         {        
-            Punto2D mayor = vertices[0];
-        
-            for (int i=1; i<numPuntos; i++)
-                if (vertices[i].y() > mayor.y())
-                    mayor = vertices[i];
-            
-            return mayor;
+            calcularPropiedades();
+            return punto(indiceMayorY);
         }
     }
 
-    /** Obtiene el vrtice cuyo ndice se pasa como parmetro
-      * @param indice ndice del vrtice que se desea obtener
-      * @return el vrtice indicado
-      * @exception geomException si el ndice pasado como parmetro se encuentra
-      * fuera del rango de vrtices del polgono
+    /** Obtiene la caja contenedora que contiene al polígono. Sus esquinas se
+      * obtienen de los vértices extremos, que se calculan junto con el resto
+      * de propiedades del polígono
+      * @return una caja contenedora conteniendo al polígono
+      * @exception GeomException si el polígono no contiene ningún vértice
+      * @see Caja2D#Caja2D(double, double, double, double)
+      */
+    public Caja2D cajaContenedora() throws GeomException {
+        if (numPuntos == 0)
+            throw new GeomException("cajaContenedora () : El polígono no tienen ningún vértice");
+        calcularPropiedades();
+        return new Caja2D(xs[indiceMenorX], ys[indiceMenorY], xs[indiceMayorX], ys[indiceMayorY]);
+    }
+
+    /** Obtiene el vértice cuyo índice se pasa como parámetro
+      * @param indice índice del vértice que se desea obtener
+      * @return un nuevo punto con las coordenadas del vértice indicado.
+      * Modificarlo no afecta al polígono; para ello debe usarse
+      * <code>modificar</code>
+      * @exception geomException si el índice pasado como parámetro se encuentra
+      * fuera del rango de vértices del polígono
+      * @see Poligono2D#modificar(int, Punto2D)
       */
     public Punto2D vertice(int indice) throws GeomException {
         if (indice < 0 || indice >= numPuntos)
-            throw new GeomException("vertice (int) : El ndice especificado no se corresponde con ningn vrtice del polgono");
+            throw new GeomException("vertice (int) : El índice especificado no se corresponde con ningún vértice del polígono");
         
-        return vertices[indice];
+        return punto(indice);
     }
     
- /** Traslada el polgono en el plano a partir de un determinado incremento en
-   * cada coordenada cartesiana. La traslacin se aplicar a todos los vrtices.
+ /** Traslada el polígono en el plano a partir de un determinado incremento en
+   * cada coordenada cartesiana. La traslación se aplicará a todos los vértices.
    * @param incX incremento o desplazamiento en el eje x
    * @param incY incremento o desplazamiento en el eje y
-   * @return el polgono trasladado
-   * @see Punto2D#trasladar(double, double)
+   * @return el polígono trasladado
    */
     public Poligono2D trasladar (double incX, double incY) {
-        for (int i=0; i<numPuntos; i++)
-        vertices[i].trasladar(incX, incY);
+        for (int i=0; i<numPuntos; i++) {
+            xs[i] += incX;
+            ys[i] += incY;
+        }
+        propiedadesCalculadas = false;
+        huellaCalculada = false;
         return this;
     }
 
-  /** Traslada el polgono en el plano aplicando el mismo incremento en cada
-    * eje. La traslacin se aplicar a cada vrtice.
-    * @param incr incremento o desplazamiento que ser aplicado tanto al eje x 
+  /** Traslada el polígono en el plano aplicando el mismo incremento en cada
+    * eje. La traslación se aplicará a cada vértice.
+    * @param incr incremento o desplazamiento que será aplicado tanto al eje x 
     * como al eje y
-    * @return el polgono trasladado
-    * @see Punto2D#trasladar(double)
+    * @return el polígono trasladado
+    * @see Poligono2D#trasladar(double, double)
     */
     public Poligono2D trasladar (double incr) {
-        for (int i=0; i<numPuntos; i++)
-        vertices[i].trasladar(incr);
-        return this;
+        return trasladar(incr, incr);
     }
 
-  /** Traslada el polgono en la direccin y a la distancia determinados por un 
-    * vector. Se aplicar la traslacin a cada vrtice
-    * @param vector el vector que define la traslacin del polgono
-    * @return el polgono trasladado
-    * @see Punto2D#trasladar(Vector2D)
+  /** Traslada el polígono en la dirección y a la distancia determinados por un 
+    * vector. Se aplicará la traslación a cada vértice
+    * @param vector el vector que define la traslación del polígono
+    * @return el polígono trasladado
+    * @see Vector2D#despX()
+    * @see Vector2D#despY()
     */
     public Poligono2D trasladar (Vector2D vector)
     {
-        for (int i=0; i<numPuntos; i++)
-        vertices[i].trasladar(vector);
-        return this;
+        return trasladar(vector.despX(), vector.despY());
     }
 
-  /** Traslacin del polgono a partir de las coordenadas polares (se trasladan
-    * los vrtices del tringulo una determinada distancia en un determinado ngulo)
-    * @param angulo direccin de traslacin del polgono
-    * @param dist distancia a la que se mover el polgono de su posicin original
-    * siguiendo el ngulo indicado
-    * @return el polgono trasladado
+  /** Traslación del polígono a partir de las coordenadas polares (se trasladan
+    * los vértices del triángulo una determinada distancia en un determinado ángulo)
+    * @param angulo dirección de traslación del polígono
+    * @param dist distancia a la que se moverá el polígono de su posición original
+    * siguiendo el ángulo indicado
+    * @return el polígono trasladado
     * @see Punto2D#trasladarPolar(double, double)
     */
     public Poligono2D trasladarPolar (double angulo, double dist) {
-        for (int i=0; i<3; i++)
-        vertices[i].trasladar(angulo, dist);
-        return this;
+        return trasladar(Math.cos(angulo) * dist, Math.sin(angulo) * dist);
     }
 
-   /** Obtiene el centro de gravedad del polgono (su punto central)
-     * @return el centro de gravedad del polgono
-     * @exception GeomException si el polgono no tiene ningn vrtice
+   /** Obtiene el centro de gravedad del polígono (su punto central)
+     * @return el centro de gravedad del polígono
+     * @exception GeomException si el polígono no tiene ningún vértice
      * @see Punto2D#Punto2D(double, double)
      * @see Punto2D#x()
      * @see Punto2D#y()
@@ -1037,63 +1662,423 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
         return new Punto2D(x, y);
     }
     
-  /** Escalado de un polgono. Se aplicar el escalado a cada vrtice
+  /** Escalado de un polígono. Se aplicará el escalado a cada vértice
     * @param escala factor de escalado
-    * @return el polgono escalado
+    * @return el polígono escalado
     * @exception GeomException si el factor de escalado es cero
     * @see Punto2D#escalado(double)
     */
     public Poligono2D escalado(double escala) throws GeomException{
-        for (int i=0; i<numPuntos; i++)
-        vertices[i].escalado(escala);
+        if (escala <= 0)
+            throw new GeomException("escalado (double) : El factor de escalado debe ser mayor de cero");
+        for (int i=0; i<numPuntos; i++) {
+            xs[i] *= escala;
+            ys[i] *= escala;
+        }
+        simplicidadCalculada = false;
+        propiedadesCalculadas = false;
+        huellaCalculada = false;
         return this;
     }
 
-   /** Escalado de un polgono con distinto factor de escalado para cada coordenada. 
-    * Se aplicar el escalado a cada vrtice.
+   /** Escalado de un polígono con distinto factor de escalado para cada coordenada. 
+    * Se aplicará el escalado a cada vértice.
     * @param sx factor de escalado en el eje x
     * @param sy factor de escalado en el eje y
-    * @return el polgono escalado
+    * @return el polígono escalado
     * @exception GeomException si alguno de los factores de escalado es cero
     * @see Punto2D#escalado(double, double)
     */
     public Poligono2D escalado(double sx, double sy) throws GeomException {
-        for (int i=0; i<numPuntos; i++)
-        vertices[i].escalado(sx, sy);
+        if (sx <= 0 || sy <= 0)
+            throw new GeomException("escalado (double, double): Los factores de escalado deben ser mayores de cero");
+        for (int i=0; i<numPuntos; i++) {
+            xs[i] *= sx;
+            ys[i] *= sy;
+        }
+        simplicidadCalculada = false;
+        propiedadesCalculadas = false;
+        huellaCalculada = false;
         return this;
     }
 
-  /** Rota el polgono respecto del origen de coordenadas
-    * @param radio angulo de giro en radianes. Si es positivo el giro ser
-    * en sentido antihorario y en caso contrario lo ser en sentido horario
-    * @return el polgono girado
-    * @see Punto2D#gira(double)
+  /** Rota el polígono respecto del origen de coordenadas
+    * @param radio angulo de giro en radianes. Si es positivo el giro será
+    * en sentido antihorario y en caso contrario lo será en sentido horario
+    * @return el polígono girado
+    * @see TransformacionAfin2D#gira(double)
     */
     public Poligono2D gira(double radio) {
-        for (int i=0; i<posiciones(); i++)
-        vertices[i].gira(radio);
+        // El seno y el coseno se calculan una sola vez para todos los vértices
+        aplicar(new TransformacionAfin2D().gira(radio));
         return this;
     }
 
-  /** Rota el polgono respecto a un punto. Se aplicar la 
-    * rotacin respecto a un punto a todos los vrtices del tringulo.
-    * @param origen punto respecto el cual se har el giro
-    * @radio angulo de giro en radianes. Si es positivo el giro ser en sntido
-    * antihorario y en caso contrario lo ser en sentido horario
-    * @return el polgono girado
-    * @see Punto2D#gira(Punto2D, double)
+  /** Rota el polígono respecto a un punto. Se aplicará la 
+    * rotación respecto a un punto a todos los vértices del triángulo.
+    * @param origen punto respecto el cual se hará el giro
+    * @radio angulo de giro en radianes. Si es positivo el giro será en sntido
+    * antihorario y en caso contrario lo será en sentido horario
+    * @return el polígono girado
+    * @see TransformacionAfin2D#gira(Punto2D, double)
     */
     public Poligono2D gira(Punto2D origen, double radio) {
-        for (int i=0; i<posiciones(); i++)
-        vertices[i].gira(origen, radio);
+        aplicar(new TransformacionAfin2D().gira(origen, radio));
+        return this;
+    }
+
+  /** Aplica una transformación a todos los vértices del polígono. La
+    * transformación ya está compuesta, por lo que para cada vértice solo se
+    * realiza una multiplicación por su matriz. Como en el escalado, no se
+    * permiten transformaciones degeneradas. Una transformación invertible
+    * tampoco garantiza que el polígono siga siendo simple: si no es afín,
+    * puede llevar parte del polígono al otro lado de la recta del infinito y
+    * hacer que sus lados se corten. Por eso la simplicidad se vuelve a
+    * comprobar en la siguiente consulta
+    * @param transformacion transformación a aplicar
+    * @return el polígono transformado
+    * @exception GeomException si la matriz de la transformación no es invertible
+    * @see TransformacionAfin2D#aplicar(Punto2D)
+    * @see TransformacionAfin2D#determinante()
+    */
+    public Poligono2D transforma(TransformacionAfin2D transformacion) throws GeomException {
+        if (transformacion.determinante() == 0)
+            throw new GeomException("transforma (TransformacionAfin2D): la transformación no es invertible");
+        aplicar(transformacion);
         return this;
     }
+
+  /** Aplica una transformación a todos los vértices del polígono, sin
+    * comprobaciones
+    */
+    private void aplicar(TransformacionAfin2D transformacion) {
+        transformacion.aplicar(xs, ys, 0, numPuntos);
+        simplicidadCalculada = false;
+        propiedadesCalculadas = false;
+        huellaCalculada = false;
+    }
  
-    /** Determina cual es la posicin siguiente a una posicin dada, dentro de la
-      * lista de vrtices. Como es una lista circular, el siguiente del ltimo
-      * vrtice ser el primero
-      * @param posicion posicin de la que se desea conocer la siguiente
-      * @return la posicin siguiente a la indicada como parmetro
+  /** Posición de un punto respecto a la arista orientada definida entre dos
+    * vértices del polígono, sin construir objetos intermedios
+    * @param px coordenada cartesiana x del punto
+    * @param py coordenada cartesiana y del punto
+    * @param a índice del vértice de origen de la arista
+    * @param b índice del vértice de destino de la arista
+    * @return una constante indicando la posición (Mat.IZQUIERDA, Mat.DERECHA
+    * o Mat.COLINEAL)
+    * @see Predicados2D#posicionRelativa(double, double, double, double, double, double)
+    */
+    private int posicionRelativa(double px, double py, int a, int b) {
+        return Predicados2D.posicionRelativa(px, py, xs[a], ys[a], xs[b], ys[b]);
+    }
+
+  /** Compara el ángulo de dos lados que parten del menor vértice en orden
+    * lexicográfico de un polígono convexo antihorario, o de alguno posterior.
+    * Sus ángulos están en el intervalo (-pi/2, 3pi/2], que se divide en dos
+    * mitades de amplitud pi: si están en la misma mitad basta con el signo
+    * del producto vectorial, con el mismo criterio que Direccion2D.mayorQue
+    * pero sin calcular los ángulos
+    * @return un valor negativo si el primer lado tiene menor ángulo, positivo
+    * si lo tiene el segundo y cero si tienen la misma dirección
+    * @see Poligono2D#sumaMinkowski(Poligono2D)
+    */
+    private static int compararAngulos(double dx1, double dy1, double dx2, double dy2) {
+        int mitad1 = (dx1 > 0 || (dx1 == 0 && dy1 > 0)) ? 0 : 1;
+        int mitad2 = (dx2 > 0 || (dx2 == 0 && dy2 > 0)) ? 0 : 1;
+        if (mitad1 != mitad2)
+            return mitad1 - mitad2;
+        double producto = dx1*dy2 - dy1*dx2;
+        if (producto > 0)
+            return -1;
+        else if (producto < 0)
+            return 1;
+        else
+            return 0;
+    }
+    
+  /** Determina si el polígono es simple y convexo, con al menos tres
+    * vértices. Es la condición de los métodos que aprovechan la convexidad,
+    * ya que esConvexo() también acepta polígonos que se cortan a sí mismos.
+    * Las propiedades se guardan tras calcularse
+    */
+    boolean esConvexoYSimple() {
+        return numPuntos >= 3 && esSimple() && esConvexo();
+    }
+
+  /** Determina si el polígono es completo, simple y convexo, y además ninguno
+    * de sus vértices está alineado con sus vecinos. Solo entonces todos los
+    * triángulos del abanico del primer vértice tienen área, y la búsqueda en
+    * él localiza correctamente los puntos de la frontera
+    */
+    private boolean esEstrictamenteConvexo() {
+        return esConvexoYSimple() && girosIzquierda + girosDerecha == numPuntos;
+    }
+
+  /** Localiza un punto respecto al polígono, que debe ser completo, simple y
+    * convexo. Si no es estrictamente convexo se comprueban todas las aristas
+    * @return Mat.INTERIOR, Mat.FRONTERA o Mat.EXTERIOR
+    * @see Poligono2D#localizarConvexo(Punto2D)
+    */
+    private int localizacionConvexa(double px, double py) {
+        if (!esEstrictamenteConvexo()) {
+            if (ladosContienen(px, py))
+                return Mat.FRONTERA;
+            else if (contieneEstrictamente(px, py))
+                return Mat.INTERIOR;
+            else
+                return Mat.EXTERIOR;
+        }
+        int lado = sentido() == Mat.ANTIHORARIO ? Mat.IZQUIERDA : Mat.DERECHA;
+        int i = abanico(px, py, sentido());
+        int aristas[] = { numPuntos-1, 0, i-1, i, i+1 };
+
+        boolean frontera = false, dentro = true;
+        for (int k=0; k<aristas.length; k++) {
+            int a = aristas[k], b = posicionSiguiente(a);
+            if (contenidoEnArista(px, py, a, b))
+                frontera = true;
+            else if (posicionRelativa(px, py, a, b) != lado)
+                dentro = false;
+        }
+        if (frontera)
+            return Mat.FRONTERA;
+        else if (dentro)
+            return Mat.INTERIOR;
+        else
+            return Mat.EXTERIOR;
+    }
+
+  /** Busca el triángulo del abanico formado por el primer vértice y cada par
+    * de vértices consecutivos que contiene a un punto: el último vértice i,
+    * entre 1 y n-2, tal que el punto no queda a la derecha de la semirrecta
+    * que va del primer vértice al vértice i (a la izquierda si el polígono es
+    * horario). Si el punto queda fuera del ángulo del primer vértice el
+    * triángulo obtenido no tiene significado
+    * @param sentido sentido del polígono, o el contrario para buscar en la
+    * dirección opuesta al punto
+    * @return el índice i, de forma que el triángulo es (0, i, i+1)
+    */
+    private int abanico(double px, double py, int sentido) {
+        int desde = 1, hasta = numPuntos - 2;
+        if (PredicadosExactos2D.orientacion(xs[0], ys[0], xs[1], ys[1], px, py) * sentido < 0)
+            return 1;
+        while (desde < hasta) {
+            int medio = (desde + hasta + 1) >>> 1;
+            if (PredicadosExactos2D.orientacion(xs[0], ys[0], xs[medio], ys[medio], px, py) * sentido >= 0)
+                desde = medio;
+            else
+                hasta = medio - 1;
+        }
+        return desde;
+    }
+
+  /** Determina si una arista es visible desde un punto, es decir, si el punto
+    * queda estrictamente en el lado exterior de la recta de la arista
+    * @param arista índice del vértice en el que comienza la arista
+    * @param sentido sentido del polígono
+    */
+    private boolean visible(double px, double py, int arista, int sentido) {
+        int siguiente = posicionSiguiente(arista);
+        return PredicadosExactos2D.orientacion(xs[arista], ys[arista], xs[siguiente], ys[siguiente],
+                                               px, py) * sentido < 0;
+    }
+
+  /** Busca, entre dos aristas de distinta visibilidad desde un punto, la primera
+    * arista posterior a la inicial cuya visibilidad es distinta de la de esta.
+    * Entre ambas aristas la visibilidad debe cambiar una sola vez
+    * @param desde arista inicial
+    * @param hasta arista final, de visibilidad distinta a la inicial
+    * @param sentido sentido del polígono
+    * @return la primera arista con distinta visibilidad que la inicial
+    */
+    private int cambioVisibilidad(double px, double py, int desde, int hasta, int sentido) {
+        boolean inicial = visible(px, py, desde, sentido);
+        while (hasta - desde > 1) {
+            int medio = (desde + hasta) >>> 1;
+            if (visible(px, py, medio, sentido) == inicial)
+                desde = medio;
+            else
+                hasta = medio;
+        }
+        return hasta;
+    }
+
+  /** Determina si un punto está contenido en la arista definida entre dos
+    * vértices del polígono
+    * @param px coordenada cartesiana x del punto
+    * @param py coordenada cartesiana y del punto
+    * @param a índice del vértice de origen de la arista
+    * @param b índice del vértice de destino de la arista
+    * @return un valor booleano indicando si el punto está contenido en la arista
+    * @see Predicados2D#contenidoEnSegmento(double, double, double, double, double, double)
+    */
+    private boolean contenidoEnArista(double px, double py, int a, int b) {
+        return Predicados2D.contenidoEnSegmento(px, py, xs[a], ys[a], xs[b], ys[b]);
+    }
+    
+  /** Calcula en una sola pasada por los vértices las propiedades derivadas
+    * del polígono, si no estaban ya calculadas: el doble del área con signo,
+    * los vértices extremos, el menor vértice en orden lexicográfico y el
+    * número de giros a cada lado, con los que se obtienen en tiempo constante
+    * el área, el sentido y la convexidad
+    * @see Poligono2D#area()
+    * @see Poligono2D#sentido()
+    * @see Poligono2D#esConvexo()
+    */
+    private void calcularPropiedades() {
+        if (propiedadesCalculadas) return;
+
+        double suma = 0;
+        int menorX = 0, mayorX = 0, menorY = 0, mayorY = 0, menor = 0;
+        int izquierda = 0, derecha = 0;
+        boolean repetidos = false;
+        for (int i=0; i<numPuntos; i++)
+        {
+            int anterior = (i == 0) ? numPuntos-1 : i-1;
+            int siguiente = (i == numPuntos-1) ? 0 : i+1;
+
+            suma += (xs[i]*ys[siguiente] - ys[i]*xs[siguiente]);
+            if (xs[i] < xs[menorX]) menorX = i;
+            if (xs[i] > xs[mayorX]) mayorX = i;
+            if (ys[i] < ys[menorY]) menorY = i;
+            if (ys[i] > ys[mayorY]) mayorY = i;
+            if (xs[i] < xs[menor] || (xs[i] == xs[menor] && ys[i] < ys[menor]))
+                menor = i;
+
+            // Giro de la cadena en el vértice, con el mismo criterio que
+            // esConvexo(int)
+            if (Predicados2D.iguales(xs[anterior], ys[anterior], xs[i], ys[i]) ||
+                Predicados2D.iguales(xs[siguiente], ys[siguiente], xs[anterior], ys[anterior]) ||
+                Predicados2D.iguales(xs[siguiente], ys[siguiente], xs[i], ys[i]))
+                repetidos = true;
+            else
+            {
+                int posicion = posicionRelativa(xs[siguiente], ys[siguiente], anterior, i);
+                if (posicion == Mat.IZQUIERDA) izquierda++;
+                else if (posicion == Mat.DERECHA) derecha++;
+            }
+        }
+
+        dobleArea = suma;
+        indiceMenorX = menorX;
+        indiceMayorX = mayorX;
+        indiceMenorY = menorY;
+        indiceMayorY = mayorY;
+        indiceMenor = menor;
+        girosIzquierda = izquierda;
+        girosDerecha = derecha;
+        verticesRepetidos = repetidos;
+        propiedadesCalculadas = true;
+    }
+
+  /** Comprueba que el polígono y otro son completos, simples y convexos
+    * @param metodo nombre del método, para el mensaje de error
+    */
+    private void comprobarConvexos(Poligono2D otro, String metodo) throws GeomException {
+        if (!poligonoCompleto || !otro.poligonoCompleto ||
+            !esConvexoYSimple() || !otro.esConvexoYSimple())
+            throw new GeomException(metodo + ": los polígonos deben ser completos, simples y convexos");
+    }
+
+  /** Inicia un polígono completo con los arrays de vértices indicados, que
+    * pasan a ser propiedad del polígono, dejando pendiente la comprobación de
+    * si es simple
+    * @param metodo nombre del constructor, para el mensaje de error
+    */
+    private void iniciar(double nuevasX[], double nuevasY[], int n, String metodo)
+        throws GeomException {
+        if (n > 1 && Predicados2D.iguales(nuevasX[0], nuevasY[0], nuevasX[n-1], nuevasY[n-1]))
+            n--;
+        if (n < 3)
+            throw new GeomException(metodo + ": el polígono debe tener al menos tres vértices");
+        xs = nuevasX;
+        ys = nuevasY;
+        numPuntos = n;
+        poligonoCompleto = true;
+        simplicidadCalculada = false;
+        propiedadesCalculadas = false;
+        huellaCalculada = false;
+    }
+
+  /** Crea un punto con las coordenadas de uno de los vértices
+    * @param i índice del vértice
+    * @return un nuevo punto con las coordenadas del vértice
+    */
+    private Punto2D punto(int i) {
+        return new Punto2D(xs[i], ys[i]);
+    }
+
+  /** Comprueba si las sumas de coordenadas de dos polígonos con el mismo
+    * número de vértices permiten que sean iguales según
+    * equals(ObjetoGeometrico): si lo son, cada vértice se desplaza menos de
+    * epsilon respecto a su pareja, y las sumas difieren en menos de n
+    * veces epsilon en cada coordenada
+    */
+    private boolean sumasCompatibles(Poligono2D otro) {
+        this.huella();
+        otro.huella();
+        double margen = numPuntos * Mat.EPSILON;
+        return Math.abs(sumaX - otro.sumaX) <= margen + 1e-9 * (Math.abs(sumaX) + Math.abs(otro.sumaX)) &&
+               Math.abs(sumaY - otro.sumaY) <= margen + 1e-9 * (Math.abs(sumaY) + Math.abs(otro.sumaY));
+    }
+
+  /** Devuelve la huella del lado que va del vértice i al vértice j
+    */
+    private long huellaLado(int i, int j) {
+        return huellaLado(xs[i], ys[i], xs[j], ys[j]);
+    }
+
+  /** Índice de la celda de la rejilla de la huella en la que cae una
+    * coordenada
+    */
+    private static long celda(double v) {
+        return (long) Math.floor(v / pasoHuella);
+    }
+
+  /** Función de dispersión de un lado orientado, con sus extremos
+    * cuantizados. Se mezclan los bits para que sumar las de todos los lados
+    * no haga que se cancelen entre sí
+    */
+    private static long huellaLado(double x1, double y1, double x2, double y2) {
+        long h = celda(x1);
+        h = h * 0x9E3779B97F4A7C15L + celda(y1);
+        h = h * 0x9E3779B97F4A7C15L + celda(x2);
+        h = h * 0x9E3779B97F4A7C15L + celda(y2);
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+  /** Rota los arrays de vértices hacia la izquierda, de forma que el vértice
+    * en la posición indicada pasa a ser el primero. Se realiza sobre los
+    * propios arrays, invirtiendo las dos partes y después el total
+    * @param inicio posición del vértice que pasará a ser el primero
+    */
+    private void rotar(int inicio) {
+        invertir(0, inicio - 1);
+        invertir(inicio, numPuntos - 1);
+        invertir(0, numPuntos - 1);
+    }
+
+  /** Invierte el orden de los vértices entre dos posiciones, ambas incluidas
+    */
+    private void invertir(int desde, int hasta) {
+        while (desde < hasta) {
+            double aux = xs[desde]; xs[desde] = xs[hasta]; xs[hasta] = aux;
+            aux = ys[desde]; ys[desde] = ys[hasta]; ys[hasta] = aux;
+            desde++;
+            hasta--;
+        }
+    }
+    
+    /** Determina cual es la posición siguiente a una posición dada, dentro de la
+      * lista de vértices. Como es una lista circular, el siguiente del último
+      * vértice será el primero
+      * @param posicion posición de la que se desea conocer la siguiente
+      * @return la posición siguiente a la indicada como parámetro
       */
     public int posicionSiguiente(int posicion) {
         int nuevaPosicion = posicion+1;
@@ -1102,11 +2087,11 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
         
         return nuevaPosicion;
     }
-    /** Determina cual es la posicin anterior a una posicin dada, dentro de la
-      * lista de vrtices. Como es una lista circular, el anterior al primer
-      * vrtice ser el ltimo
-      * @param posicion posicin de la que se desea conocer la anterior
-      * @return la posicin anterior a la indicada como parmetro
+    /** Determina cual es la posición anterior a una posición dada, dentro de la
+      * lista de vértices. Como es una lista circular, el anterior al primer
+      * vértice será el último
+      * @param posicion posición de la que se desea conocer la anterior
+      * @return la posición anterior a la indicada como parámetro
       */
     public int posicionAnterior(int posicion) {
         int nuevaPosicion = posicion - 1;
@@ -1116,11 +2101,11 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
         return nuevaPosicion;
     }
     
-    /** Determina cual es la posicin posterior a una posicin dada, dentro de la
-      * lista de vrtices. Como es una lista circular, el al ltimo vrtice
-      * ser el primero
-      * @param posicion posicin de la que se desea conocer la posterior
-      * @return la posicin posterior a la indicada como parmetro
+    /** Determina cual es la posición posterior a una posición dada, dentro de la
+      * lista de vértices. Como es una lista circular, el al último vértice
+      * será el primero
+      * @param posicion posición de la que se desea conocer la posterior
+      * @return la posición posterior a la indicada como parámetro
       */
     public int posicionPosterior(int posicion) {
         int nuevaPosicion = posicion + 1;
@@ -1130,21 +2115,21 @@ public class Poligono2D extends ObjetoBasico implements InterfazCirculador {
         return nuevaPosicion;
     }
     
-    /** Obtiene el nmero de elementos dentro de la lista de vrtices
-     * @return el nmero de vrtices del polgono
+    /** Obtiene el número de elementos dentro de la lista de vértices
+     * @return el número de vértices del polígono
      */
     public int posiciones() {
         return numPuntos;
     }
 
-    /** Realiza la conversin del objeto de tipo Poligono2D a una cadena
-     * @return una cadena especificando el tipo de objeto (polgono) y las
-     * coordenadas cartesianas de sus vrtices
+    /** Realiza la conversión del objeto de tipo Poligono2D a una cadena
+     * @return una cadena especificando el tipo de objeto (polígono) y las
+     * coordenadas cartesianas de sus vértices
      */
     public String toString() {
 	    String cadena = nombre + " - Poligono2D: (";
 	    for (int i=0; i<numPuntos; i++)
-		    cadena = cadena + "\n\t" + vertices[i].toString();
+		    cadena = cadena + "\n\t" + punto(i).toString();
 	    cadena = cadena + "\n)";
 
 	    return cadena;
@@ -0,0 +1,166 @@
+/*
+ * PoligonoInmutable2D.java
+ *
+ * Created on 17 de octubre de 2026, 22:40
+ */
+
+package JavaRG.Basica;
+
+import JavaRG.Nucleo2D.*;
+
+/** Un polígono inmutable es un polígono completo cuyos vértices no pueden
+ * modificarse una vez creado. Se utiliza para ofrecer una vista de solo
+ * lectura de polígonos que mantiene otra estructura (por ejemplo, la
+ * envolvente de una EnvolventeDinamica2D), de forma que quien la obtiene no
+ * pueda alterar el estado de dicha estructura.
+ * <br>
+ * Todas las operaciones que modificarían el polígono fallan: las que pueden
+ * lanzar excepciones lanzan una GeomException, y las demás una
+ * UnsupportedOperationException. Para obtener una copia modificable puede
+ * utilizarse el constructor de copia de Poligono2D
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see Poligono2D#Poligono2D(Poligono2D)
+ */
+public class PoligonoInmutable2D extends Poligono2D {
+
+  /** Constructor para crear un polígono inmutable a partir de las coordenadas
+    * cartesianas de sus vértices. Las coordenadas se copian
+    * @param xs coordenadas cartesianas x de los vértices
+    * @param ys coordenadas cartesianas y de los vértices
+    * @return un nuevo polígono inmutable con los vértices indicados
+    * @exception GeomException si los arrays tienen distinta longitud o si el
+    * polígono tiene menos de tres vértices
+    * @see Poligono2D#Poligono2D(double[], double[])
+    */
+    public PoligonoInmutable2D(double xs[], double ys[]) throws GeomException {
+        super(xs, ys);
+    }
+
+  /** El polígono no puede modificarse
+    * @exception UnsupportedOperationException siempre
+    */
+    public void borrar() {
+        throw new UnsupportedOperationException("borrar (): el polígono es de solo lectura");
+    }
+
+  /** El polígono no puede modificarse
+    * @param p vértice que se desearía insertar
+    * @exception UnsupportedOperationException siempre
+    */
+    public void insertar(Punto2D p) {
+        throw new UnsupportedOperationException("insertar (Punto2D): el polígono es de solo lectura");
+    }
+
+  /** El polígono no puede modificarse
+    * @param x coordenada cartesiana x del vértice que se desearía insertar
+    * @param y coordenada cartesiana y del vértice que se desearía insertar
+    * @exception UnsupportedOperationException siempre
+    */
+    public void insertar(double x, double y) {
+        throw new UnsupportedOperationException("insertar (double, double): el polígono es de solo lectura");
+    }
+
+  /** El polígono no puede modificarse
+    * @param vertice vértice que se desearía eliminar
+    * @exception GeomException siempre
+    */
+    public void eliminar(int vertice) throws GeomException {
+        throw new GeomException("eliminar (int): el polígono es de solo lectura");
+    }
+
+  /** El polígono no puede modificarse
+    * @param vertice vértice que se desearía modificar
+    * @param nuevo nuevo valor del vértice
+    * @exception GeomException siempre
+    */
+    public void modificar(int vertice, Punto2D nuevo) throws GeomException {
+        throw new GeomException("modificar (int, Punto2D): el polígono es de solo lectura");
+    }
+
+  /** El polígono no puede modificarse
+    * @param incX desplazamiento en el eje x
+    * @param incY desplazamiento en el eje y
+    * @return nunca devuelve un valor
+    * @exception UnsupportedOperationException siempre
+    */
+    public Poligono2D trasladar(double incX, double incY) {
+        throw new UnsupportedOperationException("trasladar (double, double): el polígono es de solo lectura");
+    }
+
+  /** El polígono no puede modificarse
+    * @param incr desplazamiento en ambos ejes
+    * @return nunca devuelve un valor
+    * @exception UnsupportedOperationException siempre
+    */
+    public Poligono2D trasladar(double incr) {
+        throw new UnsupportedOperationException("trasladar (double): el polígono es de solo lectura");
+    }
+
+  /** El polígono no puede modificarse
+    * @param vector vector que define la traslación
+    * @return nunca devuelve un valor
+    * @exception UnsupportedOperationException siempre
+    */
+    public Poligono2D trasladar(Vector2D vector) {
+        throw new UnsupportedOperationException("trasladar (Vector2D): el polígono es de solo lectura");
+    }
+
+  /** El polígono no puede modificarse
+    * @param angulo dirección de la traslación
+    * @param dist distancia de la traslación
+    * @return nunca devuelve un valor
+    * @exception UnsupportedOperationException siempre
+    */
+    public Poligono2D trasladarPolar(double angulo, double dist) {
+        throw new UnsupportedOperationException("trasladarPolar (double, double): el polígono es de solo lectura");
+    }
+
+  /** El polígono no puede modificarse
+    * @param escala factor de escala
+    * @return nunca devuelve un valor
+    * @exception GeomException siempre
+    */
+    public Poligono2D escalado(double escala) throws GeomException {
+        throw new GeomException("escalado (double): el polígono es de solo lectura");
+    }
+
+  /** El polígono no puede modificarse
+    * @param sx factor de escala en el eje x
+    * @param sy factor de escala en el eje y
+    * @return nunca devuelve un valor
+    * @exception GeomException siempre
+    */
+    public Poligono2D escalado(double sx, double sy) throws GeomException {
+        throw new GeomException("escalado (double, double): el polígono es de solo lectura");
+    }
+
+  /** El polígono no puede modificarse
+    * @param radio ángulo de giro
+    * @return nunca devuelve un valor
+    * @exception UnsupportedOperationException siempre
+    */
+    public Poligono2D gira(double radio) {
+        throw new UnsupportedOperationException("gira (double): el polígono es de solo lectura");
+    }
+
+  /** El polígono no puede modificarse
+    * @param origen punto respecto al cual se giraría
+    * @param radio ángulo de giro
+    * @return nunca devuelve un valor
+    * @exception UnsupportedOperationException siempre
+    */
+    public Poligono2D gira(Punto2D origen, double radio) {
+        throw new UnsupportedOperationException("gira (Punto2D, double): el polígono es de solo lectura");
+    }
+
+  /** El polígono no puede modificarse
+    * @param transformacion transformación que se desearía aplicar
+    * @return nunca devuelve un valor
+    * @exception GeomException siempre
+    */
+    public Poligono2D transforma(TransformacionAfin2D transformacion) throws GeomException {
+        throw new GeomException("transforma (TransformacionAfin2D): el polígono es de solo lectura");
+    }
+}
@@ -0,0 +1,516 @@
+/*
+ * PoligonoPreparado2D.java
+ *
+ * Created on 17 de octubre de 2026, 18:05
+ */
+
+package JavaRG.Basica;
+
+import JavaRG.Mat;
+import JavaRG.Nucleo2D.*;
+import JavaRG.Soporte.ContencionParalela;
+import JavaRG.Soporte.InterfazContencion;
+
+/** Un polígono preparado es una estructura de localización de puntos
+ * construida a partir de un polígono simple y completo, que permite
+ * determinar en tiempo O(log n) si un punto está en el interior, en la
+ * frontera o en el exterior del polígono. Es útil cuando se realizan muchas
+ * consultas sobre un mismo polígono, ya que <code>Poligono2D.contienePunto</code>
+ * recorre todas las aristas en cada consulta.
+ * <br>
+ * Se utiliza una descomposición en franjas verticales: las coordenadas x de
+ * los vértices dividen el plano en franjas, y dentro de cada franja las
+ * aristas que la atraviesan no se cortan, por lo que pueden ordenarse de abajo
+ * a arriba. Para localizar un punto se busca su franja y, dentro de ella, la
+ * arista que queda inmediatamente por debajo del punto, ambas cosas en tiempo
+ * logarítmico. El punto es interior si el interior del polígono queda por
+ * encima de esa arista. Guardar la lista ordenada de cada franja ocuparía un
+ * espacio cuadrático en el caso peor, así que las franjas se guardan como
+ * versiones de un mismo árbol persistente: el árbol de una franja se obtiene
+ * del de la anterior copiando solo los nodos que cambian, y el espacio total
+ * es O(n log n).
+ * <br>
+ * Las comparaciones se realizan con predicados exactos, por lo que un punto
+ * está en la frontera solo si se encuentra exactamente sobre alguna arista.
+ * El polígono preparado es una copia: modificar después el polígono original
+ * no le afecta
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see Poligono2D#contienePunto(Punto2D)
+ * @see PredicadosExactos2D
+ */
+public class PoligonoPreparado2D extends Object implements InterfazContencion {
+
+  /**
+    * Valor que indica la ausencia de nodo o de arista
+    */
+    private static final int NINGUNO = -1;
+
+  /**
+    * Coordenadas x que separan las franjas (las de los vértices, sin
+    * repetir y ordenadas). La franja k queda entre cortes[k] y cortes[k+1]
+    */
+    private double cortes[];
+  /**
+    * Número de coordenadas x distintas
+    */
+    private int numCortes;
+  /**
+    * Raíz del árbol de aristas de cada franja
+    */
+    private int raizFranja[];
+  /**
+    * Nodos de los árboles de las franjas: arista y subárboles izquierdo (las
+    * aristas de debajo) y derecho (las de encima). Los árboles de distintas
+    * franjas comparten los nodos que no cambian entre ellas
+    */
+    private int nodoArista[], nodoIzquierdo[], nodoDerecho[];
+  /**
+    * Número de nodos creados, y primer nodo creado para la franja que se está
+    * construyendo, que puede modificarse sin copiarlo
+    */
+    private int numNodos, primerNodoFranja;
+  /**
+    * Prioridad de cada arista en los árboles (un árbol binario aleatorizado en
+    * el que cada nodo tiene menor prioridad que sus hijos)
+    */
+    private int prioridad[];
+  /**
+    * Indica, para cada arista, si el interior del polígono queda por encima
+    */
+    private boolean interiorArriba[];
+  /**
+    * Extremos de cada arista, el izquierdo con menor coordenada x (menor y en
+    * caso de empate)
+    */
+    private double izqX[], izqY[], derX[], derY[];
+  /**
+    * Posición en intervalosMin e intervalosMax de los intervalos de la frontera
+    * contenidos en la recta vertical de cada corte
+    */
+    private int inicioIntervalos[];
+  /**
+    * Intervalos de coordenada y, disjuntos y ordenados, que ocupan los
+    * vértices y las aristas verticales en la recta vertical de cada corte
+    */
+    private double intervalosMin[], intervalosMax[];
+
+  /** Constructor del polígono preparado a partir de un polígono. La
+    * construcción tiene un coste O(n log n)
+    * @param poligono polígono completo y simple a partir del cual se construye
+    * la estructura
+    * @return un nuevo polígono preparado para localizar puntos
+    * @exception GeomException si el polígono no es completo o no es simple
+    * @see Poligono2D#esCompleto()
+    * @see Poligono2D#esSimple()
+    */
+    public PoligonoPreparado2D(Poligono2D poligono) throws GeomException {
+        if (!poligono.esCompleto())
+            throw new GeomException("PoligonoPreparado2D (Poligono2D): el polígono debe ser completo");
+        if (!poligono.esSimple())
+            throw new GeomException("PoligonoPreparado2D (Poligono2D): el polígono debe ser simple");
+
+        int n = poligono.posiciones();
+        double xs[] = new double[n];
+        double ys[] = new double[n];
+        for (int i=0; i<n; i++) {
+            Punto2D vertice = poligono.vertice(i);
+            xs[i] = vertice.x();
+            ys[i] = vertice.y();
+        }
+
+        // Si el polígono es antihorario, el interior queda a la izquierda de
+        // cada arista recorrida en el orden de los vértices
+        boolean antihorario = poligono.sentido() == Mat.ANTIHORARIO;
+        izqX = new double[n]; izqY = new double[n];
+        derX = new double[n]; derY = new double[n];
+        interiorArriba = new boolean[n];
+        for (int i=0; i<n; i++) {
+            int j = (i == n-1) ? 0 : i+1;
+            if (xs[i] < xs[j] || (xs[i] == xs[j] && ys[i] < ys[j])) {
+                izqX[i] = xs[i]; izqY[i] = ys[i]; derX[i] = xs[j]; derY[i] = ys[j];
+                interiorArriba[i] = antihorario;
+            } else {
+                izqX[i] = xs[j]; izqY[i] = ys[j]; derX[i] = xs[i]; derY[i] = ys[i];
+                interiorArriba[i] = !antihorario;
+            }
+        }
+
+        construirCortes(xs, ys, n);
+        construirFranjas(n);
+    }
+
+  /** Localiza un punto respecto al polígono
+    * @param x coordenada cartesiana x del punto
+    * @param y coordenada cartesiana y del punto
+    * @return una constante indicando la localización del punto (Mat.INTERIOR,
+    * Mat.FRONTERA o Mat.EXTERIOR)
+    * @see Mat#INTERIOR
+    * @see Mat#FRONTERA
+    * @see Mat#EXTERIOR
+    */
+    public int localizar(double x, double y) {
+        if (!(x >= cortes[0] && x <= cortes[numCortes-1]))
+            return Mat.EXTERIOR;
+
+        // Última franja cuyo comienzo no está a la derecha del punto
+        int franja = buscar(cortes, 0, numCortes, x) - 1;
+        if (cortes[franja] == x) {
+            // El punto está sobre la recta vertical de un corte, donde puede
+            // haber vértices y aristas verticales. Si no está en ninguno de
+            // ellos, se localiza igual que en la franja de la derecha (o en la
+            // de la izquierda si es el último corte)
+            int inicio = inicioIntervalos[franja];
+            int posicion = buscar(intervalosMin, inicio, inicioIntervalos[franja+1], y) - 1;
+            if (posicion >= inicio && y <= intervalosMax[posicion])
+                return Mat.FRONTERA;
+            if (franja == numCortes-1)
+                franja--;
+            if (franja < 0)
+                return Mat.EXTERIOR;
+        }
+
+        // Arista de la franja inmediatamente por debajo del punto
+        int debajo = NINGUNO;
+        int nodo = raizFranja[franja];
+        while (nodo != NINGUNO) {
+            int posicion = orientacion(nodoArista[nodo], x, y);
+            if (posicion == Mat.COLINEAL)
+                return Mat.FRONTERA;
+            if (posicion == Mat.ANTIHORARIO) {
+                debajo = nodoArista[nodo];
+                nodo = nodoDerecho[nodo];
+            } else
+                nodo = nodoIzquierdo[nodo];
+        }
+        if (debajo != NINGUNO && interiorArriba[debajo])
+            return Mat.INTERIOR;
+        else
+            return Mat.EXTERIOR;
+    }
+
+  /** Localiza un punto respecto al polígono
+    * @param punto punto a localizar
+    * @return una constante indicando la localización del punto (Mat.INTERIOR,
+    * Mat.FRONTERA o Mat.EXTERIOR)
+    * @see PoligonoPreparado2D#localizar(double, double)
+    */
+    public int localizar(Punto2D punto) {
+        return localizar(punto.x(), punto.y());
+    }
+
+  /** Localiza un conjunto de puntos respecto al polígono
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos
+    * @return un array con la localización de cada punto (Mat.INTERIOR,
+    * Mat.FRONTERA o Mat.EXTERIOR)
+    * @see PoligonoPreparado2D#localizar(double, double)
+    */
+    public int[] localizar(double xs[], double ys[], int n) {
+        int resultado[] = new int[n];
+        for (int i=0; i<n; i++)
+            resultado[i] = localizar(xs[i], ys[i]);
+        return resultado;
+    }
+
+  /** Determina si un punto está contenido en el polígono, en su interior o
+    * en su frontera
+    * @param punto punto que se desea comprobar
+    * @return un valor booleano indicando si el punto está contenido en el
+    * polígono
+    * @see PoligonoPreparado2D#localizar(double, double)
+    */
+    public boolean contienePunto(Punto2D punto) {
+        return localizar(punto.x(), punto.y()) != Mat.EXTERIOR;
+    }
+
+  /** Determina si un punto está contenido estrictamente en el polígono, es
+    * decir, en su interior y no en su frontera
+    * @param punto punto que se desea comprobar
+    * @return un valor booleano indicando si el punto está en el interior del
+    * polígono
+    * @see PoligonoPreparado2D#localizar(double, double)
+    */
+    public boolean contienePuntoEstrictamente(Punto2D punto) {
+        return localizar(punto.x(), punto.y()) == Mat.INTERIOR;
+    }
+
+  /** Comprueba si cada uno de los puntos de un lote está contenido en el
+    * polígono, en su interior o en su frontera. Los puntos se reparten entre
+    * varios hilos
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos a procesar
+    * @param resultado array en el que guardar el resultado. Si es null o no
+    * tiene espacio suficiente se crea uno nuevo
+    * @return un array indicando si cada punto está contenido en el polígono
+    * @see PoligonoPreparado2D#contienePunto(Punto2D)
+    * @see ContencionParalela#contienePuntos(InterfazContencion, double[], double[], int, boolean[])
+    */
+    public boolean[] contienePuntos(double xs[], double ys[], int n, boolean resultado[]) {
+        return ContencionParalela.contienePuntos(this, xs, ys, n, resultado);
+    }
+
+  /** El polígono preparado no se modifica tras construirse, por lo que no es
+    * necesario prepararlo para consultas concurrentes
+    * @see InterfazContencion#prepararConsultas()
+    */
+    public void prepararConsultas() {
+    }
+
+  /** Comprueba si cada uno de los puntos de un rango está contenido en el
+    * polígono, en su interior o en su frontera
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param desde posición del primer punto del rango
+    * @param hasta posición siguiente al último punto del rango
+    * @param resultado array en el que se guarda si cada punto está contenido
+    * @see PoligonoPreparado2D#contienePunto(Punto2D)
+    */
+    public void contienePuntos(double xs[], double ys[], int desde, int hasta, boolean resultado[]) {
+        for (int i=desde; i<hasta; i++)
+            resultado[i] = localizar(xs[i], ys[i]) != Mat.EXTERIOR;
+    }
+
+  /** Obtiene las coordenadas x distintas de los vértices y, para cada una, los
+    * intervalos de la frontera contenidos en su recta vertical: los vértices y
+    * las aristas verticales, unidos cuando se solapan
+    */
+    private void construirCortes(double xs[], double ys[], int n) {
+        // Cada vértice es un intervalo de un solo punto, y cada arista vertical
+        // uno entre sus extremos
+        int numVerticales = 0;
+        for (int i=0; i<n; i++)
+            if (izqX[i] == derX[i]) numVerticales++;
+        double intervaloX[] = new double[n + numVerticales];
+        double intervaloMin[] = new double[n + numVerticales];
+        double intervaloMax[] = new double[n + numVerticales];
+        System.arraycopy(xs, 0, intervaloX, 0, n);
+        System.arraycopy(ys, 0, intervaloMin, 0, n);
+        System.arraycopy(ys, 0, intervaloMax, 0, n);
+        int m = n;
+        for (int i=0; i<n; i++)
+            if (izqX[i] == derX[i]) {
+                intervaloX[m] = izqX[i];
+                intervaloMin[m] = izqY[i];
+                intervaloMax[m] = derY[i];
+                m++;
+            }
+
+        // Ordenados por x y por comienzo, los intervalos de cada recta vertical
+        // quedan consecutivos, y las rectas aparecen en el orden de los cortes
+        int orden[] = Simplicidad2D.ordenLexicografico(intervaloX, intervaloMin, m);
+        cortes = new double[n];
+        inicioIntervalos = new int[n + 1];
+        intervalosMin = new double[m];
+        intervalosMax = new double[m];
+        int numIntervalos = 0;
+        numCortes = 0;
+        for (int k=0; k<m; k++) {
+            int i = orden[k];
+            if (numCortes == 0 || intervaloX[i] != cortes[numCortes-1]) {
+                cortes[numCortes] = intervaloX[i];
+                inicioIntervalos[numCortes] = numIntervalos;
+                numCortes++;
+            } else if (intervaloMin[i] <= intervalosMax[numIntervalos-1]) {
+                intervalosMax[numIntervalos-1] = Math.max(intervalosMax[numIntervalos-1], intervaloMax[i]);
+                continue;
+            }
+            intervalosMin[numIntervalos] = intervaloMin[i];
+            intervalosMax[numIntervalos] = intervaloMax[i];
+            numIntervalos++;
+        }
+        inicioIntervalos[numCortes] = numIntervalos;
+    }
+
+  /** Construye los árboles de las franjas mediante un barrido de izquierda a
+    * derecha. En cada corte se eliminan las aristas que terminan en él y se
+    * insertan las que comienzan en él, y el árbol resultante es el de la
+    * franja siguiente. Cada actualización copia solo los nodos del camino
+    * que modifica, más un número constante de nodos en promedio
+    */
+    private void construirFranjas(int n) {
+        int porComienzo[] = Simplicidad2D.ordenLexicografico(izqX, izqY, n);
+        int porFin[] = Simplicidad2D.ordenLexicografico(derX, derY, n);
+
+        prioridad = new int[n];
+        int semilla = 0x2545F491;
+        for (int i=0; i<n; i++) {
+            semilla ^= semilla << 13;
+            semilla ^= semilla >>> 17;
+            semilla ^= semilla << 5;
+            prioridad[i] = semilla;
+        }
+        nodoArista = new int[4*n];
+        nodoIzquierdo = new int[4*n];
+        nodoDerecho = new int[4*n];
+        numNodos = 0;
+
+        raizFranja = new int[numCortes];
+        int raiz = NINGUNO, comienzo = 0, fin = 0;
+        for (int k=0; k<numCortes-1; k++) {
+            primerNodoFranja = numNodos;
+            while (fin < n && derX[porFin[fin]] == cortes[k]) {
+                int arista = porFin[fin++];
+                if (derX[arista] != izqX[arista])
+                    raiz = eliminar(raiz, arista);
+            }
+            while (comienzo < n && izqX[porComienzo[comienzo]] == cortes[k]) {
+                int arista = porComienzo[comienzo++];
+                if (derX[arista] != izqX[arista])
+                    raiz = insertar(raiz, arista);
+            }
+            raizFranja[k] = raiz;
+        }
+        raizFranja[numCortes-1] = NINGUNO;
+    }
+
+  /** Inserta una arista en un árbol sin modificar sus nodos anteriores
+    * @return la raíz del nuevo árbol
+    */
+    private int insertar(int nodo, int arista) {
+        if (nodo == NINGUNO)
+            return nuevoNodo(arista, NINGUNO, NINGUNO);
+
+        int copia = copiar(nodo);
+        if (compara(arista, nodoArista[nodo]) < 0) {
+            // La llamada puede ampliar los arrays, así que el resultado se
+            // asigna después
+            int hijo = insertar(nodoIzquierdo[copia], arista);
+            nodoIzquierdo[copia] = hijo;
+            if (prioridad[nodoArista[hijo]] < prioridad[nodoArista[copia]]) {
+                // Rotación a la derecha. Ambos nodos son copias nuevas
+                nodoIzquierdo[copia] = nodoDerecho[hijo];
+                nodoDerecho[hijo] = copia;
+                return hijo;
+            }
+        } else {
+            int hijo = insertar(nodoDerecho[copia], arista);
+            nodoDerecho[copia] = hijo;
+            if (prioridad[nodoArista[hijo]] < prioridad[nodoArista[copia]]) {
+                // Rotación a la izquierda
+                nodoDerecho[copia] = nodoIzquierdo[hijo];
+                nodoIzquierdo[hijo] = copia;
+                return hijo;
+            }
+        }
+        return copia;
+    }
+
+  /** Elimina una arista de un árbol sin modificar sus nodos anteriores
+    * @return la raíz del nuevo árbol
+    */
+    private int eliminar(int nodo, int arista) {
+        if (nodo == NINGUNO)
+            return NINGUNO;
+        if (nodoArista[nodo] == arista)
+            return unir(nodoIzquierdo[nodo], nodoDerecho[nodo]);
+
+        int copia = copiar(nodo);
+        if (compara(arista, nodoArista[nodo]) < 0) {
+            int hijo = eliminar(nodoIzquierdo[copia], arista);
+            nodoIzquierdo[copia] = hijo;
+        } else {
+            int hijo = eliminar(nodoDerecho[copia], arista);
+            nodoDerecho[copia] = hijo;
+        }
+        return copia;
+    }
+
+  /** Une dos árboles, estando todas las aristas del primero por debajo de
+    * las del segundo, sin modificar sus nodos anteriores
+    * @return la raíz del nuevo árbol
+    */
+    private int unir(int inferior, int superior) {
+        if (inferior == NINGUNO) return superior;
+        if (superior == NINGUNO) return inferior;
+
+        if (prioridad[nodoArista[inferior]] < prioridad[nodoArista[superior]]) {
+            int copia = copiar(inferior);
+            int hijo = unir(nodoDerecho[copia], superior);
+            nodoDerecho[copia] = hijo;
+            return copia;
+        } else {
+            int copia = copiar(superior);
+            int hijo = unir(inferior, nodoIzquierdo[copia]);
+            nodoIzquierdo[copia] = hijo;
+            return copia;
+        }
+    }
+
+  /** Obtiene un nodo que puede modificarse en la franja actual: el propio
+    * nodo si se creó para ella, o una copia en caso contrario
+    */
+    private int copiar(int nodo) {
+        if (nodo >= primerNodoFranja)
+            return nodo;
+        return nuevoNodo(nodoArista[nodo], nodoIzquierdo[nodo], nodoDerecho[nodo]);
+    }
+
+  /** Crea un nuevo nodo, ampliando los arrays de nodos si es necesario
+    */
+    private int nuevoNodo(int arista, int izquierdo, int derecho) {
+        if (numNodos == nodoArista.length) {
+            int capacidad = 2*numNodos;
+            int nuevos[] = new int[capacidad];
+            System.arraycopy(nodoArista, 0, nuevos, 0, numNodos);
+            nodoArista = nuevos;
+            nuevos = new int[capacidad];
+            System.arraycopy(nodoIzquierdo, 0, nuevos, 0, numNodos);
+            nodoIzquierdo = nuevos;
+            nuevos = new int[capacidad];
+            System.arraycopy(nodoDerecho, 0, nuevos, 0, numNodos);
+            nodoDerecho = nuevos;
+        }
+        nodoArista[numNodos] = arista;
+        nodoIzquierdo[numNodos] = izquierdo;
+        nodoDerecho[numNodos] = derecho;
+        return numNodos++;
+    }
+
+  /** Compara dos aristas no verticales que atraviesan una misma franja. Como
+    * las aristas de un polígono simple no se cortan, basta con comparar con
+    * una de ellas el extremo izquierdo de la que comienza más a la derecha, o
+    * su extremo derecho si ambas comparten el izquierdo
+    * @return un valor negativo si la primera arista queda por debajo de la
+    * segunda, y positivo en caso contrario
+    */
+    private int compara(int arista, int otra) {
+        if (izqX[arista] >= izqX[otra]) {
+            int posicion = orientacion(otra, izqX[arista], izqY[arista]);
+            if (posicion == Mat.COLINEAL)
+                posicion = orientacion(otra, derX[arista], derY[arista]);
+            return posicion == Mat.ANTIHORARIO ? 1 : -1;
+        } else {
+            int posicion = orientacion(arista, izqX[otra], izqY[otra]);
+            if (posicion == Mat.COLINEAL)
+                posicion = orientacion(arista, derX[otra], derY[otra]);
+            return posicion == Mat.ANTIHORARIO ? -1 : 1;
+        }
+    }
+
+  /** Obtiene de forma exacta la posición de un punto respecto a una arista
+    * orientada de izquierda a derecha
+    */
+    private int orientacion(int arista, double x, double y) {
+        return PredicadosExactos2D.orientacion(izqX[arista], izqY[arista],
+                                               derX[arista], derY[arista], x, y);
+    }
+
+  /** Busca en un array ordenado la primera posición, entre desde y hasta,
+    * cuyo valor es mayor que uno dado
+    * @return la posición encontrada, o hasta si no hay ningún valor mayor
+    */
+    private static int buscar(double valores[], int desde, int hasta, double valor) {
+        while (desde < hasta) {
+            int medio = (desde + hasta) >>> 1;
+            if (valores[medio] <= valor)
+                desde = medio + 1;
+            else
+                hasta = medio;
+        }
+        return desde;
+    }
+}
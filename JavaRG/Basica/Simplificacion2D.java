@@ -0,0 +1,755 @@
+/*
+ * Simplificacion2D.java
+ *
+ * Created on 18 de octubre de 2026, 4:10
+ */
+
+package JavaRG.Basica;
+
+import JavaRG.Mat;
+import JavaRG.Nucleo2D.*;
+import java.util.Iterator;
+
+/** La clase <code>Simplificacion2D</code> reduce el número de vértices de un
+ * polígono o de una línea poligonal (un polígono no completo) conservando su
+ * forma, por ejemplo para dibujarlo o consultarlo a una escala en la que no se
+ * distinguen todos sus vértices. Se ofrecen dos algoritmos:
+ * <ul>
+ * <li>Douglas y Peucker: se parte del segmento que une los extremos y se
+ * añade el vértice más alejado de él mientras su distancia supere la
+ * tolerancia, repitiendo en cada uno de los dos tramos. El resultado está a
+ * una distancia de la línea original no mayor que la tolerancia. El coste es
+ * O(n log n) cuando los vértices añadidos dividen los tramos en partes
+ * parecidas, que es lo habitual, y O(n^2) en el peor caso</li>
+ * <li>Visvalingam y Whyatt: se elimina repetidamente el vértice que forma con
+ * sus vecinos el triángulo de menor área, hasta que ese área alcanza un
+ * mínimo o hasta que quedan los vértices deseados. Los vértices se guardan en
+ * un montículo según su área, por lo que el coste es O(n log n)</li>
+ * </ul>
+ * Ambos conservan la topología: si la línea original es simple, la
+ * simplificada también lo es. En el algoritmo de Douglas y Peucker, los
+ * tramos que se cortan se dividen de nuevo por su vértice más alejado hasta
+ * que no queda ningún cruce. En el de Visvalingam y Whyatt, un vértice solo se
+ * elimina si ningún otro vértice está dentro del triángulo que forma con sus
+ * vecinos, para lo que los vértices se reparten en una rejilla. Los extremos
+ * de una línea abierta se conservan siempre, y un polígono completo conserva
+ * al menos tres vértices.
+ * <br>
+ * Cada objeto de la clase es además una etapa de simplificación por flujo:
+ * recibe los vértices de una línea uno a uno y va escribiendo los de la línea
+ * simplificada en un buffer, de forma que una línea muy grande no tiene que
+ * estar entera en memoria. Los vértices pendientes se guardan en una ventana
+ * de tamaño fijo, que se simplifica con el algoritmo de Douglas y Peucker cada
+ * vez que se llena. La distancia a la línea original sigue sin superar la
+ * tolerancia, pero los cruces solo se evitan dentro de cada ventana
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see Poligono2D#simplificar(double)
+ * @see BufferPuntos2D
+ */
+public class Simplificacion2D extends Object {
+
+  /**
+    * Número máximo de vértices pendientes en una etapa de simplificación por
+    * flujo
+    */
+    private static final int tamanoVentana = 1024;
+  /**
+    * Medida de las celdas de la rejilla, en lados medios de la línea
+    */
+    private static final int ladosPorCelda = 2;
+
+  /**
+    * Distancia máxima entre la línea simplificada y la original
+    */
+    private double tolerancia;
+  /**
+    * Buffer en el que se escriben los vértices de la línea simplificada
+    */
+    private BufferPuntos2D salida;
+  /**
+    * Vértices pendientes. El primero es el último vértice escrito en la
+    * salida
+    */
+    private double ventanaX[], ventanaY[];
+  /**
+    * Número de vértices pendientes
+    */
+    private int numVentana;
+
+  /**
+    * Vértices de la línea que simplifica el algoritmo de Visvalingam y
+    * Whyatt
+    */
+    private double xs[], ys[];
+  /**
+    * Número de vértices de la línea
+    */
+    private int n;
+  /**
+    * Indica qué vértices se han eliminado
+    */
+    private boolean eliminados[];
+  /**
+    * Esquina inferior izquierda de la caja contenedora de los vértices
+    */
+    private double xmin, ymin;
+  /**
+    * Longitud total de los lados de la línea original
+    */
+    private double longitud;
+  /**
+    * Número de vértices no eliminados
+    */
+    private int vivos;
+  /**
+    * Lado de las celdas de la rejilla
+    */
+    private double lado;
+  /**
+    * Tabla de dispersión con las celdas ocupadas de la rejilla: su clave y
+    * el primer vértice de la celda, o -1 en las posiciones libres
+    */
+    private long claves[];
+    private int primeroCelda[];
+  /**
+    * Siguiente vértice de la misma celda para cada vértice
+    */
+    private int siguienteCelda[];
+
+  /** Crea una etapa de simplificación por flujo
+    * @param tolerancia distancia máxima entre la línea simplificada y la
+    * original
+    * @param salida buffer en el que se escriben los vértices de la línea
+    * simplificada. Puede vaciarse entre inserciones para no acumularlos
+    * @return una nueva etapa sin vértices
+    * @exception GeomException si la tolerancia es negativa
+    */
+    public Simplificacion2D(double tolerancia, BufferPuntos2D salida) throws GeomException {
+        if (!(tolerancia >= 0))
+            throw new GeomException("Simplificacion2D (double, BufferPuntos2D): la tolerancia no puede ser negativa");
+        this.tolerancia = tolerancia;
+        this.salida = salida;
+        ventanaX = new double[tamanoVentana];
+        ventanaY = new double[tamanoVentana];
+        numVentana = 0;
+    }
+
+  /** Añade el siguiente vértice de la línea. Los vértices iguales al
+    * anterior se ignoran. Para simplificar un polígono como línea cerrada, su
+    * primer vértice debe añadirse también al final
+    * @param x coordenada cartesiana x del vértice
+    * @param y coordenada cartesiana y del vértice
+    */
+    public void insertar(double x, double y) {
+        if (numVentana > 0 && x == ventanaX[numVentana-1] && y == ventanaY[numVentana-1])
+            return;
+        // El primer vértice de la línea se conserva siempre
+        if (numVentana == 0)
+            salida.insertar(x, y);
+        ventanaX[numVentana] = x;
+        ventanaY[numVentana] = y;
+        numVentana++;
+        if (numVentana == tamanoVentana)
+            vaciarVentana(false);
+    }
+
+  /** Añade el siguiente vértice de la línea
+    * @param punto vértice a añadir
+    * @see Simplificacion2D#insertar(double, double)
+    */
+    public void insertar(Punto2D punto) {
+        insertar(punto.x(), punto.y());
+    }
+
+  /** Termina la línea, escribiendo en la salida los vértices pendientes. La
+    * etapa queda preparada para comenzar una nueva línea
+    */
+    public void terminar() {
+        vaciarVentana(true);
+        numVentana = 0;
+    }
+
+  /** Simplifica una línea dada por un iterador sobre sus vértices, sin
+    * guardarla entera en memoria
+    * @param vertices iterador sobre los vértices de la línea
+    * @param tolerancia distancia máxima entre la línea simplificada y la
+    * original
+    * @param salida buffer en el que se añaden los vértices de la línea
+    * simplificada
+    * @exception GeomException si la tolerancia es negativa
+    * @see Simplificacion2D#insertar(Punto2D)
+    */
+    public static void simplificar(Iterator<Punto2D> vertices, double tolerancia, BufferPuntos2D salida)
+        throws GeomException {
+        Simplificacion2D etapa = new Simplificacion2D(tolerancia, salida);
+        while (vertices.hasNext())
+            etapa.insertar(vertices.next());
+        etapa.terminar();
+    }
+
+  /** Simplifica un polígono o una línea con el algoritmo de Douglas y Peucker
+    * @param linea polígono a simplificar, o línea abierta si no es completo
+    * @param tolerancia distancia máxima entre el resultado y la línea original
+    * @return un nuevo polígono, completo si lo es la línea, con un
+    * subconjunto de sus vértices
+    * @exception GeomException si la tolerancia es negativa o la línea no tiene
+    * al menos dos vértices
+    */
+    public static Poligono2D douglasPeucker(Poligono2D linea, double tolerancia)
+        throws GeomException {
+        if (!(tolerancia >= 0))
+            throw new GeomException("douglasPeucker (Poligono2D, double): la tolerancia no puede ser negativa");
+        boolean cerrada = linea.esCompleto();
+        int n = linea.posiciones();
+        if (n < 2)
+            throw new GeomException("douglasPeucker (Poligono2D, double): la línea debe tener al menos dos vértices");
+        double xs[] = new double[n], ys[] = new double[n];
+        // Un polígono se recorre desde su menor vértice, que es un extremo y
+        // por tanto se conserva
+        int inicio = 0;
+        for (int i=0; i<n; i++) {
+            Punto2D p = linea.vertice(i);
+            xs[i] = p.x();
+            ys[i] = p.y();
+            if (cerrada && (xs[i] < xs[inicio] || (xs[i] == xs[inicio] && ys[i] < ys[inicio])))
+                inicio = i;
+        }
+        if (inicio > 0) {
+            double rotadasX[] = new double[n], rotadasY[] = new double[n];
+            for (int i=0; i<n; i++) {
+                rotadasX[i] = xs[(inicio + i) % n];
+                rotadasY[i] = ys[(inicio + i) % n];
+            }
+            xs = rotadasX;
+            ys = rotadasY;
+        }
+
+        boolean conservados[] = new boolean[n];
+        conservados[0] = true;
+        if (cerrada) {
+            // El polígono se divide en dos tramos por el vértice más alejado
+            // del primero. Si con la tolerancia no se conserva ningún otro,
+            // se añade el más alejado de ambos tramos
+            int opuesto = 1;
+            for (int i=2; i<n; i++)
+                if (distanciaCuadrado(xs[0], ys[0], xs[i], ys[i]) >
+                    distanciaCuadrado(xs[0], ys[0], xs[opuesto], ys[opuesto]))
+                    opuesto = i;
+            conservados[opuesto] = true;
+            marcar(xs, ys, n, 0, opuesto, tolerancia, conservados);
+            marcar(xs, ys, n, opuesto, n, tolerancia, conservados);
+            int k = 0;
+            for (int i=0; i<n; i++)
+                if (conservados[i])
+                    k++;
+            if (k < 3) {
+                int primero = masAlejado(xs, ys, n, 0, opuesto);
+                int segundo = masAlejado(xs, ys, n, opuesto, n);
+                int tercero = primero;
+                if (tercero < 0 || (segundo >= 0 &&
+                    distanciaSegmento(xs, ys, n, segundo, opuesto, n) >
+                    distanciaSegmento(xs, ys, n, primero, 0, opuesto)))
+                    tercero = segundo;
+                if (tercero >= 0)
+                    conservados[tercero] = true;
+            }
+        } else {
+            conservados[n-1] = true;
+            marcar(xs, ys, n, 0, n-1, tolerancia, conservados);
+        }
+        reparar(xs, ys, n, cerrada, tolerancia, conservados);
+        return crear(xs, ys, n, cerrada, conservados);
+    }
+
+  /** Simplifica un polígono o una línea con el algoritmo de Visvalingam y
+    * Whyatt, eliminando los vértices cuyo triángulo tiene un área menor que
+    * la indicada
+    * @param linea polígono a simplificar, o línea abierta si no es completo
+    * @param areaMinima área mínima del triángulo que forma cada vértice del
+    * resultado con sus vecinos
+    * @return un nuevo polígono, completo si lo es la línea, con un
+    * subconjunto de sus vértices
+    * @exception GeomException si el área es negativa o la línea no tiene al
+    * menos dos vértices
+    */
+    public static Poligono2D visvalingam(Poligono2D linea, double areaMinima)
+        throws GeomException {
+        if (!(areaMinima >= 0))
+            throw new GeomException("visvalingam (Poligono2D, double): el área no puede ser negativa");
+        if (linea.posiciones() < 2)
+            throw new GeomException("visvalingam (Poligono2D, double): la línea debe tener al menos dos vértices");
+        return visvalingam(linea, areaMinima, linea.esCompleto() ? 3 : 2);
+    }
+
+  /** Reduce un polígono o una línea a un número de vértices con el algoritmo
+    * de Visvalingam y Whyatt. Si eliminar más vértices hiciera que la línea
+    * se cortara, el resultado puede tener más vértices de los indicados
+    * @param linea polígono a simplificar, o línea abierta si no es completo
+    * @param numVertices número de vértices del resultado: al menos tres para
+    * un polígono completo y dos para una línea
+    * @return un nuevo polígono, completo si lo es la línea, con un
+    * subconjunto de sus vértices
+    * @exception GeomException si el número de vértices no es suficiente
+    */
+    public static Poligono2D reducir(Poligono2D linea, int numVertices) throws GeomException {
+        if (numVertices < (linea.esCompleto() ? 3 : 2) || linea.posiciones() < 2)
+            throw new GeomException("reducir (Poligono2D, int): el número de vértices no es suficiente");
+        return visvalingam(linea, Double.POSITIVE_INFINITY, numVertices);
+    }
+
+  /** Escribe en la salida los vértices que se conservan de la ventana. Si la
+    * línea no ha terminado, el último tramo queda pendiente, ya que puede
+    * alargarse con los vértices siguientes
+    */
+    private void vaciarVentana(boolean fin) {
+        int n = numVentana;
+        if (n < 2)
+            return;
+        boolean conservados[] = new boolean[n];
+        conservados[0] = conservados[n-1] = true;
+        marcar(ventanaX, ventanaY, n, 0, n-1, tolerancia, conservados);
+        reparar(ventanaX, ventanaY, n, false, tolerancia, conservados);
+        int ultimo = n-1;
+        if (!fin) {
+            ultimo = n-2;
+            while (ultimo > 0 && !conservados[ultimo])
+                ultimo--;
+            // Si toda la ventana es un solo tramo, se cierra en su final
+            if (ultimo == 0)
+                ultimo = n-1;
+        }
+        for (int i=1; i<=ultimo; i++)
+            if (conservados[i])
+                salida.insertar(ventanaX[i], ventanaY[i]);
+        System.arraycopy(ventanaX, ultimo, ventanaX, 0, n - ultimo);
+        System.arraycopy(ventanaY, ultimo, ventanaY, 0, n - ultimo);
+        numVentana = n - ultimo;
+    }
+
+  /** Marca los vértices que se conservan entre dos vértices conservados con
+    * el algoritmo de Douglas y Peucker. Los índices se toman módulo n, de
+    * forma que el tramo final de un polígono puede terminar en n
+    */
+    private static void marcar(double xs[], double ys[], int n, int desde, int hasta,
+                               double tolerancia, boolean conservados[]) {
+        double toleranciaCuadrado = tolerancia * tolerancia;
+        int pila[] = new int[2 * (hasta - desde + 1)];
+        int cima = 0;
+        pila[cima++] = desde;
+        pila[cima++] = hasta;
+        while (cima > 0) {
+            int b = pila[--cima], a = pila[--cima];
+            int k = masAlejado(xs, ys, n, a, b);
+            if (k < 0 || distanciaSegmento(xs, ys, n, k, a, b) <= toleranciaCuadrado)
+                continue;
+            conservados[k % n] = true;
+            pila[cima++] = a;
+            pila[cima++] = k;
+            pila[cima++] = k;
+            pila[cima++] = b;
+        }
+    }
+
+  /** Divide de nuevo los tramos de la línea simplificada que se cortan con
+    * otros por su vértice más alejado, hasta que no queda ningún cruce o ya
+    * no se puede dividir ninguno. Las dos partes de cada tramo dividido se
+    * simplifican de nuevo con la tolerancia, ya que un vértice cercano al
+    * tramo puede no estarlo a sus partes
+    */
+    private static void reparar(double xs[], double ys[], int n, boolean cerrada,
+                                double tolerancia, boolean conservados[]) {
+        int indices[] = new int[n];
+        boolean dividir[] = new boolean[n];
+        while (true) {
+            int m = 0;
+            for (int i=0; i<n; i++)
+                if (conservados[i])
+                    indices[m++] = i;
+            int tramos = cerrada ? m : m-1;
+            if (tramos < 2)
+                return;
+            double x1[] = new double[tramos], y1[] = new double[tramos];
+            double x2[] = new double[tramos], y2[] = new double[tramos];
+            for (int t=0; t<tramos; t++) {
+                int a = indices[t], b = indices[(t+1) % m];
+                x1[t] = xs[a]; y1[t] = ys[a];
+                x2[t] = xs[b]; y2[t] = ys[b];
+                dividir[t] = false;
+            }
+
+            boolean cruces = false;
+            try {
+                Intersecciones2D intersecciones = new Intersecciones2D(x1, y1, x2, y2, tramos);
+                for (int i=0; i<intersecciones.numIntersecciones(); i++) {
+                    int s = intersecciones.primero(i), t = intersecciones.segundo(i);
+                    // Los tramos consecutivos se tocan en su vértice común
+                    int comun = -1;
+                    if (t == s + 1)
+                        comun = indices[t];
+                    else if (s == t + 1)
+                        comun = indices[s];
+                    else if (cerrada && Math.min(s, t) == 0 && Math.max(s, t) == tramos - 1)
+                        comun = indices[0];
+                    if (comun >= 0 && !intersecciones.esSolape(i) &&
+                        intersecciones.x(i) == xs[comun] && intersecciones.y(i) == ys[comun])
+                        continue;
+                    dividir[s] = dividir[t] = true;
+                    cruces = true;
+                }
+            } catch (GeomException e) {
+                // No puede producirse: los índices son siempre válidos
+            }
+            if (!cruces)
+                return;
+
+            boolean divididos = false;
+            for (int t=0; t<tramos; t++) {
+                if (!dividir[t])
+                    continue;
+                int a = indices[t], b = indices[(t+1) % m];
+                if (b <= a)
+                    b += n;
+                int k = masAlejado(xs, ys, n, a, b);
+                if (k >= 0) {
+                    conservados[k % n] = true;
+                    marcar(xs, ys, n, a, k, tolerancia, conservados);
+                    marcar(xs, ys, n, k, b, tolerancia, conservados);
+                    divididos = true;
+                }
+            }
+            if (!divididos)
+                return;
+        }
+    }
+
+  /** Obtiene el vértice entre dos vértices dados (sin incluirlos) más alejado
+    * del segmento que los une, con los índices módulo n
+    * @return el índice del vértice, entre los dos dados y sin tomar el
+    * módulo, o -1 si no hay vértices entre ambos
+    */
+    private static int masAlejado(double xs[], double ys[], int n, int desde, int hasta) {
+        int k = -1;
+        double maximo = -1;
+        for (int i=desde+1; i<hasta; i++) {
+            double distancia = distanciaSegmento(xs, ys, n, i, desde, hasta);
+            if (distancia > maximo) {
+                maximo = distancia;
+                k = i;
+            }
+        }
+        return k;
+    }
+
+  /** Calcula el cuadrado de la distancia de un vértice al segmento que une
+    * otros dos, con los índices módulo n
+    */
+    private static double distanciaSegmento(double xs[], double ys[], int n, int v, int a, int b) {
+        double ax = xs[a % n], ay = ys[a % n], bx = xs[b % n], by = ys[b % n];
+        double px = xs[v % n], py = ys[v % n];
+        double dx = bx - ax, dy = by - ay;
+        double longitud = dx*dx + dy*dy;
+        double t = (longitud == 0) ? 0 : ((px - ax)*dx + (py - ay)*dy) / longitud;
+        if (t < 0)
+            t = 0;
+        else if (t > 1)
+            t = 1;
+        return distanciaCuadrado(px, py, ax + t*dx, ay + t*dy);
+    }
+
+  /** Calcula el cuadrado de la distancia entre dos puntos
+    */
+    private static double distanciaCuadrado(double ax, double ay, double bx, double by) {
+        return (bx - ax)*(bx - ax) + (by - ay)*(by - ay);
+    }
+
+  /** Prepara el estado del algoritmo de Visvalingam y Whyatt para los
+    * vértices de una línea
+    */
+    private Simplificacion2D(double xs[], double ys[], int n) {
+        this.xs = xs;
+        this.ys = ys;
+        this.n = n;
+        eliminados = new boolean[n];
+        siguienteCelda = new int[n];
+        xmin = ymin = Double.MAX_VALUE;
+        longitud = 0;
+        for (int i=0; i<n; i++) {
+            xmin = Math.min(xmin, xs[i]);
+            ymin = Math.min(ymin, ys[i]);
+            int j = (i + 1) % n;
+            longitud += Math.sqrt(distanciaCuadrado(xs[i], ys[i], xs[j], ys[j]));
+        }
+        construirRejilla(n);
+    }
+
+  /** Simplifica una línea con el algoritmo de Visvalingam y Whyatt hasta que
+    * el menor triángulo alcanza el área mínima o quedan los vértices
+    * indicados
+    */
+    private static Poligono2D visvalingam(Poligono2D linea, double areaMinima, int numVertices)
+        throws GeomException {
+        boolean cerrada = linea.esCompleto();
+        int n = linea.posiciones();
+        double xs[] = new double[n], ys[] = new double[n];
+        for (int i=0; i<n; i++) {
+            Punto2D p = linea.vertice(i);
+            xs[i] = p.x();
+            ys[i] = p.y();
+        }
+        Simplificacion2D estado = new Simplificacion2D(xs, ys, n);
+
+        int anterior[] = new int[n], siguiente[] = new int[n];
+        for (int i=0; i<n; i++) {
+            anterior[i] = (i + n - 1) % n;
+            siguiente[i] = (i + 1) % n;
+        }
+        double areas[] = new double[n];
+        int monticulo[] = new int[n], posiciones[] = new int[n];
+        int tamano = 0;
+        for (int i=0; i<n; i++) {
+            posiciones[i] = -1;
+            if (!cerrada && (i == 0 || i == n-1))
+                continue;
+            areas[i] = area(xs, ys, anterior[i], i, siguiente[i]);
+            monticulo[tamano] = i;
+            posiciones[i] = tamano;
+            tamano++;
+        }
+        for (int i=tamano/2 - 1; i>=0; i--)
+            bajar(monticulo, posiciones, areas, tamano, i);
+
+        int restantes = n;
+        while (tamano > 0 && restantes > numVertices) {
+            int v = monticulo[0];
+            if (areas[v] >= areaMinima)
+                break;
+            tamano = quitar(monticulo, posiciones, areas, tamano, 0);
+            int a = anterior[v], b = siguiente[v];
+            if (!estado.vacio(a, v, b))
+                // Queda bloqueado hasta que cambie alguno de sus vecinos
+                continue;
+            estado.eliminados[v] = true;
+            restantes--;
+            siguiente[a] = b;
+            anterior[b] = a;
+            if (restantes <= estado.vivos / 4) {
+                // Los lados, y con ellos los triángulos, crecen a medida que
+                // se eliminan vértices, por lo que la rejilla se rehace con
+                // celdas mayores
+                estado.construirRejilla(restantes);
+            }
+            // El área de los vecinos no baja de la del vértice eliminado, de
+            // forma que los vértices se eliminan en orden de área creciente
+            for (int k=0; k<2; k++) {
+                int w = (k == 0) ? a : b;
+                if (!cerrada && (w == 0 || w == n-1))
+                    continue;
+                areas[w] = Math.max(area(xs, ys, anterior[w], w, siguiente[w]), areas[v]);
+                if (posiciones[w] >= 0)
+                    tamano = quitar(monticulo, posiciones, areas, tamano, posiciones[w]);
+                monticulo[tamano] = w;
+                posiciones[w] = tamano;
+                tamano++;
+                subir(monticulo, posiciones, areas, tamano - 1);
+            }
+        }
+
+        boolean conservados[] = new boolean[n];
+        for (int i=0; i<n; i++)
+            conservados[i] = !estado.eliminados[i];
+        return crear(xs, ys, n, cerrada, conservados);
+    }
+
+  /** Reparte los vértices no eliminados en una rejilla cuyas celdas miden
+    * el doble de la longitud media de los lados, de forma que cada celda
+    * contiene pocos vértices aunque estos se concentren a lo largo de la
+    * línea. Solo se guardan las celdas ocupadas
+    * @param vivos número de vértices no eliminados
+    */
+    private void construirRejilla(int vivos) {
+        this.vivos = vivos;
+        lado = ladosPorCelda * longitud / vivos;
+        if (!(lado > 0))
+            lado = 1;
+        int capacidad = 1;
+        while (capacidad < 2 * vivos)
+            capacidad <<= 1;
+        claves = new long[capacidad];
+        primeroCelda = new int[capacidad];
+        for (int c=0; c<capacidad; c++)
+            primeroCelda[c] = -1;
+        for (int i=0; i<n; i++) {
+            if (eliminados[i])
+                continue;
+            long clave = clave(fila(ys[i]), columna(xs[i]));
+            int c = posicion(clave);
+            claves[c] = clave;
+            siguienteCelda[i] = primeroCelda[c];
+            primeroCelda[c] = i;
+        }
+    }
+
+  /** Obtiene la columna de la rejilla que contiene una coordenada x
+    */
+    private long columna(double x) {
+        return (long) ((x - xmin) / lado);
+    }
+
+  /** Obtiene la fila de la rejilla que contiene una coordenada y
+    */
+    private long fila(double y) {
+        return (long) ((y - ymin) / lado);
+    }
+
+  /** Obtiene la clave de una celda de la rejilla
+    */
+    private static long clave(long fila, long columna) {
+        return (fila << 32) ^ columna;
+    }
+
+  /** Busca la posición de una celda en la tabla de dispersión, o la
+    * posición libre en que debe guardarse
+    */
+    private int posicion(long clave) {
+        int mascara = claves.length - 1;
+        int c = (int) ((clave * 0x9E3779B97F4A7C15L) >>> 40) & mascara;
+        while (primeroCelda[c] >= 0 && claves[c] != clave)
+            c = (c + 1) & mascara;
+        return c;
+    }
+
+  /** Calcula el área del triángulo que forman tres vértices
+    */
+    private static double area(double xs[], double ys[], int a, int b, int c) {
+        return Math.abs(PredicadosExactos2D.determinanteOrientacion(xs[a], ys[a], xs[b], ys[b],
+                                                                    xs[c], ys[c])) / 2;
+    }
+
+  /** Determina si ningún vértice no eliminado, salvo los tres del triángulo,
+    * está dentro del triángulo o sobre su borde. En ese caso el lado que une
+    * a con c no corta a la línea. Los vértices eliminados desde que se
+    * construyó la rejilla siguen en ella, pero se ignoran
+    */
+    private boolean vacio(int a, int b, int c) {
+        int sentido = PredicadosExactos2D.orientacion(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c]);
+        // Si los tres vértices están alineados, el nuevo lado está sobre los
+        // dos que sustituye
+        if (sentido == Mat.COLINEAL)
+            return true;
+        double x1 = Math.min(xs[a], Math.min(xs[b], xs[c])), x2 = Math.max(xs[a], Math.max(xs[b], xs[c]));
+        double y1 = Math.min(ys[a], Math.min(ys[b], ys[c])), y2 = Math.max(ys[a], Math.max(ys[b], ys[c]));
+        long c1 = columna(x1), c2 = columna(x2), f1 = fila(y1), f2 = fila(y2);
+        if ((c2 - c1 + 1) * (f2 - f1 + 1) > vivos) {
+            // Es más rápido comprobar todos los vértices que todas las celdas
+            for (int v=0; v<n; v++)
+                if (dentro(a, b, c, v, sentido, x1, y1, x2, y2))
+                    return false;
+            return true;
+        }
+        for (long f=f1; f<=f2; f++)
+            for (long col=c1; col<=c2; col++)
+                for (int v=primeroCelda[posicion(clave(f, col))]; v>=0; v=siguienteCelda[v])
+                    if (dentro(a, b, c, v, sentido, x1, y1, x2, y2))
+                        return false;
+        return true;
+    }
+
+  /** Determina si un vértice no eliminado, distinto de los del triángulo,
+    * está dentro del triángulo o sobre su borde
+    */
+    private boolean dentro(int a, int b, int c, int v, int sentido,
+                           double x1, double y1, double x2, double y2) {
+        if (eliminados[v] || v == a || v == b || v == c ||
+            xs[v] < x1 || xs[v] > x2 || ys[v] < y1 || ys[v] > y2)
+            return false;
+        return PredicadosExactos2D.orientacion(xs[a], ys[a], xs[b], ys[b], xs[v], ys[v]) != -sentido &&
+               PredicadosExactos2D.orientacion(xs[b], ys[b], xs[c], ys[c], xs[v], ys[v]) != -sentido &&
+               PredicadosExactos2D.orientacion(xs[c], ys[c], xs[a], ys[a], xs[v], ys[v]) != -sentido;
+    }
+
+  /** Sube un elemento del montículo hasta su posición
+    */
+    private static void subir(int monticulo[], int posiciones[], double claves[], int i) {
+        int v = monticulo[i];
+        while (i > 0) {
+            int padre = (i - 1) / 2;
+            if (claves[monticulo[padre]] <= claves[v])
+                break;
+            monticulo[i] = monticulo[padre];
+            posiciones[monticulo[i]] = i;
+            i = padre;
+        }
+        monticulo[i] = v;
+        posiciones[v] = i;
+    }
+
+  /** Quita un elemento del montículo
+    * @return el nuevo tamaño del montículo
+    */
+    private static int quitar(int monticulo[], int posiciones[], double claves[], int tamano, int i) {
+        posiciones[monticulo[i]] = -1;
+        tamano--;
+        if (i == tamano)
+            return tamano;
+        int v = monticulo[tamano];
+        monticulo[i] = v;
+        posiciones[v] = i;
+        subir(monticulo, posiciones, claves, i);
+        // Si no ha subido, se baja
+        bajar(monticulo, posiciones, claves, tamano, posiciones[v]);
+        return tamano;
+    }
+
+  /** Baja un elemento del montículo hasta su posición
+    */
+    private static void bajar(int monticulo[], int posiciones[], double claves[], int tamano, int i) {
+        int v = monticulo[i];
+        while (true) {
+            int hijo = 2*i + 1;
+            if (hijo >= tamano)
+                break;
+            if (hijo + 1 < tamano && claves[monticulo[hijo+1]] < claves[monticulo[hijo]])
+                hijo++;
+            if (claves[monticulo[hijo]] >= claves[v])
+                break;
+            monticulo[i] = monticulo[hijo];
+            posiciones[monticulo[i]] = i;
+            i = hijo;
+        }
+        monticulo[i] = v;
+        posiciones[v] = i;
+    }
+
+  /** Crea el polígono con los vértices que se conservan. En una línea
+    * abierta se omiten los vértices iguales al anterior, ya que al
+    * insertarlos se cerraría el polígono
+    */
+    private static Poligono2D crear(double xs[], double ys[], int n, boolean cerrada,
+                                    boolean conservados[]) throws GeomException {
+        int k = 0;
+        double nuevasX[] = new double[n], nuevasY[] = new double[n];
+        for (int i=0; i<n; i++)
+            if (conservados[i]) {
+                nuevasX[k] = xs[i];
+                nuevasY[k] = ys[i];
+                k++;
+            }
+        if (cerrada) {
+            double contornoX[] = new double[k], contornoY[] = new double[k];
+            System.arraycopy(nuevasX, 0, contornoX, 0, k);
+            System.arraycopy(nuevasY, 0, contornoY, 0, k);
+            return new Poligono2D(contornoX, contornoY);
+        }
+        Poligono2D resultado = new Poligono2D();
+        resultado.reservar(k);
+        int ultimo = -1;
+        for (int i=0; i<k; i++)
+            if (ultimo < 0 || !Predicados2D.iguales(nuevasX[ultimo], nuevasY[ultimo], nuevasX[i], nuevasY[i])) {
+                resultado.insertar(nuevasX[i], nuevasY[i]);
+                ultimo = i;
+            }
+        return resultado;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * UnionCascada2D.java
+ *
+ * Created on 18 de octubre de 2026, 1:05
+ */
+
+package JavaRG.Basica;
+
+import JavaRG.Nucleo2D.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/** La clase <code>UnionCascada2D</code> calcula la unión de un conjunto
+ * grande de polígonos (por ejemplo, teselas o parcelas que se desea fundir
+ * en una sola región).
+ * <br>
+ * Unir los polígonos uno a uno con el resultado acumulado tiene un coste
+ * cuadrático, ya que cada unión recorre de nuevo todo el resultado. En su
+ * lugar, los polígonos se agrupan según la posición del centro de su caja
+ * contenedora: el conjunto se divide en dos mitades por la mediana en el eje
+ * en que los centros están más dispersos, y cada mitad se divide de nuevo
+ * hasta llegar a polígonos sueltos. Las uniones se realizan de dos en dos
+ * subiendo por este árbol equilibrado, de forma que cada una junta regiones
+ * de tamaño parecido y próximas entre sí, y los lados interiores se
+ * eliminan pronto. Cuando las cajas contenedoras de las dos regiones no se
+ * solapan, sus contornos se juntan sin necesidad de calcular la unión.
+ * <br>
+ * Las dos mitades de cada nivel se procesan en paralelo en el ForkJoinPool
+ * común, hasta llegar a grupos de un tamaño que se procesan en un solo hilo
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see OperacionesBooleanas2D
+ * @see MultiPoligono2D
+ */
+public class UnionCascada2D extends Object {
+
+  /**
+    * Número mínimo de polígonos de un grupo para que sus dos mitades se
+    * procesen en paralelo
+    */
+    private static final int tamanoMinimoBloque = 64;
+  /**
+    * Número de grupos por hilo en que se divide el conjunto, para que los
+    * hilos que terminan antes puedan tomar grupos de los demás
+    */
+    private static final int bloquesPorHilo = 4;
+
+  /** Calcula la unión de un conjunto de polígonos
+    * @param poligonos polígonos a unir. Su interior se determina según la
+    * regla par-impar, como en las operaciones booleanas
+    * @return la región formada por la unión, con los contornos exteriores en
+    * sentido antihorario y los de los huecos en sentido horario
+    * @exception GeomException si alguno de los polígonos no es completo
+    * @see OperacionesBooleanas2D#union(Poligono2D, Poligono2D)
+    */
+    public static MultiPoligono2D union(Poligono2D poligonos[]) throws GeomException {
+        int n = poligonos.length;
+        int orden[] = new int[n];
+        double centrosX[] = new double[n], centrosY[] = new double[n];
+        for (int i=0; i<n; i++) {
+            if (!poligonos[i].esCompleto())
+                throw new GeomException("union (Poligono2D[]): los polígonos deben ser completos");
+            Caja2D caja = poligonos[i].cajaContenedora();
+            centrosX[i] = (caja.xmin() + caja.xmax()) / 2;
+            centrosY[i] = (caja.ymin() + caja.ymax()) / 2;
+            orden[i] = i;
+        }
+        if (n == 0)
+            return new MultiPoligono2D();
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int bloque = Math.max(tamanoMinimoBloque, n / (bloquesPorHilo * pool.getParallelism()));
+        Tarea tarea = new Tarea(poligonos, orden, centrosX, centrosY, 0, n, bloque);
+        if (n <= bloque)
+            tarea.compute();
+        else
+            pool.invoke(tarea);
+        if (tarea.error != null)
+            throw tarea.error;
+        return new MultiPoligono2D(tarea.resultado);
+    }
+
+  /** Tarea del ForkJoinPool que calcula la unión de un rango de polígonos
+    */
+    private static class Tarea extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+      /**
+        * Polígonos a unir
+        */
+        private Poligono2D poligonos[];
+      /**
+        * Índices de los polígonos, que se reordenan al agrupar
+        */
+        private int orden[];
+      /**
+        * Centros de las cajas contenedoras de los polígonos
+        */
+        private double centrosX[], centrosY[];
+      /**
+        * Rango de índices del que se encarga la tarea
+        */
+        private int desde, hasta;
+      /**
+        * Tamaño por debajo del cual el grupo se procesa en un solo hilo
+        */
+        private int bloque;
+      /**
+        * Contornos de la unión de los polígonos del rango
+        */
+        private Poligono2D resultado[];
+      /**
+        * Caja contenedora del resultado
+        */
+        private double xmin, ymin, xmax, ymax;
+      /**
+        * Excepción producida al procesar el rango, si la hay
+        */
+        private GeomException error;
+
+      /** Crea una tarea que se encarga de un rango de polígonos
+        */
+        Tarea(Poligono2D poligonos[], int orden[], double centrosX[], double centrosY[],
+              int desde, int hasta, int bloque) {
+            this.poligonos = poligonos;
+            this.orden = orden;
+            this.centrosX = centrosX;
+            this.centrosY = centrosY;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.bloque = bloque;
+        }
+
+
+      /** Une los polígonos del rango de la tarea. Si el rango es grande, sus dos
+        * mitades se unen en paralelo
+        */
+        protected void compute() {
+            try {
+                if (hasta - desde <= bloque) {
+                    unir();
+                    return;
+                }
+                int medio = dividir();
+                Tarea izquierda = new Tarea(poligonos, orden, centrosX, centrosY,
+                                            desde, medio, bloque);
+                Tarea derecha = new Tarea(poligonos, orden, centrosX, centrosY,
+                                          medio, hasta, bloque);
+                invokeAll(izquierda, derecha);
+                if (izquierda.error != null)
+                    throw izquierda.error;
+                if (derecha.error != null)
+                    throw derecha.error;
+                juntar(izquierda, derecha);
+            } catch (GeomException e) {
+                error = e;
+            }
+        }
+
+      /** Une los polígonos del rango de la tarea en el propio hilo, siguiendo el
+        * mismo árbol que en paralelo
+        */
+        private void unir() throws GeomException {
+            if (hasta - desde == 1) {
+                // Un polígono suelto se normaliza uniéndolo con una región vacía,
+                // de forma que sus contornos no se corten y tengan el sentido
+                // adecuado
+                Poligono2D poligono[] = { poligonos[orden[desde]] };
+                resultado = OperacionesBooleanas2D.operacion(poligono, new Poligono2D[0],
+                                                             OperacionesBooleanas2D.UNION);
+                Caja2D caja = poligono[0].cajaContenedora();
+                xmin = caja.xmin(); ymin = caja.ymin();
+                xmax = caja.xmax(); ymax = caja.ymax();
+                return;
+            }
+            int medio = dividir();
+            Tarea izquierda = new Tarea(poligonos, orden, centrosX, centrosY,
+                                        desde, medio, bloque);
+            Tarea derecha = new Tarea(poligonos, orden, centrosX, centrosY,
+                                      medio, hasta, bloque);
+            izquierda.unir();
+            derecha.unir();
+            juntar(izquierda, derecha);
+        }
+
+      /** Divide el rango por la mediana de los centros en el eje en que están más
+        * dispersos, reordenando sus índices
+        * @return la posición que separa ambas mitades
+        */
+        private int dividir() {
+            double minX = Double.MAX_VALUE, maxX = -Double.MAX_VALUE;
+            double minY = Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+            for (int i=desde; i<hasta; i++) {
+                minX = Math.min(minX, centrosX[orden[i]]); maxX = Math.max(maxX, centrosX[orden[i]]);
+                minY = Math.min(minY, centrosY[orden[i]]); maxY = Math.max(maxY, centrosY[orden[i]]);
+            }
+            double claves[] = (maxX - minX >= maxY - minY) ? centrosX : centrosY;
+            int medio = (desde + hasta) >>> 1;
+            seleccionar(claves, medio);
+            return medio;
+        }
+
+      /** Reordena los índices del rango de forma que en la posición k quede el de
+        * la clave que ocuparía esa posición si se ordenaran, los de claves
+        * menores antes y los de claves mayores después (selección de Hoare)
+        */
+        private void seleccionar(double claves[], int k) {
+            int izquierda = desde, derecha = hasta - 1;
+            while (izquierda < derecha) {
+                double pivote = claves[orden[(izquierda + derecha) >>> 1]];
+                int i = izquierda, j = derecha;
+                while (i <= j) {
+                    while (claves[orden[i]] < pivote) i++;
+                    while (claves[orden[j]] > pivote) j--;
+                    if (i <= j) {
+                        int t = orden[i]; orden[i] = orden[j]; orden[j] = t;
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j)
+                    derecha = j;
+                else if (k >= i)
+                    izquierda = i;
+                else
+                    return;
+            }
+        }
+
+      /** Obtiene la unión de los resultados de dos tareas. Si sus cajas no se
+        * solapan basta con juntar sus contornos
+        */
+        private void juntar(Tarea izquierda, Tarea derecha) throws GeomException {
+            if (izquierda.xmax < derecha.xmin || derecha.xmax < izquierda.xmin ||
+                izquierda.ymax < derecha.ymin || derecha.ymax < izquierda.ymin) {
+                resultado = new Poligono2D[izquierda.resultado.length + derecha.resultado.length];
+                System.arraycopy(izquierda.resultado, 0, resultado, 0, izquierda.resultado.length);
+                System.arraycopy(derecha.resultado, 0, resultado, izquierda.resultado.length,
+                                 derecha.resultado.length);
+            } else
+                resultado = OperacionesBooleanas2D.operacion(izquierda.resultado, derecha.resultado,
+                                                             OperacionesBooleanas2D.UNION);
+            xmin = Math.min(izquierda.xmin, derecha.xmin);
+            ymin = Math.min(izquierda.ymin, derecha.ymin);
+            xmax = Math.max(izquierda.xmax, derecha.xmax);
+            ymax = Math.max(izquierda.ymax, derecha.ymax);
+        }
+    }
+}
@@ -13,41 +13,50 @@ package JavaRG;
  */
 public class Mat extends Object {
     
-  /** Valor de epsilon para la aritmtica en punto flotante. Se ha escogido un 
+  /** Valor de epsilon para la aritmética en punto flotante. Se ha escogido un 
     * epsilon mayor del que se dio en el enunciado (el original era demasiado 
     * bajo).
     */
     public static final double EPSILON = 0.01;
 
-  /** Definicin de orientacin: orientacin horaria
+  /** Definición de orientación: orientación horaria
     */
     public static final int HORARIO = -1;
-  /** Definicin de orientacin: orientacin antihoraria
+  /** Definición de orientación: orientación antihoraria
    */
     public static final int ANTIHORARIO = 1;
-  /** Definicin de orientacin: orientacin colineal
+  /** Definición de orientación: orientación colineal
    */
     public static final int COLINEAL = 0;
 
-  /** Definicin de posicin: objeto contenido en otro
+  /** Definición de posición: objeto contenido en otro
     */
     public static final int CONTENIDO = 0;
-  /** Definicin de posicin: objeto a la izquierda de otro
+  /** Definición de posición: objeto a la izquierda de otro
     */
     public static final int IZQUIERDA = 1;
-  /** Definicin de posicin: objeto a la derecha de otro
+  /** Definición de posición: objeto a la derecha de otro
    */
     public static final int DERECHA = -1;
-  /** Definicin de posicin: parte positiva del espacio
+  /** Definición de posición: parte positiva del espacio
     */
     public static final int POSITIVA = +1;
-  /** Definicin de posicin: parte negativa del espacio
+  /** Definición de posición: parte negativa del espacio
     */
     public static final int NEGATIVA = -1;
+  /** Definición de localización: punto en el interior de una región
+    */
+    public static final int INTERIOR = 1;
+  /** Definición de localización: punto en la frontera de una región
+    */
+    public static final int FRONTERA = 0;
+  /** Definición de localización: punto en el exterior de una región
+    */
+    public static final int EXTERIOR = -1;
 
- /** Clculo de un valor al cuadrado.
+ /** Cálculo de un valor al cuadrado.
    * @param d valor que se desea elevar al cuadrado
-   * @result resultado de elevar el valor pasado como parmetro al 
+   * @result resultado de elevar el valor pasado como parámetro al 
    * cuadrado
    */
     public static double cuadrado(double d) {
@@ -55,23 +64,23 @@ public class Mat extends Object {
     }
 
   /** Convierte un angulo en grados en su equivalente en radianes
-    * @param grados ngulo en grados
-    * @return el ngulo equivalente en radianes
+    * @param grados ángulo en grados
+    * @return el ángulo equivalente en radianes
     */
     public static double grad2Rad(double grados) {
         return (grados * Math.PI / 180.0);
     }
 
-  /** Convierte un ngulo en radianes en su equivalente en grados
-    * @param radianes ngulo en radianes
-    * @return el ngulo equivalente en grados
+  /** Convierte un ángulo en radianes en su equivalente en grados
+    * @param radianes ángulo en radianes
+    * @return el ángulo equivalente en grados
     */
     public static double rad2Grad(double radianes) {
         return (180.0 * radianes / Math.PI);
     }
 
-  /** Comprueba si una matriz es cuadrada. De ser as devolver
-     * el orden de la matriz y en caso contrario devolver 0
+  /** Comprueba si una matriz es cuadrada. De ser así devolverá
+     * el orden de la matriz y en caso contrario devolverá 0
      * @param matriz matriz de la que se desea obtener el orden
      * @return 0 si la matriz no es cuadrada y su orden en otro
      * caso
@@ -85,9 +94,9 @@ public class Mat extends Object {
         return orden;
     }
 
-  /** Clculo del valor absoluto.
+  /** Cálculo del valor absoluto.
     * @param valor valor del que se desea obtener el valor absoluto
-    * @return el valor absoluto de la cantidad pasada como parmetro
+    * @return el valor absoluto de la cantidad pasada como parámetro
     */
     public static double absoluto(double valor) {
         if (valor<0)
@@ -96,11 +105,11 @@ public class Mat extends Object {
         return valor;
     }
     
-  /** Funcin lgica XOR. Devuelve cierto si el valor booleano de ambos
-    * parmetros es distinto
+  /** Función lógica XOR. Devuelve cierto si el valor booleano de ambos
+    * parámetros es distinto
     * @param a primer valor booleano
     * @param b segundo valor booleano
-    * @return cierto si el valor booleano de los parmetros es distinto, falso
+    * @return cierto si el valor booleano de los parámetros es distinto, falso
     * en otro caso*/
     public static boolean xor(boolean a, boolean b)
     {
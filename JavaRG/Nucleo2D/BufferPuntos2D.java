@@ -0,0 +1,475 @@
+/*
+ * BufferPuntos2D.java
+ *
+ * Created on 17 de octubre de 2026, 12:30
+ */
+
+package JavaRG.Nucleo2D;
+
+import JavaRG.*;
+
+/** Los objetos de la clase <code>BufferPuntos2D</code> almacenan grandes
+ * conjuntos de puntos en el plano. En lugar de guardar un objeto
+ * <code>Punto2D</code> por cada punto, las coordenadas cartesianas se guardan
+ * en dos arrays paralelos de números reales, uno para la coordenada x y otro
+ * para la coordenada y. Esto reduce varias veces la memoria necesaria y permite
+ * aplicar las transformaciones y los predicados a todos los puntos en bucles
+ * simples sobre arrays, sin crear objetos. Los objetos <code>Punto2D</code>
+ * solo se crean al insertar o extraer puntos del buffer.
+ * <br>
+ * Al igual que en <code>Punto2D</code>, las transformaciones modifican los
+ * propios puntos del buffer y devuelven el propio buffer.
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see Punto2D
+ */
+public class BufferPuntos2D extends Object {
+
+  /** Capacidad inicial por defecto del buffer */
+    private static final int capacidadInicial = 16;
+
+  /**
+    * Coordenadas cartesianas x de los puntos
+    */
+    double xs[];
+  /**
+    * Coordenadas cartesianas y de los puntos
+    */
+    double ys[];
+  /**
+    * Número de puntos almacenados
+    */
+    int numPuntos;
+
+  /**
+    * Constructor por defecto. Crea un buffer vacío
+    * @return un buffer sin puntos
+    */
+    public BufferPuntos2D() {
+        this(capacidadInicial);
+    }
+
+  /**
+    * Crea un buffer vacío con espacio reservado para un número de puntos. El
+    * buffer crecerá si se insertan más puntos
+    * @param capacidad número de puntos para los que se reserva espacio
+    * @return un buffer sin puntos
+    */
+    public BufferPuntos2D(int capacidad) {
+        if (capacidad < 1)
+            capacidad = 1;
+        xs = new double[capacidad];
+        ys = new double[capacidad];
+        numPuntos = 0;
+    }
+
+  /**
+    * Crea un buffer con las coordenadas cartesianas de un conjunto de puntos
+    * @param puntos puntos a almacenar en el buffer
+    * @return un buffer con los puntos indicados, en el mismo orden
+    * @see Punto2D#x()
+    * @see Punto2D#y()
+    */
+    public BufferPuntos2D(Punto2D puntos[]) {
+        this(puntos.length);
+        for (int i=0; i<puntos.length; i++) {
+            xs[i] = puntos[i].x();
+            ys[i] = puntos[i].y();
+        }
+        numPuntos = puntos.length;
+    }
+
+  /**
+    * Crea un buffer a partir de dos arrays de coordenadas cartesianas. Las
+    * coordenadas se copian, por lo que los arrays pueden modificarse después
+    * sin afectar al buffer
+    * @param coordX coordenadas cartesianas x de los puntos
+    * @param coordY coordenadas cartesianas y de los puntos
+    * @return un buffer con los puntos indicados, en el mismo orden
+    * @exception GeomException si ambos arrays no tienen la misma longitud
+    */
+    public BufferPuntos2D(double coordX[], double coordY[]) throws GeomException {
+        if (coordX.length != coordY.length)
+            throw new GeomException("BufferPuntos2D (double[], double[]): los arrays de coordenadas deben tener la misma longitud");
+        numPuntos = coordX.length;
+        xs = new double[Math.max(numPuntos, 1)];
+        ys = new double[Math.max(numPuntos, 1)];
+        System.arraycopy(coordX, 0, xs, 0, numPuntos);
+        System.arraycopy(coordY, 0, ys, 0, numPuntos);
+    }
+
+  /**
+    * Constructor de copia
+    * @param original buffer del que se desea obtener una copia
+    * @return un buffer con los mismos puntos que el original
+    */
+    public BufferPuntos2D(BufferPuntos2D original) {
+        numPuntos = original.numPuntos;
+        xs = new double[Math.max(numPuntos, 1)];
+        ys = new double[Math.max(numPuntos, 1)];
+        System.arraycopy(original.xs, 0, xs, 0, numPuntos);
+        System.arraycopy(original.ys, 0, ys, 0, numPuntos);
+    }
+
+  /** Obtiene el número de puntos almacenados en el buffer
+    * @return el número de puntos del buffer
+    */
+    public int numPuntos() {
+        return numPuntos;
+    }
+
+  /** Inserta un punto al final del buffer. Si no hay espacio suficiente se
+    * duplica la capacidad, por lo que el coste amortizado de la inserción es
+    * constante
+    * @param x coordenada cartesiana x del punto
+    * @param y coordenada cartesiana y del punto
+    */
+    public void insertar(double x, double y) {
+        if (numPuntos == xs.length)
+            reservar(2 * xs.length);
+        xs[numPuntos] = x;
+        ys[numPuntos] = y;
+        numPuntos++;
+    }
+
+  /** Inserta un punto al final del buffer
+    * @param punto punto a insertar
+    * @see BufferPuntos2D#insertar(double, double)
+    */
+    public void insertar(Punto2D punto) {
+        insertar(punto.x(), punto.y());
+    }
+
+  /** Modifica las coordenadas de uno de los puntos del buffer
+    * @param i posición del punto en el buffer
+    * @param x nueva coordenada cartesiana x
+    * @param y nueva coordenada cartesiana y
+    * @exception GeomException si la posición no es válida
+    */
+    public void modificar(int i, double x, double y) throws GeomException {
+        if (i < 0 || i >= numPuntos)
+            throw new GeomException("modificar (int, double, double): posición no válida");
+        xs[i] = x;
+        ys[i] = y;
+    }
+
+  /** Elimina todos los puntos del buffer, conservando el espacio reservado
+    */
+    public void vaciar() {
+        numPuntos = 0;
+    }
+
+  /** Asegura que el buffer tiene espacio para un número de puntos sin
+    * necesidad de crecer
+    * @param capacidad número de puntos para los que debe haber espacio
+    */
+    public void reservar(int capacidad) {
+        if (capacidad > xs.length) {
+            double nuevasX[] = new double[capacidad];
+            double nuevasY[] = new double[capacidad];
+            System.arraycopy(xs, 0, nuevasX, 0, numPuntos);
+            System.arraycopy(ys, 0, nuevasY, 0, numPuntos);
+            xs = nuevasX;
+            ys = nuevasY;
+        }
+    }
+
+  /** Obtiene la coordenada cartesiana x de uno de los puntos del buffer
+    * @param i posición del punto en el buffer
+    * @return la coordenada cartesiana x del punto
+    * @exception GeomException si la posición no es válida
+    */
+    public double x(int i) throws GeomException {
+        if (i < 0 || i >= numPuntos)
+            throw new GeomException("x (int): posición no válida");
+        return xs[i];
+    }
+
+  /** Obtiene la coordenada cartesiana y de uno de los puntos del buffer
+    * @param i posición del punto en el buffer
+    * @return la coordenada cartesiana y del punto
+    * @exception GeomException si la posición no es válida
+    */
+    public double y(int i) throws GeomException {
+        if (i < 0 || i >= numPuntos)
+            throw new GeomException("y (int): posición no válida");
+        return ys[i];
+    }
+
+  /** Obtiene uno de los puntos del buffer como un nuevo objeto
+    * <code>Punto2D</code>
+    * @param i posición del punto en el buffer
+    * @return un nuevo punto con las coordenadas del punto del buffer
+    * @exception GeomException si la posición no es válida
+    * @see Punto2D#Punto2D(double, double)
+    */
+    public Punto2D punto(int i) throws GeomException {
+        if (i < 0 || i >= numPuntos)
+            throw new GeomException("punto (int): posición no válida");
+        return new Punto2D(xs[i], ys[i]);
+    }
+
+  /** Obtiene todos los puntos del buffer como objetos <code>Punto2D</code>
+    * @return un array con un nuevo punto por cada punto del buffer, en el
+    * mismo orden
+    * @see Punto2D#Punto2D(double, double)
+    */
+    public Punto2D[] puntos() {
+        Punto2D resultado[] = new Punto2D[numPuntos];
+        for (int i=0; i<numPuntos; i++)
+            resultado[i] = new Punto2D(xs[i], ys[i]);
+        return resultado;
+    }
+
+  /** Copia las coordenadas cartesianas x de los puntos en un array
+    * @param destino array en el que copiar las coordenadas. Si es null o no
+    * tiene espacio suficiente se crea uno nuevo
+    * @return el array con las coordenadas
+    */
+    public double[] coordenadasX(double destino[]) {
+        if (destino == null || destino.length < numPuntos)
+            destino = new double[numPuntos];
+        System.arraycopy(xs, 0, destino, 0, numPuntos);
+        return destino;
+    }
+
+  /** Copia las coordenadas cartesianas y de los puntos en un array
+    * @param destino array en el que copiar las coordenadas. Si es null o no
+    * tiene espacio suficiente se crea uno nuevo
+    * @return el array con las coordenadas
+    */
+    public double[] coordenadasY(double destino[]) {
+        if (destino == null || destino.length < numPuntos)
+            destino = new double[numPuntos];
+        System.arraycopy(ys, 0, destino, 0, numPuntos);
+        return destino;
+    }
+
+  /** Traslada todos los puntos del buffer
+    * @param incX incremento en el eje x
+    * @param incY incremento en el eje y
+    * @return el propio buffer, con los puntos trasladados
+    * @see Punto2D#trasladar(double, double)
+    */
+    public BufferPuntos2D trasladar(double incX, double incY) {
+        for (int i=0; i<numPuntos; i++) {
+            xs[i] += incX;
+            ys[i] += incY;
+        }
+        return this;
+    }
+
+  /** Traslada todos los puntos del buffer aplicando el mismo incremento en
+    * cada eje
+    * @param incr incremento que será aplicado tanto al eje x como al eje y
+    * @return el propio buffer, con los puntos trasladados
+    * @see Punto2D#trasladar(double)
+    */
+    public BufferPuntos2D trasladar(double incr) {
+        return trasladar(incr, incr);
+    }
+
+  /** Traslada todos los puntos del buffer según un vector
+    * @param vector el vector que define la traslación
+    * @return el propio buffer, con los puntos trasladados
+    * @see Punto2D#trasladar(Vector2D)
+    */
+    public BufferPuntos2D trasladar(Vector2D vector) {
+        return trasladar(vector.despX(), vector.despY());
+    }
+
+  /** Escala todos los puntos del buffer respecto al origen de coordenadas
+    * @param escala factor de escalado
+    * @return el propio buffer, con los puntos escalados
+    * @exception GeomException si el factor de escalado no es mayor que cero
+    * @see Punto2D#escalado(double)
+    */
+    public BufferPuntos2D escalado(double escala) throws GeomException {
+        if (escala <= 0)
+            throw new GeomException("escalado (double): el factor de escalado debe ser mayor de cero");
+        return escalado(escala, escala);
+    }
+
+  /** Escala todos los puntos del buffer respecto al origen de coordenadas,
+    * con distinto factor de escalado para cada eje
+    * @param sx factor de escalado en el eje x
+    * @param sy factor de escalado en el eje y
+    * @return el propio buffer, con los puntos escalados
+    * @exception GeomException si alguno de los factores no es mayor que cero
+    * @see Punto2D#escalado(double, double)
+    */
+    public BufferPuntos2D escalado(double sx, double sy) throws GeomException {
+        if (sx <= 0 || sy <= 0)
+            throw new GeomException("escalado (double, double): los factores de escalado deben ser mayores de cero");
+        for (int i=0; i<numPuntos; i++) {
+            xs[i] *= sx;
+            ys[i] *= sy;
+        }
+        return this;
+    }
+
+  /** Gira todos los puntos del buffer respecto al origen de coordenadas. El
+    * seno y el coseno del ángulo se calculan una única vez
+    * @param radio ángulo de giro en radianes. Si es positivo el giro será en
+    * sentido antihorario y en caso contrario lo será en sentido horario
+    * @return el propio buffer, con los puntos girados
+    * @see Punto2D#gira(double)
+    */
+    public BufferPuntos2D gira(double radio) {
+        double cos = Math.cos(radio);
+        double sen = Math.sin(radio);
+        for (int i=0; i<numPuntos; i++) {
+            double x = xs[i];
+            double y = ys[i];
+            xs[i] = x*cos - y*sen;
+            ys[i] = x*sen + y*cos;
+        }
+        return this;
+    }
+
+  /** Gira todos los puntos del buffer respecto a otro punto
+    * @param origen punto respecto al cual se hará el giro
+    * @param radio ángulo de giro en radianes. Si es positivo el giro será en
+    * sentido antihorario y en caso contrario lo será en sentido horario
+    * @return el propio buffer, con los puntos girados
+    * @see Punto2D#gira(Punto2D, double)
+    */
+    public BufferPuntos2D gira(Punto2D origen, double radio) {
+        double ox = origen.x();
+        double oy = origen.y();
+        double cos = Math.cos(radio);
+        double sen = Math.sin(radio);
+        for (int i=0; i<numPuntos; i++) {
+            double x = xs[i] - ox;
+            double y = ys[i] - oy;
+            xs[i] = x*cos - y*sen + ox;
+            ys[i] = x*sen + y*cos + oy;
+        }
+        return this;
+    }
+
+  /** Aplica una matriz de transformación a todos los puntos del buffer. La
+    * matriz debe ser cuadrada y de orden dos (se aplica a las coordenadas
+    * cartesianas) o tres (se aplica a las coordenadas homogéneas, con
+    * coordenada z igual a 1, y el resultado se vuelve a pasar a coordenadas
+    * cartesianas)
+    * @param matriz matriz de transformación
+    * @return el propio buffer, con los puntos transformados
+    * @exception GeomException si la matriz no es cuadrada y de orden 2 o 3
+    * @see Punto2D#transforma(double[][])
+    * @see TransformacionAfin2D#aplicar(BufferPuntos2D)
+    */
+    public BufferPuntos2D transforma(double matriz[][]) throws GeomException {
+        new TransformacionAfin2D(matriz).aplicar(this);
+        return this;
+    }
+
+  /** Calcula la distancia de cada punto del buffer a un punto dado
+    * @param punto punto respecto al cual se calculan las distancias
+    * @param resultado array en el que guardar las distancias. Si es null o no
+    * tiene espacio suficiente se crea uno nuevo
+    * @return el array con la distancia de cada punto, en el mismo orden que
+    * en el buffer
+    * @see Punto2D#distancia(Punto2D)
+    */
+    public double[] distancia(Punto2D punto, double resultado[]) {
+        resultado = distanciaCuadrado(punto, resultado);
+        for (int i=0; i<numPuntos; i++)
+            resultado[i] = Math.sqrt(resultado[i]);
+        return resultado;
+    }
+
+  /** Calcula el cuadrado de la distancia de cada punto del buffer a un punto
+    * dado. Es suficiente para comparar distancias y evita la raíz cuadrada
+    * @param punto punto respecto al cual se calculan las distancias
+    * @param resultado array en el que guardar las distancias al cuadrado. Si es
+    * null o no tiene espacio suficiente se crea uno nuevo
+    * @return el array con la distancia al cuadrado de cada punto, en el mismo
+    * orden que en el buffer
+    * @see Lotes2D#distanciasCuadrado(double, double, double[], double[], int, double[])
+    */
+    public double[] distanciaCuadrado(Punto2D punto, double resultado[]) {
+        return Lotes2D.distanciasCuadrado(punto.x(), punto.y(), xs, ys, numPuntos, resultado);
+    }
+
+  /** Obtiene la posición de cada punto del buffer respecto al segmento
+    * orientado (p1, p2), con el mismo criterio que
+    * <code>Predicados2D.posicionRelativa</code>: un punto es colineal si el
+    * valor absoluto del producto vectorial es menor que epsilon. A diferencia
+    * de <code>Punto2D.posicionRelativa</code>, un punto igual a p1 o a p2 no
+    * produce una excepción, sino que se considera colineal
+    * @param p1 origen del segmento orientado
+    * @param p2 destino del segmento orientado
+    * @param resultado array en el que guardar las posiciones. Si es null o no
+    * tiene espacio suficiente se crea uno nuevo
+    * @return el array con la posición de cada punto (Mat.IZQUIERDA,
+    * Mat.DERECHA o Mat.COLINEAL), en el mismo orden que en el buffer
+    * @exception GeomException si p1 y p2 son iguales
+    * @see Lotes2D#orientaciones(double, double, double, double, double[], double[], int, int[])
+    * @see Punto2D#posicionRelativa(Punto2D, Punto2D)
+    */
+    public int[] posicionRelativa(Punto2D p1, Punto2D p2, int resultado[]) throws GeomException {
+        if (p1.equals(p2))
+            throw new GeomException("posicionRelativa (Punto2D, Punto2D, int[]): los puntos con los que comparar son iguales");
+        return Lotes2D.orientaciones(p1.x(), p1.y(), p2.x(), p2.y(), xs, ys, numPuntos, resultado);
+    }
+
+  /** Obtiene la posición de cada punto del buffer respecto a una recta,
+    * considerando la recta orientada según su vector director
+    * @param recta recta respecto a la cual se obtiene la posición
+    * @param resultado array en el que guardar las posiciones. Si es null o no
+    * tiene espacio suficiente se crea uno nuevo
+    * @return el array con la posición de cada punto (Mat.IZQUIERDA,
+    * Mat.DERECHA o Mat.COLINEAL), en el mismo orden que en el buffer
+    * @see BufferPuntos2D#posicionRelativa(Punto2D, Punto2D, int[])
+    * @see Recta2D#posicionPunto(Punto2D)
+    */
+    public int[] posicionRelativa(Recta2D recta, int resultado[]) {
+        double ax = recta.comienzo.x();
+        double ay = recta.comienzo.y();
+        return Lotes2D.orientaciones(ax, ay, ax + recta.director.despX(), ay + recta.director.despY(),
+                                     xs, ys, numPuntos, resultado);
+    }
+
+  /** Determina para cada punto del buffer si está contenido en una caja,
+    * bordes incluidos
+    * @param caja caja con la que comparar
+    * @param resultado array en el que guardar los resultados. Si es null o no
+    * tiene espacio suficiente se crea uno nuevo
+    * @return el array indicando para cada punto si está contenido en la caja,
+    * en el mismo orden que en el buffer
+    * @see Lotes2D#contenidosEnCaja(Caja2D, double[], double[], int, boolean[])
+    */
+    public boolean[] contenidosEnCaja(Caja2D caja, boolean resultado[]) {
+        return Lotes2D.contenidosEnCaja(caja, xs, ys, numPuntos, resultado);
+    }
+
+  /** Obtiene la caja contenedora de todos los puntos del buffer
+    * @return la caja contenedora de los puntos
+    * @exception GeomException si el buffer no contiene ningún punto
+    * @see Caja2D#Caja2D()
+    */
+    public Caja2D cajaContenedora() throws GeomException {
+        if (numPuntos == 0)
+            throw new GeomException("cajaContenedora (): el buffer no contiene ningún punto");
+        double xmin = xs[0], xmax = xs[0], ymin = ys[0], ymax = ys[0];
+        for (int i=1; i<numPuntos; i++) {
+            if (xs[i] < xmin) xmin = xs[i];
+            else if (xs[i] > xmax) xmax = xs[i];
+            if (ys[i] < ymin) ymin = ys[i];
+            else if (ys[i] > ymax) ymax = ys[i];
+        }
+        Caja2D caja = new Caja2D();
+        caja.inferiorIzquierda = new Punto2D(xmin, ymin);
+        caja.superiorDerecha = new Punto2D(xmax, ymax);
+        return caja;
+    }
+
+  /** Realiza la conversión del buffer a una cadena
+    * @return una cadena indicando el tipo de objeto y el número de puntos
+    */
+    public String toString() {
+        return "BufferPuntos2D: " + numPuntos + " puntos";
+    }
+}
@@ -10,7 +10,7 @@ import JavaRG.*;
 import JavaRG.Nucleo2D.*;
 
 /** Un objeto de la clase <code>Caja2D</code> representa una caja contenedora 
- * en el espacio 2D, que normalmente contendr un objeto geomtrico,
+ * en el espacio 2D, que normalmente contendrá un objeto geométrico,
  *
  * @author  Pablo Suau
  * @version 1.1
@@ -29,8 +29,8 @@ public class Caja2D extends ObjetoGeometrico {
     Punto2D superiorDerecha;
 
     /**
-     * Constructor por defecto de la caja contenedora, que contendr un objeto 
-     * geomtrico nulo, y cuyos extremos estarn todos situados en el origen
+     * Constructor por defecto de la caja contenedora, que contendrá un objeto 
+     * geométrico nulo, y cuyos extremos estarán todos situados en el origen
      * @return una caja nula
      * @see Punto2D#Punto2D()
      */
@@ -40,7 +40,7 @@ public class Caja2D extends ObjetoGeometrico {
         superiorDerecha = new Punto2D();
     }
 
-  /** Constructor a partir del segmento. Las esquinas se obtendrn a partir de 
+  /** Constructor a partir del segmento. Las esquinas se obtendrán a partir de 
     * las coordenadas de los extremos del segmento
     * @param segmento segmento contenido por la caja contenedora
     * @return una nueva caja contenedora conteniendo al segmento
@@ -58,9 +58,9 @@ public class Caja2D extends ObjetoGeometrico {
     }
     
   /** Constructor de la caja contenedroa a partir del punto. Todos los extremos
-    * de dicha caja contenedora sern iguales a dicho punto
+    * de dicha caja contenedora serán iguales a dicho punto
     * @param punto punto a partir del cual se desea construir la caja contenedora
-    * @return una nueva caja contenedora conteniendo al punto pasado como parmetro
+    * @return una nueva caja contenedora conteniendo al punto pasado como parámetro
     * @see Punto2D#Punto2D(Punto2D)
     */
     public Caja2D(Punto2D punto) {
@@ -68,13 +68,13 @@ public class Caja2D extends ObjetoGeometrico {
         superiorDerecha = new Punto2D(punto);
     }
     
-  /** Constructor de la caja contenedora a partir del tringulo. El punto inferior
-    * izquierdo tendr como coordenada x la menor coordenada x de todos los vrtices
-    * del tringulo y como coordenada y la menor coordenada y de todos los vrtices
-    * del tringulo. El punto superior derecho se obtiene de la misma forma pero con
+  /** Constructor de la caja contenedora a partir del triángulo. El punto inferior
+    * izquierdo tendrá como coordenada x la menor coordenada x de todos los vértices
+    * del triángulo y como coordenada y la menor coordenada y de todos los vértices
+    * del triángulo. El punto superior derecho se obtiene de la misma forma pero con
     * las mayores coordenadas x e y
-    * @param triangulo tringulo a partir del cual construir la caja contenedora
-    * @return una nueva caja contenedora conteniendo el tringulo pasado como parmetro
+    * @param triangulo triángulo a partir del cual construir la caja contenedora
+    * @return una nueva caja contenedora conteniendo el triángulo pasado como parámetro
     * @see Triangulo2D#vertice(int)
     * @see Punto2D#x()
     * @see Punto2D#y()
@@ -98,14 +98,14 @@ public class Caja2D extends ObjetoGeometrico {
             inferiorIzquierda = new Punto2D(minX, minY);
             superiorDerecha = new Punto2D(maxX, maxY);
         }
-        // La excepcin geomtrica nunca se producir, porque siempre indicamos
+        // La excepción geométrica nunca se producirá, porque siempre indicamos
         // un valor correcto para el valor Triangulo2D.vertice(int)
         catch (GeomException e) { inferiorIzquierda = null; superiorDerecha = null; }
     }
     
-  /** Constructor de la caja contenedora a partir de un crculo orientado.
+  /** Constructor de la caja contenedora a partir de un círculo orientado.
     * @param circulo circulo a partir del cual construir la caja
-    * @return una nueva caja contenedora conteniendo al crculo orientado
+    * @return una nueva caja contenedora conteniendo al círculo orientado
     * @see Punto2D#Punto2D(double, double)
     * @see Circulo2D#centroCirculo()    
     * @see Circulo2D#radioCirculo()
@@ -120,10 +120,10 @@ public class Caja2D extends ObjetoGeometrico {
         superiorDerecha = new Punto2D(cx+r, cy+r);
     }
     
-  /** Constructor de la caja contenedora a partir de un rectngulo
-    * @param rectangulo rectngulo a partir del cual se desea construir la caja
+  /** Constructor de la caja contenedora a partir de un rectángulo
+    * @param rectangulo rectángulo a partir del cual se desea construir la caja
     * contenedora
-    * @return una nueva caja contenedora conteniendo al rectngulo
+    * @return una nueva caja contenedora conteniendo al rectángulo
     * @see Rectangulo2D#minimoX()
     * @see Rectangulo2D#maximoX()
     * @see Punto2D#Punto2D(Punto2D)
@@ -133,6 +133,21 @@ public class Caja2D extends ObjetoGeometrico {
         superiorDerecha = new Punto2D(rectangulo.maximoX());
     }
     
+  /** Constructor de la caja contenedora a partir de las coordenadas de sus
+    * esquinas. Es útil para objetos que ya conocen sus coordenadas extremas,
+    * como los polígonos
+    * @param xmin coordenada x de la esquina inferior izquierda
+    * @param ymin coordenada y de la esquina inferior izquierda
+    * @param xmax coordenada x de la esquina superior derecha
+    * @param ymax coordenada y de la esquina superior derecha
+    * @return una nueva caja contenedora con las esquinas indicadas
+    * @see Punto2D#Punto2D(double, double)
+    */
+    public Caja2D(double xmin, double ymin, double xmax, double ymax) {
+        inferiorIzquierda = new Punto2D(xmin, ymin);
+        superiorDerecha = new Punto2D(xmax, ymax);
+    }
+    
   /** Constructor de copia de la caja contenedora
     * @param original caja contenedora a partir de la cual se desea obtener la 
     * nueva
@@ -150,12 +165,12 @@ public class Caja2D extends ObjetoGeometrico {
         this.superiorDerecha = new Punto2D(original.xmax(), original.ymax());
     }
     
-   /** Comparacin con otro objeto geomtrico. Una caja contenedora ser igual a un objeto
-     * geomtrico si dicho objeto geomtrico es una caja y ambas cajas tienen
+   /** Comparación con otro objeto geométrico. Una caja contenedora será igual a un objeto
+     * geométrico si dicho objeto geométrico es una caja y ambas cajas tienen
      * los mismos extremos
-     * @param obj el objeto geomtrico con el que se desea comparar la caja
+     * @param obj el objeto geométrico con el que se desea comparar la caja
      * @return un valor booleano indicando si la caja contenedora es igual al objeto
-     * geomtrico pasado como parmetro
+     * geométrico pasado como parámetro
      * @see Caja2D#minimoX()
      * @see Caja2D#maximoX()
      * @see Punto2D#equals(ObjetoGeometrico)
@@ -174,12 +189,12 @@ public class Caja2D extends ObjetoGeometrico {
         else return false;
     }
    
-   /** Comparacin con otro objeto geomtrico. Una caja contenedora ser distinta a un objeto
-     * geomtrico si dicho objeto geomtrico no es una caja o si ambas cajas tienen
+   /** Comparación con otro objeto geométrico. Una caja contenedora será distinta a un objeto
+     * geométrico si dicho objeto geométrico no es una caja o si ambas cajas tienen
      * distintos extremos
-     * @param obj el objeto geomtrico con el que se desea comparar la caja
+     * @param obj el objeto geométrico con el que se desea comparar la caja
      * @return un valor booleano indicando si la caja contenedora es distinta al objeto
-     * geomtrico pasado como parmetro
+     * geométrico pasado como parámetro
      * @see Caja2D#equals(ObjetoGeometrico)
      */
     public boolean not_equals (ObjetoGeometrico obj) {
@@ -218,48 +233,48 @@ public class Caja2D extends ObjetoGeometrico {
         return superiorDerecha.y();
     }
     
-  /** Obtiene la primera coordenada homognea del punto inferior izquierdo
-    * @return la primera coordenada homognea del punto inferior izquierdo
+  /** Obtiene la primera coordenada homogénea del punto inferior izquierdo
+    * @return la primera coordenada homogénea del punto inferior izquierdo
     * @see Punto2D#hx()
     */
     public double hxmin() {
         return inferiorIzquierda.hx();
     }
     
-  /** Obtiene la segunda coordenada homognea del punto inferior izquierdo
-    * @return la segunda coordenada homognea del punto inferior izquierdo
+  /** Obtiene la segunda coordenada homogénea del punto inferior izquierdo
+    * @return la segunda coordenada homogénea del punto inferior izquierdo
     * @see Punto2D#hy()
     */
     public double hymin() {
         return inferiorIzquierda.hy();
     }
     
-  /** Obtiene la tercera coordenada homognea del punto inferior izquierdo
-    * @return la tercera coordenada homognea del punto inferior izquierdo
+  /** Obtiene la tercera coordenada homogénea del punto inferior izquierdo
+    * @return la tercera coordenada homogénea del punto inferior izquierdo
     * @see Punto2D#hz()
     */
     public double hzmin() {
         return inferiorIzquierda.hz();
     }
     
-  /** Obtiene la primera coordenada homognea del punto superior derecho
-    * @return la primera coordenada homognea del punto superior derecho
+  /** Obtiene la primera coordenada homogénea del punto superior derecho
+    * @return la primera coordenada homogénea del punto superior derecho
     * @see Punto2D#hx()
     */
     public double hxmax() {
         return superiorDerecha.hx();
     }
     
-  /** Obtiene la segunda coordenada homognea del punto superior derecho
-    * @return la segunda coordenada homognea del punto superior derecho
+  /** Obtiene la segunda coordenada homogénea del punto superior derecho
+    * @return la segunda coordenada homogénea del punto superior derecho
     * @see Punto2D#hy()
     */
     public double hymax() {
         return superiorDerecha.hy();
     }
     
-  /** Obtiene la tercera coordenada homognea del punto superior derecho
-    * @return la tercera coordenada homognea del punto superior derecho
+  /** Obtiene la tercera coordenada homogénea del punto superior derecho
+    * @return la tercera coordenada homogénea del punto superior derecho
     * @see Punto2D#hz()
     */
     public double hzmax() {
@@ -288,7 +303,7 @@ public class Caja2D extends ObjetoGeometrico {
     }
     
   /** Traslada los extremos de la caja aplicando el mismo incremento en cada eje
-    * @param d desplazamiento o incremento que ser aplicado tanto al eje x como 
+    * @param d desplazamiento o incremento que será aplicado tanto al eje x como 
     * al eje y
     * @return la caja trasladada
     * @see Punto2D#trasladar(double)
@@ -300,8 +315,8 @@ public class Caja2D extends ObjetoGeometrico {
     }
     
   /** Traslada los extremos de la caja aplicando un incremento distinto a cada eje
-    * @param dx desplazamiento o incremento que ser aplicado al eje x
-    * @param dy desplazamiento o incremento que ser aplicado al eje y
+    * @param dx desplazamiento o incremento que será aplicado al eje x
+    * @param dy desplazamiento o incremento que será aplicado al eje y
     * @return la caja trasladada
     * @see Punto2D#trasladar(double, double)
     */
@@ -311,9 +326,9 @@ public class Caja2D extends ObjetoGeometrico {
         return this;
     }
     
-  /** Traslada los extremos de la caja en la direccin y distancia indicados por un
+  /** Traslada los extremos de la caja en la dirección y distancia indicados por un
     * vector
-    * @param vector vector que indicar la direccin y la magnitud del desplazamiento
+    * @param vector vector que indicará la dirección y la magnitud del desplazamiento
     * de los extremos
     * @return la caja trasladada
     * @see Punto2D#trasladar(Vector2D)
@@ -346,7 +361,7 @@ public class Caja2D extends ObjetoGeometrico {
     
   /** Escalado de la caja contenedora, aplicando el mismo factor de escalado a
     * ambos ejes
-    * @param s factor de escalado que se aplicar a ambos ejes
+    * @param s factor de escalado que se aplicará a ambos ejes
     * @return la caja escalada
     * @see Caja2D#escalado(double)
     */
@@ -356,7 +371,7 @@ public class Caja2D extends ObjetoGeometrico {
     
   /** Obtiene la distancia de la caja a un punto
     * @param punto punto al que se desea obtener la distancia
-    * @return la distancia de la caja al punto pasado como parmetro
+    * @return la distancia de la caja al punto pasado como parámetro
     */
     public double distancia(Punto2D punto) {
         Rectangulo2D rect = new Rectangulo2D(inferiorIzquierda, superiorDerecha);
@@ -369,8 +384,33 @@ public class Caja2D extends ObjetoGeometrico {
     public Punto2D maximoY() {
         return superiorDerecha;
     }
+
+  /** Determina si un punto se encuentra dentro de la caja, incluyendo sus
+    * bordes
+    * @param punto punto que se desea comprobar
+    * @return un valor booleano indicando si el punto está contenido en la caja
+    * @see Lotes2D#contenidosEnCaja(double, double, double, double, double[], double[], int, boolean[])
+    */
+    public boolean contienePunto(Punto2D punto) {
+        double x = punto.x(), y = punto.y();
+        return x >= inferiorIzquierda.x() && x <= superiorDerecha.x() &&
+               y >= inferiorIzquierda.y() && y <= superiorDerecha.y();
+    }
+
+  /** Determina si la caja se solapa con otra. Dos cajas que solo comparten
+    * parte de su borde también se consideran solapadas
+    * @param otra caja con la que se desea comprobar el solapamiento
+    * @return un valor booleano indicando si ambas cajas se solapan
+    * @see Lotes2D#intersectanCaja(double, double, double, double, double[], double[], double[], double[], int, boolean[])
+    */
+    public boolean intersectaCaja(Caja2D otra) {
+        return inferiorIzquierda.x() <= otra.superiorDerecha.x() &&
+               otra.inferiorIzquierda.x() <= superiorDerecha.x() &&
+               inferiorIzquierda.y() <= otra.superiorDerecha.y() &&
+               otra.inferiorIzquierda.y() <= superiorDerecha.y();
+    }
     
-  /** Realiza la conversin del objeto de tipo Vector2D a una cadena
+  /** Realiza la conversión del objeto de tipo Vector2D a una cadena
     * @return una cadena especificando el tipo de objeto (vector) y sus
     * componentes (desplazamiento en el eje x y desplazamiento en el eje y)
     */  
@@ -8,9 +8,10 @@ package JavaRG.Nucleo2D;
 
 import JavaRG.*;
 import JavaRG.Nucleo2D.*;
+import JavaRG.Soporte.*;
 import java.awt.*;
 
-/** Un objeto de la clase <code>Circulo2D</code> representa un crculo orientado
+/** Un objeto de la clase <code>Circulo2D</code> representa un círculo orientado
  * (su circunferencia asociada tiene un sentido horario o antihorario). Divide el 
  * espacio en una zona positva y otra negativa, quedando la positiva a la
  * izquierda de la circunferencia
@@ -19,10 +20,10 @@ import java.awt.*;
  * @version 1.1
  * @see ObjetoGeometrico
  */
-public class Circulo2D extends ObjetoGeometrico {
+public class Circulo2D extends ObjetoGeometrico implements InterfazContencion, InterfazSoporte {
 
     /**
-     * Centro del crculo
+     * Centro del círculo
      */
     Punto2D centro;
     
@@ -32,14 +33,14 @@ public class Circulo2D extends ObjetoGeometrico {
     double radio;
     
     /**
-      * Sentido de la circunferencia asociada al crculo
+      * Sentido de la circunferencia asociada al círculo
       */
     int sentido;
 
     /**
-     * Constructor por defecto del crculo, con centro en el origen de coordendas,
-     * radio 0 y orientacin anithoraria
-     * @return un nuevo crculo con centro en el origen de coordenadas, radio nulo y
+     * Constructor por defecto del círculo, con centro en el origen de coordendas,
+     * radio 0 y orientación anithoraria
+     * @return un nuevo círculo con centro en el origen de coordenadas, radio nulo y
      * sentido antihorario
      * @see Punto2D#Punto2D()
      * @see Mat#ANTIHORARIO
@@ -52,12 +53,12 @@ public class Circulo2D extends ObjetoGeometrico {
     }
 
   /** Constructor a partir de un punto (centro), un radio y un sentido. 
-    * @param punto centro del crculo
-    * @param r radio del crculo
-    * @param o orientacin de la circunferencia
-    * @return un nuevo crculo cuyo centro, radio y orientacin se correspondern     * con los pasados como parmetro
+    * @param punto centro del círculo
+    * @param r radio del círculo
+    * @param o orientación de la circunferencia
+    * @return un nuevo círculo cuyo centro, radio y orientación se corresponderán     * con los pasados como parámetro
     * @exception GeomException si el radio es negativoo el sentido pasado como
-    * parmetro no tiene un valor correcto
+    * parámetro no tiene un valor correcto
     * @see Mat#HORARIO
     * @see Mat#ANTIHORARIO
     * @see Punto2D#Punto2D(Punto2D)
@@ -79,11 +80,11 @@ public class Circulo2D extends ObjetoGeometrico {
     * un radio y un sentido. 
     * @param px coordenada cartesiana x del centro
     * @param py coordenada cartesiana y del centro
-    * @param o orientacin de la circunferencia
-    * @param r radio del crculo
-    * @return un nuevo crculo cuyo centro, radio y orientacin se correspondern     * con los pasados como parmetro
+    * @param o orientación de la circunferencia
+    * @param r radio del círculo
+    * @return un nuevo círculo cuyo centro, radio y orientación se corresponderán     * con los pasados como parámetro
     * @exception GeomException si el radio es negativoo el sentido pasado como
-    * parmetro no tiene un valor correcto
+    * parámetro no tiene un valor correcto
     * @see Mat#HORARIO
     * @see Mat#ANTIHORARIO
     * @see Punto2D#Punto2D(double, double)
@@ -101,16 +102,16 @@ public class Circulo2D extends ObjetoGeometrico {
         }
     }
     
-  /** Constructor a partir de las coordenadas homogneas de un punto (centro), 
+  /** Constructor a partir de las coordenadas homogéneas de un punto (centro), 
     * un radio y un sentido. 
-    * @param hx primera coordenada homognea del centro
-    * @param hy segunda coordenada homognea del centro
-    * @param hz tercera coordenada homognea del centro
-    * @param r radio del crculo
-    * @param o orientacin de la circunferencia
-    * @return un nuevo crculo cuyo centro, radio y orientacin se correspondern     * con los pasados como parmetro
+    * @param hx primera coordenada homogénea del centro
+    * @param hy segunda coordenada homogénea del centro
+    * @param hz tercera coordenada homogénea del centro
+    * @param r radio del círculo
+    * @param o orientación de la circunferencia
+    * @return un nuevo círculo cuyo centro, radio y orientación se corresponderán     * con los pasados como parámetro
     * @exception GeomException si el radio es negativoo el sentido pasado como
-    * parmetro no tiene un valor correcto
+    * parámetro no tiene un valor correcto
     * @see Mat#HORARIO
     * @see Mat#ANTIHORARIO
     * @see Punto2D#Punto2D(double, double, double)
@@ -128,15 +129,15 @@ public class Circulo2D extends ObjetoGeometrico {
         }
     }
     
-   /** Constructor del crculo orientado a partir de dos puntos que definen el radio
-     * (siendo el primero el centro) y una orientacin.
-     * @param punto1 centro del crculo
+   /** Constructor del círculo orientado a partir de dos puntos que definen el radio
+     * (siendo el primero el centro) y una orientación.
+     * @param punto1 centro del círculo
      * @param punto2 punto usado para calcular el radio
      * @param orientacion orientacion de la circunferencia
-     * @return un nuevo crculo orientado cuyo centro es el primer punto, el 
-     * radio es la distancia entre los dos puntos, y la orientacin es la pasada
-     * como parmetro
-     * @exception GeomException si la orientacin no es Mat.HORARIO ni Mat.ANITTIHORARIO
+     * @return un nuevo círculo orientado cuyo centro es el primer punto, el 
+     * radio es la distancia entre los dos puntos, y la orientación es la pasada
+     * como parámetro
+     * @exception GeomException si la orientación no es Mat.HORARIO ni Mat.ANITTIHORARIO
      * @see Mat#HORARIO
      * @see Mat#ANTIHORARIO
      * @see Punto2D#Punto2D(Punto2D)
@@ -153,16 +154,16 @@ public class Circulo2D extends ObjetoGeometrico {
         }
     }
    
-   /** Constructor del crculo orientado a partir de un segmento cuyos dos 
+   /** Constructor del círculo orientado a partir de un segmento cuyos dos 
      * extremos definen el radio(siendo el primero el centro) y una 
-     * orientacin.
+     * orientación.
      * @param segmento segmento a partir del cual obtener el centro y el radio
-     * del crculo
+     * del círculo
      * @param orientacion orientacion de la circunferencia
-     * @return un nuevo crculo orientado cuyo centro es el primer extremo del segmento, el 
-     * radio es la distancia entre sus dos extremos, y la orientacin es la pasada
-     * como parmetro
-     * @exception GeomException si la orientacin no es Mat.HORARIO ni Mat.ANITTIHORARIO
+     * @return un nuevo círculo orientado cuyo centro es el primer extremo del segmento, el 
+     * radio es la distancia entre sus dos extremos, y la orientación es la pasada
+     * como parámetro
+     * @exception GeomException si la orientación no es Mat.HORARIO ni Mat.ANITTIHORARIO
      * @see Mat#HORARIO
      * @see Mat#ANTIHORARIO
      * @see Punto2D#Punto2D(Punto2D)
@@ -181,12 +182,12 @@ public class Circulo2D extends ObjetoGeometrico {
         }
     }
     
-   /** Constructor del crculo orientado a partir de un punto (centro) y una orientacin
-     * @param punto punto que ser el centro del crculo
+   /** Constructor del círculo orientado a partir de un punto (centro) y una orientación
+     * @param punto punto que será el centro del círculo
      * @param orientacion sentido de la circunferencia
-     * @return un nuevo crculo orientado con centro igual al primer parmetro, 
-     * radio 0 y orientacin igual al segundo parmetro
-     * @exception GeomException si el sentido pasado como parmetro es distinto
+     * @return un nuevo círculo orientado con centro igual al primer parámetro, 
+     * radio 0 y orientación igual al segundo parámetro
+     * @exception GeomException si el sentido pasado como parámetro es distinto
      * de Mat.HORARIO y Mat.ANTIHORARIO
      * @see Mat#HORARIO
      * @see Mat#ANTIHORARIO
@@ -203,14 +204,14 @@ public class Circulo2D extends ObjetoGeometrico {
         }
     }
     
-   /** Constructor del crculo orientado a partir de las coordenadas cartesianas
-     * de un punto (centro) y una orientacin
-     * @param px coordenada cartesiana x del punto que ser el centro del crculo
-     * @param py coordenada cartesiana y del punto que ser el centro del crculo 
+   /** Constructor del círculo orientado a partir de las coordenadas cartesianas
+     * de un punto (centro) y una orientación
+     * @param px coordenada cartesiana x del punto que será el centro del círculo
+     * @param py coordenada cartesiana y del punto que será el centro del círculo 
      * @param orientacion sentido de la circunferencia
-     * @return un nuevo crculo orientado con centro igual al punto definido por
-     * los dos primeros parmetros, radio 0 y orientacin igual al tercer parmetro
-     * @exception GeomException si el sentido pasado como parmetro es distinto
+     * @return un nuevo círculo orientado con centro igual al punto definido por
+     * los dos primeros parámetros, radio 0 y orientación igual al tercer parámetro
+     * @exception GeomException si el sentido pasado como parámetro es distinto
      * de Mat.HORARIO y Mat.ANTIHORARIO
      * @see Mat#HORARIO
      * @see Mat#ANTIHORARIO
@@ -227,15 +228,15 @@ public class Circulo2D extends ObjetoGeometrico {
         }
     }
 
-   /** Constructor del crculo orientado a partir de las coordenadas homogneas
-     * de un punto (centro) y una orientacin
-     * @param hx primera coordenada homognea del punto que ser el centro del crculo
-     * @param hy segunda coordenada homognea del punto que ser el centro del crculo 
-     * @param hz tercera coordenada homognea del punto que ser el centro del crculo
+   /** Constructor del círculo orientado a partir de las coordenadas homogéneas
+     * de un punto (centro) y una orientación
+     * @param hx primera coordenada homogénea del punto que será el centro del círculo
+     * @param hy segunda coordenada homogénea del punto que será el centro del círculo 
+     * @param hz tercera coordenada homogénea del punto que será el centro del círculo
      * @param orientacion sentido de la circunferencia
-     * @return un nuevo crculo orientado con centro igual al punto definido por
-     * los tres primeros parmetros, radio 0 y orientacin igual al cuarto parmetro
-     * @exception GeomException si el sentido pasado como parmetro es distinto
+     * @return un nuevo círculo orientado con centro igual al punto definido por
+     * los tres primeros parámetros, radio 0 y orientación igual al cuarto parámetro
+     * @exception GeomException si el sentido pasado como parámetro es distinto
      * de Mat.HORARIO y Mat.ANTIHORARIO
      * @see Mat#HORARIO
      * @see Mat#ANTIHORARIO
@@ -252,11 +253,11 @@ public class Circulo2D extends ObjetoGeometrico {
         }
     }
     
-   /** Constructor de copia del crculo orientado
+   /** Constructor de copia del círculo orientado
      * @param circulo circulo a partir del cual se desea construir el nuevo 
-     * crculo orientado
-     * @return un nuevo crculo orientado cuyos centro, radio y orientacin
-     * sern iguales a los del crculo pasado como parmetro
+     * círculo orientado
+     * @return un nuevo círculo orientado cuyos centro, radio y orientación
+     * serán iguales a los del círculo pasado como parámetro
      * @see Punto2D#Punto2D(Punto2D)
      * @see Circulo2D#centroCirculo()
      * @see Circulo2D#radioCirculo()
@@ -268,12 +269,12 @@ public class Circulo2D extends ObjetoGeometrico {
         sentido = circulo.sentidoCirculo();
     }
     
-   /** Comparacin con otro objeto geomtrico. Un circulo orientado es igual a
-     * otro objeto geomtrico si ste es un crculo orientado y coinciden en 
+   /** Comparación con otro objeto geométrico. Un circulo orientado es igual a
+     * otro objeto geométrico si éste es un círculo orientado y coinciden en 
      * centro, radio y sentido de la circunferencia
-     * @param obj el objeto geomtrico con el que se desea comparar el crculo
-     * @return un valor booleano indicando si el crculo orientado es igual al objeto
-     * geomtrico pasado como parmetro
+     * @param obj el objeto geométrico con el que se desea comparar el círculo
+     * @return un valor booleano indicando si el círculo orientado es igual al objeto
+     * geométrico pasado como parámetro
      * @see Mat#EPSILON
      * @see Mat#absoluto(double)
      * @see Punto2D#equals(ObjetoGeometrico)
@@ -290,84 +291,84 @@ public class Circulo2D extends ObjetoGeometrico {
         else return false;
     }
    
-    /** Comparacin con otro objeto geomtrico. Un circulo orientado es distinto a
-     * otro objeto geomtrico si ste no es un crculo orientado o no coinciden en 
+    /** Comparación con otro objeto geométrico. Un circulo orientado es distinto a
+     * otro objeto geométrico si éste no es un círculo orientado o no coinciden en 
      * centro, radio o sentido de la circunferencia
-     * @param obj el objeto geomtrico con el que se desea comparar el crculo
-     * @return un valor booleano indicando si el crculo orientado es distinto al objeto
-     * geomtrico pasado como parmetro
+     * @param obj el objeto geométrico con el que se desea comparar el círculo
+     * @return un valor booleano indicando si el círculo orientado es distinto al objeto
+     * geométrico pasado como parámetro
      * @Circulo2D#equals(ObjetoGeometrico)
      */
     public boolean not_equals (ObjetoGeometrico obj) {
         return !equals(obj);
     }
     
-  /** Obtiene el centro del crculo orientado
-    * @return el centro del crculo
+  /** Obtiene el centro del círculo orientado
+    * @return el centro del círculo
     */
     public Punto2D centroCirculo() {
         return centro;
     }
     
-  /** Obtiene la coordenada cartesiana x del centro del crculo orientado
-    * @return la coordenada cartesiana x del centro del crculo 
+  /** Obtiene la coordenada cartesiana x del centro del círculo orientado
+    * @return la coordenada cartesiana x del centro del círculo 
     * @see Punto2D#x()
     */
     public double centroCirculoX() {
         return centro.x();
     }
     
-  /** Obtiene la coordenada cartesiana y del centro del crculo orientado
-    * @return la coordenada cartesiana y del centro del crculo
+  /** Obtiene la coordenada cartesiana y del centro del círculo orientado
+    * @return la coordenada cartesiana y del centro del círculo
     * @see Punto2D#y()
     */
     public double centroCirculoY() {
         return centro.y();
     }
     
-  /** Obtiene la primera coordenada homognea del centro del crculo orientado
-    * @return la primera coordenada homognea del centro del crculo
+  /** Obtiene la primera coordenada homogénea del centro del círculo orientado
+    * @return la primera coordenada homogénea del centro del círculo
     * @see Punto2D#hx()
     */
     public double centroCirculoHx() {
         return centro.hx();
     }
     
-  /** Obtiene la segunda coordenada homognea del centro del crculo orientado
-    * @return la segunda coordenada homognea del centro del crculo
+  /** Obtiene la segunda coordenada homogénea del centro del círculo orientado
+    * @return la segunda coordenada homogénea del centro del círculo
     * @see Punto2D#hy()
     */
     public double centroCirculoHy() {
         return centro.hy();
     }
     
-  /** Obtiene la tercera coordenada homognea del centro del crculo orientado
-    * @return la tercera coordenada homognea del centro del circulo
+  /** Obtiene la tercera coordenada homogénea del centro del círculo orientado
+    * @return la tercera coordenada homogénea del centro del cñirculo
     * @see Punto2D#hz()
     */
     public double centroCirculoHz() {
         return centro.hz();
     }
     
-  /** Obtiene el radio del crculo orientado
-    * @return el radio del crculo
+  /** Obtiene el radio del círculo orientado
+    * @return el radio del círculo
     */
     public double radioCirculo() {
         return radio;
     }
     
-  /** Obtiene el sentido de la circunferencia asociada al crculo orientado
+  /** Obtiene el sentido de la circunferencia asociada al círculo orientado
     * @return el sentido de la circunferencia
     */
     public int sentidoCirculo() {
         return sentido;
     }
     
-  /** Determina si un punto se encuentra en la circunferencia del crculo 
+  /** Determina si un punto se encuentra en la circunferencia del círculo 
     * orientado
     * @param punto el punto que se desea conocer si se enceuntra en la circunferencia
-    * @return un valor booleano indicando si el punto pasado como parmetro se
-    * encuentra contenido en la circunfeerencia del crculo
+    * @return un valor booleano indicando si el punto pasado como parámetro se
+    * encuentra contenido en la circunfeerencia del círculo
     * @see Mat#absoluto(double)
     * @see Punto2D#distancia(Punto2D)
     * @see Mat#EPSILON
@@ -376,37 +377,93 @@ public class Circulo2D extends ObjetoGeometrico {
         return (Mat.absoluto(punto.distancia(centro) - radio) < Mat.EPSILON);
     }
     
-  /** Determina si un punto se encuentra en el interior del crculo orientado
+  /** Determina si un punto se encuentra en el interior del círculo orientado
     * @param punto el punto que se desea comprobar si se encuentra en el interior
-    * del crculo orientado
+    * del círculo orientado
     * @return un valor booleano indicando si el punto se encuentra en el interior
-    * del crculo orientado
+    * del círculo orientado
     * @Punto2D#distancia(Punto2D)
     */
     public boolean contienePunto(Punto2D punto) {
         return (punto.distancia(centro) <= radio);
     }
     
-  /** Determina si un punto se encuentra en el interior del crculo orientado
+  /** Determina si un punto se encuentra en el interior del círculo orientado
     * sin contar la propia circunferencia
     * @param punto el punto que se desea comprobar si se encuentra en el interior
-    * del crculo orientado pero no en la propia circunferencia
+    * del círculo orientado pero no en la propia circunferencia
     * @return un valor booleano indicando si el punto se encuentra en el interior
-    * del crculo pero no en la propia circunferencia
+    * del círculo pero no en la propia circunferencia
     * @see Circulo2D#circunferenciaContienePunto(Punto2D)
     * @see Circulo2D#contienePunto(Punto2D)
     */
     public boolean contienePuntoEstrictamente(Punto2D punto) {
         return (contienePunto(punto) && !circunferenciaContienePunto(punto));
     }
+
+  /** Comprueba si cada uno de los puntos de un lote se encuentra en el
+    * interior del círculo orientado, con el mismo criterio que contienePunto.
+    * Los puntos se reparten entre varios hilos
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos a procesar
+    * @param resultado array en el que guardar el resultado. Si es null o no
+    * tiene espacio suficiente se crea uno nuevo
+    * @return un array indicando si cada punto está contenido en el círculo
+    * @see Circulo2D#contienePunto(Punto2D)
+    * @see ContencionParalela#contienePuntos(InterfazContencion, double[], double[], int, boolean[])
+    */
+    public boolean[] contienePuntos(double xs[], double ys[], int n, boolean resultado[]) {
+        return ContencionParalela.contienePuntos(this, xs, ys, n, resultado);
+    }
+
+  /** El círculo no guarda propiedades calculadas, por lo que no es necesario
+    * prepararlo para consultas concurrentes
+    * @see InterfazContencion#prepararConsultas()
+    */
+    public void prepararConsultas() {
+    }
+
+  /** Comprueba si cada uno de los puntos de un rango se encuentra en el
+    * interior del círculo orientado, con el mismo criterio que contienePunto
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param desde posición del primer punto del rango
+    * @param hasta posición siguiente al último punto del rango
+    * @param resultado array en el que se guarda si cada punto está contenido
+    * @see Circulo2D#contienePunto(Punto2D)
+    */
+    public void contienePuntos(double xs[], double ys[], int desde, int hasta, boolean resultado[]) {
+        double cx = centro.x(), cy = centro.y();
+        for (int i=desde; i<hasta; i++)
+            resultado[i] = Math.sqrt(Mat.cuadrado(xs[i] - cx) + Mat.cuadrado(ys[i] - cy)) <= radio;
+    }
+
+  /** Obtiene el punto de soporte del círculo en una dirección: el punto de
+    * la circunferencia en el que la dirección es normal a ella
+    * @param dx componente x de la dirección
+    * @param dy componente y de la dirección
+    * @param punto array en el que se guardan las coordenadas del punto. Si la
+    * dirección es nula se devuelve el centro
+    * @see InterfazSoporte#soporte(double, double, double[])
+    */
+    public void soporte(double dx, double dy, double punto[]) {
+        double longitud = Math.sqrt(dx*dx + dy*dy);
+        punto[0] = centro.x();
+        punto[1] = centro.y();
+        if (longitud > 0) {
+            punto[0] += radio * dx / longitud;
+            punto[1] += radio * dy / longitud;
+        }
+    }
     
-  /** Determina si un punto est en la parte positiva del espacio definida 
-    * por el sentido del crculo orientado. La parte positiva es la que queda
+  /** Determina si un punto está en la parte positiva del espacio definida 
+    * por el sentido del círculo orientado. La parte positiva es la que queda
     * a la izquierda de la circunferencia
     * @param punto punto que se desea comprobar si se encuentra en la parte positiva
-    * del plano definida por el sentido del crculo
+    * del plano definida por el sentido del círculo
     * @return un valor booelano indicando si el punto se encuentra en la parte positiva
-    * del plano definida por el sentido del crculo
+    * del plano definida por el sentido del círculo
     * @see Mat#HORARIO
     * @see Mat#ANTIHORARIO
     * @see Circulo2D#contienePuntoEstrictamente(Punto2D)
@@ -426,13 +483,13 @@ public class Circulo2D extends ObjetoGeometrico {
         else return false;
     }
   
-  /** Determina si un punto est en la parte negativa del espacio definida 
-    * por el sentido del crculo orientado. La parte negativa es la que queda
+  /** Determina si un punto está en la parte negativa del espacio definida 
+    * por el sentido del círculo orientado. La parte negativa es la que queda
     * a la derecha de la circunferencia
     * @param punto punto que se desea comprobar si se encuentra en la parte negativa
-    * del plano definida por el sentido del crculo
+    * del plano definida por el sentido del círculo
     * @return un valor booelano indicando si el punto se encuentra en la parte negativa
-    * del plano definida por el sentido del crculo
+    * del plano definida por el sentido del círculo
     * @see Mat#HORARIO
     * @see Mat#ANTIHORARIO
     * @see Circulo2D#contienePuntoEstrictamente(Punto2D)
@@ -452,9 +509,9 @@ public class Circulo2D extends ObjetoGeometrico {
         else return false;
     }  
     
-  /** Determina si un punto se encuentra en la parte positiva o negativa segn
-    * la divisin que hace del espacio el crculo orientado
-    * @param punto punto que se desea determinar en que posicin del espacio se
+  /** Determina si un punto se encuentra en la parte positiva o negativa según
+    * la división que hace del espacio el círculo orientado
+    * @param punto punto que se desea determinar en que posición del espacio se
     * encuentra
     * @return un valor indicando si el punto se enceuntra en la parte positiva del 
     * espacio, en la negativa, o contenido en la circunferencia
@@ -466,7 +523,7 @@ public class Circulo2D extends ObjetoGeometrico {
     */
     public int posicionRelativa(Punto2D punto) {
         // Comprobamos primero si se encuentra en la parte negativa porque
-        // hay ms posibilidades de que un punto se encuentre en esa zona
+        // hay más posibilidades de que un punto se encuentre en esa zona
         if (parteNegativa(punto)) return Mat.NEGATIVA;
         else 
         {
@@ -474,17 +531,47 @@ public class Circulo2D extends ObjetoGeometrico {
             else return Mat.CONTENIDO;
         }
     }
+
+  /** Determina de forma exacta la posición de un punto respecto al círculo
+    * orientado que pasa por tres puntos dados, en ese orden. No es necesario
+    * construir el círculo, por lo que no se calculan ni el centro ni el radio
+    * y el resultado no depende de epsilon. Como en el resto de la clase, la
+    * parte positiva es la que queda a la izquierda de la circunferencia: el
+    * interior si los tres puntos están en sentido antihorario y el exterior
+    * si están en sentido horario
+    * @param punto1 primer punto de la circunferencia
+    * @param punto2 segundo punto de la circunferencia
+    * @param punto3 tercer punto de la circunferencia
+    * @param punto punto que se desea comprobar
+    * @return un valor indicando si el punto se encuentra en la parte positiva del
+    * espacio, en la negativa, o contenido en la circunferencia
+    * @exception GeomException si los tres puntos de la circunferencia son
+    * colineales
+    * @see Mat#POSITIVA
+    * @see Mat#NEGATIVA
+    * @see Mat#CONTENIDO
+    * @see PredicadosExactos2D#posicionCirculo(double, double, double, double, double, double, double, double)
+    */
+    public static int posicionRelativa(Punto2D punto1, Punto2D punto2, Punto2D punto3,
+                                       Punto2D punto) throws GeomException {
+        if (PredicadosExactos2D.orientacion(punto1.x(), punto1.y(), punto2.x(), punto2.y(),
+                                            punto3.x(), punto3.y()) == Mat.COLINEAL)
+            throw new GeomException("posicionRelativa (Punto2D, Punto2D, Punto2D, Punto2D): los puntos de la circunferencia son colineales");
+
+        return PredicadosExactos2D.posicionCirculo(punto1.x(), punto1.y(), punto2.x(), punto2.y(),
+                                                   punto3.x(), punto3.y(), punto.x(), punto.y());
+    }
     
-  /** Obtiene el crculo orientado opuesto, que es aquel que coincide en centro
+  /** Obtiene el círculo orientado opuesto, que es aquel que coincide en centro
     * y radio pero que tiene sentido opuesto
-    * @return un crculo orientado en sentido inverso
+    * @return un círculo orientado en sentido inverso
     * @see Mat#HORARIO
     * @see Mat#ANTIHORARIO
     * @see Circulo2D#Circulo2D(Punto2D, double, int)
     */
     public Circulo2D opuesto() {
-        try { // La excepcin geomtrica del constructor del Circulo2D no 
-              // se cumplir nunca en este caso
+        try { // La excepción geométrica del constructor del Circulo2D no 
+              // se cumplirá nunca en este caso
         if (sentido == Mat.HORARIO)
             return new Circulo2D(centro, radio, Mat.ANTIHORARIO);
         else
@@ -494,17 +581,17 @@ public class Circulo2D extends ObjetoGeometrico {
         }
     }
     
-  /** Obtiene la caja contenedora que contiene al crculo
-    * @return una caja contenedora conteniendo al crculo
+  /** Obtiene la caja contenedora que contiene al círculo
+    * @return una caja contenedora conteniendo al círculo
     * @see Caja2D#Caja2D(Circulo2D)
     */
     public Caja2D cajaContenedora() {
         return new Caja2D(this);
     }
     
-  /** Comprueba si el crculo orientado se trata de un crculo degenerado, lo 
+  /** Comprueba si el círculo orientado se trata de un círculo degenerado, lo 
     * cual es cierto si el radio es nulo
-    * @return un valor booleano indicando si el crculo es degenerado
+    * @return un valor booleano indicando si el círculo es degenerado
     * @see Mat#EPSILON
     */
     public boolean degenerado()
@@ -512,10 +599,10 @@ public class Circulo2D extends ObjetoGeometrico {
         return (radio < Mat.EPSILON);
     }
   
-  /** Obtiene la distancia del crculo a un punto. Esta distancia ser el valor 
+  /** Obtiene la distancia del círculo a un punto. Esta distancia será el valor 
     * absoluto de la diferencia entre la distancia del punto al centro y el radio.
     * @param punto punto al que se desea obtener la distancia
-    * @return la distancia del crculo al punto pasado como parmetro
+    * @return la distancia del círculo al punto pasado como parámetro
     * @see Mat#absoluto(double)
     * @see Punto2D#distancia(Punto2D)
     */
@@ -527,10 +614,10 @@ public class Circulo2D extends ObjetoGeometrico {
             return (distCentro - radio);
     }
     
-  /** Traslada el crculo en el plano, aplicando el mismo desplazamiento
-    * en ambos ejes. Se aplica una traslacin a su centro
-    * @param desp desplazamiento en ambos ejes del centro del crculo
-    * @return el crculo trasladado
+  /** Traslada el círculo en el plano, aplicando el mismo desplazamiento
+    * en ambos ejes. Se aplica una traslación a su centro
+    * @param desp desplazamiento en ambos ejes del centro del círculo
+    * @return el círculo trasladado
     * @see Punto2D#trasladar(double)
     */
     public Circulo2D trasladar (double desp) {
@@ -538,11 +625,11 @@ public class Circulo2D extends ObjetoGeometrico {
         return this;
     }
     
-  /** Traslada el crculo en el plano, aplicando un desplazamiento distinto 
-    * en cada uno de los ejes. Se aplica la traslacin a su centro
+  /** Traslada el círculo en el plano, aplicando un desplazamiento distinto 
+    * en cada uno de los ejes. Se aplica la traslación a su centro
     * @param despx desplazamiento en el eje x
     * @param despy desplazamiento en el eje y
-    * @return el crculo trasladado
+    * @return el círculo trasladado
     * @see Punto2D#trasladar(double, double)
     */
     public Circulo2D trasladar (double despx, double despy) {
@@ -550,10 +637,10 @@ public class Circulo2D extends ObjetoGeometrico {
         return this;
     }
     
-  /** Traslada el crculo en la direccin y segn la direccin marcados por un vector
-    * en el plano. Se aplica la traslacin a su centro
-    * @param vector vector que indica la direccin y magnitud del desplaxamiento
-    * @return el crculo trasladado
+  /** Traslada el círculo en la dirección y según la dirección marcados por un vector
+    * en el plano. Se aplica la traslación a su centro
+    * @param vector vector que indica la dirección y magnitud del desplaxamiento
+    * @return el círculo trasladado
     * @see Punto2D#trasladar(Vector2D)
     */
     public Circulo2D trasladar (Vector2D vector) {
@@ -561,16 +648,16 @@ public class Circulo2D extends ObjetoGeometrico {
         return this;
     }
     
-  /** Escalado del crculo. El factor de esacalado se aplica al radio
+  /** Escalado del círculo. El factor de esacalado se aplica al radio
     * @param incr factor de escalado
-    * @return el crculo escalado
+    * @return el círculo escalado
     */
     public Circulo2D escalado (double incr) {
         radio = radio * incr;
         return this;
     }
     
-  /** Realiza la conversin del objeto de tipo Vector2D a una cadena
+  /** Realiza la conversión del objeto de tipo Vector2D a una cadena
     * @return una cadena especificando el tipo de objeto (vector) y sus
     * componentes (desplazamiento en el eje x y desplazamiento en el eje y)
     */  
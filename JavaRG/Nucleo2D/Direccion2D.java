@@ -11,8 +11,8 @@ import JavaRG.Nucleo2D.*;
 
 /** Un objeto de la clase <code>Direccion2D</code> es un vector en dos dimensiones
  * del cual obviamos su longitud. Pueden ser vistos como vectores unitarios, 
- * aunque internamente no existe normalizacin. Pueden tambin ser vistos como ngulos.
- * Su implementacin se basa en desplazamientos, de la misma forma en que se
+ * aunque internamente no existe normalización. Pueden también ser vistos como ángulos.
+ * Su implementación se basa en desplazamientos, de la misma forma en que se
  * implementa un vector
  *
  * @author  Pablo Suau
@@ -31,48 +31,48 @@ public class Direccion2D extends ObjetoGeometrico {
     double dy;
 
   /**
-    * Constructor por defecto de una direccin. La direccin por defecto
-    * formar cero grados respecto al eje x
-    * @return una direccin de cero grados respecto al eje x
+    * Constructor por defecto de una dirección. La dirección por defecto
+    * formará cero grados respecto al eje x
+    * @return una dirección de cero grados respecto al eje x
     */
     public Direccion2D() {
         dx = 1; dy = 0;
     }
 
- /** Constructor de la direccin a partir de un punto. La direccin vendr definida
-   * por el ngulo del vector entre el origen de coordenadas y el punto pasado
-   * como parmetro
-   * @param p punto a partir del cual construir la direccin
-   * @return una nueva direccin cuyos desplazamientos en el eje x y en el eje y
-   * vendrn determinados por las coordenadas del punto pasado como parmetro
-   * @exception GeomException si el punto pasado como parmetro es el origen
+ /** Constructor de la dirección a partir de un punto. La dirección vendrá definida
+   * por el ángulo del vector entre el origen de coordenadas y el punto pasado
+   * como parámetro
+   * @param p punto a partir del cual construir la dirección
+   * @return una nueva dirección cuyos desplazamientos en el eje x y en el eje y
+   * vendrán determinados por las coordenadas del punto pasado como parámetro
+   * @exception GeomException si el punto pasado como parámetro es el origen
    * de coordenadas
    * @see Punto2D#x() 
    * @see Punto2D#y()
    */
     public Direccion2D(Punto2D p) throws GeomException {
         if (p.x() == 0 && p.y() == 0)
-        throw new GeomException("Direccion2D (Punto2D): Clculo de una direccion a partir de dos puntos con las mismas coordenadas");
+        throw new GeomException("Direccion2D (Punto2D): Cálculo de una direccion a partir de dos puntos con las mismas coordenadas");
         else {
             dx = p.x();
             dy = p.y();
         }
     }
 
-  /** Constructor de la direccin a partir de las coordenadas cartesianas de un 
-   * punto. La direccin vendr definida
-   * por el ngulo del vector entre el origen de coordenadas y el punto pasado
-   * como parmetro
-   * @param x coordenada cartesiana x del punto a partir del cual construir la direccin
-   * @param y coordenada cartesiana y del punto a partir del cual construir la direccin
-   * @return una nueva direccin cuyos desplazamientos en el eje x y en el eje y
-   * vendrn determinados por las coordenadas del punto pasado como parmetro
-   * @exception GeomException si el punto pasado como parmetro es el origen
+  /** Constructor de la dirección a partir de las coordenadas cartesianas de un 
+   * punto. La dirección vendrá definida
+   * por el ángulo del vector entre el origen de coordenadas y el punto pasado
+   * como parámetro
+   * @param x coordenada cartesiana x del punto a partir del cual construir la dirección
+   * @param y coordenada cartesiana y del punto a partir del cual construir la dirección
+   * @return una nueva dirección cuyos desplazamientos en el eje x y en el eje y
+   * vendrán determinados por las coordenadas del punto pasado como parámetro
+   * @exception GeomException si el punto pasado como parámetro es el origen
    * de coordenadas
    */
    public Direccion2D (double x, double y) throws GeomException {
         if (x == 0 && y == 0)
-        throw new GeomException("Direccion2D (double. double): Clculo de una direccin a partir de dos puntos con las mismas coordenadas");
+        throw new GeomException("Direccion2D (double. double): Cálculo de una dirección a partir de dos puntos con las mismas coordenadas");
         else {
             dx = x;
             dy = y;
@@ -80,34 +80,34 @@ public class Direccion2D extends ObjetoGeometrico {
     }
 
   
-  /** Constructor de la direccin a partir de las coordenadas homogneas de un 
-   * punto. La direccin vendr definida
-   * por el ngulo del vector entre el origen de coordenadas y el punto pasado
-   * como parmetro
-   * @param hx coordenada homognea x del punto a partir del cual construir la direccin
-   * @param hy coordenada homognea y del punto a partir del cual construir la direccin
-   * @param hz coordenada homognea z del punto a partir del cual construir la direccin
-   * @return una nueva direccin cuyos desplazamientos en el eje x y en el eje y
-   * vendrn determinados por las coordenadas del punto pasado como parmetro
-   * @exception GeomException si el punto pasado como parmetro es el origen
+  /** Constructor de la dirección a partir de las coordenadas homogéneas de un 
+   * punto. La dirección vendrá definida
+   * por el ángulo del vector entre el origen de coordenadas y el punto pasado
+   * como parámetro
+   * @param hx coordenada homogénea x del punto a partir del cual construir la dirección
+   * @param hy coordenada homogénea y del punto a partir del cual construir la dirección
+   * @param hz coordenada homogénea z del punto a partir del cual construir la dirección
+   * @return una nueva dirección cuyos desplazamientos en el eje x y en el eje y
+   * vendrán determinados por las coordenadas del punto pasado como parámetro
+   * @exception GeomException si el punto pasado como parámetro es el origen
    * de coordenadas
    */
     public Direccion2D(double hx, double hy, double hz) throws GeomException {
         if (hz == 0)
         throw new GeomException("Direccion2D (double, double, double): La coordenada homogenea en el eje z vale 0");
         else if (hx/hz == 0 && hy/hz == 0)
-        throw new GeomException("Direccion2D (double, double, double): clculo de una direccin a partir de dos puntos con las mismas coordenadas");
+        throw new GeomException("Direccion2D (double, double, double): cálculo de una dirección a partir de dos puntos con las mismas coordenadas");
         else {
             dx = hx/hz;
             dy = hy/hz;
         }
     }
 
- /** Constructor de la direccin a partir de dos puntos. La direccin vendr 
-   * definida por el ngulo del vector definido por los dos puntos
-   * @param p1 primer punto a partir del cual construir la direccin
-   * @param p2 segundo punto a partir del cual construir la direccin
-   * @return una nueva direccin cuyos desplazamientos en el eje x e y se obtienen
+ /** Constructor de la dirección a partir de dos puntos. La dirección vendrá 
+   * definida por el ángulo del vector definido por los dos puntos
+   * @param p1 primer punto a partir del cual construir la dirección
+   * @param p2 segundo punto a partir del cual construir la dirección
+   * @return una nueva dirección cuyos desplazamientos en el eje x e y se obtienen
    * a partir de la diferencia entre las coordenadas de los dos puntos
    * @exception GeomException si los dos puntos tienen las mismas coordenadas
    * @see Punto2D#x()
@@ -115,68 +115,68 @@ public class Direccion2D extends ObjetoGeometrico {
    */
     public Direccion2D(Punto2D p1, Punto2D p2) throws GeomException {
         if (p1.equals(p2))
-        throw new GeomException ("Direccion2D (Punto2D, Punto2D): Calculo de una direccin a partir de dos puntos con las mismas coordenadas");
+        throw new GeomException ("Direccion2D (Punto2D, Punto2D): Calculo de una dirección a partir de dos puntos con las mismas coordenadas");
         else {
             dx = p2.x() - p1.x();
             dy = p2.y() - p1.y();
         }
     }
 
-  /** Constructor de la direccin a partir de las coordenadas cartesianas de
-   * dos puntos. La direccin vendr 
-   * definida por el ngulo del vector definido por los dos puntos
+  /** Constructor de la dirección a partir de las coordenadas cartesianas de
+   * dos puntos. La dirección vendrá 
+   * definida por el ángulo del vector definido por los dos puntos
    * @param x1 coordenada cartesiana x del primer punto
    * @param y1 coordenada cartesiana y del primer punto
    * @param x2 coordenada cartesiana x del segundo punto
    * @param y2 coordenada cartesiana y del segundo punto
-   * @return una nueva direccin cuyos desplazamientos en el eje x e y se obtienen
+   * @return una nueva dirección cuyos desplazamientos en el eje x e y se obtienen
    * a partir de la diferencia entre las coordenadas de los dos puntos
    * @exception GeomException si los dos puntos tienen las mismas coordenadas
    * @see Punto2D#Punto2D(double, double)
    */
     public Direccion2D(double x1, double y1, double x2, double y2) throws GeomException {
         if (new Punto2D(x1, y1).equals(new Punto2D(x2,y2)))
-        throw new GeomException("Direccion2D (double, double, double, double): clculo de una direccin a partir de dos puntos con las mismas coordenadas");
+        throw new GeomException("Direccion2D (double, double, double, double): cálculo de una dirección a partir de dos puntos con las mismas coordenadas");
         else {
             dx = x2 - x1;
             dy = y2 - y1;
         }
     }
 
-  /** Constructor de la direccin a partir de las coordenadas homogneas de
-   * dos puntos. La direccin vendr 
-   * definida por el ngulo del vector definido por los dos puntos
-   * @param hx1 coordenada homognea x del primer punto
-   * @param hy1 coordenada homognea y del primer punto
-   * @param hz1 coordenada homognea z del primer punto
-   * @param hx2 coordenada homognea x del segundo punto
-   * @param hy2 coordenada homognea y del segundo punto
-   * @param hz2 coordenada homognea z del segundo punto
-   * @param hx3 coordenada homognea x del tercer punto
-   * @param hy3 coordenada homognea y del tercer punto
-   * @param hz3 coordenada homognea z del tercer punto 
-   * @return una nueva direccin cuyos desplazamientos en el eje x e y se obtienen
+  /** Constructor de la dirección a partir de las coordenadas homogéneas de
+   * dos puntos. La dirección vendrá 
+   * definida por el ángulo del vector definido por los dos puntos
+   * @param hx1 coordenada homogénea x del primer punto
+   * @param hy1 coordenada homogénea y del primer punto
+   * @param hz1 coordenada homogénea z del primer punto
+   * @param hx2 coordenada homogénea x del segundo punto
+   * @param hy2 coordenada homogénea y del segundo punto
+   * @param hz2 coordenada homogénea z del segundo punto
+   * @param hx3 coordenada homogénea x del tercer punto
+   * @param hy3 coordenada homogénea y del tercer punto
+   * @param hz3 coordenada homogénea z del tercer punto 
+   * @return una nueva dirección cuyos desplazamientos en el eje x e y se obtienen
    * a partir de la diferencia entre las coordenadas de los dos puntos
    * @exception GeomException si los dos puntos tienen las mismas coordenadas o si
-   * la coordenada homognea de alguno de los puntos es cero
+   * la coordenada homogénea de alguno de los puntos es cero
    * @see Punto2D#Punto2D(double, double, double)
    */
     public Direccion2D(double hx1, double hy1, double hz1, double hx2, double hy2, double hz2) throws GeomException {
         if (hz1 == 0 || hz2 == 0)
         throw new GeomException("Direccion2D (double, double, double, double, double, double): la coordenada homogenea z de alguno de los puntos era cero");
         else if (new Punto2D(hx1, hy1, hz1).equals(new Punto2D(hx2, hy2, hz2)))
-        throw new GeomException("Direccion2D (double, double, double, double, double, double): clculo de una direccin a partir de dos puntos con las mismas coordenadas");
+        throw new GeomException("Direccion2D (double, double, double, double, double, double): cálculo de una dirección a partir de dos puntos con las mismas coordenadas");
         else {
             dx = hx2/hz2 - hx1/hz1;
             dy = hy2/hz2 - hy1/hz1;
         }
     }
 
-  /** Constructor de la direccin a partir de un vector. La direccin tendr 
-    * el ngulo formado por el vector con el eje x
-    * @param vector el vector a partir del cual construir la direccin
-    * @return una nueva direccin con el mismo ngulo que el vector pasado
-    * como parmetro
+  /** Constructor de la dirección a partir de un vector. La dirección tendrá 
+    * el ángulo formado por el vector con el eje x
+    * @param vector el vector a partir del cual construir la dirección
+    * @return una nueva dirección con el mismo ángulo que el vector pasado
+    * como parámetro
     * @see Vector2D#despX()
     * @see Vector2D#despY()
     */
@@ -185,11 +185,11 @@ public class Direccion2D extends ObjetoGeometrico {
         dy = vector.despY();
     }
 
-  /** Constructor de la direccin a partir de una recta. La direccin tendr 
-    * el ngulo formado por el vector director de la recta con el eje x
-    * @param recta la recta a partir de la cual construimos la direccin
-    * @return una nueva direccin con el mismo ngulo que el vector director
-    * de la recta pasada como parmetro
+  /** Constructor de la dirección a partir de una recta. La dirección tendrá 
+    * el ángulo formado por el vector director de la recta con el eje x
+    * @param recta la recta a partir de la cual construimos la dirección
+    * @return una nueva dirección con el mismo ángulo que el vector director
+    * de la recta pasada como parámetro
     * @see Recta2D#director()
     * @see Vector2D#despX()
     * @see Vector2D#despY()
@@ -199,11 +199,11 @@ public class Direccion2D extends ObjetoGeometrico {
         dy = (recta.director()).despY();
     }
     
-  /** Constructor de la direccin a partir de un rayo. La direccin tendr
-    * el ngulo formado por el vector director del rayo con el eje x
-    * @param rayo el rayo a partir del cual contruimos la direccin
-    * @return una nueva direccin con el mismo ngulo que el vector director
-    * del rayo pasado como parmetro
+  /** Constructor de la dirección a partir de un rayo. La dirección tendrá
+    * el ángulo formado por el vector director del rayo con el eje x
+    * @param rayo el rayo a partir del cual contruimos la dirección
+    * @return una nueva dirección con el mismo ángulo que el vector director
+    * del rayo pasado como parámetro
     * @see Rayo2D#director()
     * @see Vector2D#despX()
     * @see Vector2D#despY()
@@ -213,10 +213,10 @@ public class Direccion2D extends ObjetoGeometrico {
         dy = (rayo.director()).despY();
     }
     
-  /** Constructor de la direccin a partir de un segmento. La direccin se construir a partir
+  /** Constructor de la dirección a partir de un segmento. La dirección se construirá a partir
     * del vector definido entre los puntos inicial y final del segmento
-    * @param segmento el semento a partir del cual construir la direccin
-    * @return una nueva direccin cuyos desplazamietos se obtienen por la diferencia
+    * @param segmento el semento a partir del cual construir la dirección
+    * @return una nueva dirección cuyos desplazamietos se obtienen por la diferencia
     * de coordenadas entre el punto final e inicial del segmento
     * @see Segmento2D#fin()
     * @see Segmento2D#comienzo()
@@ -228,11 +228,11 @@ public class Direccion2D extends ObjetoGeometrico {
         dy = (segmento.fin()).y() - (segmento.comienzo()).y();
     }
 
-  /** Constructor de copia de <code>Direccion2D</code>. Construye una nueva direccin a 
+  /** Constructor de copia de <code>Direccion2D</code>. Construye una nueva dirección a 
     * partir de otra ya existente.
-    * @param original direccin a partir de la cual construir la nueva direccin
-    * @return una nueva direccin con los mismos desplazamientos que la direccin
-    * pasada como parmetro
+    * @param original dirección a partir de la cual construir la nueva dirección
+    * @return una nueva dirección con los mismos desplazamientos que la dirección
+    * pasada como parámetro
     * @see Direccion2D#despX()
     * @see Direccion2D#despY()
     */
@@ -242,13 +242,13 @@ public class Direccion2D extends ObjetoGeometrico {
     }
 
   /**
-    * Comparacin con otro objeto geomtrico. Una direccin es igual a un objeto
-    * geomtrico si dicho objeto es otra direccin y las dos direcciones tienen
-    * el mismo ngulo respecto al eje x (o lo que es lo mismo, igual ngulo
+    * Comparación con otro objeto geométrico. Una dirección es igual a un objeto
+    * geométrico si dicho objeto es otra dirección y las dos direcciones tienen
+    * el mismo ángulo respecto al eje x (o lo que es lo mismo, igual ángulo
     * respecto al eje y)
-    * @param obj objeto geomtrico con el que se desea comparar la direccin
-    * @return un valor booleano indicando si la direccin es igual al objeto geomtrico
-    * pasado como parmetro
+    * @param obj objeto geométrico con el que se desea comparar la dirección
+    * @return un valor booleano indicando si la dirección es igual al objeto geométrico
+    * pasado como parámetro
     * @see Direccion2D#anguloEjeX()
     * @see Mat#EPSILON
     * @see Mat#absoluto(double)
@@ -266,24 +266,24 @@ public class Direccion2D extends ObjetoGeometrico {
     }
 
   /**
-    * Comparacin con otro objeto geomtrico. Una direccin es distinta a un objeto
-    * geomtrico si dicho objeto no es otra direccin o las dos direcciones no tienen
-    * el mismo ngulo respecto al eje x (o lo que es lo mismo, diferente ngulo
+    * Comparación con otro objeto geométrico. Una dirección es distinta a un objeto
+    * geométrico si dicho objeto no es otra dirección o las dos direcciones no tienen
+    * el mismo ángulo respecto al eje x (o lo que es lo mismo, diferente ángulo
     * respecto al eje y)
-    * @param obj objeto geomtrico con el que se desea comparar la direccin
-    * @return un valor booleano indicando si la direccin es distinto al objeto geomtrico
-    * pasado como parmetro
+    * @param obj objeto geométrico con el que se desea comparar la dirección
+    * @return un valor booleano indicando si la dirección es distinto al objeto geométrico
+    * pasado como parámetro
     * @see Direccion2D#equals(ObjetoGeometrico)
     */  
     public boolean not_equals (ObjetoGeometrico obj) {
         return !equals(obj);
     }
        
-  /** Determina si la direccin es mayor a otra pasada como parmetro. El orden
+  /** Determina si la dirección es mayor a otra pasada como parámetro. El orden
     * se establece a partir del eje x en sentido antihorario
-    * @param dir direccin con la que se desea comparar
-    * @return un valor booleano indicando si la direccin es mayor a la pasada
-    * como parmetro
+    * @param dir dirección con la que se desea comparar
+    * @return un valor booleano indicando si la dirección es mayor a la pasada
+    * como parámetro
     * @see Direccion2D#anguloEjeX()
     */
     public boolean mayorQue (Direccion2D dir) {
@@ -299,11 +299,11 @@ public class Direccion2D extends ObjetoGeometrico {
         return false;
     }
     
-  /** Determina si la direccin es mayor o igual a otra pasada como parmetro. El orden
+  /** Determina si la dirección es mayor o igual a otra pasada como parámetro. El orden
     * se establece a partir del eje x en sentido antihorario
-    * @param dir direccin con la que se desea comparar
-    * @return un valor booleano indicando si la direccin es mayor o igual a la pasada
-    * como parmetro
+    * @param dir dirección con la que se desea comparar
+    * @return un valor booleano indicando si la dirección es mayor o igual a la pasada
+    * como parámetro
     * @see Direccion2D#equals(ObjetoGeometrico)
     * @see Direccion2D#mayorQue(Direccion2D)
     */ 
@@ -311,11 +311,11 @@ public class Direccion2D extends ObjetoGeometrico {
         return (this.equals(dir) || this.mayorQue(dir));
     }
     
-  /** Determina si la direccin es menor a otra pasada como parmetro. El orden
+  /** Determina si la dirección es menor a otra pasada como parámetro. El orden
     * se establece a partir del eje x en sentido antihorario
-    * @param dir direccin con la que se desea comparar
-    * @return un valor booleano indicando si la direccin es menor a la pasada
-    * como parmetro
+    * @param dir dirección con la que se desea comparar
+    * @return un valor booleano indicando si la dirección es menor a la pasada
+    * como parámetro
     * @see Direccion2D#anguloEjeX()
     */
     public boolean menorQue (Direccion2D dir) {
@@ -331,11 +331,11 @@ public class Direccion2D extends ObjetoGeometrico {
         return false;
     }
 
-  /** Determina si la direccin es menor o igual a otra pasada como parmetro. El orden
+  /** Determina si la dirección es menor o igual a otra pasada como parámetro. El orden
     * se establece a partir del eje x en sentido antihorario
-    * @param dir direccin con la que se desea comparar
-    * @return un valor booleano indicando si la direccin es menor o igual a la pasada
-    * como parmetro
+    * @param dir dirección con la que se desea comparar
+    * @return un valor booleano indicando si la dirección es menor o igual a la pasada
+    * como parámetro
     * @see Direccion2D#equals(ObjetoGeometrico)
     * @see Direccion2D#menorQue(Direccion2D)
     */ 
@@ -345,13 +345,13 @@ public class Direccion2D extends ObjetoGeometrico {
     
     
   /** 
-    * Determina si la direccin se encuentra entre otras dos, en sentido horario
-    * y de forma estricta. Una direccin estar entre otras dos de forma estricta
-    * si su ngulo no es igual al de ninguna de las otras dos
-    * @param dir1 primera direccin
-    * @param dir2 segunda direccin
-    * @return un valor booleano indicando si la direccin se encuentra entre las
-    * otras dos pasadas como parmetro en sentido horario y de forma estricta
+    * Determina si la dirección se encuentra entre otras dos, en sentido horario
+    * y de forma estricta. Una dirección estará entre otras dos de forma estricta
+    * si su ángulo no es igual al de ninguna de las otras dos
+    * @param dir1 primera dirección
+    * @param dir2 segunda dirección
+    * @return un valor booleano indicando si la dirección se encuentra entre las
+    * otras dos pasadas como parámetro en sentido horario y de forma estricta
     * @see Direccion2D#menorQue(Direccion2D)
     * @see Direccion2D#mayorQue(Direccion2D)
     */
@@ -363,13 +363,13 @@ public class Direccion2D extends ObjetoGeometrico {
     }
 
   /** 
-    * Determina si la direccin se encuentra entre otras dos, en sentido antihorario
-    * y de forma estricta. Una direccin estar entre otras dos de forma estricta
-    * si su ngulo no es igual al de ninguna de las otras dos
-    * @param dir1 primera direccin
-    * @param dir2 segunda direccin
-    * @return un valor booleano indicando si la direccin se encuentra entre las
-    * otras dos pasadas como parmetro en sentido antihorario y de forma estricta
+    * Determina si la dirección se encuentra entre otras dos, en sentido antihorario
+    * y de forma estricta. Una dirección estará entre otras dos de forma estricta
+    * si su ángulo no es igual al de ninguna de las otras dos
+    * @param dir1 primera dirección
+    * @param dir2 segunda dirección
+    * @return un valor booleano indicando si la dirección se encuentra entre las
+    * otras dos pasadas como parámetro en sentido antihorario y de forma estricta
     * @see Direccion2D#mayorQue(Direccion2D)
     * @see Direccion2D#menorQue(Direccion2D)
     */
@@ -381,11 +381,11 @@ public class Direccion2D extends ObjetoGeometrico {
     }
 
   /** 
-    * Determina si la direccin se encuentra entre otras dos, en sentido horario.
-    * @param dir1 primera direccin
-    * @param dir2 segunda direccin
-    * @return un valor booleano indicando si la direccin se encuentra entre las
-    * otras dos pasadas como parmetro en sentido horario
+    * Determina si la dirección se encuentra entre otras dos, en sentido horario.
+    * @param dir1 primera dirección
+    * @param dir2 segunda dirección
+    * @return un valor booleano indicando si la dirección se encuentra entre las
+    * otras dos pasadas como parámetro en sentido horario
     * @see Direccion2D#menorQue(Direccion2D)
     * @see Direccion2D#mayorQue(Direccion2D)
     * @see Direccion2D#equals(ObjetoGeometrico)
@@ -401,11 +401,11 @@ public class Direccion2D extends ObjetoGeometrico {
     }
 
   /** 
-    * Determina si la direccin se encuentra entre otras dos, en sentido antihorario.
-    * @param dir1 primera direccin
-    * @param dir2 segunda direccin
-    * @return un valor booleano indicando si la direccin se encuentra entre las
-    * otras dos pasadas como parmetro en sentido antihorario
+    * Determina si la dirección se encuentra entre otras dos, en sentido antihorario.
+    * @param dir1 primera dirección
+    * @param dir2 segunda dirección
+    * @return un valor booleano indicando si la dirección se encuentra entre las
+    * otras dos pasadas como parámetro en sentido antihorario
     * @see Direccion2D#mayorQue(Direccion2D)
     * @see Direccion2D#menorQue(Direccion2D)
     * @see Direccion2D#equals(ObjetoGeometrico)
@@ -420,10 +420,10 @@ public class Direccion2D extends ObjetoGeometrico {
                 return (this.mayorQue(dir1) || this.menorQue(dir2));
     }
     
-  /** Calcula el ngulo con signo entre dos direcciones. 
-   * @param otra direccin con respecto a la cual se desea obtener el ngulo 
-   * @return el ngulo con signo entre la direccin y la direccin pasada como 
-   * parmetro, en radianes
+  /** Calcula el ángulo con signo entre dos direcciones. 
+   * @param otra dirección con respecto a la cual se desea obtener el ángulo 
+   * @return el ángulo con signo entre la dirección y la dirección pasada como 
+   * parámetro, en radianes
    * @see Direccion2D#despX()
    * @see Direccion2D#despY() 
    */
@@ -431,17 +431,17 @@ public class Direccion2D extends ObjetoGeometrico {
         double cociente = (this.despX()*otra.despX() +  this.despY()*otra.despY())/ (this.hipotenusa() * otra.hipotenusa());
         double angulo = Math.acos(cociente);
 
-        // Calculamos el signo del ngulo
+        // Calculamos el signo del ángulo
         if (this.despX()*otra.despY() - otra.despX()*this.despY() < 0 )
         angulo = (-1)*angulo;
 
         return angulo;
     }
     
-  /** Obtiene el ngulo con signo entre dos direcciones en grados. Dicho ngulo
-    * se obtendr a partir del ngulo en radianes.
-    * @param otra direccin con respecto a la cual se desea obtener el ngulo
-    * @return el ngulo con signo entre la direccin y la pasada como parmetro,
+  /** Obtiene el ángulo con signo entre dos direcciones en grados. Dicho ángulo
+    * se obtendrá a partir del ángulo en radianes.
+    * @param otra dirección con respecto a la cual se desea obtener el ángulo
+    * @return el ángulo con signo entre la dirección y la pasada como parámetro,
     * en grados
     * @see Direccion2D#anguloEntreDirecciones(Direccion2D)
     * @see Mat#rad2Grad(double)
@@ -450,16 +450,16 @@ public class Direccion2D extends ObjetoGeometrico {
         return Mat.rad2Grad(this.anguloEntreDirecciones(otra));
     }
 
- /** Implementacin de la funcin abstracta <i>distancia</i> de <code>ObjetoGeometrico</code>.
+ /** Implementación de la función abstracta <i>distancia</i> de <code>ObjetoGeometrico</code>.
    * Simplemente devuelve -1
    */
     public double distancia(Punto2D punto) {
         return -1;
     }
     
- /** Obtencin de la direccin opuesta. La direccin opuesta es aquella cuyos
+ /** Obtención de la dirección opuesta. La dirección opuesta es aquella cuyos
    * desplazamientos son los mismos pero en sentido contario
-   * @return la direccin opuesta
+   * @return la dirección opuesta
    */
     public Direccion2D opuesto() {
         dy = - dy;
@@ -468,10 +468,10 @@ public class Direccion2D extends ObjetoGeometrico {
         return this;
     }
 
-  /** Rota la direccin el nmero de radianes indicado. 
-    * @param radio angulo de giro en radianes. Si es positivo el giro ser
-    * en sentido antihorario y en caso contrario lo ser en sentido horario
-    * @return la direccin rotada
+  /** Rota la dirección el número de radianes indicado. 
+    * @param radio angulo de giro en radianes. Si es positivo el giro será
+    * en sentido antihorario y en caso contrario lo será en sentido horario
+    * @return la dirección rotada
     */
     public Direccion2D gira(double angulo) {
 
@@ -498,18 +498,18 @@ public class Direccion2D extends ObjetoGeometrico {
         return dy;
     }
 
-  /** Funcin que obtiene el desplazamiento cuyo ndice numrico se pasa como
-    * parmetro. Dicho ndice debe valer 0 si deseamos obtener el desplazamiento
+  /** Función que obtiene el desplazamiento cuyo índice numérico se pasa como
+    * parámetro. Dicho índice debe valer 0 si deseamos obtener el desplazamiento
     * en el eje x y 1 si lo que deseamos es el desplazamiento en el eje y
-    * @param i ndice numrico del desplazamiento que se desea obtener
+    * @param i índice numérico del desplazamiento que se desea obtener
     * @return el desplazamiento solicitado
-    * @exception GeomException si el ndice es distinto de 0 y de 1
+    * @exception GeomException si el índice es distinto de 0 y de 1
     */
     public double desp(int i) throws GeomException {
         double devuelto = 0;
 
         if (i != 0 && i != 1)
-        throw new GeomException("desp (int): El ndice proporcionado debe ser 0 o 1");
+        throw new GeomException("desp (int): El índice proporcionado debe ser 0 o 1");
         else
         switch (i) {
             case 0:
@@ -520,10 +520,10 @@ public class Direccion2D extends ObjetoGeometrico {
         return devuelto;
     }
 
-  /** Obtiene la pendiente de la direciin. Dicha pendiente se obtiene como el 
+  /** Obtiene la pendiente de la direciión. Dicha pendiente se obtiene como el 
     * cociente entre el desplazamiento en el eje y y el desplazamiento en el 
     * eje x. 
-    * @return la pendiente de la direccin
+    * @return la pendiente de la dirección
     * @exception GeomException si la pendiente es infinita, es decir, si el 
     * desplazamiento en x es cero
     * @see Mat#absoluto(double)
@@ -536,9 +536,9 @@ public class Direccion2D extends ObjetoGeometrico {
         return dy/dx;
     }
 
-  /** Obtiene el ngulo en radianes respecto al eje x. Ser positivo si el
-    * desplazamiento en el eje y tambin lo es, y negativo en otro caso.
-    * @return el ngulo en radianes respecto al eje x
+  /** Obtiene el ángulo en radianes respecto al eje x. Será positivo si el
+    * desplazamiento en el eje y también lo es, y negativo en otro caso.
+    * @return el ángulo en radianes respecto al eje x
     * @see Mat#cuadrado(double)
     */
     public double anguloEjeX() {
@@ -548,9 +548,9 @@ public class Direccion2D extends ObjetoGeometrico {
         return angulo;
     }
 
-  /** Obtiene el ngulo en grados respecto al eje x. Ser positivo si el
-    * desplazamiento en el eje y tambin lo es, y negativa en otro caso.
-    * @return el ngulo en grados respecto al eje x
+  /** Obtiene el ángulo en grados respecto al eje x. Será positivo si el
+    * desplazamiento en el eje y también lo es, y negativa en otro caso.
+    * @return el ángulo en grados respecto al eje x
     * @see Direccion2D#anguloEjeX()
     * @see Mat#rad2Grad(double)
     */
@@ -558,9 +558,9 @@ public class Direccion2D extends ObjetoGeometrico {
         return Mat.rad2Grad(anguloEjeX());
     }
 
-  /** Obtiene el ngulo en radianes respecto al eje y. Ser positivo si el
-    * desplazamiento en el eje x tambin lo es, y negativo en otro caso.
-    * @return el ngulo en radianes respecto al eje y
+  /** Obtiene el ángulo en radianes respecto al eje y. Será positivo si el
+    * desplazamiento en el eje x también lo es, y negativo en otro caso.
+    * @return el ángulo en radianes respecto al eje y
     * @see Mat#cuadrado(double)
     */
     public double anguloEjeY() {
@@ -570,9 +570,9 @@ public class Direccion2D extends ObjetoGeometrico {
         return angulo;
     }
     
-  /** Obtiene el ngulo en grados respecto al eje y. Ser positivo si el
-    * desplazamiento en el eje x tambin lo es, y negativo en otro caso.
-    * @return el ngulo en grados respecto al eje y
+  /** Obtiene el ángulo en grados respecto al eje y. Será positivo si el
+    * desplazamiento en el eje x también lo es, y negativo en otro caso.
+    * @return el ángulo en grados respecto al eje y
     * @see Direccion2D#anguloEjeY()
     * @see Mat#rad2Grad(double)
     */
@@ -580,21 +580,21 @@ public class Direccion2D extends ObjetoGeometrico {
         return Mat.rad2Grad(anguloEjeY());
     }
 
-  /** Realiza la conversin del objeto de tipo Direccion2D a una cadena
-    * @return una cadena especificando el tipo de objeto (direccin) y los
+  /** Realiza la conversión del objeto de tipo Direccion2D a una cadena
+    * @return una cadena especificando el tipo de objeto (dirección) y los
     * grados formados con el eje x
     * @see Direccion2D#gradosEjeX()
     */  
     public String toString() {
-        return nombre + " - Direccion2D: (ngulo con X: " +  gradosEjeX() + " grados)";
+        return nombre + " - Direccion2D: (ángulo con X: " +  gradosEjeX() + " grados)";
     }
 
-  /** Mtodo privado para obtener la "magnitud" de una direccin. Tericamente 
-    * una direccin no tiene magnitud, pero internamente s, debido a que se 
-    * define por un par de desplazamientos, y dicha magnitud ser necesaria
-    * para realizar algunos clculos
+  /** Método privado para obtener la "magnitud" de una dirección. Teóricamente 
+    * una dirección no tiene magnitud, pero internamente sí, debido a que se 
+    * define por un par de desplazamientos, y dicha magnitud será necesaria
+    * para realizar algunos cálculos
     * @return la magnitud del vector con los mismos desplazamientos en el eje x
-    * y en el eje y que la direccin
+    * y en el eje y que la dirección
     * @see Mat#cuadrado(double)
     */
     private double hipotenusa()
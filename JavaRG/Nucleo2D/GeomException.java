@@ -7,7 +7,7 @@
 package JavaRG.Nucleo2D;
 
 /** La clase <code>GeomException</code> es la usada para implementar
- * las excepciones geomtricas.
+ * las excepciones geométricas.
  *
  * @author  Pablo Suau
  * @version 1.1
@@ -17,7 +17,7 @@ public class GeomException extends Exception {
 
     /**
      * Crea una nueva <code>GeomException</code> sin ningun mensaje
-     * @return una nueva excepcin geomtrica
+     * @return una nueva excepción geométrica
      */
     public GeomException() {
     }
@@ -25,8 +25,8 @@ public class GeomException extends Exception {
 
     /**
      * Construye una <code>GeomException</code> con un determinado mensaje.
-     * @param msg el mensaje asociado a la excepcin
-     * @return una nueva excepcin geomtrica
+     * @param msg el mensaje asociado a la excepción
+     * @return una nueva excepción geométrica
      */
     public GeomException(String msg) {
         super(msg);
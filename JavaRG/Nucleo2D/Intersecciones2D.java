@@ -0,0 +1,890 @@
+/*
+ * Intersecciones2D.java
+ *
+ * Created on 17 de octubre de 2026, 16:40
+ */
+
+package JavaRG.Nucleo2D;
+
+import JavaRG.*;
+import JavaRG.Soporte.ArbolBarrido;
+import JavaRG.Soporte.ComparadorBarrido;
+
+/** Un objeto de la clase <code>Intersecciones2D</code> contiene todas las
+ * intersecciones entre los segmentos de un conjunto. Cada intersección indica
+ * el par de segmentos que la producen (por su posición en el conjunto, el
+ * menor en primer lugar) y es, o bien un punto, o bien un segmento si los dos
+ * segmentos son colineales y se solapan, igual que en
+ * <code>Segmento2D.interseccionSegmento</code>. Dos segmentos que comparten
+ * un extremo, o en los que un extremo de uno está sobre el otro, también
+ * intersectan. Cada par de segmentos aparece una sola vez.
+ * <br>
+ * Las intersecciones se calculan con el algoritmo de barrido de Bentley y
+ * Ottmann: una línea vertical recorre los extremos de los segmentos y los
+ * puntos de corte de izquierda a derecha, manteniendo ordenados los segmentos
+ * que corta, y solo se comprueba la intersección entre segmentos que pasan a
+ * ser vecinos en ese orden. El coste es O((n + k) log n), siendo k el número de
+ * intersecciones, en lugar del O(n^2) de comparar todos los pares.
+ * <br>
+ * Todas las decisiones del barrido son exactas: si dos segmentos intersectan,
+ * el orden de los puntos de corte y la posición de un punto de corte respecto
+ * a otro segmento. Cada punto de corte se representa de forma racional a
+ * partir de los dos segmentos que lo producen, y solo se recurre a la
+ * aritmética exacta cuando la evaluación en punto flotante, junto con su cota
+ * de error, no basta para decidir. Así, varios segmentos que pasan por un
+ * mismo punto se tratan juntos aunque sus coordenadas no sean representables.
+ * Las coordenadas que se devuelven de esos puntos sí están redondeadas.
+ * <br>
+ * Los resultados se almacenan en arrays de tipos primitivos, y solo se crean
+ * objetos geométricos cuando se piden expresamente
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see Segmento2D#interseccionSegmento(Segmento2D)
+ * @see PredicadosExactos2D
+ */
+public class Intersecciones2D extends Object implements ComparadorBarrido {
+
+  /** Capacidad inicial de los arrays de resultados */
+    private static final int capacidadInicial = 16;
+
+  /**
+    * Número de intersecciones encontradas
+    */
+    private int numIntersecciones;
+  /**
+    * Primer segmento de cada intersección
+    */
+    private int primeros[] = new int[capacidadInicial];
+  /**
+    * Segundo segmento de cada intersección
+    */
+    private int segundos[] = new int[capacidadInicial];
+  /**
+    * Coordenadas del punto de intersección, o del comienzo del solape
+    */
+    private double puntosX[] = new double[capacidadInicial];
+    private double puntosY[] = new double[capacidadInicial];
+  /**
+    * Coordenadas del final del solape (iguales al punto si no hay solape)
+    */
+    private double finesX[] = new double[capacidadInicial];
+    private double finesY[] = new double[capacidadInicial];
+
+    // Estado del barrido. Solo se utiliza durante la construcción
+
+  /**
+    * Número de segmentos
+    */
+    private int n;
+  /**
+    * Extremos de cada segmento, el izquierdo con menor coordenada x (menor y
+    * en caso de empate)
+    */
+    private double izqX[], izqY[], derX[], derY[];
+  /**
+    * Segmentos que corta la línea de barrido, ordenados de abajo a arriba
+    */
+    private ArbolBarrido arbol;
+  /**
+    * Punto por el que pasa la línea de barrido: coordenadas aproximadas, cota
+    * del error de cada una (nula si el punto es exacto), par de segmentos que
+    * lo producen y, si ya se ha calculado, su representación exacta
+    */
+    private double px, py, errorX, errorY;
+    private int puntoA, puntoB;
+    private double puntoExacto[][];
+  /**
+    * Número de punto procesado por la línea de barrido, y último punto en el
+    * que se añadió cada segmento al grupo de segmentos que pasan por él
+    */
+    private int ronda, marcas[];
+  /**
+    * Segmentos que pasan por el punto actual
+    */
+    private int grupo[], numGrupo;
+  /**
+    * Montículo de puntos de corte pendientes, con la cota de error de sus
+    * coordenadas y el par de segmentos que se cortan en cada uno
+    */
+    private double colaX[], colaY[], colaErrorX[], colaErrorY[];
+    private int colaA[], colaB[], numCola;
+  /**
+    * Pares de segmentos pendientes en el punto actual
+    */
+    private int paresA[], paresB[], numParesPunto;
+  /**
+    * Tabla hash con los pares de segmentos ya encontrados
+    */
+    private long conocidos[];
+    private int numConocidos;
+  /**
+    * Punto de corte calculado por puntoCorte, y cota de error de sus
+    * coordenadas
+    */
+    private double corteX, corteY, corteErrorX, corteErrorY;
+
+  /** Calcula todas las intersecciones entre los segmentos de un conjunto
+    * @param segmentos segmentos entre los que se buscan las intersecciones
+    * @return un nuevo objeto con las intersecciones entre los segmentos
+    */
+    public Intersecciones2D(Segmento2D segmentos[]) {
+        iniciar(segmentos.length);
+        for (int i=0; i<n; i++)
+            fijar(i, segmentos[i].comienzo.x(), segmentos[i].comienzo.y(),
+                     segmentos[i].fin.x(), segmentos[i].fin.y());
+        barrer();
+    }
+
+  /** Calcula todas las intersecciones entre los segmentos de un conjunto dado
+    * por las coordenadas cartesianas de sus extremos
+    * @param x1 coordenadas x del comienzo de los segmentos
+    * @param y1 coordenadas y del comienzo de los segmentos
+    * @param x2 coordenadas x del fin de los segmentos
+    * @param y2 coordenadas y del fin de los segmentos
+    * @param n número de segmentos
+    * @return un nuevo objeto con las intersecciones entre los segmentos
+    * @exception GeomException si alguno de los arrays tiene menos de n
+    * elementos
+    */
+    public Intersecciones2D(double x1[], double y1[], double x2[], double y2[], int n)
+        throws GeomException {
+        if (x1.length < n || y1.length < n || x2.length < n || y2.length < n)
+            throw new GeomException("Intersecciones2D (double[], double[], double[], double[], int): los arrays deben tener al menos n elementos");
+        iniciar(n);
+        for (int i=0; i<n; i++)
+            fijar(i, x1[i], y1[i], x2[i], y2[i]);
+        barrer();
+    }
+
+  /** Obtiene el número de intersecciones encontradas
+    * @return el número de intersecciones
+    */
+    public int numIntersecciones() {
+        return numIntersecciones;
+    }
+
+  /** Obtiene el primero de los segmentos que producen una intersección
+    * @param i índice de la intersección
+    * @return la posición del segmento en el conjunto original
+    * @exception GeomException si el índice no es válido
+    */
+    public int primero(int i) throws GeomException {
+        compruebaIndice(i, "primero (int)");
+        return primeros[i];
+    }
+
+  /** Obtiene el segundo de los segmentos que producen una intersección
+    * @param i índice de la intersección
+    * @return la posición del segmento en el conjunto original, siempre mayor
+    * que la del primero
+    * @exception GeomException si el índice no es válido
+    */
+    public int segundo(int i) throws GeomException {
+        compruebaIndice(i, "segundo (int)");
+        return segundos[i];
+    }
+
+  /** Determina si una intersección se debe a que los dos segmentos son
+    * colineales y se solapan en más de un punto
+    * @param i índice de la intersección
+    * @return un valor booleano indicando si la intersección es un segmento
+    * @exception GeomException si el índice no es válido
+    */
+    public boolean esSolape(int i) throws GeomException {
+        compruebaIndice(i, "esSolape (int)");
+        return puntosX[i] != finesX[i] || puntosY[i] != finesY[i];
+    }
+
+  /** Obtiene la coordenada x de una intersección (del comienzo del solape si
+    * se trata de un segmento)
+    * @param i índice de la intersección
+    * @return la coordenada cartesiana x de la intersección
+    * @exception GeomException si el índice no es válido
+    */
+    public double x(int i) throws GeomException {
+        compruebaIndice(i, "x (int)");
+        return puntosX[i];
+    }
+
+  /** Obtiene la coordenada y de una intersección (del comienzo del solape si
+    * se trata de un segmento)
+    * @param i índice de la intersección
+    * @return la coordenada cartesiana y de la intersección
+    * @exception GeomException si el índice no es válido
+    */
+    public double y(int i) throws GeomException {
+        compruebaIndice(i, "y (int)");
+        return puntosY[i];
+    }
+
+  /** Obtiene la coordenada x del final del solape de una intersección (la del
+    * punto si no se trata de un segmento)
+    * @param i índice de la intersección
+    * @return la coordenada cartesiana x del final de la intersección
+    * @exception GeomException si el índice no es válido
+    */
+    public double xFin(int i) throws GeomException {
+        compruebaIndice(i, "xFin (int)");
+        return finesX[i];
+    }
+
+  /** Obtiene la coordenada y del final del solape de una intersección (la del
+    * punto si no se trata de un segmento)
+    * @param i índice de la intersección
+    * @return la coordenada cartesiana y del final de la intersección
+    * @exception GeomException si el índice no es válido
+    */
+    public double yFin(int i) throws GeomException {
+        compruebaIndice(i, "yFin (int)");
+        return finesY[i];
+    }
+
+  /** Obtiene el punto de una intersección (el comienzo del solape si se trata
+    * de un segmento)
+    * @param i índice de la intersección
+    * @return un nuevo punto con las coordenadas de la intersección
+    * @exception GeomException si el índice no es válido
+    */
+    public Punto2D punto(int i) throws GeomException {
+        compruebaIndice(i, "punto (int)");
+        return new Punto2D(puntosX[i], puntosY[i]);
+    }
+
+  /** Obtiene el objeto geométrico resultante de una intersección: un punto, o
+    * un segmento si los dos segmentos se solapan
+    * @param i índice de la intersección
+    * @return un nuevo Punto2D o Segmento2D con la intersección
+    * @exception GeomException si el índice no es válido
+    * @see Segmento2D#interseccionSegmento(Segmento2D)
+    */
+    public ObjetoGeometrico interseccion(int i) throws GeomException {
+        if (esSolape(i))
+            return new Segmento2D(puntosX[i], puntosY[i], finesX[i], finesY[i]);
+        else
+            return new Punto2D(puntosX[i], puntosY[i]);
+    }
+
+  /** Realiza la conversión del objeto a una cadena de caracteres
+    * @return una cadena con todas las intersecciones
+    */
+    public String toString() {
+        StringBuffer cadena = new StringBuffer(" - Intersecciones2D: (\n");
+        for (int i=0; i<numIntersecciones; i++) {
+            cadena.append("\t (" + primeros[i] + ", " + segundos[i] + "): ");
+            if (puntosX[i] != finesX[i] || puntosY[i] != finesY[i])
+                cadena.append("(x=" + puntosX[i] + ",y=" + puntosY[i] + ") - (x=" +
+                              finesX[i] + ",y=" + finesY[i] + ")\n");
+            else
+                cadena.append("(x=" + puntosX[i] + ",y=" + puntosY[i] + ")\n");
+        }
+        return cadena.append(")").toString();
+    }
+
+  /** Compara dos segmentos en el punto por el que pasa la línea de barrido.
+    * Se usa durante el barrido y no debe llamarse directamente. Los
+    * segmentos que pasan por el punto se ordenan según su dirección a la
+    * derecha de él, quedando los verticales por encima
+    * @param segmento segmento que se desea insertar, o ArbolBarrido.NINGUNO
+    * para buscar el punto
+    * @param otro segmento de la línea de barrido con el que se compara
+    * @return un valor negativo si el segmento (o el punto) queda por debajo del
+    * otro, y positivo en caso contrario
+    * @see ComparadorBarrido#compara(int, int)
+    */
+    public int compara(int segmento, int otro) {
+        if (segmento == ArbolBarrido.NINGUNO)
+            return orientacionPunto(otro) == Mat.ANTIHORARIO ? 1 : -1;
+        if (marcas[otro] == ronda)
+            return comparaDirecciones(segmento, otro);
+        int orientacion = orientacionPunto(otro);
+        if (orientacion == Mat.ANTIHORARIO) return 1;
+        if (orientacion == Mat.HORARIO) return -1;
+        return comparaDirecciones(segmento, otro);
+    }
+
+  /** Reserva el espacio para el barrido de n segmentos
+    */
+    private void iniciar(int numSegmentos) {
+        n = numSegmentos;
+        izqX = new double[n]; izqY = new double[n];
+        derX = new double[n]; derY = new double[n];
+        marcas = new int[n];
+        grupo = new int[n];
+        colaX = new double[capacidadInicial]; colaY = new double[capacidadInicial];
+        colaErrorX = new double[capacidadInicial]; colaErrorY = new double[capacidadInicial];
+        colaA = new int[capacidadInicial]; colaB = new int[capacidadInicial];
+        paresA = new int[capacidadInicial]; paresB = new int[capacidadInicial];
+        conocidos = new long[2*capacidadInicial];
+        arbol = new ArbolBarrido(n);
+        ronda = 0;
+        for (int i=0; i<n; i++)
+            marcas[i] = -1;
+    }
+
+  /** Guarda los extremos de un segmento ordenados de izquierda a derecha
+    */
+    private void fijar(int i, double ax, double ay, double bx, double by) {
+        if (ax < bx || (ax == bx && ay <= by)) {
+            izqX[i] = ax; izqY[i] = ay; derX[i] = bx; derY[i] = by;
+        } else {
+            izqX[i] = bx; izqY[i] = by; derX[i] = ax; derY[i] = ay;
+        }
+    }
+
+  /** Realiza el barrido de Bentley y Ottmann. En cada punto se reúnen los
+    * segmentos que pasan por él, se anotan sus intersecciones y se
+    * reordenan en la línea de barrido: se eliminan todos y se vuelven a
+    * insertar los que continúan a su derecha. Solo se comprueban los pares de
+    * segmentos que pasan a ser vecinos
+    */
+    private void barrer() {
+        double extremosX[] = new double[2*n];
+        double extremosY[] = new double[2*n];
+        for (int i=0; i<n; i++) {
+            extremosX[2*i] = izqX[i]; extremosY[2*i] = izqY[i];
+            extremosX[2*i+1] = derX[i]; extremosY[2*i+1] = derY[i];
+        }
+        int orden[] = Simplicidad2D.ordenLexicografico(extremosX, extremosY, 2*n);
+
+        int k = 0;
+        while (k < 2*n || numCola > 0) {
+            // El siguiente punto es el menor entre el siguiente extremo y el
+            // siguiente punto de corte
+            if (k < 2*n)
+                fijarPunto(extremosX[orden[k]], extremosY[orden[k]], 0, 0,
+                           ArbolBarrido.NINGUNO, ArbolBarrido.NINGUNO);
+            if (numCola > 0 && (k == 2*n || comparaCola(0) < 0))
+                fijarPunto(colaX[0], colaY[0], colaErrorX[0], colaErrorY[0], colaA[0], colaB[0]);
+            ronda++;
+            numGrupo = 0;
+            numParesPunto = 0;
+
+            // Extremos de segmentos en el punto
+            while (k < 2*n && comparaPuntos(extremosX[orden[k]], extremosY[orden[k]], 0, 0,
+                                            ArbolBarrido.NINGUNO, ArbolBarrido.NINGUNO,
+                                            px, py, errorX, errorY, puntoA, puntoB) == 0) {
+                int segmento = orden[k] >> 1;
+                if ((orden[k] & 1) == 0 || arbol.contiene(segmento))
+                    anadirGrupo(segmento);
+                k++;
+            }
+            // Puntos de corte en el punto
+            while (numCola > 0 && comparaCola(0) == 0) {
+                anadirParPunto(colaA[0], colaB[0]);
+                extraer();
+            }
+            // Segmentos de la línea de barrido que pasan por el punto
+            int s = arbol.buscar(ArbolBarrido.NINGUNO, this);
+            while (s != ArbolBarrido.NINGUNO && orientacionPunto(s) == Mat.COLINEAL) {
+                anadirGrupo(s);
+                s = arbol.siguiente(s);
+            }
+
+            anotarGrupo();
+
+            // Reordenamos los segmentos del grupo en la línea de barrido
+            for (int i=0; i<numGrupo; i++)
+                if (arbol.contiene(grupo[i]))
+                    eliminar(grupo[i]);
+            for (int i=0; i<numGrupo; i++)
+                if (comparaPuntos(derX[grupo[i]], derY[grupo[i]], 0, 0,
+                                  ArbolBarrido.NINGUNO, ArbolBarrido.NINGUNO,
+                                  px, py, errorX, errorY, puntoA, puntoB) > 0)
+                    insertar(grupo[i]);
+        }
+
+        // Liberamos el estado del barrido
+        izqX = izqY = derX = derY = null;
+        colaX = colaY = colaErrorX = colaErrorY = null;
+        marcas = grupo = colaA = colaB = paresA = paresB = null;
+        conocidos = null;
+        puntoExacto = null;
+        arbol = null;
+    }
+
+  /** Fija el punto por el que pasa la línea de barrido
+    */
+    private void fijarPunto(double x, double y, double ex, double ey, int a, int b) {
+        px = x; py = y;
+        errorX = ex; errorY = ey;
+        puntoA = a; puntoB = b;
+        puntoExacto = null;
+    }
+
+  /** Anota las intersecciones entre los segmentos que pasan por el punto
+    * actual: los pares que se programaron como punto de corte y cualquier
+    * otro par del grupo que no se conociera. Si dos segmentos colineales se
+    * encuentran por primera vez, el punto actual es el comienzo de su solape
+    * y se anota el solape completo
+    */
+    private void anotarGrupo() {
+        for (int i=0; i<numParesPunto; i++)
+            anotar(paresA[i], paresB[i], px, py, px, py);
+        for (int i=0; i<numGrupo; i++)
+            for (int j=i+1; j<numGrupo; j++) {
+                int a = grupo[i], b = grupo[j];
+                if (!conocido(a, b) && intersectan(a, b)) {
+                    anadirConocido(a, b);
+                    if (colineales(a, b)) {
+                        // El solape va del mayor comienzo al menor final
+                        boolean finA = derX[a] < derX[b] || (derX[a] == derX[b] && derY[a] < derY[b]);
+                        anotar(a, b, px, py, finA ? derX[a] : derX[b], finA ? derY[a] : derY[b]);
+                    } else
+                        anotar(a, b, px, py, px, py);
+                }
+            }
+    }
+
+  /** Inserta un segmento en la línea de barrido y lo compara con sus vecinos
+    */
+    private void insertar(int segmento) {
+        arbol.insertar(segmento, this);
+        comprobar(arbol.anterior(segmento), segmento);
+        comprobar(segmento, arbol.siguiente(segmento));
+    }
+
+  /** Elimina un segmento de la línea de barrido y compara los segmentos que
+    * pasan a ser vecinos
+    */
+    private void eliminar(int segmento) {
+        int anterior = arbol.anterior(segmento);
+        int siguiente = arbol.siguiente(segmento);
+        arbol.eliminar(segmento);
+        comprobar(anterior, siguiente);
+    }
+
+  /** Programa el punto de corte de dos segmentos vecinos, si se cortan en un
+    * único punto a la derecha de la línea de barrido y el par no se conocía.
+    * Los solapes de segmentos colineales se anotan al procesar el comienzo
+    * del solape
+    */
+    private void comprobar(int a, int b) {
+        if (a == ArbolBarrido.NINGUNO || b == ArbolBarrido.NINGUNO)
+            return;
+        if ((marcas[a] == ronda && marcas[b] == ronda) || conocido(a, b) ||
+            !intersectan(a, b) || colineales(a, b))
+            return;
+        puntoCorte(a, b);
+        if (comparaPuntos(corteX, corteY, corteErrorX, corteErrorY, a, b,
+                          px, py, errorX, errorY, puntoA, puntoB) <= 0)
+            return;
+        anadirConocido(a, b);
+        encolar(corteX, corteY, corteErrorX, corteErrorY, a, b);
+    }
+
+  /** Determina de forma exacta si dos segmentos tienen algún punto en común
+    */
+    private boolean intersectan(int a, int b) {
+        return PredicadosExactos2D.intersecta(izqX[a], izqY[a], derX[a], derY[a],
+                                              izqX[b], izqY[b], derX[b], derY[b]);
+    }
+
+  /** Determina si dos segmentos están sobre la misma recta. Un segmento
+    * degenerado (un punto) no es colineal con ningún otro
+    */
+    private boolean colineales(int a, int b) {
+        if (degenerado(a) || degenerado(b)) return false;
+        return orientacion(a, izqX[b], izqY[b]) == Mat.COLINEAL &&
+               orientacion(a, derX[b], derY[b]) == Mat.COLINEAL;
+    }
+
+  /** Determina si los dos extremos de un segmento son el mismo punto
+    */
+    private boolean degenerado(int s) {
+        return izqX[s] == derX[s] && izqY[s] == derY[s];
+    }
+
+  /** Obtiene de forma exacta la posición de un punto respecto a un segmento
+    * orientado de izquierda a derecha
+    */
+    private int orientacion(int s, double x, double y) {
+        return PredicadosExactos2D.orientacion(izqX[s], izqY[s], derX[s], derY[s], x, y);
+    }
+
+  /** Obtiene de forma exacta la posición del punto por el que pasa la línea
+    * de barrido respecto a un segmento orientado de izquierda a derecha. Si el
+    * punto es un punto de corte, solo se recurre a su representación exacta
+    * cuando la cota de error del cálculo en punto flotante no garantiza el
+    * resultado
+    */
+    private int orientacionPunto(int s) {
+        if (errorX == 0 && errorY == 0)
+            return orientacion(s, px, py);
+
+        double dx = derX[s] - izqX[s], dy = derY[s] - izqY[s];
+        double izquierda = dx * (py - izqY[s]), derecha = dy * (px - izqX[s]);
+        double det = izquierda - derecha;
+        double cota = Math.abs(dx) * errorY + Math.abs(dy) * errorX +
+                      8 * PredicadosExactos2D.EPS * (Math.abs(izquierda) + Math.abs(derecha));
+        if (det > cota) return Mat.ANTIHORARIO;
+        if (-det > cota) return Mat.HORARIO;
+
+        // (dx, dy) x ((X, Y) / D - izq), con D positivo
+        if (puntoExacto == null)
+            puntoExacto = expansionPunto(px, py, errorX, errorY, puntoA, puntoB);
+        double expansion[] = PredicadosExactos2D.sumar(
+            PredicadosExactos2D.multiplicar(
+                PredicadosExactos2D.diferencia(derX[s], izqX[s]),
+                PredicadosExactos2D.sumar(puntoExacto[1],
+                    PredicadosExactos2D.negar(PredicadosExactos2D.escalar(puntoExacto[2], izqY[s])))),
+            PredicadosExactos2D.negar(PredicadosExactos2D.multiplicar(
+                PredicadosExactos2D.diferencia(derY[s], izqY[s]),
+                PredicadosExactos2D.sumar(puntoExacto[0],
+                    PredicadosExactos2D.negar(PredicadosExactos2D.escalar(puntoExacto[2], izqX[s]))))));
+        int signo = signo(expansion);
+        if (signo > 0) return Mat.ANTIHORARIO;
+        if (signo < 0) return Mat.HORARIO;
+        return Mat.COLINEAL;
+    }
+
+  /** Compara la dirección a la derecha del punto actual de dos segmentos que
+    * pasan por él. Los verticales quedan por encima, y los que tienen la
+    * misma dirección se ordenan por su posición en el conjunto
+    */
+    private int comparaDirecciones(int a, int b) {
+        boolean verticalA = izqX[a] == derX[a], verticalB = izqX[b] == derX[b];
+        int signo;
+        if (verticalA && verticalB)
+            signo = 0;
+        else if (verticalA)
+            signo = -1;
+        else if (verticalB)
+            signo = 1;
+        else {
+            // Producto vectorial de las direcciones: negativo si a sube más
+            double izquierda = (derX[a] - izqX[a]) * (derY[b] - izqY[b]);
+            double derecha = (derY[a] - izqY[a]) * (derX[b] - izqX[b]);
+            double producto = izquierda - derecha;
+            double cota = 8 * PredicadosExactos2D.EPS * (Math.abs(izquierda) + Math.abs(derecha));
+            if (producto > cota)
+                signo = 1;
+            else if (-producto > cota)
+                signo = -1;
+            else
+                signo = signo(PredicadosExactos2D.sumar(
+                    PredicadosExactos2D.multiplicar(PredicadosExactos2D.diferencia(derX[a], izqX[a]),
+                                                    PredicadosExactos2D.diferencia(derY[b], izqY[b])),
+                    PredicadosExactos2D.negar(
+                    PredicadosExactos2D.multiplicar(PredicadosExactos2D.diferencia(derY[a], izqY[a]),
+                                                    PredicadosExactos2D.diferencia(derX[b], izqX[b])))));
+        }
+
+        if (signo < 0) return 1;
+        if (signo > 0) return -1;
+        return a < b ? -1 : 1;
+    }
+
+  /** Calcula el punto de corte de dos segmentos que intersectan en un único
+    * punto y lo guarda en corteX y corteY, junto con una cota del error de
+    * cada coordenada. Si el punto es un extremo de alguno de ellos se obtiene
+    * exactamente, con error nulo. Si la cota no puede calcularse (segmentos
+    * casi paralelos) el parámetro calculado en coma flotante no tiene ninguna
+    * cifra correcta, por lo que el punto se redondea a partir de su
+    * representación racional exacta. En ese caso el error es infinito, y las
+    * comparaciones en las que intervenga el punto serán siempre exactas
+    */
+    private void puntoCorte(int a, int b) {
+        corteErrorX = corteErrorY = 0;
+        if (orientacion(b, izqX[a], izqY[a]) == Mat.COLINEAL) {
+            corteX = izqX[a]; corteY = izqY[a];
+        } else if (orientacion(b, derX[a], derY[a]) == Mat.COLINEAL) {
+            corteX = derX[a]; corteY = derY[a];
+        } else if (orientacion(a, izqX[b], izqY[b]) == Mat.COLINEAL) {
+            corteX = izqX[b]; corteY = izqY[b];
+        } else if (orientacion(a, derX[b], derY[b]) == Mat.COLINEAL) {
+            corteX = derX[b]; corteY = derY[b];
+        } else {
+            double eps = PredicadosExactos2D.EPS;
+            double dxa = derX[a] - izqX[a], dya = derY[a] - izqY[a];
+            double dxb = derX[b] - izqX[b], dyb = derY[b] - izqY[b];
+            double wx = izqX[b] - izqX[a], wy = izqY[b] - izqY[a];
+            double d = dxa*dyb - dya*dxb;
+            double errorD = 8 * eps * (Math.abs(dxa*dyb) + Math.abs(dya*dxb));
+            double numerador = wx*dyb - wy*dxb;
+            double errorNumerador = 8 * eps * (Math.abs(wx*dyb) + Math.abs(wy*dxb));
+            double t = numerador / d;
+            corteX = izqX[a] + t*dxa;
+            corteY = izqY[a] + t*dya;
+            if (Math.abs(d) > 2 * errorD) {
+                double errorT = (errorNumerador + Math.abs(t) * errorD) / (Math.abs(d) - errorD) +
+                                2 * eps * Math.abs(t);
+                corteErrorX = 2 * (errorT * Math.abs(dxa) + 4 * eps * (Math.abs(izqX[a]) + Math.abs(t*dxa)));
+                corteErrorY = 2 * (errorT * Math.abs(dya) + 4 * eps * (Math.abs(izqY[a]) + Math.abs(t*dya)));
+            } else {
+                corteErrorX = corteErrorY = Double.POSITIVE_INFINITY;
+                double exacto[][] = expansionPunto(corteX, corteY, corteErrorX, corteErrorY, a, b);
+                double divisor = estimar(exacto[2]);
+                corteX = estimar(exacto[0]) / divisor;
+                corteY = estimar(exacto[1]) / divisor;
+            }
+
+            // El punto exacto está en ambos segmentos, así que acotarlo a sus
+            // cajas envolventes no aumenta el error
+            double minimo = Math.max(izqX[a], izqX[b]);
+            double maximo = Math.min(derX[a], derX[b]);
+            if (!(corteX >= minimo)) corteX = minimo;
+            if (corteX > maximo) corteX = maximo;
+            minimo = Math.max(Math.min(izqY[a], derY[a]), Math.min(izqY[b], derY[b]));
+            maximo = Math.min(Math.max(izqY[a], derY[a]), Math.max(izqY[b], derY[b]));
+            if (!(corteY >= minimo)) corteY = minimo;
+            if (corteY > maximo) corteY = maximo;
+        }
+    }
+
+  /** Compara lexicográficamente dos puntos, cada uno dado por sus coordenadas
+    * aproximadas, la cota de error de cada una y el par de segmentos que lo
+    * producen. Un punto con error nulo es exacto. La comparación es exacta:
+    * solo si las cotas de error no permiten decidir se recurre a la
+    * representación racional de los puntos
+    * @return un valor negativo, cero o positivo según el primer punto sea
+    * menor, igual o mayor que el segundo
+    */
+    private int comparaPuntos(double x1, double y1, double ex1, double ey1, int a1, int b1,
+                              double x2, double y2, double ex2, double ey2, int a2, int b2) {
+        if (x1 - x2 > ex1 + ex2) return 1;
+        if (x2 - x1 > ex1 + ex2) return -1;
+        if (ex1 == 0 && ey1 == 0 && ex2 == 0 && ey2 == 0)
+            return y1 < y2 ? -1 : (y1 > y2 ? 1 : 0);
+
+        // X1 / D1 - X2 / D2, con D1 y D2 positivos
+        double p[][] = expansionPunto(x1, y1, ex1, ey1, a1, b1);
+        double q[][] = expansionPunto(x2, y2, ex2, ey2, a2, b2);
+        int signo = signo(PredicadosExactos2D.sumar(
+            PredicadosExactos2D.multiplicar(p[0], q[2]),
+            PredicadosExactos2D.negar(PredicadosExactos2D.multiplicar(q[0], p[2]))));
+        if (signo != 0) return signo;
+        if (y1 - y2 > ey1 + ey2) return 1;
+        if (y2 - y1 > ey1 + ey2) return -1;
+        return signo(PredicadosExactos2D.sumar(
+            PredicadosExactos2D.multiplicar(p[1], q[2]),
+            PredicadosExactos2D.negar(PredicadosExactos2D.multiplicar(q[1], p[2]))));
+    }
+
+  /** Compara un punto de corte del montículo con el punto actual
+    */
+    private int comparaCola(int i) {
+        return comparaPuntos(colaX[i], colaY[i], colaErrorX[i], colaErrorY[i], colaA[i], colaB[i],
+                             px, py, errorX, errorY, puntoA, puntoB);
+    }
+
+  /** Obtiene la representación exacta de un punto como (X / D, Y / D), con D
+    * positivo. Si el punto es exacto, D es 1; en caso contrario se calcula a
+    * partir de los segmentos a y b que lo producen
+    * @return un array con las expansiones de X, Y y D
+    */
+    private double[][] expansionPunto(double x, double y, double ex, double ey, int a, int b) {
+        if (ex == 0 && ey == 0)
+            return new double[][] { { x }, { y }, { 1 } };
+
+        double dxa[] = PredicadosExactos2D.diferencia(derX[a], izqX[a]);
+        double dya[] = PredicadosExactos2D.diferencia(derY[a], izqY[a]);
+        double dxb[] = PredicadosExactos2D.diferencia(derX[b], izqX[b]);
+        double dyb[] = PredicadosExactos2D.diferencia(derY[b], izqY[b]);
+        double wx[] = PredicadosExactos2D.diferencia(izqX[b], izqX[a]);
+        double wy[] = PredicadosExactos2D.diferencia(izqY[b], izqY[a]);
+        double d[] = PredicadosExactos2D.sumar(PredicadosExactos2D.multiplicar(dxa, dyb),
+                         PredicadosExactos2D.negar(PredicadosExactos2D.multiplicar(dya, dxb)));
+        double numerador[] = PredicadosExactos2D.sumar(PredicadosExactos2D.multiplicar(wx, dyb),
+                                 PredicadosExactos2D.negar(PredicadosExactos2D.multiplicar(wy, dxb)));
+        double puntoX[] = PredicadosExactos2D.sumar(PredicadosExactos2D.escalar(d, izqX[a]),
+                                                    PredicadosExactos2D.multiplicar(numerador, dxa));
+        double puntoY[] = PredicadosExactos2D.sumar(PredicadosExactos2D.escalar(d, izqY[a]),
+                                                    PredicadosExactos2D.multiplicar(numerador, dya));
+        if (signo(d) < 0)
+            return new double[][] { PredicadosExactos2D.negar(puntoX),
+                                    PredicadosExactos2D.negar(puntoY),
+                                    PredicadosExactos2D.negar(d) };
+        else
+            return new double[][] { puntoX, puntoY, d };
+    }
+
+  /** Obtiene el signo de una expansión, que es el de su término mayor
+    */
+    private static int signo(double expansion[]) {
+        double mayor = expansion[expansion.length - 1];
+        return mayor > 0 ? 1 : (mayor < 0 ? -1 : 0);
+    }
+
+  /** Aproximación en coma flotante de una expansión, sumando sus términos de
+    * menor a mayor magnitud
+    */
+    private static double estimar(double expansion[]) {
+        double suma = 0;
+        for (int i=0; i<expansion.length; i++)
+            suma += expansion[i];
+        return suma;
+    }
+
+  /** Añade un segmento al grupo de segmentos que pasan por el punto actual
+    */
+    private void anadirGrupo(int s) {
+        if (marcas[s] != ronda) {
+            marcas[s] = ronda;
+            grupo[numGrupo++] = s;
+        }
+    }
+
+  /** Añade un par a los pares programados en el punto actual
+    */
+    private void anadirParPunto(int a, int b) {
+        if (numParesPunto == paresA.length) {
+            paresA = ampliar(paresA, 2*numParesPunto);
+            paresB = ampliar(paresB, 2*numParesPunto);
+        }
+        paresA[numParesPunto] = a;
+        paresB[numParesPunto] = b;
+        numParesPunto++;
+    }
+
+  /** Añade una intersección a los resultados
+    */
+    private void anotar(int a, int b, double x, double y, double finX, double finY) {
+        if (numIntersecciones == primeros.length) {
+            int capacidad = 2*numIntersecciones;
+            primeros = ampliar(primeros, capacidad);
+            segundos = ampliar(segundos, capacidad);
+            puntosX = ampliar(puntosX, capacidad);
+            puntosY = ampliar(puntosY, capacidad);
+            finesX = ampliar(finesX, capacidad);
+            finesY = ampliar(finesY, capacidad);
+        }
+        primeros[numIntersecciones] = Math.min(a, b);
+        segundos[numIntersecciones] = Math.max(a, b);
+        puntosX[numIntersecciones] = x;
+        puntosY[numIntersecciones] = y;
+        finesX[numIntersecciones] = finX;
+        finesY[numIntersecciones] = finY;
+        numIntersecciones++;
+    }
+
+  /** Inserta un punto de corte en el montículo
+    */
+    private void encolar(double x, double y, double ex, double ey, int a, int b) {
+        if (numCola == colaX.length) {
+            colaX = ampliar(colaX, 2*numCola);
+            colaY = ampliar(colaY, 2*numCola);
+            colaErrorX = ampliar(colaErrorX, 2*numCola);
+            colaErrorY = ampliar(colaErrorY, 2*numCola);
+            colaA = ampliar(colaA, 2*numCola);
+            colaB = ampliar(colaB, 2*numCola);
+        }
+        int i = numCola++;
+        while (i > 0) {
+            int padre = (i - 1) / 2;
+            if (comparaPuntos(x, y, ex, ey, a, b, colaX[padre], colaY[padre],
+                              colaErrorX[padre], colaErrorY[padre], colaA[padre], colaB[padre]) >= 0)
+                break;
+            mover(padre, i);
+            i = padre;
+        }
+        colaX[i] = x; colaY[i] = y;
+        colaErrorX[i] = ex; colaErrorY[i] = ey;
+        colaA[i] = a; colaB[i] = b;
+    }
+
+  /** Elimina el menor punto de corte del montículo
+    */
+    private void extraer() {
+        numCola--;
+        double x = colaX[numCola], y = colaY[numCola];
+        double ex = colaErrorX[numCola], ey = colaErrorY[numCola];
+        int a = colaA[numCola], b = colaB[numCola];
+        int i = 0;
+        while (2*i + 1 < numCola) {
+            int hijo = 2*i + 1;
+            if (hijo + 1 < numCola &&
+                comparaPuntos(colaX[hijo+1], colaY[hijo+1], colaErrorX[hijo+1], colaErrorY[hijo+1],
+                              colaA[hijo+1], colaB[hijo+1], colaX[hijo], colaY[hijo],
+                              colaErrorX[hijo], colaErrorY[hijo], colaA[hijo], colaB[hijo]) < 0)
+                hijo++;
+            if (comparaPuntos(colaX[hijo], colaY[hijo], colaErrorX[hijo], colaErrorY[hijo],
+                              colaA[hijo], colaB[hijo], x, y, ex, ey, a, b) >= 0)
+                break;
+            mover(hijo, i);
+            i = hijo;
+        }
+        colaX[i] = x; colaY[i] = y;
+        colaErrorX[i] = ex; colaErrorY[i] = ey;
+        colaA[i] = a; colaB[i] = b;
+    }
+
+  /** Copia una posición del montículo en otra
+    */
+    private void mover(int desde, int hasta) {
+        colaX[hasta] = colaX[desde];
+        colaY[hasta] = colaY[desde];
+        colaErrorX[hasta] = colaErrorX[desde];
+        colaErrorY[hasta] = colaErrorY[desde];
+        colaA[hasta] = colaA[desde];
+        colaB[hasta] = colaB[desde];
+    }
+
+  /** Obtiene la clave de un par de segmentos
+    */
+    private long clave(int a, int b) {
+        return (long) Math.min(a, b) * n + Math.max(a, b) + 1;
+    }
+
+  /** Obtiene la posición inicial de una clave en la tabla hash
+    */
+    private int posicion(long clave) {
+        long mezcla = clave * 0x9E3779B97F4A7C15L;
+        return (int) (mezcla ^ (mezcla >>> 32)) & (conocidos.length - 1);
+    }
+
+  /** Determina si un par de segmentos ya se ha encontrado
+    */
+    private boolean conocido(int a, int b) {
+        long c = clave(a, b);
+        for (int i=posicion(c); conocidos[i] != 0; i = (i + 1) & (conocidos.length - 1))
+            if (conocidos[i] == c) return true;
+        return false;
+    }
+
+  /** Añade un par de segmentos a la tabla de pares encontrados
+    */
+    private void anadirConocido(int a, int b) {
+        if (2*(numConocidos + 1) > conocidos.length) {
+            long anteriores[] = conocidos;
+            conocidos = new long[2*anteriores.length];
+            for (int i=0; i<anteriores.length; i++)
+                if (anteriores[i] != 0)
+                    insertarClave(anteriores[i]);
+        }
+        insertarClave(clave(a, b));
+        numConocidos++;
+    }
+
+  /** Inserta una clave en la tabla hash, que debe tener posiciones libres
+    */
+    private void insertarClave(long c) {
+        int i = posicion(c);
+        while (conocidos[i] != 0)
+            i = (i + 1) & (conocidos.length - 1);
+        conocidos[i] = c;
+    }
+
+  /** Comprueba que el índice de una intersección es válido
+    */
+    private void compruebaIndice(int i, String metodo) throws GeomException {
+        if (i < 0 || i >= numIntersecciones)
+            throw new GeomException(metodo + ": posición no válida");
+    }
+
+  /** Crea una copia de mayor tamaño de un array de enteros
+    */
+    private static int[] ampliar(int array[], int capacidad) {
+        int nuevo[] = new int[Math.max(capacidad, capacidadInicial)];
+        System.arraycopy(array, 0, nuevo, 0, array.length);
+        return nuevo;
+    }
+
+  /** Crea una copia de mayor tamaño de un array de reales
+    */
+    private static double[] ampliar(double array[], int capacidad) {
+        double nuevo[] = new double[Math.max(capacidad, capacidadInicial)];
+        System.arraycopy(array, 0, nuevo, 0, array.length);
+        return nuevo;
+    }
+}
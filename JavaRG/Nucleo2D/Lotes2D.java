@@ -0,0 +1,223 @@
+/*
+ * Lotes2D.java
+ *
+ * Created on 17 de octubre de 2026, 13:50
+ */
+
+package JavaRG.Nucleo2D;
+
+import JavaRG.*;
+
+/** La clase <code>Lotes2D</code> agrupa operaciones que se aplican a lotes de
+ * puntos o de cajas dados por arrays paralelos de coordenadas cartesianas:
+ * orientación respecto a un segmento orientado, distancia al cuadrado a un
+ * punto, pertenencia a una caja y solapamiento de cajas. Los resultados
+ * coinciden con los de los métodos equivalentes de <code>Predicados2D</code>,
+ * <code>Punto2D</code> y <code>Caja2D</code>.
+ * <br>
+ * Cada operación es un bucle sobre arrays de tipos primitivos, sin llamadas a
+ * métodos, sin creación de objetos y sin saltos dependientes de los datos
+ * (las condiciones se combinan con operadores que no cortocircuitan). De esta
+ * forma el compilador de la máquina virtual puede traducir cada bucle a
+ * instrucciones vectoriales que procesan varios puntos a la vez, y en caso
+ * contrario el bucle escalar sigue siendo correcto.
+ * <br>
+ * Los arrays de resultado pueden ser proporcionados por quien llama, de
+ * forma que las consultas repetidas no reservan memoria. Si el array es null o
+ * no tiene espacio suficiente se crea uno nuevo.
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see BufferPuntos2D
+ * @see Predicados2D
+ */
+public class Lotes2D extends Object {
+
+  /** Calcula para cada punto el producto vectorial (b-a)x(p-a), es decir, el
+    * doble del área con signo del triángulo (a, b, p)
+    * @param ax coordenada cartesiana x del origen del segmento
+    * @param ay coordenada cartesiana y del origen del segmento
+    * @param bx coordenada cartesiana x del destino del segmento
+    * @param by coordenada cartesiana y del destino del segmento
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos a procesar
+    * @param resultado array en el que guardar los productos
+    * @return el array con el producto vectorial de cada punto
+    * @see Predicados2D#productoVectorial(double, double, double, double, double, double)
+    */
+    public static double[] productosVectoriales(double ax, double ay, double bx, double by,
+                                                double xs[], double ys[], int n,
+                                                double resultado[]) {
+        if (resultado == null || resultado.length < n)
+            resultado = new double[n];
+        double dx = bx - ax;
+        double dy = by - ay;
+        for (int i=0; i<n; i++)
+            resultado[i] = dx * (ys[i] - ay) - dy * (xs[i] - ax);
+        return resultado;
+    }
+
+  /** Obtiene la posición de cada punto respecto al segmento orientado (a, b).
+    * Un punto es colineal si el valor absoluto del producto vectorial es menor
+    * que epsilon
+    * @param ax coordenada cartesiana x del origen del segmento
+    * @param ay coordenada cartesiana y del origen del segmento
+    * @param bx coordenada cartesiana x del destino del segmento
+    * @param by coordenada cartesiana y del destino del segmento
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos a procesar
+    * @param resultado array en el que guardar las posiciones
+    * @return el array con la posición de cada punto (Mat.IZQUIERDA,
+    * Mat.DERECHA o Mat.COLINEAL)
+    * @see Predicados2D#posicionRelativa(double, double, double, double, double, double)
+    * @see Mat#EPSILON
+    */
+    public static int[] orientaciones(double ax, double ay, double bx, double by,
+                                      double xs[], double ys[], int n, int resultado[]) {
+        if (resultado == null || resultado.length < n)
+            resultado = new int[n];
+        double dx = bx - ax;
+        double dy = by - ay;
+        double epsilon = Mat.EPSILON;
+        for (int i=0; i<n; i++) {
+            double producto = dx * (ys[i] - ay) - dy * (xs[i] - ax);
+            resultado[i] = (producto >= epsilon ? Mat.IZQUIERDA : Mat.COLINEAL)
+                         + (producto <= -epsilon ? Mat.DERECHA : Mat.COLINEAL);
+        }
+        return resultado;
+    }
+
+  /** Calcula la distancia al cuadrado de cada punto a un punto dado
+    * @param px coordenada cartesiana x del punto de referencia
+    * @param py coordenada cartesiana y del punto de referencia
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos a procesar
+    * @param resultado array en el que guardar las distancias al cuadrado
+    * @return el array con la distancia al cuadrado de cada punto
+    * @see Punto2D#distancia(Punto2D)
+    */
+    public static double[] distanciasCuadrado(double px, double py, double xs[], double ys[],
+                                              int n, double resultado[]) {
+        if (resultado == null || resultado.length < n)
+            resultado = new double[n];
+        for (int i=0; i<n; i++) {
+            double dx = xs[i] - px;
+            double dy = ys[i] - py;
+            resultado[i] = dx*dx + dy*dy;
+        }
+        return resultado;
+    }
+
+  /** Obtiene la posición del punto más cercano a un punto dado
+    * @param px coordenada cartesiana x del punto de referencia
+    * @param py coordenada cartesiana y del punto de referencia
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos a procesar
+    * @return la posición del punto más cercano, o -1 si n es cero
+    */
+    public static int masCercano(double px, double py, double xs[], double ys[], int n) {
+        int mejor = -1;
+        double mejorDistancia = Double.POSITIVE_INFINITY;
+        for (int i=0; i<n; i++) {
+            double dx = xs[i] - px;
+            double dy = ys[i] - py;
+            double d = dx*dx + dy*dy;
+            if (d < mejorDistancia) {
+                mejorDistancia = d;
+                mejor = i;
+            }
+        }
+        return mejor;
+    }
+
+  /** Determina para cada punto si está contenido en una caja, bordes incluidos
+    * @param xmin coordenada x mínima de la caja
+    * @param ymin coordenada y mínima de la caja
+    * @param xmax coordenada x máxima de la caja
+    * @param ymax coordenada y máxima de la caja
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos a procesar
+    * @param resultado array en el que guardar los resultados
+    * @return el array indicando para cada punto si está contenido en la caja
+    * @see Caja2D#contienePunto(Punto2D)
+    */
+    public static boolean[] contenidosEnCaja(double xmin, double ymin, double xmax, double ymax,
+                                             double xs[], double ys[], int n,
+                                             boolean resultado[]) {
+        if (resultado == null || resultado.length < n)
+            resultado = new boolean[n];
+        for (int i=0; i<n; i++) {
+            double x = xs[i], y = ys[i];
+            resultado[i] = (x >= xmin) & (x <= xmax) & (y >= ymin) & (y <= ymax);
+        }
+        return resultado;
+    }
+
+  /** Determina para cada punto si está contenido en una caja, bordes incluidos
+    * @param caja caja con la que comparar
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos a procesar
+    * @param resultado array en el que guardar los resultados
+    * @return el array indicando para cada punto si está contenido en la caja
+    * @see Lotes2D#contenidosEnCaja(double, double, double, double, double[], double[], int, boolean[])
+    */
+    public static boolean[] contenidosEnCaja(Caja2D caja, double xs[], double ys[], int n,
+                                             boolean resultado[]) {
+        return contenidosEnCaja(caja.xmin(), caja.ymin(), caja.xmax(), caja.ymax(),
+                                xs, ys, n, resultado);
+    }
+
+  /** Cuenta cuántos puntos están contenidos en una caja, bordes incluidos
+    * @param xmin coordenada x mínima de la caja
+    * @param ymin coordenada y mínima de la caja
+    * @param xmax coordenada x máxima de la caja
+    * @param ymax coordenada y máxima de la caja
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos a procesar
+    * @return el número de puntos contenidos en la caja
+    * @see Caja2D#contienePunto(Punto2D)
+    */
+    public static int cuentaContenidosEnCaja(double xmin, double ymin, double xmax, double ymax,
+                                             double xs[], double ys[], int n) {
+        int cuenta = 0;
+        for (int i=0; i<n; i++) {
+            double x = xs[i], y = ys[i];
+            cuenta += ((x >= xmin) & (x <= xmax) & (y >= ymin) & (y <= ymax)) ? 1 : 0;
+        }
+        return cuenta;
+    }
+
+  /** Determina para cada caja de un lote si se solapa con una caja dada. Dos
+    * cajas que solo comparten parte de su borde también se consideran solapadas
+    * @param xmin coordenada x mínima de la caja de referencia
+    * @param ymin coordenada y mínima de la caja de referencia
+    * @param xmax coordenada x máxima de la caja de referencia
+    * @param ymax coordenada y máxima de la caja de referencia
+    * @param xsmin coordenadas x mínimas de las cajas del lote
+    * @param ysmin coordenadas y mínimas de las cajas del lote
+    * @param xsmax coordenadas x máximas de las cajas del lote
+    * @param ysmax coordenadas y máximas de las cajas del lote
+    * @param n número de cajas a procesar
+    * @param resultado array en el que guardar los resultados
+    * @return el array indicando para cada caja si se solapa con la de referencia
+    * @see Caja2D#intersectaCaja(Caja2D)
+    */
+    public static boolean[] intersectanCaja(double xmin, double ymin, double xmax, double ymax,
+                                            double xsmin[], double ysmin[],
+                                            double xsmax[], double ysmax[], int n,
+                                            boolean resultado[]) {
+        if (resultado == null || resultado.length < n)
+            resultado = new boolean[n];
+        for (int i=0; i<n; i++)
+            resultado[i] = (xsmin[i] <= xmax) & (xmin <= xsmax[i]) &
+                           (ysmin[i] <= ymax) & (ymin <= ysmax[i]);
+        return resultado;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Predicados2D.java
+ *
+ * Created on 17 de octubre de 2026, 10:12
+ */
+
+package JavaRG.Nucleo2D;
+
+import JavaRG.*;
+
+/** La clase <code>Predicados2D</code> agrupa los predicados geométricos
+ * básicos (orientación de tres puntos, posición de un punto respecto a un
+ * segmento orientado, pertenencia a un segmento e intersección de segmentos)
+ * expresados directamente sobre coordenadas cartesianas. Ninguno de ellos crea
+ * objetos ni lanza excepciones, por lo que pueden ser usados en los bucles
+ * internos del resto de objetos geométricos. Los resultados coinciden con los
+ * obtenidos a partir de <code>Triangulo2D</code> y <code>Punto2D</code>, usando
+ * el mismo valor de epsilon
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see Mat#EPSILON
+ * @see PredicadosExactos2D
+ */
+public class Predicados2D extends Object {
+
+  /** Epsilon al cuadrado, para comparar distancias sin calcular la raíz
+    * cuadrada
+    */
+    private static final double EPSILON2 = Mat.EPSILON * Mat.EPSILON;
+
+  /** Calcula el producto vectorial de los vectores (b-a) y (c-a), es decir, el
+    * doble del área con signo del triángulo (a, b, c). Es el mismo valor que
+    * devuelve <code>Triangulo2D.area()</code>
+    * @param ax coordenada cartesiana x del primer punto
+    * @param ay coordenada cartesiana y del primer punto
+    * @param bx coordenada cartesiana x del segundo punto
+    * @param by coordenada cartesiana y del segundo punto
+    * @param cx coordenada cartesiana x del tercer punto
+    * @param cy coordenada cartesiana y del tercer punto
+    * @return el producto vectorial (b-a)x(c-a)
+    * @see Triangulo2D#area()
+    */
+    public static double productoVectorial(double ax, double ay, double bx, double by,
+                                           double cx, double cy) {
+        return (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+    }
+
+  /** Obtiene la orientación de tres puntos. Si el valor absoluto del producto
+    * vectorial es menor que epsilon los puntos se consideran colineales
+    * @param ax coordenada cartesiana x del primer punto
+    * @param ay coordenada cartesiana y del primer punto
+    * @param bx coordenada cartesiana x del segundo punto
+    * @param by coordenada cartesiana y del segundo punto
+    * @param cx coordenada cartesiana x del tercer punto
+    * @param cy coordenada cartesiana y del tercer punto
+    * @return una constante indicando la orientación (Mat.ANTIHORARIO,
+    * Mat.HORARIO o Mat.COLINEAL)
+    * @see Predicados2D#productoVectorial(double, double, double, double, double, double)
+    * @see Triangulo2D#sentido()
+    * @see Mat#EPSILON
+    */
+    public static int orientacion(double ax, double ay, double bx, double by,
+                                  double cx, double cy) {
+        double producto = productoVectorial(ax, ay, bx, by, cx, cy);
+
+        if (Mat.absoluto(producto) < Mat.EPSILON) return Mat.COLINEAL;
+        else if (producto > 0) return Mat.ANTIHORARIO;
+        else return Mat.HORARIO;
+    }
+
+  /** Posición de un punto respecto al segmento orientado (a, b). Es la
+    * orientación del triángulo (a, b, p)
+    * @param px coordenada cartesiana x del punto
+    * @param py coordenada cartesiana y del punto
+    * @param ax coordenada cartesiana x del origen del segmento
+    * @param ay coordenada cartesiana y del origen del segmento
+    * @param bx coordenada cartesiana x del destino del segmento
+    * @param by coordenada cartesiana y del destino del segmento
+    * @return una constante indicando la posición (Mat.IZQUIERDA, Mat.DERECHA
+    * o Mat.COLINEAL)
+    * @see Punto2D#posicionRelativa(Punto2D, Punto2D)
+    */
+    public static int posicionRelativa(double px, double py, double ax, double ay,
+                                       double bx, double by) {
+        return orientacion(ax, ay, bx, by, px, py);
+    }
+
+  /** Determina si dos puntos son iguales, es decir, si la distancia entre ambos
+    * no es mayor que epsilon. La comparación se hace con la distancia al
+    * cuadrado para evitar la raíz cuadrada
+    * @param ax coordenada cartesiana x del primer punto
+    * @param ay coordenada cartesiana y del primer punto
+    * @param bx coordenada cartesiana x del segundo punto
+    * @param by coordenada cartesiana y del segundo punto
+    * @return un valor booleano indicando si ambos puntos son iguales
+    * @see Punto2D#equals(ObjetoGeometrico)
+    */
+    public static boolean iguales(double ax, double ay, double bx, double by) {
+        return Mat.cuadrado(ax - bx) + Mat.cuadrado(ay - by) <= EPSILON2;
+    }
+
+  /** Determina si las coordenadas de un punto se encuentran entre las de dos
+    * extremos, suponiendo que los tres puntos son colineales
+    * @param px coordenada cartesiana x del punto
+    * @param py coordenada cartesiana y del punto
+    * @param ax coordenada cartesiana x del primer extremo
+    * @param ay coordenada cartesiana y del primer extremo
+    * @param bx coordenada cartesiana x del segundo extremo
+    * @param by coordenada cartesiana y del segundo extremo
+    * @return un valor booleano indicando si el punto queda entre ambos extremos
+    */
+    public static boolean entreColineales(double px, double py, double ax, double ay,
+                                          double bx, double by) {
+        return px >= Math.min(ax, bx) && px <= Math.max(ax, bx) &&
+               py >= Math.min(ay, by) && py <= Math.max(ay, by);
+    }
+
+  /** Determina si un punto está contenido en el segmento (a, b): o bien es
+    * igual a alguno de los extremos, o bien es colineal con ellos y se
+    * encuentra entre ambos, es decir, su proyección sobre la recta del
+    * segmento cae entre los extremos con un margen de epsilon. No se usa la
+    * caja del segmento porque un punto colineal con un segmento corto y casi
+    * horizontal (o vertical) puede quedar fuera de ella
+    * @param px coordenada cartesiana x del punto
+    * @param py coordenada cartesiana y del punto
+    * @param ax coordenada cartesiana x del origen del segmento
+    * @param ay coordenada cartesiana y del origen del segmento
+    * @param bx coordenada cartesiana x del destino del segmento
+    * @param by coordenada cartesiana y del destino del segmento
+    * @return un valor booleano indicando si el punto está contenido en el
+    * segmento
+    * @see Segmento2D#contienePunto(Punto2D)
+    */
+    public static boolean contenidoEnSegmento(double px, double py, double ax, double ay,
+                                              double bx, double by) {
+        if (iguales(px, py, ax, ay) || iguales(px, py, bx, by))
+            return true;
+        if (orientacion(ax, ay, bx, by, px, py) != Mat.COLINEAL)
+            return false;
+        double dx = bx - ax, dy = by - ay, longitud2 = dx*dx + dy*dy;
+        double proyeccion = (px - ax) * dx + (py - ay) * dy;
+        double margen = Mat.EPSILON * Math.sqrt(longitud2);
+        return proyeccion >= -margen && proyeccion <= longitud2 + margen;
+    }
+
+  /** Comprueba la intersección propia entre los segmentos (a, b) y (c, d). No
+    * hay intersección propia si comparten algún extremo. En caso contrario la
+    * hay si ambos segmentos son colineales y se solapan, o si los extremos de
+    * cada uno quedan a lados distintos del otro
+    * @param ax coordenada cartesiana x del origen del primer segmento
+    * @param ay coordenada cartesiana y del origen del primer segmento
+    * @param bx coordenada cartesiana x del destino del primer segmento
+    * @param by coordenada cartesiana y del destino del primer segmento
+    * @param cx coordenada cartesiana x del origen del segundo segmento
+    * @param cy coordenada cartesiana y del origen del segundo segmento
+    * @param dx coordenada cartesiana x del destino del segundo segmento
+    * @param dy coordenada cartesiana y del destino del segundo segmento
+    * @return un valor booleano indicando si los segmentos intersectan de forma
+    * propia
+    * @see Segmento2D#intersectaPropSegmento(Segmento2D)
+    */
+    public static boolean intersectaPropiamente(double ax, double ay, double bx, double by,
+                                                double cx, double cy, double dx, double dy) {
+        if (iguales(ax, ay, cx, cy) || iguales(ax, ay, dx, dy) ||
+            iguales(bx, by, dx, dy) || iguales(bx, by, cx, cy))
+            return false;
+
+        int o1 = orientacion(cx, cy, dx, dy, ax, ay);
+        int o2 = orientacion(cx, cy, dx, dy, bx, by);
+
+        // Intersección en más de un punto
+        if (o1 == Mat.COLINEAL && o2 == Mat.COLINEAL)
+            return contenidoEnSegmento(cx, cy, ax, ay, bx, by) ||
+                   contenidoEnSegmento(dx, dy, ax, ay, bx, by);
+
+        // Intersección en un único punto: cada segmento separa los extremos
+        // del otro
+        if (o1 * o2 >= 0)
+            return false;
+        int o3 = orientacion(ax, ay, bx, by, cx, cy);
+        int o4 = orientacion(ax, ay, bx, by, dx, dy);
+        return o3 * o4 < 0;
+    }
+
+  /** Comprueba si existe intersección entre los segmentos (a, b) y (c, d),
+    * propia o debida a que comparten algún extremo
+    * @param ax coordenada cartesiana x del origen del primer segmento
+    * @param ay coordenada cartesiana y del origen del primer segmento
+    * @param bx coordenada cartesiana x del destino del primer segmento
+    * @param by coordenada cartesiana y del destino del primer segmento
+    * @param cx coordenada cartesiana x del origen del segundo segmento
+    * @param cy coordenada cartesiana y del origen del segundo segmento
+    * @param dx coordenada cartesiana x del destino del segundo segmento
+    * @param dy coordenada cartesiana y del destino del segundo segmento
+    * @return un valor booleano indicando si los segmentos intersectan
+    * @see Segmento2D#intersectaSegmento(Segmento2D)
+    */
+    public static boolean intersecta(double ax, double ay, double bx, double by,
+                                     double cx, double cy, double dx, double dy) {
+        return intersectaPropiamente(ax, ay, bx, by, cx, cy, dx, dy) ||
+               iguales(ax, ay, cx, cy) || iguales(ax, ay, dx, dy) ||
+               iguales(bx, by, dx, dy) || iguales(bx, by, cx, cy);
+    }
+}
@@ -0,0 +1,465 @@
+/*
+ * PredicadosExactos2D.java
+ *
+ * Created on 17 de octubre de 2026, 11:40
+ */
+
+package JavaRG.Nucleo2D;
+
+import JavaRG.*;
+
+/** La clase <code>PredicadosExactos2D</code> implementa los predicados de
+ * orientación y de círculo (<i>incircle</i>) de forma exacta, sin usar
+ * epsilon. Se sigue el esquema de precisión adaptativa de Shewchuk: primero
+ * se evalúa el determinante en punto flotante junto con una cota de su error,
+ * y solo si el signo no queda garantizado por dicha cota se recurre a la
+ * aritmética de expansiones (sumas de números en punto flotante que no se
+ * solapan), que representa el resultado sin pérdida de precisión. En la
+ * inmensa mayoría de los casos el coste es el de la evaluación en punto
+ * flotante.
+ * <br>
+ * A diferencia de <code>Predicados2D</code>, el resultado no depende de la
+ * escala de las coordenadas: tres puntos son colineales solo si lo son
+ * exactamente.
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see Predicados2D
+ */
+public class PredicadosExactos2D extends Object {
+
+  /** Épsilon de la máquina para la aritmética de doble precisión (2^-53) */
+    static final double EPS = 1.1102230246251565e-16;
+  /** Constante para dividir un número en dos mitades de 26 bits (2^27 + 1) */
+    private static final double DIVISOR = 134217729.0;
+
+  /** Cotas de error de los distintos niveles de evaluación */
+    private static final double ERROR_RESULTADO = (3.0 + 8.0 * EPS) * EPS;
+    private static final double ERROR_ORIENTACION_A = (3.0 + 16.0 * EPS) * EPS;
+    private static final double ERROR_ORIENTACION_B = (2.0 + 12.0 * EPS) * EPS;
+    private static final double ERROR_ORIENTACION_C = (9.0 + 64.0 * EPS) * EPS * EPS;
+    private static final double ERROR_CIRCULO_A = (10.0 + 96.0 * EPS) * EPS;
+    private static final double ERROR_RECTAS = 16.0 * EPS;
+
+  /** Calcula un valor cuyo signo es el de la orientación de los puntos a, b y
+    * c: positivo si están en sentido antihorario, negativo si están en sentido
+    * horario y cero si son colineales. El signo es siempre exacto; el valor es
+    * una aproximación del doble del área con signo del triángulo
+    * @param ax coordenada cartesiana x del primer punto
+    * @param ay coordenada cartesiana y del primer punto
+    * @param bx coordenada cartesiana x del segundo punto
+    * @param by coordenada cartesiana y del segundo punto
+    * @param cx coordenada cartesiana x del tercer punto
+    * @param cy coordenada cartesiana y del tercer punto
+    * @return un valor con el signo exacto de la orientación
+    */
+    public static double determinanteOrientacion(double ax, double ay, double bx, double by,
+                                                 double cx, double cy) {
+        double izquierda = (ax - cx) * (by - cy);
+        double derecha = (ay - cy) * (bx - cx);
+        double det = izquierda - derecha;
+        double suma;
+
+        if (izquierda > 0.0) {
+            if (derecha <= 0.0) return det;
+            else suma = izquierda + derecha;
+        }
+        else if (izquierda < 0.0) {
+            if (derecha >= 0.0) return det;
+            else suma = -izquierda - derecha;
+        }
+        else return det;
+
+        double cota = ERROR_ORIENTACION_A * suma;
+        if (det >= cota || -det >= cota) return det;
+
+        return orientacionAdaptativa(ax, ay, bx, by, cx, cy, suma);
+    }
+
+  /** Obtiene de forma exacta la orientación de tres puntos
+    * @param ax coordenada cartesiana x del primer punto
+    * @param ay coordenada cartesiana y del primer punto
+    * @param bx coordenada cartesiana x del segundo punto
+    * @param by coordenada cartesiana y del segundo punto
+    * @param cx coordenada cartesiana x del tercer punto
+    * @param cy coordenada cartesiana y del tercer punto
+    * @return una constante indicando la orientación (Mat.ANTIHORARIO,
+    * Mat.HORARIO o Mat.COLINEAL)
+    * @see PredicadosExactos2D#determinanteOrientacion(double, double, double, double, double, double)
+    */
+    public static int orientacion(double ax, double ay, double bx, double by,
+                                  double cx, double cy) {
+        double det = determinanteOrientacion(ax, ay, bx, by, cx, cy);
+
+        if (det > 0) return Mat.ANTIHORARIO;
+        else if (det < 0) return Mat.HORARIO;
+        else return Mat.COLINEAL;
+    }
+
+  /** Calcula un valor cuyo signo indica la posición del punto d respecto al
+    * círculo que pasa por a, b y c. Si a, b y c están en sentido antihorario el
+    * valor es positivo cuando d está dentro del círculo, negativo cuando está
+    * fuera y cero cuando está sobre la circunferencia; si están en sentido
+    * horario el signo se invierte. El signo es siempre exacto
+    * @param ax coordenada cartesiana x del primer punto del círculo
+    * @param ay coordenada cartesiana y del primer punto del círculo
+    * @param bx coordenada cartesiana x del segundo punto del círculo
+    * @param by coordenada cartesiana y del segundo punto del círculo
+    * @param cx coordenada cartesiana x del tercer punto del círculo
+    * @param cy coordenada cartesiana y del tercer punto del círculo
+    * @param dx coordenada cartesiana x del punto a comprobar
+    * @param dy coordenada cartesiana y del punto a comprobar
+    * @return un valor con el signo exacto del determinante del círculo
+    */
+    public static double determinanteCirculo(double ax, double ay, double bx, double by,
+                                             double cx, double cy, double dx, double dy) {
+        double adx = ax - dx, bdx = bx - dx, cdx = cx - dx;
+        double ady = ay - dy, bdy = by - dy, cdy = cy - dy;
+
+        double bdxcdy = bdx * cdy, cdxbdy = cdx * bdy;
+        double alift = adx * adx + ady * ady;
+        double cdxady = cdx * ady, adxcdy = adx * cdy;
+        double blift = bdx * bdx + bdy * bdy;
+        double adxbdy = adx * bdy, bdxady = bdx * ady;
+        double clift = cdx * cdx + cdy * cdy;
+
+        double det = alift * (bdxcdy - cdxbdy)
+                   + blift * (cdxady - adxcdy)
+                   + clift * (adxbdy - bdxady);
+        double permanente = (Math.abs(bdxcdy) + Math.abs(cdxbdy)) * alift
+                          + (Math.abs(cdxady) + Math.abs(adxcdy)) * blift
+                          + (Math.abs(adxbdy) + Math.abs(bdxady)) * clift;
+        double cota = ERROR_CIRCULO_A * permanente;
+        if (det > cota || -det > cota) return det;
+
+        return circuloExacto(ax, ay, bx, by, cx, cy, dx, dy);
+    }
+
+  /** Obtiene de forma exacta la posición del punto d respecto al círculo
+    * orientado que pasa por a, b y c (en ese orden). La parte positiva es la
+    * que queda a la izquierda de la circunferencia, como en
+    * <code>Circulo2D</code>: el interior si el círculo es antihorario y el
+    * exterior si es horario
+    * @param ax coordenada cartesiana x del primer punto del círculo
+    * @param ay coordenada cartesiana y del primer punto del círculo
+    * @param bx coordenada cartesiana x del segundo punto del círculo
+    * @param by coordenada cartesiana y del segundo punto del círculo
+    * @param cx coordenada cartesiana x del tercer punto del círculo
+    * @param cy coordenada cartesiana y del tercer punto del círculo
+    * @param dx coordenada cartesiana x del punto a comprobar
+    * @param dy coordenada cartesiana y del punto a comprobar
+    * @return una constante indicando la posición (Mat.POSITIVA, Mat.NEGATIVA
+    * o Mat.CONTENIDO)
+    * @see PredicadosExactos2D#determinanteCirculo(double, double, double, double, double, double, double, double)
+    * @see Circulo2D#posicionRelativa(Punto2D)
+    */
+    public static int posicionCirculo(double ax, double ay, double bx, double by,
+                                      double cx, double cy, double dx, double dy) {
+        double det = determinanteCirculo(ax, ay, bx, by, cx, cy, dx, dy);
+
+        if (det > 0) return Mat.POSITIVA;
+        else if (det < 0) return Mat.NEGATIVA;
+        else return Mat.CONTENIDO;
+    }
+
+  /** Determina de forma exacta si un punto está contenido en el segmento
+    * (a, b), extremos incluidos
+    * @param px coordenada cartesiana x del punto
+    * @param py coordenada cartesiana y del punto
+    * @param ax coordenada cartesiana x del origen del segmento
+    * @param ay coordenada cartesiana y del origen del segmento
+    * @param bx coordenada cartesiana x del destino del segmento
+    * @param by coordenada cartesiana y del destino del segmento
+    * @return un valor booleano indicando si el punto está en el segmento
+    * @see Predicados2D#entreColineales(double, double, double, double, double, double)
+    */
+    public static boolean contenidoEnSegmento(double px, double py, double ax, double ay,
+                                              double bx, double by) {
+        return orientacion(ax, ay, bx, by, px, py) == Mat.COLINEAL &&
+               Predicados2D.entreColineales(px, py, ax, ay, bx, by);
+    }
+
+  /** Comprueba de forma exacta si los segmentos cerrados (a, b) y (c, d)
+    * tienen algún punto en común
+    * @param ax coordenada cartesiana x del origen del primer segmento
+    * @param ay coordenada cartesiana y del origen del primer segmento
+    * @param bx coordenada cartesiana x del destino del primer segmento
+    * @param by coordenada cartesiana y del destino del primer segmento
+    * @param cx coordenada cartesiana x del origen del segundo segmento
+    * @param cy coordenada cartesiana y del origen del segundo segmento
+    * @param dx coordenada cartesiana x del destino del segundo segmento
+    * @param dy coordenada cartesiana y del destino del segundo segmento
+    * @return un valor booleano indicando si los segmentos intersectan
+    */
+    public static boolean intersecta(double ax, double ay, double bx, double by,
+                                     double cx, double cy, double dx, double dy) {
+        int o1 = orientacion(ax, ay, bx, by, cx, cy);
+        int o2 = orientacion(ax, ay, bx, by, dx, dy);
+        if (o1 != Mat.COLINEAL && o1 == o2) return false;
+        int o3 = orientacion(cx, cy, dx, dy, ax, ay);
+        int o4 = orientacion(cx, cy, dx, dy, bx, by);
+        if (o3 != Mat.COLINEAL && o3 == o4) return false;
+
+        if (o1 != Mat.COLINEAL || o2 != Mat.COLINEAL)
+            return true;
+        // Segmentos colineales: se solapan si alguno contiene un extremo del otro
+        return Predicados2D.entreColineales(cx, cy, ax, ay, bx, by) ||
+               Predicados2D.entreColineales(dx, dy, ax, ay, bx, by) ||
+               Predicados2D.entreColineales(ax, ay, cx, cy, dx, dy);
+    }
+
+  /** Comprueba de forma exacta si los segmentos (a, b) y (c, d) se cruzan en
+    * un único punto interior a ambos
+    * @param ax coordenada cartesiana x del origen del primer segmento
+    * @param ay coordenada cartesiana y del origen del primer segmento
+    * @param bx coordenada cartesiana x del destino del primer segmento
+    * @param by coordenada cartesiana y del destino del primer segmento
+    * @param cx coordenada cartesiana x del origen del segundo segmento
+    * @param cy coordenada cartesiana y del origen del segundo segmento
+    * @param dx coordenada cartesiana x del destino del segundo segmento
+    * @param dy coordenada cartesiana y del destino del segundo segmento
+    * @return un valor booleano indicando si los segmentos se cruzan
+    */
+    public static boolean seCruzan(double ax, double ay, double bx, double by,
+                                   double cx, double cy, double dx, double dy) {
+        return orientacion(ax, ay, bx, by, cx, cy) * orientacion(ax, ay, bx, by, dx, dy) < 0 &&
+               orientacion(cx, cy, dx, dy, ax, ay) * orientacion(cx, cy, dx, dy, bx, by) < 0;
+    }
+
+  /** Compara de forma exacta la altura de las rectas ab y cd en la vertical
+    * de abscisa x. Ninguna de las dos rectas puede ser vertical: deben
+    * cumplirse ax &lt; bx y cx &lt; dx
+    * @param ax coordenada cartesiana x del primer punto de la primera recta
+    * @param ay coordenada cartesiana y del primer punto de la primera recta
+    * @param bx coordenada cartesiana x del segundo punto de la primera recta
+    * @param by coordenada cartesiana y del segundo punto de la primera recta
+    * @param cx coordenada cartesiana x del primer punto de la segunda recta
+    * @param cy coordenada cartesiana y del primer punto de la segunda recta
+    * @param dx coordenada cartesiana x del segundo punto de la segunda recta
+    * @param dy coordenada cartesiana y del segundo punto de la segunda recta
+    * @param x abscisa de la vertical en la que se comparan
+    * @return 1 si en la vertical la recta ab está por encima de la recta cd,
+    * -1 si está por debajo y 0 si ambas se cortan en ella
+    */
+    public static int comparaRectas(double ax, double ay, double bx, double by,
+                                    double cx, double cy, double dx, double dy, double x) {
+        // Con las abscisas relativas a x, la altura de la recta ab en la
+        // vertical es -(ax' * by - ay * bx') / (bx - ax)
+        double axx = ax - x, bxx = bx - x, cxx = cx - x, dxx = dx - x;
+        double ab = axx * by - ay * bxx, cd = cxx * dy - cy * dxx;
+        double det = cd * (bx - ax) - ab * (dx - cx);
+        double cota = ERROR_RECTAS * ((Math.abs(cxx * dy) + Math.abs(cy * dxx)) * Math.abs(bx - ax) +
+                                      (Math.abs(axx * by) + Math.abs(ay * bxx)) * Math.abs(dx - cx));
+        if (det > cota) return 1;
+        if (-det > cota) return -1;
+
+        double[] exactoAb = sumar(multiplicar(diferencia(ax, x), new double[] { by }),
+                                  negar(multiplicar(new double[] { ay }, diferencia(bx, x))));
+        double[] exactoCd = sumar(multiplicar(diferencia(cx, x), new double[] { dy }),
+                                  negar(multiplicar(new double[] { cy }, diferencia(dx, x))));
+        double[] d = sumar(multiplicar(exactoCd, diferencia(bx, ax)),
+                           negar(multiplicar(exactoAb, diferencia(dx, cx))));
+        double signo = d[d.length - 1];
+        if (signo > 0) return 1;
+        else if (signo < 0) return -1;
+        else return 0;
+    }
+
+  /** Evaluación adaptativa de la orientación, usada cuando la evaluación en
+    * punto flotante no garantiza el signo
+    */
+    private static double orientacionAdaptativa(double ax, double ay, double bx, double by,
+                                                double cx, double cy, double suma) {
+        double acx = ax - cx, bcx = bx - cx;
+        double acy = ay - cy, bcy = by - cy;
+
+        double izquierda = acx * bcy;
+        double colaIzquierda = colaProducto(acx, bcy, izquierda);
+        double derecha = acy * bcx;
+        double colaDerecha = colaProducto(acy, bcx, derecha);
+        double[] b = new double[4];
+        restaDosDos(izquierda, colaIzquierda, derecha, colaDerecha, b);
+
+        double det = b[0] + b[1] + b[2] + b[3];
+        double cota = ERROR_ORIENTACION_B * suma;
+        if (det >= cota || -det >= cota) return det;
+
+        double acxCola = colaResta(ax, cx, acx);
+        double bcxCola = colaResta(bx, cx, bcx);
+        double acyCola = colaResta(ay, cy, acy);
+        double bcyCola = colaResta(by, cy, bcy);
+
+        if (acxCola == 0.0 && acyCola == 0.0 && bcxCola == 0.0 && bcyCola == 0.0)
+            return det;
+
+        cota = ERROR_ORIENTACION_C * suma + ERROR_RESULTADO * Math.abs(det);
+        det += (acx * bcyCola + bcy * acxCola) - (acy * bcxCola + bcx * acyCola);
+        if (det >= cota || -det >= cota) return det;
+
+        double[] u = new double[4];
+        double s1 = acxCola * bcy, t1 = acyCola * bcx;
+        restaDosDos(s1, colaProducto(acxCola, bcy, s1), t1, colaProducto(acyCola, bcx, t1), u);
+        double[] c1 = sumar(b, u);
+
+        s1 = acx * bcyCola; t1 = acy * bcxCola;
+        restaDosDos(s1, colaProducto(acx, bcyCola, s1), t1, colaProducto(acy, bcxCola, t1), u);
+        double[] c2 = sumar(c1, u);
+
+        s1 = acxCola * bcyCola; t1 = acyCola * bcxCola;
+        restaDosDos(s1, colaProducto(acxCola, bcyCola, s1), t1, colaProducto(acyCola, bcxCola, t1), u);
+        double[] d = sumar(c2, u);
+
+        return d[d.length - 1];
+    }
+
+  /** Evaluación exacta del determinante del círculo mediante expansiones.
+    * Las diferencias de coordenadas se representan sin error como expansiones
+    * de dos términos, y el resto de operaciones son sumas y productos exactos
+    */
+    private static double circuloExacto(double ax, double ay, double bx, double by,
+                                        double cx, double cy, double dx, double dy) {
+        double[] adx = diferencia(ax, dx), ady = diferencia(ay, dy);
+        double[] bdx = diferencia(bx, dx), bdy = diferencia(by, dy);
+        double[] cdx = diferencia(cx, dx), cdy = diferencia(cy, dy);
+
+        double[] bc = sumar(multiplicar(bdx, cdy), negar(multiplicar(cdx, bdy)));
+        double[] ca = sumar(multiplicar(cdx, ady), negar(multiplicar(adx, cdy)));
+        double[] ab = sumar(multiplicar(adx, bdy), negar(multiplicar(bdx, ady)));
+
+        double[] alift = sumar(multiplicar(adx, adx), multiplicar(ady, ady));
+        double[] blift = sumar(multiplicar(bdx, bdx), multiplicar(bdy, bdy));
+        double[] clift = sumar(multiplicar(cdx, cdx), multiplicar(cdy, cdy));
+
+        double[] det = sumar(sumar(multiplicar(alift, bc), multiplicar(blift, ca)),
+                             multiplicar(clift, ab));
+
+        return det[det.length - 1];
+    }
+
+  /** Error de redondeo de la suma x = a + b */
+    private static double colaSuma(double a, double b, double x) {
+        double bVirtual = x - a;
+        double aVirtual = x - bVirtual;
+        return (a - aVirtual) + (b - bVirtual);
+    }
+
+  /** Error de redondeo de la resta x = a - b */
+    private static double colaResta(double a, double b, double x) {
+        double bVirtual = a - x;
+        double aVirtual = x + bVirtual;
+        return (a - aVirtual) + (bVirtual - b);
+    }
+
+  /** Error de redondeo del producto x = a * b, usando la división de Dekker
+    * de cada factor en dos mitades
+    */
+    private static double colaProducto(double a, double b, double x) {
+        double c = DIVISOR * a;
+        double aAlto = c - (c - a);
+        double aBajo = a - aAlto;
+        c = DIVISOR * b;
+        double bAlto = c - (c - b);
+        double bBajo = b - bAlto;
+        double error = x - aAlto * bAlto;
+        error -= aBajo * bAlto;
+        error -= aAlto * bBajo;
+        return aBajo * bBajo - error;
+    }
+
+  /** Resta exacta de dos expansiones de dos términos (a1 + a0) - (b1 + b0).
+    * El resultado se deja en x, de menor a mayor magnitud
+    */
+    private static void restaDosDos(double a1, double a0, double b1, double b0, double[] x) {
+        double i = a0 - b0;
+        x[0] = colaResta(a0, b0, i);
+        double j = a1 + i;
+        double z = colaSuma(a1, i, j);
+        i = z - b1;
+        x[1] = colaResta(z, b1, i);
+        x[3] = j + i;
+        x[2] = colaSuma(j, i, x[3]);
+    }
+
+    // Las operaciones con expansiones que siguen son accesibles desde el
+    // paquete, para los predicados exactos de otras clases de Nucleo2D
+
+  /** Expansión exacta de la diferencia a - b */
+    static double[] diferencia(double a, double b) {
+        double x = a - b;
+        double y = colaResta(a, b, x);
+        if (y == 0.0) return new double[] { x };
+        else return new double[] { y, x };
+    }
+
+  /** Suma exacta de dos expansiones, eliminando los términos nulos. Se añade
+    * cada término de f a la expansión e, por lo que basta con que ambas sean
+    * expansiones sin solapamiento
+    */
+    static double[] sumar(double[] e, double[] f) {
+        double[] h = new double[e.length + f.length];
+        int longitud = e.length;
+        System.arraycopy(e, 0, h, 0, longitud);
+
+        double[] aux = new double[h.length];
+        for (int k = 0; k < f.length; k++) {
+            double q = f[k];
+            int nueva = 0;
+            for (int i = 0; i < longitud; i++) {
+                double suma = q + h[i];
+                double cola = colaSuma(q, h[i], suma);
+                q = suma;
+                if (cola != 0.0) aux[nueva++] = cola;
+            }
+            if (q != 0.0 || nueva == 0) aux[nueva++] = q;
+            double[] t = h; h = aux; aux = t;
+            longitud = nueva;
+        }
+
+        double[] resultado = new double[longitud];
+        System.arraycopy(h, 0, resultado, 0, longitud);
+        return resultado;
+    }
+
+  /** Producto exacto de una expansión por un número, eliminando los términos
+    * nulos
+    */
+    static double[] escalar(double[] e, double b) {
+        double[] h = new double[2 * e.length];
+        int longitud = 0;
+
+        double q = e[0] * b;
+        double cola = colaProducto(e[0], b, q);
+        if (cola != 0.0) h[longitud++] = cola;
+        for (int i = 1; i < e.length; i++) {
+            double producto1 = e[i] * b;
+            double producto0 = colaProducto(e[i], b, producto1);
+            double suma = q + producto0;
+            cola = colaSuma(q, producto0, suma);
+            if (cola != 0.0) h[longitud++] = cola;
+            q = producto1 + suma;
+            cola = suma - (q - producto1);
+            if (cola != 0.0) h[longitud++] = cola;
+        }
+        if (q != 0.0 || longitud == 0) h[longitud++] = q;
+
+        double[] resultado = new double[longitud];
+        System.arraycopy(h, 0, resultado, 0, longitud);
+        return resultado;
+    }
+
+  /** Producto exacto de dos expansiones */
+    static double[] multiplicar(double[] e, double[] f) {
+        double[] producto = escalar(e, f[0]);
+        for (int i = 1; i < f.length; i++)
+            producto = sumar(producto, escalar(e, f[i]));
+        return producto;
+    }
+
+  /** Expansión opuesta */
+    static double[] negar(double[] e) {
+        double[] resultado = new double[e.length];
+        for (int i = 0; i < e.length; i++)
+            resultado[i] = -e[i];
+        return resultado;
+    }
+}
@@ -0,0 +1,421 @@
+/*
+ * Proximidad2D.java
+ *
+ * Created on 18 de octubre de 2026, 5:30
+ */
+
+package JavaRG.Nucleo2D;
+
+import JavaRG.Soporte.InterfazSoporte;
+
+/** Un objeto de la clase <code>Proximidad2D</code> calcula la distancia entre
+ * dos objetos convexos y, si se cortan, la profundidad y la dirección de la
+ * penetración. Los objetos solo se conocen por su función de soporte, de
+ * forma que sirve para cualquier par de polígonos convexos, triángulos,
+ * rectángulos, círculos o segmentos.
+ * <br>
+ * La distancia se obtiene con el algoritmo de Gilbert, Johnson y Keerthi
+ * (GJK) sobre la diferencia de Minkowski de los dos objetos, que es convexa y
+ * contiene al origen si, y solo si, los objetos se cortan. La distancia entre
+ * los objetos es la del origen a la diferencia. En cada paso se mantiene un
+ * símplice (un punto, un segmento o un triángulo) de puntos de soporte de la
+ * diferencia, se busca su punto más cercano al origen y se añade el punto de
+ * soporte en la dirección opuesta, hasta que este no acerca más el símplice
+ * al origen. Los puntos más cercanos de cada objeto, o testigos, se obtienen
+ * con las coordenadas baricéntricas del punto más cercano del símplice.
+ * <br>
+ * Si los objetos se cortan, la penetración se obtiene con el algoritmo de
+ * expansión del politopo (EPA): partiendo del triángulo final de GJK, se
+ * busca el lado del polígono más cercano al origen y se añade el punto de
+ * soporte en la dirección de su normal, hasta que el lado ya no se puede
+ * alejar más. Ese lado da la profundidad y la normal de la penetración.
+ * <br>
+ * El objeto guarda la última dirección de búsqueda, con la que comienza la
+ * siguiente consulta. Cuando los objetos se mueven poco entre dos consultas,
+ * como en la vigilancia de la proximidad fotograma a fotograma, GJK termina
+ * así en muy pocos pasos. Conviene, por tanto, usar un objeto por cada par de
+ * objetos vigilados. No se crea ningún objeto durante el cálculo
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see InterfazSoporte
+ */
+public class Proximidad2D extends Object {
+
+  /**
+    * Número máximo de pasos de cada algoritmo. Con objetos poligonales
+    * terminan mucho antes; con círculos la convergencia es aproximada
+    */
+    private static final int iteracionesMaximas = 64;
+  /**
+    * Tolerancia relativa con la que se considera que un algoritmo ha
+    * convergido
+    */
+    private static final double toleranciaRelativa = 1e-10;
+
+  /**
+    * Puntos del símplice o del politopo: puntos de la diferencia de Minkowski
+    * y puntos de soporte de cada objeto que los producen
+    */
+    private double wx[] = new double[iteracionesMaximas + 4], wy[] = new double[iteracionesMaximas + 4];
+    private double ax[] = new double[iteracionesMaximas + 4], ay[] = new double[iteracionesMaximas + 4];
+    private double bx[] = new double[iteracionesMaximas + 4], by[] = new double[iteracionesMaximas + 4];
+  /**
+    * Coordenadas baricéntricas del punto más cercano del símplice
+    */
+    private double lambdas[] = new double[3];
+  /**
+    * Número de puntos del símplice o del politopo
+    */
+    private int numPuntos;
+  /**
+    * Punto más cercano al origen del símplice, que se conserva como dirección
+    * inicial para la siguiente consulta
+    */
+    private double vx = 1, vy = 0;
+  /**
+    * Mayor cuadrado de la distancia al origen de los puntos de soporte, que
+    * da la escala de las tolerancias
+    */
+    private double escala;
+  /**
+    * Array auxiliar para los puntos de soporte
+    */
+    private double punto[] = new double[2];
+
+  /**
+    * Resultados de la última consulta
+    */
+    private boolean cortan;
+    private double distancia, profundidad;
+    private double testigoAX, testigoAY, testigoBX, testigoBY;
+    private double normalX, normalY;
+
+  /** Constructor por defecto
+    * @return un nuevo objeto sin dirección de búsqueda previa
+    */
+    public Proximidad2D() {
+    }
+
+  /** Olvida la dirección de búsqueda de la consulta anterior, por ejemplo al
+    * pasar a vigilar otro par de objetos
+    */
+    public void reiniciar() {
+        vx = 1;
+        vy = 0;
+    }
+
+  /** Calcula la distancia entre dos objetos convexos con GJK
+    * @param a primer objeto
+    * @param b segundo objeto
+    * @return la distancia entre los objetos, o 0 si se cortan o se tocan
+    * @see Proximidad2D#testigoA()
+    * @see Proximidad2D#testigoB()
+    */
+    public double distancia(InterfazSoporte a, InterfazSoporte b) {
+        gjk(a, b);
+        profundidad = 0;
+        return distancia;
+    }
+
+  /** Calcula la profundidad de la penetración entre dos objetos convexos: la
+    * menor distancia que hay que desplazar uno de ellos para que dejen de
+    * cortarse. Si no se cortan, se calcula su distancia
+    * @param a primer objeto
+    * @param b segundo objeto
+    * @return la profundidad de la penetración, o 0 si los objetos no se cortan
+    * @see Proximidad2D#normal()
+    * @see Proximidad2D#distancia()
+    */
+    public double penetracion(InterfazSoporte a, InterfazSoporte b) {
+        gjk(a, b);
+        profundidad = 0;
+        if (cortan)
+            epa(a, b);
+        return profundidad;
+    }
+
+  /** Indica si los objetos de la última consulta se cortan o se tocan
+    * @return un valor booleano indicando si los objetos se cortan
+    */
+    public boolean seCortan() {
+        return cortan;
+    }
+
+  /** Obtiene la distancia calculada en la última consulta
+    * @return la distancia entre los objetos, o 0 si se cortan
+    */
+    public double distancia() {
+        return distancia;
+    }
+
+  /** Obtiene la profundidad calculada en la última consulta de penetración
+    * @return la profundidad de la penetración, o 0 si los objetos no se cortan
+    */
+    public double profundidad() {
+        return profundidad;
+    }
+
+  /** Obtiene el punto del primer objeto más cercano al segundo. Si los
+    * objetos se cortan, es un punto común tras una consulta de distancia, y
+    * el punto del primer objeto más adentrado en el segundo tras una de
+    * penetración
+    * @return un nuevo punto del primer objeto
+    */
+    public Punto2D testigoA() {
+        return new Punto2D(testigoAX, testigoAY);
+    }
+
+  /** Obtiene el punto del segundo objeto más cercano al primero, con el
+    * mismo criterio que <code>testigoA</code>
+    * @return un nuevo punto del segundo objeto
+    * @see Proximidad2D#testigoA()
+    */
+    public Punto2D testigoB() {
+        return new Punto2D(testigoBX, testigoBY);
+    }
+
+  /** Obtiene la dirección, unitaria, en que hay que desplazar el segundo
+    * objeto respecto al primero para separarlos. Si no se cortan, es la
+    * dirección del testigo del primero al del segundo
+    * @return un nuevo vector unitario, o nulo si no se ha podido determinar
+    */
+    public Vector2D normal() {
+        return new Vector2D(normalX, normalY);
+    }
+
+  /** Ejecuta GJK, dejando el símplice final, los testigos y la distancia
+    */
+    private void gjk(InterfazSoporte a, InterfazSoporte b) {
+        double dx = -vx, dy = -vy;
+        if (dx == 0 && dy == 0)
+            dx = 1;
+        escala = 0;
+        numPuntos = 0;
+        soporte(a, b, dx, dy, 0);
+        numPuntos = 1;
+        lambdas[0] = 1;
+        vx = wx[0];
+        vy = wy[0];
+        cortan = false;
+        for (int i=0; i<iteracionesMaximas; i++) {
+            double v2 = vx*vx + vy*vy;
+            if (v2 <= toleranciaRelativa * toleranciaRelativa * escala) {
+                cortan = true;
+                break;
+            }
+            soporte(a, b, -vx, -vy, numPuntos);
+            // El nuevo punto no acerca el símplice al origen
+            if (v2 - (vx*wx[numPuntos] + vy*wy[numPuntos]) <= toleranciaRelativa * v2)
+                break;
+            numPuntos++;
+            reducir();
+            if (numPuntos == 3) {
+                cortan = true;
+                break;
+            }
+        }
+
+        testigoAX = testigoAY = testigoBX = testigoBY = 0;
+        for (int i=0; i<numPuntos; i++) {
+            testigoAX += lambdas[i] * ax[i];
+            testigoAY += lambdas[i] * ay[i];
+            testigoBX += lambdas[i] * bx[i];
+            testigoBY += lambdas[i] * by[i];
+        }
+        if (cortan) {
+            distancia = 0;
+            normalX = normalY = 0;
+        } else {
+            distancia = Math.sqrt(vx*vx + vy*vy);
+            normalX = -vx / distancia;
+            normalY = -vy / distancia;
+        }
+    }
+
+  /** Obtiene el punto de soporte de la diferencia de Minkowski (a - b) en una
+    * dirección y lo guarda, con los de cada objeto, en la posición indicada
+    */
+    private void soporte(InterfazSoporte a, InterfazSoporte b, double dx, double dy, int i) {
+        a.soporte(dx, dy, punto);
+        ax[i] = punto[0];
+        ay[i] = punto[1];
+        b.soporte(-dx, -dy, punto);
+        bx[i] = punto[0];
+        by[i] = punto[1];
+        wx[i] = ax[i] - bx[i];
+        wy[i] = ay[i] - by[i];
+        escala = Math.max(escala, wx[i]*wx[i] + wy[i]*wy[i]);
+    }
+
+  /** Obtiene el punto del símplice más cercano al origen y reduce el
+    * símplice a los puntos de la cara en la que se encuentra. Si queda un
+    * triángulo, el origen está dentro de él
+    */
+    private void reducir() {
+        if (numPuntos == 2) {
+            double ex = wx[1] - wx[0], ey = wy[1] - wy[0];
+            double t = -(wx[0]*ex + wy[0]*ey) / (ex*ex + ey*ey);
+            if (t <= 0)
+                conservar(0, -1, 1);
+            else if (t >= 1)
+                conservar(1, -1, 1);
+            else
+                conservar(0, 1, 1 - t);
+        } else {
+            // Regiones de Voronoi del triángulo respecto al origen
+            double abx = wx[1] - wx[0], aby = wy[1] - wy[0];
+            double acx = wx[2] - wx[0], acy = wy[2] - wy[0];
+            double d1 = -(abx*wx[0] + aby*wy[0]), d2 = -(acx*wx[0] + acy*wy[0]);
+            if (d1 <= 0 && d2 <= 0) {
+                conservar(0, -1, 1);
+                return;
+            }
+            double d3 = -(abx*wx[1] + aby*wy[1]), d4 = -(acx*wx[1] + acy*wy[1]);
+            if (d3 >= 0 && d4 <= d3) {
+                conservar(1, -1, 1);
+                return;
+            }
+            double vc = d1*d4 - d3*d2;
+            if (vc <= 0 && d1 >= 0 && d3 <= 0) {
+                conservar(0, 1, 1 - d1 / (d1 - d3));
+                return;
+            }
+            double d5 = -(abx*wx[2] + aby*wy[2]), d6 = -(acx*wx[2] + acy*wy[2]);
+            if (d6 >= 0 && d5 <= d6) {
+                conservar(2, -1, 1);
+                return;
+            }
+            double vb = d5*d2 - d1*d6;
+            if (vb <= 0 && d2 >= 0 && d6 <= 0) {
+                conservar(0, 2, 1 - d2 / (d2 - d6));
+                return;
+            }
+            double va = d3*d6 - d5*d4;
+            if (va <= 0 && d4 - d3 >= 0 && d5 - d6 >= 0) {
+                conservar(1, 2, 1 - (d4 - d3) / ((d4 - d3) + (d5 - d6)));
+                return;
+            }
+            double denominador = va + vb + vc;
+            lambdas[1] = vb / denominador;
+            lambdas[2] = vc / denominador;
+            lambdas[0] = 1 - lambdas[1] - lambdas[2];
+            vx = vy = 0;
+        }
+    }
+
+  /** Reduce el símplice a uno o dos de sus puntos (el segundo es -1 si solo
+    * se conserva uno), con la coordenada baricéntrica del primero, y calcula
+    * el punto más cercano
+    */
+    private void conservar(int i, int j, double lambda) {
+        copiar(i, 0);
+        lambdas[0] = lambda;
+        numPuntos = 1;
+        if (j >= 0) {
+            copiar(j, 1);
+            lambdas[1] = 1 - lambda;
+            numPuntos = 2;
+        }
+        vx = vy = 0;
+        for (int k=0; k<numPuntos; k++) {
+            vx += lambdas[k] * wx[k];
+            vy += lambdas[k] * wy[k];
+        }
+    }
+
+  /** Copia un punto del símplice a otra posición
+    */
+    private void copiar(int desde, int hasta) {
+        wx[hasta] = wx[desde];
+        wy[hasta] = wy[desde];
+        ax[hasta] = ax[desde];
+        ay[hasta] = ay[desde];
+        bx[hasta] = bx[desde];
+        by[hasta] = by[desde];
+    }
+
+  /** Ejecuta EPA a partir del símplice final de GJK, dejando la profundidad,
+    * la normal y los testigos de la penetración
+    */
+    private void epa(InterfazSoporte a, InterfazSoporte b) {
+        // Si el origen está sobre el borde de la diferencia, el símplice no es
+        // un triángulo y se completa con puntos de soporte
+        if (numPuntos == 1) {
+            double dx = -wx[0], dy = -wy[0];
+            if (dx == 0 && dy == 0)
+                dx = 1;
+            soporte(a, b, dx, dy, 1);
+            numPuntos = 2;
+        }
+        if (numPuntos == 2) {
+            double ex = wx[1] - wx[0], ey = wy[1] - wy[0];
+            if (ex == 0 && ey == 0) {
+                // La diferencia es un punto: solo hay contacto
+                return;
+            }
+            soporte(a, b, -ey, ex, 2);
+            if (-ey*(wx[2] - wx[0]) + ex*(wy[2] - wy[0]) <= 0) {
+                soporte(a, b, ey, -ex, 2);
+                if (ey*(wx[2] - wx[0]) - ex*(wy[2] - wy[0]) <= 0) {
+                    // La diferencia es un segmento: solo hay contacto
+                    double longitud = Math.sqrt(ex*ex + ey*ey);
+                    normalX = -ey / longitud;
+                    normalY = ex / longitud;
+                    return;
+                }
+            }
+            numPuntos = 3;
+        }
+        // El politopo se recorre en sentido antihorario
+        if ((wx[1] - wx[0])*(wy[2] - wy[0]) - (wy[1] - wy[0])*(wx[2] - wx[0]) < 0) {
+            copiar(1, 3);
+            copiar(2, 1);
+            copiar(3, 2);
+        }
+
+        double tolerancia = toleranciaRelativa * Math.sqrt(escala);
+        int lado = 0;
+        double nx = 0, ny = 0, cercania = 0;
+        for (int iteracion=0; iteracion<iteracionesMaximas; iteracion++) {
+            // Lado más cercano al origen, con su normal exterior
+            cercania = Double.MAX_VALUE;
+            for (int i=0; i<numPuntos; i++) {
+                int j = (i + 1) % numPuntos;
+                double ex = wx[j] - wx[i], ey = wy[j] - wy[i];
+                double longitud = Math.sqrt(ex*ex + ey*ey);
+                if (longitud == 0)
+                    continue;
+                double d = (ey*wx[i] - ex*wy[i]) / longitud;
+                if (d < cercania) {
+                    cercania = d;
+                    lado = i;
+                    nx = ey / longitud;
+                    ny = -ex / longitud;
+                }
+            }
+            // El punto de soporte se guarda tras el último, dejando libre
+            // la posición siguiente para desplazar el politopo
+            soporte(a, b, nx, ny, numPuntos + 1);
+            if (nx*wx[numPuntos + 1] + ny*wy[numPuntos + 1] - cercania <= tolerancia)
+                break;
+            // Se inserta el nuevo punto entre los extremos del lado
+            for (int i=numPuntos; i>lado+1; i--)
+                copiar(i-1, i);
+            copiar(numPuntos + 1, lado + 1);
+            numPuntos++;
+        }
+
+        int j = (lado + 1) % numPuntos;
+        double ex = wx[j] - wx[lado], ey = wy[j] - wy[lado];
+        double t = -(wx[lado]*ex + wy[lado]*ey) / (ex*ex + ey*ey);
+        t = Math.max(0, Math.min(1, t));
+        testigoAX = ax[lado] + t*(ax[j] - ax[lado]);
+        testigoAY = ay[lado] + t*(ay[j] - ay[lado]);
+        testigoBX = bx[lado] + t*(bx[j] - bx[lado]);
+        testigoBY = by[lado] + t*(by[j] - by[lado]);
+        profundidad = Math.max(0, cercania);
+        normalX = nx;
+        normalY = ny;
+    }
+}
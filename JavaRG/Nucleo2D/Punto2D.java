@@ -10,13 +10,13 @@ import JavaRG.*;
 import JavaRG.Nucleo2D.*;
 import java.awt.*;
 import java.text.*; // Permite definir el formato de salida de las coordenadas
-                    // del punto cuando ste va a ser dibujado, mediante DecimalFormat
+                    // del punto cuando éste va a ser dibujado, mediante DecimalFormat
 import JavaRG.Nucleo2D.Vector2D;
 /**
  * Los objetos de la clase <code>Punto2D</code> representan puntos en el plano.
- * Por lo tanto, es un objeto geomtrico bsico que ser utilizado en la
- * implementacin de otros ms complejos. Aunque se podr tratar con sus coordenadas cartesianas,
- *  internamente estar implementado a partir de sus coordenadas homogneas
+ * Por lo tanto, es un objeto geométrico básico que será utilizado en la
+ * implementación de otros más complejos. Aunque se podrá tratar con sus coordenadas cartesianas,
+ *  internamente estará implementado a partir de sus coordenadas homogéneas
  * @author  Pablo Suau
  * @version 1.1
  * @see ObjetoGeometrico
@@ -24,15 +24,15 @@ import JavaRG.Nucleo2D.Vector2D;
 public class Punto2D extends ObjetoGeometrico {
     
   /**
-    * Coordenada homognea x
+    * Coordenada homogénea x
     */
     double hx;
   /**
-    * Coordenada homognea y
+    * Coordenada homogénea y
     */
     double hy;
   /**
-    * Coordenada homognea z
+    * Coordenada homogénea z
     */
     double hz; 
 
@@ -49,7 +49,7 @@ public class Punto2D extends ObjetoGeometrico {
 
   /**
     * Constructor del punto a partir de sus coordenadas cartesianas. Dichas 
-    * coordenadas cartesianas debern ser transformadas en coordenadas homogneas
+    * coordenadas cartesianas deberán ser transformadas en coordenadas homogéneas
     * @param coordX coordenada cartesiana x del nuevo punto
     * @param coordY coordenada cartesiana y del nuevo punto
     * @return un punto en las coordenadas especificadas
@@ -61,17 +61,17 @@ public class Punto2D extends ObjetoGeometrico {
         hz = 1;
     }
     
-  /** Constructor del punto a partir de sus coordenadas homogneas.
-    * @param homX coordenada homognea x del nuevo punto
-    * @param homY coordenada homognea y del nuevo punto
-    * @param homZ coordenada homognea z del nuevo punto
+  /** Constructor del punto a partir de sus coordenadas homogéneas.
+    * @param homX coordenada homogénea x del nuevo punto
+    * @param homY coordenada homogénea y del nuevo punto
+    * @param homZ coordenada homogénea z del nuevo punto
     * @return un punto en las coordenadas especificadas
-    * @exception GeomException si la coordenada homognea z vale 0
+    * @exception GeomException si la coordenada homogénea z vale 0
     */
     public Punto2D (double homX, double homY, double homZ) 
                    throws GeomException {
         if (homZ == 0)
-            throw new GeomException("Punto 2D (double, double, double): La coordenada homognea z no puede valer 0");            
+            throw new GeomException("Punto 2D (double, double, double): La coordenada homogénea z no puede valer 0");            
         else
         {
             hx = homX;
@@ -92,7 +92,7 @@ public class Punto2D extends ObjetoGeometrico {
         this.hz = original.hz();
     }
     
-  /** Calcula la distancia al cuadrado del punto a otro pasado como parmetro
+  /** Calcula la distancia al cuadrado del punto a otro pasado como parámetro
     * @param p punto al que se desea calcular la distancia
     * @return la distancia al cuadrado entre los dos puntos
     */
@@ -101,8 +101,8 @@ public class Punto2D extends ObjetoGeometrico {
     }
     
   /** Obtiene el vector de diferencia con otro punto, es decir, 
-    * un vector cuyo origen es el punto y su destino ser el punto pasado como 
-    * parmetro
+    * un vector cuyo origen es el punto y su destino será el punto pasado como 
+    * parámetro
     * @param otro punto destino del vector diferencia
     * @return vector de diferencia entre los dos puntos
     * @see Vector2D#Vector2D(Punto2D, Punto2D)
@@ -130,33 +130,31 @@ public class Punto2D extends ObjetoGeometrico {
         return new Vector2D(new Punto2D(), this);
     }
     
-  /** Comparacin con otro objeto geomtrico. Un punto ser igual a otro 
-    * objeto geomtrico si dicho objeto es tambin un punto y la distancia
+  /** Comparación con otro objeto geométrico. Un punto será igual a otro 
+    * objeto geométrico si dicho objeto es también un punto y la distancia
     * entre ambos es menor de epsilon
-    * @param obj objeto geomtrico con el que se desea comparar el punto
+    * @param obj objeto geométrico con el que se desea comparar el punto
     * @return un valor booleano indicando si el punto es igual al objeto pasado
-    * como parmetro
+    * como parámetro
     * @see Mat#EPSILON
-    * @see Punto2D#distancia(Punto2D)
+    * @see Predicados2D#iguales(double, double, double, double)
     */
     public boolean equals (ObjetoGeometrico obj) {
         if (obj==this)
         return true;
         if (obj instanceof Punto2D) {
             Punto2D punto = (Punto2D) obj;
-            if (this.distancia(punto) > Mat.EPSILON)
-            return false;
-            else return true;
+            return Predicados2D.iguales(this.x(), this.y(), punto.x(), punto.y());
         }
         else return false;
     }
 
-  /** Comparacin con otro objeto geomtrico. Un punto ser distinto a otro 
-    * objeto geomtrico si dicho objeto no es un punto o la distancia
+  /** Comparación con otro objeto geométrico. Un punto será distinto a otro 
+    * objeto geométrico si dicho objeto no es un punto o la distancia
     * entre ambos es mayor de epsilon
-    * @param obj objeto geomtrico con el que se desea comparar el punto
+    * @param obj objeto geométrico con el que se desea comparar el punto
     * @return un valor booleano indicando si el punto es distinto al objeto pasado
-    * como parmetro
+    * como parámetro
     * @see Punto2D#equals(ObjetoGeometrico obj)
     */
     public boolean not_equals (ObjetoGeometrico obj) {
@@ -164,13 +162,13 @@ public class Punto2D extends ObjetoGeometrico {
     }
     
     
-  /** Comparacin con otro punto segn la coordenada y. 
+  /** Comparación con otro punto según la coordenada y. 
     * @param otro punto con el que comparar
-    * @return segn el resultado se devolver:
+    * @return según el resultado se devolverá:
     * <ul>
-    * <li> 1 si la coordenada y del punto es mayor que la del punto pasado como parmetro </li>
+    * <li> 1 si la coordenada y del punto es mayor que la del punto pasado como parámetro </li>
     * <li> 0 si ambas cordenadas y son iguales
-    * <li> -1 si la coordenada y del punto es menor que la del punto pasado como parmetro </li>
+    * <li> -1 si la coordenada y del punto es menor que la del punto pasado como parámetro </li>
     * </ul>
     * @see Mat#EPSILON
   **/
@@ -184,13 +182,13 @@ public class Punto2D extends ObjetoGeometrico {
            return -1;
     }
     
-    /** Comparacin con otro punto segn la coordenada x. 
+    /** Comparación con otro punto según la coordenada x. 
     * @param otro punto con el que comparar
-    * @return segn el resultado se devolver:
+    * @return según el resultado se devolverá:
     * <ul>
-    * <li> 1 si la coordenada x del punto es mayor que la del punto pasado como parmetro </li>
+    * <li> 1 si la coordenada x del punto es mayor que la del punto pasado como parámetro </li>
     * <li> 0 si ambas cordenadas x son iguales
-    * <li> -1 si la coordenada x del punto es menor que la del punto pasado como parmetro </li>
+    * <li> -1 si la coordenada x del punto es menor que la del punto pasado como parámetro </li>
     * </ul>
     * @see Mat#EPSILON
   **/
@@ -204,29 +202,32 @@ public class Punto2D extends ObjetoGeometrico {
            return -1;
     }
     
-  /** Posicin del punto respecto al segmento orientado formado por otros dos. 
-    * La posicin se obtiene a partir del sentido del rea del tringulo cuyos
-    * vertices son los tres puntos
-    * @param p1 primer punto respecto al cual se desea obtener la posicin
-    * @param p2 segundo punto respecto al cual se desea obtener la posicin
-    * @return una constante indicando la posicin (Mat.IZQUIERDA, Mat.DERECHA,
+  /** Posición del punto respecto al segmento orientado formado por otros dos. 
+    * La posición se obtiene a partir del sentido del área del triángulo cuyos
+    * vertices son los tres puntos, calculado directamente sobre las coordenadas
+    * cartesianas sin construir el triángulo
+    * @param p1 primer punto respecto al cual se desea obtener la posición
+    * @param p2 segundo punto respecto al cual se desea obtener la posición
+    * @return una constante indicando la posición (Mat.IZQUIERDA, Mat.DERECHA,
     * , Mat.COLIENAL)
     * @exception GeomException si los dos puntos respecto a los que se desea obtener
-    * la posicin relativa son iguales
-    * @see Triangulo2D#sentido()
+    * la posición relativa son iguales, o si el punto es igual a alguno de ellos
+    * @see Predicados2D#posicionRelativa(double, double, double, double, double, double)
     * @see Mat#IZQUIERDA
     * @see Mat#DERECHA
     * @see Mat#COLINEAL
     */
     public int posicionRelativa(Punto2D p1, Punto2D p2) throws GeomException {
-        int sentido = Mat.COLINEAL;
+        double x = this.x(), y = this.y();
+        double x1 = p1.x(), y1 = p1.y();
+        double x2 = p2.x(), y2 = p2.y();
         
-        if (p1.equals(p2))
+        if (Predicados2D.iguales(x1, y1, x2, y2))
             throw new GeomException("posicionRelativa (Punto2D, Punto2D): Los puntos con los que comparar son iguales");
-        else 
-            sentido = new Triangulo2D(p1, p2, this).sentido();
+        if (Predicados2D.iguales(x, y, x1, y1) || Predicados2D.iguales(x, y, x2, y2))
+            throw new GeomException("posicionRelativa (Punto2D, Punto2D): El punto es igual a alguno de los puntos con los que comparar");
         
-        return sentido;
+        return Predicados2D.posicionRelativa(x, y, x1, y1, x2, y2);
     }
     
   /** Traslada el punto en el plano a partir de un determinado incremento
@@ -243,7 +244,7 @@ public class Punto2D extends ObjetoGeometrico {
     
   /** Traslada el punto en el plano aplicando el mismo incremento en cada
     * eje
-    * @param incr incremento o desplazamiento que ser aplicado tanto al eje x 
+    * @param incr incremento o desplazamiento que será aplicado tanto al eje x 
     * como al eje y
     * @return el punto trasladado
     */
@@ -253,9 +254,9 @@ public class Punto2D extends ObjetoGeometrico {
         return this;
     }
     
-  /** Traslada el punto en la direccin y a la distancia determinados por un 
+  /** Traslada el punto en la dirección y a la distancia determinados por un 
     * vector
-    * @param vector el vector que define la traslacin del punto
+    * @param vector el vector que define la traslación del punto
     * @return el punto trasladado
     * @see Vector2D#anguloEjeX()
     * @see Vector2D#magnitud()
@@ -269,11 +270,11 @@ public class Punto2D extends ObjetoGeometrico {
         return this;
     }
     
-  /** Traslacin del punto a partir de las coordenadas polares (se traslada el
-    * punto una determinada distancia en un determinado ngulo)
-    * @param angulo direccin de traslacin del punto
-    * @param dist distancia a la que se mover el punto de su posicin original
-    * siguiendo el ngulo indicado
+  /** Traslación del punto a partir de las coordenadas polares (se traslada el
+    * punto una determinada distancia en un determinado ángulo)
+    * @param angulo dirección de traslación del punto
+    * @param dist distancia a la que se moverá el punto de su posición original
+    * siguiendo el ángulo indicado
     * @return el punto trasladado
     */
     public Punto2D trasladarPolar (double angulo, double dist) {
@@ -289,8 +290,8 @@ public class Punto2D extends ObjetoGeometrico {
         return this;
     }
     
-  /** Escalado de un punto. El escalado para el punto en realidad supondr una
-    * traslacin
+  /** Escalado de un punto. El escalado para el punto en realidad supondrá una
+    * traslación
     * @param escala factor de escalado
     * @return el punto escalado
     * @exception GeomException si el factor de escalado es cero
@@ -306,7 +307,7 @@ public class Punto2D extends ObjetoGeometrico {
     }
     
   /** Escalado de un punto con distinto factor de escalado para cada coordenada. 
-    * El escalado para un punto en realidad supondr una traslacin
+    * El escalado para un punto en realidad supondrá una traslación
     * @param sx factor de escalado en el eje x
     * @param sy factor de escalado en el eje y
     * @return el punto escalado
@@ -323,8 +324,8 @@ public class Punto2D extends ObjetoGeometrico {
     }
     
   /** Rota el punto respecto del origen de coordenadas
-    * @param radio angulo de giro en radianes. Si es positivo el giro ser
-    * en sentido antihorario y en caso contrario lo ser en sentido horario
+    * @param radio angulo de giro en radianes. Si es positivo el giro será
+    * en sentido antihorario y en caso contrario lo será en sentido horario
     * @return el punto girado
     */
     public Punto2D gira(double radio) {
@@ -336,35 +337,35 @@ public class Punto2D extends ObjetoGeometrico {
     
   /** Rota el punto respecto a otro. Para ello 
     * trasladamos el punto que deseamos girar como si hubieramos trasladado
-    * el otro al origen de coordenadas, realizamos la rotacin, y volvemos a 
+    * el otro al origen de coordenadas, realizamos la rotación, y volvemos a 
     * trasladar el punto, como si trasladaramos el punto en el origen de coordenadas
-    * a su posicin inicial.
-    * @param origen punto respecto el cual se har el giro
-    * @radio angulo de giro en radianes. Si es positivo el giro ser en sentido
-    * antihorario y en caso contrario lo ser en sentido horario
+    * a su posición inicial.
+    * @param origen punto respecto el cual se hará el giro
+    * @radio angulo de giro en radianes. Si es positivo el giro será en sentido
+    * antihorario y en caso contrario lo será en sentido horario
     * @return el punto girado
     * @see Punto2D#trasladar(double, double)
     * @see Punto2D#gira(double)
     */
     public Punto2D gira(Punto2D origen, double radio) {
-        // Trasladamos el punto a partir del cual se realizar la rotacin
+        // Trasladamos el punto a partir del cual se realizará la rotación
         // al origen
         this.trasladar(-origen.x(), -origen.y());
-        // Aplicamos la rotacin respecto al origen
+        // Aplicamos la rotación respecto al origen
         this.gira(radio);
         // Volvemos a trasladar el punto
         this.trasladar(origen.x(), origen.y());
         return this;
     }
     
-  /** Aplica una matriz de transformacin al punto. La matriz debe ser cuadrada 
+  /** Aplica una matriz de transformación al punto. La matriz debe ser cuadrada 
     * y de orden dos (para aplicarla a las coordenadas cartesianas) o tres (en
-    * cuyo caso se aplica a las coordenadas homogneas). Aplicar la matriz de 
-    * transformacin significa realizar una multiplicacin de dicha matriz por 
+    * cuyo caso se aplica a las coordenadas homogéneas). Aplicar la matriz de 
+    * transformación significa realizar una multiplicación de dicha matriz por 
     * el vector formado por las coordenadas del punto
-    * @param matriz matriz de transformacin
+    * @param matriz matriz de transformación
     * @return el punto transformado
-    * @exception GeomException si la matriz de transformacin no es cuadrada, o 
+    * @exception GeomException si la matriz de transformación no es cuadrada, o 
     * es cuadrada pero su orden es distinto de dos o tres
     * @see Mat#matrizCuadrada(double[][])
     */
@@ -381,7 +382,7 @@ public class Punto2D extends ObjetoGeometrico {
                 hy = (matriz[1][0] * aux + matriz[1][1] * hy)*hz;
             }
             else {
-                // Aplicamos la matriz a las coordenadas homgneas
+                // Aplicamos la matriz a las coordenadas homgéneas
                 double auxX = hx, auxY = hy;
                 hx = matriz[0][0] * hx + matriz[0][1] * hy + matriz[0][2] * hz;
                 hy = matriz[1][0] * auxX + matriz[1][1] * hy + matriz[1][2] * hz;
@@ -390,7 +391,7 @@ public class Punto2D extends ObjetoGeometrico {
         return this;
     }
     
-  /** Realiza la conversin del objeto de tipo Punto2D a una cadena
+  /** Realiza la conversión del objeto de tipo Punto2D a una cadena
     * @return una cadena especificando el tipo de objeto (punto) y sus coordenadas
     * cartesianas
     */
@@ -446,48 +447,48 @@ public class Punto2D extends ObjetoGeometrico {
         g.drawString("("+ formato.format(hx/hz) +"-"+ formato.format(hy/hz)+")",(int)(hx/hz)*10+anchura+7,(int)(-(hy/hz)*10+altura)+7);
     }
     
-  /** Obtencin de la coordenada cartesiana x 
+  /** Obtención de la coordenada cartesiana x 
     * @return coordenada cartesiana en el eje x
     */
     public double x() {
         return hx/hz;
     }
     
-  /** Obtencin de la coordenada cartesiana y 
+  /** Obtención de la coordenada cartesiana y 
     * @return coordenada cartesiana en el eje y
     */
     public double y() {
         return hy/hz;
     }
     
-  /** Obtencin de la coordenada homognea x 
-    * @return coordenada homognea en el eje x
+  /** Obtención de la coordenada homogénea x 
+    * @return coordenada homogénea en el eje x
     */
     public double hx() {
         return hx;
     }
     
-  /** Obtencin de la coordenada homognea y 
-    * @return coordenada homognea en el eje y
+  /** Obtención de la coordenada homogénea y 
+    * @return coordenada homogénea en el eje y
     */
     public double hy() {
         return hy;
     }
     
-  /** Obtencin de la coordenada homognea z 
-    * @return coordenada homognea en el eje z
+  /** Obtención de la coordenada homogénea z 
+    * @return coordenada homogénea en el eje z
     */
     public double hz() {
         return hz;
     }
     
-  /** Obtiene la coordenada homognea cuyo indice numrico es el que se pasa como
-    * parmetro. Dicho indice i debe cumplir 0<=i<=2, correspondindose el valor
+  /** Obtiene la coordenada homogénea cuyo indice numérico es el que se pasa como
+    * parámetro. Dicho indice i debe cumplir 0<=i<=2, correspondiéndose el valor
     * 0 con la coordenada x, el 1 con la coordenada y y el 2 con la coordenada
     * z
-    * @param i indice numrico de la coordenada que se desea obtener
-    * @return la coordenada homognea solicitada
-    * @exception GeomException si el ndice es menor de 0 o mayor de 2
+    * @param i indice numérico de la coordenada que se desea obtener
+    * @return la coordenada homogénea solicitada
+    * @exception GeomException si el índice es menor de 0 o mayor de 2
     * @see Punto2D#hx()
     * @see Punto2D#hy()
     * @see Punto2D#hz()
@@ -496,7 +497,7 @@ public class Punto2D extends ObjetoGeometrico {
         double retorno = 0;
         
         if (i<0 || i>2)
-           throw new GeomException("homogenea (int): El ndice proporcionado debe encontrarse entre 0 y 2");
+           throw new GeomException("homogenea (int): El índice proporcionado debe encontrarse entre 0 y 2");
         else 
             switch (i) {
                 case 0: retorno =  hx(); break; 
@@ -507,12 +508,12 @@ public class Punto2D extends ObjetoGeometrico {
         return retorno;
     }
     
-  /** Obtiene la coordenada cartesiana cuyo ndice numrico es el que se pasa como
-    * parmetro. Dicho ndice debe ser 0  1, correspondindose el valor 0 con la
+  /** Obtiene la coordenada cartesiana cuyo índice numérico es el que se pasa como
+    * parámetro. Dicho índice debe ser 0 ó 1, correspondiéndose el valor 0 con la
     * coordenada x y el valor 1 con la coordenada y
-    * @param i ndice numrico de la coordenada que se desea obtener
+    * @param i índice numérico de la coordenada que se desea obtener
     * @return la coordenada cartesiana solicitada
-    * @exception GeomException si el ndice es distinto de 0 y de 1
+    * @exception GeomException si el índice es distinto de 0 y de 1
     * @see Punto2D#x()
     * @see Punto2D#y()
     */
@@ -520,7 +521,7 @@ public class Punto2D extends ObjetoGeometrico {
         double retorno = 0;
         
         if (i != 0 && i != 1) 
-            throw new GeomException("cartesiana (int): El ndice proporcionado debe ser 0  1");
+            throw new GeomException("cartesiana (int): El índice proporcionado debe ser 0 ó 1");
         else
             switch (i) {
                 case 0: retorno =  x(); 
@@ -11,8 +11,8 @@ import JavaRG.Nucleo2D.*;
 import java.awt.*;
 
 /** Un objeto de la clase <code>Rayo2D</code> representa un rayo en el espacio
- * 2D. Est definido por su ecuacin paramtrica (a partir de un punto base
- * y un vector director). El parmetro de la ecuacin paramtrica solo podr tomar
+ * 2D. Está definido por su ecuación paramétrica (a partir de un punto base
+ * y un vector director). El parámetro de la ecuación paramétrica solo podrá tomar
  * valor mayor o igual que cero
  *
  * @author  Pablo Suau
@@ -20,10 +20,10 @@ import java.awt.*;
  */
 public class Rayo2D extends ObjetoGeometrico {
 
-  /** Punto base de la ecuacin paramtrica
+  /** Punto base de la ecuación paramétrica
     */
     Punto2D comienzo;
-  /** Vector director de la ecuacin paramtrica
+  /** Vector director de la ecuación paramétrica
     */
     Vector2D director;
     
@@ -39,12 +39,12 @@ public class Rayo2D extends ObjetoGeometrico {
     }
     
   /** Constructor del rayo a partir de dos puntos. El punto inicial del rayo 
-    * ser el primer punto, y el vector director estar definido entre
+    * será el primer punto, y el vector director estará definido entre
     * ese primer punto y el segundo.
     * @param p1 el primer punto
     * @param p2 el segundo punto
     * @return un nuevo rayo definido a partir de los dos puntos pasados como 
-    * parmetro
+    * parámetro
     * @exception GeomException si el vector director definido entre los dos puntos
     * es de magnitud cero
     * @see Punto2D#Punto2D(Punto2D)
@@ -65,14 +65,14 @@ public class Rayo2D extends ObjetoGeometrico {
     
   /** Constructor del rayo a partir de las coordenadas cartesianas de dos puntos
     *. El punto inicial del rayo
-    * ser el primer punto, y el vector director estar definido entre
+    * será el primer punto, y el vector director estará definido entre
     * ese primer punto y el segundo.
     * @param x1 coordenada cartesiana x del primer punto
     * @param y1 coordenada cartesiana y del primer punto
     * @param x2 coordenada cartesiana x del segundo punto
     * @param y2 coordenada cartesiana y del segundo punto
     * @return un nuevo rayo definido a partir de los dos puntos cuyas 
-    * coordenadas cartesianas han sido pasadas como parmetro
+    * coordenadas cartesianas han sido pasadas como parámetro
     * @exception GeomException si el vector director definido entre los dos puntos
     * es de magnitud cero
     * @see Punto2D#Punto2D(double, double)
@@ -93,19 +93,19 @@ public class Rayo2D extends ObjetoGeometrico {
         }
     }
     
-  /** Constructor del rayo a partir de las coordenadas homogneas de dos puntos
-    *. El punto inicial del rayo ser el primer punto, y el vector director estar definido entre
+  /** Constructor del rayo a partir de las coordenadas homogéneas de dos puntos
+    *. El punto inicial del rayo será el primer punto, y el vector director estará definido entre
     * ese primer punto y el segundo.
-    * @param hx1 coordenada homognea x del primer punto
-    * @param hy1 coordenada homognea y del primer punto
-    * @param hz1 coordenada homognea z del primer punto
-    * @param hx2 coordenada homognea x del segundo punto
-    * @param hy2 coordenada homognea y del segundo punto
-    * @param hz2 coordenada homognea z del segundo punto
+    * @param hx1 coordenada homogénea x del primer punto
+    * @param hy1 coordenada homogénea y del primer punto
+    * @param hz1 coordenada homogénea z del primer punto
+    * @param hx2 coordenada homogénea x del segundo punto
+    * @param hy2 coordenada homogénea y del segundo punto
+    * @param hz2 coordenada homogénea z del segundo punto
     * @return un nuevo rayo definido a partir de los dos puntos cuyas 
-    * coordenadas homogneas han sido pasadas como parmetro
+    * coordenadas homogéneas han sido pasadas como parámetro
     * @exception GeomException si el vector director definido entre los dos puntos
-    * es de magnitud cero o si la coordenada homognea z de alguno de los dos 
+    * es de magnitud cero o si la coordenada homogénea z de alguno de los dos 
     * puntos es cero
     * @see Punto2D#Punto2D(double, double, double)
     * @see Punto2D#Punto2D(Punto2D)
@@ -128,13 +128,13 @@ public class Rayo2D extends ObjetoGeometrico {
         }
     }
     
-  /** Constructor del rayo a partir de un punto y un vector. La ecuacin 
-    * paramtrica ser construida a partir de dichos punto y vector.
+  /** Constructor del rayo a partir de un punto y un vector. La ecuación 
+    * paramétrica será construida a partir de dichos punto y vector.
     * @param punto punto inicial del rayo
-    * @param vector vector director de la ecuacin paramtrica
-    * @return un nuevo rayo cuya ecuacin paramtrica se construye a partir
-    * del punto y el vector pasados como parmetro
-    * @exception GeomException si el vector pasado como parmetro tiene 
+    * @param vector vector director de la ecuación paramétrica
+    * @return un nuevo rayo cuya ecuación paramétrica se construye a partir
+    * del punto y el vector pasados como parámetro
+    * @exception GeomException si el vector pasado como parámetro tiene 
     * magnitud cero
     * @see Vector2D#magnitud()
     * @see Punto2D#Punto2D(Punto2D)
@@ -151,14 +151,14 @@ public class Rayo2D extends ObjetoGeometrico {
     }
     
   /** Constructor del rayo a partir de las coordenadas cartesianas de un 
-    * punto y un vector. La ecuacin 
-    * paramtrica ser construida a partir de dichos punto y vector.
+    * punto y un vector. La ecuación 
+    * paramétrica será construida a partir de dichos punto y vector.
     * @param x coordenada cartesiana x del punto inicial del rayo
     * @param y coordenada cartesiana y del punto inicial del rayo
-    * @param vector vector director de la ecuacin paramtrica
-    * @return un nuevo rayo cuya ecuacin paramtrica se construye a partir
-    * de las coordendas cartesianas del punto y el vector pasados como parmetro
-    * @exception GeomException si el vector pasado como parmetro tiene 
+    * @param vector vector director de la ecuación paramétrica
+    * @return un nuevo rayo cuya ecuación paramétrica se construye a partir
+    * de las coordendas cartesianas del punto y el vector pasados como parámetro
+    * @exception GeomException si el vector pasado como parámetro tiene 
     * magnitud cero
     * @see Vector2D#magnitud()
     * @see Punto2D#Punto2D(double, double)
@@ -174,17 +174,17 @@ public class Rayo2D extends ObjetoGeometrico {
         }
     }
     
-  /** Constructor del rayo a partir de las coordenadas homogneas de un 
-    * punto y un vector. La ecuacin 
-    * paramtrica ser construida a partir de dichos punto y vector.
-    * @param hx coordenada homognea x del punto inicial del rayo
-    * @param hy coordenada homognea y del punto inicial del rayo
-    * @param hz coordenada homognea z del punto inical del rayo
-    * @param vector vector director de la ecuacin paramtrica
-    * @return un nuevo rayo cuya ecuacin paramtrica se construye a partir
-    * de las coordendas homogneas del punto y el vector pasados como parmetro
-    * @exception GeomException si el vector pasado como parmetro tiene 
-    * magnitud cero o si la coordenada homognea z pasada como parmetro vale
+  /** Constructor del rayo a partir de las coordenadas homogéneas de un 
+    * punto y un vector. La ecuación 
+    * paramétrica será construida a partir de dichos punto y vector.
+    * @param hx coordenada homogénea x del punto inicial del rayo
+    * @param hy coordenada homogénea y del punto inicial del rayo
+    * @param hz coordenada homogénea z del punto inical del rayo
+    * @param vector vector director de la ecuación paramétrica
+    * @return un nuevo rayo cuya ecuación paramétrica se construye a partir
+    * de las coordendas homogéneas del punto y el vector pasados como parámetro
+    * @exception GeomException si el vector pasado como parámetro tiene 
+    * magnitud cero o si la coordenada homogénea z pasada como parámetro vale
     * cero
     * @see Vector2D#magnitud()
     * @see Punto2D#Punto2D(double, double, double)
@@ -199,16 +199,16 @@ public class Rayo2D extends ObjetoGeometrico {
         }
     }
     
-  /** Constructor del rayo a partir de un punto y una direccin. La ecuacin 
-    * paramtrica ser construida a partir de dichos punto y el vector unitario
-    * correspondiente a la direccin
+  /** Constructor del rayo a partir de un punto y una dirección. La ecuación 
+    * paramétrica será construida a partir de dichos punto y el vector unitario
+    * correspondiente a la dirección
     * @param punto punto inicial del rayo
-    * @param direccion la direccin a partir de la cual obtener el vector
+    * @param direccion la dirección a partir de la cual obtener el vector
     * director
-    * @return un nuevo cuya ecuacun paramtrica se construye a partir
-    * del punto y la direccin pasados como parmetro
-    * @exception GeomException si el vector obtenido a partir de la direccin
-    * pasada como parmetro tiene  magnitud cero
+    * @return un nuevo cuya ecuacuón paramétrica se construye a partir
+    * del punto y la dirección pasados como parámetro
+    * @exception GeomException si el vector obtenido a partir de la dirección
+    * pasada como parámetro tiene  magnitud cero
     * @see Vector2D#magnitud()
     * @see Punto2D#Punto2D(Punto2D)
     * @see Vector2D#Vector2D(Vector2D)
@@ -225,17 +225,17 @@ public class Rayo2D extends ObjetoGeometrico {
     }
     
   /** Constructor del rayo a partir de las coordenadas cartesianas de un
-    * punto y una direccin. La ecuacin  paramtrica ser construida a partir
-    * de dichos punto y el vector untiario correspondiente a la direccin.
+    * punto y una dirección. La ecuación  paramétrica será construida a partir
+    * de dichos punto y el vector untiario correspondiente a la dirección.
     * @param x coordenada cartesiana x del punto inicial del rayo
     * @param y coordenada cartesiana y del punto inicial del rayo
-    * @param direccion la direccin a partir de la cual obtener el vector
+    * @param direccion la dirección a partir de la cual obtener el vector
     * director
-    * @return un nuevo rayo cuya ecuacun paramtrica se construye a partir
-    * de las coordenadas cartesianas del punto y la direccin pasados como
-    * parmetro
-    * @exception GeomException si el vector obtenido a partir de la direccin
-    * pasada como parmetro tiene  magnitud cero
+    * @return un nuevo rayo cuya ecuacuón paramétrica se construye a partir
+    * de las coordenadas cartesianas del punto y la dirección pasados como
+    * parámetro
+    * @exception GeomException si el vector obtenido a partir de la dirección
+    * pasada como parámetro tiene  magnitud cero
     * @see Vector2D#magnitud()
     * @see Punto2D#Punto2D(double, double)
     * @see Vector2D#Vector2D(Vector2D)
@@ -251,19 +251,19 @@ public class Rayo2D extends ObjetoGeometrico {
         }
     }
     
-  /** Constructor del rayo a partir de las coordenadas homogneas de un
-    * punto y una direccin. La ecuacin  paramtrica ser construida a partir
-    * de dichos punto y el vector unitario correspondiente a la direccin.
-    * @param hx coordenada homognea x del punto inicial del rayo
-    * @param hy coordenada homognea y del punto inicial del rayo
-    * @param hz coordenada homognea z del punto inicial del rayo
-    * @param direccion la direccin a partir de la cual obtener el vector
+  /** Constructor del rayo a partir de las coordenadas homogéneas de un
+    * punto y una dirección. La ecuación  paramétrica será construida a partir
+    * de dichos punto y el vector unitario correspondiente a la dirección.
+    * @param hx coordenada homogénea x del punto inicial del rayo
+    * @param hy coordenada homogénea y del punto inicial del rayo
+    * @param hz coordenada homogénea z del punto inicial del rayo
+    * @param direccion la dirección a partir de la cual obtener el vector
     * director
-    * @return un nuevo rayo cuya ecuacun paramtrica se construye a partir
-    * de las coordenadas homogneas del punto y la direccin pasados como
-    * parmetro
-    * @exception GeomException si el vector obtenido a partir de la direccin
-    * pasada como parmetro tiene  magnitud cero o si la coordenada homognea 
+    * @return un nuevo rayo cuya ecuacuón paramétrica se construye a partir
+    * de las coordenadas homogéneas del punto y la dirección pasados como
+    * parámetro
+    * @exception GeomException si el vector obtenido a partir de la dirección
+    * pasada como parámetro tiene  magnitud cero o si la coordenada homogénea 
     * z del punto vale cero
     * @see Vector2D#magnitud()
     * @see Punto2D#Punto2D(double, double)
@@ -280,8 +280,8 @@ public class Rayo2D extends ObjetoGeometrico {
     }
    
   /** Constructor del rayo a partir un segmento. El punto inicial del rayo
-    * ser el punto de inicio del segmento, y el vector director 
-    * estar definido entre los puntos inicial y final del segmento.
+    * será el punto de inicio del segmento, y el vector director 
+    * estará definido entre los puntos inicial y final del segmento.
     * @param segmento segmento a partir del cual obtener la recta
     * @return una nueva recta definida a partir de los dos extremos del segmento
     * @see Segmento2D#comienzo()
@@ -294,9 +294,9 @@ public class Rayo2D extends ObjetoGeometrico {
         director = new Vector2D(segmento.comienzo(), segmento.fin());
     }
     
- /** Construccin del rayo a partir de una recta y un punto perteneciente a 
-   * dicha recta. El punto inicial del rayo ser
-   * el pasado como parmetro, y el vector director ser el mismo que el de la recta
+ /** Construcción del rayo a partir de una recta y un punto perteneciente a 
+   * dicha recta. El punto inicial del rayo será
+   * el pasado como parámetro, y el vector director será el mismo que el de la recta
    * @param punto punto perteneciente a la recta
    * @param recta recta a partir de la cual se desea obtener el rayo
    * @return un nuevo rayo a partir del punto  y del vector director
@@ -318,10 +318,10 @@ public class Rayo2D extends ObjetoGeometrico {
         }
     }
     
-  /** Construccin del rayo a partir de una recta y las coordendas cartesianas
+  /** Construcción del rayo a partir de una recta y las coordendas cartesianas
    * de un punto perteneciente a 
-   * dicha recta. El punto inicial del rayo ser
-   * el pasado como parmetro, y el vector director ser el mismo que el de la recta
+   * dicha recta. El punto inicial del rayo será
+   * el pasado como parámetro, y el vector director será el mismo que el de la recta
    * @param x coordenada cartesiana x del punto perteneciente a la recta
    * @param y coordenada cartesiana y del punto perteneciente a la recta
    * @param recta recta a partir de la cual se desea obtener el rayo
@@ -345,18 +345,18 @@ public class Rayo2D extends ObjetoGeometrico {
         director = new Vector2D(recta.director());
     }
     
-    /** Construccin del rayo a partir de una recta y las coordendas homogneas
+    /** Construcción del rayo a partir de una recta y las coordendas homogéneas
    * de un punto perteneciente a 
-   * dicha recta. El punto inicial del rayo ser
-   * el pasado como parmetro, y el vector director ser el mismo que el de la recta
-   * @param hx coordenada homognea x del punto perteneciente a la recta
-   * @param hy coordenada homognea y del punto perteneciente a la recta
-   * @param hz coordenada homognea z del punto perteneciente a la recta
+   * dicha recta. El punto inicial del rayo será
+   * el pasado como parámetro, y el vector director será el mismo que el de la recta
+   * @param hx coordenada homogénea x del punto perteneciente a la recta
+   * @param hy coordenada homogénea y del punto perteneciente a la recta
+   * @param hz coordenada homogénea z del punto perteneciente a la recta
    * @param recta recta a partir de la cual se desea obtener el rayo
    * @return un nuevo rayo a partir del punto del punto y del vector director
    * de la recta
    * @exception GeomException si el punto no pertenece a la recta o si la coordenada
-   * homognea pasada como parmetro vale cero
+   * homogénea pasada como parámetro vale cero
    * @see Recta2D#posicionPunto(Punto2D)
    * @see Recta2D#director()
    * @see Punto2D#Punto2D(Punto2D)
@@ -374,15 +374,15 @@ public class Rayo2D extends ObjetoGeometrico {
         director = new Vector2D(recta.director());
     }
     
-    /** Construccin del rayo a partir de una recta y un valor para sustituir en 
-   * la ecuacin paramtrica de la recta para obtener un punto. El punto inicial del rayo ser
-   * el obtenido tras sustituir el parmetro en la ecuacin de la recta por el
-   * valor especificado, y el vector director ser el mismo que el de la recta
-   * @param t valor por el que sustituir el parmetro de la ecuacin paramtrica de
+    /** Construcción del rayo a partir de una recta y un valor para sustituir en 
+   * la ecuación paramétrica de la recta para obtener un punto. El punto inicial del rayo será
+   * el obtenido tras sustituir el parámetro en la ecuación de la recta por el
+   * valor especificado, y el vector director será el mismo que el de la recta
+   * @param t valor por el que sustituir el parámetro de la ecuación paramétrica de
    * la recta
    * @param recta recta a partir de la cual se desea obtener el rayo
    * @return un nuevo rayo a partir del punto obtenido tras sustituir 
-   * el parmetro de la ecuacin paramtrica de la recta por el valor especificado
+   * el parámetro de la ecuación paramétrica de la recta por el valor especificado
    * y del vector director de la recta
    * @see Recta2D#punto(double)
    * @see Recta2D#director()
@@ -399,7 +399,7 @@ public class Rayo2D extends ObjetoGeometrico {
     * de uno ya existente.
     * @param original rayo a partir del cual construir la nueva recta
     * @return una nueva recta con su punto de comienzo y vector director iguales 
-    * a los del rayo pasado como parmetro
+    * a los del rayo pasado como parámetro
     * @see Rayo2D#comienzo()
     * @see Rayo2D#director()
     * @see Punto2D#Punto2D(Punto2D)
@@ -410,12 +410,12 @@ public class Rayo2D extends ObjetoGeometrico {
         this.director = new Vector2D(original.director());
     }
         
-  /** Comparacin del rayo con otro objeto geomtrico. Un rayo es igual a 
-    * otro objeto geomtrico si dicho objeto geomtrico es tambin un rayo
-    * y si tiene el mismo punto de comienzo y la misma direccin
-    * @param obj objeto geomtrico con el que se desea comparar la recta
-    * @return un valor booleano indicando si el objeto geomtrico pasado como
-    * parmetro es igual al rayo
+  /** Comparación del rayo con otro objeto geométrico. Un rayo es igual a 
+    * otro objeto geométrico si dicho objeto geométrico es también un rayo
+    * y si tiene el mismo punto de comienzo y la misma dirección
+    * @param obj objeto geométrico con el que se desea comparar la recta
+    * @return un valor booleano indicando si el objeto geométrico pasado como
+    * parámetro es igual al rayo
     * @see Rayo2D#comienzo()
     * @see Punto2D#equals(ObjetoGeometrico)
     * @see Rayo2D#director()
@@ -436,12 +436,12 @@ public class Rayo2D extends ObjetoGeometrico {
         else return false;
     }
 
-  /** Comparacin del rayo con otro objeto geomtrico. Un rayo es distinto a 
-    * otro objeto geomtrico si dicho objeto geomtrico no es un rayo
-    * o si no tiene el mismo punto de comienzo y direccin
-    * @param obj objeto geomtrico con el que se desea comparar la recta
-    * @return un valor booleano indicando si el objeto geomtrico pasado como
-    * parmetro es distinto al rayo
+  /** Comparación del rayo con otro objeto geométrico. Un rayo es distinto a 
+    * otro objeto geométrico si dicho objeto geométrico no es un rayo
+    * o si no tiene el mismo punto de comienzo y dirección
+    * @param obj objeto geométrico con el que se desea comparar la recta
+    * @return un valor booleano indicando si el objeto geométrico pasado como
+    * parámetro es distinto al rayo
     * @see Rayo2D#equals(ObjetoGeometrico)
     */
     public boolean not_equals (ObjetoGeometrico obj) 
@@ -449,17 +449,17 @@ public class Rayo2D extends ObjetoGeometrico {
         return !this.equals(obj);
     }
    
-  /** Obtiene el resultado de la interseccin del rayo con una recta. Para ello
-    * se resuelve el sistema de dos ecuaciones con dos incgnitas a partir de
-    * las ecuaciones paramtricas de ambos objetos geomtricos. Si dicho sistema no tiene solucin,
-    * se devolver null, si tiene solucin nica un punto (a menos que la solucin 
-    * quede fuera del rayo, por lo que se devolver tambin null) y si tiene 
-    * infinitas soluciones es que existen infinitos puntos de intereccin, por lo
-    * que se devolver el rayo
-    * @param otro recta con la que se desea obtener la interseccin
+  /** Obtiene el resultado de la intersección del rayo con una recta. Para ello
+    * se resuelve el sistema de dos ecuaciones con dos incógnitas a partir de
+    * las ecuaciones paramétricas de ambos objetos geométricos. Si dicho sistema no tiene solución,
+    * se devolverá null, si tiene solución única un punto (a menos que la solución 
+    * quede fuera del rayo, por lo que se devolverá también null) y si tiene 
+    * infinitas soluciones es que existen infinitos puntos de interección, por lo
+    * que se devolverá el rayo
+    * @param otro recta con la que se desea obtener la intersección
     * @return null si la recta y el rayo no intersectan, un objeto de tipo Punto2D
     * si intersectan en un punto, o un objeto de tipo Rayo2D (el propio rayo)
-    * si hay infinitos puntos de interseccin
+    * si hay infinitos puntos de intersección
     * @see Vector2D#despX()
     * @see Vector2D#despY()
     * @see Punto2D#x()
@@ -491,16 +491,16 @@ public class Rayo2D extends ObjetoGeometrico {
               // El sistema tiene infinitas soluciones
               return this;
            else
-              // El sistema no tiene solucin
+              // El sistema no tiene solución
               return null;
         else
         {
             double t = indep/coefT;
             if (this.contienePunto(otro.punto(t)))
-                // El sistema tiene solucin nica
+                // El sistema tiene solución única
                 return otro.punto(t);
             else
-                // Aunque el sistema tiene solucin nica, sta queda fuera
+                // Aunque el sistema tiene solución única, ésta queda fuera
                 // del rayo
                 return null;
         }
@@ -510,21 +510,21 @@ public class Rayo2D extends ObjetoGeometrico {
         }
     }
     
-  /** Obtiene el resultado de la interseccin del rayo con otro rayo. Solucionamos el sistema
-    * de ecuaciones paramtricas como si el segundo rayo fuera una recta. Si la solucin
+  /** Obtiene el resultado de la intersección del rayo con otro rayo. Solucionamos el sistema
+    * de ecuaciones paramétricas como si el segundo rayo fuera una recta. Si la solución
     * es un rayo, podemos tener diversas situaciones
     *<ul>
     *<li> si el punto de comienzo de un rayo se encuentra contenido en el otro y
-    * ambos tienen la misma direccin, el resultado ser un rayo</li>
+    * ambos tienen la misma dirección, el resultado será un rayo</li>
     *<li> si el punto de comienzo de un rayo se encuentra contenido en el otro, pero
-    * las direcciones son distintas, el resultado ser un segmento</li>
-    *<li> si el punto de comienzo de ninguno de los rayos est contenido en el otro,
-    * no habr ninguna interseccin</li>
+    * las direcciones son distintas, el resultado será un segmento</li>
+    *<li> si el punto de comienzo de ninguno de los rayos está contenido en el otro,
+    * no habrá ninguna intersección</li>
     <li>Si ambos rayos coinciden en el punto inicial y tiene direcciones opuestas, el 
-    * resultado ser un punto</li>
+    * resultado será un punto</li>
     *</ul>
-    * @param otro rayo con el que se desea obtener la interseccin
-    * @return el ObjetoGeomtrico resultante de la interseccin (null, un punto, 
+    * @param otro rayo con el que se desea obtener la intersección
+    * @return el ObjetoGeométrico resultante de la intersección (null, un punto, 
     * un segmento o un rayp)
     * @see Recta2D#Recta2D(Rayo2D)
     * @see Rayo2D#interseccionRecta(Recta2D)
@@ -571,21 +571,21 @@ public class Rayo2D extends ObjetoGeometrico {
         }
     }
     
-  /** Obtiene el resultado de la interseccin del rayo con un segmento. Resolvemos 
-    * el sistema de ecuaciones paramtricas a partir del rayo y de la recta obtenida
+  /** Obtiene el resultado de la intersección del rayo con un segmento. Resolvemos 
+    * el sistema de ecuaciones paramétricas a partir del rayo y de la recta obtenida
     * a partir del segmento. Si el resultado es un rayo, podemos tener varias situaciones:
     *<ul>
-    *<li> Si ambos extremos del segmento estn contenidos en el rayo, el resultado
-    * de la interseccin ser el propio segmento </li>
-    *<li> Si solo un extremo del segmento se encuentra en el rayo, el resultado ser
-    * otro rayo, cuys extremos sern el del segmento que est contenido en el rayo
+    *<li> Si ambos extremos del segmento están contenidos en el rayo, el resultado
+    * de la intersección será el propio segmento </li>
+    *<li> Si solo un extremo del segmento se encuentra en el rayo, el resultado será
+    * otro rayo, cuys extremos serán el del segmento que está contenido en el rayo
     * y el punto de comienzo del propio rayo </li>
-    *<li> si solo un punto del segmento est contenido en el rayo (un extremo del
-    * segmento que es igual al comiezno del rayo) el resultado ser un punto</li>
-    *<li>Si ningn extremo del segmento est contenido en el rayo no habra ninguna 
-    * interseccin</li>
+    *<li> si solo un punto del segmento está contenido en el rayo (un extremo del
+    * segmento que es igual al comiezno del rayo) el resultado será un punto</li>
+    *<li>Si ningún extremo del segmento está contenido en el rayo no habra ninguna 
+    * intersección</li>
     * </ul>
-    * @param otro segmento con el que se desea obtener la interseccin
+    * @param otro segmento con el que se desea obtener la intersección
     * @return null si la recta y el segmento no intersectan, un objeto de tipo Punto2D
     * si intersectan en un punto, o un objeto de tipo Rayo2D (el propio segmento)
     * si las soluciones del sistema son infinitas
@@ -629,12 +629,12 @@ public class Rayo2D extends ObjetoGeometrico {
         }
     }
     
-  /** Obtiene el punto del rayo correspondiente a un determinado parmetro.
-    * @param t valor por el que sustituir el parmetro en la ecuacin paramtrica
+  /** Obtiene el punto del rayo correspondiente a un determinado parámetro.
+    * @param t valor por el que sustituir el parámetro en la ecuación paramétrica
     * de la recta
     * @return el punto del rayo obtenido tras sustituir el valor pasado como 
-    * parmetro en el parmetro de la ecuacin paramtrica del rayo
-    * @exception GeomException si el valor pasado como parmetro es menor que cero
+    * parámetro en el parámetro de la ecuación paramétrica del rayo
+    * @exception GeomException si el valor pasado como parámetro es menor que cero
     * @see Punto2D#x()
     * @see Punto2D#y()
     * @see Vector2D#despX()
@@ -644,7 +644,7 @@ public class Rayo2D extends ObjetoGeometrico {
         double x, y;
         
         if (t < 0)
-            throw new GeomException("punto (double): el parmetro no puede ser menor que cero para el rayo");
+            throw new GeomException("punto (double): el parámetro no puede ser menor que cero para el rayo");
         else
         {
             x = comienzo.x() + t*director.despX();
@@ -654,13 +654,13 @@ public class Rayo2D extends ObjetoGeometrico {
         }
     }
 
-  /** Comprueba si un punto est contenido en el rayo. El punto estar contenido
-    * si es igual al comienzo del rayo o si la direccin formada desde el comienzo
+  /** Comprueba si un punto está contenido en el rayo. El punto estará contenido
+    * si es igual al comienzo del rayo o si la dirección formada desde el comienzo
     * del rayo al punto es igual a la formada desde el origen del rayo a cualquier
     * otro punto del mismo
     * cualquiera del rayo
-    * @param punto punto que se desea comprobar si est contenido en el rayo
-    * @return un valor booleano indicando si el punto est contenido en el rayo
+    * @param punto punto que se desea comprobar si está contenido en el rayo
+    * @return un valor booleano indicando si el punto está contenido en el rayo
     * @see Punto2D#equals(ObjetoGeometrico)
     * @see Rayo2D#punto(double)
     * @see Direccion2D#Direccion2D(Punto2D, Punto2D)
@@ -684,14 +684,14 @@ public class Rayo2D extends ObjetoGeometrico {
            }
     }       
     
-   /** Comprueba si un punto est contenido en el rayo. El punto estar contenido
+   /** Comprueba si un punto está contenido en el rayo. El punto estará contenido
     * si es igual al comienzo del rayo o si es colineal respecto a dos puntos 
     * cualquiera del rayo
-    * @param x coordenada cartesiana x del punto que se desea comprobar si est 
+    * @param x coordenada cartesiana x del punto que se desea comprobar si está 
     * contenido en el rayo
-    * @param y coordenada cartesiana y del punto que se desea comprobar si est 
+    * @param y coordenada cartesiana y del punto que se desea comprobar si está 
     * contenido en el rayo
-    * @return un valor booleano indicando si el punto est contenido en el rayo
+    * @return un valor booleano indicando si el punto está contenido en el rayo
     * @see Rayo2D#contienePunto(Punto2D)
     * @see Punto2D#Punto2D(double, double)
     */
@@ -699,17 +699,17 @@ public class Rayo2D extends ObjetoGeometrico {
            return contienePunto(new Punto2D(x, y));
     }
     
-  /** Comprueba si un punto est contenido en el rayo. El punto estar contenido
+  /** Comprueba si un punto está contenido en el rayo. El punto estará contenido
     * si es igual al comienzo del rayo o si es colineal respecto a dos puntos 
     * cualquiera del rayo
-    * @param hx coordenada homognea x del punto que se desea comprobar si est 
+    * @param hx coordenada homogénea x del punto que se desea comprobar si está 
     * contenido en el rayo
-    * @param hy coordenada homognea y del punto que se desea comprobar si est 
+    * @param hy coordenada homogénea y del punto que se desea comprobar si está 
     * contenido en el rayo
-    * @param hz coordenada homognea z del punto que se desea comprobar si est
+    * @param hz coordenada homogénea z del punto que se desea comprobar si está
     * contenido en el rayo
-    * @return un valor booleano indicando si el punto est contenido en el rayo
-    * @exception GeomException si la coordenada homognea z pasada como parmetro
+    * @return un valor booleano indicando si el punto está contenido en el rayo
+    * @exception GeomException si la coordenada homogénea z pasada como parámetro
     * vale cero
     * @see Rayo2D#contienePunto(Punto2D)
     * @see Punto2D#Punto2D(double, double, double)
@@ -718,12 +718,12 @@ public class Rayo2D extends ObjetoGeometrico {
            return contienePunto(new Punto2D(x, y));
     }
   
-  /** Comprueba si el rayo es colineal con el punto pasado como parmetro o si lo
+  /** Comprueba si el rayo es colineal con el punto pasado como parámetro o si lo
     * contiene
-    * @param punto punto que se desea saber si est contenido en el rayo o es
-    * colineal con ste
-    * @return un valor booleano indicando si el punto pasado como parmetro est
-    * contenido en el rayo o es colineal con ste
+    * @param punto punto que se desea saber si está contenido en el rayo o es
+    * colineal con éste
+    * @return un valor booleano indicando si el punto pasado como parámetro está
+    * contenido en el rayo o es colineal con éste
     * @exception GeomException si el rayo es un rayo degenerado
     * @see Rayo2D#degenerado()
     * @see Punto2D#posicionRelativa(Punto2D, Punto2D)
@@ -738,13 +738,13 @@ public class Rayo2D extends ObjetoGeometrico {
     }
 
   /** Comprueba si el rayo es colineal con el punto cuyas coordenadas cartesianas
-    * se pasan como parmetro o si lo contiene
-    * @param px coordenada cartesiana x del punto que se desea conocer si est contenido
-    * en el rayo o es colineal con ste
-    * @param py coordenada cartesiana y del punto que se desea conocer si est contenido
-    * en el rayo o es colineal con ste
+    * se pasan como parámetro o si lo contiene
+    * @param px coordenada cartesiana x del punto que se desea conocer si está contenido
+    * en el rayo o es colineal con éste
+    * @param py coordenada cartesiana y del punto que se desea conocer si está contenido
+    * en el rayo o es colineal con éste
     * @return un valor booleano indicando si el punto cuyas coordenadas cartesianas
-    * se han pasado como parmetro est contenido en el rayo o es colineal con ste
+    * se han pasado como parámetro está contenido en el rayo o es colineal con éste
     * @exception GeomException si el rayo es un rayo degenerado
     * @see Rayo2D#degenerado()
     * @see Punto2D#Punto2D(double, double)
@@ -761,16 +761,16 @@ public class Rayo2D extends ObjetoGeometrico {
             return (punto.posicionRelativa(comienzo, punto(1)) == Mat.COLINEAL);
         }
     }
-  /** Comprueba si el rayo es colineal con el punto cuyas coordenadas homogneas
-    * se pasan como parmetro o si lo contiene
-    * @param hx primera coordenada homognea del punto que se desea conocer si est contenido
-    * en el rayo o es colineal con ste
-    * @param hy segunda coordenada homognea del punto que se desea conocer si est contenido
-    * en el rayo o es colineal con ste
-    * @param hz tercera coordenada homognea del punto que se desea conocer si est contenido
-    * en el rayo o es colineal con ste
-    * @return un valor booleano indicando si el punto cuyas coordenadas homogneas
-    * se han pasado como parmetro est contenido en el rayo o es colineal con ste
+  /** Comprueba si el rayo es colineal con el punto cuyas coordenadas homogéneas
+    * se pasan como parámetro o si lo contiene
+    * @param hx primera coordenada homogénea del punto que se desea conocer si está contenido
+    * en el rayo o es colineal con éste
+    * @param hy segunda coordenada homogénea del punto que se desea conocer si está contenido
+    * en el rayo o es colineal con éste
+    * @param hz tercera coordenada homogénea del punto que se desea conocer si está contenido
+    * en el rayo o es colineal con éste
+    * @return un valor booleano indicando si el punto cuyas coordenadas homogéneas
+    * se han pasado como parámetro está contenido en el rayo o es colineal con éste
     * @exception GeomException si el rayo es un rayo degenerado
     * @see Rayo2D#degenerado()
     * @see Punto2D#Punto2D(double, double, double)
@@ -788,8 +788,8 @@ public class Rayo2D extends ObjetoGeometrico {
         }
     }
 
-  /** Comprueba si un punto est situado a la derecha del rayo. Esto suceder cuando
-    * el punto est a la derecha del segmento cuyo punto de inicio sea el comienzo del
+  /** Comprueba si un punto está situado a la derecha del rayo. Esto sucederá cuando
+    * el punto esté a la derecha del segmento cuyo punto de inicio sea el comienzo del
     * rayo y su punto final sea cualquier otro perteneciente al rayo
     * @param punto punto que se desea conocer si se encuentra a la derecha del
     * rayo
@@ -811,8 +811,8 @@ public class Rayo2D extends ObjetoGeometrico {
            }
     }
 
-  /** Comprueba si un punto est situado a la derecha del rayo. Esto suceder cuando
-    * el punto est a la derecha del segmento cuyo punto de inicio sea el comienzo del
+  /** Comprueba si un punto está situado a la derecha del rayo. Esto sucederá cuando
+    * el punto esté a la derecha del segmento cuyo punto de inicio sea el comienzo del
     * rayo y su punto final sea cualquier otro perteneciente al rayo
     * @param x coordedana cartesiana x del punto 
     * @param y coordenada cartesiana y del punto
@@ -836,15 +836,15 @@ public class Rayo2D extends ObjetoGeometrico {
         }
     }
     
-   /** Comprueba si un punto est situado a la derecha del rayo. Esto suceder cuando
-    * el punto est a la derecha del segmento cuyo punto de inicio sea el comienzo del
+   /** Comprueba si un punto está situado a la derecha del rayo. Esto sucederá cuando
+    * el punto esté a la derecha del segmento cuyo punto de inicio sea el comienzo del
     * rayo y su punto final sea cualquier otro perteneciente al rayo
-    * @param hx coordedana homognea x del punto 
-    * @param hy coordenada homognea y del punto
-    * @param hz coordenada homognea z del punto
+    * @param hx coordedana homogénea x del punto 
+    * @param hy coordenada homogénea y del punto
+    * @param hz coordenada homogénea z del punto
     * @return un valor booleano indicando si se dan las condiciones para que 
     * el punto se encuentre a la derecha del rayo
-    * @exception GeomException si la coordenada homognea z pasada como parmetro
+    * @exception GeomException si la coordenada homogénea z pasada como parámetro
     * vale cero
     * @see Punto2D#Punto2D(double, double, double)
     * @see Punto2D#equals(ObjetoGeometrico)
@@ -860,8 +860,8 @@ public class Rayo2D extends ObjetoGeometrico {
             return (punto.posicionRelativa(comienzo, punto(1)) == Mat.DERECHA);
     }
     
-  /** Comprueba si un punto est situado a la izquierda del rayo. Esto suceder cuando
-    * el punto est a la izquierda del segmento cuyo punto de inicio sea el comienzo del
+  /** Comprueba si un punto está situado a la izquierda del rayo. Esto sucederá cuando
+    * el punto esté a la izquierda del segmento cuyo punto de inicio sea el comienzo del
     * rayo y su punto final sea cualquier otro perteneciente al rayo
     * @param punto punto que se desea conocer si se encuentra a la izquierda del
     * rayo
@@ -883,8 +883,8 @@ public class Rayo2D extends ObjetoGeometrico {
            }
     }
     
-   /** Comprueba si un punto est situado a la izquierda del rayo. Esto suceder cuando
-    * el punto est a la izquierda del segmento cuyo punto de inicio sea el comienzo del
+   /** Comprueba si un punto está situado a la izquierda del rayo. Esto sucederá cuando
+    * el punto esté a la izquierda del segmento cuyo punto de inicio sea el comienzo del
     * rayo y su punto final sea cualquier otro perteneciente al rayo
     * @param x coordedana cartesiana x del punto 
     * @param y coordenada cartesiana y del punto
@@ -908,15 +908,15 @@ public class Rayo2D extends ObjetoGeometrico {
            }
     }
     
-   /** Comprueba si un punto est situado a la izquierda del rayo. Esto suceder cuando
-    * el punto est a la izquierda del segmento cuyo punto de inicio sea el comienzo del
+   /** Comprueba si un punto está situado a la izquierda del rayo. Esto sucederá cuando
+    * el punto esté a la izquierda del segmento cuyo punto de inicio sea el comienzo del
     * rayo y su punto final sea cualquier otro perteneciente al rayo
-    * @param hx coordedana homognea x del punto 
-    * @param hy coordenada homognea y del punto
-    * @param hz coordenada homognea z del punto
+    * @param hx coordedana homogénea x del punto 
+    * @param hy coordenada homogénea y del punto
+    * @param hz coordenada homogénea z del punto
     * @return un valor booleano indicando si se dan las condiciones para que 
     * el punto se encuentre a la izquierda del rayo
-    * @exception GeomException si la coordenada homognea z pasada como parmetro
+    * @exception GeomException si la coordenada homogénea z pasada como parámetro
     * vale cero
     * @see Punto2D#Punto2D(double, double, double)
     * @see Punto2D#equals(ObjetoGeometrico)
@@ -932,17 +932,17 @@ public class Rayo2D extends ObjetoGeometrico {
             return (punto.posicionRelativa(comienzo, punto(1)) == Mat.IZQUIERDA);
     }
     
-  /** Obtiene la distancia del rayo a un punto, as como el punto ms cercano del
+  /** Obtiene la distancia del rayo a un punto, así como el punto más cercano del
     * rayo a dicho punto. Para obtenerla se determina
     * si la recta perpendicular al rayo que pasa por el punto corta al rayo.
-    * En caso afirmativo la distancia ser la del punto al punto de corte de la recta
-    * con el rayo, y en caso negativo ser la distancia del punto al punto de 
+    * En caso afirmativo la distancia será la del punto al punto de corte de la recta
+    * con el rayo, y en caso negativo será la distancia del punto al punto de 
     * comienzo del rayo
     * @param punto punto al cual se desea obtener la distancia
-    * @param cercano punto del segmento ms cercano al punto pasado como primer
-    * parmetro. Es un parmetro de SALIDA, y debe ser un punto ya creado
+    * @param cercano punto del segmento más cercano al punto pasado como primer
+    * parámetro. Es un parámetro de SALIDA, y debe ser un punto ya creado
     * @return la distancia del rayo al punto
-    * @exception GeomException si el punto pasado como segundo parmetro no es
+    * @exception GeomException si el punto pasado como segundo parámetro no es
     * un punto inicializado
     * @see Recta2D#Recta2D(Rayo2D)
     * @see Recta2D#perpendicular(int)
@@ -955,7 +955,7 @@ public class Rayo2D extends ObjetoGeometrico {
         Vector2D diferencia = new Vector2D();
         
         if (cercano == null) 
-            throw new GeomException("puntoMasCercano (Punto2D, Punto2D): el segundo parmetro debe estar inicializado");
+            throw new GeomException("puntoMasCercano (Punto2D, Punto2D): el segundo parámetro debe estar inicializado");
         try {
             Recta2D rectaPerpendicular = new Recta2D(this);
             rectaPerpendicular = rectaPerpendicular.perpendicular(Mat.HORARIO);
@@ -963,7 +963,7 @@ public class Rayo2D extends ObjetoGeometrico {
             ObjetoGeometrico corte = recta.interseccionRayo(this);
             if (corte instanceof Punto2D)
             {
-                // La distancia ser igual a la distancia del punto al punto
+                // La distancia será igual a la distancia del punto al punto
                 // de corte de la recta con el rayo
                 Punto2D puntoCorte = (Punto2D) corte;
                 distancia = punto.distancia(puntoCorte);
@@ -971,7 +971,7 @@ public class Rayo2D extends ObjetoGeometrico {
             }
             else
             {
-                // La distancia ser igual a la distancia del punto al 
+                // La distancia será igual a la distancia del punto al 
                 // comienzo del rayo
                 distancia = punto.distancia(comienzo);
                 diferencia = comienzo.vectorDiferencia(cercano);
@@ -1022,7 +1022,7 @@ public class Rayo2D extends ObjetoGeometrico {
         else return false;
     }
     
-  /** Determina si el rayo es un rayo degenerado. Esto suceder si el vector 
+  /** Determina si el rayo es un rayo degenerado. Esto sucederá si el vector 
     * director es u vector nulo
     * @return un valor booleano indicando si el rayo es un rayo degenerado
     * @see Vector2D#vectorNulo()
@@ -1043,14 +1043,14 @@ public class Rayo2D extends ObjetoGeometrico {
     }
     
     
-  /** Obtiene el valor por el que se debe sustituir el parmetro de la ecuacin 
-    * paramtrica del rayo para que el resultado sea un determinado punto.
+  /** Obtiene el valor por el que se debe sustituir el parámetro de la ecuación 
+    * paramétrica del rayo para que el resultado sea un determinado punto.
     * El punto se obtiene a partir de sus coordenadas cartesianas.
     * @param x coordenada cartesiana x del punto
     * @param y coordenada cartesiana y del punto
-    * @return el valor del parmetro que al aplicarse a la ecuacin parmetrica
+    * @return el valor del parámetro que al aplicarse a la ecuación parámetrica
     * hace que se obtenga el punto cuyas coordendas cartesianas se han pasado
-    * como parmetro
+    * como parámetro
     * @exception GeomException si el punto no pertenece al rayo
     * @see Punto2D#Punto2D(double, double)
     * @see Rayo2D#parametroPunto(Punto2D) 
@@ -1059,11 +1059,11 @@ public class Rayo2D extends ObjetoGeometrico {
         return parametroPunto(new Punto2D(x,y));
     }
     
-  /** Obtiene el valor por el que se debe sustituir el parmetro de la ecuacin
-    * paramtrica del rayo para que el resultado sea un determinado punto
+  /** Obtiene el valor por el que se debe sustituir el parámetro de la ecuación
+    * paramétrica del rayo para que el resultado sea un determinado punto
     * @param punto el punto del rayo
-    * @return el valor del parmetro que al aplicarse a la ecuacin paramtrica
-    * hace que se obtenga el punto pasado como parmetro.
+    * @return el valor del parámetro que al aplicarse a la ecuación paramétrica
+    * hace que se obtenga el punto pasado como parámetro.
     * @exception GeomException si el punto no pertenece al rayo
     * @see Punto2D#x()
     * @see Vector2D#despX()
@@ -1078,7 +1078,7 @@ public class Rayo2D extends ObjetoGeometrico {
     }
     
   /** Traslada el rayo en el plano a partir de un determinado incremento en
-   * cada coordenada cartesiana. La traslacin se aplicar al punto inicial
+   * cada coordenada cartesiana. La traslación se aplicará al punto inicial
    * del rayo
    * @param incX incremento o desplazamiento en el eje x
    * @param incY incremento o desplazamiento en el eje y
@@ -1091,8 +1091,8 @@ public class Rayo2D extends ObjetoGeometrico {
     }
     
   /** Traslada el rayo en el plano aplicando el mismo incremento en cada
-    * eje. La traslacin se aplicar al punto inicial del rayo.
-    * @param incr incremento o desplazamiento que ser aplicado tanto al eje x 
+    * eje. La traslación se aplicará al punto inicial del rayo.
+    * @param incr incremento o desplazamiento que será aplicado tanto al eje x 
     * como al eje y
     * @return el rayo trasladado
     * @see Punto2D#trasladar(double)
@@ -1102,9 +1102,9 @@ public class Rayo2D extends ObjetoGeometrico {
         return this;
     }
     
-  /** Traslada el rayo en la direccin y a la distancia determinados por un 
-    * vector. Se aplicar la traslacin al punto inicial del rayo
-    * @param vector el vector que define la traslacin del rayo
+  /** Traslada el rayo en la dirección y a la distancia determinados por un 
+    * vector. Se aplicará la traslación al punto inicial del rayo
+    * @param vector el vector que define la traslación del rayo
     * @return el rayo trasladado
     * @see Punto2D#trasladar(Vector2D)
     */
@@ -1114,12 +1114,12 @@ public class Rayo2D extends ObjetoGeometrico {
         return this;
     }
     
-  /** Traslacin del rayo a partir de las coordenadas polares (se traslada
+  /** Traslación del rayo a partir de las coordenadas polares (se traslada
     * el punto inicial del rayo una determinada
-    * distancia en un determinado ngulo)
-    * @param angulo direccin de traslacin del rayo
-    * @param dist distancia a la que se mover el rayo de su posicin original
-    * siguiendo el ngulo indicado
+    * distancia en un determinado ángulo)
+    * @param angulo dirección de traslación del rayo
+    * @param dist distancia a la que se moverá el rayo de su posición original
+    * siguiendo el ángulo indicado
     * @return el rayo trasladado
     * @see Punto2D#trasladarPolar(double, double)
     */
@@ -1128,7 +1128,7 @@ public class Rayo2D extends ObjetoGeometrico {
         return this;
     }
     
-  /** Escalado de un rayo. Se aplicar el escalado al punto inicial del rayo y
+  /** Escalado de un rayo. Se aplicará el escalado al punto inicial del rayo y
     * al vector director. 
     * @param escala factor de escalado
     * @return el rayo
@@ -1143,7 +1143,7 @@ public class Rayo2D extends ObjetoGeometrico {
     }
     
   /** Escalado de un rayo con distinto factor de escalado para cada coordenada. 
-    * Se aplicar el escalado al punto inicial del rayo y al 
+    * Se aplicará el escalado al punto inicial del rayo y al 
     * vector director.
     * @param sx factor de escalado en el eje x
     * @param sy factor de escalado en el eje y
@@ -1159,9 +1159,9 @@ public class Rayo2D extends ObjetoGeometrico {
     }
     
   /** Rota el rayo respecto del origen de coordenadas
-    * @param radio angulo de giro en radianes. Si es positivo el giro ser
-    * en sentido antihorario y en caso contrario lo ser en sentido horario
-    * @return el rayo girado segn el ngulo pasado como parmetro
+    * @param radio angulo de giro en radianes. Si es positivo el giro será
+    * en sentido antihorario y en caso contrario lo será en sentido horario
+    * @return el rayo girado según el ángulo pasado como parámetro
     * @see Punto2D#gira(double)
     */
     public Rayo2D gira(double radio) {
@@ -1171,10 +1171,10 @@ public class Rayo2D extends ObjetoGeometrico {
     }
     
    /** Rota el rayo respecto a un determinado punto
-    * @param origen punto respecto al cual realizar la rotacin
-    * @param radio angulo de giro en radianes. Si es positivo el giro ser
-    * en sentido antihorario y en caso contrario lo ser en sentido horario
-    * @return el rayo girado segn el ngulo pasado como parmetro
+    * @param origen punto respecto al cual realizar la rotación
+    * @param radio angulo de giro en radianes. Si es positivo el giro será
+    * en sentido antihorario y en caso contrario lo será en sentido horario
+    * @return el rayo girado según el ángulo pasado como parámetro
     * @see Punto2D#gira(Punto2D, double)
     */
     public Rayo2D gira(Punto2D origen, double radio) {
@@ -1199,8 +1199,8 @@ public class Rayo2D extends ObjetoGeometrico {
         return comienzo;
     }
     
-  /** Obtiene la direccin asociada al vector director del rayo.
-    * @return direccin obtenida a partir del vector director del rayo
+  /** Obtiene la dirección asociada al vector director del rayo.
+    * @return dirección obtenida a partir del vector director del rayo
     * @see Vector2D#direccion()
     */
     public Direccion2D direccion()
@@ -1209,8 +1209,8 @@ public class Rayo2D extends ObjetoGeometrico {
     }
     
   /** Obtiene la recta que contiene al rayo
-    * @return una recta cuyo punto base de la ecuacin paramtrica ser el punto
-    * inicial del rayo y cuyo vector director ser el mismo que el del rayo
+    * @return una recta cuyo punto base de la ecuación paramétrica será el punto
+    * inicial del rayo y cuyo vector director será el mismo que el del rayo
     * @see Recta2D#Recta2D(Rayo2D)
     */
     public Recta2D recta()
@@ -1218,9 +1218,9 @@ public class Rayo2D extends ObjetoGeometrico {
         return new Recta2D(this);
     }
     
-  /** Realiza la conversin del objeto de tipo Rayo2D a una cadena
+  /** Realiza la conversión del objeto de tipo Rayo2D a una cadena
     * @return una cadena especificando el tipo de objeto (rayo) y sus
-    * componentes (punto de inicio y vector director de la ecuacin paramtrica)
+    * componentes (punto de inicio y vector director de la ecuación paramétrica)
     * @see Punto2D#x()
     * @see Punto2D#y()
     * @see Vector2D#despX()
@@ -1249,8 +1249,8 @@ public class Rayo2D extends ObjetoGeometrico {
                     pos = i;
             }
             
-            // Determinamos el punto de destino de la lnea a dibujar para representar
-            // el rayo (el comienzo ser el propio comienzo del rayo)
+            // Determinamos el punto de destino de la línea a dibujar para representar
+            // el rayo (el comienzo será el propio comienzo del rayo)
             Punto2D punto;
             if (pos != -1)
             {
@@ -11,7 +11,7 @@ import JavaRG.Nucleo2D.*;
 import java.awt.*;
 
 /** Un objeto de la clase <code>Recta2D</code> representa una recta en el espacio
- * 2D. Est definida por su ecuacin paramtrica (a partir de un punto base
+ * 2D. Está definida por su ecuación paramétrica (a partir de un punto base
  * y un vector director)
  *
  * @author  Pablo Suau 
@@ -19,10 +19,10 @@ import java.awt.*;
  */
 public class Recta2D extends ObjetoGeometrico {
 
-    /** Punto base de la ecuacin paramtrica
+    /** Punto base de la ecuación paramétrica
      */
     Punto2D comienzo;
-    /** Vector director de la ecuacin paramtrica
+    /** Vector director de la ecuación paramétrica
      */
     Vector2D director;
 
@@ -37,13 +37,13 @@ public class Recta2D extends ObjetoGeometrico {
         director = new Vector2D(comienzo, new Punto2D(0, 1));
     }
 
-    /** Constructor de la recta a partir de dos puntos. El punto base de la ecuacin
-     * paramtrica ser el primer punto, y el vector director estar definido entre
+    /** Constructor de la recta a partir de dos puntos. El punto base de la ecuación
+     * paramétrica será el primer punto, y el vector director estará definido entre
      * ese primer punto y el segundo.
      * @param p1 el primer punto
      * @param p2 el segundo punto
      * @return una nueva recta definida a partir de los dos puntos pasados como
-     * parmetro
+     * parámetro
      * @exception GeomException si el vector director definido entre los dos puntos
      * es de magnitud cero
      * @see Punto2D#Punto2D(Punto2D)
@@ -63,15 +63,15 @@ public class Recta2D extends ObjetoGeometrico {
     }
 
     /** Constructor de la recta a partir de las coordenadas cartesianas de dos puntos
-     *. El punto base de la ecuacin
-     * paramtrica ser el primer punto, y el vector director estar definido entre
+     *. El punto base de la ecuación
+     * paramétrica será el primer punto, y el vector director estará definido entre
      * ese primer punto y el segundo.
      * @param x1 coordenada cartesiana x del primer punto
      * @param y1 coordenada cartesiana y del primer punto
      * @param x2 coordenada cartesiana x del segundo punto
      * @param y2 coordenada cartesiana y del segundo punto
      * @return una nueva recta definida a partir de los dos puntos cuyas
-     * coordenadas cartesianas han sido pasadas como parmetro
+     * coordenadas cartesianas han sido pasadas como parámetro
      * @exception GeomException si el vector director definido entre los dos puntos
      * es de magnitud cero
      * @see Punto2D#Punto2D(double, double)
@@ -92,20 +92,20 @@ public class Recta2D extends ObjetoGeometrico {
         }
     }
 
-    /** Constructor de la recta a partir de las coordenadas homogneas de dos puntos
-     *. El punto base de la ecuacin
-     * paramtrica ser el primer punto, y el vector director estar definido entre
+    /** Constructor de la recta a partir de las coordenadas homogéneas de dos puntos
+     *. El punto base de la ecuación
+     * paramétrica será el primer punto, y el vector director estará definido entre
      * ese primer punto y el segundo.
-     * @param hx1 coordenada homognea x del primer punto
-     * @param hy1 coordenada homognea y del primer punto
-     * @param hz1 coordenada homognea z del primer punto
-     * @param hx2 coordenada homognea x del segundo punto
-     * @param hy2 coordenada homognea y del segundo punto
-     * @param hz2 coordenada homognea z del segundo punto
+     * @param hx1 coordenada homogénea x del primer punto
+     * @param hy1 coordenada homogénea y del primer punto
+     * @param hz1 coordenada homogénea z del primer punto
+     * @param hx2 coordenada homogénea x del segundo punto
+     * @param hy2 coordenada homogénea y del segundo punto
+     * @param hz2 coordenada homogénea z del segundo punto
      * @return una nueva recta definida a partir de los dos puntos cuyas
-     * coordenadas homogneas han sido pasadas como parmetro
+     * coordenadas homogéneas han sido pasadas como parámetro
      * @exception GeomException si el vector director definido entre los dos puntos
-     * es de magnitud cero o si la coordenada homognea z de alguno de los dos
+     * es de magnitud cero o si la coordenada homogénea z de alguno de los dos
      * puntos es cero
      * @see Punto2D#Punto2D(double, double, double)
      * @see Punto2D#Punto2D(Punto2D)
@@ -128,13 +128,13 @@ public class Recta2D extends ObjetoGeometrico {
         }
     }
 
-    /** Constructor de la recta a partir de un punto y un vector. La ecuacin
-     * paramtrica ser construida a partir de dichos punto y vector.
-     * @param punto punto base de la ecuacin paramtrica
-     * @param vector vector director de la ecuacin paramtrica
-     * @return una nueva recta cuya ecuacin paramtrica se construye a partir
-     * del punto y el vector pasados como parmetro
-     * @exception GeomException si el vector pasado como parmetro tiene
+    /** Constructor de la recta a partir de un punto y un vector. La ecuación
+     * paramétrica será construida a partir de dichos punto y vector.
+     * @param punto punto base de la ecuación paramétrica
+     * @param vector vector director de la ecuación paramétrica
+     * @return una nueva recta cuya ecuación paramétrica se construye a partir
+     * del punto y el vector pasados como parámetro
+     * @exception GeomException si el vector pasado como parámetro tiene
      * magnitud cero
      * @see Vector2D#magnitud()
      * @see Punto2D#Punto2D(Punto2D)
@@ -151,14 +151,14 @@ public class Recta2D extends ObjetoGeometrico {
     }
 
     /** Constructor de la recta a partir de las coordenadas cartesianas de un
-     * punto y un vector. La ecuacin
-     * paramtrica ser construida a partir de dichos punto y vector.
-     * @param x coordenada cartesiana x del punto base de la ecuacin paramtrica
-     * @param y coordenada cartesiana y del punto base de la ecuacin paramtrica
-     * @param vector vector director de la ecuacin paramtrica
-     * @return una nueva recta cuya ecuacin paramtrica se construye a partir
-     * de las coordendas cartesianas del punto y el vector pasados como parmetro
-     * @exception GeomException si el vector pasado como parmetro tiene
+     * punto y un vector. La ecuación
+     * paramétrica será construida a partir de dichos punto y vector.
+     * @param x coordenada cartesiana x del punto base de la ecuación paramétrica
+     * @param y coordenada cartesiana y del punto base de la ecuación paramétrica
+     * @param vector vector director de la ecuación paramétrica
+     * @return una nueva recta cuya ecuación paramétrica se construye a partir
+     * de las coordendas cartesianas del punto y el vector pasados como parámetro
+     * @exception GeomException si el vector pasado como parámetro tiene
      * magnitud cero
      * @see Vector2D#magnitud()
      * @see Punto2D#Punto2D(double, double)
@@ -174,17 +174,17 @@ public class Recta2D extends ObjetoGeometrico {
         }
     }
 
-    /** Constructor de la recta a partir de las coordenadas homogneas de un
-     * punto y un vector. La ecuacin
-     * paramtrica ser construida a partir de dichos punto y vector.
-     * @param hx coordenada homognea x del punto base de la ecuacin paramtrica
-     * @param hy coordenada homognea y del punto base de la ecuacin paramtrica
-     * @param hz coordenada homognea z del punto base de la ecuacin paramtrica
-     * @param vector vector director de la ecuacin paramtrica
-     * @return una nueva recta cuya ecuacin paramtrica se construye a partir
-     * de las coordendas homogneas del punto y el vector pasados como parmetro
-     * @exception GeomException si el vector pasado como parmetro tiene
-     * magnitud cero o si la coordenada homognea z pasada como parmetro vale
+    /** Constructor de la recta a partir de las coordenadas homogéneas de un
+     * punto y un vector. La ecuación
+     * paramétrica será construida a partir de dichos punto y vector.
+     * @param hx coordenada homogénea x del punto base de la ecuación paramétrica
+     * @param hy coordenada homogénea y del punto base de la ecuación paramétrica
+     * @param hz coordenada homogénea z del punto base de la ecuación paramétrica
+     * @param vector vector director de la ecuación paramétrica
+     * @return una nueva recta cuya ecuación paramétrica se construye a partir
+     * de las coordendas homogéneas del punto y el vector pasados como parámetro
+     * @exception GeomException si el vector pasado como parámetro tiene
+     * magnitud cero o si la coordenada homogénea z pasada como parámetro vale
      * cero
      * @see Vector2D#magnitud()
      * @see Punto2D#Punto2D(double, double, double)
@@ -199,16 +199,16 @@ public class Recta2D extends ObjetoGeometrico {
         }
     }
 
-    /** Constructor de la recta a partir de un punto y una direccin. La ecuacin
-     * paramtrica ser construida a partir de dichos punto y el vector unitario
-     * correspondiente a la direccin
-     * @param punto punto base de la ecuacin paramtrica
-     * @param direccion la direccin a partir de la cual obtener el vector
+    /** Constructor de la recta a partir de un punto y una dirección. La ecuación
+     * paramétrica será construida a partir de dichos punto y el vector unitario
+     * correspondiente a la dirección
+     * @param punto punto base de la ecuación paramétrica
+     * @param direccion la dirección a partir de la cual obtener el vector
      * director
-     * @return una nueva recta cuya ecuacun paramtrica se construye a partir
-     * del punto y la direccin pasados como parmetro
-     * @exception GeomException si el vector obtenido a partir de la direccin
-     * pasada como parmetro tiene  magnitud cero
+     * @return una nueva recta cuya ecuacuón paramétrica se construye a partir
+     * del punto y la dirección pasados como parámetro
+     * @exception GeomException si el vector obtenido a partir de la dirección
+     * pasada como parámetro tiene  magnitud cero
      * @see Vector2D#magnitud()
      * @see Punto2D#Punto2D(Punto2D)
      * @see Vector2D#Vector2D(Vector2D)
@@ -225,17 +225,17 @@ public class Recta2D extends ObjetoGeometrico {
     }
 
     /** Constructor de la recta a partir de las coordenadas cartesianas de un
-     * punto y una direccin. La ecuacin  paramtrica ser construida a partir
-     * de dichos punto y el vector untiario correspondiente a la direccin.
-     * @param x coordenada cartesiana x del punto base de la ecuacin paramtrica
-     * @param y coordenada cartesiana y del punto base de la ecuacin paramtrica
-     * @param direccion la direccin a partir de la cual obtener el vector
+     * punto y una dirección. La ecuación  paramétrica será construida a partir
+     * de dichos punto y el vector untiario correspondiente a la dirección.
+     * @param x coordenada cartesiana x del punto base de la ecuación paramétrica
+     * @param y coordenada cartesiana y del punto base de la ecuación paramétrica
+     * @param direccion la dirección a partir de la cual obtener el vector
      * director
-     * @return una nueva recta cuya ecuacun paramtrica se construye a partir
-     * de las coordenadas cartesianas del punto y la direccin pasados como
-     * parmetro
-     * @exception GeomException si el vector obtenido a partir de la direccin
-     * pasada como parmetro tiene  magnitud cero
+     * @return una nueva recta cuya ecuacuón paramétrica se construye a partir
+     * de las coordenadas cartesianas del punto y la dirección pasados como
+     * parámetro
+     * @exception GeomException si el vector obtenido a partir de la dirección
+     * pasada como parámetro tiene  magnitud cero
      * @see Vector2D#magnitud()
      * @see Punto2D#Punto2D(double, double)
      * @see Vector2D#Vector2D(Vector2D)
@@ -251,19 +251,19 @@ public class Recta2D extends ObjetoGeometrico {
         }
     }
 
-    /** Constructor de la recta a partir de las coordenadas homogneas de un
-     * punto y una direccin. La ecuacin  paramtrica ser construida a partir
-     * de dichos punto y el vector unitario correspondiente a la direccin.
-     * @param hx coordenada homognea x del punto base de la ecuacin paramtrica
-     * @param hy coordenada homognea y del punto base de la ecuacin paramtrica
-     * @param hz coordenada homognea z del punto base de la ecuacin paramtrica
-     * @param direccion la direccin a partir de la cual obtener el vector
+    /** Constructor de la recta a partir de las coordenadas homogéneas de un
+     * punto y una dirección. La ecuación  paramétrica será construida a partir
+     * de dichos punto y el vector unitario correspondiente a la dirección.
+     * @param hx coordenada homogénea x del punto base de la ecuación paramétrica
+     * @param hy coordenada homogénea y del punto base de la ecuación paramétrica
+     * @param hz coordenada homogénea z del punto base de la ecuación paramétrica
+     * @param direccion la dirección a partir de la cual obtener el vector
      * director
-     * @return una nueva recta cuya ecuacun paramtrica se construye a partir
-     * de las coordenadas homogneas del punto y la direccin pasados como
-     * parmetro
-     * @exception GeomException si el vector obtenido a partir de la direccin
-     * pasada como parmetro tiene  magnitud cero o si la coordenada homognea
+     * @return una nueva recta cuya ecuacuón paramétrica se construye a partir
+     * de las coordenadas homogéneas del punto y la dirección pasados como
+     * parámetro
+     * @exception GeomException si el vector obtenido a partir de la dirección
+     * pasada como parámetro tiene  magnitud cero o si la coordenada homogénea
      * z del punto vale cero
      * @see Vector2D#magnitud()
      * @see Punto2D#Punto2D(double, double)
@@ -279,9 +279,9 @@ public class Recta2D extends ObjetoGeometrico {
         }
     }
 
-    /** Constructor de la recta a partir un segmento. El punto base de la ecuacin
-     * paramtrica ser el punto de inicio del segmento, y el vector director
-     * estar definido entre los puntos inicial y final del segmento.
+    /** Constructor de la recta a partir un segmento. El punto base de la ecuación
+     * paramétrica será el punto de inicio del segmento, y el vector director
+     * estará definido entre los puntos inicial y final del segmento.
      * @param segmento segmento a partir del cual obtener la recta
      * @return una nueva recta definida a partir de los dos extremos del segmento
      * @see Segmento2D#comienzo()
@@ -294,9 +294,9 @@ public class Recta2D extends ObjetoGeometrico {
         director = new Vector2D(segmento.comienzo(), segmento.fin());
     }
 
-    /** Construccin de la recta a partir de un rayo. El punto base de la ecuacin
-     * paramtrica ser el punto de comienzo del rayo, y el vector director ser
-     * tambin el vector director del rayo.
+    /** Construcción de la recta a partir de un rayo. El punto base de la ecuación
+     * paramétrica será el punto de comienzo del rayo, y el vector director será
+     * también el vector director del rayo.
      * @param rayo rayo a partir del cual obtener la recta
      * @return una nueva recta a partir del punto de comienzo y el vector director
      * del rayo
@@ -310,13 +310,13 @@ public class Recta2D extends ObjetoGeometrico {
         director = new Vector2D(rayo.director());
     }
 
-    /** Constructor de la recta a partir de las componentes de la ecuacin
-     * cartesiana de la recta ax + by + c = 0. Obtenemos dos puntos de la ecuacin
-     * cartesiana a partir de las cuales construimos la ecuacin paramtrica
+    /** Constructor de la recta a partir de las componentes de la ecuación
+     * cartesiana de la recta ax + by + c = 0. Obtenemos dos puntos de la ecuación
+     * cartesiana a partir de las cuales construimos la ecuación paramétrica
      * @param a primer coeficiente
      * @param b segunda coeficiente
      * @param c tercer coeficiente
-     * @return una nueva recta a partir de su ecuacin cartesiana
+     * @return una nueva recta a partir de su ecuación cartesiana
      * @exception GeomException si la recta tiene pendiente infinita
      * @see Punto2D#Punto2D(double, double)
      * @see Vector2D#Vector2D(double, double, double, double)
@@ -338,7 +338,7 @@ public class Recta2D extends ObjetoGeometrico {
      * de una ya existente.
      * @param original recta a partir de la cual construir la nueva recta
      * @return una nueva recta con su punto de comienzo y vector director iguales
-     * a los de la recta pasada como parmetro
+     * a los de la recta pasada como parámetro
      * @see Recta2D#punto(double)
      * @see Recta2D#director()
      * @see Punto2D#Punto2D(Punto2D)
@@ -349,14 +349,14 @@ public class Recta2D extends ObjetoGeometrico {
         this.director = new Vector2D(original.director());
     }
 
-    /** Comparacin de la recta con otro objeto geomtrico. Una recta es igual a
-     * otro objeto geomtrico si dicho objeto geomtrico es tambin una recta
+    /** Comparación de la recta con otro objeto geométrico. Una recta es igual a
+     * otro objeto geométrico si dicho objeto geométrico es también una recta
      * y si se cumple lo siguiente:
-     * <ul><li> El punto base de una recta est contenido en la otra</li>
-     * <li> La direccin de ambos vectores directores es la misma <li></ul>
-     * @param obj objeto geomtrico con el que se desea comparar la recta
-     * @return un valor booleano indicando si el objeto geomtrico pasado como
-     * parmetro es igual a la recta
+     * <ul><li> El punto base de una recta está contenido en la otra</li>
+     * <li> La dirección de ambos vectores directores es la misma <li></ul>
+     * @param obj objeto geométrico con el que se desea comparar la recta
+     * @return un valor booleano indicando si el objeto geométrico pasado como
+     * parámetro es igual a la recta
      * @see Recta2D#posicionPunto(Punto2D)
      * @see Vector2D#anguloEntreVectores(Vector2D)
      * @see Recta2D#director()
@@ -381,14 +381,14 @@ public class Recta2D extends ObjetoGeometrico {
         }
     }
 
-    /** Comparacin de la recta con otro objeto geomtrico. Una recta es distinta a
-     * otro objeto geomtrico si dicho objeto geomtrico no es una recta
+    /** Comparación de la recta con otro objeto geométrico. Una recta es distinta a
+     * otro objeto geométrico si dicho objeto geométrico no es una recta
      * o si no se cumple lo siguiente:
-     * <ul><li> El punto base de una recta est contenido en la otra</li>
-     * <li> La direccin de ambos vectores directores es la misma <li></ul>
-     * @param obj objeto geomtrico con el que se desea comparar la recta
-     * @return un valor booleano indicando si el objeto geomtrico pasado como
-     * parmetro es distinto a la recta
+     * <ul><li> El punto base de una recta está contenido en la otra</li>
+     * <li> La dirección de ambos vectores directores es la misma <li></ul>
+     * @param obj objeto geométrico con el que se desea comparar la recta
+     * @return un valor booleano indicando si el objeto geométrico pasado como
+     * parámetro es distinto a la recta
      * @see Recta2D#equals(ObjetoGeometrico)
      */
     public boolean not_equals (ObjetoGeometrico obj)
@@ -396,12 +396,12 @@ public class Recta2D extends ObjetoGeometrico {
         return !this.equals(obj);
     }
 
-    /** Obtiene el resultado de la interseccin de la recta con otra recta. Para ello
-     * se resuelve el sistema de dos ecuaciones con dos incgnitas a partir de
-     * las ecuaciones paramtricas de ambas rectas. Si dicho sistema no tiene solucin,
-     * se devolver null, si tiene solucin nica un punto y si tiene infinitas soluciones
-     * es que las rectas son coincidentes y por tanto se devolver una recta
-     * @param otro recta con la que se desea obtener la interseccin
+    /** Obtiene el resultado de la intersección de la recta con otra recta. Para ello
+     * se resuelve el sistema de dos ecuaciones con dos incógnitas a partir de
+     * las ecuaciones paramétricas de ambas rectas. Si dicho sistema no tiene solución,
+     * se devolverá null, si tiene solución única un punto y si tiene infinitas soluciones
+     * es que las rectas son coincidentes y por tanto se devolverá una recta
+     * @param otro recta con la que se desea obtener la intersección
      * @return null si las rectas no intersectan, un objeto de tipo Punto2D
      * si intersectan en un punto, o un objeto de tipo Recta2D (la propia recta)
      * si ambas rectas son coincidentes
@@ -418,8 +418,8 @@ public class Recta2D extends ObjetoGeometrico {
     {
         double coefT, indep, mult;
         
-        // Resolvemos un sistema de dos ecuaciones con dos incgnitas a partir
-        // de las ecuaciones paramtricas de las rectas
+        // Resolvemos un sistema de dos ecuaciones con dos incógnitas a partir
+        // de las ecuaciones paramétricas de las rectas
         if (Mat.absoluto(this.director().despX()) > Mat.EPSILON) {
             mult = (this.director().despY() / this.director().despX());
             coefT = -otro.director().despY() + otro.director().despX()*mult;
@@ -429,7 +429,7 @@ public class Recta2D extends ObjetoGeometrico {
             coefT = -otro.director().despX() + otro.director().despY()*mult;
             indep = (otro.punto(0).x() - this.punto(0).x()) - mult*(otro.punto(0).y() - this.punto(0).y());
         } else {
-            // Caso degenerado. La recta est formada por un nico punto
+            // Caso degenerado. La recta está formada por un único punto
             try {
                 if (otro.contienePunto(this.punto(0)))
                     return this.punto(0);
@@ -446,20 +446,20 @@ public class Recta2D extends ObjetoGeometrico {
                 //El sistema tiene infinitas soluciones
                 return otro;
             else
-                // El sistema no tiene solucin
+                // El sistema no tiene solución
                 return null;
          else
-            // El sistema tiene solucin nica
+            // El sistema tiene solución única
             return otro.punto(indep/coefT);
     }
 
-    /** Obtiene el resultado de la interseccin de la recta con un rayo. Para ello
-     * se resuelve el sistema de dos ecuaciones con dos incgnitas a partir de
-     * las ecuaciones paramtricas del rayo y la recta. Si dicho sistema no tiene solucin,
-     * se devolver null, si tiene solucin nica un punto (si ese punto est contenido
-     * en el rayo, en otro caso devolver null) y si tiene infinitas soluciones
-     * se devolver el mismo rayo
-     * @param otro rayo con el que se desea obtener la interseccin
+    /** Obtiene el resultado de la intersección de la recta con un rayo. Para ello
+     * se resuelve el sistema de dos ecuaciones con dos incógnitas a partir de
+     * las ecuaciones paramétricas del rayo y la recta. Si dicho sistema no tiene solución,
+     * se devolverá null, si tiene solución única un punto (si ese punto está contenido
+     * en el rayo, en otro caso devolverá null) y si tiene infinitas soluciones
+     * se devolverá el mismo rayo
+     * @param otro rayo con el que se desea obtener la intersección
      * @return null si la recta y el rayo no intersectan, un objeto de tipo Punto2D
      * si intersectan en un punto, o un objeto de tipo Rayo2D (el propio rayo)
      * si las soluciones del sistema son infinitas
@@ -483,14 +483,14 @@ public class Recta2D extends ObjetoGeometrico {
         return result;
     }
 
-    /** Obtiene el resultado de la interseccin de la recta con un segmento. Para ello
-     * se resuelve el sistema de dos ecuaciones con dos incgnitas a partir de
-     * las ecuaciones paramtricas de la recta y la recta obtenida a partir del
-     * segmento. Si dicho sistema no tiene solucin,
-     * se devolver null, si tiene solucin nica un punto (si ese punto est contenido
-     * en el segmento, en otro caso devolver null) y si tiene infinitas soluciones
-     * se devolver el mismo segmento
-     * @param otro segmento con el que se desea obtener la interseccin
+    /** Obtiene el resultado de la intersección de la recta con un segmento. Para ello
+     * se resuelve el sistema de dos ecuaciones con dos incógnitas a partir de
+     * las ecuaciones paramétricas de la recta y la recta obtenida a partir del
+     * segmento. Si dicho sistema no tiene solución,
+     * se devolverá null, si tiene solución única un punto (si ese punto está contenido
+     * en el segmento, en otro caso devolverá null) y si tiene infinitas soluciones
+     * se devolverá el mismo segmento
+     * @param otro segmento con el que se desea obtener la intersección
      * @return null si la recta y el segmento no intersectan, un objeto de tipo Punto2D
      * si intersectan en un punto, o un objeto de tipo Rayo2D (el propio segmento)
      * si las soluciones del sistema son infinitas
@@ -513,15 +513,15 @@ public class Recta2D extends ObjetoGeometrico {
         return result;
     }
 
-    /** Obtiene la distancia de la recta a un punto, as como el punto de la recta
-     * ms cercano a dicho punto. Esta distancia ser la que
+    /** Obtiene la distancia de la recta a un punto, así como el punto de la recta
+     * más cercano a dicho punto. Esta distancia será la que
      * haya entre el punto y el punto de corte entre la recta y su recta perpendicular
      * que pase por dicho punto
      * @param punto punto al cual se desea obtener la distancia
-     * @param cercano punto del segmento ms cercano al punto pasado como primer
-     * parmetro. Es un parmetro de SALIDA, y debe ser un punto ya creado
+     * @param cercano punto del segmento más cercano al punto pasado como primer
+     * parámetro. Es un parámetro de SALIDA, y debe ser un punto ya creado
      * @return la distancia de la recta al punto
-     * @exception GeomException si el punto pasado como segundo parmetro no es un punto
+     * @exception GeomException si el punto pasado como segundo parámetro no es un punto
      * ya creado
      * @see Recta2D#perpendicular(int)
      * @see Recta2D#interseccionRecta(Recta2D)
@@ -532,14 +532,14 @@ public class Recta2D extends ObjetoGeometrico {
         Vector2D diferencia = new Vector2D();
 
         if (cercano == null)
-            throw new GeomException("puntoMasCercano (Punto2D, Punto2D): el segundo parmetro debe estar inicializado");
+            throw new GeomException("puntoMasCercano (Punto2D, Punto2D): el segundo parámetro debe estar inicializado");
         
         try {
             Recta2D rectaPerpendicular = new Recta2D(this);
             rectaPerpendicular = rectaPerpendicular.perpendicular(Mat.HORARIO);
             Recta2D recta = new Recta2D(punto, rectaPerpendicular.director());
             ObjetoGeometrico corte = recta.interseccionRecta(this);
-            // La distancia ser igual a la distancia del punto al punto
+            // La distancia será igual a la distancia del punto al punto
             // de corte de la recta con su perpendicular
             Punto2D puntoCorte = (Punto2D) corte;
             diferencia = puntoCorte.vectorDiferencia(cercano);
@@ -568,7 +568,7 @@ public class Recta2D extends ObjetoGeometrico {
      * coordenada y.
      * @param y coordenada cartesiana y
      * @return coordenada cartesiana x del punto de la recta correspondiente a
-     * la coordenada y pasada como parmetro
+     * la coordenada y pasada como parámetro
      * @see Punto2D#x()
      * @see Punto2D#y()
      * @see Vector2D#despX()
@@ -583,7 +583,7 @@ public class Recta2D extends ObjetoGeometrico {
      * coordenada x.
      * @param x coordenada cartesiana x
      * @return coordenada cartesiana y del punto de la recta correspondiente a
-     * la coordenada x pasada como parmetro
+     * la coordenada x pasada como parámetro
      * @see Punto2D#x()
      * @see Punto2D#y()
      * @see Vector2D#despX()
@@ -594,9 +594,9 @@ public class Recta2D extends ObjetoGeometrico {
         return comienzo.y() + t*director.despY();
     }
 
-    /** Determina si el punto pasado como parmetro est contenido en la recta.
-     * @param punto punto que deseamos comprobar si est contenido en la recta
-     * @return un valor booleano indicando si el punto est contenido en la recta
+    /** Determina si el punto pasado como parámetro está contenido en la recta.
+     * @param punto punto que deseamos comprobar si está contenido en la recta
+     * @return un valor booleano indicando si el punto está contenido en la recta
      * @exception GeomException si la recta se trata de una recta degenerada
      * @see Punto2D#posicionRelativa(Punto2D, Punto2D)
      * @see Recta2D#punto(double)
@@ -610,7 +610,7 @@ public class Recta2D extends ObjetoGeometrico {
         return (punto.posicionRelativa(comienzo, punto(1)) == Mat.COLINEAL);
     }
 
-    /** Determina si el punto pasado como parmetro se encuentra a la izquierda de
+    /** Determina si el punto pasado como parámetro se encuentra a la izquierda de
      * la recta
      * @param punto punto que se desea conocer si se encuentra a la izquierda de la
      * recta
@@ -629,7 +629,7 @@ public class Recta2D extends ObjetoGeometrico {
         return (punto.posicionRelativa(comienzo, punto(1)) == Mat.IZQUIERDA);
     }
 
-    /** Determina si el punto pasado como parmetro se encuentra a la derecha de
+    /** Determina si el punto pasado como parámetro se encuentra a la derecha de
      * la recta
      * @param punto punto que se desea conocer si se encuentra a la derecha de la
      * recta
@@ -648,11 +648,11 @@ public class Recta2D extends ObjetoGeometrico {
         return (punto.posicionRelativa(comienzo, punto(1)) == Mat.DERECHA);
     }
 
-    /** Obtiene el punto de la recta correspondiente a un determinado parmetro.
-     * @param t valor por el que sustituir el parmetro en la ecuacin paramtrica
+    /** Obtiene el punto de la recta correspondiente a un determinado parámetro.
+     * @param t valor por el que sustituir el parámetro en la ecuación paramétrica
      * de la recta
      * @return el punto de la recta obtenido tras sustituir el valor pasado como
-     * parmetro en el parmetro de la ecuacin paramtrica de la recta
+     * parámetro en el parámetro de la ecuación paramétrica de la recta
      * @see Punto2D#x()
      * @see Punto2D#y()
      * @see Vector2D#despX()
@@ -667,15 +667,15 @@ public class Recta2D extends ObjetoGeometrico {
         return new Punto2D(x, y);
     }
 
-    /** Obtiene la posicin de un punto respecto a la recta. Si la direccin entre
-     * el punto base de la ecuacin paramtrica de la recta y el punto, y la direccin
+    /** Obtiene la posición de un punto respecto a la recta. Si la dirección entre
+     * el punto base de la ecuación paramétrica de la recta y el punto, y la dirección
      * correspondiente al vector director de la recta son iguales (en el mismo sentido
-     * o en sentido contrario) el punto estar contenido, en otro caso calculamos la
-     * orientacin a partir del segmento formado por el punto base de la recta y
+     * o en sentido contrario) el punto estará contenido, en otro caso calculamos la
+     * orientación a partir del segmento formado por el punto base de la recta y
      * el punto para el que t=1
-     * @param punto punto del que se desea conocer la posicin respecto de la recta
+     * @param punto punto del que se desea conocer la posición respecto de la recta
      * @return el valor Mat.CONTENIDO, Mat.IZQUIERDA o Mat.DERECHA dependiendo
-     * de la posicin del punto respecto de la recta
+     * de la posición del punto respecto de la recta
      * @see Vector2D#Vector2D(Punto2D, Punto2D)
      * @see Vector2D#direccion()
      * @see Direccion2D#equals(ObjetoGeometrico)
@@ -706,11 +706,11 @@ public class Recta2D extends ObjetoGeometrico {
         }
     }
 
-    /** Obtiene la proyeccin ortogonal de un punto sobre la recta. La proyeccin
-     * ortogonal se obtiene como la interseccin de la recta con su recta
+    /** Obtiene la proyección ortogonal de un punto sobre la recta. La proyección
+     * ortogonal se obtiene como la intersección de la recta con su recta
      * perpendicular que pasa por dicho punto
-     * @param punto punto del que se desea obtener la proyeccin ortogonal
-     * @return la proyeccin ortogonal del punto sobre la recta
+     * @param punto punto del que se desea obtener la proyección ortogonal
+     * @return la proyección ortogonal del punto sobre la recta
      * @see Recta2D#posicionPunto(Punto2D)
      * @see Vector2D#perpendicular(int)
      * @see Recta2D#interseccionRecta(Recta2D)
@@ -766,13 +766,13 @@ public class Recta2D extends ObjetoGeometrico {
         return this;
     }
 
-    /** Obtencin de la recta perpendicular. Dos rectas son perpendiculares si sus vectores
+    /** Obtención de la recta perpendicular. Dos rectas son perpendiculares si sus vectores
      * directores lo son. El giro de la recta par obtener la perpendicular puede ser
      * en sentido horario o en antihorario
      * @param orientacion sentido de giro para obtener la recta perpendicular. Debe
      * valer Mat.HORARIO o Mat.ANTIHORARIO
      * @return la recta perpendicular
-     * @exception GeomException si el valor de orientacin pasado como parmetro es
+     * @exception GeomException si el valor de orientación pasado como parámetro es
      * incorrecto
      * @see Mat#HORARIO
      * @see Mat#ANTIHORARIO
@@ -780,7 +780,7 @@ public class Recta2D extends ObjetoGeometrico {
      */
     public Recta2D perpendicular(int orientacion) throws GeomException {
         if (orientacion != Mat.HORARIO && orientacion != Mat.ANTIHORARIO)
-        throw new GeomException("perpendicular (int): la orientacin es incorrecta");
+        throw new GeomException("perpendicular (int): la orientación es incorrecta");
         else
         {
             director.perpendicular(orientacion);
@@ -788,16 +788,16 @@ public class Recta2D extends ObjetoGeometrico {
         }
     }
 
-    /** Obtencin de la recta perpendicular que pase por un determinado punto.
+    /** Obtención de la recta perpendicular que pase por un determinado punto.
      * Dos rectas son perpendiculares si sus vectores directores lo son. El giro
      * de la recta par obtener la perpendicular puede ser en sentido horario o en
      * antihorario. Para que la recta pase pro el punto especificado, dicho punto
-     * ser el punto de comienzo en su ecuacin paramtrica
+     * será el punto de comienzo en su ecuación paramétrica
      * @param orientacion sentido de giro para obtener la recta perpendicular. Debe
      * valer Mat.HORARIO o Mat.ANTIHORARIO
      * @param punto punto por el que se desea que pase la recta
      * @return la recta perpendicular que pasa por el punto especificado
-     * @exception GeomException si el valor de orientacin pasado como parmetro es
+     * @exception GeomException si el valor de orientación pasado como parámetro es
      * incorrecto
      * @see Mat#HORARIO
      * @see Mat#ANTIHORARIO
@@ -806,7 +806,7 @@ public class Recta2D extends ObjetoGeometrico {
      */
     public Recta2D perpendicularPunto(int orientacion, Punto2D punto) throws GeomException {
         if (orientacion != Mat.HORARIO && orientacion != Mat.ANTIHORARIO)
-        throw new GeomException("perpendicular (int): la orientacin es incorrecta");
+        throw new GeomException("perpendicular (int): la orientación es incorrecta");
         else
         {
             director.perpendicular(orientacion);
@@ -815,14 +815,14 @@ public class Recta2D extends ObjetoGeometrico {
         }
     }
 
-    /** Obtiene el valor por el que se debe sustituir el parmetro de la ecuacin
-     * paramtrica de la recta para que el resultado sea un determinado punto.
+    /** Obtiene el valor por el que se debe sustituir el parámetro de la ecuación
+     * paramétrica de la recta para que el resultado sea un determinado punto.
      * El punto se obtiene a partir de sus coordenadas cartesianas.
      * @param x coordenada cartesiana x del punto
      * @param y coordenada cartesiana y del punto
-     * @return el valor del parmetro que al aplicarse a la ecuacin parmetrica
+     * @return el valor del parámetro que al aplicarse a la ecuación parámetrica
      * hace que se obtenga el punto cuyas coordendas cartesianas se han pasado
-     * como parmetro
+     * como parámetro
      * @exception GeomException si el punto no pertenece a la recta
      * @see Punto2D#Punto2D(double, double)
      * @see Recta2D#parametroPunto(Punto2D)
@@ -831,11 +831,11 @@ public class Recta2D extends ObjetoGeometrico {
         return parametroPunto(new Punto2D(x,y));
     }
 
-    /** Obtiene el valor por el que se debe sustituir el parmetro de la ecuacin
-     * paramtrica de la recta para que el resultado sea un determinado punto
+    /** Obtiene el valor por el que se debe sustituir el parámetro de la ecuación
+     * paramétrica de la recta para que el resultado sea un determinado punto
      * @param punto el punto de la recta
-     * @return el valor del parmetro que al aplicarse a la ecuacin paramtrica
-     * hace que se obtenga el punto pasado como parmetro.
+     * @return el valor del parámetro que al aplicarse a la ecuación paramétrica
+     * hace que se obtenga el punto pasado como parámetro.
      * @exception GeomException si el punto no pertenece a la recta
      * @see Punto2D#x()
      * @see Vector2D#despX()
@@ -848,8 +848,8 @@ public class Recta2D extends ObjetoGeometrico {
         return (punto.x() - comienzo.x()) / director.despX();
     }
     /** Traslada la recta en el plano a partir de un determinado incremento en
-     * cada coordenada cartesiana. La traslacin se aplicar al punto base de la
-     * ecuacin paramtrica
+     * cada coordenada cartesiana. La traslación se aplicará al punto base de la
+     * ecuación paramétrica
      * @param incX incremento o desplazamiento en el eje x
      * @param incY incremento o desplazamiento en el eje y
      * @return la recta trasladada
@@ -861,8 +861,8 @@ public class Recta2D extends ObjetoGeometrico {
     }
 
     /** Traslada la recta en el plano aplicando el mismo incremento en cada
-     * eje. La traslacin se aplicar al punto base de la ecuacin paramtrica.
-     * @param incr incremento o desplazamiento que ser aplicado tanto al eje x
+     * eje. La traslación se aplicará al punto base de la ecuación paramétrica.
+     * @param incr incremento o desplazamiento que será aplicado tanto al eje x
      * como al eje y
      * @return la recta trasladada
      * @see Punto2D#trasladar(double)
@@ -872,9 +872,9 @@ public class Recta2D extends ObjetoGeometrico {
         return this;
     }
 
-    /** Traslada la recta en la direccin y a la distancia determinados por un
-     * vector. Se aplicar la traslacin al punto base de la ecuacin paramtrica
-     * @param vector el vector que define la traslacin de la recta
+    /** Traslada la recta en la dirección y a la distancia determinados por un
+     * vector. Se aplicará la traslación al punto base de la ecuación paramétrica
+     * @param vector el vector que define la traslación de la recta
      * @return la recta trasladada
      * @see Punto2D#trasladar(Vector2D)
      */
@@ -884,12 +884,12 @@ public class Recta2D extends ObjetoGeometrico {
         return this;
     }
 
-    /** Traslacin de la recta a partir de las coordenadas polares (se traslada
-     * el punto base de la ecuacin paramtrica de la recta una determinada
-     * distancia en un determinado ngulo)
-     * @param angulo direccin de traslacin de la recta
-     * @param dist distancia a la que se mover la recta de su posicin original
-     * siguiendo el ngulo indicado
+    /** Traslación de la recta a partir de las coordenadas polares (se traslada
+     * el punto base de la ecuación paramétrica de la recta una determinada
+     * distancia en un determinado ángulo)
+     * @param angulo dirección de traslación de la recta
+     * @param dist distancia a la que se moverá la recta de su posición original
+     * siguiendo el ángulo indicado
      * @return la recta trasladada
      * @see Punto2D#trasladarPolar(double, double)
      */
@@ -898,8 +898,8 @@ public class Recta2D extends ObjetoGeometrico {
         return this;
     }
 
-    /** Escalado de una recta. Se aplicar el escalado al punto base de la ecuacin
-     * paramtrica de la recta y al vector director.
+    /** Escalado de una recta. Se aplicará el escalado al punto base de la ecuación
+     * paramétrica de la recta y al vector director.
      * @param escala factor de escalado
      * @return la recta escalada
      * @exception GeomException si el factor de escalado es cero
@@ -913,7 +913,7 @@ public class Recta2D extends ObjetoGeometrico {
     }
 
     /** Escalado de una recta con distinto factor de escalado para cada coordenada.
-     * Se aplicar el escalado al punto base de la ecuacin paramtrica y al
+     * Se aplicará el escalado al punto base de la ecuación paramétrica y al
      * vector director.
      * @param sx factor de escalado en el eje x
      * @param sy factor de escalado en el eje y
@@ -929,9 +929,9 @@ public class Recta2D extends ObjetoGeometrico {
     }
 
     /** Rota la recta respecto del origen de coordenadas
-     * @param radio angulo de giro en radianes. Si es positivo el giro ser
-     * en sentido antihorario y en caso contrario lo ser en sentido horario
-     * @return la recta girada segn el ngulo pasado como parmetro
+     * @param radio angulo de giro en radianes. Si es positivo el giro será
+     * en sentido antihorario y en caso contrario lo será en sentido horario
+     * @return la recta girada según el ángulo pasado como parámetro
      * @see Punto2D#gira(double)
      */
     public Recta2D gira(double radio) {
@@ -942,9 +942,9 @@ public class Recta2D extends ObjetoGeometrico {
 
     /** Rota la recta respecto un determinado punto
      * @param origen punto respecto al cual rotar la recta
-     * @param radio angulo de giro en radianes. Si es positivo el giro ser
-     * en sentido antihorario y en caso contrario lo ser en sentido horario
-     * @return la recta girada segn el ngulo pasado como parmetro
+     * @param radio angulo de giro en radianes. Si es positivo el giro será
+     * en sentido antihorario y en caso contrario lo será en sentido horario
+     * @return la recta girada según el ángulo pasado como parámetro
      * @see Punto2D#gira(Punto2D, double)
      */
     public Recta2D gira(Punto2D origen, double radio) {
@@ -961,8 +961,8 @@ public class Recta2D extends ObjetoGeometrico {
         return director;
     }
 
-    /** Obtiene la direccin asociada al vector director de la recta.
-     * @return direccin obtenida a partir del vector director de la recta
+    /** Obtiene la dirección asociada al vector director de la recta.
+     * @return dirección obtenida a partir del vector director de la recta
      * @see Vector2D#direccion()
      */
     public Direccion2D direccion()
@@ -971,7 +971,7 @@ public class Recta2D extends ObjetoGeometrico {
     }
 
     /** Obtiene el primer componente cartesiano (a) de la recta. Si a es distinto
-     * de cero se devolver una de las posibles infinitas soluciones, tomando b
+     * de cero se devolverá una de las posibles infinitas soluciones, tomando b
      * como uno
      * @return el primer componente cartesiano de la recta
      * @see Punto2D#Punto2D(Punto2D)
@@ -995,7 +995,7 @@ public class Recta2D extends ObjetoGeometrico {
     }
 
     /** Obtiene el segundo componente cartesiano (b) de la recta. Si b es distinto
-     * de cero se devolver una de las posibles infinitas soluciones, segn el valor
+     * de cero se devolverá una de las posibles infinitas soluciones, según el valor
      * tomado para a
      * @return el segundo componente cartesiano de la recta
      * @see Punto2D#Punto2D(Punto2D)
@@ -1017,7 +1017,7 @@ public class Recta2D extends ObjetoGeometrico {
     }
 
     /** Obtiene el tercer componente cartesiano (c) de la recta. Si c es distinto
-     * de cero se devolver una de las posibles infinitas soluciones, segn los
+     * de cero se devolverá una de las posibles infinitas soluciones, según los
      * valores tomados de a y b
      * @return el tercer componente cartesiano de la recta
      * @see Punto2D#Punto2D(Punto2D)
@@ -1037,8 +1037,8 @@ public class Recta2D extends ObjetoGeometrico {
         return -(a*p.x() + b*p.y());
     }
 
-    /** Obtiene el componente Px0 (coordenada x del punto origen) de la ecuacin
-     * paramtrica de la recta
+    /** Obtiene el componente Px0 (coordenada x del punto origen) de la ecuación
+     * paramétrica de la recta
      * @return la coordenada x del punto origen de la recta
      * @see Punto2D#x()
      */
@@ -1046,8 +1046,8 @@ public class Recta2D extends ObjetoGeometrico {
         return comienzo.x();
     }
 
-    /** Obtiene el componente Py0 (coordenada y del punto origen) de la ecuacin
-     * paramtrica de la recta
+    /** Obtiene el componente Py0 (coordenada y del punto origen) de la ecuación
+     * paramétrica de la recta
      * @return la coordenada y del punto origen de la recta
      * @see Punto2D#y()
      */
@@ -1056,7 +1056,7 @@ public class Recta2D extends ObjetoGeometrico {
     }
 
     /** Obtiene el componente Dx (desplazamiento en el eje x del vector director)
-     * de la ecuacin paramtrica de la recta
+     * de la ecuación paramétrica de la recta
      * @return el desplazamiento en el eje x del vector director de la recta
      * @see Vector2D#despX()
      */
@@ -1065,7 +1065,7 @@ public class Recta2D extends ObjetoGeometrico {
     }
 
     /** Obtiene el componente Dy (desplazamiento en el eje y del vector director)
-     * de la ecuacin paramtrica de la recta
+     * de la ecuación paramétrica de la recta
      * @return el desplazamiento en el eje y del vector director de la recta
      * @see Vector2D#despY()
      */
@@ -1074,7 +1074,7 @@ public class Recta2D extends ObjetoGeometrico {
     }
 
     /** Determina si la recta es degenerada. Para ello, el vector director tiene
-     * que ser nulo (o lo que es lo mismo, los coeficientes a y b de la ecuacin
+     * que ser nulo (o lo que es lo mismo, los coeficientes a y b de la ecuación
      * cartesiana de la recta ax + by + c = 0 son iguales a cero)
      * @return un valor booleano indicando si la recta es degenerada
      * @see Vector2D#vectorNulo()
@@ -1083,9 +1083,9 @@ public class Recta2D extends ObjetoGeometrico {
         return director.vectorNulo();
     }
 
-    /** Realiza la conversin del objeto de tipo Recta2D a una cadena
+    /** Realiza la conversión del objeto de tipo Recta2D a una cadena
      * @return una cadena especificando el tipo de objeto (recta) y sus
-     * componentes (punto base y vector director de la ecuacin paramtrica)
+     * componentes (punto base y vector director de la ecuación paramétrica)
      * @see Punto2D#x()
      * @see Punto2D#y()
      * @see Vector2D#despX()
@@ -1120,8 +1120,8 @@ public class Recta2D extends ObjetoGeometrico {
 
             }
 
-            // Determinamos el punto de destino de la lnea a dibujar para representar
-            // el rayo (el comienzo ser el propio comienzo del rayo)
+            // Determinamos el punto de destino de la línea a dibujar para representar
+            // el rayo (el comienzo será el propio comienzo del rayo)
             Punto2D punto;
             if (pos1 != -1 && pos2 != -1)
             {
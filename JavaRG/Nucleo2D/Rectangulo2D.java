@@ -8,32 +8,33 @@ package JavaRG.Nucleo2D;
 
 import JavaRG.*;
 import JavaRG.Nucleo2D.*;
+import JavaRG.Soporte.*;
 import java.awt.*;
 
-/** Un objeto de la clase <code>Rectangulo2D</code> representa un rectngulo en 
+/** Un objeto de la clase <code>Rectangulo2D</code> representa un rectángulo en 
  * el plano 2D, con sus lados paralelos al eje x y al eje y de coordenadas. Se
- * representa mediante dos vrtices, el inferior izquierdo y el superior derecho
+ * representa mediante dos vértices, el inferior izquierdo y el superior derecho
  *
  * @author  Pablo Suau
  * @version 1.1
  * @see ObjetoGeometrico
  */
-public class Rectangulo2D extends ObjetoGeometrico {
+public class Rectangulo2D extends ObjetoGeometrico implements InterfazContencion, InterfazSoporte {
 
     /**
-     * Esquina inferior izquierda del rectngulo
+     * Esquina inferior izquierda del rectángulo
      */
     Punto2D inferiorIzquierda;
     
     /** 
-     * Esquina superior derecha del rectngulo
+     * Esquina superior derecha del rectángulo
      */
     Punto2D superiorDerecha;
 
     /**
-     * Constructor por defecto del rectngulo, cuyos extremos estarn todos 
+     * Constructor por defecto del rectángulo, cuyos extremos estarán todos 
      * situados en el origen de coordenadas
-     * @return un rectngulo nulo
+     * @return un rectángulo nulo
      * @see Punto2D#Punto2D()
      */
     public Rectangulo2D()
@@ -42,11 +43,11 @@ public class Rectangulo2D extends ObjetoGeometrico {
         superiorDerecha = new Punto2D();
     }
 
-  /** Constructor del rectngulo a partir de dos esquinas opuestas
+  /** Constructor del rectángulo a partir de dos esquinas opuestas
     * @param punto1 primera esquina
     * @param punto2 segunda esquina
-    * @return un nuevo rectngulo cuyos extremos inferior izquierdo y superior derecho
-    * son obtenidos a partir de los dos puntos pasados como parmetro
+    * @return un nuevo rectángulo cuyos extremos inferior izquierdo y superior derecho
+    * son obtenidos a partir de los dos puntos pasados como parámetro
     * @see Punto2D#Punto2D(double, double)
     * @see Punto2D#x()
     * @see Punto2D#y()
@@ -80,15 +81,15 @@ public class Rectangulo2D extends ObjetoGeometrico {
         superiorDerecha = new Punto2D(superiorx, superiory);
     }
     
-  /** Constructor del rectngulo a partir de las coordenadas cartesianas de 
+  /** Constructor del rectángulo a partir de las coordenadas cartesianas de 
     * dos esquinas opuestas
     * @param p1x coordenada cartesiana x de la primera esquina
     * @param p1y coordenada cartesiana y de la primera esquina
     * @param p2x coordenada cartesiana x de la segunda esquina
     * @param p2y coordenada cartesiana y de la segunda esquina
-    * @return un nuevo rectngulo cuyas esquinas inferior izquierda y superior
+    * @return un nuevo rectángulo cuyas esquinas inferior izquierda y superior
     * derecha son obtenidas a partir de los dos puntos cuyas coordenadas 
-    * cartesianas se pasan como parmetro
+    * cartesianas se pasan como parámetro
     * @see Punto2D#Punto2D(double, double)
     */
     public Rectangulo2D(double p1x, double p1y, double p2x, double p2y) {
@@ -120,17 +121,17 @@ public class Rectangulo2D extends ObjetoGeometrico {
         }
     }
 
-  /** Constructor del rectngulo a partir de las coordenadas homogneas de 
+  /** Constructor del rectángulo a partir de las coordenadas homogéneas de 
     * dos esquinas opuestas
-    * @param p1x primera coordenada homognea de la primera esquina
-    * @param p1y segunda coordenada homognea de la primera esquina
-    * @param p1z tercera coordenada homognea de la primera esquina
-    * @param p2x primera coordenada homognea de la segunda esquina
-    * @param p2y segunda coordenada homognea de la segunda esquina
-    * @param p2z tercera coordenada homognea de la segunda esquina
-    * @return un nuevo rectngulo cuyas esquinas inferior izquierda y superior
+    * @param p1x primera coordenada homogénea de la primera esquina
+    * @param p1y segunda coordenada homogénea de la primera esquina
+    * @param p1z tercera coordenada homogénea de la primera esquina
+    * @param p2x primera coordenada homogénea de la segunda esquina
+    * @param p2y segunda coordenada homogénea de la segunda esquina
+    * @param p2z tercera coordenada homogénea de la segunda esquina
+    * @return un nuevo rectángulo cuyas esquinas inferior izquierda y superior
     * derecha son obtenidas a partir de los dos puntos cuyas coordenadas 
-    * homogneas se pasan como parmetro
+    * homogéneas se pasan como parámetro
     * @see Punto2D#Punto2D(double, double)
     */
     public Rectangulo2D(double p1x, double p1y, double p1z, double p2x, double p2y, double p2z) {
@@ -168,10 +169,10 @@ public class Rectangulo2D extends ObjetoGeometrico {
     }
         
     
-  /** Constructor del rectngulo
-    * @param original rectngulo a partir del cual se desea obtener el nuevo
-    * @return un nuevo rectngulo con todos sus atributos iguales a los
-    * del rectngulo original
+  /** Constructor del rectángulo
+    * @param original rectángulo a partir del cual se desea obtener el nuevo
+    * @return un nuevo rectángulo con todos sus atributos iguales a los
+    * del rectángulo original
     * 
     * @see Punto2D#Punto2D(double, double)
     * @see Rectangulo2D#xmin()
@@ -184,12 +185,12 @@ public class Rectangulo2D extends ObjetoGeometrico {
         this.superiorDerecha = new Punto2D(original.xmax(), original.ymax());
     }
     
-   /** Comparacin con otro objeto geomtrico. Un rectngulo ser igual a un objeto
-     * geomtrico si dicho objeto geomtrico es un rectngulo y ambos  tienen
+   /** Comparación con otro objeto geométrico. Un rectángulo será igual a un objeto
+     * geométrico si dicho objeto geométrico es un rectángulo y ambos  tienen
      * los mismos extremos
-     * @param obj el objeto geomtrico con el que se desea comparar el rectngulo
-     * @return un valor booleano indicando si el rectngulo es igual al objeto
-     * geomtrico pasado como parmetro
+     * @param obj el objeto geométrico con el que se desea comparar el rectángulo
+     * @return un valor booleano indicando si el rectángulo es igual al objeto
+     * geométrico pasado como parámetro
      * @see Rectangulo2D#minimoX()
      * @see Rectangulo2D#maximoX()
      * @see Punto2D#equals(ObjetoGeometrico)
@@ -208,12 +209,12 @@ public class Rectangulo2D extends ObjetoGeometrico {
         else return false;
     }
    
-   /** Comparacin con otro objeto geomtrico. Un rectngulo ser distinta a un objeto
-     * geomtrico si dicho objeto geomtrico no es un rectngulo o si ambos tienen
+   /** Comparación con otro objeto geométrico. Un rectángulo será distinta a un objeto
+     * geométrico si dicho objeto geométrico no es un rectángulo o si ambos tienen
      * distintos extremos
-     * @param obj el objeto geomtrico con el que se desea comparar el rectngulo
-     * @return un valor booleano indicando si el rectngulo es distinto al objeto
-     * geomtrico pasado como parmetro
+     * @param obj el objeto geométrico con el que se desea comparar el rectángulo
+     * @return un valor booleano indicando si el rectángulo es distinto al objeto
+     * geométrico pasado como parámetro
      * @see Rectangulo2D#equals(ObjetoGeometrico)
      */
     public boolean not_equals (ObjetoGeometrico obj) {
@@ -252,48 +253,48 @@ public class Rectangulo2D extends ObjetoGeometrico {
         return superiorDerecha.y();
     }
     
-  /** Obtiene la primera coordenada homognea del punto inferior izquierdo
-    * @return la primera coordenada homognea del punto inferior izquierdo
+  /** Obtiene la primera coordenada homogénea del punto inferior izquierdo
+    * @return la primera coordenada homogénea del punto inferior izquierdo
     * @see Punto2D#hx()
     */
     public double hxmin() {
         return inferiorIzquierda.hx();
     }
     
-  /** Obtiene la segunda coordenada homognea del punto inferior izquierdo
-    * @return la segunda coordenada homognea del punto inferior izquierdo
+  /** Obtiene la segunda coordenada homogénea del punto inferior izquierdo
+    * @return la segunda coordenada homogénea del punto inferior izquierdo
     * @see Punto2D#hy()
     */
     public double hymin() {
         return inferiorIzquierda.hy();
     }
     
-  /** Obtiene la tercera coordenada homognea del punto inferior izquierdo
-    * @return la tercera coordenada homognea del punto inferior izquierdo
+  /** Obtiene la tercera coordenada homogénea del punto inferior izquierdo
+    * @return la tercera coordenada homogénea del punto inferior izquierdo
     * @see Punto2D#hz()
     */
     public double hzmin() {
         return inferiorIzquierda.hz();
     }
     
-  /** Obtiene la primera coordenada homognea del punto superior derecho
-    * @return la primera coordenada homognea del punto superior derecho
+  /** Obtiene la primera coordenada homogénea del punto superior derecho
+    * @return la primera coordenada homogénea del punto superior derecho
     * @see Punto2D#hx()
     */
     public double hxmax() {
         return superiorDerecha.hx();
     }
     
-  /** Obtiene la segunda coordenada homognea del punto superior derecho
-    * @return la segunda coordenada homognea del punto superior derecho
+  /** Obtiene la segunda coordenada homogénea del punto superior derecho
+    * @return la segunda coordenada homogénea del punto superior derecho
     * @see Punto2D#hy()
     */
     public double hymax() {
         return superiorDerecha.hy();
     }
     
-  /** Obtiene la tercera coordenada homognea del punto superior derecho
-    * @return la tercera coordenada homognea del punto superior derecho
+  /** Obtiene la tercera coordenada homogénea del punto superior derecho
+    * @return la tercera coordenada homogénea del punto superior derecho
     * @see Punto2D#hz()
     */
     public double hzmax() {
@@ -321,14 +322,14 @@ public class Rectangulo2D extends ObjetoGeometrico {
         return superiorDerecha;
     }
     
-  /** Obtiene la distancia de un punto al rectngulo, que ser la mnima distancia
-    * del punto a alguno de sus lados, as como el punto del rectngulo ms
+  /** Obtiene la distancia de un punto al rectángulo, que será la mínima distancia
+    * del punto a alguno de sus lados, así como el punto del rectángulo más
     * cercano a dicho punto
     * @param punto punto al que se desea obtener la distancia
-    * @param cercano punto del segmento ms cercano al punto pasado como primer
-    * parmetro. Es un parmetro de SALIDA, y debe ser un punto ya creado    
-    * @return la distancia del rectngulo al punto pasado como parmetro
-    * @exception GeomException si el punto pasado como segundo parmetro no es un punto
+    * @param cercano punto del segmento más cercano al punto pasado como primer
+    * parámetro. Es un parámetro de SALIDA, y debe ser un punto ya creado    
+    * @return la distancia del rectángulo al punto pasado como parámetro
+    * @exception GeomException si el punto pasado como segundo parámetro no es un punto
     * ya creado
     * @see Punto2D#Punto2D(double, double)
     * @see Punto2D#x()
@@ -340,7 +341,7 @@ public class Rectangulo2D extends ObjetoGeometrico {
     public double puntoMasCercano(Punto2D punto, Punto2D cercano) throws GeomException {
         
         if (cercano == null)
-            throw new GeomException("puntoMasCercano (Punto2D, Punto2D): el segundo parmetro debe estar inicializado");
+            throw new GeomException("puntoMasCercano (Punto2D, Punto2D): el segundo parámetro debe estar inicializado");
         
         Punto2D cercanoTemporal = new Punto2D();
         
@@ -411,9 +412,9 @@ public class Rectangulo2D extends ObjetoGeometrico {
         return distancia;
     }
     
-   /** Obtiene la distancia del rectngulo a un punto
+   /** Obtiene la distancia del rectángulo a un punto
      * @param punto punto para el cual se desea obtener la distancia
-     * @return la distancia del rectngulo al punto
+     * @return la distancia del rectángulo al punto
      * @see Rectangulo2D#puntoMasCercano(Punto2D, Punto2D)
      */
     public double distancia(Punto2D punto) {
@@ -424,10 +425,10 @@ public class Rectangulo2D extends ObjetoGeometrico {
         }
     }
     
-  /** Traslada los extremos del rectngulo aplicando el mismo incremento en cada eje
-    * @param d desplazamiento o incremento que ser aplicado tanto al eje x como 
+  /** Traslada los extremos del rectángulo aplicando el mismo incremento en cada eje
+    * @param d desplazamiento o incremento que será aplicado tanto al eje x como 
     * al eje y
-    * @return el rectngulo trasladado
+    * @return el rectángulo trasladado
     * @see Punto2D#trasladar(double)
     */
     public Rectangulo2D trasladar(double d) {
@@ -436,10 +437,10 @@ public class Rectangulo2D extends ObjetoGeometrico {
         return this;
     }
     
-  /** Traslada los extremos del rectngulo aplicando un incremento distinto a cada eje
-    * @param dx desplazamiento o incremento que ser aplicado al eje x
-    * @param dy desplazamiento o incremento que ser aplicado al eje y
-    * @return el rectngulo trasladado
+  /** Traslada los extremos del rectángulo aplicando un incremento distinto a cada eje
+    * @param dx desplazamiento o incremento que será aplicado al eje x
+    * @param dy desplazamiento o incremento que será aplicado al eje y
+    * @return el rectángulo trasladado
     * @see Punto2D#trasladar(double, double)
     */
     public Rectangulo2D trasladar(double dx, double dy) {
@@ -448,11 +449,11 @@ public class Rectangulo2D extends ObjetoGeometrico {
         return this;
     }
     
-  /** Traslada los extremos del rectngulo en la direccin y distancia indicados por un
+  /** Traslada los extremos del rectángulo en la dirección y distancia indicados por un
     * vector
-    * @param vector vector que indicar la direccin y la magnitud del desplazamiento
+    * @param vector vector que indicará la dirección y la magnitud del desplazamiento
     * de los extremos
-    * @return el rectngulo trasladado
+    * @return el rectángulo trasladado
     * @see Punto2D#trasladar(Vector2D)
     */
     public Rectangulo2D trasladar(Vector2D vector) {
@@ -461,8 +462,8 @@ public class Rectangulo2D extends ObjetoGeometrico {
         return this;
     }
 
-  /** Obtiene el centro de gravedad del rectngulo (su punto central)
-    * @return el centro de gravedad del rectngulo
+  /** Obtiene el centro de gravedad del rectángulo (su punto central)
+    * @return el centro de gravedad del rectángulo
     * @see Punto2D#Punto2D(double, double)
     * @see Punto2D#x()
     * @see Punto2D#y()
@@ -473,11 +474,11 @@ public class Rectangulo2D extends ObjetoGeometrico {
         return new Punto2D(x,y);
     }
     
-  /** Escalado del rectngulo, aplicando un factor de escalado distinto 
+  /** Escalado del rectángulo, aplicando un factor de escalado distinto 
     * a cada eje
     * @param sx factor de escalado en el eje x
     * @param sy factor de escalado en el eje y
-    * @return el rectngulo trasladado
+    * @return el rectángulo trasladado
     * @see Punto2D#x()
     * @see Punto2D#y()
     * @see Punto2D#trasladar(double, double)
@@ -493,10 +494,10 @@ public class Rectangulo2D extends ObjetoGeometrico {
         return this;
     }
     
-  /** Escalado del rectngulo, aplicando el mismo factor de escalado a
+  /** Escalado del rectángulo, aplicando el mismo factor de escalado a
     * ambos ejes
-    * @param s factor de escalado que se aplicar a ambos ejes
-    * @return el rectngulo escalado
+    * @param s factor de escalado que se aplicará a ambos ejes
+    * @return el rectángulo escalado
     * @see Caja2D#escalado(double)
     */
     public Rectangulo2D escalado (double s) {
@@ -510,11 +511,11 @@ public class Rectangulo2D extends ObjetoGeometrico {
         return superiorDerecha;
     }
     
-  /** Obtiene el vrtice indicado como parmetro, tomndose los vrtices del
-    * rectngulo en sentido horario desde el superior derecho
-    * @param i indice del vrtice del rectngulo que se desea obtener
-    * @return el vrtice del rectngulo cuyo indice se pas como parmetro
-    * @exception GeomException si el ndice pasado como parmetro no se encuentra
+  /** Obtiene el vértice indicado como parámetro, tomándose los vértices del
+    * rectángulo en sentido horario desde el superior derecho
+    * @param i indice del vértice del rectángulo que se desea obtener
+    * @return el vértice del rectángulo cuyo indice se pasó como parámetro
+    * @exception GeomException si el índice pasado como parámetro no se encuentra
     * en el rango [0-3]
     * @see Punto2D#Punto2D(double, double)
     * @see Punto2D#x()
@@ -532,16 +533,16 @@ public class Rectangulo2D extends ObjetoGeometrico {
             case 3:
                 return new Punto2D(superiorDerecha.x(), inferiorIzquierda.y());
             default:
-                throw new GeomException("vertice (int): el valor del ndice debe ser un valor entre 0 y 3");
+                throw new GeomException("vertice (int): el valor del índice debe ser un valor entre 0 y 3");
         }
     }
     
-  /** Obtiene la coordenada cartesiana del punto inferior izquierdo del rectngulo
-    * cuyo ndice se pasa como parmetro
+  /** Obtiene la coordenada cartesiana del punto inferior izquierdo del rectángulo
+    * cuyo índice se pasa como parámetro
     * @param i indice de la coordenada cartesiana que se desea obtener
     * @return la coordenada cartesiana x o y del punto inferior izquierdo
-    * segn el ndice pasado como parmetro sea 0  1 respectivamente
-    * @see GeomException si el valor del ndice no es ni 0 ni 1
+    * según el índice pasado como parámetro sea 0 ó 1 respectivamente
+    * @see GeomException si el valor del índice no es ni 0 ni 1
     * @see Punto2D#x()
     * @see Punto2D#y()
     */
@@ -552,16 +553,16 @@ public class Rectangulo2D extends ObjetoGeometrico {
             case 1:
                 return inferiorIzquierda.y();
             default:
-                throw new GeomException("inferiorCartesiana (int): el ndice debe valer 0  1");
+                throw new GeomException("inferiorCartesiana (int): el índice debe valer 0 ó 1");
             }
         }
 
-/** Obtiene la coordenada cartesiana del punto superior derecho del rectngulo
-    * cuyo ndice se pasa como parmetro
+/** Obtiene la coordenada cartesiana del punto superior derecho del rectángulo
+    * cuyo índice se pasa como parámetro
     * @param i indice de la coordenada cartesiana que se desea obtener
     * @return la coordenada cartesiana x o y del punto superiorDerecho
-    * segn el ndice pasado como parmetro sea 0  1 respectivamente
-    * @see GeomException si el valor del ndice no es ni 0 ni 1
+    * según el índice pasado como parámetro sea 0 ó 1 respectivamente
+    * @see GeomException si el valor del índice no es ni 0 ni 1
     * @see Punto2D#x()
     * @see Punto2D#y()
     */
@@ -572,17 +573,17 @@ public class Rectangulo2D extends ObjetoGeometrico {
             case 1:
                 return superiorDerecha.y();
             default:
-                throw new GeomException("inferiorCartesiana (int): el ndice debe valer 0  1");
+                throw new GeomException("inferiorCartesiana (int): el índice debe valer 0 ó 1");
             }
         }
 
-/** Obtiene la coordenada homognea del punto inferior izquierdo del rectngulo
-    * cuyo ndice se pasa como parmetro
-    * @param i indice de la coordenada homognea que se desea obtener
-    * @return la primera, segunda o tercera coordenada homognea  del punto
-    * inferior izquierdo segn el ndice pasado como parmetro sea 0, 1  2 
+/** Obtiene la coordenada homogénea del punto inferior izquierdo del rectángulo
+    * cuyo índice se pasa como parámetro
+    * @param i indice de la coordenada homogénea que se desea obtener
+    * @return la primera, segunda o tercera coordenada homogénea  del punto
+    * inferior izquierdo según el índice pasado como parámetro sea 0, 1 ó 2 
     * respectivamente
-    * @see GeomException si el valor del ndice no es ni 0 ni 1 ni 2
+    * @see GeomException si el valor del índice no es ni 0 ni 1 ni 2
     * @see Punto2D#hx()
     * @see Punto2D#hy()
     * @see Punto2D#hz()
@@ -596,17 +597,17 @@ public class Rectangulo2D extends ObjetoGeometrico {
             case 2:
                 return inferiorIzquierda.hz();
             default:
-                throw new GeomException("inferiorHomogenea (int): el ndice debe valer 0, 1  2");
+                throw new GeomException("inferiorHomogenea (int): el índice debe valer 0, 1 ó 2");
             }
         }
 
-  /** Obtiene la coordenada homognea del punto superior derecho del rectngulo
-    * cuyo ndice se pasa como parmetro
-    * @param i indice de la coordenada homognea que se desea obtener
-    * @return la primera, segunda o tercera coordenada homognea  del punto
-    * superior derecho segn el ndice pasado como parmetro sea 0, 1  2 
+  /** Obtiene la coordenada homogénea del punto superior derecho del rectángulo
+    * cuyo índice se pasa como parámetro
+    * @param i indice de la coordenada homogénea que se desea obtener
+    * @return la primera, segunda o tercera coordenada homogénea  del punto
+    * superior derecho según el índice pasado como parámetro sea 0, 1 ó 2 
     * respectivamente
-    * @see GeomException si el valor del ndice no es ni 0 ni 1 ni 2
+    * @see GeomException si el valor del índice no es ni 0 ni 1 ni 2
     * @see Punto2D#hx()
     * @see Punto2D#hy()
     * @see Punto2D#hz()
@@ -620,12 +621,12 @@ public class Rectangulo2D extends ObjetoGeometrico {
             case 2:
                 return superiorDerecha.hz();
             default:
-                throw new GeomException("superiorHomogenea (int): el ndice debe valer 0, 1  2");
+                throw new GeomException("superiorHomogenea (int): el índice debe valer 0, 1 ó 2");
         }
     }
         
-  /** Calcula el rea del rectngulo
-    * @return rea del rectngulo (base * altura)
+  /** Calcula el área del rectángulo
+    * @return área del rectángulo (base * altura)
     * @see Punto2D#x()
     * @see Punto2D#y()
     */
@@ -636,9 +637,9 @@ public class Rectangulo2D extends ObjetoGeometrico {
         return base*altura;
     }
     
-  /** Comprueba si el rectngulo es un rectngulo degenerado. Esto suceder
-    * cuando todos los vrtices sean colineales
-    * @return un valor booleano indicando si el rectngulo es degenerado
+  /** Comprueba si el rectángulo es un rectángulo degenerado. Esto sucederá
+    * cuando todos los vértices sean colineales
+    * @return un valor booleano indicando si el rectángulo es degenerado
     * @see Mat#absoluto(double)
     * @see Mat#EPSILON
     * @see Punto2D#x()
@@ -649,11 +650,11 @@ public class Rectangulo2D extends ObjetoGeometrico {
                 Mat.absoluto(inferiorIzquierda.y() - superiorDerecha.y()) < Mat.EPSILON);
     }
     
-  /** Comprueba si un punto se encuentra en los bordes del rectngulo
+  /** Comprueba si un punto se encuentra en los bordes del rectángulo
     * @param punto el punto que se desea comprobar si se encuentra contenido por
-    * los bordes del rectngulo
-    * @return un valor booleano indicando si el punto pasado como parmetro est
-    * contenido por los bordes del rectngulo
+    * los bordes del rectángulo
+    * @return un valor booleano indicando si el punto pasado como parámetro está
+    * contenido por los bordes del rectángulo
     * @see Segmento2D#Segmento2D(Punto2D, Punto2D)
     * @see Segmento2D#contienePunto(Punto2D)
     * @see Rectangulo2D#vertice(int)
@@ -681,15 +682,15 @@ public class Rectangulo2D extends ObjetoGeometrico {
         
                 return contenido;
             } catch (GeomException e) {
-                return false; // Esta excepcin unnca se va a producir
+                return false; // Esta excepción unnca se va a producir
             }
     }
     
-  /** Comprueba si un punto est contenido en el rectngulo
-    * @param punto punto que se desea comprobar si est contenido por el 
-    * rectngulo
-    * @return un valor booleano indicando si el punto est contenido por el
-    * rectngulo
+  /** Comprueba si un punto está contenido en el rectángulo
+    * @param punto punto que se desea comprobar si está contenido por el 
+    * rectángulo
+    * @return un valor booleano indicando si el punto está contenido por el
+    * rectángulo
     * @see Punto2D#x()
     * @see Punto2D#y()
     */
@@ -700,28 +701,80 @@ public class Rectangulo2D extends ObjetoGeometrico {
                 punto.y() <= superiorDerecha.y());
     }
     
-  /** Comprueba si un punto est contenido de forma estricta por el rectngulo
-    * (el punto est contenido pero no est contenido por ninguno de sus bordes)
-    * @param punto punto que se desea comprobar si est contenido estrictamente
-    * en el rectngulo
-    * @return un valor booleano indicando si el punto est contenido estrictamente
-    * en el rectngulo
+  /** Comprueba si un punto está contenido de forma estricta por el rectángulo
+    * (el punto está contenido pero no está contenido por ninguno de sus bordes)
+    * @param punto punto que se desea comprobar si está contenido estrictamente
+    * en el rectángulo
+    * @return un valor booleano indicando si el punto está contenido estrictamente
+    * en el rectángulo
     * @see Rectangulo2D#bordeContienePunto(Punto2D)
     * @see Rectangulo2D#contienePunto(Punto2D)
     */
     public boolean contienePuntoEstrictamente(Punto2D punto) {
         return (contienePunto(punto) && !bordeContienePunto(punto));
     }
+
+  /** Comprueba si cada uno de los puntos de un lote está contenido en el
+    * rectángulo, con el mismo criterio que contienePunto. Los puntos se
+    * reparten entre varios hilos
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos a procesar
+    * @param resultado array en el que guardar el resultado. Si es null o no
+    * tiene espacio suficiente se crea uno nuevo
+    * @return un array indicando si cada punto está contenido en el rectángulo
+    * @see Rectangulo2D#contienePunto(Punto2D)
+    * @see ContencionParalela#contienePuntos(InterfazContencion, double[], double[], int, boolean[])
+    */
+    public boolean[] contienePuntos(double xs[], double ys[], int n, boolean resultado[]) {
+        return ContencionParalela.contienePuntos(this, xs, ys, n, resultado);
+    }
+
+  /** El rectángulo no guarda propiedades calculadas, por lo que no es
+    * necesario prepararlo para consultas concurrentes
+    * @see InterfazContencion#prepararConsultas()
+    */
+    public void prepararConsultas() {
+    }
+
+  /** Comprueba si cada uno de los puntos de un rango está contenido en el
+    * rectángulo, con el mismo criterio que contienePunto
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param desde posición del primer punto del rango
+    * @param hasta posición siguiente al último punto del rango
+    * @param resultado array en el que se guarda si cada punto está contenido
+    * @see Rectangulo2D#contienePunto(Punto2D)
+    * @see Lotes2D#contenidosEnCaja(double, double, double, double, double[], double[], int, boolean[])
+    */
+    public void contienePuntos(double xs[], double ys[], int desde, int hasta, boolean resultado[]) {
+        double xmin = inferiorIzquierda.x(), ymin = inferiorIzquierda.y();
+        double xmax = superiorDerecha.x(), ymax = superiorDerecha.y();
+        for (int i=desde; i<hasta; i++)
+            resultado[i] = (xs[i] >= xmin) & (xs[i] <= xmax) & (ys[i] >= ymin) & (ys[i] <= ymax);
+    }
+
+  /** Obtiene el punto de soporte del rectángulo en una dirección: la esquina
+    * más alejada en ella, que se elige por el signo de cada componente
+    * @param dx componente x de la dirección
+    * @param dy componente y de la dirección
+    * @param punto array en el que se guardan las coordenadas de la esquina
+    * @see InterfazSoporte#soporte(double, double, double[])
+    */
+    public void soporte(double dx, double dy, double punto[]) {
+        punto[0] = (dx >= 0) ? superiorDerecha.x() : inferiorIzquierda.x();
+        punto[1] = (dy >= 0) ? superiorDerecha.y() : inferiorIzquierda.y();
+    }
     
-  /** Obtiene la caja contenedora que contiene al rectngulo
-    * @return una caja contenedora conteniendo al rectngulo
+  /** Obtiene la caja contenedora que contiene al rectángulo
+    * @return una caja contenedora conteniendo al rectángulo
     * @see Caja2D#Caja2D(Rectangulo2D)
     */
     public Caja2D cajaContenedora() {
         return new Caja2D(this);
     }
         
-  /** Realiza la conversin del objeto de tipo Vector2D a una cadena
+  /** Realiza la conversión del objeto de tipo Vector2D a una cadena
     * @return una cadena especificando el tipo de objeto (vector) y sus
     * componentes (desplazamiento en el eje x y desplazamiento en el eje y)
     */  
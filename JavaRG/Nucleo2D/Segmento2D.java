@@ -8,6 +8,7 @@ package JavaRG.Nucleo2D;
 
 import JavaRG.*;
 import JavaRG.Nucleo2D.*;
+import JavaRG.Soporte.InterfazSoporte;
 import java.awt.*;
 
 /**
@@ -18,7 +19,7 @@ import java.awt.*;
  * @author  Pablo Suau 
  * @version 1.1
  */
-public class Segmento2D extends ObjetoGeometrico {
+public class Segmento2D extends ObjetoGeometrico implements InterfazSoporte {
 
     /**
      * punto inicial del segmento orientado
@@ -45,13 +46,13 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Constructor del segmento orientado a partir de las coordendas cartesianas
-     * de dos dos puntos. El segmento quedar definido entre dichos puntos
+     * de dos dos puntos. El segmento quedará definido entre dichos puntos
      * @param comienzoX coordenada cartesiana x del punto inicial
      * @param comienzoY coordenada cartesiana y del punto inicial
      * @param finX coordenada cartesiana x del punto final
      * @param finY coordenada cartesiana y del punto final
      * @return un nuevo segmento orientado cuyos puntos inicial y final son
-     * aquellos cuyas coordenadas cartesianas han sido pasadas como parmetro
+     * aquellos cuyas coordenadas cartesianas han sido pasadas como parámetro
      * @exception GeomException si los puntos inicial y final son iguales
      * @see Punto2D#Punto2D(double, double)
      * @see Punto2D#equals(ObjetoGeometrico)
@@ -71,12 +72,12 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Constructor del segmento orientado a partir de dos puntos. El segmento
-     * quedar definido entre dichos puntos.
+     * quedará definido entre dichos puntos.
      * @param p1 punto inicial del segmento
      * @param p2 punto final del segmento
-     * @return un nuevo segmento orientado cuyos puntos inicial y final serm
-     * los puntos pasados como parmetro
-     * @exception GeomException si los dos puntos pasados como parmetro son iguales
+     * @return un nuevo segmento orientado cuyos puntos inicial y final serám
+     * los puntos pasados como parámetro
+     * @exception GeomException si los dos puntos pasados como parámetro son iguales
      * @see Punto2D#equals(ObjetoGeometrico)
      */
     public Segmento2D (Punto2D p1, Punto2D p2) throws GeomException {
@@ -88,18 +89,18 @@ public class Segmento2D extends ObjetoGeometrico {
         }
     }
 
-    /** Constructor del segmento orientado a partir de las coordendas homogneas
-     * de dos dos puntos. El segmento quedar definido entre dichos puntos
-     * @param cominezoHx coordenada homognea x del punto inicial
-     * @param comienzoHy coordenada homognea y del punto inicial
-     * @param comienzoHz coordenada homognea z del punto inicial
-     * @param finHx coordenada homognea x del punto final
-     * @param finHy coordenada homognea y del punto final
-     * @param finHz coordenada homognea z del punto final
+    /** Constructor del segmento orientado a partir de las coordendas homogéneas
+     * de dos dos puntos. El segmento quedará definido entre dichos puntos
+     * @param cominezoHx coordenada homogénea x del punto inicial
+     * @param comienzoHy coordenada homogénea y del punto inicial
+     * @param comienzoHz coordenada homogénea z del punto inicial
+     * @param finHx coordenada homogénea x del punto final
+     * @param finHy coordenada homogénea y del punto final
+     * @param finHz coordenada homogénea z del punto final
      * @return un nuevo segmento orientado cuyos puntos inicial y final son
-     * aquellos cuyas coordenadas homogneas han sido pasadas como parmetro
+     * aquellos cuyas coordenadas homogéneas han sido pasadas como parámetro
      * @exception GeomException si los puntos inicial y final son iguales o si
-     * la coordenada homognea z de alguno de ellos vale cero
+     * la coordenada homogénea z de alguno de ellos vale cero
      * @see Punto2D#Punto2D(double, double, double)
      * @see Punto2D#equals(ObjetoGeometrico)
      */
@@ -118,15 +119,15 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Constructor del segmento orientado a partir de un punto y un vector. El
-     * segundo punto se obtendr como aquel resultante del desplazamiento del
+     * segundo punto se obtendrá como aquel resultante del desplazamiento del
      * primer punto usando el vector
      * @param punto punto inicial del segmente
      * @param vector vector usado para obtener el punto final del segmente a partir
-     * de la traslacin del punto inicial
+     * de la traslación del punto inicial
      * @return un nuevo segmento orientado cuyo punto inicial es el pasado como
-     * parmetro y punto final se obtiene mediante la traslacin de ste a partir
-     * del vector pasado como segundo parmetro
-     * @exception GeomException si el vector pasado como parmetro es nulo
+     * parámetro y punto final se obtiene mediante la traslación de éste a partir
+     * del vector pasado como segundo parámetro
+     * @exception GeomException si el vector pasado como parámetro es nulo
      * @see Punto2D#trasladar(Vector2D)
      * @see Punto2D#Punto2D(Punto2D)
      * @see Vector2D#vectorNulo()
@@ -142,17 +143,17 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Constructor del segmento orientado a partir de las coordenadas cartesianas
-     * de un punto y un vector. El segundo punto se obtendr como aquel resultante
+     * de un punto y un vector. El segundo punto se obtendrá como aquel resultante
      * del desplazamiento del primer punto usando el vector
      * @param px coordenada cartesiana x del punto inicial del segmento
      * @param py coordenada cartesiana y del punto inicial del segmento
      * @param vector vector usado para obtener el punto final del segmente a partir
-     * de la traslacin del punto inicial
+     * de la traslación del punto inicial
      * @return un nuevo segmento orientado cuyo punto inicial es aquel cuyas coordenadas
-     * cartesianas se pasan como primer y segundo parmetros y punto final se
-     * obtiene mediante la traslacin del punto inicial a partir del vector pasado
-     * como tercer parmetro
-     * @exception GeomException si el vector pasado como parmetro es nulo
+     * cartesianas se pasan como primer y segundo parámetros y punto final se
+     * obtiene mediante la traslación del punto inicial a partir del vector pasado
+     * como tercer parámetro
+     * @exception GeomException si el vector pasado como parámetro es nulo
      * @see Punto2D#trasladar(Vector2D)
      * @see Punto2D#Punto2D(double, double)
      * @see Vector2D#vectorNulo()
@@ -167,19 +168,19 @@ public class Segmento2D extends ObjetoGeometrico {
         }
     }
 
-    /** Constructor del segmento orientado a partir de las coordenadas homogneas
-     * de un punto y un vector. El segundo punto se obtendr como aquel resultante
+    /** Constructor del segmento orientado a partir de las coordenadas homogéneas
+     * de un punto y un vector. El segundo punto se obtendrá como aquel resultante
      * del desplazamiento del primer punto usando el vector
-     * @param hx primera coordenada homognea del punto inicial del segmento
-     * @param hy segunda coordenada homognea del punto inicial del segmento
-     * @param hz tercera coordenada homognea del punto inicial del segmento
+     * @param hx primera coordenada homogénea del punto inicial del segmento
+     * @param hy segunda coordenada homogénea del punto inicial del segmento
+     * @param hz tercera coordenada homogénea del punto inicial del segmento
      * @param vector vector usado para obtener el punto final del segmente a partir
-     * de la traslacin del punto inicial
+     * de la traslación del punto inicial
      * @return un nuevo segmento orientado cuyo punto inicial es aquel cuyas coordenadas
-     * homogneas se pasan como primer, segundo y tercer parmetros y punto final se
-     * obtiene mediante la traslacin del punto inicial a partir del vector pasado
-     * como cuarto parmetro
-     * @exception GeomException si el vector pasado como parmetro es nulo
+     * homogéneas se pasan como primer, segundo y tercer parámetros y punto final se
+     * obtiene mediante la traslación del punto inicial a partir del vector pasado
+     * como cuarto parámetro
+     * @exception GeomException si el vector pasado como parámetro es nulo
      * @see Punto2D#trasladar(Vector2D)
      * @see Punto2D#Punto2D(double, double, double)
      * @see Vector2D#vectorNulo()
@@ -198,7 +199,7 @@ public class Segmento2D extends ObjetoGeometrico {
      * a partir de uno ya existente
      * @param original segmento a partir del cual construir el nuevo segmento
      * @return un nuevo segmento con los mismos puntos inicial y final que el
-     * segmento pasado como parmetro
+     * segmento pasado como parámetro
      * @see Punto2D#Punto2D(Punto2D)
      * @see Segmento2D#comienzo()
      * @see Segmento2D#fin()
@@ -208,12 +209,12 @@ public class Segmento2D extends ObjetoGeometrico {
         this.fin = new Punto2D(original.fin());
     }
 
-    /** Comparacin con otro objeto geomtrico. Un segmento orientado es igual a
-     * otro objeto geomtrico si dicho objeto es tambin un segmento orientado y
+    /** Comparación con otro objeto geométrico. Un segmento orientado es igual a
+     * otro objeto geométrico si dicho objeto es también un segmento orientado y
      * si ambos segmentos tienen el mismo punto de inicio y final
-     * @param obj objeto geomtrico con el que se desea comparar el segmento
+     * @param obj objeto geométrico con el que se desea comparar el segmento
      * @return un valor booleano indicando si el segmento es igual al objeto
-     * geomtrico pasado como parmetro
+     * geométrico pasado como parámetro
      * @see Segmento2D#comienzo()
      * @see Segmento2D#fin()
      * @see Punto2D#equals(ObjetoGeometrico)
@@ -230,12 +231,12 @@ public class Segmento2D extends ObjetoGeometrico {
         else return false;
     }
 
-    /** Comparacin con otro objeto geomtrico. Un segmento orientado es distinto a
-     * otro objeto geomtrico si dicho objeto no es un segmento orientado o
+    /** Comparación con otro objeto geométrico. Un segmento orientado es distinto a
+     * otro objeto geométrico si dicho objeto no es un segmento orientado o
      * si ambos segmentos no tienen el mismo punto de inicio y final
-     * @param obj objeto geomtrico con el que se desea comparar el segmento
+     * @param obj objeto geométrico con el que se desea comparar el segmento
      * @return un valor booleano indicando si el segmento es distinto al objeto
-     * geomtrico pasado como parmetro
+     * geométrico pasado como parámetro
      * @see Segmento2D#equals(ObjetoGeometrico)
      */
     public boolean not_equals (ObjetoGeometrico obj) {
@@ -252,9 +253,9 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Obtiene la longitud al cuadrado del segmento. En lugar de obtenerla
-     * a partir de la funcin <code>longitud</code> de <code>Segmento2D</code>,
+     * a partir de la función <code>longitud</code> de <code>Segmento2D</code>,
      * se ha calculado como (fin.x-comienzo.x)^2+(fin.y-comienzo.y)^2, para que
-     * sea ms exacto
+     * sea más exacto
      * @return la longitud del segmento elevada al cuadrado
      * @see Mat#cuadrado(double)
      * @see Segmento2D#longitud()
@@ -285,10 +286,10 @@ public class Segmento2D extends ObjetoGeometrico {
         return new Vector2D(comienzo, fin);
     }
 
-    /** Obtiene una direccin a partir del segmento. Los desplazamientos de la
-     * direccin se obtendrn a partir de los puntos inicial y final del
+    /** Obtiene una dirección a partir del segmento. Los desplazamientos de la
+     * dirección se obtendrán a partir de los puntos inicial y final del
      * segmento
-     * @return la direccin definida entre los puntos inicial y final del
+     * @return la dirección definida entre los puntos inicial y final del
      * segmento
      * @see Direccion2D#Direccion2D(Punto2D, Punto2D)
      */
@@ -301,10 +302,10 @@ public class Segmento2D extends ObjetoGeometrico {
         }
     }
 
-    /** Obtiene un nuevo rayo cuyo punto inicial ser el punto inicial del segmento
-     * orientado y cuyo vector director se obtendr a partir de sus extremos
+    /** Obtiene un nuevo rayo cuyo punto inicial será el punto inicial del segmento
+     * orientado y cuyo vector director se obtendrá a partir de sus extremos
      * @return un rayo cuyo punto de inicio es el punto de inicio del segmento
-     * y vector director vendr definido por los extremos por sus extremos
+     * y vector director vendrá definido por los extremos por sus extremos
      * @see Segmento2D#vector()
      * @see Rayo2D#Rayo2D(Punto2D, Vector2D)
      */
@@ -317,8 +318,8 @@ public class Segmento2D extends ObjetoGeometrico {
         }
     }
 
-    /** Obtiene una recta a partir del segmento. El punto base de la recta ser
-     * el punto inicial del segmento y el vector director estar definido entre los
+    /** Obtiene una recta a partir del segmento. El punto base de la recta será
+     * el punto inicial del segmento y el vector director estará definido entre los
      * puntos inicial y final del segmento
      * @return la recta que intersecta totalmente con el segmento
      * @see Recta2D#Recta2D(Punto2D, Vector2D)
@@ -333,7 +334,7 @@ public class Segmento2D extends ObjetoGeometrico {
         }
     }
 
-    /** Realiza la conversin del objeto de tipo Segmento2D a una cadena
+    /** Realiza la conversión del objeto de tipo Segmento2D a una cadena
      * @return una cadena especificando el tipo de objeto (segmento) y las
      * coordendadas cartesianas de sus puntos inicial y final
      * @see Punto2D#toString()
@@ -342,12 +343,25 @@ public class Segmento2D extends ObjetoGeometrico {
         return nombre + " - Segmento2D: (" + comienzo.toString() + "," + fin.toString() + ")";
     }
 
-    /** Comprueba si el segmento es colineal con el punto pasado como parmetro o si lo
+    /** Obtiene el punto de soporte del segmento en una dirección: el extremo
+     * más alejado en ella
+     * @param dx componente x de la dirección
+     * @param dy componente y de la dirección
+     * @param punto array en el que se guardan las coordenadas del extremo
+     * @see InterfazSoporte#soporte(double, double, double[])
+     */
+    public void soporte(double dx, double dy, double punto[]) {
+        Punto2D extremo = (fin.x()*dx + fin.y()*dy > comienzo.x()*dx + comienzo.y()*dy) ? fin : comienzo;
+        punto[0] = extremo.x();
+        punto[1] = extremo.y();
+    }
+
+    /** Comprueba si el segmento es colineal con el punto pasado como parámetro o si lo
      * contiene
-     * @param punto punto que se desea saber si est contenido en el segmento o es
-     * colineal con ste
-     * @return un valor booleano indicando si el punto pasado como parmetro est
-     * contenido en el segmento o es colineal con ste
+     * @param punto punto que se desea saber si está contenido en el segmento o es
+     * colineal con éste
+     * @return un valor booleano indicando si el punto pasado como parámetro está
+     * contenido en el segmento o es colineal con éste
      * @exception GeomException si el segmento es degenerado
      * @see Segmento2D#degenerado()
      * @see Punto2D#posicionRelativa(Punto2D, Punto2D)
@@ -361,13 +375,13 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Comprueba si el segmento es colineal con el punto cuyas coordenadas cartesianas
-     * se pasan como parmetro o si lo contiene
-     * @param px coordenada cartesiana x del punto que se desea conocer si est contenido
-     * en el segmento o es colineal con ste
-     * @param py coordenada cartesiana y del punto que se desea conocer si est contenido
-     * en el segmento o es colineal con ste
+     * se pasan como parámetro o si lo contiene
+     * @param px coordenada cartesiana x del punto que se desea conocer si está contenido
+     * en el segmento o es colineal con éste
+     * @param py coordenada cartesiana y del punto que se desea conocer si está contenido
+     * en el segmento o es colineal con éste
      * @return un valor booleano indicando si el punto cuyas coordenadas cartesianas
-     * se han pasado como parmetro est contenido en el segmento o es colineal con ste
+     * se han pasado como parámetro está contenido en el segmento o es colineal con éste
      * @exception GeomException si el segmento es degenerado
      * @see Segmento2D#degenerado()
      * @see Punto2D#Punto2D(double, double)
@@ -384,16 +398,16 @@ public class Segmento2D extends ObjetoGeometrico {
         }
     }
 
-    /** Comprueba si el segmento es colineal con el punto cuyas coordenadas homogneas
-     * se pasan como parmetro o si lo contiene
-     * @param hx primera coordenada homognea del punto que se desea conocer si est contenido
-     * en el segmento o es colineal con ste
-     * @param hy segunda coordenada homognea del punto que se desea conocer si est contenido
-     * en el segmento o es colineal con ste
-     * @param hz tercera coordenada homognea del punto que se desea conocer si est contenido
-     * en el segmento o es colineal con ste
-     * @return un valor booleano indicando si el punto cuyas coordenadas homogneas
-     * se han pasado como parmetro est contenido en el segmento o es colineal con ste
+    /** Comprueba si el segmento es colineal con el punto cuyas coordenadas homogéneas
+     * se pasan como parámetro o si lo contiene
+     * @param hx primera coordenada homogénea del punto que se desea conocer si está contenido
+     * en el segmento o es colineal con éste
+     * @param hy segunda coordenada homogénea del punto que se desea conocer si está contenido
+     * en el segmento o es colineal con éste
+     * @param hz tercera coordenada homogénea del punto que se desea conocer si está contenido
+     * en el segmento o es colineal con éste
+     * @return un valor booleano indicando si el punto cuyas coordenadas homogéneas
+     * se han pasado como parámetro está contenido en el segmento o es colineal con éste
      * @exception GeomException si el segmento es degenerado
      * @see Segmento2D#degenerado()
      * @see Punto2D#Punto2D(double, double, double)
@@ -411,61 +425,46 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
 
-    /** Comprueba si un punto est contenido en el segmento. Dicho punto debe
-     * ser colineal con los extremos del segmento, y adems sus coordenadas deben
+    /** Comprueba si un punto está contenido en el segmento. Dicho punto debe
+     * ser colineal con los extremos del segmento, y además sus coordenadas deben
      * encontrarse entre las de los dos extremos
-     * @param punto el punto que se desea comprobar si est contenido en el
+     * @param punto el punto que se desea comprobar si está contenido en el
      * segmento
-     * @return un valor booleano indicando si el punto pasado como parmetro
-     * est contenido en el segmento
-     * @see Punto2D#posicionRelativa(Punto2D, Punto2D)
-     * @see Segmento2D#minimoX()
-     * @see Segmento2D#maximoX()
-     * @see Segmento2D#minimoY()
-     * @see Segmento2D#maximoY()
+     * @return un valor booleano indicando si el punto pasado como parámetro
+     * está contenido en el segmento
+     * @see Predicados2D#contenidoEnSegmento(double, double, double, double, double, double)
      */
     public boolean contienePunto(Punto2D punto)
     {
-        try {
-            if (punto.equals(this.comienzo()) || punto.equals(this.fin()) ||
-            (punto.posicionRelativa(comienzo, fin) == Mat.COLINEAL
-            && punto.y()>=minimoY().y() && punto.y()<=maximoY().y()
-            && punto.x()>=minimoX().x() && punto.x()<=maximoX().x()))
-            return true;
-            else
-            return false;
-        } catch (GeomException e) {
-            System.err.println(e.getMessage());
-            return false;
-        }
+        return Predicados2D.contenidoEnSegmento(punto.x(), punto.y(),
+                                                comienzo.x(), comienzo.y(), fin.x(), fin.y());
     }
 
-    /** Comprueba si un punto est contenido en el segmento, a partir de las
+    /** Comprueba si un punto está contenido en el segmento, a partir de las
      * coordenadas cartesianas del mismo. Dicho punto debe
-     * ser colineal con los extremos del segmento, y adems sus coordenadas deben
+     * ser colineal con los extremos del segmento, y además sus coordenadas deben
      * encontrarse entre las de los dos extremos
      * @param x coordenada cartesiana x del punto
      * @param y coordenada cartesiana y del punto
-     * @return un valor booleano indicando si el punto pasado como parmetro
-     * est contenido en el segmento
-     * @see Punto2D#Punto2D(double, double)
-     * @see Segmento2D#contienePunto(Punto2D)
+     * @return un valor booleano indicando si el punto pasado como parámetro
+     * está contenido en el segmento
+     * @see Predicados2D#contenidoEnSegmento(double, double, double, double, double, double)
      */
     public boolean contienePunto(double x, double y)
     {
-        return contienePunto(new Punto2D(x, y));
+        return Predicados2D.contenidoEnSegmento(x, y, comienzo.x(), comienzo.y(), fin.x(), fin.y());
     }
 
-    /** Comprueba si un punto est contenido en el segmento, a partir de las
-     * coordenadas homogneas del mismo. Dicho punto debe
-     * ser colineal con los extremos del segmento, y adems sus coordenadas deben
+    /** Comprueba si un punto está contenido en el segmento, a partir de las
+     * coordenadas homogéneas del mismo. Dicho punto debe
+     * ser colineal con los extremos del segmento, y además sus coordenadas deben
      * encontrarse entre las de los dos extremos
-     * @param hx coordenada homognea x del punto
-     * @param hy coordenada homognea y del punto
-     * @param hz coordenada homognea z del punto
-     * @return un valor booleano indicando si el punto pasado como parmetro
-     * est contenido en el segmento
-     * @exception GeomException si la coordenada homognea z del punto es cero
+     * @param hx coordenada homogénea x del punto
+     * @param hy coordenada homogénea y del punto
+     * @param hz coordenada homogénea z del punto
+     * @return un valor booleano indicando si el punto pasado como parámetro
+     * está contenido en el segmento
+     * @exception GeomException si la coordenada homogénea z del punto es cero
      * @see Punto2D#Punto2D(double, double, double)
      * @see Segmento2D#contienePunto(Punto2D)
      */
@@ -475,11 +474,11 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Comprueba si un punto se encuentra a la izquierda del segmento orientado.
-     * La posicin relativa de ese punto respecto a los extremeos del segmento
+     * La posición relativa de ese punto respecto a los extremeos del segmento
      * debe ser antihoraria.
      * @param punto punto que se desea comprobar si se encuentra a la izquierda
      * del segmento orientado
-     * @return un valor booleano indicando si se cumple la condicin necesaria
+     * @return un valor booleano indicando si se cumple la condición necesaria
      * para que el punto este situado a la izquierda del segmento orientado
      * @see Punto2D#equals(ObjetoGeometrico)
      * @see Punto2D#posicionRelativa(Punto2D, Punto2D)
@@ -499,12 +498,12 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Comprueba si un punto se encuentra a la izquierda del segmento orientado.
-     * La posicin relativa de ese punto respecto a los extremeos del segmento
+     * La posición relativa de ese punto respecto a los extremeos del segmento
      * debe ser antihoraria.
      * @param x coordenada cartesiana x del punto
      * @param y coordenada cartesiana y del punto
-     * @return un valor booleano indicando si se cumple la condicin necesaria
-     * para que el punto cuyas coordenadas cartesianas se han pasado como parmetro
+     * @return un valor booleano indicando si se cumple la condición necesaria
+     * para que el punto cuyas coordenadas cartesianas se han pasado como parámetro
      * este situado a la izquierda del segmento orientado
      * @see Punto2D#Punto2D(double, double)
      * @see Segmento2D#puntoAIzquierda(Punto2D)
@@ -515,15 +514,15 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Comprueba si un punto se encuentra a la izquierda del segmento orientado.
-     * La posicin relativa de ese punto respecto a los extremeos del segmento
+     * La posición relativa de ese punto respecto a los extremeos del segmento
      * debe ser antihoraria.
-     * @param hx coordenada homognea x del punto
-     * @param hy coordenada homognea y del punto
-     * @param hz coordenada homognea z del punto
-     * @return un valor booleano indicando si se cumple la condicin necesaria
-     * para que el punto cuyas coordenadas homogneas se han pasado como parmetro
+     * @param hx coordenada homogénea x del punto
+     * @param hy coordenada homogénea y del punto
+     * @param hz coordenada homogénea z del punto
+     * @return un valor booleano indicando si se cumple la condición necesaria
+     * para que el punto cuyas coordenadas homogéneas se han pasado como parámetro
      * este situado a la izquierda del segmento orientado
-     * @exception GeomException si la coordenada homognea z del punto es igual a cero
+     * @exception GeomException si la coordenada homogénea z del punto es igual a cero
      * @see Punto2D#Punto2D(double, double, double)
      * @see Segmento2D#puntoAIzquierda(Punto2D)
      */
@@ -533,11 +532,11 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Comprueba si un punto se encuentra a la derecha del segmento orientado.
-     * La posicin relativa de ese punto respecto a los extremos del segmento
+     * La posición relativa de ese punto respecto a los extremos del segmento
      * debe ser horaria.
      * @param punto punto que se desea comprobar si se encuentra a la derecha
      * del segmento orientado
-     * @return un valor booleano indicando si se cumple la condicin necesaria
+     * @return un valor booleano indicando si se cumple la condición necesaria
      * para que el punto este situado a la derecha del segmento orientado
      * @see Punto2D#equals(ObjetoGeometrico)
      * @see Punto2D#posicionRelativa(Punto2D, Punto2D)
@@ -557,12 +556,12 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Comprueba si un punto se encuentra a la derecha del segmento orientado.
-     * La posicin relativa de ese punto respecto a los extremeos del segmento
+     * La posición relativa de ese punto respecto a los extremeos del segmento
      * debe ser horaria.
      * @param x coordenada cartesiana x del punto
      * @param y coordenada cartesiana y del punto
-     * @return un valor booleano indicando si se cumple la condicin necesaria
-     * para que el punto cuyas coordenadas cartesianas se han pasado como parmetro
+     * @return un valor booleano indicando si se cumple la condición necesaria
+     * para que el punto cuyas coordenadas cartesianas se han pasado como parámetro
      * este situado a la derecha del segmento orientado
      * @see Punto2D#Punto2D(double, double)
      * @see Segmento2D#puntoAIzquierda(Punto2D)
@@ -573,15 +572,15 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Comprueba si un punto se encuentra a la derecha del segmento orientado.
-     * La posicin relativa de ese punto respecto a los extremeos del segmento
+     * La posición relativa de ese punto respecto a los extremeos del segmento
      * debe ser horaria.
-     * @param hx coordenada homognea x del punto
-     * @param hy coordenada homognea y del punto
-     * @param hz coordenada homognea z del punto
-     * @return un valor booleano indicando si se cumple la condicin necesaria
-     * para que el punto cuyas coordenadas homogneas se han pasado como parmetro
+     * @param hx coordenada homogénea x del punto
+     * @param hy coordenada homogénea y del punto
+     * @param hz coordenada homogénea z del punto
+     * @return un valor booleano indicando si se cumple la condición necesaria
+     * para que el punto cuyas coordenadas homogéneas se han pasado como parámetro
      * este situado a la derecha del segmento orientado
-     * @exception GeomException si la coordenada homognea z del punto es igual a cero
+     * @exception GeomException si la coordenada homogénea z del punto es igual a cero
      * @see Punto2D#Punto2D(double, double, double)
      * @see Segmento2D#puntoADerecha(Punto2D)
      */
@@ -590,85 +589,65 @@ public class Segmento2D extends ObjetoGeometrico {
         return puntoADerecha(new Punto2D(hx, hy, hz));
     }
 
-    /** Comprueba la interseccin propia con otro segmento. Cada extremo de cada uno
+    /** Comprueba la intersección propia con otro segmento. Cada extremo de cada uno
      * de los dos segmentos debe estar a lados distintos respecto al otro. Para que
-     * la interseccin sea propia, el punto de interseccin no debe ser el
+     * la intersección sea propia, el punto de intersección no debe ser el
      * extremo de ninguno de los segmentos.
-     * @param otro segmento con el que se desea conocer si hay interseccin propia
+     * @param otro segmento con el que se desea conocer si hay intersección propia
      * @return un valor booleano indicando si los dos segmentos intersectan de forma
      * propia
-     * @see Punto2D#posicionRelativa(Punto2D, Punto2D)
-     * @see Segmento2D#comienzo()
-     * @see Segmento2D#fin()
-     * @see Punto2D#equals(ObjetoGeometrico)
-     * @see Mat#COLINEAL
-     * @see Mat#ANTIHORARIO
-     * @see Mat#HORARIO
-     * @see Mat#xor(boolean, boolean)
+     * @see Predicados2D#intersectaPropiamente(double, double, double, double, double, double, double, double)
      */
     public boolean intersectaPropSegmento(Segmento2D otro)
     {
-        try {
-            if (this.comienzo().equals(otro.comienzo()) || this.comienzo.equals(otro.fin())
-            || this.fin().equals(otro.fin()) || this.fin().equals(otro.comienzo()))
-            return false;
-            else
-            // Primero comprobamos si la interseccin se produce en ms de 
-            // un punto
-            if (comienzo.posicionRelativa(otro.comienzo(), otro.fin()) == Mat.COLINEAL &&
-                fin.posicionRelativa(otro.comienzo(), otro.fin()) == Mat.COLINEAL &&
-                (this.contienePunto(otro.comienzo()) || this.contienePunto(otro.fin())))
-                    return true;
-            else
-            // En caso contrario comprobamos las condiciones para que la 
-            // interseccin sea en un nico punto
-            return (Mat.xor(comienzo.posicionRelativa(otro.comienzo(),otro.fin())==Mat.ANTIHORARIO &&
-            fin.posicionRelativa(otro.comienzo(),otro.fin())==Mat.HORARIO,
-            comienzo.posicionRelativa(otro.comienzo(),otro.fin())==Mat.HORARIO &&
-            fin.posicionRelativa(otro.comienzo(),otro.fin())==Mat.ANTIHORARIO) &&
-            Mat.xor(otro.comienzo().posicionRelativa(comienzo,fin)==Mat.ANTIHORARIO &&
-            otro.fin().posicionRelativa(comienzo,fin)==Mat.HORARIO,
-            otro.comienzo().posicionRelativa(comienzo,fin)==Mat.HORARIO &&
-            otro.fin().posicionRelativa(comienzo,fin)==Mat.ANTIHORARIO));
-        } catch (GeomException e) {
-            System.err.println(e.getMessage());
-            return false;
-        }
+        return Predicados2D.intersectaPropiamente(comienzo.x(), comienzo.y(), fin.x(), fin.y(),
+                                                  otro.comienzo.x(), otro.comienzo.y(),
+                                                  otro.fin.x(), otro.fin.y());
     }
 
-    /** Comprueba si hay interseccin con otro segmento. Dicha interseccin puede
-     * ser propia (debida a que algn extremo de uno de los segmentos est
+    /** Comprueba si hay intersección con otro segmento. Dicha intersección puede
+     * ser propia (debida a que algún extremo de uno de los segmentos está
      * contenido en el otro)
-     * @param otro segmento con el que se desea conocer si hay interseccin
+     * @param otro segmento con el que se desea conocer si hay intersección
      * @return un valor booleano indicando si los dos segmentos intersectan
-     * @see Punto2D#posicionRelativa(Punto2D, Punto2D)
-     * @see Punto2D#equals(ObjetoGeometrico)
-     * @see Segmento2D#comienzo()
-     * @see Segmento2D#fin()
+     * @see Predicados2D#intersecta(double, double, double, double, double, double, double, double)
      */
     public boolean intersectaSegmento(Segmento2D otro)
     {
-        if (this.intersectaPropSegmento(otro))
-        return true;
-        else
-        if (this.comienzo().equals(otro.comienzo()) || this.comienzo.equals(otro.fin())
-        || this.fin().equals(otro.fin()) || this.fin().equals(otro.comienzo()) )
-        return true;
-        else
-        return false;
+        return Predicados2D.intersecta(comienzo.x(), comienzo.y(), fin.x(), fin.y(),
+                                       otro.comienzo.x(), otro.comienzo.y(),
+                                       otro.fin.x(), otro.fin.y());
+    }
+
+    /** Comprueba de forma exacta si hay intersección con otro segmento, sin
+     * usar epsilon. Los segmentos intersectan si tienen algún punto en común,
+     * incluidos sus extremos. Este resultado no depende de la escala de las
+     * coordenadas, por lo que debe preferirse cuando la decisión afecta a la
+     * topología (por ejemplo, al comprobar si un polígono es simple)
+     * @param otro segmento con el que se desea conocer si hay intersección
+     * @return un valor booleano indicando si los dos segmentos intersectan
+     * @see PredicadosExactos2D#intersecta(double, double, double, double, double, double, double, double)
+     * @see Segmento2D#intersectaSegmento(Segmento2D)
+     */
+    public boolean intersectaSegmentoExacto(Segmento2D otro)
+    {
+        return PredicadosExactos2D.intersecta(comienzo.x(), comienzo.y(), fin.x(), fin.y(),
+                                              otro.comienzo.x(), otro.comienzo.y(),
+                                              otro.fin.x(), otro.fin.y());
     }
 
-    /** Obtiene el objeto geomtrico resultante de la interseccin del segmento con
-     * otro segmento. Este ObjetoGeomtrico puede ser null, si no existe interseccin,
+    /** Obtiene el objeto geométrico resultante de la intersección del segmento con
+     * otro segmento. Este ObjetoGeométrico puede ser null, si no existe intersección,
      * un punto si las direcciones de ambos segemntos son distintas (o si son iguales
      * pero coinciden en tan solo uno de los extremos) o un segmento
-     * @param otro segmento con el que se desea obtener la interseccin
-     * @return el objeto geomtrico resultante de la interseccin de los dos segmentos
+     * @param otro segmento con el que se desea obtener la intersección
+     * @return el objeto geométrico resultante de la intersección de los dos segmentos
      * @see Segmento2D#intersectaSegmento(Segmento2D)
      * @see Direccion2D#equals(ObjetoGeometrico)
      * @see Segmento2D#minimo()
      * @see Segmento2D#maximo()
      * @see Recta2D#interseccionRecta(Recta2D)
+     * @see Intersecciones2D
      */
     public ObjetoGeometrico interseccionSegmento(Segmento2D otro)
     {
@@ -678,12 +657,12 @@ public class Segmento2D extends ObjetoGeometrico {
             else
             if (!this.direccion().equals(otro.direccion())
             && !this.direccion().equals(otro.direccion().opuesto()))
-            // El resultado de la interseccin es un punto
+            // El resultado de la intersección es un punto
             return otro.recta().interseccionSegmento(this);
             else
-            // El resultado de la interseccin es otro segmento (a menos que
+            // El resultado de la intersección es otro segmento (a menos que
             // el punto inicial y final sean el mismo, en cuyo caso el
-            // resultado ser un punto)
+            // resultado será un punto)
             if (this.maximo().x()>otro.maximo().x() ||
             (Mat.absoluto(this.maximo().x() - otro.maximo().x()) < Mat.EPSILON
             && this.maximo().y()>otro.maximo().y()))
@@ -702,17 +681,17 @@ public class Segmento2D extends ObjetoGeometrico {
         }
     }
 
-    /** Obtiene la distancia del segmento a un punto, as como el punto del segmento
-     * ms cercano a dicho punto. Para obtenerla se determina
+    /** Obtiene la distancia del segmento a un punto, así como el punto del segmento
+     * más cercano a dicho punto. Para obtenerla se determina
      * si la recta perpendicular al segmento que pasa por el punto corta al segmento.
-     * En caso afirmativo la distancia ser la del punto al punto de corte de la recta
-     * con el segmento, y en caso negativo ser la distancia del punto al extremo
-     * del segmento ms cercano
+     * En caso afirmativo la distancia será la del punto al punto de corte de la recta
+     * con el segmento, y en caso negativo será la distancia del punto al extremo
+     * del segmento más cercano
      * @param punto punto al cual se desea obtener la distancia
-     * @param cercano punto del segmento ms cercano al punto pasado como primer
-     * parmetro. Es un parmetro de SALIDA, y debe ser un punto ya creado
+     * @param cercano punto del segmento más cercano al punto pasado como primer
+     * parámetro. Es un parámetro de SALIDA, y debe ser un punto ya creado
      * @return la distancia del segmento al punto
-     * @exception GeomException si el punto pasado como segundo parmetro no es un punto
+     * @exception GeomException si el punto pasado como segundo parámetro no es un punto
      * ya creado
      * @see Recta2D#Recta2D(Punto2D, Punto2D)
      * @see Recta2D#perpendicular(int)
@@ -725,7 +704,7 @@ public class Segmento2D extends ObjetoGeometrico {
         Vector2D diferencia = new Vector2D();
 
         if (cercano == null)
-            throw new GeomException("puntoMasCercano (Punto2D, Punto2D): el segundo parmetro debe estar inicializado");
+            throw new GeomException("puntoMasCercano (Punto2D, Punto2D): el segundo parámetro debe estar inicializado");
 
         try {
             Recta2D rectaPerpendicular = new Recta2D(comienzo, fin);
@@ -734,7 +713,7 @@ public class Segmento2D extends ObjetoGeometrico {
             ObjetoGeometrico corte = recta.interseccionSegmento(this);
             if (corte instanceof Punto2D)
             {
-                // La distancia ser igual a la distancia del punto al punto
+                // La distancia será igual a la distancia del punto al punto
                 // de corte de la recta con el segmento
                 Punto2D puntoCorte = (Punto2D) corte;
                 distancia = punto.distancia(puntoCorte);
@@ -742,7 +721,7 @@ public class Segmento2D extends ObjetoGeometrico {
             }
             else
             {
-                // La distancia ser igual a la distancia ms corta del punto
+                // La distancia será igual a la distancia más corta del punto
                 // a alguno de los extremos
                 double dist1 = punto.distancia(comienzo);
                 double dist2 = punto.distancia(fin);
@@ -777,7 +756,7 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Comprueba si se trata de un segmento orientado degenerado. Para que esto
-     * sea as, los dos extremos deben ser iguales
+     * sea así, los dos extremos deben ser iguales
      * @return un valor booleano indicando si el segmento es degenerado
      * @see Punto2D#equals(ObjetoGeometrico)
      */
@@ -799,8 +778,8 @@ public class Segmento2D extends ObjetoGeometrico {
         return false;
     }
 
-    /** Comprueba si el segmento orientado es vertica. Un segmento es vertical
-     * si la coordenada cartesiana x de ambos extremos es igua
+    /** Comprueba si el segmento orientado es verticañ. Un segmento es vertical
+     * si la coordenada cartesiana x de ambos extremos es iguañ
      * @return un valor booleano indicando si el segmento es horizontal
      * @see Mat#absoluto(double)
      * @see Mat#EPSILON
@@ -814,8 +793,8 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Traslada el segmento en el plano aplicando el mismo incremento en cada
-     * eje. La traslacin se aplicar a cada extremo.
-     * @param incr incremento o desplazamiento que ser aplicado tanto al eje x
+     * eje. La traslación se aplicará a cada extremo.
+     * @param incr incremento o desplazamiento que será aplicado tanto al eje x
      * como al eje y
      * @return el segmento trasladado
      * @see Punto2D#trasladar(double)
@@ -828,7 +807,7 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Traslada el segmento en el plano a partir de un determinado incremento en
-     * cada coordenada cartesiana. La traslacin se aplicar a todos los extremos.
+     * cada coordenada cartesiana. La traslación se aplicará a todos los extremos.
      * @param incX incremento o desplazamiento en el eje x
      * @param incY incremento o desplazamiento en el eje y
      * @return el segmento trasladado
@@ -841,9 +820,9 @@ public class Segmento2D extends ObjetoGeometrico {
         return this;
     }
 
-    /** Traslada el segmento en la direccin y a la distancia determinados por un
-     * vector. Se aplicar la traslacin a cada extremo
-     * @param vector el vector que define la traslacin del segmento
+    /** Traslada el segmento en la dirección y a la distancia determinados por un
+     * vector. Se aplicará la traslación a cada extremo
+     * @param vector el vector que define la traslación del segmento
      * @return el segmento trasladado
      * @see Punto2D#trasladar(Vector2D)
      */
@@ -854,11 +833,11 @@ public class Segmento2D extends ObjetoGeometrico {
         return this;
     }
 
-    /** Traslacin del segmento a partir de las coordenadas polares (se trasladan
-     * los extremos del segmento una determinada distancia en un determinado ngulo)
-     * @param angulo direccin de traslacin del segmento
-     * @param dist distancia a la que se mover el segmento de su posicin original
-     * siguiendo el ngulo indicado
+    /** Traslación del segmento a partir de las coordenadas polares (se trasladan
+     * los extremos del segmento una determinada distancia en un determinado ángulo)
+     * @param angulo dirección de traslación del segmento
+     * @param dist distancia a la que se moverá el segmento de su posición original
+     * siguiendo el ángulo indicado
      * @return el segmento trasladado
      * @see Punto2D#trasladarPolar(double, double)
      */
@@ -869,8 +848,8 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Rota el segmento respecto del origen de coordenadas
-     * @param radio angulo de giro en radianes. Si es positivo el giro ser
-     * en sentido antihorario y en caso contrario lo ser en sentido horario
+     * @param radio angulo de giro en radianes. Si es positivo el giro será
+     * en sentido antihorario y en caso contrario lo será en sentido horario
      * @return el segmento girado
      * @see Punto2D#gira(double)
      */
@@ -881,11 +860,11 @@ public class Segmento2D extends ObjetoGeometrico {
         return this;
     }
 
-    /** Rota el segmento respecto a un punto. Se aplicar la
-     * rotacin respecto a un punto a los extremos del segmento.
-     * @param origen punto respecto el cual se har el giro
-     * @radio angulo de giro en radianes. Si es positivo el giro ser en sentido
-     * antihorario y en caso contrario lo ser en sentido horario
+    /** Rota el segmento respecto a un punto. Se aplicará la
+     * rotación respecto a un punto a los extremos del segmento.
+     * @param origen punto respecto el cual se hará el giro
+     * @radio angulo de giro en radianes. Si es positivo el giro será en sentido
+     * antihorario y en caso contrario lo será en sentido horario
      * @return el segmento girado
      * @see Punto2D#gira(Punto2D, double)
      */
@@ -908,7 +887,7 @@ public class Segmento2D extends ObjetoGeometrico {
         return new Punto2D(x,y);
     }
     
-    /** Escalado de un segmento. Se aplicar el escalado a cada extremo
+    /** Escalado de un segmento. Se aplicará el escalado a cada extremo
      * @param escala factor de escalado
      * @return el segmento escalado
      * @exception GeomException si el factor de escalado es cero
@@ -921,7 +900,7 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Escalado de un segmento con distinto factor de escalado para cada coordenada.
-     * Se aplicar el escalado a cada extremo.
+     * Se aplicará el escalado a cada extremo.
      * @param sx factor de escalado en el eje x
      * @param sy factor de escalado en el eje y
      * @return el segmento escalado
@@ -934,13 +913,13 @@ public class Segmento2D extends ObjetoGeometrico {
         return this;
     }
 
-    /** Aplica una matriz de transformacin al segmento. La matriz debe ser cuadrada
+    /** Aplica una matriz de transformación al segmento. La matriz debe ser cuadrada
      * y de orden dos (para aplicarla a las coordenadas cartesianas) o tres (en
-     * cuyo caso se aplica a las coordenadas homogneas). Se aplicar la matriz
-     * de transformacin a cada uno de los extremos del segmento
-     * @param matriz de transformacin
+     * cuyo caso se aplica a las coordenadas homogéneas). Se aplicará la matriz
+     * de transformación a cada uno de los extremos del segmento
+     * @param matriz de transformación
      * @return el segmento transformado
-     * @exception GeomException si la matriz de transformacin no es cuadrada, o
+     * @exception GeomException si la matriz de transformación no es cuadrada, o
      * es cuadrada pero su orden es distinto de dos o tres
      * @see Punto2D#transforma(double[][])
      */
@@ -966,7 +945,7 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Obtiene el punto del segmento orientado cuya coordenda cartesiana y es menor.
-     * Ese punto ser uno de los dos extremos de dicho segmento.
+     * Ese punto será uno de los dos extremos de dicho segmento.
      * @return el extremo del segmento con menor valor de coordenada cartesiana y
      * @see Punto2D#y()
      */
@@ -978,7 +957,7 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Obtiene el punto del segmento orientado cuya coordenda cartesiana x es menor.
-     * Ese punto ser uno de los dos extremos de dicho segmento.
+     * Ese punto será uno de los dos extremos de dicho segmento.
      * @return el extremo del segmento con menor valor de coordenada cartesiana x
      * @see Punto2D#x()
      */
@@ -990,7 +969,7 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Obtiene el punto del segmento orientado cuya coordenda cartesiana y es mayor.
-     * Ese punto ser uno de los dos extremos de dicho segmento.
+     * Ese punto será uno de los dos extremos de dicho segmento.
      * @return el extremo del segmento con mayor valor de coordenada cartesiana y
      * @see Punto2D#y()
      */
@@ -1002,7 +981,7 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
     /** Obtiene el punto del segmento orientado cuya coordenda cartesiana x es mayor.
-     * Ese punto ser uno de los dos extremos de dicho segmento.
+     * Ese punto será uno de los dos extremos de dicho segmento.
      * @return el extremo del segmento con mayor valor de coordenada cartesiana x
      * @see Punto2D#x()
      */
@@ -1013,10 +992,10 @@ public class Segmento2D extends ObjetoGeometrico {
         return fin;
     }
 
-    /** Obtiene el punto con las menores coordenadas en orden lexicogrfico. Primer
+    /** Obtiene el punto con las menores coordenadas en orden lexicográfico. Primer
      * se compara la coordenada x, y si es la misma para ambos puntos se compara
      * la coordenada y
-     * @return el punto con las menores coordenadas en orden lexicogrfico
+     * @return el punto con las menores coordenadas en orden lexicográfico
      * @see Mat#absoluto(double)
      * @see Mat#EPSILON
      * @see Punto2D#x()
@@ -1035,10 +1014,10 @@ public class Segmento2D extends ObjetoGeometrico {
         return fin;
     }
 
-    /** Obtiene el punto con las mayores coordenadas en orden lexicogrfico. Primer
+    /** Obtiene el punto con las mayores coordenadas en orden lexicográfico. Primer
      * se compara la coordenada x, y si es la misma para ambos puntos se compara
      * la coordenada y
-     * @return el punto con las mayores coordenadas en orden lexicogrfico
+     * @return el punto con las mayores coordenadas en orden lexicográfico
      * @see Mat#absoluto(double)
      * @see Mat#EPSILON
      * @see Punto2D#x()
@@ -1058,28 +1037,28 @@ public class Segmento2D extends ObjetoGeometrico {
     }
 
 
-    /** Obtiene el extremo del segmento cuyo ndice numrico se pasa como parmetro.
-     * dicho ndice debe valer 0 o 1, correspondindose el valor 0 al punto inicial
+    /** Obtiene el extremo del segmento cuyo índice numérico se pasa como parámetro.
+     * dicho índice debe valer 0 o 1, correspondiéndose el valor 0 al punto inicial
      * y 1 al punto final.
-     * @param i ndice numrtico del extremo del segmento que se desea obtener
+     * @param i índice numértico del extremo del segmento que se desea obtener
      * @return el punto seleccionado
-     * @exception GeomException si el ndice tien un valor distinto de cero y
+     * @exception GeomException si el índice tien un valor distinto de cero y
      * de uno
      */
     public Punto2D vertice(int i) throws GeomException {
         if (i != 0 && i != 1)
-        throw new GeomException("vertice (int): el ndice especificado es incorrecto");
+        throw new GeomException("vertice (int): el índice especificado es incorrecto");
         else
         if (i==0) return comienzo;
         else return fin;
     }
 
-    /** Obtiene el extremo del segmento cuyo ndice numrico se pasa como parmetro.
-     * dicho ndice debe valer 0 o 1, correspondindose el valor 0 al punto inicial
+    /** Obtiene el extremo del segmento cuyo índice numérico se pasa como parámetro.
+     * dicho índice debe valer 0 o 1, correspondiéndose el valor 0 al punto inicial
      * y 1 al punto final.
-     * @param i ndice numrtico del extremo del segmento que se desea obtener
+     * @param i índice numértico del extremo del segmento que se desea obtener
      * @return el punto seleccionado
-     * @exception GeomException si el ndice tien un valor distinto de cero y
+     * @exception GeomException si el índice tien un valor distinto de cero y
      * de uno
      * @see Segmento2D#vertice(int)
      */
@@ -0,0 +1,359 @@
+/*
+ * Simplicidad2D.java
+ *
+ * Created on 17 de octubre de 2026, 15:45
+ */
+
+package JavaRG.Nucleo2D;
+
+import JavaRG.*;
+import JavaRG.Soporte.ArbolBarrido;
+import JavaRG.Soporte.ComparadorBarrido;
+
+/** La clase <code>Simplicidad2D</code> comprueba si una cadena de vértices,
+ * abierta o cerrada, dada por arrays paralelos de coordenadas cartesianas, es
+ * simple. Una cadena es simple cuando no tiene dos vértices iguales (según
+ * <code>Predicados2D.iguales</code>), dos aristas consecutivas solo comparten
+ * su vértice común y dos aristas no consecutivas no tienen ningún punto en
+ * común.
+ * <br>
+ * La comprobación de las aristas se realiza con el algoritmo de barrido de
+ * Shamos y Hoey: una línea vertical recorre los vértices de izquierda a
+ * derecha manteniendo ordenadas las aristas que corta, y solo se comprueba la
+ * intersección entre aristas que pasan a ser vecinas en ese orden. El coste
+ * es O(n log n) en lugar del O(n^2) de comparar cada arista con todas las
+ * demás. La comprobación de vértices repetidos agrupa los vértices en
+ * columnas de anchura epsilon y también tiene un coste O(n log n). El orden de
+ * las aristas y las intersecciones se obtienen con predicados exactos, por lo
+ * que el resultado no depende de errores de redondeo.
+ * <br>
+ * La arista i une el vértice i con el i+1. En una cadena cerrada existe
+ * además la arista n-1, que une el último vértice con el primero
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see PredicadosExactos2D
+ * @see ArbolBarrido
+ */
+public class Simplicidad2D extends Object implements ComparadorBarrido {
+
+  /**
+    * Coordenadas cartesianas x de los vértices
+    */
+    private double xs[];
+  /**
+    * Coordenadas cartesianas y de los vértices
+    */
+    private double ys[];
+  /**
+    * Número de vértices de la cadena
+    */
+    private int n;
+  /**
+    * Indica si la cadena es cerrada
+    */
+    private boolean cerrada;
+  /**
+    * Coordenadas del vértice que está procesando la línea de barrido
+    */
+    private double px, py;
+  /**
+    * Primer par de aristas que se cortan, o null si aún no se ha encontrado
+    */
+    private int cruce[];
+
+  /** Crea el estado del barrido para una cadena de vértices
+    */
+    private Simplicidad2D(double xs[], double ys[], int n, boolean cerrada) {
+        this.xs = xs;
+        this.ys = ys;
+        this.n = n;
+        this.cerrada = cerrada;
+    }
+
+  /** Determina si una cadena de vértices es simple
+    * @param xs coordenadas cartesianas x de los vértices
+    * @param ys coordenadas cartesianas y de los vértices
+    * @param n número de vértices de la cadena
+    * @param cerrada indica si existe una arista entre el último vértice y el
+    * primero
+    * @return un valor booleano indicando si la cadena es simple
+    * @see Simplicidad2D#verticesRepetidos(double[], double[], int)
+    * @see Simplicidad2D#aristasQueSeCortan(double[], double[], int, boolean)
+    */
+    public static boolean esSimple(double xs[], double ys[], int n, boolean cerrada) {
+        return verticesRepetidos(xs, ys, n) == null &&
+               aristasQueSeCortan(xs, ys, n, cerrada) == null;
+    }
+
+  /** Busca dos vértices iguales en una cadena de vértices
+    * @param xs coordenadas cartesianas x de los vértices
+    * @param ys coordenadas cartesianas y de los vértices
+    * @param n número de vértices de la cadena
+    * @return los índices de dos vértices iguales (el menor en primer lugar), o
+    * null si todos los vértices son distintos
+    * @see Predicados2D#iguales(double, double, double, double)
+    */
+    public static int[] verticesRepetidos(double xs[], double ys[], int n) {
+        // Dos vértices iguales están a una distancia menor o igual que
+        // epsilon, por lo que sus columnas son la misma o consecutivas
+        double columnas[] = new double[n];
+        for (int i=0; i<n; i++)
+            columnas[i] = Math.floor(xs[i] / Mat.EPSILON);
+        int orden[] = ordenLexicografico(columnas, ys, n);
+
+        for (int k=0; k<n; k++) {
+            int i = orden[k];
+            // Vértices de la misma columna, por encima de este
+            for (int l=k+1; l<n && columnas[orden[l]] == columnas[i] &&
+                            ys[orden[l]] - ys[i] <= Mat.EPSILON; l++)
+                if (Predicados2D.iguales(xs[i], ys[i], xs[orden[l]], ys[orden[l]]))
+                    return par(i, orden[l]);
+            // Vértices de la columna siguiente, a menos de epsilon en y
+            double columna = columnas[i] + 1;
+            for (int l=primeraPosicion(columnas, ys, orden, n, columna, ys[i] - Mat.EPSILON);
+                     l<n && columnas[orden[l]] == columna &&
+                     ys[orden[l]] - ys[i] <= Mat.EPSILON; l++)
+                if (Predicados2D.iguales(xs[i], ys[i], xs[orden[l]], ys[orden[l]]))
+                    return par(i, orden[l]);
+        }
+        return null;
+    }
+
+  /** Busca dos aristas de una cadena de vértices que se corten: dos aristas
+    * no consecutivas con algún punto en común o dos aristas consecutivas que
+    * se solapen. Los vértices de la cadena deben ser distintos entre sí; en
+    * caso contrario el resultado no es fiable
+    * @param xs coordenadas cartesianas x de los vértices
+    * @param ys coordenadas cartesianas y de los vértices
+    * @param n número de vértices de la cadena
+    * @param cerrada indica si existe una arista entre el último vértice y el
+    * primero
+    * @return los índices de dos aristas que se cortan (el menor en primer
+    * lugar), o null si no hay ninguna
+    * @see Simplicidad2D#verticesRepetidos(double[], double[], int)
+    * @see PredicadosExactos2D#intersecta(double, double, double, double, double, double, double, double)
+    */
+    public static int[] aristasQueSeCortan(double xs[], double ys[], int n, boolean cerrada) {
+        Simplicidad2D barrido = new Simplicidad2D(xs, ys, n, cerrada);
+        int cruce[] = barrido.solapeConsecutivas();
+        if (cruce == null)
+            cruce = barrido.barrer();
+        return cruce;
+    }
+
+  /** Compara dos aristas en la posición actual de la línea de barrido, que
+    * pasa por el extremo izquierdo de la arista que se inserta. Se usa
+    * durante el barrido y no debe llamarse directamente. Si el extremo está
+    * sobre una arista no consecutiva se anota el cruce
+    * @param arista arista que se desea insertar
+    * @param otra arista de la línea de barrido con la que se compara
+    * @return un valor negativo si la arista queda por debajo de la otra, y
+    * positivo en caso contrario
+    * @see ComparadorBarrido#compara(int, int)
+    */
+    public int compara(int arista, int otra) {
+        int a = izquierdo(otra), b = derecho(otra);
+        int orientacion = PredicadosExactos2D.orientacion(xs[a], ys[a], xs[b], ys[b], px, py);
+        if (orientacion == Mat.ANTIHORARIO) return 1;
+        if (orientacion == Mat.HORARIO) return -1;
+
+        // El extremo izquierdo está sobre la otra arista
+        if (!consecutivas(arista, otra)) {
+            if (cruce == null) cruce = par(arista, otra);
+            return 1;
+        }
+        // Ambas aristas parten del mismo vértice: se ordenan por su dirección,
+        // quedando las verticales por encima
+        if (xs[a] == xs[b]) return -1;
+        int c = derecho(arista);
+        return PredicadosExactos2D.orientacion(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c]) ==
+               Mat.HORARIO ? -1 : 1;
+    }
+
+  /** Busca un vértice cuyas dos aristas se solapen, es decir, un vértice
+    * colineal con sus dos adyacentes y tal que ambos quedan al mismo lado
+    * @return las dos aristas que se solapan, o null si no hay ninguna
+    */
+    private int[] solapeConsecutivas() {
+        if (n < 2) return null;
+        int desde = cerrada ? 0 : 1;
+        int hasta = cerrada ? n : n-1;
+        for (int v=desde; v<hasta; v++) {
+            int a = v > 0 ? v-1 : n-1;
+            int b = v < n-1 ? v+1 : 0;
+            if (PredicadosExactos2D.orientacion(xs[a], ys[a], xs[v], ys[v], xs[b], ys[b]) ==
+                Mat.COLINEAL)
+            {
+                boolean mismoLado = xs[a] != xs[v] ? (xs[a] < xs[v]) == (xs[b] < xs[v])
+                                                   : (ys[a] < ys[v]) == (ys[b] < ys[v]);
+                if (mismoLado)
+                    return par(a, v);
+            }
+        }
+        return null;
+    }
+
+  /** Realiza el barrido de Shamos y Hoey. En cada vértice se eliminan
+    * primero las aristas que terminan en él y después se insertan las que
+    * comienzan en él, comprobando cada par de aristas que pasan a ser vecinas
+    * @return dos aristas que se cortan, o null si no hay ninguna
+    */
+    private int[] barrer() {
+        int numAristas = cerrada ? n : n-1;
+        // Si todas las aristas son consecutivas entre sí no hay nada que barrer
+        if (numAristas < (cerrada ? 4 : 3))
+            return null;
+
+        ArbolBarrido arbol = new ArbolBarrido(numAristas);
+        int orden[] = ordenLexicografico(xs, ys, n);
+
+        for (int k=0; k<n && cruce==null; k++) {
+            int v = orden[k];
+            int anterior = v > 0 ? v-1 : (cerrada ? n-1 : ArbolBarrido.NINGUNO);
+            int siguiente = v < n-1 || cerrada ? v : ArbolBarrido.NINGUNO;
+
+            if (anterior != ArbolBarrido.NINGUNO && derecho(anterior) == v)
+                eliminar(arbol, anterior);
+            if (siguiente != ArbolBarrido.NINGUNO && derecho(siguiente) == v)
+                eliminar(arbol, siguiente);
+
+            px = xs[v];
+            py = ys[v];
+            if (anterior != ArbolBarrido.NINGUNO && izquierdo(anterior) == v)
+                insertar(arbol, anterior);
+            if (siguiente != ArbolBarrido.NINGUNO && izquierdo(siguiente) == v)
+                insertar(arbol, siguiente);
+        }
+        return cruce;
+    }
+
+  /** Inserta una arista en la línea de barrido y la compara con sus vecinas
+    */
+    private void insertar(ArbolBarrido arbol, int arista) {
+        if (cruce != null) return;
+        arbol.insertar(arista, this);
+        if (cruce != null) return;
+        compruebaVecinas(arista, arbol.anterior(arista));
+        compruebaVecinas(arista, arbol.siguiente(arista));
+    }
+
+  /** Elimina una arista de la línea de barrido y compara las aristas que
+    * pasan a ser vecinas
+    */
+    private void eliminar(ArbolBarrido arbol, int arista) {
+        if (cruce != null) return;
+        int anterior = arbol.anterior(arista);
+        int siguiente = arbol.siguiente(arista);
+        arbol.eliminar(arista);
+        compruebaVecinas(anterior, siguiente);
+    }
+
+  /** Anota el cruce entre dos aristas vecinas en la línea de barrido si no
+    * son consecutivas en la cadena y tienen algún punto en común
+    */
+    private void compruebaVecinas(int i, int j) {
+        if (cruce != null || i == ArbolBarrido.NINGUNO || j == ArbolBarrido.NINGUNO ||
+            consecutivas(i, j))
+            return;
+        int a = i, b = destino(i), c = j, d = destino(j);
+        if (PredicadosExactos2D.intersecta(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c], xs[d], ys[d]))
+            cruce = par(i, j);
+    }
+
+  /** Determina si dos aristas son consecutivas en la cadena
+    */
+    private boolean consecutivas(int i, int j) {
+        int diferencia = Math.abs(i - j);
+        return diferencia == 1 || (cerrada && diferencia == n-1);
+    }
+
+  /** Obtiene el vértice final de una arista
+    */
+    private int destino(int arista) {
+        return arista < n-1 ? arista+1 : 0;
+    }
+
+  /** Obtiene el extremo de una arista con menor coordenada x (menor y en caso
+    * de empate)
+    */
+    private int izquierdo(int arista) {
+        int b = destino(arista);
+        return menor(xs, ys, arista, b) ? arista : b;
+    }
+
+  /** Obtiene el extremo de una arista con mayor coordenada x (mayor y en caso
+    * de empate)
+    */
+    private int derecho(int arista) {
+        int b = destino(arista);
+        return menor(xs, ys, arista, b) ? b : arista;
+    }
+
+  /** Crea un par de índices con el menor en primer lugar
+    */
+    private static int[] par(int i, int j) {
+        int resultado[] = { Math.min(i, j), Math.max(i, j) };
+        return resultado;
+    }
+
+  /** Ordena los índices de un conjunto de puntos por su coordenada x, y por
+    * su coordenada y en caso de empate. Se utiliza una ordenación por mezcla,
+    * por lo que el coste es O(n log n) y el orden es estable
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos
+    * @return los índices de los puntos ordenados
+    */
+    public static int[] ordenLexicografico(double xs[], double ys[], int n) {
+        int orden[] = new int[n];
+        for (int i=0; i<n; i++)
+            orden[i] = i;
+        ordenar(xs, ys, orden, new int[n], 0, n);
+        return orden;
+    }
+
+  /** Ordena por mezcla las posiciones [desde, hasta) de un array de índices
+    */
+    private static void ordenar(double xs[], double ys[], int orden[], int auxiliar[],
+                                int desde, int hasta) {
+        if (hasta - desde < 2) return;
+        int medio = (desde + hasta) >>> 1;
+        ordenar(xs, ys, orden, auxiliar, desde, medio);
+        ordenar(xs, ys, orden, auxiliar, medio, hasta);
+        // Si las dos mitades ya están en orden no hace falta mezclarlas
+        if (!menor(xs, ys, orden[medio], orden[medio-1])) return;
+
+        System.arraycopy(orden, desde, auxiliar, desde, hasta - desde);
+        int i = desde, j = medio;
+        for (int k=desde; k<hasta; k++) {
+            if (j >= hasta || (i < medio && !menor(xs, ys, auxiliar[j], auxiliar[i])))
+                orden[k] = auxiliar[i++];
+            else
+                orden[k] = auxiliar[j++];
+        }
+    }
+
+  /** Determina si el punto i es lexicográficamente menor que el punto j
+    */
+    static boolean menor(double xs[], double ys[], int i, int j) {
+        return xs[i] < xs[j] || (xs[i] == xs[j] && ys[i] < ys[j]);
+    }
+
+  /** Obtiene la primera posición de un array de índices ordenado
+    * lexicográficamente cuyo punto no es menor que (x, y)
+    */
+    private static int primeraPosicion(double xs[], double ys[], int orden[], int n,
+                                       double x, double y) {
+        int desde = 0, hasta = n;
+        while (desde < hasta) {
+            int medio = (desde + hasta) >>> 1;
+            int i = orden[medio];
+            if (xs[i] < x || (xs[i] == x && ys[i] < y))
+                desde = medio + 1;
+            else
+                hasta = medio;
+        }
+        return desde;
+    }
+}
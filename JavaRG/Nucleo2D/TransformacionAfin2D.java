@@ -0,0 +1,338 @@
+/*
+ * TransformacionAfin2D.java
+ *
+ * Created on 17 de octubre de 2026, 13:05
+ */
+
+package JavaRG.Nucleo2D;
+
+import JavaRG.*;
+
+/** Los objetos de la clase <code>TransformacionAfin2D</code> representan una
+ * transformación del plano mediante una matriz de orden 3 que se aplica a las
+ * coordenadas homogéneas de los puntos. Las traslaciones, escalados, giros y
+ * matrices generales se componen una única vez en una sola matriz, que después
+ * puede aplicarse a puntos, segmentos, buffers de puntos o arrays de
+ * coordenadas sin volver a calcular senos y cosenos ni a validar la matriz
+ * para cada punto.
+ * <br>
+ * Las transformaciones son inmutables: los métodos <code>trasladar</code>,
+ * <code>escalado</code>, <code>gira</code> y <code>transforma</code> no
+ * modifican la transformación, sino que devuelven una nueva que aplica primero
+ * la original y después la indicada. Por ejemplo,
+ * <code>new TransformacionAfin2D().gira(angulo).trasladar(x, y)</code> gira
+ * respecto al origen y después traslada.
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see Punto2D#transforma(double[][])
+ */
+public class TransformacionAfin2D extends Object {
+
+  /**
+    * Elementos de la matriz de transformación
+    */
+    private final double m00, m01, m02;
+    private final double m10, m11, m12;
+    private final double m20, m21, m22;
+
+  /**
+    * Constructor por defecto. Crea la transformación identidad
+    * @return una transformación que no modifica los puntos
+    */
+    public TransformacionAfin2D() {
+        this(1, 0, 0,
+             0, 1, 0,
+             0, 0, 1);
+    }
+
+  /**
+    * Crea una transformación a partir de una matriz. La matriz debe ser
+    * cuadrada y de orden dos (se aplica a las coordenadas cartesianas) o tres
+    * (se aplica a las coordenadas homogéneas), igual que en
+    * <code>Punto2D.transforma</code>. La matriz se copia y se valida una sola vez
+    * @param matriz matriz de transformación
+    * @return una transformación equivalente a la matriz
+    * @exception GeomException si la matriz no es cuadrada y de orden 2 o 3
+    * @see Mat#matrizCuadrada(double[][])
+    */
+    public TransformacionAfin2D(double matriz[][]) throws GeomException {
+        int orden = Mat.matrizCuadrada(matriz);
+
+        if (orden != 2 && orden != 3)
+            throw new GeomException("TransformacionAfin2D (double[][]): la matriz debe ser cuadrada y de orden 2 o 3");
+
+        m00 = matriz[0][0]; m01 = matriz[0][1];
+        m10 = matriz[1][0]; m11 = matriz[1][1];
+        if (orden == 2) {
+            m02 = 0; m12 = 0;
+            m20 = 0; m21 = 0; m22 = 1;
+        }
+        else {
+            m02 = matriz[0][2]; m12 = matriz[1][2];
+            m20 = matriz[2][0]; m21 = matriz[2][1]; m22 = matriz[2][2];
+        }
+    }
+
+  /**
+    * Crea una transformación a partir de los elementos de su matriz
+    */
+    private TransformacionAfin2D(double m00, double m01, double m02,
+                                 double m10, double m11, double m12,
+                                 double m20, double m21, double m22) {
+        this.m00 = m00; this.m01 = m01; this.m02 = m02;
+        this.m10 = m10; this.m11 = m11; this.m12 = m12;
+        this.m20 = m20; this.m21 = m21; this.m22 = m22;
+    }
+
+  /** Obtiene la transformación que aplica primero esta transformación y
+    * después otra. Su matriz es el producto de la matriz de la otra
+    * transformación por la de esta
+    * @param siguiente transformación que se aplicará después de esta
+    * @return una nueva transformación equivalente a aplicar ambas en orden
+    */
+    public TransformacionAfin2D componer(TransformacionAfin2D siguiente) {
+        TransformacionAfin2D s = siguiente;
+        return new TransformacionAfin2D(
+            s.m00*m00 + s.m01*m10 + s.m02*m20,
+            s.m00*m01 + s.m01*m11 + s.m02*m21,
+            s.m00*m02 + s.m01*m12 + s.m02*m22,
+            s.m10*m00 + s.m11*m10 + s.m12*m20,
+            s.m10*m01 + s.m11*m11 + s.m12*m21,
+            s.m10*m02 + s.m11*m12 + s.m12*m22,
+            s.m20*m00 + s.m21*m10 + s.m22*m20,
+            s.m20*m01 + s.m21*m11 + s.m22*m21,
+            s.m20*m02 + s.m21*m12 + s.m22*m22);
+    }
+
+  /** Añade una traslación a la transformación
+    * @param incX incremento o desplazamiento en el eje x
+    * @param incY incremento o desplazamiento en el eje y
+    * @return una nueva transformación que aplica esta y después la traslación
+    * @see Punto2D#trasladar(double, double)
+    */
+    public TransformacionAfin2D trasladar(double incX, double incY) {
+        return componer(new TransformacionAfin2D(1, 0, incX,
+                                                 0, 1, incY,
+                                                 0, 0, 1));
+    }
+
+  /** Añade una traslación definida por un vector a la transformación
+    * @param vector el vector que define la traslación
+    * @return una nueva transformación que aplica esta y después la traslación
+    * @see Punto2D#trasladar(Vector2D)
+    */
+    public TransformacionAfin2D trasladar(Vector2D vector) {
+        return trasladar(vector.despX(), vector.despY());
+    }
+
+  /** Añade un escalado respecto al origen de coordenadas a la transformación
+    * @param sx factor de escalado en el eje x
+    * @param sy factor de escalado en el eje y
+    * @return una nueva transformación que aplica esta y después el escalado
+    * @exception GeomException si alguno de los factores no es mayor que cero
+    * @see Punto2D#escalado(double, double)
+    */
+    public TransformacionAfin2D escalado(double sx, double sy) throws GeomException {
+        if (sx <= 0 || sy <= 0)
+            throw new GeomException("escalado (double, double): los factores de escalado deben ser mayores de cero");
+        return componer(new TransformacionAfin2D(sx, 0, 0,
+                                                 0, sy, 0,
+                                                 0, 0, 1));
+    }
+
+  /** Añade un escalado respecto al origen de coordenadas a la transformación,
+    * con el mismo factor en ambos ejes
+    * @param escala factor de escalado
+    * @return una nueva transformación que aplica esta y después el escalado
+    * @exception GeomException si el factor de escalado no es mayor que cero
+    * @see Punto2D#escalado(double)
+    */
+    public TransformacionAfin2D escalado(double escala) throws GeomException {
+        return escalado(escala, escala);
+    }
+
+  /** Añade un giro respecto al origen de coordenadas a la transformación
+    * @param radio ángulo de giro en radianes. Si es positivo el giro será en
+    * sentido antihorario y en caso contrario lo será en sentido horario
+    * @return una nueva transformación que aplica esta y después el giro
+    * @see Punto2D#gira(double)
+    */
+    public TransformacionAfin2D gira(double radio) {
+        double cos = Math.cos(radio);
+        double sen = Math.sin(radio);
+        return componer(new TransformacionAfin2D(cos, -sen, 0,
+                                                 sen, cos, 0,
+                                                 0, 0, 1));
+    }
+
+  /** Añade un giro respecto a un punto a la transformación
+    * @param origen punto respecto al cual se hará el giro
+    * @param radio ángulo de giro en radianes. Si es positivo el giro será en
+    * sentido antihorario y en caso contrario lo será en sentido horario
+    * @return una nueva transformación que aplica esta y después el giro
+    * @see Punto2D#gira(Punto2D, double)
+    */
+    public TransformacionAfin2D gira(Punto2D origen, double radio) {
+        double ox = origen.x();
+        double oy = origen.y();
+        double cos = Math.cos(radio);
+        double sen = Math.sin(radio);
+        return componer(new TransformacionAfin2D(cos, -sen, ox - cos*ox + sen*oy,
+                                                 sen, cos, oy - sen*ox - cos*oy,
+                                                 0, 0, 1));
+    }
+
+  /** Añade una matriz de transformación general a la transformación
+    * @param matriz matriz cuadrada de orden 2 o 3
+    * @return una nueva transformación que aplica esta y después la matriz
+    * @exception GeomException si la matriz no es cuadrada y de orden 2 o 3
+    * @see TransformacionAfin2D#TransformacionAfin2D(double[][])
+    */
+    public TransformacionAfin2D transforma(double matriz[][]) throws GeomException {
+        return componer(new TransformacionAfin2D(matriz));
+    }
+
+  /** Obtiene la transformación inversa
+    * @return una nueva transformación que deshace esta
+    * @exception GeomException si la matriz de la transformación no es invertible
+    */
+    public TransformacionAfin2D inversa() throws GeomException {
+        double c00 = m11*m22 - m12*m21;
+        double c01 = m12*m20 - m10*m22;
+        double c02 = m10*m21 - m11*m20;
+        double det = m00*c00 + m01*c01 + m02*c02;
+
+        if (det == 0)
+            throw new GeomException("inversa (): la transformación no es invertible");
+
+        return new TransformacionAfin2D(
+            c00/det, (m02*m21 - m01*m22)/det, (m01*m12 - m02*m11)/det,
+            c01/det, (m00*m22 - m02*m20)/det, (m02*m10 - m00*m12)/det,
+            c02/det, (m01*m20 - m00*m21)/det, (m00*m11 - m01*m10)/det);
+    }
+
+  /** Determina si la transformación es afín, es decir, si la última fila de
+    * su matriz es (0, 0, 1). En ese caso no es necesario dividir por la
+    * coordenada homogénea z al aplicarla sobre coordenadas cartesianas
+    * @return un valor booleano indicando si la transformación es afín
+    */
+    public boolean esAfin() {
+        return m20 == 0 && m21 == 0 && m22 == 1;
+    }
+
+  /** Obtiene el determinante de la matriz de la transformación. Si es cero,
+    * la transformación no es invertible; si es negativo, invierte el sentido
+    * de giro de los polígonos
+    * @return el determinante de la matriz
+    */
+    public double determinante() {
+        return m00*(m11*m22 - m12*m21) - m01*(m10*m22 - m12*m20) + m02*(m10*m21 - m11*m20);
+    }
+
+  /** Obtiene una copia de la matriz de la transformación
+    * @return una matriz cuadrada de orden 3
+    */
+    public double[][] matriz() {
+        double matriz[][] = { { m00, m01, m02 },
+                              { m10, m11, m12 },
+                              { m20, m21, m22 } };
+        return matriz;
+    }
+
+  /** Aplica la transformación a un punto, modificando sus coordenadas
+    * homogéneas
+    * @param punto punto a transformar
+    * @return el propio punto, transformado
+    * @see Punto2D#transforma(double[][])
+    */
+    public Punto2D aplicar(Punto2D punto) {
+        double hx = punto.hx, hy = punto.hy, hz = punto.hz;
+        punto.hx = m00*hx + m01*hy + m02*hz;
+        punto.hy = m10*hx + m11*hy + m12*hz;
+        punto.hz = m20*hx + m21*hy + m22*hz;
+        return punto;
+    }
+
+  /** Aplica la transformación a un array de puntos, modificándolos
+    * @param puntos puntos a transformar
+    * @return el propio array, con los puntos transformados
+    */
+    public Punto2D[] aplicar(Punto2D puntos[]) {
+        for (int i=0; i<puntos.length; i++)
+            aplicar(puntos[i]);
+        return puntos;
+    }
+
+  /** Aplica la transformación a un array de segmentos, modificando sus
+    * extremos
+    * @param segmentos segmentos a transformar
+    * @return el propio array, con los segmentos transformados
+    * @see Segmento2D#transforma(double[][])
+    */
+    public Segmento2D[] aplicar(Segmento2D segmentos[]) {
+        for (int i=0; i<segmentos.length; i++) {
+            aplicar(segmentos[i].comienzo);
+            aplicar(segmentos[i].fin);
+        }
+        return segmentos;
+    }
+
+  /** Aplica la transformación a todos los puntos de un buffer
+    * @param buffer buffer de puntos a transformar
+    * @return el propio buffer, con los puntos transformados
+    * @see BufferPuntos2D#transforma(double[][])
+    */
+    public BufferPuntos2D aplicar(BufferPuntos2D buffer) {
+        aplicar(buffer.xs, buffer.ys, 0, buffer.numPuntos);
+        return buffer;
+    }
+
+  /** Aplica la transformación a un conjunto de puntos dados por dos arrays de
+    * coordenadas cartesianas, que se modifican
+    * @param coordX coordenadas cartesianas x de los puntos
+    * @param coordY coordenadas cartesianas y de los puntos
+    * @exception GeomException si ambos arrays no tienen la misma longitud
+    */
+    public void aplicar(double coordX[], double coordY[]) throws GeomException {
+        if (coordX.length != coordY.length)
+            throw new GeomException("aplicar (double[], double[]): los arrays de coordenadas deben tener la misma longitud");
+        aplicar(coordX, coordY, 0, coordX.length);
+    }
+
+  /** Aplica la transformación a un rango de puntos dados por dos arrays de
+    * coordenadas cartesianas, que se modifican
+    * @param coordX coordenadas cartesianas x de los puntos
+    * @param coordY coordenadas cartesianas y de los puntos
+    * @param desde posición del primer punto a transformar
+    * @param hasta posición siguiente a la del último punto a transformar
+    */
+    public void aplicar(double coordX[], double coordY[], int desde, int hasta) {
+        if (esAfin()) {
+            for (int i=desde; i<hasta; i++) {
+                double x = coordX[i];
+                double y = coordY[i];
+                coordX[i] = m00*x + m01*y + m02;
+                coordY[i] = m10*x + m11*y + m12;
+            }
+        }
+        else {
+            for (int i=desde; i<hasta; i++) {
+                double x = coordX[i];
+                double y = coordY[i];
+                double hz = m20*x + m21*y + m22;
+                coordX[i] = (m00*x + m01*y + m02) / hz;
+                coordY[i] = (m10*x + m11*y + m12) / hz;
+            }
+        }
+    }
+
+  /** Realiza la conversión de la transformación a una cadena
+    * @return una cadena con las filas de la matriz de la transformación
+    */
+    public String toString() {
+        return "TransformacionAfin2D: [" + m00 + ", " + m01 + ", " + m02 + "] ["
+                                         + m10 + ", " + m11 + ", " + m12 + "] ["
+                                         + m20 + ", " + m21 + ", " + m22 + "]";
+    }
+}
@@ -0,0 +1,429 @@
+/*
+ * Triangulacion2D.java
+ *
+ * Created on 17 de octubre de 2026, 21:10
+ */
+
+package JavaRG.Nucleo2D;
+
+import JavaRG.*;
+import JavaRG.Soporte.ArbolBarrido;
+import JavaRG.Soporte.ComparadorBarrido;
+
+/** La clase <code>Triangulacion2D</code> triangula un polígono simple dado
+ * por arrays paralelos de coordenadas cartesianas, con un coste O(n log n).
+ * <br>
+ * La triangulación se realiza en dos pasos. En primer lugar se divide el
+ * polígono en polígonos monótonos respecto al eje x mediante un barrido: una
+ * línea vertical recorre los vértices en orden lexicográfico manteniendo
+ * ordenadas las aristas que corta que tienen el interior del polígono por
+ * encima, y se añade una diagonal en cada vértice en que el polígono deja de
+ * ser monótono (los vértices en que se separan o se unen dos partes del
+ * interior). Después se recorren las partes que delimitan las diagonales y
+ * cada una se triangula en tiempo lineal, recorriendo sus dos cadenas de
+ * izquierda a derecha con una pila de vértices que aún no pueden unirse.
+ * <br>
+ * Todas las orientaciones se calculan con predicados exactos, y el orden
+ * lexicográfico (por x y, en caso de empate, por y) resuelve los vértices
+ * alineados verticalmente. El resultado es un array con los índices de los
+ * vértices de cada triángulo, de tres en tres, en sentido antihorario
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see Simplicidad2D
+ * @see ArbolBarrido
+ */
+public class Triangulacion2D extends Object implements ComparadorBarrido {
+
+  /**
+    * Coordenadas cartesianas x de los vértices
+    */
+    private double xs[];
+  /**
+    * Coordenadas cartesianas y de los vértices
+    */
+    private double ys[];
+  /**
+    * Número de vértices del polígono
+    */
+    private int n;
+  /**
+    * Indica si los vértices están en sentido antihorario
+    */
+    private boolean antihorario;
+  /**
+    * Coordenadas del vértice que está procesando la línea de barrido
+    */
+    private double px, py;
+  /**
+    * Extremos de las diagonales que dividen el polígono en partes monótonas
+    */
+    private int diagonalInicio[], diagonalFin[];
+  /**
+    * Número de diagonales
+    */
+    private int numDiagonales;
+  /**
+    * Índices de los vértices de los triángulos obtenidos
+    */
+    private int triangulos[];
+  /**
+    * Número de posiciones ocupadas del array de triángulos
+    */
+    private int numIndices;
+
+  /** Crea el estado de la triangulación de un polígono
+    */
+    private Triangulacion2D(double xs[], double ys[], int n, boolean antihorario) {
+        this.xs = xs;
+        this.ys = ys;
+        this.n = n;
+        this.antihorario = antihorario;
+        diagonalInicio = new int[n];
+        diagonalFin = new int[n];
+        triangulos = new int[3*(n-2)];
+    }
+
+  /** Triangula un polígono simple. Un polígono de n vértices se divide
+    * siempre en n-2 triángulos. Si el polígono no es simple el resultado no
+    * está definido
+    * @param xs coordenadas cartesianas x de los vértices
+    * @param ys coordenadas cartesianas y de los vértices
+    * @param n número de vértices del polígono, al menos tres
+    * @param sentido sentido de los vértices del polígono
+    * @return un array de 3(n-2) posiciones con los índices de los vértices de
+    * cada triángulo, de tres en tres y en sentido antihorario
+    * @see Mat#ANTIHORARIO
+    * @see Mat#HORARIO
+    */
+    public static int[] triangular(double xs[], double ys[], int n, int sentido) {
+        Triangulacion2D triangulacion = new Triangulacion2D(xs, ys, n, sentido == Mat.ANTIHORARIO);
+        triangulacion.particionMonotona();
+        triangulacion.triangularPartes();
+        return triangulacion.triangulos;
+    }
+
+  /** Compara una arista con otra en la posición actual de la línea de
+    * barrido. Se usa durante el barrido y no debe llamarse directamente
+    * @param arista arista que se desea insertar, o NINGUNO para buscar la
+    * posición del vértice que se está procesando
+    * @param otra arista de la línea de barrido con la que se compara
+    * @return un valor negativo si el vértice que se está procesando queda por
+    * debajo de la otra arista, y positivo en caso contrario
+    * @see ComparadorBarrido#compara(int, int)
+    */
+    public int compara(int arista, int otra) {
+        int b = siguiente(otra);
+        return PredicadosExactos2D.orientacion(xs[otra], ys[otra], xs[b], ys[b], px, py) ==
+               Mat.ANTIHORARIO ? 1 : -1;
+    }
+
+  /** Realiza el barrido que divide el polígono en partes monótonas. La
+    * arista i es la que va del vértice i al siguiente en sentido antihorario,
+    * y solo se insertan en la línea de barrido las que van de izquierda a
+    * derecha, que son las que tienen el interior por encima. Cada arista
+    * guarda su ayudante: el último vértice procesado que puede unirse a ella
+    * por una diagonal sin cortar el polígono
+    */
+    private void particionMonotona() {
+        ArbolBarrido arbol = new ArbolBarrido(n);
+        int orden[] = Simplicidad2D.ordenLexicografico(xs, ys, n);
+        int ayudante[] = new int[n];
+        boolean union[] = new boolean[n];
+
+        for (int k=0; k<n; k++) {
+            int v = orden[k];
+            int a = anterior(v), s = siguiente(v);
+            boolean anteriorDespues = Simplicidad2D.menor(xs, ys, v, a);
+            boolean siguienteDespues = Simplicidad2D.menor(xs, ys, v, s);
+            boolean convexo = PredicadosExactos2D.orientacion(xs[a], ys[a], xs[v], ys[v],
+                                                              xs[s], ys[s]) == Mat.ANTIHORARIO;
+            px = xs[v];
+            py = ys[v];
+
+            if (anteriorDespues && siguienteDespues) {
+                // Comienza una parte del interior, o se separa en dos
+                if (!convexo) {
+                    int e = aristaInferior(arbol);
+                    if (e != ArbolBarrido.NINGUNO) {
+                        anadirDiagonal(v, ayudante[e]);
+                        ayudante[e] = v;
+                    }
+                }
+                arbol.insertar(v, this);
+                ayudante[v] = v;
+            } else if (!anteriorDespues && !siguienteDespues) {
+                // Termina una parte del interior, o se unen dos
+                if (union[ayudante[a]])
+                    anadirDiagonal(v, ayudante[a]);
+                arbol.eliminar(a);
+                if (!convexo) {
+                    union[v] = true;
+                    actualizarInferior(arbol, v, ayudante, union);
+                }
+            } else if (siguienteDespues) {
+                // Vértice de una cadena inferior: el interior queda encima
+                if (union[ayudante[a]])
+                    anadirDiagonal(v, ayudante[a]);
+                arbol.eliminar(a);
+                arbol.insertar(v, this);
+                ayudante[v] = v;
+            } else
+                // Vértice de una cadena superior: el interior queda debajo
+                actualizarInferior(arbol, v, ayudante, union);
+        }
+    }
+
+  /** Añade, si es necesario, la diagonal entre un vértice y el ayudante de
+    * la arista inmediatamente inferior, y hace al vértice su nuevo ayudante
+    */
+    private void actualizarInferior(ArbolBarrido arbol, int v, int ayudante[], boolean union[]) {
+        int e = aristaInferior(arbol);
+        if (e == ArbolBarrido.NINGUNO) return;
+        if (union[ayudante[e]])
+            anadirDiagonal(v, ayudante[e]);
+        ayudante[e] = v;
+    }
+
+  /** Obtiene la arista de la línea de barrido inmediatamente por debajo del
+    * vértice que se está procesando
+    */
+    private int aristaInferior(ArbolBarrido arbol) {
+        int encima = arbol.buscar(ArbolBarrido.NINGUNO, this);
+        return encima == ArbolBarrido.NINGUNO ? arbol.ultimo() : arbol.anterior(encima);
+    }
+
+  /** Añade una diagonal a la partición
+    */
+    private void anadirDiagonal(int v, int w) {
+        if (numDiagonales == diagonalInicio.length) {
+            int inicio[] = new int[2*numDiagonales];
+            int fin[] = new int[2*numDiagonales];
+            System.arraycopy(diagonalInicio, 0, inicio, 0, numDiagonales);
+            System.arraycopy(diagonalFin, 0, fin, 0, numDiagonales);
+            diagonalInicio = inicio;
+            diagonalFin = fin;
+        }
+        diagonalInicio[numDiagonales] = v;
+        diagonalFin[numDiagonales] = w;
+        numDiagonales++;
+    }
+
+  /** Recorre las partes monótonas en que las diagonales dividen el polígono y
+    * triangula cada una de ellas. Cada arista y cada diagonal se representan
+    * por dos semiaristas de sentidos opuestos: la semiarista 2i va del origen
+    * al destino de la arista o diagonal i (las diagonales se numeran a partir
+    * de n) y la 2i+1 al revés. Las semiaristas que parten de cada vértice se
+    * ordenan por ángulo, y cada parte se recorre dejando su interior a la
+    * izquierda, girando en cada vértice hacia la semiarista anterior a la de
+    * llegada en sentido antihorario
+    */
+    private void triangularPartes() {
+        int numSemiaristas = 2 * (n + numDiagonales);
+        int grado[] = new int[n+1];
+        for (int h=0; h<numSemiaristas; h++)
+            grado[origen(h)+1]++;
+        for (int v=0; v<n; v++)
+            grado[v+1] += grado[v];
+        int inicio[] = grado;
+
+        int salientes[] = new int[numSemiaristas];
+        int posicion[] = new int[numSemiaristas];
+        int llenas[] = new int[n];
+        for (int h=0; h<numSemiaristas; h++) {
+            int v = origen(h);
+            salientes[inicio[v] + llenas[v]++] = h;
+        }
+        int auxiliar[] = new int[numSemiaristas];
+        for (int v=0; v<n; v++) {
+            if (inicio[v+1] - inicio[v] > 2)
+                ordenarAngulos(v, salientes, auxiliar, inicio[v], inicio[v+1]);
+            for (int k=inicio[v]; k<inicio[v+1]; k++)
+                posicion[salientes[k]] = k;
+        }
+
+        // Las semiaristas con el interior del polígono a la izquierda son las
+        // aristas recorridas en sentido antihorario y las diagonales en ambos
+        boolean visitada[] = new boolean[numSemiaristas];
+        int parte[] = new int[n];
+        for (int h=0; h<numSemiaristas; h++) {
+            if (visitada[h] || (h < 2*n && (h & 1) == 1)) continue;
+            int m = 0, actual = h;
+            do {
+                visitada[actual] = true;
+                parte[m++] = origen(actual);
+                int w = destino(actual);
+                int k = posicion[actual ^ 1];
+                actual = salientes[k == inicio[w] ? inicio[w+1] - 1 : k - 1];
+            } while (actual != h);
+            triangularMonotono(parte, m);
+        }
+    }
+
+  /** Triangula una parte monótona respecto al eje x, dada por sus vértices
+    * en sentido antihorario. Los vértices se recorren de izquierda a derecha
+    * mezclando sus dos cadenas. Cada vértice se une con los de la pila si
+    * pertenece a la otra cadena, o con los que puede ver de la suya en caso
+    * contrario
+    */
+    private void triangularMonotono(int parte[], int m) {
+        if (m == 3) {
+            emitir(parte[0], parte[1], parte[2]);
+            return;
+        }
+        int primero = 0, ultimo = 0;
+        for (int i=1; i<m; i++) {
+            if (Simplicidad2D.menor(xs, ys, parte[i], parte[primero])) primero = i;
+            if (Simplicidad2D.menor(xs, ys, parte[ultimo], parte[i])) ultimo = i;
+        }
+
+        // En sentido antihorario, de izquierda a derecha se recorre la cadena
+        // inferior, y de derecha a izquierda la superior
+        int vertices[] = new int[m];
+        boolean inferior[] = new boolean[m];
+        vertices[0] = parte[primero];
+        int i = siguientePosicion(primero, m), j = anteriorPosicion(primero, m);
+        for (int k=1; k<m-1; k++) {
+            if (j == ultimo || (i != ultimo && Simplicidad2D.menor(xs, ys, parte[i], parte[j]))) {
+                vertices[k] = parte[i];
+                inferior[k] = true;
+                i = siguientePosicion(i, m);
+            } else {
+                vertices[k] = parte[j];
+                inferior[k] = false;
+                j = anteriorPosicion(j, m);
+            }
+        }
+        vertices[m-1] = parte[ultimo];
+
+        int pila[] = new int[m];
+        int cadena[] = new int[m];
+        pila[0] = 0;
+        pila[1] = 1;
+        int cima = 2;
+        for (int k=2; k<m-1; k++) {
+            int u = vertices[k];
+            if (inferior[k] != inferior[pila[cima-1]]) {
+                // Se une con todos los vértices de la pila
+                for (int p=cima-1; p>0; p--)
+                    emitir(u, vertices[pila[p]], vertices[pila[p-1]]);
+                pila[0] = k-1;
+                pila[1] = k;
+                cima = 2;
+            } else {
+                // Se une con los vértices de su cadena que puede ver
+                int sentido = inferior[k] ? Mat.ANTIHORARIO : Mat.HORARIO;
+                int ultimoSacado = pila[--cima];
+                while (cima > 0) {
+                    int anterior = pila[cima-1];
+                    int a = vertices[anterior], b = vertices[ultimoSacado];
+                    if (PredicadosExactos2D.orientacion(xs[a], ys[a], xs[b], ys[b], xs[u], ys[u]) !=
+                        sentido)
+                        break;
+                    emitir(u, b, a);
+                    ultimoSacado = anterior;
+                    cima--;
+                }
+                pila[cima++] = ultimoSacado;
+                pila[cima++] = k;
+            }
+        }
+        int u = vertices[m-1];
+        for (int p=cima-1; p>0; p--)
+            emitir(u, vertices[pila[p]], vertices[pila[p-1]]);
+    }
+
+  /** Añade un triángulo al resultado en sentido antihorario
+    */
+    private void emitir(int a, int b, int c) {
+        if (PredicadosExactos2D.orientacion(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c]) ==
+            Mat.HORARIO) {
+            int aux = b; b = c; c = aux;
+        }
+        triangulos[numIndices++] = a;
+        triangulos[numIndices++] = b;
+        triangulos[numIndices++] = c;
+    }
+
+  /** Ordena por mezcla las semiaristas [desde, hasta) que parten de un
+    * vértice por su ángulo, en sentido antihorario a partir del eje x
+    */
+    private void ordenarAngulos(int v, int salientes[], int auxiliar[], int desde, int hasta) {
+        if (hasta - desde < 2) return;
+        int medio = (desde + hasta) >>> 1;
+        ordenarAngulos(v, salientes, auxiliar, desde, medio);
+        ordenarAngulos(v, salientes, auxiliar, medio, hasta);
+
+        System.arraycopy(salientes, desde, auxiliar, desde, hasta - desde);
+        int i = desde, j = medio;
+        for (int k=desde; k<hasta; k++) {
+            if (j >= hasta || (i < medio && !antesAngulo(v, auxiliar[j], auxiliar[i])))
+                salientes[k] = auxiliar[i++];
+            else
+                salientes[k] = auxiliar[j++];
+        }
+    }
+
+  /** Determina si la semiarista h1, que parte del vértice v, tiene un ángulo
+    * menor que la semiarista h2
+    */
+    private boolean antesAngulo(int v, int h1, int h2) {
+        int a = destino(h1), b = destino(h2);
+        int mitadA = mitad(xs[a] - xs[v], ys[a] - ys[v]);
+        int mitadB = mitad(xs[b] - xs[v], ys[b] - ys[v]);
+        if (mitadA != mitadB) return mitadA < mitadB;
+        return PredicadosExactos2D.orientacion(xs[v], ys[v], xs[a], ys[a], xs[b], ys[b]) ==
+               Mat.ANTIHORARIO;
+    }
+
+  /** Obtiene el semiplano de una dirección: 0 para los ángulos en [0, pi) y 1
+    * para los ángulos en [pi, 2pi)
+    */
+    private static int mitad(double dx, double dy) {
+        return (dy > 0 || (dy == 0 && dx > 0)) ? 0 : 1;
+    }
+
+  /** Obtiene el vértice de origen de una semiarista
+    */
+    private int origen(int h) {
+        int i = h >> 1;
+        if (i < n)
+            return (h & 1) == 0 ? i : siguiente(i);
+        i -= n;
+        return (h & 1) == 0 ? diagonalInicio[i] : diagonalFin[i];
+    }
+
+  /** Obtiene el vértice de destino de una semiarista
+    */
+    private int destino(int h) {
+        return origen(h ^ 1);
+    }
+
+  /** Obtiene el vértice siguiente a uno dado en sentido antihorario
+    */
+    private int siguiente(int v) {
+        if (antihorario)
+            return v < n-1 ? v+1 : 0;
+        return v > 0 ? v-1 : n-1;
+    }
+
+  /** Obtiene el vértice anterior a uno dado en sentido antihorario
+    */
+    private int anterior(int v) {
+        if (antihorario)
+            return v > 0 ? v-1 : n-1;
+        return v < n-1 ? v+1 : 0;
+    }
+
+  /** Obtiene la posición siguiente de un array circular de m posiciones
+    */
+    private static int siguientePosicion(int i, int m) {
+        return i < m-1 ? i+1 : 0;
+    }
+
+  /** Obtiene la posición anterior de un array circular de m posiciones
+    */
+    private static int anteriorPosicion(int i, int m) {
+        return i > 0 ? i-1 : m-1;
+    }
+}
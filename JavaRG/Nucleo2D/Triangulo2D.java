@@ -8,29 +8,30 @@ package JavaRG.Nucleo2D;
 
 import JavaRG.*;
 import JavaRG.Nucleo2D.*;
+import JavaRG.Soporte.*;
 import java.awt.*;
  
 /**
- * Los objetos de la clase <code>Triangulo2D</code> representa un tringulo 
- * situado en el plano. El tringulo se definir a partir de los puntos en sus
- * vrtices, y estar orientado. Es posible definir tringulos degenerados (con
- * sus tres vrtices colineales) ya que en otro caso no sera posible detectar 
- * la colinealidad en otras figuras geomtricas.
+ * Los objetos de la clase <code>Triangulo2D</code> representa un triángulo 
+ * situado en el plano. El triángulo se definirá a partir de los puntos en sus
+ * vértices, y estará orientado. Es posible definir triángulos degenerados (con
+ * sus tres vértices colineales) ya que en otro caso no sería posible detectar 
+ * la colinealidad en otras figuras geométricas.
  * @author  Pablo Suau
  * @version 1.1
  * @see ObjetoGeometrico Punto2D
  */
-public class Triangulo2D extends ObjetoGeometrico {
+public class Triangulo2D extends ObjetoGeometrico implements InterfazContencion, InterfazSoporte {
 
   /**  
-    * Conjunto de vrtices del tringulo
+    * Conjunto de vértices del triángulo
     */
     Punto2D p[];
 
   /**
-    * Constructor por defecto del tringulo. Define un tringulo cuyos
-    * vrtices son los puntos (0,0), (1,0) y (0,1) en ese orden 
-    * @return un tringulo cuyos vrtices son los puntos (0,0) (1,0) y (0,1)
+    * Constructor por defecto del triángulo. Define un triángulo cuyos
+    * vértices son los puntos (0,0), (1,0) y (0,1) en ese orden 
+    * @return un triángulo cuyos vértices son los puntos (0,0) (1,0) y (0,1)
     * @see Punto2D#Punto2D(double, double)
     */
     public Triangulo2D() {
@@ -40,12 +41,12 @@ public class Triangulo2D extends ObjetoGeometrico {
         p[2] = new Punto2D (0,1);
     }
 
-  /** Constructor del tringulo a partir de tres puntos. Dichos puntos 
-    * constituirn los vrtices del tringulo
-    * @param punto1 primer vrtice
-    * @param punto2 segundo vrtice
-    * @param punto3 tercer vrtice
-    * @return un trangulo cuyos vrtices son los puntos pasados como parmetro
+  /** Constructor del triángulo a partir de tres puntos. Dichos puntos 
+    * constituirán los vértices del triángulo
+    * @param punto1 primer vértice
+    * @param punto2 segundo vértice
+    * @param punto3 tercer vértice
+    * @return un tríangulo cuyos vértices son los puntos pasados como parámetro
     * @see Punto2D#Punto2D(Punto2D)
     */
     public Triangulo2D(Punto2D punto1, Punto2D punto2, Punto2D punto3) {
@@ -55,16 +56,16 @@ public class Triangulo2D extends ObjetoGeometrico {
         p[2] = new Punto2D(punto3);
     }
 
-  /** Constructor del tringulo a partir de las coordenadas cartesianas de
-    * tres puntos. Dichos puntos sern los vrtices del nuevo tringulo
-    * @param x1 coordenada cartesiana x del primer vrtice
-    * @param y1 coordenada cartesiana y del primer vrtice
-    * @param x2 coordenada cartesiana x del segundo vrtice
-    * @param y2 coordenada cartesiana y del segundo vrtice
-    * @param x3 coordenada cartesiana x del tercer vrtice
-    * @param y3 coordenada cartesiana y del tercer vrtice
-    * @return un tringulo cuyos vrtices tendrn las coordenadas cartesianas 
-    * pasadas como parmetro
+  /** Constructor del triángulo a partir de las coordenadas cartesianas de
+    * tres puntos. Dichos puntos serán los vértices del nuevo triángulo
+    * @param x1 coordenada cartesiana x del primer vértice
+    * @param y1 coordenada cartesiana y del primer vértice
+    * @param x2 coordenada cartesiana x del segundo vértice
+    * @param y2 coordenada cartesiana y del segundo vértice
+    * @param x3 coordenada cartesiana x del tercer vértice
+    * @param y3 coordenada cartesiana y del tercer vértice
+    * @return un triángulo cuyos vértices tendrán las coordenadas cartesianas 
+    * pasadas como parámetro
     * @see Punto2D#Punto2D(double, double)
     */
     public Triangulo2D(double x1, double y1, double x2, double y2, double x3, double y3) {
@@ -74,20 +75,20 @@ public class Triangulo2D extends ObjetoGeometrico {
         p[2] = new Punto2D(x3, y3);
     }
 
-  /** Contructor del tringulo a partir de las coordenada homogneas de tres 
+  /** Contructor del triángulo a partir de las coordenada homogéneas de tres 
     * puntos.
-    * @param hx1 coordenada homognea x del primer vrtice
-    * @param hy1 coordenada homognea y del primer vrtice
-    * @param hz1 coordenada homognea z del primer vrtice
-    * @param hx2 coordenada homognea x del segundo vrtice
-    * @param hy2 coordenada homognea y del segundo vrtice
-    * @param hz2 coordenada homognea z del segundo vrtice
-    * @param hx3 coordenada homognea x del tercer vrtice
-    * @param hy3 coordenada homognea y del tercer vrtice
-    * @param hz3 coordenada homognea z del tercer vrtice
-    * @return un tringulo cuyos vrtices tienen las coordenadas homogneas 
-    * pasadas como parmetro
-    * @exception GeomException si alguna de las coordenadas homogneas vale 0
+    * @param hx1 coordenada homogénea x del primer vértice
+    * @param hy1 coordenada homogénea y del primer vértice
+    * @param hz1 coordenada homogénea z del primer vértice
+    * @param hx2 coordenada homogénea x del segundo vértice
+    * @param hy2 coordenada homogénea y del segundo vértice
+    * @param hz2 coordenada homogénea z del segundo vértice
+    * @param hx3 coordenada homogénea x del tercer vértice
+    * @param hy3 coordenada homogénea y del tercer vértice
+    * @param hz3 coordenada homogénea z del tercer vértice
+    * @return un triángulo cuyos vértices tienen las coordenadas homogéneas 
+    * pasadas como parámetro
+    * @exception GeomException si alguna de las coordenadas homogéneas vale 0
     * @see Punto2D#Punto2D(double, double, double)
     */
     public Triangulo2D(double hx1, double hy1, double hz1, double hx2, double hy2, double hz2, double hx3, double hy3, double hz3)
@@ -98,11 +99,11 @@ public class Triangulo2D extends ObjetoGeometrico {
         p[2] = new Punto2D(hx3, hy3, hz3);
     }
     
-  /** Constructor de copia de Triangulo2D. Construye un nuevo tringulo a partir
+  /** Constructor de copia de Triangulo2D. Construye un nuevo triángulo a partir
     * de otro ya existente.
-    * @param original tringulo a partir del cual construir el nuevo
-    * @return un tringulo con los mismos vrtices y en el mismo orden que el
-    * tringulo original
+    * @param original triángulo a partir del cual construir el nuevo
+    * @return un triángulo con los mismos vértices y en el mismo orden que el
+    * triángulo original
     * @see Punto2D#Punto2D(Punto2D)
     */
     public Triangulo2D(Triangulo2D original) 
@@ -113,11 +114,11 @@ public class Triangulo2D extends ObjetoGeometrico {
     }
     
   /** 
-    * Comparacin con otro objeto geomtrico. Un tringulo es igual a otro objeto
-    * geomtrico si dicho objeto es tambin un tringulo y adems existe una 
-    * permutacin ciclica de los vrtices de uno igual a los vrtices del otro
-    * @param obj objeto geomtrico con el que se desea comparar el tringulo
-    * @return un valor booleano indicando si el tringulo es igual al objeto
+    * Comparación con otro objeto geométrico. Un triángulo es igual a otro objeto
+    * geométrico si dicho objeto es también un triángulo y además existe una 
+    * permutación ciclica de los vértices de uno igual a los vértices del otro
+    * @param obj objeto geométrico con el que se desea comparar el triángulo
+    * @return un valor booleano indicando si el triángulo es igual al objeto
     * @see Punto2D#equals(ObjetoGeometrico)
     * @see Triangulo2D#p1()
     * @see Triangulo2D#p2()
@@ -139,11 +140,11 @@ public class Triangulo2D extends ObjetoGeometrico {
     }
 
   /** 
-    * Comparacin con otro objeto geomtrico. Un tringulo es distinto a otro objeto
-    * geomtrico si dicho objeto no es un tringulo o si no existe una 
-    * permutacin ciclica de los vrtices de uno igual a los vrtices del otro
-    * @param obj objeto geomtrico con el que se desea comparar el tringulo
-    * @return un valor booleano indicando si el tringulo es distinto al objeto
+    * Comparación con otro objeto geométrico. Un triángulo es distinto a otro objeto
+    * geométrico si dicho objeto no es un triángulo o si no existe una 
+    * permutación ciclica de los vértices de uno igual a los vértices del otro
+    * @param obj objeto geométrico con el que se desea comparar el triángulo
+    * @return un valor booleano indicando si el triángulo es distinto al objeto
     * @Triangulo2D#equals(ObjetoGeometrico)
     */
     
@@ -151,9 +152,9 @@ public class Triangulo2D extends ObjetoGeometrico {
         return !this.equals(obj);
     }
     
-  /** Obtiene el tringulo opuesto. Un tringulo es opuesto a otro si sus vertices
-    * estn definidos en sentido contrario.
-    * @return el tringulo opuesto.
+  /** Obtiene el triángulo opuesto. Un triángulo es opuesto a otro si sus vertices
+    * están definidos en sentido contrario.
+    * @return el triángulo opuesto.
     */
     public Triangulo2D opuesto()
     {
@@ -164,31 +165,27 @@ public class Triangulo2D extends ObjetoGeometrico {
         return this;
     }
 
-  /** Obtiene el rea del tringulo con signo. Dicho rea se calcular a 
-    * partir del mdulo del producto vectorial de los vectores definidos entre
-    * el primer vrtice y el otro par de vrtices.
-    * @return el rea con signo del tringulo
-    * @exception GeomException si el tringulo tiene al menos dos vrtices iguales
-    * @see Vector2D#Vector2D(Punto2D, Punto2D)
-    * @see Vector2D#moduloProductoVectorial(Vector2D)
+  /** Obtiene el área del triángulo con signo. Dicho área se calculará a 
+    * partir del módulo del producto vectorial de los vectores definidos entre
+    * el primer vértice y el otro par de vértices.
+    * @return el área con signo del triángulo
+    * @exception GeomException si el triángulo tiene al menos dos vértices iguales
+    * @see Predicados2D#productoVectorial(double, double, double, double, double, double)
+    * @see Punto2D#equals(ObjetoGeometrico)
     */
     public double area() throws GeomException {
-        Vector2D v1 = new Vector2D(p[0], p[1]);
-        Vector2D v2 = new Vector2D(p[0], p[2]);
-
-        double area = v1.moduloProductoVectorial(v2);
-        
         if (p[0].equals(p[1]) || p[0].equals(p[2]) || p[1].equals(p[2]))
-            throw new GeomException("area(): el tringulo tiene al menos dos vrtices iguales");
+            throw new GeomException("area(): el triángulo tiene al menos dos vértices iguales");
         else
-            return area;
+            return Predicados2D.productoVectorial(p[0].x(), p[0].y(), p[1].x(), p[1].y(),
+                                                  p[2].x(), p[2].y());
     }
 
-  /** Obtiene el rea del tringulo sin signo. Para ello se calcular el valor
-    * absoluto del rea con signo.
-    * @return el rea del tringulo sin signo
-    * @exception GeomException si la gnitud de alguno de los vectores definidos
-    * entre el primer vrtice y los otros dos es cero
+  /** Obtiene el área del triángulo sin signo. Para ello se calculará el valor
+    * absoluto del área con signo.
+    * @return el área del triángulo sin signo
+    * @exception GeomException si la ágnitud de alguno de los vectores definidos
+    * entre el primer vértice y los otros dos es cero
     * @see Triangulo2D#area() 
     * Mat#absoluto(double)
     */
@@ -196,14 +193,14 @@ public class Triangulo2D extends ObjetoGeometrico {
         return Mat.absoluto(area());
     }
 
-  /** Obtiene la distancia de un punto al tringulo, as como el punto del 
-    * tringulo ms cercano a dicho punto. Dicha distancia ser la
-    * distancia ms corta entre el punto y alguno de los lados del tringulo
+  /** Obtiene la distancia de un punto al triángulo, así como el punto del 
+    * triángulo más cercano a dicho punto. Dicha distancia será la
+    * distancia más corta entre el punto y alguno de los lados del triángulo
     * @param punto punto al que se desea obtener la distancia
-    * @param cercano punto del segmento ms cercano al punto pasado como primer
-    * parmetro. Es un parmetro de SALIDA, y debe ser un punto ya creado
-    * @return la distancia del tringulo al punto pasado como parmetro
-    * @exception GeomException si el punto pasado como segundo parmetro no es un punto
+    * @param cercano punto del segmento más cercano al punto pasado como primer
+    * parámetro. Es un parámetro de SALIDA, y debe ser un punto ya creado
+    * @return la distancia del triángulo al punto pasado como parámetro
+    * @exception GeomException si el punto pasado como segundo parámetro no es un punto
     * ya creado
     * @see Segmento2D#Segmento2D(Punto2D, Punto2D)
     * @see Segmento2D#puntoMasCercano(Punto2D, Punto2D)
@@ -213,7 +210,7 @@ public class Triangulo2D extends ObjetoGeometrico {
         double distancia = java.lang.Double.POSITIVE_INFINITY;
         
         if (cercano == null)
-            throw new GeomException("puntoMasCercano (Punto2D, Punto2D): el segundo parmetro debe estar inicializado");
+            throw new GeomException("puntoMasCercano (Punto2D, Punto2D): el segundo parámetro debe estar inicializado");
 
         Punto2D cercanoTemporal = new Punto2D();
         Vector2D diferencia = null;
@@ -264,9 +261,9 @@ public class Triangulo2D extends ObjetoGeometrico {
         return distancia;
     }
     
-   /** Obtiene la distancia del tringulo a un punto
+   /** Obtiene la distancia del triángulo a un punto
      * @param punto punto para el cual se desea obtener la distancia
-     * @return la distancia del tringulo al punto
+     * @return la distancia del triángulo al punto
      * @see Triangulo2D#puntoMasCercano(Punto2D, Punto2D)
      */
     public double distancia(Punto2D punto) {
@@ -277,11 +274,11 @@ public class Triangulo2D extends ObjetoGeometrico {
         }
     }
     
-  /** Determina si el tringulo es degenerado: Para ello, sus vrtices deben 
-    * ser colineales. Es necesario que se permita la definicin de tringulos
-    * degenerados, ya que en otro caso no se podra detectar la colinealidad
-    * en los mtodos del resto de objetos geomtricos.
-    * @return un valor booleano indicando si el tringulo es degenerado
+  /** Determina si el triángulo es degenerado: Para ello, sus vértices deben 
+    * ser colineales. Es necesario que se permita la definición de triángulos
+    * degenerados, ya que en otro caso no se podría detectar la colinealidad
+    * en los métodos del resto de objetos geométricos.
+    * @return un valor booleano indicando si el triángulo es degenerado
     * @see Punto2D#equals(ObjetoGeometrico)
     * @see Triangulo2D#sentido()
     */
@@ -298,12 +295,12 @@ public class Triangulo2D extends ObjetoGeometrico {
         }
     }
 
-  /** Obtiene el sentido de giro de los vrtices del tringulo. Para ello se 
-    * comprueba el signo del rea del mismo. Si es cero, sern colineales, si 
-    * es mayor que cero el sentido ser antihorario y ser horario en otro caso
-    * @return el sentido de giro de los vrtices del tringulo
+  /** Obtiene el sentido de giro de los vértices del triángulo. Para ello se 
+    * comprueba el signo del área del mismo. Si es cero, serán colineales, si 
+    * es mayor que cero el sentido será antihorario y será horario en otro caso
+    * @return el sentido de giro de los vértices del triángulo
     * @exception GeomException si la magnitud de alguno de los vectores definidos
-    * entre el primer vrtice y los dos restantes es cero
+    * entre el primer vértice y los dos restantes es cero
     * @see Mat#COLINEAL
     * @see Mat#ANTIHORARIO 
     * @see Mat#HORARIO 
@@ -318,28 +315,46 @@ public class Triangulo2D extends ObjetoGeometrico {
         else return Mat.HORARIO;
     }
 
-  /** Determina si un punto se encuentra estrictamente contenido en el tringulo.
-    * Para que un punto est contenido en el tringulo debe encontrarse a la
+  /** Obtiene el sentido de giro de los vértices del triángulo de forma exacta,
+    * sin usar epsilon. Los vértices solo se consideran colineales si lo son
+    * exactamente, por lo que el resultado es correcto aunque las coordenadas
+    * sean muy grandes o el triángulo muy estrecho. A diferencia de
+    * <code>sentido()</code>, un triángulo con vértices repetidos se considera
+    * colineal
+    * @return el sentido de giro de los vértices del triángulo
+    * @see Mat#COLINEAL
+    * @see Mat#ANTIHORARIO 
+    * @see Mat#HORARIO 
+    * @see Triangulo2D#sentido()
+    * @see PredicadosExactos2D#orientacion(double, double, double, double, double, double)
+    */
+    public int sentidoExacto() {
+        return PredicadosExactos2D.orientacion(p[0].x(), p[0].y(), p[1].x(), p[1].y(),
+                                               p[2].x(), p[2].y());
+    }
+
+  /** Determina si un punto se encuentra estrictamente contenido en el triángulo.
+    * Para que un punto esté contenido en el triángulo debe encontrarse a la
     * izquierda de todos sus lados si este es antihorario (o a la derecha si es
     * horario) y para que sea de forma estricta el punto no debe estar contenido
     * por ninguno de los lados
-    * @param punto el punto que se desea comprobar si est contenido
+    * @param punto el punto que se desea comprobar si está contenido
     * @return un valor booleano indicando si el punto se encuentra estrictamente
-    * contenido por el tringulo
+    * contenido por el triángulo
     * @exception GeomException si la magnitud de alguno de los vectores definidos
-    * entre el vrtice inicial y el resto de vrtices es cero
+    * entre el vértice inicial y el resto de vértices es cero
     * @see Triangulo2D#sentido() 
     * @see Punto2D#posicionRelativa(Punto2D, Punto2D)
     */
     public boolean contienePuntoEstrictamente(Punto2D punto) throws GeomException
     {
-        /** Primero comprobamos que e l punto no sea ninguno de los vrtices */
+        /** Primero comprobamos que e l punto no sea ninguno de los vértices */
         if (punto.equals(p[0]) || punto.equals(p[1]) || punto.equals(p[2]))
            return false;
         else
         {
            int sentidoTriangulo = sentido(); /** Para no tener que realizar el
-                                               * clculo varias veces
+                                               * cálculo varias veces
                                                */
            if (punto.posicionRelativa(p[0], p[1]) == sentidoTriangulo &&
                punto.posicionRelativa(p[1], p[2]) == sentidoTriangulo &&
@@ -350,15 +365,15 @@ public class Triangulo2D extends ObjetoGeometrico {
        }
     }
 
-   /** Determina si un punto se encuentra contenido en el tringulo.
-    * Para que un punto est contenido en el tringulo debe encontrarse a la
+   /** Determina si un punto se encuentra contenido en el triángulo.
+    * Para que un punto esté contenido en el triángulo debe encontrarse a la
     * izquierda de todos sus lados si este es antihorario (o a la derecha si es
     * horario).
-    * @param punto el punto que se desea comprobar si est contenido
+    * @param punto el punto que se desea comprobar si está contenido
     * @return un valor booleano indicando si el punto se encuentra contenido 
-    * por el tringulo
+    * por el triángulo
     * @exception GeomException si la magnitud de alguno de los vectores definidos
-    * entre el vertice inicial y el resto de vrtices es cero
+    * entre el vñertice inicial y el resto de vértices es cero
     * @see Triangulo2D#sentido() 
     * @see Punto2D#posicionRelativa(Punto2D, Punto2D)
     * @see Triangulo2D#contienePuntoEstrictamente(Punto2D)
@@ -374,13 +389,91 @@ public class Triangulo2D extends ObjetoGeometrico {
         else return contienePuntoEstrictamente(punto);
     }
 
-  /** Determina si el punto pasado como parmetro se encuentra contenido por
-    * alguno de los lados del tringulo
-    * @param punto el punto que se desea comprobar si est contenido por alguno
+  /** Comprueba si cada uno de los puntos de un lote está contenido en el
+    * triángulo, con el mismo criterio que contienePunto. Los puntos se
+    * reparten entre varios hilos
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos a procesar
+    * @param resultado array en el que guardar el resultado. Si es null o no
+    * tiene espacio suficiente se crea uno nuevo
+    * @return un array indicando si cada punto está contenido en el triángulo
+    * @exception GeomException si existen al menos dos vértices del triángulo
+    * iguales
+    * @see Triangulo2D#contienePunto(Punto2D)
+    * @see ContencionParalela#contienePuntos(InterfazContencion, double[], double[], int, boolean[])
+    */
+    public boolean[] contienePuntos(double xs[], double ys[], int n, boolean resultado[])
+        throws GeomException {
+        if (p[0].equals(p[1]) || p[0].equals(p[2]) || p[1].equals(p[2]))
+            throw new GeomException("contienePuntos (double[], double[], int, boolean[]): el triángulo tiene al menos dos vértices iguales");
+        return ContencionParalela.contienePuntos(this, xs, ys, n, resultado);
+    }
+
+  /** El triángulo no guarda propiedades calculadas, por lo que no es
+    * necesario prepararlo para consultas concurrentes
+    * @see InterfazContencion#prepararConsultas()
+    */
+    public void prepararConsultas() {
+    }
+
+  /** Comprueba si cada uno de los puntos de un rango está contenido en el
+    * triángulo, con el mismo criterio que contienePunto. Si el triángulo
+    * tiene vértices iguales no contiene ningún punto
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param desde posición del primer punto del rango
+    * @param hasta posición siguiente al último punto del rango
+    * @param resultado array en el que se guarda si cada punto está contenido
+    * @see Triangulo2D#contienePunto(Punto2D)
+    */
+    public void contienePuntos(double xs[], double ys[], int desde, int hasta, boolean resultado[]) {
+        int sentidoTriangulo;
+        try {
+            sentidoTriangulo = sentido();
+        } catch (GeomException e) {
+            for (int i=desde; i<hasta; i++)
+                resultado[i] = false;
+            return;
+        }
+
+        double x0 = p[0].x(), y0 = p[0].y();
+        double x1 = p[1].x(), y1 = p[1].y();
+        double x2 = p[2].x(), y2 = p[2].y();
+        for (int i=desde; i<hasta; i++) {
+            double x = xs[i], y = ys[i];
+            resultado[i] = Predicados2D.contenidoEnSegmento(x, y, x0, y0, x1, y1) ||
+                           Predicados2D.contenidoEnSegmento(x, y, x1, y1, x2, y2) ||
+                           Predicados2D.contenidoEnSegmento(x, y, x2, y2, x0, y0) ||
+                           (Predicados2D.posicionRelativa(x, y, x0, y0, x1, y1) == sentidoTriangulo &&
+                            Predicados2D.posicionRelativa(x, y, x1, y1, x2, y2) == sentidoTriangulo &&
+                            Predicados2D.posicionRelativa(x, y, x2, y2, x0, y0) == sentidoTriangulo);
+        }
+    }
+
+  /** Obtiene el punto de soporte del triángulo en una dirección: el vértice
+    * más alejado en ella
+    * @param dx componente x de la dirección
+    * @param dy componente y de la dirección
+    * @param punto array en el que se guardan las coordenadas del vértice
+    * @see InterfazSoporte#soporte(double, double, double[])
+    */
+    public void soporte(double dx, double dy, double punto[]) {
+        int mayor = 0;
+        for (int i=1; i<3; i++)
+            if (p[i].x()*dx + p[i].y()*dy > p[mayor].x()*dx + p[mayor].y()*dy)
+                mayor = i;
+        punto[0] = p[mayor].x();
+        punto[1] = p[mayor].y();
+    }
+
+  /** Determina si el punto pasado como parámetro se encuentra contenido por
+    * alguno de los lados del triángulo
+    * @param punto el punto que se desea comprobar si está contenido por alguno
     * de los lados
     * @return un valor booleano indicando si el punto se encuentra contenido
     * por alguno de los lados
-    * @exception GeomException si existen al menos dos puntos del tringulo iguales
+    * @exception GeomException si existen al menos dos puntos del triángulo iguales
     * @see Segmento2D#Segmento2D(Punto2D, Punto2D)
     * @see Segmento2D#contienePunto(Punto2D)
     */
@@ -393,11 +486,11 @@ public class Triangulo2D extends ObjetoGeometrico {
                 lado3.contienePunto(punto));
     }
     
- /** Traslada el tringulo en el plano a partir de un determinado incremento en
-   * cada coordenada cartesiana. La traslacin se aplicar a todos los vrtices.
+ /** Traslada el triángulo en el plano a partir de un determinado incremento en
+   * cada coordenada cartesiana. La traslación se aplicará a todos los vértices.
    * @param incX incremento o desplazamiento en el eje x
    * @param incY incremento o desplazamiento en el eje y
-   * @return el tringulo trasladado
+   * @return el triángulo trasladado
    * @see Punto2D#trasladar(double, double)
    */
     public Triangulo2D trasladar (double incX, double incY) {
@@ -406,11 +499,11 @@ public class Triangulo2D extends ObjetoGeometrico {
         return this;
     }
 
-  /** Traslada el tringulo en el plano aplicando el mismo incremento en cada
-    * eje. La traslacin se aplicar a cada vrtice.
-    * @param incr incremento o desplazamiento que ser aplicado tanto al eje x 
+  /** Traslada el triángulo en el plano aplicando el mismo incremento en cada
+    * eje. La traslación se aplicará a cada vértice.
+    * @param incr incremento o desplazamiento que será aplicado tanto al eje x 
     * como al eje y
-    * @return el tringulo trasladado
+    * @return el triángulo trasladado
     * @see Punto2D#trasladar(double)
     */
     public Triangulo2D trasladar (double incr) {
@@ -419,10 +512,10 @@ public class Triangulo2D extends ObjetoGeometrico {
         return this;
     }
 
-  /** Traslada el tringulo en la direccin y a la distancia determinados por un 
-    * vector. Se aplicar la traslacin a cada vrtice
-    * @param vector el vector que define la traslacin del tringulo
-    * @return el tringulo trasladado
+  /** Traslada el triángulo en la dirección y a la distancia determinados por un 
+    * vector. Se aplicará la traslación a cada vértice
+    * @param vector el vector que define la traslación del triángulo
+    * @return el triángulo trasladado
     * @see Punto2D#trasladar(Vector2D)
     */
     public Triangulo2D trasladar (Vector2D vector)
@@ -432,12 +525,12 @@ public class Triangulo2D extends ObjetoGeometrico {
         return this;
     }
 
-  /** Traslacin del tringulo a partir de las coordenadas polares (se trasladan
-    * los vrtices del tringulo una determinada distancia en un determinado ngulo)
-    * @param angulo direccin de traslacin del tringulo
-    * @param dist distancia a la que se mover el tringulo de su posicin original
-    * siguiendo el ngulo indicado
-    * @return el tringulo trasladado
+  /** Traslación del triángulo a partir de las coordenadas polares (se trasladan
+    * los vértices del triángulo una determinada distancia en un determinado ángulo)
+    * @param angulo dirección de traslación del triángulo
+    * @param dist distancia a la que se moverá el triángulo de su posición original
+    * siguiendo el ángulo indicado
+    * @return el triángulo trasladado
     * @see Punto2D#trasladarPolar(double, double)
     */
     public Triangulo2D trasladarPolar (double angulo, double dist) {
@@ -446,8 +539,8 @@ public class Triangulo2D extends ObjetoGeometrico {
         return this;
     }
 
-   /** Obtiene el centro de gravedad del tringulo (su punto central)
-     * @return el centro de gravedad del tringulo
+   /** Obtiene el centro de gravedad del triángulo (su punto central)
+     * @return el centro de gravedad del triángulo
      * @see Punto2D#Punto2D(double, double)
      * @see Punto2D#x()
      * @see Punto2D#y()
@@ -463,9 +556,9 @@ public class Triangulo2D extends ObjetoGeometrico {
         return new Punto2D(x, y);
     }
     
-   /** Escalado de un tringulo. Se aplicar el escalado a cada vrtice
+   /** Escalado de un triángulo. Se aplicará el escalado a cada vértice
     * @param escala factor de escalado
-    * @return el tringulo escalado
+    * @return el triángulo escalado
     * @exception GeomException si el factor de escalado es cero
     * @see Punto2D#escalado(double)
     */
@@ -475,11 +568,11 @@ public class Triangulo2D extends ObjetoGeometrico {
         return this;
     }
 
-   /** Escalado de un tringulo con distinto factor de escalado para cada coordenada. 
-    * Se aplicar el escalado a cada vrtice.
+   /** Escalado de un triángulo con distinto factor de escalado para cada coordenada. 
+    * Se aplicará el escalado a cada vértice.
     * @param sx factor de escalado en el eje x
     * @param sy factor de escalado en el eje y
-    * @return el tringulo escalado
+    * @return el triángulo escalado
     * @exception GeomException si alguno de los factores de escalado es cero
     * @see Punto2D#escalado(double, double)
     */
@@ -489,10 +582,10 @@ public class Triangulo2D extends ObjetoGeometrico {
         return this;
     }
 
-  /** Rota el tringulo respecto del origen de coordenadas
-    * @param radio angulo de giro en radianes. Si es positivo el giro ser
-    * en sentido antihorario y en caso contrario lo ser en sentido horario
-    * @return el tringulo girado
+  /** Rota el triángulo respecto del origen de coordenadas
+    * @param radio angulo de giro en radianes. Si es positivo el giro será
+    * en sentido antihorario y en caso contrario lo será en sentido horario
+    * @return el triángulo girado
     * @see Punto2D#gira(double)
     */
     public Triangulo2D gira(double radio) {
@@ -501,12 +594,12 @@ public class Triangulo2D extends ObjetoGeometrico {
         return this;
     }
 
-  /** Rota el tringulo respecto a un punto. Se aplicar la 
-    * rotacin respecto a un punto a todos los vrtices del tringulo.
-    * @param origen punto respecto el cual se har el giro
-    * @radio angulo de giro en radianes. Si es positivo el giro ser en sntido
-    * antihorario y en caso contrario lo ser en sentido horario
-    * @return el tringulo girado
+  /** Rota el triángulo respecto a un punto. Se aplicará la 
+    * rotación respecto a un punto a todos los vértices del triángulo.
+    * @param origen punto respecto el cual se hará el giro
+    * @radio angulo de giro en radianes. Si es positivo el giro será en sntido
+    * antihorario y en caso contrario lo será en sentido horario
+    * @return el triángulo girado
     * @see Punto2D#gira(Punto2D, double)
     */
     public Triangulo2D gira(Punto2D origen, double radio) {
@@ -515,13 +608,13 @@ public class Triangulo2D extends ObjetoGeometrico {
         return this;
     }
 
-  /** Aplica una matriz de transformacin al tringulo. La matriz debe ser cuadrada 
+  /** Aplica una matriz de transformación al triángulo. La matriz debe ser cuadrada 
     * y de orden dos (para aplicarla a las coordenadas cartesianas) o tres (en
-    * cuyo caso se aplica a las coordenadas homogneas). Se aplicar la matriz
-    * de transformacin a cada uno de los vrtices del tringulo
-    * @param matriz de transformacin
-    * @return el tringulo transformado
-    * @exception GeomException si la matriz de transformacin no es cuadrada, o 
+    * cuyo caso se aplica a las coordenadas homogéneas). Se aplicará la matriz
+    * de transformación a cada uno de los vértices del triángulo
+    * @param matriz de transformación
+    * @return el triángulo transformado
+    * @exception GeomException si la matriz de transformación no es cuadrada, o 
     * es cuadrada pero su orden es distinto de dos o tres
     * @see Punto2D#transforma(double[][])
     */
@@ -531,9 +624,9 @@ public class Triangulo2D extends ObjetoGeometrico {
         return this;
     }
 
-    /** Determina cual es el vertice cuya coordenada x est situada ms a la
+    /** Determina cual es el vertice cuya coordenada x está situada más a la
       * izquierda
-      * @return el vrtice del tringulo cuya coordenada x est situada ms
+      * @return el vértice del triángulo cuya coordenada x está situada más
       * a la izquierda
       * @see Punto2D#x()
       * 
@@ -548,9 +641,9 @@ public class Triangulo2D extends ObjetoGeometrico {
         return menor;
     }
 
-    /** Determina cual es el vertice cuya coordenada x est situada ms a la
+    /** Determina cual es el vertice cuya coordenada x está situada más a la
       * derecha
-      * @return el vrtice del tringulo cuya coordenada x est situada ms
+      * @return el vértice del triángulo cuya coordenada x está situada más
       * a la derecha
       * @see Punto2D#x()
       */
@@ -564,8 +657,8 @@ public class Triangulo2D extends ObjetoGeometrico {
         return mayor;
     }
 
-    /** Determina cual es el vertice cuya coordenada y est situada ms abajo
-      * @return el vrtice del tringulo cuya coordenada y est situada ms
+    /** Determina cual es el vertice cuya coordenada y está situada más abajo
+      * @return el vértice del triángulo cuya coordenada y está situada más
       * abajo
       * @see Punto2D#y()
       * 
@@ -580,8 +673,8 @@ public class Triangulo2D extends ObjetoGeometrico {
         return menor;
     }
 
-    /** Determina cual es el vertice cuya coordenada y est situada ms arriba
-      * @return el vrtice del tringulo cuya coordenada y est situada ms
+    /** Determina cual es el vertice cuya coordenada y está situada más arriba
+      * @return el vértice del triángulo cuya coordenada y está situada más
       * arriba
       * @see Punto2D#y()
       */
@@ -596,52 +689,52 @@ public class Triangulo2D extends ObjetoGeometrico {
     }
     
   /**
-    * Obtiene el primer vrtice del tringulo.
-    * @return el primer vrtice del tringulo
+    * Obtiene el primer vértice del triángulo.
+    * @return el primer vértice del triángulo
     */
     public Punto2D p1() {
         return p[0];
     }
   /**
-    * Obtiene el segundo vrtice del tringulo.
-    * @return el segundo vrtice del tringulo.
+    * Obtiene el segundo vértice del triángulo.
+    * @return el segundo vértice del triángulo.
     */
     public Punto2D p2() {
         return p[1];
     }
   /**
-    * Obtiene el tercer vrtice del tringulo
-    * @return el tercer vrtice del tringulo
+    * Obtiene el tercer vértice del triángulo
+    * @return el tercer vértice del triángulo
     */
     public Punto2D p3() {
         return p[2];
     }
 
-  /** Obtiene el vrtice cuyo ndice numrico es el que se pasa como
-    * parmtro. Dicho ndice i debe cumplir que 0<=i<=2, correspondindose el 
-    * 0 al primer vrtice, el 1 al segundo y el 2 al tercero.
-    * @param i ndice numrtico del vrtice que se desea obtener
-    * @return el vrtice solicitado
-    * @exception GeomException si el ndice es menor de 0 o mayor de 2
+  /** Obtiene el vértice cuyo índice numérico es el que se pasa como
+    * parámtro. Dicho índice i debe cumplir que 0<=i<=2, correspondiéndose el 
+    * 0 al primer vértice, el 1 al segundo y el 2 al tercero.
+    * @param i índice numértico del vértice que se desea obtener
+    * @return el vértice solicitado
+    * @exception GeomException si el índice es menor de 0 o mayor de 2
     */  
     public Punto2D vertice(int i) throws GeomException {
         if (i<0 || i>2)
-        throw new GeomException("vertice (int): el ndice especificado es incorrecto");
+        throw new GeomException("vertice (int): el índice especificado es incorrecto");
         else
         return p[i];
     }
 
-   /** Realiza la conversin del objeto de tipo Triangulo2D a una cadena
-    * @return una cadena especificando el tipo de objeto (tringulo) y las
-    * coordenadas cartesianas de sus vrtices
+   /** Realiza la conversión del objeto de tipo Triangulo2D a una cadena
+    * @return una cadena especificando el tipo de objeto (triángulo) y las
+    * coordenadas cartesianas de sus vértices
     * cartesianas
     */
     public String toString() {
         return nombre + " - Triangulo2D: (" + p[0] + " " + p[1] + " " + p[2] + ")";
     }
     
-  /** Obtiene la caja contenedora que contiene al tringulo
-    * @return una caja contenedora conteniendo al tringulo
+  /** Obtiene la caja contenedora que contiene al triángulo
+    * @return una caja contenedora conteniendo al triángulo
     * @see Caja2D#Caja2D(Triangulo2D)
     */
     public Caja2D cajaContenedora() {
@@ -10,9 +10,9 @@ import JavaRG.*;
 import JavaRG.Nucleo2D.*;
 
 /** Un objeto de la clase <code>Vector2D</code> representa un vector en el
- * 2D. Geomtricamente, un vector es la diferencia entre un par de puntos, y
- * denota la direccin y la distancia desde el primer punto hasta el segundo.
- * Internamente el vector estar implementado mediante desplazamientos en el
+ * 2D. Geométricamente, un vector es la diferencia entre un par de puntos, y
+ * denota la dirección y la distancia desde el primer punto hasta el segundo.
+ * Internamente el vector estará implementado mediante desplazamientos en el
  * eje x y en el eje y
  *
  * @author  Pablo Suau
@@ -39,20 +39,20 @@ public class Vector2D extends ObjetoGeometrico {
      * Constructor del vector a partir de dos desplazamientos.
      * @param dx desplazamiento en el eje x
      * @param dy desplazamiento en el eje y
-     * @return un nuevo vector cuya direccin y magnitud estn definidos
-     * por los dos desplazamientos pasados como parmetro
+     * @return un nuevo vector cuya dirección y magnitud están definidos
+     * por los dos desplazamientos pasados como parámetro
      */
     public Vector2D(double dx, double dy) {
         despX = dx;
         despY = dy;
     }
 
-    /** Constructor del vector a partir de dos puntos. El vector representar
-     * la diferencia entre esos dos puntos, es decir, la direccin y la distancia
+    /** Constructor del vector a partir de dos puntos. El vector representará
+     * la diferencia entre esos dos puntos, es decir, la dirección y la distancia
      * de uno a otro.
      * @param p1 el primer punto
      * @param p2 el segundo punto
-     * @return un nuevo vector cuyos desplazamientos vemdrn dado por la diferencia
+     * @return un nuevo vector cuyos desplazamientos vemdrán dado por la diferencia
      * entre las coordenadas de ambos puntos
      * @see Punto2D#x()
      * @see Punto2D#y()
@@ -66,7 +66,7 @@ public class Vector2D extends ObjetoGeometrico {
      * otro ya existente.
      * @param original vector a partir del cual construir el nuevo vector
      * @return un nuevo vector con los mismos desplazamientos en el eje x y en el
-     * eje y que el vector pasado como parmetro
+     * eje y que el vector pasado como parámetro
      * @see Vector2D#despX()
      * @see Vector2D#despY()
      */
@@ -76,13 +76,13 @@ public class Vector2D extends ObjetoGeometrico {
     }
 
     /** Constructor del vector a partir de las coordenadas cartesianas de dos
-     * puntos. El vector representar la diferencia entre esos dos puntos, es
-     * decir, la direccin y la distancia de uno a otro.
+     * puntos. El vector representará la diferencia entre esos dos puntos, es
+     * decir, la dirección y la distancia de uno a otro.
      * @param x0 coordenada cartesiana x del primer punto
      * @param y0 coordenada cartesiana y del primer punto
      * @param x1 coordenada cartesiana x del segundo punto
      * @param y1 coordenada cartesiana y del segundo punto
-     * @return un nuevo vector cuyos desplazamientos vemdrn dado por la diferencia
+     * @return un nuevo vector cuyos desplazamientos vemdrán dado por la diferencia
      * entre las coordenadas de ambos puntos
      */
     public Vector2D(double x0, double y0, double x1, double y1) {
@@ -90,38 +90,38 @@ public class Vector2D extends ObjetoGeometrico {
         despY = y1 - y0;
     }
 
-    /** Constructor del vector a partir de las coordenadas homogneas de dos
-     * puntos. El vector representar la diferencia entre esos dos puntos, es
-     * decir, la direccin y la distancia de uno a otro.
-     * @param hx0 coordenada homognea x del primer punto
-     * @param hy0 coordenada homognea y del primer punto
-     * @param hz0 coordenada homognea z del primer punto
-     * @param hx1 coordenada homognea x del segundo punto
-     * @param hy1 coordenada homognea y del segundo punto
-     * @param hz1 coordenada homognea z del segundo punto
-     * @param hx2 coordenada homognea x del tercer punto
-     * @param hy2 coordenada homognea y del tercer punto
-     * @param hz2 coordenada homognea z del tercer punto
-     * @return un nuevo vector cuyos desplazamientos vemdrn dado por la diferencia
+    /** Constructor del vector a partir de las coordenadas homogéneas de dos
+     * puntos. El vector representará la diferencia entre esos dos puntos, es
+     * decir, la dirección y la distancia de uno a otro.
+     * @param hx0 coordenada homogénea x del primer punto
+     * @param hy0 coordenada homogénea y del primer punto
+     * @param hz0 coordenada homogénea z del primer punto
+     * @param hx1 coordenada homogénea x del segundo punto
+     * @param hy1 coordenada homogénea y del segundo punto
+     * @param hz1 coordenada homogénea z del segundo punto
+     * @param hx2 coordenada homogénea x del tercer punto
+     * @param hy2 coordenada homogénea y del tercer punto
+     * @param hz2 coordenada homogénea z del tercer punto
+     * @return un nuevo vector cuyos desplazamientos vemdrán dado por la diferencia
      * entre las coordenadas de ambos puntos
-     * @exception GeomException si la coordenada homognea z de alguno de los
+     * @exception GeomException si la coordenada homogénea z de alguno de los
      * puntos es cero
      */
     public Vector2D(double hx0, double hy0, double hz0,
     double hx1, double hy1, double hz1) throws GeomException {
         if (hz0 == 0 || hz1 == 0)
-        throw new GeomException("Vector2D (double, double, double, double, double, double): Las coordenadas homogneas en el eje z no pueden tener valor cero");
+        throw new GeomException("Vector2D (double, double, double, double, double, double): Las coordenadas homogéneas en el eje z no pueden tener valor cero");
         else {
             despX = hx1/hz1 - hx0/hz0;
             despY = hy1/hz1 - hy0/hz0;
         }
     }
 
-    /** Constructor del vector a partir de un segmento. El vector se construir
+    /** Constructor del vector a partir de un segmento. El vector se construirá
      * como la diferencia entre los puntos inicial y final del segmento, es decir,
-     * el vector representar el ngulo y la distancia entre dichos puntos
+     * el vector representará el ángulo y la distancia entre dichos puntos
      * @param segmento el segmento a partir del cual construir el vector
-     * @return un nuevo vector cuyos desplazamientos vendrn dados por la diferencia
+     * @return un nuevo vector cuyos desplazamientos vendrán dados por la diferencia
      * en las coordenadas entre los puntos inicial y final del segmento
      * @see Segmento2D#fin() 
      * @see Segmento2D#comienzo()
@@ -133,10 +133,10 @@ public class Vector2D extends ObjetoGeometrico {
         despY = (segmento.fin()).y() - (segmento.comienzo()).y();
     }
     
-  /** Constructor del vector a partir de la recta. El vector ser igual al vector
+  /** Constructor del vector a partir de la recta. El vector será igual al vector
     * director de la recta
     * @param recta recta a partir de la cual se desea construir el vector
-    * @return un nuevo vector cuyos desplazamientos vendrn dados por los 
+    * @return un nuevo vector cuyos desplazamientos vendrán dados por los 
     * correspondientes desplazamientos del vector director de la recta
     * @see Recta2D#director()
     * @see Vector2D#despX()
@@ -147,10 +147,10 @@ public class Vector2D extends ObjetoGeometrico {
         despY = (recta.director()).despY();
     }
 
-   /** Constructor del vector a partir del rayo. El vector ser igual al vector
+   /** Constructor del vector a partir del rayo. El vector será igual al vector
     * director del rayo
     * @param rayo rayo a partir del cual se desea construir el vector
-    * @return un nuevo vector cuyos desplazamientos vendrn dados por los
+    * @return un nuevo vector cuyos desplazamientos vendrán dados por los
     * correspondientes desplazamientos del vector director del rayo
     * @see Rayo2D#director()
     * @see Vector2D#despX()
@@ -161,14 +161,14 @@ public class Vector2D extends ObjetoGeometrico {
         despY = (rayo.director()).despY();
     }
     
-  /** Constructor a partir de una direccin y una longitud. Primero se tomarn
-    * los desplazamientos de la direccin construyendo un vector unitario y
-    * despus incrementaremos dichos desplazamientos segn la longitud
-    * @param direccion direccion de la que se tomarn los desplazamientos para
+  /** Constructor a partir de una dirección y una longitud. Primero se tomarán
+    * los desplazamientos de la dirección construyendo un vector unitario y
+    * después incrementaremos dichos desplazamientos según la longitud
+    * @param direccion direccion de la que se tomarán los desplazamientos para
     * construir el vector
     * @param longitud longitud del nuevo vector
-    * @return un nuevo vector con la misma direccin que la direccin pasada 
-    * como primer parmetro y longitud igual al valor del segundo parmetro
+    * @return un nuevo vector con la misma dirección que la dirección pasada 
+    * como primer parámetro y longitud igual al valor del segundo parámetro
     * @see Vector2D#Vector2D(double, double)
     * @see Direccion2D#despX()
     * @see Direccion2D#despY()
@@ -181,12 +181,12 @@ public class Vector2D extends ObjetoGeometrico {
         despY = (vectorNormalizado.vectorUnidad()).despY() * longitud;
     }
     
-   /** Comparacin con otro objeto geomtrico. Un vector ser igual a otro objeto
-     * geomtrico si dicho objeto es otro vector y coinciden en los desplazamientos
+   /** Comparación con otro objeto geométrico. Un vector será igual a otro objeto
+     * geométrico si dicho objeto es otro vector y coinciden en los desplazamientos
      * en el eje x y en el eje y.
-     * @param obj el objeto geomtrico con el que se desea comparar el vector
+     * @param obj el objeto geométrico con el que se desea comparar el vector
      * @return un valor booleano indicando si el vector es igual al objeto
-     * geomtrico pasado como parmetro
+     * geométrico pasado como parámetro
      * @see Vector2D#despX() 
      * @see Vector2D#despY()
      */
@@ -195,7 +195,7 @@ public class Vector2D extends ObjetoGeometrico {
         return true;
         if (obj instanceof Vector2D) {
             Vector2D vector = (Vector2D) obj;
-            // Dos vectores son iguales si tienen el mismo ngulo y magnitud
+            // Dos vectores son iguales si tienen el mismo ángulo y magnitud
             if (this.despX() != vector.despX() || this.despY() != vector.despY())
             return false;
             else return true;
@@ -203,12 +203,12 @@ public class Vector2D extends ObjetoGeometrico {
         else return false;
     }
 
-   /** Comparacin con otro objeto geomtrico. Un vector ser distinto a otro objeto
-     * geomtrico si dicho objeto no es un vector o no coinciden en los desplazamientos
+   /** Comparación con otro objeto geométrico. Un vector será distinto a otro objeto
+     * geométrico si dicho objeto no es un vector o no coinciden en los desplazamientos
      * en el eje x y en el eje y.
-     * @param obj el objeto geomtrico con el que se desea comparar el vector
+     * @param obj el objeto geométrico con el que se desea comparar el vector
      * @return un valor booleano indicando si el vector es igual al objeto
-     * geomtrico pasado como parmetro
+     * geométrico pasado como parámetro
      * @see Vector2D#equals(ObjetoGeometrico) 
      */
     public boolean not_equals (ObjetoGeometrico obj) {
@@ -232,7 +232,7 @@ public class Vector2D extends ObjetoGeometrico {
     }
 
     /**
-     * Obtencin del vector opuesto. Un vector es opuesto a otro si tiene los
+     * Obtención del vector opuesto. Un vector es opuesto a otro si tiene los
      * mismos desplazamientos en el eje x y en el eje y pero en sentido contrario.
      * @return el vector opuesto al original
      */
@@ -244,13 +244,13 @@ public class Vector2D extends ObjetoGeometrico {
     }
 
     /**
-     * Obtencin del vector perpendicular en el plano. El vector perpendicular
+     * Obtención del vector perpendicular en el plano. El vector perpendicular
      * se obtiene como resultado de girar el vector 90 grados en sentido horario
      * o antihorario.
      * @param orientacion sentido de giro, puede ser horario o antihorario
-     * @return el vector perpendicular en el plano segn la orientacin pasada
-     * como parmetro
-     * @exception GeomException si la orientacin no se corresponde con Mat.HORARIO
+     * @return el vector perpendicular en el plano según la orientación pasada
+     * como parámetro
+     * @exception GeomException si la orientación no se corresponde con Mat.HORARIO
      * o Mat.ANTIHORARIO
      * @see Mat#HORARIO 
      * @see Mat#ANTIHORARIO
@@ -258,7 +258,7 @@ public class Vector2D extends ObjetoGeometrico {
     public Vector2D perpendicular(int orientacion) throws GeomException {
         double aux;
         if (orientacion != Mat.HORARIO && orientacion != Mat.ANTIHORARIO)
-        throw new GeomException("perpendicular (int): La orientacin dada es incorrecta");
+        throw new GeomException("perpendicular (int): La orientación dada es incorrecta");
         else {
             aux = despY;
             if (orientacion == Mat.ANTIHORARIO) {
@@ -274,7 +274,7 @@ public class Vector2D extends ObjetoGeometrico {
     }
 
     /**
-     * Obtemcin del vector unidad. Devuelve un vector con la misma direccin que
+     * Obtemción del vector unidad. Devuelve un vector con la misma dirección que
      * el vector original, pero normalizado, es decir, con norma 1. Para ello,
      * dividimos cada uno de los desplazamientos entre la norma del vector.
      * @return el vector normalizado
@@ -298,13 +298,13 @@ public class Vector2D extends ObjetoGeometrico {
         return (despX <= Mat.EPSILON && despY == Mat.EPSILON);
     }
     
-   /** Mdulo del producto vectorial. Dicho mdulo se obtiene como el producto de
-     * la norma del primer vector, la norma del segundo, y el seno del ngulo entre
-     * ambos. El signo del mdulo vendr dado por el sentido en el que se aplique
+   /** Módulo del producto vectorial. Dicho módulo se obtiene como el producto de
+     * la norma del primer vector, la norma del segundo, y el seno del ángulo entre
+     * ambos. El signo del módulo vendrá dado por el sentido en el que se aplique
      * el producto a los vectores.
      * @param otro vector con el que se desa realizar el producto vectorial
-     * @return el mdulo del producto vectorial entre el vector y el pasado como
-     * parmetro
+     * @return el módulo del producto vectorial entre el vector y el pasado como
+     * parámetro
      * @exception GeomException si la norma de alguno de los vectores es cero
      * @see Vector2D#magnitud()
      * Vector2D#anguloEntreVectores(Vector2D)
@@ -333,7 +333,7 @@ public class Vector2D extends ObjetoGeometrico {
   /** Producto escalar de vectores. El producto escalar de los vectores v1 y v2
     * se obtiene como v1x*v2x + v1y*v2y.
     * @param otro vector con el que se desea realizar el producto escalar
-    * @return el producto escalar del vector por el vector pasado como parmetro
+    * @return el producto escalar del vector por el vector pasado como parámetro
     * @see Vector2D#despX() 
     * @see Vector2D#despY()
     */
@@ -341,11 +341,11 @@ public class Vector2D extends ObjetoGeometrico {
         return this.despX*otro.despX() + this.despY*otro.despY();
     }
 
-  /** Escalado de un vector. Se aplicar el mismo factor de escalado tanto al 
+  /** Escalado de un vector. Se aplicará el mismo factor de escalado tanto al 
     * desplazamiento en el eje x como al desplazamiento en el eje y. Al contrario
-    * que la direccin, el vector s tiene magnitud, por lo que si tendr sentido
-    * incluir para el mismo la transformacin de escalado. Si el factor de escalado
-    * es cero el resultado ser un vector nulo
+    * que la dirección, el vector sí tiene magnitud, por lo que si tendrá sentido
+    * incluir para el mismo la transformación de escalado. Si el factor de escalado
+    * es cero el resultado será un vector nulo
     * @param escala factor de escalado
     * @return el vector escalado
     */
@@ -355,11 +355,11 @@ public class Vector2D extends ObjetoGeometrico {
         return this;
     }
 
-  /** Escalado de un vector. Se aplicar distinto factor de escalado al
+  /** Escalado de un vector. Se aplicará distinto factor de escalado al
     * desplazamiento en el eje x y al desplazamiento en el eje y. Al contrario
-    * que la direccin, el vector s tiene magnitud, por lo que si tendr sentido
-    * incluir para el mismo la transformacin de escalado. Si ambos facotres de 
-    * escalado valen cero el resultado ser un vector nulo
+    * que la dirección, el vector sí tiene magnitud, por lo que si tendrá sentido
+    * incluir para el mismo la transformación de escalado. Si ambos facotres de 
+    * escalado valen cero el resultado será un vector nulo
     * @param sx factor de escalado en el eje x
     * @param sy factor de escalado en el eje y
     * @return el vector escalado
@@ -370,9 +370,9 @@ public class Vector2D extends ObjetoGeometrico {
         return this;
     }
 
-  /** Gira el vector el nmero de radianes indicado. 
-    * @param radio angulo de giro en radianes. Si es positivo el giro ser
-    * en sentido antihorario y en caso contrario lo ser en sentido horario
+  /** Gira el vector el número de radianes indicado. 
+    * @param radio angulo de giro en radianes. Si es positivo el giro será
+    * en sentido antihorario y en caso contrario lo será en sentido horario
     * @return el vector rotado
     * @see Vector2D#magnitud()
     * @see Vector2D#anguloEjeX()
@@ -387,16 +387,16 @@ public class Vector2D extends ObjetoGeometrico {
         return this;
     }
 
-  /** Realiza la divisin del vector entre un escalar. Se realiza la divisin por el escalar
+  /** Realiza la división del vector entre un escalar. Se realiza la división por el escalar
     * tanto del desplazamiento en el eje x y en el eje y entre dicho escalar. 
-    * @param valor escalar con el que se desea realizar la divisin
-    * @return el vector una vez realizada la divisin private el escalar pasado
-    * como parmetro
+    * @param valor escalar con el que se desea realizar la división
+    * @return el vector una vez realizada la división private el escalar pasado
+    * como parámetro
     * @exception GeomException si el escalar vale 0
     */
     public Vector2D division(double valor) throws GeomException {
         if (valor == 0)
-        throw new GeomException("division (double): divisin entre cero");
+        throw new GeomException("division (double): división entre cero");
         else {
             despX = despX / valor;
             despY = despY / valor;
@@ -405,7 +405,7 @@ public class Vector2D extends ObjetoGeometrico {
     }
 
  /** Obtiene la norma o magnitud del vector. La norma de un vector es el resultado
-   * de la raz cuadrada de la suma de sus componentes al cuadrado.
+   * de la raíz cuadrada de la suma de sus componentes al cuadrado.
    * @return la norma del vector
    * @see Mat#cuadrado(double)
    */
@@ -416,9 +416,9 @@ public class Vector2D extends ObjetoGeometrico {
             return Math.sqrt(Mat.cuadrado(despX) + Mat.cuadrado(despY));
     }
     
-  /** Obtiene el ngulo en radianes respecto al eje x. Ser positivo si el
-    * desplazamiento en el eje y tambin lo es, y negativo en otro caso.
-    * @return el ngulo en radianes respecto al eje x
+  /** Obtiene el ángulo en radianes respecto al eje x. Será positivo si el
+    * desplazamiento en el eje y también lo es, y negativo en otro caso.
+    * @return el ángulo en radianes respecto al eje x
     * @see Vector2D#magnitud() 
     */
     public double anguloEjeX() {
@@ -427,9 +427,9 @@ public class Vector2D extends ObjetoGeometrico {
         return angulo;
     }
 
-  /** Obtiene el ngulo en grados respecto al eje x. Ser positivo si el
-    * desplazamiento en el eje y tambin lo es, y negativa en otro caso.
-    * @return el ngulo en grados respecto al eje x
+  /** Obtiene el ángulo en grados respecto al eje x. Será positivo si el
+    * desplazamiento en el eje y también lo es, y negativa en otro caso.
+    * @return el ángulo en grados respecto al eje x
     * @see Vector2D#anguloEjeX() 
     * @see Mat#rad2Grad(double)
     */
@@ -437,9 +437,9 @@ public class Vector2D extends ObjetoGeometrico {
         return Mat.rad2Grad(anguloEjeX());
     }
 
-  /** Obtiene el ngulo en radianes respecto al eje y. Ser positivo si el
-    * desplazamiento en el eje x tambin lo es, y negativo en otro caso.
-    * @return el ngulo en radianes respecto al eje y
+  /** Obtiene el ángulo en radianes respecto al eje y. Será positivo si el
+    * desplazamiento en el eje x también lo es, y negativo en otro caso.
+    * @return el ángulo en radianes respecto al eje y
     * @see Vector2D#magnitud()
     */
     public double anguloEjeY() {
@@ -448,9 +448,9 @@ public class Vector2D extends ObjetoGeometrico {
         return angulo;
     }
 
-  /** Obtiene el ngulo en grados respecto al eje y. Ser positivo si el
-    * desplazamiento en el eje x tambin lo es, y negativo en otro caso.
-    * @return el ngulo en grados respecto al eje y
+  /** Obtiene el ángulo en grados respecto al eje y. Será positivo si el
+    * desplazamiento en el eje x también lo es, y negativo en otro caso.
+    * @return el ángulo en grados respecto al eje y
     * @see Vector2D#anguloEjeY()
     * @see Mat#rad2Grad(double)
     */
@@ -458,10 +458,10 @@ public class Vector2D extends ObjetoGeometrico {
         return Mat.rad2Grad(anguloEjeY());
     }
 
- /** Calcula el ngulo con signo entre dos vectores, en radianes. 
-   * @param otra vector con respecto al cual se desea obtener el ngulo 
-   * @return el ngulo con signo entre el vector y el vector pasado como 
-   * parmetro, en radianes
+ /** Calcula el ángulo con signo entre dos vectores, en radianes. 
+   * @param otra vector con respecto al cual se desea obtener el ángulo 
+   * @return el ángulo con signo entre el vector y el vector pasado como 
+   * parámetro, en radianes
    * @exception GeomException si alguno de los vectores tiene norma cero
    * @see Vector2D#despX()
    * @see Vector2D#despY()
@@ -477,7 +477,7 @@ public class Vector2D extends ObjetoGeometrico {
             if (cociente > 1.0 && cociente < (1.0 + Mat.EPSILON)) cociente = 1.0;
             angulo = Math.acos(cociente);
 
-            // Calculamos el signo del ngulo
+            // Calculamos el signo del ángulo
             if (this.despX()*otro.despY() - otro.despX()*this.despY() < 0 )
             angulo = (-1)*angulo;
 
@@ -485,10 +485,10 @@ public class Vector2D extends ObjetoGeometrico {
         }
     }
 
-  /** Calcula el ngulo con signo entre dos vectores, en grados. 
-   * @param otra vector con respecto al cual se desea obtener el ngulo 
-   * @return el ngulo con signo entre la direccin y la direccin pasada como 
-   * parmetro, en grados
+  /** Calcula el ángulo con signo entre dos vectores, en grados. 
+   * @param otra vector con respecto al cual se desea obtener el ángulo 
+   * @return el ángulo con signo entre la dirección y la dirección pasada como 
+   * parámetro, en grados
    * @see Vector2D#anguloEntreVectores(Vector2D) 
    * @see Mat#rad2Grad(double)
    */
@@ -510,18 +510,18 @@ public class Vector2D extends ObjetoGeometrico {
         return despY;
     }
 
-  /** Funcin que obtiene el desplazamiento cuyo ndice numrico se pasa como
-    * parmetro. Dicho ndice debe valer 0 si deseamos obtener el desplazamiento
+  /** Función que obtiene el desplazamiento cuyo índice numérico se pasa como
+    * parámetro. Dicho índice debe valer 0 si deseamos obtener el desplazamiento
     * en el eje x y 1 si lo que deseamos es el desplazamiento en el eje y
-    * @param i ndice numrico del desplazamiento que se desea obtener
+    * @param i índice numérico del desplazamiento que se desea obtener
     * @return el desplazamiento solicitado
-    * @exception GeomException si el ndice es distinto de 0 y de 1
+    * @exception GeomException si el índice es distinto de 0 y de 1
     */
     public double desp(int i) throws GeomException {
         double devuelto = 0;
 
         if (i != 0 && i != 1)
-        throw new GeomException("desp (int): El ndice proporcionado debe ser 0 o 1");
+        throw new GeomException("desp (int): El índice proporcionado debe ser 0 o 1");
         else
         switch (i) {
             case 0:
@@ -537,14 +537,14 @@ public class Vector2D extends ObjetoGeometrico {
     }
 
     
-  /** Implementacin de la funcin abstracta <i>distancia</i> de <code>ObjetoGeometrico</code>.
+  /** Implementación de la función abstracta <i>distancia</i> de <code>ObjetoGeometrico</code>.
    * Simplemente devuelve -1
    */
     public double distancia(Punto2D punto) {
         return -1;
     }  
     
-  /** Realiza la conversin del objeto de tipo Vector2D a una cadena
+  /** Realiza la conversión del objeto de tipo Vector2D a una cadena
     * @return una cadena especificando el tipo de objeto (vector) y sus
     * componentes (desplazamiento en el eje x y desplazamiento en el eje y)
     */  
@@ -0,0 +1,298 @@
+/*
+ * ArbolBarrido.java
+ *
+ * Created on 17 de octubre de 2026, 15:20
+ */
+
+package JavaRG.Soporte;
+
+/** Un árbol de barrido mantiene ordenados los elementos que corta la línea de
+ * barrido en los algoritmos de barrido del plano (por ejemplo, los segmentos
+ * activos en la comprobación de si un polígono es simple). Cada elemento se
+ * identifica por un entero entre 0 y la capacidad del árbol menos uno.
+ * <br>
+ * Se trata de un árbol binario de búsqueda aleatorizado (treap) almacenado en
+ * arrays de enteros, por lo que insertar y eliminar tienen un coste
+ * logarítmico esperado y no se crea ningún objeto tras construir el árbol. El
+ * orden solo se consulta al insertar, mediante un ComparadorBarrido, ya que
+ * el orden de los segmentos depende de la posición de la línea de barrido.
+ * Eliminar un elemento y obtener el anterior o el siguiente a uno dado no
+ * requiere comparaciones
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see ComparadorBarrido
+ */
+public class ArbolBarrido extends Object {
+
+  /**
+    * Valor que indica la ausencia de elemento
+    */
+    public static final int NINGUNO = -1;
+
+  /**
+    * Hijo izquierdo de cada elemento
+    */
+    private int izquierdo[];
+  /**
+    * Hijo derecho de cada elemento
+    */
+    private int derecho[];
+  /**
+    * Padre de cada elemento
+    */
+    private int padre[];
+  /**
+    * Prioridad de cada elemento. La raíz de cada subárbol es el elemento con
+    * menor prioridad
+    */
+    private int prioridad[];
+  /**
+    * Indica si cada elemento se encuentra en el árbol
+    */
+    private boolean presente[];
+  /**
+    * Raíz del árbol
+    */
+    private int raiz;
+  /**
+    * Estado del generador de prioridades
+    */
+    private int semilla;
+  /**
+    * Número de elementos del árbol
+    */
+    private int numElementos;
+
+  /** Crea un árbol de barrido vacío
+    * @param capacidad número de elementos distintos que podrá contener el
+    * árbol. Los elementos serán los enteros entre 0 y capacidad-1
+    * @return un árbol de barrido vacío
+    */
+    public ArbolBarrido(int capacidad) {
+        izquierdo = new int[capacidad];
+        derecho = new int[capacidad];
+        padre = new int[capacidad];
+        prioridad = new int[capacidad];
+        presente = new boolean[capacidad];
+        semilla = 0x2545F491;
+        raiz = NINGUNO;
+    }
+
+  /** Elimina todos los elementos del árbol
+    */
+    public void vaciar() {
+        for (int i=0; i<presente.length; i++)
+            presente[i] = false;
+        raiz = NINGUNO;
+        numElementos = 0;
+    }
+
+  /** Obtiene el número de elementos del árbol
+    * @return el número de elementos del árbol
+    */
+    public int numElementos() {
+        return numElementos;
+    }
+
+  /** Determina si un elemento se encuentra en el árbol
+    * @param elemento elemento a comprobar
+    * @return un valor booleano indicando si el elemento está en el árbol
+    */
+    public boolean contiene(int elemento) {
+        return presente[elemento];
+    }
+
+  /** Inserta un elemento en el árbol en la posición que indica el comparador.
+    * Si el elemento ya se encontraba en el árbol no se hace nada
+    * @param elemento elemento a insertar
+    * @param comparador objeto que determina si el elemento debe quedar antes o
+    * después de cada uno de los elementos con los que se compara
+    * @see ComparadorBarrido#compara(int, int)
+    */
+    public void insertar(int elemento, ComparadorBarrido comparador) {
+        if (presente[elemento]) return;
+
+        izquierdo[elemento] = NINGUNO;
+        derecho[elemento] = NINGUNO;
+        prioridad[elemento] = siguientePrioridad();
+        presente[elemento] = true;
+        numElementos++;
+
+        if (raiz == NINGUNO) {
+            padre[elemento] = NINGUNO;
+            raiz = elemento;
+            return;
+        }
+
+        // Descendemos como en cualquier árbol binario de búsqueda
+        int actual = raiz, ultimo = NINGUNO;
+        boolean antes = false;
+        while (actual != NINGUNO) {
+            ultimo = actual;
+            antes = comparador.compara(elemento, actual) < 0;
+            actual = antes ? izquierdo[actual] : derecho[actual];
+        }
+        padre[elemento] = ultimo;
+        if (antes)
+            izquierdo[ultimo] = elemento;
+        else
+            derecho[ultimo] = elemento;
+
+        // Y subimos el nuevo elemento mientras su prioridad sea menor que la
+        // de su padre
+        while (padre[elemento] != NINGUNO && prioridad[elemento] < prioridad[padre[elemento]])
+            subir(elemento);
+    }
+
+  /** Elimina un elemento del árbol. Si el elemento no se encontraba en el
+    * árbol no se hace nada
+    * @param elemento elemento a eliminar
+    */
+    public void eliminar(int elemento) {
+        if (!presente[elemento]) return;
+
+        // Bajamos el elemento hasta que tenga como mucho un hijo
+        while (izquierdo[elemento] != NINGUNO && derecho[elemento] != NINGUNO) {
+            if (prioridad[izquierdo[elemento]] < prioridad[derecho[elemento]])
+                subir(izquierdo[elemento]);
+            else
+                subir(derecho[elemento]);
+        }
+
+        int hijo = izquierdo[elemento] != NINGUNO ? izquierdo[elemento] : derecho[elemento];
+        sustituir(elemento, hijo);
+        presente[elemento] = false;
+        numElementos--;
+    }
+
+  /** Busca la posición que ocuparía un elemento si se insertara en el árbol,
+    * sin llegar a insertarlo. El elemento no tiene por qué ser válido: puede
+    * ser un valor que el comparador interprete como una clave de búsqueda
+    * (por ejemplo, NINGUNO para referirse al punto por el que pasa la línea
+    * de barrido)
+    * @param elemento elemento o clave a buscar
+    * @param comparador objeto que determina si el elemento debe quedar antes o
+    * después de cada uno de los elementos con los que se compara
+    * @return el primer elemento del árbol que quedaría después del buscado, o
+    * NINGUNO si quedaría el último
+    * @see ComparadorBarrido#compara(int, int)
+    */
+    public int buscar(int elemento, ComparadorBarrido comparador) {
+        int actual = raiz, resultado = NINGUNO;
+        while (actual != NINGUNO) {
+            if (comparador.compara(elemento, actual) < 0) {
+                resultado = actual;
+                actual = izquierdo[actual];
+            } else
+                actual = derecho[actual];
+        }
+        return resultado;
+    }
+
+  /** Obtiene el primer elemento del árbol
+    * @return el primer elemento, o NINGUNO si el árbol está vacío
+    */
+    public int primero() {
+        if (raiz == NINGUNO) return NINGUNO;
+        int actual = raiz;
+        while (izquierdo[actual] != NINGUNO)
+            actual = izquierdo[actual];
+        return actual;
+    }
+
+  /** Obtiene el último elemento del árbol
+    * @return el último elemento, o NINGUNO si el árbol está vacío
+    */
+    public int ultimo() {
+        if (raiz == NINGUNO) return NINGUNO;
+        int actual = raiz;
+        while (derecho[actual] != NINGUNO)
+            actual = derecho[actual];
+        return actual;
+    }
+
+  /** Obtiene el elemento inmediatamente anterior a uno dado
+    * @param elemento elemento del árbol
+    * @return el elemento anterior, o NINGUNO si se trata del primero
+    */
+    public int anterior(int elemento) {
+        int actual = izquierdo[elemento];
+        if (actual != NINGUNO) {
+            while (derecho[actual] != NINGUNO)
+                actual = derecho[actual];
+            return actual;
+        }
+        actual = elemento;
+        while (padre[actual] != NINGUNO && izquierdo[padre[actual]] == actual)
+            actual = padre[actual];
+        return padre[actual];
+    }
+
+  /** Obtiene el elemento inmediatamente siguiente a uno dado
+    * @param elemento elemento del árbol
+    * @return el elemento siguiente, o NINGUNO si se trata del último
+    */
+    public int siguiente(int elemento) {
+        int actual = derecho[elemento];
+        if (actual != NINGUNO) {
+            while (izquierdo[actual] != NINGUNO)
+                actual = izquierdo[actual];
+            return actual;
+        }
+        actual = elemento;
+        while (padre[actual] != NINGUNO && derecho[padre[actual]] == actual)
+            actual = padre[actual];
+        return padre[actual];
+    }
+
+  /** Sube un elemento un nivel en el árbol mediante una rotación con su
+    * padre, sin alterar el orden de los elementos
+    */
+    private void subir(int elemento) {
+        int p = padre[elemento];
+        int abuelo = padre[p];
+
+        if (izquierdo[p] == elemento) {
+            izquierdo[p] = derecho[elemento];
+            if (derecho[elemento] != NINGUNO) padre[derecho[elemento]] = p;
+            derecho[elemento] = p;
+        } else {
+            derecho[p] = izquierdo[elemento];
+            if (izquierdo[elemento] != NINGUNO) padre[izquierdo[elemento]] = p;
+            izquierdo[elemento] = p;
+        }
+        padre[p] = elemento;
+        padre[elemento] = abuelo;
+
+        if (abuelo == NINGUNO)
+            raiz = elemento;
+        else if (izquierdo[abuelo] == p)
+            izquierdo[abuelo] = elemento;
+        else
+            derecho[abuelo] = elemento;
+    }
+
+  /** Coloca un subárbol en el lugar que ocupaba un elemento
+    */
+    private void sustituir(int elemento, int hijo) {
+        int p = padre[elemento];
+        if (hijo != NINGUNO)
+            padre[hijo] = p;
+        if (p == NINGUNO)
+            raiz = hijo;
+        else if (izquierdo[p] == elemento)
+            izquierdo[p] = hijo;
+        else
+            derecho[p] = hijo;
+    }
+
+  /** Genera la prioridad de un nuevo elemento (xorshift de 32 bits)
+    */
+    private int siguientePrioridad() {
+        semilla ^= semilla << 13;
+        semilla ^= semilla >>> 17;
+        semilla ^= semilla << 5;
+        return semilla;
+    }
+}
@@ -9,17 +9,17 @@ package JavaRG.Soporte;
 import JavaRG.Nucleo2D.*;
 import JavaRG.Basica.ObjetoBasico;
 
-/** Un objeto de la clase circulador contendr un objeto geomtrico no sencillo
- * que implemente la interfaz InterfazCirculador (polgono, mapa planar...)
- * y representar un ndice dentro de ese objeto (un vrtice, una cara...). Un
- * circulador podr ser de tres tipos:<br>
+/** Un objeto de la clase circulador contendrá un objeto geométrico no sencillo
+ * que implemente la interfaz InterfazCirculador (polígono, mapa planar...)
+ * y representará un índice dentro de ese objeto (un vértice, una cara...). Un
+ * circulador podrá ser de tres tipos:<br>
  * <ul>
- * <li>UNIDIRECCIONAL: El ndice solo puede avanzar hacia la posicin siguiente</li>
- * <li>BIDIRECCIONAL: El ndice puede avanzar hacia la posicin siguiente o
+ * <li>UNIDIRECCIONAL: El índice solo puede avanzar hacia la posición siguiente</li>
+ * <li>BIDIRECCIONAL: El índice puede avanzar hacia la posición siguiente o
  * hacia la anterior</li>
- * <li>ALEATORIO: El ndice puede avanzar a cualquier posicin</li>
+ * <li>ALEATORIO: El índice puede avanzar a cualquier posición</li>
  * </ul>
- * Hay que aclarar que cuando se vara el ndice nos encontramos ante un circulador
+ * Hay que aclarar que cuando se varía el índice nos encontramos ante un circulador
  * distinto
  * 
  * @author  Pablo Suau
@@ -30,24 +30,24 @@ public class Circulador extends Object {
       */
     int tipo;
     
-   /** Objeto Geomtrico asociado al circulador
+   /** Objeto Geométrico asociado al circulador
      */
     ObjetoBasico objeto;
 
-   /** Posicin dentro del objeto geomtrico
+   /** Posición dentro del objeto geométrico
      */
     int posicion;    
 
-    /** Crea un nuevo circulador a partir de un objeto geomtrico, un tipo, 
-      * y una determinada posicin.
-      * @param nuevoObjeto objeto geomtrico al que se asocia el circulador
+    /** Crea un nuevo circulador a partir de un objeto geométrico, un tipo, 
+      * y una determinada posición.
+      * @param nuevoObjeto objeto geométrico al que se asocia el circulador
       * @param nuevoTipo tipo de circulador
-      * @param nuevaPosicion posicion del circulador dentro del objeto geomtrico
-      * @return un nuevo circulador asociado al objeto geomtrico pasado como
-      * primer parmetro, del tipo indicado por el segundo parmetro, en la 
-      * posicin especificada por el tercer parmetro
+      * @param nuevaPosicion posicion del circulador dentro del objeto geométrico
+      * @return un nuevo circulador asociado al objeto geométrico pasado como
+      * primer parámetro, del tipo indicado por el segundo parámetro, en la 
+      * posición especificada por el tercer parámetro
       * @exception GeomException si el tipo de circulador no se corresponde con
-      * ningn tipo vlido o si la posicin pasada como parmetro queda fuera
+      * ningún tipo válido o si la posición pasada como parámetro queda fuera
       * del rango de posiciones del objeto. No hace falta comprobar si el objeto
       * implementa la interfaz InterfazCirculador, porque todos los ObjetosBasicos
       * y sus subclases lo hacen
@@ -62,7 +62,7 @@ public class Circulador extends Object {
             tipo != InterfazCirculador.cALEATORIO)
             throw new GeomException("Circulador (ObjetoBasico, int, int) : tipo de circulador incorrecto");
         if (posicion >= nuevoObjeto.posiciones())
-            throw new GeomException("Circulador (ObjetoBasico, int, int) : La posicin indicada excede el rango de posiciones del objeto");
+            throw new GeomException("Circulador (ObjetoBasico, int, int) : La posición indicada excede el rango de posiciones del objeto");
         
         tipo = nuevoTipo;
         posicion = nuevaPosicion;
@@ -71,8 +71,8 @@ public class Circulador extends Object {
     
     /** Constructor de copia del circulador
       * @param original circulador a partir del cual contruir el nuevo
-      * @return un nuevo circulador cuyos atributos sern los mismos que los
-      * del circulador pasado como parmetro
+      * @return un nuevo circulador cuyos atributos serán los mismos que los
+      * del circulador pasado como parámetro
       */
      public Circulador (Circulador original) {
         this.tipo = original.tipo;
@@ -80,12 +80,12 @@ public class Circulador extends Object {
         this.objeto = original.objeto;
     }
 
-    /** Determina si el circulador es igual a otro pasado como parmetro. Para que
+    /** Determina si el circulador es igual a otro pasado como parámetro. Para que
       * dos circuladores sean iguales, deben estar asociados al mismo objeto
-      * geomtrico, deben ser del mismo tipo y adems encontrarse situados en la
-      * misma posicin
+      * geométrico, deben ser del mismo tipo y además encontrarse situados en la
+      * misma posición
       * @param otro circulador que se desea conocer si es igual 
-      * @return un valor booleano indicando si el circulador pasado como parmetro 
+      * @return un valor booleano indicando si el circulador pasado como parámetro 
       * es igual
       * 
       */
@@ -95,12 +95,12 @@ public class Circulador extends Object {
                  this.posicion == otro.posicion);
     }
     
-    /** Determina si el circulador es distinto a otro pasado como parmetro. Para que
+    /** Determina si el circulador es distinto a otro pasado como parámetro. Para que
       * dos circuladores sean distintos, no deben estar asociados al mismo objeto
-      * geomtrico, no deben ser del mismo tipo o no deben encontrarse situados
-      * en la misma posicin
+      * geométrico, no deben ser del mismo tipo o no deben encontrarse situados
+      * en la misma posición
       * @param otro circulador que se desea conocer si es distinto
-      * @return un valor booleano indciando si el circuador pasado como parmetro
+      * @return un valor booleano indciando si el circuador pasado como parámetro
       * es distinto
       * @see Circulador#equals(Circulador)
       */
@@ -108,10 +108,10 @@ public class Circulador extends Object {
         return !this.equals(otro);
     }
     
-    /** Determina si es alcanzable el circulador pasado como parmetro a partir
-      * del circulador actual. Como en un objeto geomtrico las dos posiciones
-      * de los extremos estn conectadas, si el objeto geomtrico asociado a
-      * ambos circuladores es el mismo uno siempre ser alcanzable desde el 
+    /** Determina si es alcanzable el circulador pasado como parámetro a partir
+      * del circulador actual. Como en un objeto geométrico las dos posiciones
+      * de los extremos están conectadas, si el objeto geométrico asociado a
+      * ambos circuladores es el mismo uno siempre será alcanzable desde el 
       * otro
       * @param otro Circulador que se desea conocer si es alcanzable
       * @return un valor booleano indicando si el circulador es alcanzable desde
@@ -123,13 +123,13 @@ public class Circulador extends Object {
         return this.equals(otro.objetoAsociado());
     }
     
-    /** Determina el nmero de circuladores entre un par de circuladores dados,
+    /** Determina el número de circuladores entre un par de circuladores dados,
       * sin contar el segundo
       * @param circulador otro Extremo derecho del rango (el extremo izquierdo
-      * ser el circulador para el cual se llama al rango)
-      * @return el nmero de circuladores entre el circulador para el cual se
-      * llama al mtodo y el pasado como parmetro, sin contar este ltimo
-      * @exception GeomException si el circulador pasado como parmetro no es
+      * será el circulador para el cual se llama al rango)
+      * @return el número de circuladores entre el circulador para el cual se
+      * llama al método y el pasado como parámetro, sin contar este último
+      * @exception GeomException si el circulador pasado como parámetro no es
       * alcanzable
       * @see Circulador#alcanzable(Circulador)
       * @see InterfazCirculador#cUNIDIRECCIONAL
@@ -138,12 +138,12 @@ public class Circulador extends Object {
       */
     public int rango(Circulador otro) throws GeomException {
         if (!alcanzable(otro))
-            throw new GeomException("rango(Circulador) : El circulador pasado como parmetro no es alcanzable");
+            throw new GeomException("rango(Circulador) : El circulador pasado como parámetro no es alcanzable");
         
         int r=0;
             
-        // Determinamos el rango segn el tipo de THIS, ignorando el 
-        // tipo del circulador pasado como parmetro
+        // Determinamos el rango según el tipo de THIS, ignorando el 
+        // tipo del circulador pasado como parámetro
         switch (this.tipo) {
             case InterfazCirculador.cUNIDIRECCIONAL:
                 int pos = this.posicion;
@@ -167,8 +167,8 @@ public class Circulador extends Object {
                 
                 return r;
             case InterfazCirculador.cALEATORIO:
-                // Si el circulador es aleatorio cualquier posicin
-                // del objeto geomtrico puede ser obtenida de forma
+                // Si el circulador es aleatorio cualquier posición
+                // del objeto geométrico puede ser obtenida de forma
                 // inmediata
                 if (this.posicion == otro.posicion)
                     return 0;
@@ -179,8 +179,8 @@ public class Circulador extends Object {
             }
     }
     
-    /** Devuelve el nmero de circuladores alcanzables desde la posicin actual
-      * @return el nmero de circuladores alcanzables desde la posicin actual
+    /** Devuelve el número de circuladores alcanzables desde la posición actual
+      * @return el número de circuladores alcanzables desde la posición actual
       */
     public int tamanyo() {
         return objeto.posiciones() - 1;
@@ -188,7 +188,7 @@ public class Circulador extends Object {
     
     /** Determina el circulador siguiente. Puede ser usado por cualquier tipo
       * de circulador
-      * @return un circulador asociado al mismo objeto geomtrico cuya posicin
+      * @return un circulador asociado al mismo objeto geométrico cuya posición
       * es la inmediatamente posterior
       * @see Circulador#Circulador(ObjetoBasico, int, int)
       */
@@ -202,7 +202,7 @@ public class Circulador extends Object {
     
     /** Determina el circulador anterior. Puede ser usado solo por circuladores
       * de tipo bidireccional o aleatorio
-      * @return un circulador asociado al mismo objeto geomtrico cuya posicin
+      * @return un circulador asociado al mismo objeto geométrico cuya posición
       * es la inmediatamente anterior
       * @exception GeomException si el circulador es de tipo unidireccional
       * @see InterfazCirculador#cUNIDIRECCIONAL
@@ -215,11 +215,11 @@ public class Circulador extends Object {
         return new Circulador(objeto, tipo, objeto.posicionAnterior(posicion));
     }
     
-   /** Determina el circulador situado en la posicin posterior n-sima. Puede ser
+   /** Determina el circulador situado en la posición posterior n-ésima. Puede ser
      * usado solo por circuladores de tipo aleatorio
-     * @param n nmero de posiciones a avanzar
-     * @return un nuevo circulador asociado al mismo objeto geomtrico cuya posicin
-     * es la n-sima posterior
+     * @param n número de posiciones a avanzar
+     * @return un nuevo circulador asociado al mismo objeto geométrico cuya posición
+     * es la n-ésima posterior
      * @exception GeomException si el circulador es de tipo unidireccional o bidireccional
      * @see InterfazCirculador#cUNIDIRECCIONAL
      * @see InterfazCirculador#cBIDIRECCIONAL
@@ -238,8 +238,8 @@ public class Circulador extends Object {
     }
     
     
-    /** Devuelve el objeto geomtrico al que est asociado el circulador
-      * @return el objeto geomtrico asociado al circulador
+    /** Devuelve el objeto geométrico al que está asociado el circulador
+      * @return el objeto geométrico asociado al circulador
       */
     public ObjetoBasico objetoAsociado() {
         return objeto;
@@ -255,16 +255,16 @@ public class Circulador extends Object {
         return tipo;
     }
 
-    /** Devuelve la posicin del circulador dentro de la secuencia circular definida
+    /** Devuelve la posición del circulador dentro de la secuencia circular definida
      * por el objeto asociado.
-     * @return la posicin actual del circulador
+     * @return la posición actual del circulador
      */
     public int posicion() {
 	    return posicion;
     }
     
     /** Determina si se trata de un circulador de tipo unidireccional
-      * @return un valor booleano segn el circulador sea o no de tipo unidireccional
+      * @return un valor booleano según el circulador sea o no de tipo unidireccional
       * @see InterfazCirculador#cUNIDIRECCIONAL
       */
     public boolean esUnidireccional() {
@@ -272,7 +272,7 @@ public class Circulador extends Object {
     }
     
     /** Determina si se trata de un circulador de tipo bidireccional
-      * @return un valor booleano segn el circulador sea o no de tipo bidireccional
+      * @return un valor booleano según el circulador sea o no de tipo bidireccional
       * @see InterfazCirculador#cBIDIRECCIONAL
       */
     public boolean esBidireccional() {
@@ -280,7 +280,7 @@ public class Circulador extends Object {
     }
     
     /** Determina si se trata de un circulador de tipo aleatorio
-      * @return un valor booleano segn el circulador sea o no de tipo aleatorio
+      * @return un valor booleano según el circulador sea o no de tipo aleatorio
       * @see InterfazCirculador#cALEATORIO
       */
     public boolean esAleatorio() {
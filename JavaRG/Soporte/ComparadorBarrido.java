@@ -0,0 +1,28 @@
+/*
+ * ComparadorBarrido.java
+ *
+ * Created on 17 de octubre de 2026, 15:10
+ */
+
+package JavaRG.Soporte;
+
+/** Interfaz a implementar por los algoritmos de barrido que usen la clase
+ * ArbolBarrido. Los elementos del árbol se identifican por un número entero
+ * (normalmente el índice de un segmento), y es el algoritmo quien sabe cómo
+ * ordenarlos en la posición actual de la línea de barrido
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see ArbolBarrido
+ */
+public interface ComparadorBarrido {
+
+    /** Compara un elemento que se desea insertar en el árbol con otro que ya
+      * se encuentra en él
+      * @param elemento elemento que se desea insertar
+      * @param otro elemento del árbol con el que se compara
+      * @return un valor negativo si el elemento debe quedar antes que el otro,
+      * y un valor positivo o cero si debe quedar después
+      */
+    int compara(int elemento, int otro);
+}
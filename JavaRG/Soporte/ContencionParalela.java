@@ -0,0 +1,186 @@
+/*
+ * ContencionParalela.java
+ *
+ * Created on 17 de octubre de 2026, 19:55
+ */
+
+package JavaRG.Soporte;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/** La clase <code>ContencionParalela</code> comprueba qué puntos de un lote,
+ * dado por arrays de coordenadas, están contenidos en uno o varios objetos
+ * geométricos, repartiendo el trabajo entre los hilos del ForkJoinPool común.
+ * <br>
+ * El lote se divide por la mitad de forma recursiva hasta obtener bloques
+ * de un tamaño que permite que todos los hilos tengan trabajo aunque unos
+ * bloques sean más costosos que otros, y cada bloque se procesa con el método
+ * <code>contienePuntos</code> del objeto, que recorre arrays de tipos
+ * primitivos sin crear objetos. Antes de comenzar se preparan los objetos
+ * para consultas concurrentes, y durante la comprobación no deben
+ * modificarse
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see InterfazContencion
+ */
+public class ContencionParalela extends Object {
+
+  /**
+    * Valor que indica que un punto no está contenido en ninguna región
+    */
+    public static final int NINGUNA = -1;
+
+  /**
+    * Tamaño mínimo de los bloques en que se divide el lote. Por debajo de
+    * este tamaño el coste de repartir el trabajo supera al de procesarlo
+    */
+    private static final int tamanoMinimoBloque = 1024;
+  /**
+    * Número de bloques por hilo en que se divide el lote, para que los hilos
+    * que terminan antes puedan tomar bloques de los demás
+    */
+    private static final int bloquesPorHilo = 8;
+
+  /** Comprueba en paralelo si una región contiene cada uno de los puntos de
+    * un lote
+    * @param region región con la que se comparan los puntos
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos a procesar
+    * @param resultado array en el que guardar el resultado. Si es null o no
+    * tiene espacio suficiente se crea uno nuevo
+    * @return un array indicando si cada punto está contenido en la región
+    * @see InterfazContencion#contienePuntos(double[], double[], int, int, boolean[])
+    */
+    public static boolean[] contienePuntos(InterfazContencion region, double xs[], double ys[],
+                                           int n, boolean resultado[]) {
+        if (resultado == null || resultado.length < n)
+            resultado = new boolean[n];
+        InterfazContencion regiones[] = { region };
+        ejecutar(regiones, xs, ys, n, resultado, null);
+        return resultado;
+    }
+
+  /** Obtiene en paralelo, para cada punto de un lote, la primera de un
+    * conjunto de regiones que lo contiene
+    * @param regiones regiones con las que se comparan los puntos, en orden de
+    * preferencia
+    * @param xs coordenadas cartesianas x de los puntos
+    * @param ys coordenadas cartesianas y de los puntos
+    * @param n número de puntos a procesar
+    * @param resultado array en el que guardar el resultado. Si es null o no
+    * tiene espacio suficiente se crea uno nuevo
+    * @return un array con el índice de la primera región que contiene cada
+    * punto, o NINGUNA si ninguna lo contiene
+    * @see InterfazContencion#contienePuntos(double[], double[], int, int, boolean[])
+    */
+    public static int[] regionesContenedoras(InterfazContencion regiones[], double xs[],
+                                             double ys[], int n, int resultado[]) {
+        if (resultado == null || resultado.length < n)
+            resultado = new int[n];
+        ejecutar(regiones, xs, ys, n, new boolean[n], resultado);
+        return resultado;
+    }
+
+  /** Prepara las regiones y procesa el lote, en el propio hilo si es pequeño
+    * y en el ForkJoinPool común en caso contrario
+    */
+    private static void ejecutar(InterfazContencion regiones[], double xs[], double ys[], int n,
+                                 boolean contenidos[], int indices[]) {
+        for (int r=0; r<regiones.length; r++)
+            regiones[r].prepararConsultas();
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int bloque = Math.max(tamanoMinimoBloque, n / (bloquesPorHilo * pool.getParallelism()));
+        Tarea tarea = new Tarea(regiones, xs, ys, 0, n, bloque, contenidos, indices);
+        if (n <= bloque)
+            tarea.compute();
+        else
+            pool.invoke(tarea);
+    }
+
+  /** Tarea del ForkJoinPool que comprueba la contención de un rango de
+    * puntos
+    */
+    private static class Tarea extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+      /**
+        * Regiones con las que se comparan los puntos
+        */
+        private InterfazContencion regiones[];
+      /**
+        * Coordenadas de los puntos
+        */
+        private double xs[], ys[];
+      /**
+        * Rango de puntos del que se encarga la tarea
+        */
+        private int desde, hasta;
+      /**
+        * Tamaño por debajo del cual el rango no se divide
+        */
+        private int bloque;
+      /**
+        * Contención de cada punto en la región, o en la región actual si hay
+        * varias
+        */
+        private boolean contenidos[];
+      /**
+        * Primera región que contiene cada punto, si hay varias regiones
+        */
+        private int indices[];
+
+      /** Crea una tarea que se encarga de un rango de puntos
+        */
+        Tarea(InterfazContencion regiones[], double xs[], double ys[], int desde, int hasta,
+              int bloque, boolean contenidos[], int indices[]) {
+            this.regiones = regiones;
+            this.xs = xs;
+            this.ys = ys;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.bloque = bloque;
+            this.contenidos = contenidos;
+            this.indices = indices;
+        }
+
+      /** Procesa el rango de la tarea si es suficientemente pequeño, o lo divide
+        * en dos tareas en caso contrario
+        */
+        protected void compute() {
+            if (hasta - desde <= bloque) {
+                procesar();
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            invokeAll(new Tarea(regiones, xs, ys, desde, medio, bloque, contenidos, indices),
+                      new Tarea(regiones, xs, ys, medio, hasta, bloque, contenidos, indices));
+        }
+
+      /** Procesa el rango de la tarea. Con varias regiones, cada una se comprueba
+        * solo si alguno de los puntos del rango no está todavía en ninguna
+        */
+        private void procesar() {
+            if (indices == null) {
+                regiones[0].contienePuntos(xs, ys, desde, hasta, contenidos);
+                return;
+            }
+
+            for (int i=desde; i<hasta; i++)
+                indices[i] = NINGUNA;
+            int pendientes = hasta - desde;
+            for (int r=0; r<regiones.length && pendientes > 0; r++) {
+                regiones[r].contienePuntos(xs, ys, desde, hasta, contenidos);
+                for (int i=desde; i<hasta; i++)
+                    if (contenidos[i] && indices[i] == NINGUNA) {
+                        indices[i] = r;
+                        pendientes--;
+                    }
+            }
+        }
+    }
+}
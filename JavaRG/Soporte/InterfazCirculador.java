@@ -6,7 +6,7 @@
 
 package JavaRG.Soporte;
 
-/** Interfaz a implementar por todos aquellos objetos geomtricos que 
+/** Interfaz a implementar por todos aquellos objetos geométricos que 
  * vayan a ser usados con la clase circulador
  *
  * @author  Pablo Suau
@@ -15,28 +15,28 @@ package JavaRG.Soporte;
 public interface InterfazCirculador {
     
     /** Tipo para el circulador unidireccional (que es aquel que solo puede
-      * avanzar hacia una posicin anterior o una posicin posterior)
+      * avanzar hacia una posición anterior o una posición posterior)
       */
     final int cUNIDIRECCIONAL = 0;
     
-    /** Tipo para el circulador bidireccional (puede avanzar una posicin 
+    /** Tipo para el circulador bidireccional (puede avanzar una posición 
       * en ambas direcciones)
       */
     final int cBIDIRECCIONAL = 1;
     
-    /** Tipo para el circulador aleatorio (Puede avanzar a cualquier posicin)
+    /** Tipo para el circulador aleatorio (Puede avanzar a cualquier posición)
       */
     final int cALEATORIO = 2;
     
-    /** Rl objeto geomtrico debe indicar cul es la posicin siguiente a una dada
+    /** Rl objeto geométrico debe indicar cuál es la posición siguiente a una dada
       */
     int posicionSiguiente(int posicion);
     
-    /** El objeto geomtrico debe indicar cul es la posicin anterior a una dada
+    /** El objeto geométrico debe indicar cuál es la posición anterior a una dada
       */
     int posicionAnterior(int posicion);
     
-    /** El objeto geomtrico debe indicar el nmero de posiciones en las que 
+    /** El objeto geométrico debe indicar el número de posiciones en las que 
       * se puede situar un circulador
       */
     int posiciones();
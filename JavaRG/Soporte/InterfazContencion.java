@@ -0,0 +1,36 @@
+/*
+ * InterfazContencion.java
+ *
+ * Created on 17 de octubre de 2026, 19:40
+ */
+
+package JavaRG.Soporte;
+
+/** Interfaz a implementar por los objetos geométricos que pueden comprobar
+ * si contienen un lote de puntos dado por arrays de coordenadas, lo que
+ * permite repartir la comprobación entre varios hilos con la clase
+ * ContencionParalela
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see ContencionParalela
+ */
+public interface InterfazContencion {
+
+    /** Calcula las propiedades del objeto que se guardan tras calcularse la
+      * primera vez, de forma que las comprobaciones posteriores solo lean el
+      * objeto y puedan realizarse desde varios hilos a la vez
+      */
+    void prepararConsultas();
+
+    /** Comprueba si el objeto contiene cada uno de los puntos de un rango,
+      * con el mismo criterio que su método contienePunto
+      * @param xs coordenadas cartesianas x de los puntos
+      * @param ys coordenadas cartesianas y de los puntos
+      * @param desde posición del primer punto del rango
+      * @param hasta posición siguiente al último punto del rango
+      * @param resultado array en el que se guarda, en la misma posición de
+      * cada punto, si está contenido en el objeto
+      */
+    void contienePuntos(double xs[], double ys[], int desde, int hasta, boolean resultado[]);
+}
@@ -0,0 +1,32 @@
+/*
+ * InterfazSoporte.java
+ *
+ * Created on 18 de octubre de 2026, 5:20
+ */
+
+package JavaRG.Soporte;
+
+/** Interfaz a implementar por los objetos geométricos convexos que pueden
+ * dar su función de soporte: el punto del objeto más alejado en una
+ * dirección. Es todo lo que necesita el algoritmo GJK de la clase
+ * Proximidad2D para calcular la distancia entre dos objetos, sin conocer su
+ * tipo. Si el objeto no es convexo, la función de soporte es la de su
+ * envolvente convexa
+ *
+ * @author  Pablo Suau
+ * @version 1.0
+ * @see JavaRG.Nucleo2D.Proximidad2D
+ */
+public interface InterfazSoporte {
+
+    /** Obtiene el punto de soporte del objeto en una dirección. Si hay varios
+      * puntos igual de alejados se devuelve cualquiera de ellos. No se crea
+      * ningún objeto
+      * @param dx componente x de la dirección, que no tiene por qué ser
+      * unitaria
+      * @param dy componente y de la dirección
+      * @param punto array en el que se guardan las coordenadas cartesianas x
+      * e y del punto de soporte, en sus dos primeras posiciones
+      */
+    void soporte(double dx, double dy, double punto[]);
+}
@@ -10,7 +10,7 @@ public class CrearPoligonos {
 		Poligono2D pol1 = new Poligono2D(10, 100, 100);
 		pol1.cambiarNombre("Poligono 1");
 		System.out.println(pol1);
-		// Creacion de un poligono a partir de otro polgono
+		// Creacion de un poligono a partir de otro polígono
 		Poligono2D pol2 = new Poligono2D(pol1);
 		pol2.cambiarNombre("Poligono 2");
 		System.out.println(pol2);
@@ -21,10 +21,10 @@ public class CrearPoligonos {
 		pol3.insertar(new Punto2D(10.0, 0.5));
 		pol3.insertar(new Punto2D(12.0, 8.0));
 		pol3.insertar(new Punto2D(11.2, 3.7));
-		// Hasta aqu el polgono pol3 es un polgono abierto (no completo)
+		// Hasta aquí el polígono pol3 es un polígono abierto (no completo)
 		System.out.println(pol3);
 		System.out.println(pol3.esCompleto());
-		// Hacemos que el polgono sea un polgono cerrado (completo) insertando
+		// Hacemos que el polígono sea un polígono cerrado (completo) insertando
 		// de nuevo el ultimo vertice introducido
 		pol3.insertar(new Punto2D(11.2, 3.7));
 		System.out.println(pol3); // se observa que este ultimo vertice NO
@@ -13,8 +13,8 @@ public class EjemploCanvas extends JComponent {
 	public static final int NADA = 0; // Ninguna accion
 	public static final int D_PUNTO = 1; // Dibujar puntos
 	public static final int S_PUNTO = 2; // Seleccionar puntos
-	public static final int D_POLIGONO = 3; // Dibujar polgono
-	public static final int S_POLIGONO = 4; // Seleccionar polgono
+	public static final int D_POLIGONO = 3; // Dibujar polígono
+	public static final int S_POLIGONO = 4; // Seleccionar polígono
 
 	// Maxima distancia de seleccion de una figura
 	public static final int umbral = 4;
@@ -33,7 +33,7 @@ public class EjemploCanvas extends JComponent {
 	private int numPuntos = 0;
 	private int numPoligonos = 0;
 
-	// Polgono que se est dibujando
+	// Polígono que se está dibujando
 	private Poligono2D poligonoTemporal = null;
 	
 	// Objetos seleccionados
@@ -44,12 +44,12 @@ public class EjemploCanvas extends JComponent {
 	private boolean mostrarCoordenadas = false;
 	private boolean mostrarNombres = false;
 
-	// Resultado del clculo de la distancia
+	// Resultado del cálculo de la distancia
 	private Segmento2D resultado = null;
 
 	public EjemploCanvas() {
 		super();
-		// Cambiamos el tamao
+		// Cambiamos el tamaño
 		setPreferredSize(new Dimension(tamX, tamY));
 		// Asociamos la zona de dibujo a la clase que maneja
 		// los eventos del raton
@@ -101,12 +101,12 @@ public class EjemploCanvas extends JComponent {
 		resultado = null;
 	}
 
-	// Mtodos para el cambio de las variables booleanas mostrarCoordenadas y
+	// Métodos para el cambio de las variables booleanas mostrarCoordenadas y
 	// mostrarNombres
 	public void cambiarCoordenadas(boolean valor) {mostrarCoordenadas = valor; repaint();}
 	public void cambiarNombres(boolean valor) {mostrarNombres = valor; repaint();}
 	
-	// Borra el polgono temporal
+	// Borra el polígono temporal
 	public void eliminarPoligonoTemporal() {
 		poligonoTemporal = null;
 		repaint();
@@ -146,7 +146,7 @@ public class EjemploCanvas extends JComponent {
 				        for (int i=0; i<numPuntos;i++)
 				        {
 					        double distancia = puntos[i].distancia(p);
-					        // Determinamos el polgono ms cercano al punto
+					        // Determinamos el polígono más cercano al punto
 					        // en el que se pincho con el raton
 					        if (distancia < minimaDistancia) {
 						        minimaDistancia = distancia;
@@ -183,7 +183,7 @@ public class EjemploCanvas extends JComponent {
 					for (int i=0; i<numPoligonos;i++)
 					{
 						double distancia = poligonos[i].distancia(punto);
-						// Determinamos el polgono ms cercano al punto
+						// Determinamos el polígono más cercano al punto
 						// en el que se pincho con el raton
 						if (distancia < minDistancia) {
 							minDistancia = distancia;
@@ -203,17 +203,17 @@ public class EjemploCanvas extends JComponent {
 		}
 	}
 
-	// Calcula la distancia y crea el objeto geomtrico 'resultado' para mostrar dicha
-	// distancia grficamente
+	// Calcula la distancia y crea el objeto geométrico 'resultado' para mostrar dicha
+	// distancia gráficamente
 	public void calcularDistancia() {
-		// Primero comprobamos que haya tanto un punto como un polgono seleccionados
+		// Primero comprobamos que haya tanto un punto como un polígono seleccionados
 		if (poligonoSeleccionado == -1 || puntoSeleccionado == -1)
 		{
 			JOptionPane.showMessageDialog(this, "Debe haber un punto y un poligono seleccionados", "ERROR",JOptionPane.WARNING_MESSAGE);
 		}
 		else try {
 		
-			// calculamos la distancia, as como el punto perteneciente al poligono
+			// calculamos la distancia, así como el punto perteneciente al poligono
 			// seleccionado mas cercano al punto seleccionado
 			Punto2D puntoCercano = new Punto2D();
 			double distancia = poligonos[poligonoSeleccionado].puntoMasCercano(puntos[puntoSeleccionado], puntoCercano);
@@ -14,10 +14,10 @@ public class EjemploCirculador {
 		poligono.insertar(new Punto2D(1,0));
 		poligono.insertar(new Punto2D(2,2));
 		poligono.insertar(new Punto2D(1,3));
-		poligono.insertar(new Punto2D(1,3)); // Cerramos el polgono
+		poligono.insertar(new Punto2D(1,3)); // Cerramos el polígono
 
 		// Creamos el circulador inicial, de tipo bidireccional, 
-		// asociado al primer vertice del polgono (posicin 0)
+		// asociado al primer vertice del polígono (posición 0)
 		Circulador c = new Circulador(poligono, InterfazCirculador.cBIDIRECCIONAL, 0);
 
 		System.out.println("Numero de circuladores alcanzables desde el primer vertice: " + c.tamanyo());
@@ -32,9 +32,9 @@ public class EjemploCirculador {
 				Punto2D vertice = poligono.vertice(c.posicion());
 				System.out.println(vertice);
 			} catch (GeomException ge) {
-				// Precisamente debido al uso del circulador esta excepcin
-				// nunca se va a producir, pues nunca indicaremos un vrtice
-				// fuera del rango de vrtices del polgono
+				// Precisamente debido al uso del circulador esta excepción
+				// nunca se va a producir, pues nunca indicaremos un vértice
+				// fuera del rango de vértices del polígono
 				System.out.println(ge);
 			}
 			
@@ -50,9 +50,9 @@ public class EjemploCirculador {
 				Punto2D vertice = poligono.vertice(c.posicion());
 				System.out.println(vertice);
 			} catch (GeomException ge) {
-				// Precisamente debido al uso del circulador esta excepcin
-				// nunca se va a producir, pues nunca indicaremos un vrtice
-				// fuera del rango de vrtices del polgono
+				// Precisamente debido al uso del circulador esta excepción
+				// nunca se va a producir, pues nunca indicaremos un vértice
+				// fuera del rango de vértices del polígono
 				System.out.println(ge);
 			}
 			
@@ -17,7 +17,7 @@ public class EjemploGrafico extends JFrame {
 	public EjemploGrafico() {
 		// Le ponemos titulo a la ventana
 		super("Ejemplo de aplicacion grafica");
-		// Evitamos que el usuario cambie el tamao
+		// Evitamos que el usuario cambie el tamaño
 		setResizable(false);
 		// Capturamos el evento de finalizacion de la aplicacion
 		// al cerrar la ventana principal
@@ -42,9 +42,9 @@ public class EjemploGrafico extends JFrame {
 		Button distancia = new Button("Calcular distancia");
 		Button borrar = new Button("Borrar");
 
-		// Modificamos la accin a realizar al pinchar sobre la zona
+		// Modificamos la acción a realizar al pinchar sobre la zona
 		// de dibujo cuando pulsamos alguno de los botones de dibujo
-		// o seleccin
+		// o selección
 		dibujarPuntos.addActionListener(new ActionListener() {
 			public void actionPerformed(ActionEvent ae) {
 				canvas.cambiarAccion(EjemploCanvas.D_PUNTO);
@@ -120,7 +120,7 @@ public class EjemploGrafico extends JFrame {
 	// Metodo principal
 	static public void main(String []args) {
 		EjemploGrafico f = new EjemploGrafico();
-		// Adaptamos la ventana al tamao de los componentes que la conforman
+		// Adaptamos la ventana al tamaño de los componentes que la conforman
 		f.pack();
 		// La mostramos
 		f.setVisible(true);
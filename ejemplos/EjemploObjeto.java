@@ -11,16 +11,16 @@ public class EjemploObjeto {
 		ObjetoGeometrico punto = new Punto2D();
 		ObjetoGeometrico segmento = new Segmento2D();
 		
-		// La funcin cambiarNombre est implementada en ObjetoGeometrico
+		// La función cambiarNombre está implementada en ObjetoGeometrico
 		punto.cambiarNombre("EjemploPunto");
 		segmento.cambiarNombre("EjemploSegmento");
 
-		// La funcion toString() est sobrecargada por todas las subclases
+		// La funcion toString() está sobrecargada por todas las subclases
 		// de ObjetoGeometrico
 		System.out.println(punto);
 		System.out.println(segmento);
 
-		// El mtodo hx() de Punto2D solo puede ser llamada desde una referencia
+		// El método hx() de Punto2D solo puede ser llamada desde una referencia
 		// de esa clase
 		Punto2D copiaPunto = (Punto2D) punto;
 		System.out.println(copiaPunto.hx());
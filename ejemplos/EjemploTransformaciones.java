@@ -13,7 +13,7 @@ public class EjemploTransformaciones {
 		System.out.println(segmento);
 		System.out.println("----------");
 
-		// Realizamos una traslacin
+		// Realizamos una traslación
 		System.out.println("Traslacion en el eje x tx=2 y en el eje y ty=-2");
 		System.out.println(segmento.trasladar(2,-2));
 		System.out.println("----------");
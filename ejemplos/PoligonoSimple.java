@@ -32,7 +32,7 @@ public class PoligonoSimple {
 		polSim.escribeDatos();
 		polSim.insertar(new Punto2D(0,1));
 		polSim.escribeDatos();
-		polSim.insertar(new Punto2D(0,1)); // Cerramos el polgono
+		polSim.insertar(new Punto2D(0,1)); // Cerramos el polígono
 		polSim.escribeDatos();
 	}
 }
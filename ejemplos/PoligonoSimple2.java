@@ -40,7 +40,7 @@ public class PoligonoSimple2 {
 		polSim.escribeDatos();
 		polSim.insertar(new Punto2D(0,1));
 		polSim.escribeDatos();
-		// Borramos el vrtice recien introducido y comprobamos
+		// Borramos el vértice recien introducido y comprobamos
 		// si es simple de nuevo
 		polSim.eliminar(3); 
 		polSim.escribeDatos();
@@ -1,4 +1,4 @@
-// Importamos la parte bsica de la librera
+// Importamos la parte básica de la librería
 import JavaRG.Mat;
 import JavaRG.Nucleo2D.*;
 
@@ -42,7 +42,7 @@ public class Prueba {
 		ObjetoGeometrico resultado3 = segmento2.interseccionSegmento(segmento3);
 		System.out.println(resultado3);
 
-		// Ejemplo de excepcin geomtrica
+		// Ejemplo de excepción geométrica
 		try {
 			Segmento2D segmento4 = new Segmento2D(inicio, inicio);
 		} catch (GeomException e) {